@@ -0,0 +1,680 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance.workload;
+
+import org.odpi.openmetadata.conformance.tests.performance.OpenMetadataPerformanceTestCase;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfile;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkloadProfile;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Test performance of a mix of entity reads and writes issued concurrently by a number of clients.
+ * <p>
+ * The clients are started evenly across the ramp-up period and then issue operations, chosen at random according
+ * to the weights of the workload profile, until the end of the measured period.  Operations that start during
+ * the ramp-up are not recorded.  When a target rate is configured, each client issues its share of the operations
+ * on a fixed schedule and the latency of each operation is measured from the time it was scheduled to start, so
+ * that time spent waiting behind a slow response is included in the results rather than hidden by it.
+ */
+public class TestConcurrentWorkload extends OpenMetadataPerformanceTestCase
+{
+    private static final String TEST_CASE_ID   = "repository-concurrent-workload-performance";
+    private static final String TEST_CASE_NAME = "Repository concurrent workload performance test case";
+
+    private static final String A_WORKLOAD_PROFILE     = TEST_CASE_ID + "-workloadProfile";
+    private static final String A_WORKLOAD_PROFILE_MSG = "Workload profile is recognized: ";
+
+    private static final String A_OPERATION     = TEST_CASE_ID + "-";
+    private static final String A_OPERATION_MSG = "Repository handles concurrent calls to: ";
+
+    private static final String ALL_OPERATIONS = "allOperations";
+
+    private final List<EntityDef>        entityDefs;
+    private final Map<String, EntityDef> entityDefsByName;
+
+    private final List<EntityDetail>     instancePool = new ArrayList<>();
+    private final Set<String>            notSupported = ConcurrentHashMap.newKeySet();
+    private       AtomicInteger          instanceCount;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDefs types of valid entities, keyed by name
+     */
+    public TestConcurrentWorkload(PerformanceWorkPad     workPad,
+                                  Map<String, EntityDef> entityDefs)
+    {
+        super(workPad, PerformanceProfile.CONCURRENT_WORKLOAD.getProfileId());
+
+        this.entityDefs = new ArrayList<>(entityDefs.values());
+        this.entityDefsByName = entityDefs;
+
+        super.updateTestId(TEST_CASE_ID, TEST_CASE_ID, TEST_CASE_NAME);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        String                     workloadProfileName = performanceWorkPad.getWorkloadProfile();
+        PerformanceWorkloadProfile workloadProfile     = PerformanceWorkloadProfile.getWorkloadProfile(workloadProfileName);
+
+        assertCondition(workloadProfile != null,
+                A_WORKLOAD_PROFILE,
+                A_WORKLOAD_PROFILE_MSG + workloadProfileName,
+                PerformanceProfile.CONCURRENT_WORKLOAD.getProfileId(),
+                null);
+
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        instanceCount = new AtomicInteger(super.getInstancesPerType());
+
+        loadInstancePool(metadataCollection);
+
+        Map<String, Integer> operationWeights = getOperationWeights(workloadProfile);
+
+        addConfigProperties(workloadProfile);
+
+        if (operationWeights.isEmpty())
+        {
+            super.setSuccessMessage("No operations to run for concurrent workload profile: " + workloadProfile.getProfileName());
+            return;
+        }
+
+        int  clients       = performanceWorkPad.getConcurrentClients();
+        long rampUpNanos   = TimeUnit.SECONDS.toNanos(Math.max(0, performanceWorkPad.getRampUpSeconds()));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Math.max(1, performanceWorkPad.getLoadDurationSeconds()));
+        int  targetRate    = performanceWorkPad.getTargetOperationsPerSecond();
+
+        /*
+         * In the open model, each client issues its share of the target rate, so the interval between
+         * the scheduled starts of a client's operations is the number of clients divided by the rate.
+         */
+        long intervalNanos = targetRate > 0 ? (long) (clients * 1.0e9 / targetRate) : 0L;
+
+        long testStart    = System.nanoTime();
+        long measureStart = testStart + rampUpNanos;
+        long measureEnd   = measureStart + durationNanos;
+
+        List<WorkloadClient> workloadClients = new ArrayList<>();
+        List<Thread>         threads         = new ArrayList<>();
+
+        for (int i = 0; i < clients; i++)
+        {
+            WorkloadClient workloadClient = new WorkloadClient(metadataCollection,
+                                                               operationWeights,
+                                                               testStart + (rampUpNanos * i / clients),
+                                                               measureStart,
+                                                               measureEnd,
+                                                               intervalNanos);
+            Thread thread = new Thread(workloadClient, "PerformanceWorkloadClient-" + i);
+
+            workloadClients.add(workloadClient);
+            threads.add(thread);
+            thread.start();
+        }
+
+        try
+        {
+            for (Thread thread : threads)
+            {
+                thread.join();
+            }
+        }
+        catch (InterruptedException error)
+        {
+            for (Thread thread : threads)
+            {
+                thread.interrupt();
+            }
+            Thread.currentThread().interrupt();
+            throw error;
+        }
+
+        reportResults(operationWeights.keySet(), workloadClients, durationNanos);
+
+        super.setSuccessMessage("Concurrent workload performance tests complete for profile: " + workloadProfile.getProfileName());
+    }
+
+
+    /**
+     * Retrieve the entities that are homed in the technology under test's repository, up to the number of instances
+     * per type, for each type.  These are the instances that the workload retrieves and updates.
+     *
+     * @param metadataCollection through which to call findEntitiesByProperty
+     * @throws Exception on any errors
+     */
+    private void loadInstancePool(OMRSMetadataCollection metadataCollection) throws Exception
+    {
+        InstanceProperties byMetadataCollectionId = getHomedInstanceProperties();
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            try
+            {
+                List<EntityDetail> entities = metadataCollection.findEntitiesByProperty(workPad.getLocalServerUserId(),
+                        entityDef.getGUID(),
+                        byMetadataCollectionId,
+                        MatchCriteria.ALL,
+                        0,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        super.getInstancesPerType());
+                if (entities != null)
+                {
+                    instancePool.addAll(entities);
+                }
+            }
+            catch (FunctionNotSupportedException exception)
+            {
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Return the weights of the operations that will be run: those of the workload profile, less any operation
+     * that is listed in the methods to skip or that needs existing instances when there are none.
+     *
+     * @param workloadProfile mix of operations
+     * @return map of method name to weight for the operations to run
+     */
+    private Map<String, Integer> getOperationWeights(PerformanceWorkloadProfile workloadProfile)
+    {
+        Map<String, Integer> operationWeights = new LinkedHashMap<>();
+        List<String>         methodsToSkip    = performanceWorkPad.getMethodsToSkip();
+
+        for (Map.Entry<String, Integer> operationWeight : workloadProfile.getOperationWeights().entrySet())
+        {
+            String operation = operationWeight.getKey();
+
+            if ((operationWeight.getValue() > 0)
+                    && ((methodsToSkip == null) || (!methodsToSkip.contains(operation)))
+                    && (!instancePool.isEmpty() || isPoolIndependent(operation)))
+            {
+                operationWeights.put(operation, operationWeight.getValue());
+            }
+        }
+
+        return operationWeights;
+    }
+
+
+    /**
+     * Return whether the operation can run without any existing instances.
+     *
+     * @param operation method name
+     * @return boolean
+     */
+    private boolean isPoolIndependent(String operation)
+    {
+        return PerformanceWorkloadProfile.FIND_ENTITIES.equals(operation)
+                || PerformanceWorkloadProfile.ADD_ENTITY.equals(operation);
+    }
+
+
+    /**
+     * Return the search properties that match the entities homed in the technology under test's repository.
+     *
+     * @return search properties
+     * @throws Exception on any errors
+     */
+    private InstanceProperties getHomedInstanceProperties() throws Exception
+    {
+        final String methodName = "getHomedInstanceProperties";
+
+        OMRSRepositoryHelper repositoryHelper = super.getRepositoryHelper();
+
+        return repositoryHelper.addStringPropertyToInstance(testCaseId,
+                null,
+                "metadataCollectionId",
+                repositoryHelper.getExactMatchRegex(performanceWorkPad.getTutMetadataCollectionId()),
+                methodName);
+    }
+
+
+    /**
+     * Merge the clients' measurements and record them, one assertion and one discovered property per operation,
+     * plus a discovered property that summarizes all operations.
+     *
+     * @param operations operations that were run
+     * @param workloadClients clients that ran them
+     * @param durationNanos length of the measured period
+     * @throws Exception on any errors
+     */
+    private void reportResults(Set<String>          operations,
+                               List<WorkloadClient> workloadClients,
+                               long                 durationNanos) throws Exception
+    {
+        WorkloadLatencyRecorder allOperations = new WorkloadLatencyRecorder();
+
+        for (String operation : operations)
+        {
+            WorkloadLatencyRecorder recorder = new WorkloadLatencyRecorder();
+
+            for (WorkloadClient workloadClient : workloadClients)
+            {
+                recorder.merge(workloadClient.getRecorder(operation));
+            }
+            allOperations.merge(recorder);
+
+            if (notSupported.contains(operation))
+            {
+                super.addNotSupportedAssertion(A_OPERATION + operation,
+                        A_OPERATION_MSG + operation,
+                        PerformanceProfile.CONCURRENT_WORKLOAD.getProfileId(),
+                        null);
+            }
+            else if (recorder.getCount() > 0)
+            {
+                assertCondition(true,
+                        A_OPERATION + operation,
+                        A_OPERATION_MSG + operation,
+                        PerformanceProfile.CONCURRENT_WORKLOAD.getProfileId(),
+                        null,
+                        operation,
+                        recorder.getMeanMillis());
+            }
+
+            addProperty(operation, recorder.getSummary(durationNanos));
+        }
+
+        addProperty(ALL_OPERATIONS, allOperations.getSummary(durationNanos));
+    }
+
+
+    /**
+     * Record the configuration of the concurrent workload.
+     *
+     * @param workloadProfile mix of operations
+     */
+    private void addConfigProperties(PerformanceWorkloadProfile workloadProfile)
+    {
+        addProperty("concurrentClients", performanceWorkPad.getConcurrentClients());
+        addProperty("rampUpSeconds", performanceWorkPad.getRampUpSeconds());
+        addProperty("loadDurationSeconds", performanceWorkPad.getLoadDurationSeconds());
+        addProperty("targetOperationsPerSecond", performanceWorkPad.getTargetOperationsPerSecond());
+        addProperty("workloadProfile", workloadProfile.getProfileName());
+        addProperty("instancePoolSize", instancePool.size());
+    }
+
+
+    /**
+     * Record the provided property as one for the concurrent workload.
+     *
+     * @param name of the property
+     * @param value of the property
+     */
+    private void addProperty(String name, Object value)
+    {
+        addDiscoveredProperty(name, value, PerformanceProfile.CONCURRENT_WORKLOAD.getProfileId(), null);
+    }
+
+
+    /**
+     * Return an entity from the pool of existing instances.
+     *
+     * @param random source of randomness for the calling client
+     * @return entity
+     */
+    private EntityDetail getPooledInstance(SplittableRandom random)
+    {
+        synchronized (instancePool)
+        {
+            return instancePool.get(random.nextInt(instancePool.size()));
+        }
+    }
+
+
+    /**
+     * Add a newly created entity to the pool of existing instances.
+     *
+     * @param entity new entity
+     */
+    private void addPooledInstance(EntityDetail entity)
+    {
+        if (entity != null)
+        {
+            synchronized (instancePool)
+            {
+                instancePool.add(entity);
+            }
+        }
+    }
+
+
+    /**
+     * WorkloadClient issues operations from a single thread and records their latencies.
+     */
+    private class WorkloadClient implements Runnable
+    {
+        private final OMRSMetadataCollection               metadataCollection;
+        private final String[]                             operations;
+        private final int[]                                cumulativeWeights;
+        private final long                                 clientStart;
+        private final long                                 measureStart;
+        private final long                                 measureEnd;
+        private final long                                 intervalNanos;
+        private final Map<String, WorkloadLatencyRecorder> recorders = new HashMap<>();
+        private final SplittableRandom                     random    = new SplittableRandom();
+        private final InstanceProperties                   byMetadataCollectionId;
+
+
+        /**
+         * Constructor supplies the schedule for the client.
+         *
+         * @param metadataCollection metadata collection of the technology under test
+         * @param operationWeights operations to choose from, with their weights
+         * @param clientStart time (from System.nanoTime()) that the client starts issuing operations
+         * @param measureStart time that the measured period starts
+         * @param measureEnd time that the measured period ends
+         * @param intervalNanos interval between the scheduled starts of operations, or 0 to issue them back to back
+         * @throws Exception unable to build the search properties
+         */
+        WorkloadClient(OMRSMetadataCollection metadataCollection,
+                       Map<String, Integer>   operationWeights,
+                       long                   clientStart,
+                       long                   measureStart,
+                       long                   measureEnd,
+                       long                   intervalNanos) throws Exception
+        {
+            this.metadataCollection = metadataCollection;
+            this.clientStart = clientStart;
+            this.measureStart = measureStart;
+            this.measureEnd = measureEnd;
+            this.intervalNanos = intervalNanos;
+            this.byMetadataCollectionId = getHomedInstanceProperties();
+
+            operations = new String[operationWeights.size()];
+            cumulativeWeights = new int[operationWeights.size()];
+
+            int index = 0;
+            int total = 0;
+            for (Map.Entry<String, Integer> operationWeight : operationWeights.entrySet())
+            {
+                total += operationWeight.getValue();
+                operations[index] = operationWeight.getKey();
+                cumulativeWeights[index] = total;
+                recorders.put(operationWeight.getKey(), new WorkloadLatencyRecorder());
+                index++;
+            }
+        }
+
+
+        /**
+         * Return the recorder for an operation.
+         *
+         * @param operation method name
+         * @return recorder
+         */
+        WorkloadLatencyRecorder getRecorder(String operation)
+        {
+            return recorders.get(operation);
+        }
+
+
+        /**
+         * Issue operations until the end of the measured period.
+         */
+        @Override
+        public void run()
+        {
+            long nextStart = clientStart;
+
+            try
+            {
+                sleepUntil(nextStart);
+
+                while (true)
+                {
+                    String  operation = chooseOperation();
+                    Request request   = prepareRequest(operation);
+
+                    long scheduledStart;
+                    if (intervalNanos > 0)
+                    {
+                        if (nextStart >= measureEnd)
+                        {
+                            break;
+                        }
+                        sleepUntil(nextStart);
+                        scheduledStart = nextStart;
+                        nextStart += intervalNanos;
+                    }
+                    else
+                    {
+                        scheduledStart = System.nanoTime();
+                        if (scheduledStart >= measureEnd)
+                        {
+                            break;
+                        }
+                    }
+
+                    boolean succeeded = issueRequest(operation, request);
+                    long    latency   = System.nanoTime() - scheduledStart;
+
+                    if (scheduledStart >= measureStart)
+                    {
+                        if (succeeded)
+                        {
+                            recorders.get(operation).recordLatency(latency);
+                        }
+                        else
+                        {
+                            recorders.get(operation).recordError();
+                        }
+                    }
+                }
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+
+        /**
+         * Wait until the requested time.
+         *
+         * @param time time (from System.nanoTime()) to wait for
+         * @throws InterruptedException the test is being stopped
+         */
+        private void sleepUntil(long time) throws InterruptedException
+        {
+            long delay = time - System.nanoTime();
+
+            if (delay > 0)
+            {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+        }
+
+
+        /**
+         * Choose the next operation at random according to the weights.
+         *
+         * @return method name
+         */
+        private String chooseOperation()
+        {
+            int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+
+            for (int i = 0; i < cumulativeWeights.length; i++)
+            {
+                if (roll < cumulativeWeights[i])
+                {
+                    return operations[i];
+                }
+            }
+
+            return operations[operations.length - 1];
+        }
+
+
+        /**
+         * Choose the target of the operation and generate any properties it needs.  This is done before the
+         * operation's scheduled start so that it is not included in the latency.
+         *
+         * @param operation method name
+         * @return request details or null if the request could not be prepared
+         */
+        private Request prepareRequest(String operation)
+        {
+            try
+            {
+                String userId = workPad.getLocalServerUserId();
+
+                switch (operation)
+                {
+                    case PerformanceWorkloadProfile.GET_ENTITY_DETAIL:
+                        return new Request(null, getPooledInstance(random), null);
+
+                    case PerformanceWorkloadProfile.FIND_ENTITIES:
+                        return new Request(entityDefs.get(random.nextInt(entityDefs.size())), null, null);
+
+                    case PerformanceWorkloadProfile.ADD_ENTITY:
+                        EntityDef newEntityDef = entityDefs.get(random.nextInt(entityDefs.size()));
+                        return new Request(newEntityDef,
+                                           null,
+                                           getAllPropertiesForInstance(userId, newEntityDef, instanceCount.getAndIncrement()));
+
+                    case PerformanceWorkloadProfile.UPDATE_ENTITY_PROPERTIES:
+                        EntityDetail entity    = getPooledInstance(random);
+                        EntityDef    entityDef = entityDefsByName.get(entity.getType().getTypeDefName());
+                        return new Request(entityDef,
+                                           entity,
+                                           entityDef == null ? null : getAllPropertiesForInstance(userId, entityDef, instanceCount.getAndIncrement()));
+
+                    default:
+                        return null;
+                }
+            }
+            catch (Exception error)
+            {
+                return null;
+            }
+        }
+
+
+        /**
+         * Issue the operation to the technology under test.
+         *
+         * @param operation method name
+         * @param request details of the request
+         * @return whether the operation succeeded
+         */
+        private boolean issueRequest(String operation, Request request)
+        {
+            if (request == null)
+            {
+                return false;
+            }
+
+            String userId = workPad.getLocalServerUserId();
+
+            try
+            {
+                switch (operation)
+                {
+                    case PerformanceWorkloadProfile.GET_ENTITY_DETAIL:
+                        metadataCollection.getEntityDetail(userId, request.entity.getGUID());
+                        return true;
+
+                    case PerformanceWorkloadProfile.FIND_ENTITIES:
+                        metadataCollection.findEntitiesByProperty(userId,
+                                request.entityDef.getGUID(),
+                                byMetadataCollectionId,
+                                MatchCriteria.ALL,
+                                0,
+                                null,
+                                null,
+                                null,
+                                null,
+                                null,
+                                performanceWorkPad.getMaxSearchResults());
+                        return true;
+
+                    case PerformanceWorkloadProfile.ADD_ENTITY:
+                        addPooledInstance(metadataCollection.addEntity(userId,
+                                request.entityDef.getGUID(),
+                                request.properties,
+                                null,
+                                null));
+                        return true;
+
+                    case PerformanceWorkloadProfile.UPDATE_ENTITY_PROPERTIES:
+                        if (request.properties == null)
+                        {
+                            return false;
+                        }
+                        metadataCollection.updateEntityProperties(userId,
+                                request.entity.getGUID(),
+                                request.properties);
+                        return true;
+
+                    default:
+                        return false;
+                }
+            }
+            catch (FunctionNotSupportedException exception)
+            {
+                notSupported.add(operation);
+                return false;
+            }
+            catch (Exception error)
+            {
+                return false;
+            }
+        }
+    }
+
+
+    /**
+     * Request holds the target and properties of an operation that has been prepared but not yet issued.
+     */
+    private static class Request
+    {
+        private final EntityDef          entityDef;
+        private final EntityDetail       entity;
+        private final InstanceProperties properties;
+
+
+        /**
+         * Constructor supplies the details of the request.
+         *
+         * @param entityDef type of the entity (for searches, creates and updates)
+         * @param entity existing entity (for retrievals and updates)
+         * @param properties properties to create or update
+         */
+        Request(EntityDef          entityDef,
+                EntityDetail       entity,
+                InstanceProperties properties)
+        {
+            this.entityDef = entityDef;
+            this.entity = entity;
+            this.properties = properties;
+        }
+    }
+}
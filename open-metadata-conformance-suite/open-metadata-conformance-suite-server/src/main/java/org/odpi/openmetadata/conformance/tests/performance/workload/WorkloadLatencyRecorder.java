@@ -0,0 +1,219 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance.workload;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * WorkloadLatencyRecorder keeps every latency measured for one operation of the concurrent workload so that
+ * exact percentiles can be reported.  Each client thread has its own recorder (so recording needs no locking)
+ * and the recorders are merged once the clients have finished.
+ */
+public class WorkloadLatencyRecorder
+{
+    /*
+     * Upper bounds (in milliseconds) of the buckets of the latency histogram.  The last bucket is unbounded.
+     */
+    private static final long[] histogramBoundaries = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private long[] latencies  = new long[1024];
+    private int    count      = 0;
+    private long   errorCount = 0;
+
+
+    /**
+     * Record the latency of a successful operation.
+     *
+     * @param latencyNanos elapsed time of the operation (in nanoseconds)
+     */
+    public void recordLatency(long latencyNanos)
+    {
+        if (count == latencies.length)
+        {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+
+        latencies[count++] = latencyNanos;
+    }
+
+
+    /**
+     * Record an operation that failed.
+     */
+    public void recordError()
+    {
+        errorCount++;
+    }
+
+
+    /**
+     * Add the measurements from another recorder to this one.
+     *
+     * @param other recorder to add
+     */
+    public void merge(WorkloadLatencyRecorder other)
+    {
+        if (other != null)
+        {
+            for (int i = 0; i < other.count; i++)
+            {
+                recordLatency(other.latencies[i]);
+            }
+
+            errorCount += other.errorCount;
+        }
+    }
+
+
+    /**
+     * Return the number of successful operations recorded.
+     *
+     * @return count
+     */
+    public int getCount()
+    {
+        return count;
+    }
+
+
+    /**
+     * Return the number of failed operations recorded.
+     *
+     * @return count
+     */
+    public long getErrorCount()
+    {
+        return errorCount;
+    }
+
+
+    /**
+     * Return the summary of the recorded operations: counts, throughput, the latency percentiles (in milliseconds)
+     * and a histogram of the latencies.  The summary is ordered for readability in the workbench report.
+     *
+     * @param durationNanos length of the measured period (in nanoseconds), used to calculate the throughput
+     * @return map of statistic name to value
+     */
+    public Map<String, Object> getSummary(long durationNanos)
+    {
+        Map<String, Object> summary = new LinkedHashMap<>();
+
+        summary.put("operations", count);
+        summary.put("errors", errorCount);
+        summary.put("throughputPerSecond", durationNanos > 0 ? round(count * 1.0e9 / durationNanos) : 0.0);
+
+        if (count > 0)
+        {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+
+            long total = 0;
+            for (long latency : sorted)
+            {
+                total += latency;
+            }
+
+            summary.put("minMillis", toMillis(sorted[0]));
+            summary.put("meanMillis", toMillis(total / (double) count));
+            summary.put("p50Millis", toMillis(getPercentile(sorted, 50.0)));
+            summary.put("p95Millis", toMillis(getPercentile(sorted, 95.0)));
+            summary.put("p99Millis", toMillis(getPercentile(sorted, 99.0)));
+            summary.put("p999Millis", toMillis(getPercentile(sorted, 99.9)));
+            summary.put("maxMillis", toMillis(sorted[count - 1]));
+            summary.put("histogram", getHistogram(sorted));
+        }
+
+        return summary;
+    }
+
+
+    /**
+     * Return the mean latency of the recorded operations.
+     *
+     * @return mean (in milliseconds, rounded down) or 0 if nothing was recorded
+     */
+    public long getMeanMillis()
+    {
+        if (count == 0)
+        {
+            return 0L;
+        }
+
+        long total = 0;
+        for (int i = 0; i < count; i++)
+        {
+            total += latencies[i];
+        }
+
+        return total / count / 1000000L;
+    }
+
+
+    /**
+     * Return the latency at the requested percentile using the nearest-rank method.
+     *
+     * @param sorted latencies in ascending order
+     * @param percentile percentile to return (0-100)
+     * @return latency (in nanoseconds)
+     */
+    private long getPercentile(long[] sorted, double percentile)
+    {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+
+    /**
+     * Count the latencies that fall into each bucket of the histogram.  Each bucket is labelled with its upper bound.
+     *
+     * @param sorted latencies in ascending order
+     * @return map of bucket label to count
+     */
+    private Map<String, Integer> getHistogram(long[] sorted)
+    {
+        Map<String, Integer> histogram = new LinkedHashMap<>();
+
+        int index = 0;
+        for (long boundary : histogramBoundaries)
+        {
+            int bucketCount = 0;
+            while ((index < sorted.length) && (sorted[index] <= boundary * 1000000L))
+            {
+                bucketCount++;
+                index++;
+            }
+            histogram.put("<=" + boundary + "ms", bucketCount);
+        }
+        histogram.put(">" + histogramBoundaries[histogramBoundaries.length - 1] + "ms", sorted.length - index);
+
+        return histogram;
+    }
+
+
+    /**
+     * Convert nanoseconds to milliseconds, to microsecond precision.
+     *
+     * @param nanos time in nanoseconds
+     * @return time in milliseconds
+     */
+    private double toMillis(double nanos)
+    {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+
+
+    /**
+     * Round a rate to two decimal places.
+     *
+     * @param value rate
+     * @return rounded rate
+     */
+    private double round(double value)
+    {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
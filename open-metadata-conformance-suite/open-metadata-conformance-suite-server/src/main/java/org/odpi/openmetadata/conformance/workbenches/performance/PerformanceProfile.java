@@ -149,6 +149,10 @@ public enum PerformanceProfile implements Serializable
             "Performance tests for the technology under test's ability to purge entities.",
             "https://odpi.github.io/egeria-docs/guides/cts/performance-profiles/entity-purge",
             OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    CONCURRENT_WORKLOAD  (33, "Concurrent workload",
+            "Performance tests for the technology under test's ability to handle a mix of concurrent reads and writes.",
+            "https://odpi.github.io/egeria-docs/guides/cts/performance-profiles/concurrent-workload",
+            OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
     ENVIRONMENT          (999, "Environment",
             "Information about the environment in which the performance tests were executed.",
             "https://odpi.github.io/egeria-docs/guides/cts/performance-profiles/environment",
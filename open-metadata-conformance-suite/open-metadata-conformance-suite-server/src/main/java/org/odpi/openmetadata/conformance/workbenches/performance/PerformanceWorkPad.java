@@ -32,6 +32,11 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
     private int                     waitBetweenScenarios        = 0;
     private List<String>            profilesToSkip              = Collections.emptyList();
     private List<String>            methodsToSkip               = Collections.emptyList();
+    private int                     concurrentClients           = 0;
+    private int                     rampUpSeconds               = 0;
+    private int                     loadDurationSeconds         = 60;
+    private int                     targetOperationsPerSecond   = 0;
+    private String                  workloadProfile             = null;
 
     private OMRSRepositoryConnector tutRepositoryConnector      = null;
 
@@ -80,6 +85,11 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
             this.waitBetweenScenarios = configuration.getWaitBetweenScenarios();
             this.profilesToSkip = configuration.getProfilesToSkip();
             this.methodsToSkip  = configuration.getMethodsToSkip();
+            this.concurrentClients = configuration.getConcurrentClients();
+            this.rampUpSeconds = configuration.getRampUpSeconds();
+            this.loadDurationSeconds = configuration.getLoadDurationSeconds();
+            this.targetOperationsPerSecond = configuration.getTargetOperationsPerSecond();
+            this.workloadProfile = configuration.getWorkloadProfile();
             super.tutName = this.tutServerName;
         }
     }
@@ -158,6 +168,57 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
         return methodsToSkip;
     }
 
+    /**
+     * Return the number of client threads that drive the concurrent workload (zero if it is not to be run).
+     *
+     * @return number of concurrent clients
+     */
+    public int getConcurrentClients()
+    {
+        return concurrentClients;
+    }
+
+    /**
+     * Return the amount of time (in seconds) over which the clients of the concurrent workload are started.
+     *
+     * @return ramp-up time (in seconds)
+     */
+    public int getRampUpSeconds()
+    {
+        return rampUpSeconds;
+    }
+
+    /**
+     * Return the amount of time (in seconds), after the ramp-up, for which the concurrent workload is measured.
+     *
+     * @return measured duration (in seconds)
+     */
+    public int getLoadDurationSeconds()
+    {
+        return loadDurationSeconds;
+    }
+
+    /**
+     * Return the rate at which the concurrent workload issues operations across all of its clients (zero if each
+     * client issues its next operation as soon as the previous one completes).
+     *
+     * @return operations per second
+     */
+    public int getTargetOperationsPerSecond()
+    {
+        return targetOperationsPerSecond;
+    }
+
+    /**
+     * Return the name of the mix of operations issued by the concurrent workload.
+     *
+     * @return workload profile name
+     */
+    public String getWorkloadProfile()
+    {
+        return workloadProfile;
+    }
+
     /**
      * Return the server type of the technology under test.  This is extracted from the registration
      * events.
@@ -30,6 +30,7 @@ import org.odpi.openmetadata.conformance.tests.performance.undo.TestRelationship
 import org.odpi.openmetadata.conformance.tests.performance.update.TestClassificationUpdate;
 import org.odpi.openmetadata.conformance.tests.performance.update.TestEntityUpdate;
 import org.odpi.openmetadata.conformance.tests.performance.update.TestRelationshipUpdate;
+import org.odpi.openmetadata.conformance.tests.performance.workload.TestConcurrentWorkload;
 import org.odpi.openmetadata.conformance.workbenches.OpenMetadataConformanceWorkbench;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
@@ -146,6 +147,13 @@ public class PerformanceWorkbench extends OpenMetadataConformanceWorkbench
             }
         }
 
+        // Run a mix of entity reads and writes from concurrent clients, using the entities created above
+        if (workPad.getConcurrentClients() > 0 && !profilesToSkip.contains(PerformanceProfile.CONCURRENT_WORKLOAD.getProfileName()))
+        {
+            TestConcurrentWorkload testConcurrentWorkload = new TestConcurrentWorkload(workPad, entityDefs);
+            testConcurrentWorkload.executeTest();
+        }
+
         // 3. Create relationship instances
         if (!profilesToSkip.contains(PerformanceProfile.RELATIONSHIP_CREATION.getProfileName()))
         {
@@ -0,0 +1,144 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PerformanceWorkloadProfile defines the mixes of read and write operations that the concurrent workload
+ * of the performance workbench can issue.  Each operation is identified by the name of the metadata collection
+ * method that it calls, so it can be switched off through the methods to skip, and is given a relative weight
+ * that sets how often it is chosen.
+ */
+public enum PerformanceWorkloadProfile
+{
+    READ_ONLY   ("read-only",    "Retrieves and searches for entities without making any changes.",
+                 50, 50, 0,  0),
+    READ_MOSTLY ("read-mostly",  "Mostly retrieves and searches for entities, with occasional creates and updates.",
+                 60, 30, 5,  5),
+    BALANCED    ("balanced",     "Retrieves, searches for, creates and updates entities in equal measure.",
+                 25, 25, 25, 25),
+    WRITE_MOSTLY("write-mostly", "Mostly creates and updates entities, with occasional retrievals and searches.",
+                 10, 10, 40, 40);
+
+    public static final String GET_ENTITY_DETAIL        = "getEntityDetail";
+    public static final String FIND_ENTITIES            = "findEntitiesByProperty";
+    public static final String ADD_ENTITY               = "addEntity";
+    public static final String UPDATE_ENTITY_PROPERTIES = "updateEntityProperties";
+
+    private final String profileName;
+    private final String profileDescription;
+    private final int    getWeight;
+    private final int    findWeight;
+    private final int    addWeight;
+    private final int    updateWeight;
+
+
+    /**
+     * Default constructor sets up the values for this enum instance.
+     *
+     * @param profileName name used to select the profile in the workbench configuration
+     * @param profileDescription description of the mix of operations
+     * @param getWeight relative weight of entity retrievals
+     * @param findWeight relative weight of entity searches
+     * @param addWeight relative weight of entity creates
+     * @param updateWeight relative weight of entity property updates
+     */
+    PerformanceWorkloadProfile(String profileName,
+                               String profileDescription,
+                               int    getWeight,
+                               int    findWeight,
+                               int    addWeight,
+                               int    updateWeight)
+    {
+        this.profileName = profileName;
+        this.profileDescription = profileDescription;
+        this.getWeight = getWeight;
+        this.findWeight = findWeight;
+        this.addWeight = addWeight;
+        this.updateWeight = updateWeight;
+    }
+
+
+    /**
+     * Return the workload profile with the supplied name.
+     *
+     * @param profileName name from the workbench configuration (case is ignored)
+     * @return matching profile or null if the name is not recognized
+     */
+    public static PerformanceWorkloadProfile getWorkloadProfile(String profileName)
+    {
+        if (profileName != null)
+        {
+            for (PerformanceWorkloadProfile workloadProfile : PerformanceWorkloadProfile.values())
+            {
+                if (workloadProfile.getProfileName().equalsIgnoreCase(profileName.trim()))
+                {
+                    return workloadProfile;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the name used to select the profile in the workbench configuration.
+     *
+     * @return profile name
+     */
+    public String getProfileName()
+    {
+        return profileName;
+    }
+
+
+    /**
+     * Return the description of the mix of operations.
+     *
+     * @return description
+     */
+    public String getProfileDescription()
+    {
+        return profileDescription;
+    }
+
+
+    /**
+     * Return the relative weight of each operation in this profile, keyed by the name of the metadata collection
+     * method that the operation calls.
+     *
+     * @return map of method name to weight
+     */
+    public Map<String, Integer> getOperationWeights()
+    {
+        Map<String, Integer> operationWeights = new LinkedHashMap<>();
+
+        operationWeights.put(GET_ENTITY_DETAIL, getWeight);
+        operationWeights.put(FIND_ENTITIES, findWeight);
+        operationWeights.put(ADD_ENTITY, addWeight);
+        operationWeights.put(UPDATE_ENTITY_PROPERTIES, updateWeight);
+
+        return operationWeights;
+    }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "PerformanceWorkloadProfile{" +
+                "profileName='" + profileName + '\'' +
+                ", getWeight=" + getWeight +
+                ", findWeight=" + findWeight +
+                ", addWeight=" + addWeight +
+                ", updateWeight=" + updateWeight +
+                '}';
+    }
+}
@@ -47,6 +47,11 @@ public enum AssetCatalogErrorCode implements ExceptionMessageSet {
             "The system is unable to retrieve assets of an unknown type/s.",
             "Check that the entity type/s provided is/are correct."),
 
+    SEARCH_INTERRUPTED(500, "OMAS-ASSET-CATALOG-500-001 ",
+            "The search by type was interrupted before the results for all of the requested types were returned",
+            "The system is unable to return the results of the search.",
+            "Retry the request.  If the problem persists, check that the server is not being shut down."),
+
     SERVICE_NOT_INITIALIZED(503, "OMAS-ASSET-CATALOG-503-001 ",
             "The access service has not been initialized for server {0} and can not support REST API calls",
             "The server has received a call to one of its open metadata access services but is unable to " +
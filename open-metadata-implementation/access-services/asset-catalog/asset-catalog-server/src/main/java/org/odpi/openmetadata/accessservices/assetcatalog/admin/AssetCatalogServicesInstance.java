@@ -96,4 +96,14 @@ class AssetCatalogServicesInstance extends OMASServiceInstance {
                     methodName);
         }
     }
+
+    /**
+     * Stop the threads used by the handlers and unregister this instance from the instance map.
+     */
+    @Override
+    public void shutdown() {
+        assetCatalogHandler.shutdown();
+
+        super.shutdown();
+    }
 }
@@ -18,6 +18,7 @@ import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIGenericHandler;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryErrorHandler;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryRequestContext;
 import org.odpi.openmetadata.frameworks.auditlog.messagesets.ExceptionMessageDefinition;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
@@ -28,6 +29,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
@@ -44,12 +47,18 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.API_ENDPOINT;
@@ -154,6 +163,10 @@ public class AssetCatalogHandler {
     private final OpenMetadataAPIGenericHandler<AssetCatalogBean> assetHandler;
     private final Map<String, String> defaultSearchTypes = new HashMap<>();
     private final ClockService clockService;
+    /*
+     * Runs the searches for each of the requested types of a search by type in parallel.
+     */
+    private final ExecutorService searchExecutor;
     private List<String> supportedTypesForSearch = new ArrayList<>(Arrays.asList(GLOSSARY_TERM, ASSET, SCHEMA_ELEMENT));
 
     private final List<String> supportedZones;
@@ -198,6 +211,19 @@ public class AssetCatalogHandler {
         defaultSearchTypes.put(GLOSSARY_TERM, GLOSSARY_TERM_TYPE_GUID);
         defaultSearchTypes.put(ASSET, ASSET_GUID);
         defaultSearchTypes.put(SCHEMA_ELEMENT, SCHEMA_ELEMENT_GUID);
+        this.searchExecutor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "AssetCatalogSearchByType");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Stop the threads that run the searches by type.  Called when the server shuts down.
+     */
+    public void shutdown() {
+        searchExecutor.shutdownNow();
     }
 
     /**
@@ -390,7 +416,35 @@ public class AssetCatalogHandler {
         invalidParameterHandler.validateObject(searchParameters, SEARCH_PARAMETER, methodName);
         invalidParameterHandler.validatePaging(searchParameters.getFrom(), searchParameters.getPageSize(), methodName);
 
-        List<EntityDetail> result;
+        int from = searchParameters.getFrom();
+        int pageSize = searchParameters.getPageSize();
+
+        /*
+         * When the results are not sequenced, each type returns its first from + pageSize matches so the requested
+         * page can be taken from the merged results.  When they are sequenced, each type returns all of its matches
+         * because the repositories only sequence in ascending order and do not fall back from displayName to name.
+         * The sequencing property is still passed for an ascending order so that the repositories return the first
+         * matches if there are more than they will return in one call.  If from + pageSize is more than that, each
+         * type is paged on its own.
+         */
+        String sequencingProperty = searchParameters.getSequencingProperty();
+        SequencingOrder sequencingOrder = searchParameters.getSequencingOrder();
+        boolean sequenced = sequencingProperty != null &&
+                (sequencingOrder == SequencingOrder.PROPERTY_ASCENDING || sequencingOrder == SequencingOrder.PROPERTY_DESCENDING);
+        String searchSequencingProperty = null;
+        if (sequencingOrder == SequencingOrder.PROPERTY_ASCENDING && !TYPE_SEQUENCING.equals(sequencingProperty)) {
+            searchSequencingProperty = sequencingProperty;
+        }
+
+        int searchFrom = 0;
+        int searchPageSize = pageSize == 0 || sequenced ? 0 : from + pageSize;
+        int maxPagingSize = invalidParameterHandler.getMaxPagingSize();
+        if (maxPagingSize > 0 && from > maxPagingSize - pageSize) {
+            searchFrom = from;
+            searchPageSize = pageSize;
+        }
+
+        List<List<EntityDetail>> result;
         Map<String, String> typesAndGUIDsFilter;
         if (CollectionUtils.isNotEmpty(searchParameters.getEntityTypes())) {
             typesAndGUIDsFilter = commonHandler.getTypesAndGUIDs(userId, searchParameters.getEntityTypes());
@@ -400,17 +454,14 @@ public class AssetCatalogHandler {
                     throw new EntityNotKnownException(messageDefinition, this.getClass().getName(), messageDefinition.getUserAction());
                 }
             }
-             result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, typesAndGUIDsFilter, methodName);
+            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, typesAndGUIDsFilter,
+                    searchSequencingProperty, searchFrom, searchPageSize, methodName);
         } else {
-            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, defaultSearchTypes, methodName);
+            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, defaultSearchTypes,
+                    searchSequencingProperty, searchFrom, searchPageSize, methodName);
         }
 
-        SequencingOrder sequencingOrder = searchParameters.getSequencingOrder();
-        String sequencingProperty = searchParameters.getSequencingProperty();
-        List<Elements> results = createSearchResultList(result, methodName);
-        results.sort((firstAsset, secondAsset) ->
-                orderElements(firstAsset, secondAsset, sequencingProperty, sequencingOrder));
-        return results;
+        return createSearchResultPage(result, searchParameters, from - searchFrom, pageSize);
     }
 
     /**\
@@ -635,25 +686,78 @@ public class AssetCatalogHandler {
         return entityByGUID;
     }
 
-    private List<EntityDetail> collectSearchedEntitiesByType(String userId,
-                                                             String searchCriteria,
-                                                             SearchParameters searchParameters,
-                                                             Map<String, String> typesAndGUIDs,
-                                                             String methodName)
+    /**
+     * Search each of the types in parallel and return the entities found for each type, sorted in the requested
+     * sequencing order.  The first type is searched on the caller's thread.  The other searches use the caller's
+     * request context, if any.
+     */
+    private List<List<EntityDetail>> collectSearchedEntitiesByType(String userId,
+                                                                   String searchCriteria,
+                                                                   SearchParameters searchParameters,
+                                                                   Map<String, String> typesAndGUIDs,
+                                                                   String sequencingProperty,
+                                                                   int from,
+                                                                   int pageSize,
+                                                                   String methodName)
             throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
-        List<EntityDetail> result = new ArrayList<>();
-
-        if(!searchParameters.getExactMatch()) {
-            searchCriteria = repositoryHelper.getContainsRegex(searchCriteria, searchParameters.getCaseInsensitive());
+        String criteria = searchParameters.getExactMatch() ? searchCriteria :
+                repositoryHelper.getContainsRegex(searchCriteria, searchParameters.getCaseInsensitive());
+        Comparator<EntityDetail> comparator = getSearchResultComparator(searchParameters.getSequencingProperty(),
+                searchParameters.getSequencingOrder());
+
+        List<Map.Entry<String, String>> types = new ArrayList<>(typesAndGUIDs.entrySet());
+        RepositoryRequestContext requestContext = RepositoryRequestContext.getCurrentContext();
+        List<Future<List<EntityDetail>>> searches = new ArrayList<>();
+        for (Map.Entry<String, String> typeAndGUID : types.subList(Math.min(1, types.size()), types.size())) {
+            searches.add(searchExecutor.submit(() -> {
+                try (RepositoryRequestContext ignored = RepositoryRequestContext.join(requestContext)) {
+                    return searchEntityByCriteria(userId, criteria, typeAndGUID.getValue(), typeAndGUID.getKey(),
+                            searchParameters, sequencingProperty, from, pageSize, comparator, methodName);
+                }
+            }));
         }
 
-        for (Map.Entry<String, String> typeAndGUID : typesAndGUIDs.entrySet()) {
-            result.addAll(searchEntityByCriteria(userId, searchCriteria, typeAndGUID.getValue(), typeAndGUID.getKey(),
-                    searchParameters, methodName));
+        List<List<EntityDetail>> result = new ArrayList<>();
+        try {
+            if (!types.isEmpty()) {
+                result.add(searchEntityByCriteria(userId, criteria, types.get(0).getValue(), types.get(0).getKey(),
+                        searchParameters, sequencingProperty, from, pageSize, comparator, methodName));
+            }
+            for (Future<List<EntityDetail>> search : searches) {
+                result.add(getSearchResult(search));
+            }
+        } finally {
+            searches.forEach(search -> search.cancel(true));
         }
         return result;
     }
 
+    private List<EntityDetail> getSearchResult(Future<List<EntityDetail>> search)
+            throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        try {
+            return search.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PropertyServerException(AssetCatalogErrorCode.SEARCH_INTERRUPTED.getMessageDefinition(),
+                    this.getClass().getName(), "getSearchResult", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof InvalidParameterException) {
+                throw (InvalidParameterException) cause;
+            }
+            if (cause instanceof PropertyServerException) {
+                throw (PropertyServerException) cause;
+            }
+            if (cause instanceof UserNotAuthorizedException) {
+                throw (UserNotAuthorizedException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
     private List<EntityDetail> collectSearchedEntitiesByTypeIdentifiers(String userId,
                                                              String typeName,
                                                              String typeGUID,
@@ -1336,6 +1440,10 @@ public class AssetCatalogHandler {
                                                       String entityTypeGUID,
                                                       String entityTypeName,
                                                       SearchParameters searchParameters,
+                                                      String sequencingProperty,
+                                                      int from,
+                                                      int pageSize,
+                                                      Comparator<EntityDetail> comparator,
                                                       String methodName)
             throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
 
@@ -1344,15 +1452,16 @@ public class AssetCatalogHandler {
             propertyName = DISPLAY_NAME;
         }
 
-        SequencingOrder sequencingOrder = searchParameters.getSequencingOrder() == null ? SequencingOrder.ANY : searchParameters.getSequencingOrder();
         List<EntityDetail> entitiesByPropertyValue = assetHandler.getEntitiesByValue(userId, searchCriteria,
                 SEARCH_STRING_PARAMETER_NAME, entityTypeGUID, entityTypeName, Collections.singletonList(propertyName),
                 searchParameters.getExactMatch(), searchParameters.getCaseInsensitive(),null, null, false,
-                false, supportedZones, sequencingOrder.getName(),searchParameters.getFrom(),
-                searchParameters.getPageSize(), clockService.getNow(), methodName);
+                false, supportedZones, sequencingProperty, from,
+                pageSize, clockService.getNow(), methodName);
 
         if (CollectionUtils.isNotEmpty(entitiesByPropertyValue)) {
-            return entitiesByPropertyValue;
+            List<EntityDetail> sortedEntities = new ArrayList<>(entitiesByPropertyValue);
+            sortedEntities.sort(comparator);
+            return sortedEntities;
         }
         return new ArrayList<>();
     }
@@ -1445,34 +1554,77 @@ public class AssetCatalogHandler {
         return response;
     }
 
-    private int orderElements(Elements firstAsset, Elements secondAsset, String sequencingProperty, SequencingOrder sequencingOrder) {
-        String firstField;
-        String secondField;
-        if (TYPE_SEQUENCING.equals(sequencingProperty)) {
-            if (firstAsset.getType() == null || secondAsset.getType() == null) {
-                return 0;
+    /**
+     * Merge the sorted results of each type into the requested page.  Duplicates are skipped as the page is
+     * assembled, and only the entities on the page are converted.  The assets have already been checked against
+     * the supported zones by the search.
+     *
+     * @param results          the sorted entities found for each type
+     * @param searchParameters the parameters of the search
+     * @param from             the number of merged results to skip
+     * @param pageSize         the maximum number of results to return, zero means no limit
+     * @return the page of results
+     */
+    private List<Elements> createSearchResultPage(List<List<EntityDetail>> results, SearchParameters searchParameters,
+                                                  int from, int pageSize) {
+        Comparator<EntityDetail> comparator = getSearchResultComparator(searchParameters.getSequencingProperty(),
+                searchParameters.getSequencingOrder());
+        PriorityQueue<SearchResultCursor> cursors = new PriorityQueue<>((first, second) -> {
+            int order = comparator.compare(first.current(), second.current());
+            return order != 0 ? order : Integer.compare(first.typeIndex, second.typeIndex);
+        });
+        for (int typeIndex = 0; typeIndex < results.size(); typeIndex++) {
+            if (CollectionUtils.isNotEmpty(results.get(typeIndex))) {
+                cursors.add(new SearchResultCursor(results.get(typeIndex), typeIndex));
             }
-            firstField = firstAsset.getType().getName();
-            secondField = secondAsset.getType().getName();
-        } else {
-            if (firstAsset.getProperties() == null || secondAsset.getProperties() == null) {
-                return 0;
+        }
+
+        Set<String> mergedGUIDs = new HashSet<>();
+        List<Elements> page = new ArrayList<>();
+        int skipped = 0;
+        while (!cursors.isEmpty() && (pageSize == 0 || page.size() < pageSize)) {
+            SearchResultCursor cursor = cursors.poll();
+            EntityDetail entityDetail = cursor.current();
+            if (cursor.next()) {
+                cursors.add(cursor);
             }
-            firstField = firstAsset.getProperties().get(sequencingProperty);
-            secondField = secondAsset.getProperties().get(sequencingProperty);
-            if (DISPLAY_NAME.equals(sequencingProperty)) {
-                if (firstField == null) {
-                    firstField = firstAsset.getProperties().get(NAME);
-                }
-                if (secondField == null) {
-                    secondField = secondAsset.getProperties().get(NAME);
-                }
+
+            if (!mergedGUIDs.add(entityDetail.getGUID())) {
+                continue;
+            }
+            if (skipped < from) {
+                skipped++;
+                continue;
             }
+            page.add(assetCatalogConverter.buildAssetElements(entityDetail));
         }
+        return page;
+    }
 
-        return compareFields(firstField, secondField, sequencingOrder);
+    private Comparator<EntityDetail> getSearchResultComparator(String sequencingProperty, SequencingOrder sequencingOrder) {
+        return (firstEntity, secondEntity) -> compareFields(getSequencingValue(firstEntity, sequencingProperty),
+                getSequencingValue(secondEntity, sequencingProperty), sequencingOrder);
+    }
 
+    private String getSequencingValue(EntityDetail entityDetail, String sequencingProperty) {
+        if (TYPE_SEQUENCING.equals(sequencingProperty)) {
+            return entityDetail.getType() == null ? null : entityDetail.getType().getTypeDefName();
+        }
 
+        String value = getPropertyValue(entityDetail.getProperties(), sequencingProperty);
+        if (value == null && DISPLAY_NAME.equals(sequencingProperty)) {
+            value = getPropertyValue(entityDetail.getProperties(), NAME);
+        }
+        return value;
+    }
+
+    private String getPropertyValue(InstanceProperties properties, String propertyName) {
+        if (properties == null || propertyName == null) {
+            return null;
+        }
+
+        InstancePropertyValue value = properties.getPropertyValue(propertyName);
+        return value == null ? null : value.valueAsString();
     }
 
     private int compareFields(String firstComparedProperty, String secondComparedProperty, SequencingOrder sequencingOrder) {
@@ -1491,4 +1643,26 @@ public class AssetCatalogHandler {
         }
         return 0;
     }
+
+    /**
+     * Position in the sorted results of one of the types being merged.
+     */
+    private static class SearchResultCursor {
+        private final List<EntityDetail> entities;
+        private final int typeIndex;
+        private int position = 0;
+
+        SearchResultCursor(List<EntityDetail> entities, int typeIndex) {
+            this.entities = entities;
+            this.typeIndex = typeIndex;
+        }
+
+        EntityDetail current() {
+            return entities.get(position);
+        }
+
+        boolean next() {
+            return ++position < entities.size();
+        }
+    }
 }
@@ -30,7 +30,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
@@ -42,6 +44,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorEx
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -49,6 +52,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -431,7 +435,7 @@ public class AssetCatalogHandlerTest {
                 SEARCH_STRING_PARAMETER_NAME, ASSET_TYPE_GUID, ASSET_TYPE, Collections.singletonList(NAME),
                 searchParams.getExactMatch(), false, null, null,
                 false, false, null,
-                SequencingOrder.ANY.getName(), FROM, PAGE_SIZE, null, methodName)).thenReturn(mockedEntities);
+                null, FROM, PAGE_SIZE, null, methodName)).thenReturn(mockedEntities);
 
         for(EntityDetail mockedEntity : mockedEntities) {
             Elements mockedElements = getElementsFromEntity(mockedEntity);
@@ -454,6 +458,106 @@ public class AssetCatalogHandlerTest {
         verify(invalidParameterHandler, times(1)).validateObject(searchParams, "searchParameter", methodName);
     }
 
+    @Test
+    public void searchByType_mergesTypesIntoPage() throws InvalidParameterException, org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException,
+            FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException,
+            RepositoryErrorException, PropertyErrorException, TypeErrorException, PagingErrorException, EntityNotKnownException, PropertyServerException, UserNotAuthorizedException {
+        String methodName = "searchByType";
+        SearchParameters searchParams = mockSearchParams();
+        searchParams.setFrom(1);
+        searchParams.setPageSize(2);
+        searchParams.setEntityTypes(Arrays.asList(ASSET_TYPE, PROCESS_TYPE));
+        searchParams.setSequencingProperty(NAME);
+        searchParams.setSequencingOrder(SequencingOrder.PROPERTY_ASCENDING);
+        mockTypeDef(ASSET_TYPE, ASSET_TYPE_GUID);
+        mockTypeDef(PROCESS_TYPE, PROCESS_TYPE_GUID);
+        mockSearchString(SEARCH_CRITERIA, searchParams.getCaseInsensitive());
+
+        EntityDetail first = mockNamedEntity("guid-a", "a", PROCESS_TYPE, PROCESS_TYPE_GUID);
+        EntityDetail second = mockNamedEntity("guid-b", "b", ASSET_TYPE, ASSET_TYPE_GUID);
+        EntityDetail third = mockNamedEntity("guid-c", "c", PROCESS_TYPE, PROCESS_TYPE_GUID);
+        EntityDetail fourth = mockNamedEntity("guid-d", "d", ASSET_TYPE, ASSET_TYPE_GUID);
+
+        // each type is asked for all of its matches, sequenced by the repository in ascending order
+        when(assetHandler.getEntitiesByValue(USER, SEARCH_CRITERIA,
+                SEARCH_STRING_PARAMETER_NAME, ASSET_TYPE_GUID, ASSET_TYPE, Collections.singletonList(NAME),
+                searchParams.getExactMatch(), false, null, null,
+                false, false, null,
+                NAME, 0, 0, null, methodName)).thenReturn(Arrays.asList(fourth, second));
+        when(assetHandler.getEntitiesByValue(USER, SEARCH_CRITERIA,
+                SEARCH_STRING_PARAMETER_NAME, PROCESS_TYPE_GUID, PROCESS_TYPE, Collections.singletonList(NAME),
+                searchParams.getExactMatch(), false, null, null,
+                false, false, null,
+                NAME, 0, 0, null, methodName)).thenReturn(Arrays.asList(first, second, third));
+
+        for (EntityDetail entity : Arrays.asList(first, second, third, fourth)) {
+            when(assetCatalogConverter.buildAssetElements(entity)).thenReturn(getElementsFromEntity(entity));
+        }
+        List<Elements> elements = assetCatalogHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+
+        assertEquals(2, elements.size());
+        assertEquals("guid-b", elements.get(0).getGuid());
+        assertEquals("guid-c", elements.get(1).getGuid());
+        verify(assetCatalogConverter, never()).buildAssetElements(first);
+        verify(assetCatalogConverter, never()).buildAssetElements(fourth);
+    }
+
+    @Test
+    public void searchByType_mergesTypesInDescendingOrder() throws InvalidParameterException, org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException,
+            FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException,
+            RepositoryErrorException, PropertyErrorException, TypeErrorException, PagingErrorException, EntityNotKnownException, PropertyServerException, UserNotAuthorizedException {
+        String methodName = "searchByType";
+        SearchParameters searchParams = mockSearchParams();
+        searchParams.setFrom(0);
+        searchParams.setPageSize(2);
+        searchParams.setEntityTypes(Arrays.asList(ASSET_TYPE, PROCESS_TYPE));
+        searchParams.setSequencingProperty(NAME);
+        searchParams.setSequencingOrder(SequencingOrder.PROPERTY_DESCENDING);
+        mockTypeDef(ASSET_TYPE, ASSET_TYPE_GUID);
+        mockTypeDef(PROCESS_TYPE, PROCESS_TYPE_GUID);
+        mockSearchString(SEARCH_CRITERIA, searchParams.getCaseInsensitive());
+
+        EntityDetail first = mockNamedEntity("guid-a", "a", PROCESS_TYPE, PROCESS_TYPE_GUID);
+        EntityDetail second = mockNamedEntity("guid-b", "b", ASSET_TYPE, ASSET_TYPE_GUID);
+        EntityDetail third = mockNamedEntity("guid-c", "c", PROCESS_TYPE, PROCESS_TYPE_GUID);
+        EntityDetail fourth = mockNamedEntity("guid-d", "d", ASSET_TYPE, ASSET_TYPE_GUID);
+
+        // the repositories can not sequence in descending order so each type is asked for all of its matches
+        when(assetHandler.getEntitiesByValue(USER, SEARCH_CRITERIA,
+                SEARCH_STRING_PARAMETER_NAME, ASSET_TYPE_GUID, ASSET_TYPE, Collections.singletonList(NAME),
+                searchParams.getExactMatch(), false, null, null,
+                false, false, null,
+                null, 0, 0, null, methodName)).thenReturn(Arrays.asList(second, fourth));
+        when(assetHandler.getEntitiesByValue(USER, SEARCH_CRITERIA,
+                SEARCH_STRING_PARAMETER_NAME, PROCESS_TYPE_GUID, PROCESS_TYPE, Collections.singletonList(NAME),
+                searchParams.getExactMatch(), false, null, null,
+                false, false, null,
+                null, 0, 0, null, methodName)).thenReturn(Arrays.asList(first, third));
+
+        for (EntityDetail entity : Arrays.asList(first, second, third, fourth)) {
+            when(assetCatalogConverter.buildAssetElements(entity)).thenReturn(getElementsFromEntity(entity));
+        }
+        List<Elements> elements = assetCatalogHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+
+        assertEquals(2, elements.size());
+        assertEquals("guid-d", elements.get(0).getGuid());
+        assertEquals("guid-c", elements.get(1).getGuid());
+    }
+
+    private EntityDetail mockNamedEntity(String guid, String name, String typeName, String typeGUID) {
+        PrimitivePropertyValue nameValue = new PrimitivePropertyValue();
+        nameValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        nameValue.setPrimitiveValue(name);
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty(NAME, nameValue);
+
+        EntityDetail entityDetail = new EntityDetail();
+        entityDetail.setGUID(guid);
+        entityDetail.setType(mockInstanceType(typeName, typeGUID));
+        entityDetail.setProperties(properties);
+        return entityDetail;
+    }
+
     private Elements getElementsFromEntity(EntityDetail mockedEntity) {
         if (mockedEntity == null) {
             return null;
@@ -15,6 +15,7 @@ import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngin
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineRelationalDataHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineSchemaTypeHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineTopicHandler;
+import org.odpi.openmetadata.accessservices.dataengine.server.service.DataEngineFingerprintCache;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.multitenant.OMASServiceInstanceHandler;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -329,6 +330,25 @@ public class DataEngineInstanceHandler extends OMASServiceInstanceHandler {
         DataEngineServicesInstance instance = (DataEngineServicesInstance) super.getServerServiceInstance(userId, serverName, serviceOperationName);
         return instance.getDataEngineEventTypeHandler();
     }
-}
-
 
+    /**
+     * Retrieve the fingerprint cache for the access service
+     *
+     * @param userId               calling user
+     * @param serverName           name of the server tied to the request
+     * @param serviceOperationName name of the REST API call (typically the top-level methodName)
+     *
+     * @return fingerprint cache for use by the requested instance
+     *
+     * @throws InvalidParameterException  no available instance for the requested server
+     * @throws UserNotAuthorizedException user does not have access to the requested server
+     * @throws PropertyServerException    the service name is not known - indicating a logic error
+     */
+    public DataEngineFingerprintCache getFingerprintCache(String userId, String serverName, String serviceOperationName) throws
+                                                                                                                 InvalidParameterException,
+                                                                                                                 UserNotAuthorizedException,
+                                                                                                                 PropertyServerException {
+        DataEngineServicesInstance instance = (DataEngineServicesInstance) super.getServerServiceInstance(userId, serverName, serviceOperationName);
+        return instance.getFingerprintCache();
+    }
+}
@@ -54,6 +54,7 @@ import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngin
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineSchemaTypeHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineTopicHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.service.ClockService;
+import org.odpi.openmetadata.accessservices.dataengine.server.service.DataEngineFingerprintCache;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.generichandlers.AssetHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.ConnectionHandler;
@@ -203,6 +204,14 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
     @Getter(AccessLevel.PACKAGE)
     private final DataEngineSchemaAttributeHandler dataEngineSchemaAttributeHandler;
 
+    /**
+     * -- GETTER --
+     * Returns the fingerprints of the elements applied by the Data Engine upserts.
+     * @return the Data Engine fingerprint cache
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final DataEngineFingerprintCache fingerprintCache;
+
     /**
      * Sets up the local repository connector that will service the REST Calls
      *
@@ -313,6 +322,7 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
                         repositoryHelper, localServerUserId, securityVerifier, supportedZones, defaultZones, publishZones, auditLog);
 
         ClockService clockService = new ClockService(Clock.systemUTC());
+        fingerprintCache = new DataEngineFingerprintCache();
         dataEngineRegistrationHandler = new DataEngineRegistrationHandler(serviceName, serverName, invalidParameterHandler,
                 repositoryHelper, softwareServerCapabilityHandler, clockService);
 
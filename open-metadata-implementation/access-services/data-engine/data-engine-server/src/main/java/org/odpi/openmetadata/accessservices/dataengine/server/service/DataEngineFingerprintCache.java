@@ -0,0 +1,225 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DataEngineFingerprintCache remembers a fingerprint of the content of the elements that were last applied to the
+ * repository by a Data Engine upsert. The fingerprint is a SHA-256 hash of the element serialized with its properties
+ * and map entries in a fixed order, so two payloads that describe the same element produce the same fingerprint.
+ *
+ * Fingerprints are saved for each calling user, together with the unique identifier and version of the stored entity
+ * once the element has been applied successfully. An upsert can only skip the writes for an element if its fingerprint
+ * matches and the entity that the calling user retrieves from the repository is still the same version, so an entity
+ * that has been deleted, replaced or updated by anyone else, or that the user can not retrieve, is always applied again.
+ *
+ * The version is read back from the repository after the upsert, so it must not include changes made by another upsert
+ * of the same element. Each upsert is registered with startUpsert and endUpsert, and a fingerprint is only saved if no
+ * other upsert of the element ran at the same time.
+ */
+public class DataEngineFingerprintCache {
+
+    private static final Logger log = LoggerFactory.getLogger(DataEngineFingerprintCache.class);
+
+    private static final int DEFAULT_MAX_SIZE = 100000;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String KEY_SEPARATOR = "::";
+    private static final String VERSION_SEPARATOR = "@";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    private final Map<String, String> fingerprints;
+    private final Map<String, UpsertsInProgress> upsertsInProgress = new HashMap<>();
+
+    /*
+     * The upserts of one element that are running. The generation changes each time an upsert of the element starts or
+     * ends while another one is running.
+     */
+    private static class UpsertsInProgress {
+        private int count;
+        private long generation;
+    }
+
+    /**
+     * Create a cache holding up to the default number of fingerprints.
+     */
+    public DataEngineFingerprintCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a cache holding up to maxSize fingerprints. The least recently used fingerprints are dropped first.
+     *
+     * @param maxSize maximum number of fingerprints to keep
+     */
+    public DataEngineFingerprintCache(int maxSize) {
+        this.fingerprints = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Return the fingerprint of the element's content.
+     *
+     * @param element the element as received by Data Engine OMAS
+     * @param context values that also affect how the element is applied, such as the parent GUID and external source
+     *
+     * @return the fingerprint or null if the element can not be serialized
+     */
+    public String getFingerprint(Object element, String... context) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            messageDigest.update(objectMapper.writeValueAsBytes(element));
+            for (String value : context) {
+                messageDigest.update(KEY_SEPARATOR.getBytes(StandardCharsets.UTF_8));
+                messageDigest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            }
+            return String.format("%064x", new BigInteger(1, messageDigest.digest()));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            log.debug("Unable to calculate the fingerprint of {} : {}", element, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Check whether the element was last applied by the calling user with the same fingerprint, and the entity that the
+     * user retrieved from the repository has not changed since.
+     *
+     * @param userId        the calling user
+     * @param typeName      the type of the element
+     * @param qualifiedName the qualified name of the element
+     * @param fingerprint   the fingerprint of the element's new content
+     * @param entity        the entity currently stored for the element, or null if it was not found
+     *
+     * @return true if the saved fingerprint matches the element and the entity
+     */
+    public boolean isUnchanged(String userId, String typeName, String qualifiedName, String fingerprint, EntityDetail entity) {
+        if (fingerprint == null || entity == null) {
+            return false;
+        }
+        synchronized (fingerprints) {
+            return Objects.equals(fingerprints.get(getKey(userId, typeName, qualifiedName)), getValue(fingerprint, entity));
+        }
+    }
+
+    /**
+     * Register the start of an upsert of an element by any user.
+     *
+     * @param typeName      the type of the element
+     * @param qualifiedName the qualified name of the element
+     *
+     * @return the generation to pass to saveFingerprint
+     */
+    public long startUpsert(String typeName, String qualifiedName) {
+        synchronized (fingerprints) {
+            UpsertsInProgress upserts = upsertsInProgress.computeIfAbsent(getElementKey(typeName, qualifiedName), key -> new UpsertsInProgress());
+            upserts.count++;
+            return ++upserts.generation;
+        }
+    }
+
+    /**
+     * Register the end of an upsert that was registered with startUpsert.
+     *
+     * @param typeName      the type of the element
+     * @param qualifiedName the qualified name of the element
+     */
+    public void endUpsert(String typeName, String qualifiedName) {
+        synchronized (fingerprints) {
+            String elementKey = getElementKey(typeName, qualifiedName);
+            UpsertsInProgress upserts = upsertsInProgress.get(elementKey);
+            if (upserts == null) {
+                return;
+            }
+            upserts.count--;
+            if (upserts.count > 0) {
+                upserts.generation++;
+            } else {
+                upsertsInProgress.remove(elementKey);
+            }
+        }
+    }
+
+    /**
+     * Save the fingerprint of an element that has been applied to the repository. The fingerprint is dropped instead if
+     * another upsert of the element ran at the same time, because the entity may then include its changes.
+     *
+     * @param userId           the calling user
+     * @param typeName         the type of the element
+     * @param qualifiedName    the qualified name of the element
+     * @param fingerprint      the fingerprint of the element's content
+     * @param entity           the entity stored for the element once it was applied, or null if it was not found
+     * @param upsertGeneration the generation returned by startUpsert for this upsert
+     */
+    public void saveFingerprint(String userId, String typeName, String qualifiedName, String fingerprint, EntityDetail entity,
+                                long upsertGeneration) {
+        synchronized (fingerprints) {
+            UpsertsInProgress upserts = upsertsInProgress.get(getElementKey(typeName, qualifiedName));
+            boolean onlyUpsert = upserts != null && upserts.count == 1 && upserts.generation == upsertGeneration;
+            if (fingerprint == null || entity == null || !onlyUpsert) {
+                fingerprints.remove(getKey(userId, typeName, qualifiedName));
+                return;
+            }
+            fingerprints.put(getKey(userId, typeName, qualifiedName), getValue(fingerprint, entity));
+        }
+    }
+
+    /**
+     * Forget the fingerprint that the calling user saved for an element, so the next upsert applies it again.
+     *
+     * @param userId        the calling user
+     * @param typeName      the type of the element
+     * @param qualifiedName the qualified name of the element
+     */
+    public void removeFingerprint(String userId, String typeName, String qualifiedName) {
+        synchronized (fingerprints) {
+            fingerprints.remove(getKey(userId, typeName, qualifiedName));
+        }
+    }
+
+    /**
+     * Return the number of saved fingerprints.
+     *
+     * @return number of fingerprints
+     */
+    public int size() {
+        synchronized (fingerprints) {
+            return fingerprints.size();
+        }
+    }
+
+    private String getKey(String userId, String typeName, String qualifiedName) {
+        return userId + KEY_SEPARATOR + getElementKey(typeName, qualifiedName);
+    }
+
+    private String getElementKey(String typeName, String qualifiedName) {
+        return typeName + KEY_SEPARATOR + qualifiedName;
+    }
+
+    private String getValue(String fingerprint, EntityDetail entity) {
+        return fingerprint + VERSION_SEPARATOR + entity.getGUID() + VERSION_SEPARATOR + entity.getVersion();
+    }
+}
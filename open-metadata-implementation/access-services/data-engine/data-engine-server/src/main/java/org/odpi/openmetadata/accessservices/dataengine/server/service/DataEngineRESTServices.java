@@ -126,6 +126,7 @@ public class DataEngineRESTServices {
     private static final String EXCEPTION_WHILE_CREATING_PROCESS_HIERARCHY = "Exception while creating process relationships for process {} : {}";
     private static final String DEBUG_DELETE_MESSAGE = "Data Engine OMAS deleted entity with GUID {} and type {}";
     private static final String PROCESS_UPSERT = "Data Engine OMAS has created or updated a Process with qualified name {} and guid {}";
+    private static final String PROCESS_UNCHANGED = "Data Engine OMAS found no changes to the Process with qualified name {} and guid {}";
     private static final String EXTERNAL_ENGINE_WAS_REGISTERED =
             "Data Engine OMAS has registered an external engine with qualified name {} and GUID {}";
     private static final String PROCESS_HIERARCHY_ADDED_BETWEEN_CHILD_AND_PARENT_PROCESS =
@@ -1641,17 +1642,33 @@ public class DataEngineRESTServices {
 
         GUIDResponse response = new GUIDResponse();
 
+        DataEngineFingerprintCache fingerprintCache = null;
+        long upsertGeneration = 0;
         try {
             DataEngineProcessHandler processHandler = instanceHandler.getProcessHandler(userId, serverName, methodName);
+            fingerprintCache = instanceHandler.getFingerprintCache(userId, serverName, methodName);
+            String fingerprint = fingerprintCache.getFingerprint(process, externalSourceName);
+            upsertGeneration = fingerprintCache.startUpsert(PROCESS_TYPE_NAME, qualifiedName);
 
             Optional<EntityDetail> processEntity = processHandler.findProcessEntity(userId, qualifiedName);
+            // the ports, schema types and attributes are always upserted below, and are only written if they differ from the payload
+            boolean processUnchanged = processEntity.isPresent() && fingerprintCache.isUnchanged(userId, PROCESS_TYPE_NAME, qualifiedName,
+                    fingerprint, processEntity.get());
+            if (!processUnchanged) {
+                fingerprintCache.removeFingerprint(userId, PROCESS_TYPE_NAME, qualifiedName);
+            }
+
             String processGUID;
             if (processEntity.isEmpty()) {
                 processGUID = processHandler.createProcess(userId, process, externalSourceName);
             } else {
                 processGUID = processEntity.get().getGUID();
-                processHandler.updateProcess(userId, processEntity.get(), process, externalSourceName);
-                processHandler.updateProcessStatus(userId, processGUID, InstanceStatus.DRAFT, externalSourceName);
+                if (processUnchanged) {
+                    log.debug(PROCESS_UNCHANGED, qualifiedName, processGUID);
+                } else {
+                    processHandler.updateProcess(userId, processEntity.get(), process, externalSourceName);
+                    processHandler.updateProcessStatus(userId, processGUID, InstanceStatus.DRAFT, externalSourceName);
+                }
 
                 if (updateSemantic == UpdateSemantic.REPLACE) {
                     deleteObsoletePorts(userId, serverName, portImplementations, processGUID, PORT_IMPLEMENTATION_TYPE_NAME, response,
@@ -1669,8 +1686,14 @@ public class DataEngineRESTServices {
             upsertPortAliases(userId, serverName, portAliases, processGUID, response, externalSourceName);
 
             if (response.getRelatedHTTPCode() == HttpStatus.OK.value()) {
-                processHandler.updateProcessStatus(userId, processGUID, InstanceStatus.ACTIVE, externalSourceName);
+                if (!processUnchanged) {
+                    processHandler.updateProcessStatus(userId, processGUID, InstanceStatus.ACTIVE, externalSourceName);
+                }
                 addProcessHierarchyRelationships(userId, serverName, process, processGUID, response, externalSourceName);
+                if (!processUnchanged && response.getRelatedHTTPCode() == HttpStatus.OK.value()) {
+                    fingerprintCache.saveFingerprint(userId, PROCESS_TYPE_NAME, qualifiedName, fingerprint,
+                            processHandler.findProcessEntity(userId, qualifiedName).orElse(null), upsertGeneration);
+                }
             }
 
             log.info(PROCESS_UPSERT, qualifiedName, processGUID);
@@ -1678,6 +1701,10 @@ public class DataEngineRESTServices {
         } catch (Exception error) {
             log.error(EXCEPTION_WHILE_CREATING_PROCESS, qualifiedName, error.toString());
             restExceptionHandler.captureExceptions(response, error, methodName);
+        } finally {
+            if (fingerprintCache != null && upsertGeneration != 0) {
+                fingerprintCache.endUpsert(PROCESS_TYPE_NAME, qualifiedName);
+            }
         }
         log.debug(DEBUG_MESSAGE_METHOD_RETURN, methodName, response);
 
@@ -0,0 +1,158 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.service;
+
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.accessservices.dataengine.model.DataFlow;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataEngineFingerprintCacheTest {
+
+    private static final String USER = "user";
+    private static final String TYPE_NAME = "Process";
+    private static final String QUALIFIED_NAME = "port";
+    private static final String GUID = "guid";
+    private static final String EXTERNAL_SOURCE_NAME = "externalSourceName";
+
+    @Test
+    void getFingerprint_IgnoresMapOrder() {
+        DataEngineFingerprintCache fingerprintCache = new DataEngineFingerprintCache();
+
+        Map<String, String> first = new HashMap<>();
+        first.put("a", "1");
+        first.put("b", "2");
+        Map<String, String> second = new LinkedHashMap<>();
+        second.put("b", "2");
+        second.put("a", "1");
+
+        assertEquals(fingerprintCache.getFingerprint(first), fingerprintCache.getFingerprint(second));
+    }
+
+    @Test
+    void getFingerprint_DependsOnContentAndContext() {
+        DataEngineFingerprintCache fingerprintCache = new DataEngineFingerprintCache();
+
+        String fingerprint = fingerprintCache.getFingerprint(getDataFlow("formula"), EXTERNAL_SOURCE_NAME);
+
+        assertEquals(fingerprint, fingerprintCache.getFingerprint(getDataFlow("formula"), EXTERNAL_SOURCE_NAME));
+        assertNotEquals(fingerprint, fingerprintCache.getFingerprint(getDataFlow("other formula"), EXTERNAL_SOURCE_NAME));
+        assertNotEquals(fingerprint, fingerprintCache.getFingerprint(getDataFlow("formula"), "otherExternalSourceName"));
+    }
+
+    @Test
+    void isUnchanged_OnlyForSavedFingerprint() {
+        DataEngineFingerprintCache fingerprintCache = new DataEngineFingerprintCache();
+        String fingerprint = fingerprintCache.getFingerprint(getDataFlow("formula"), EXTERNAL_SOURCE_NAME);
+        EntityDetail entity = getEntity(GUID, 1);
+
+        assertFalse(fingerprintCache.isUnchanged(USER, TYPE_NAME, QUALIFIED_NAME, fingerprint, entity));
+
+        saveFingerprint(fingerprintCache, QUALIFIED_NAME, fingerprint, entity);
+        assertTrue(fingerprintCache.isUnchanged(USER, TYPE_NAME, QUALIFIED_NAME, fingerprint, getEntity(GUID, 1)));
+        assertFalse(fingerprintCache.isUnchanged(USER, "PortImplementation", QUALIFIED_NAME, fingerprint, entity));
+        assertFalse(fingerprintCache.isUnchanged(USER, TYPE_NAME, QUALIFIED_NAME, null, entity));
+
+        fingerprintCache.removeFingerprint(USER, TYPE_NAME, QUALIFIED_NAME);
+        assertFalse(fingerprintCache.isUnchanged(USER, TYPE_NAME, QUALIFIED_NAME, fingerprint, entity));
+    }
+
+    @Test
+    void isUnchanged_OnlyForSameEntityVersion() {
+        DataEngineFingerprintCache fingerprintCache = new DataEngineFingerprintCache();
+        String fingerprint = fingerprintCache.getFingerprint(getDataFlow("formula"), EXTERNAL_SOURCE_NAME);
+
+        saveFingerprint(fingerprintCache, QUALIFIED_NAME, fingerprint, getEntity(GUID, 1));
+
+        assertFalse(fingerprintCache.isUnchanged(USER, TYPE_NAME, QUALIFIED_NAME, fingerprint, null));
+        assertFalse(fingerprintCache.isUnchanged(USER, TYPE_NAME, QUALIFIED_NAME, fingerprint, getEntity(GUID, 2)));
+        assertFalse(fingerprintCache.isUnchanged(USER, TYPE_NAME, QUALIFIED_NAME, fingerprint, getEntity("otherGUID", 1)));
+
+        saveFingerprint(fingerprintCache, QUALIFIED_NAME, fingerprint, null);
+        assertEquals(0, fingerprintCache.size());
+    }
+
+    @Test
+    void isUnchanged_OnlyForSameUser() {
+        DataEngineFingerprintCache fingerprintCache = new DataEngineFingerprintCache();
+        String fingerprint = fingerprintCache.getFingerprint(getDataFlow("formula"), EXTERNAL_SOURCE_NAME);
+        EntityDetail entity = getEntity(GUID, 1);
+
+        saveFingerprint(fingerprintCache, QUALIFIED_NAME, fingerprint, entity);
+
+        assertFalse(fingerprintCache.isUnchanged("otherUser", TYPE_NAME, QUALIFIED_NAME, fingerprint, entity));
+    }
+
+    @Test
+    void saveFingerprint_DroppedWhenUpsertsOverlap() {
+        DataEngineFingerprintCache fingerprintCache = new DataEngineFingerprintCache();
+        EntityDetail entity = getEntity(GUID, 1);
+
+        // another upsert of the element starts and ends while this one is running
+        long generation = fingerprintCache.startUpsert(TYPE_NAME, QUALIFIED_NAME);
+        fingerprintCache.startUpsert(TYPE_NAME, QUALIFIED_NAME);
+        fingerprintCache.endUpsert(TYPE_NAME, QUALIFIED_NAME);
+        fingerprintCache.saveFingerprint(USER, TYPE_NAME, QUALIFIED_NAME, "1", entity, generation);
+        fingerprintCache.endUpsert(TYPE_NAME, QUALIFIED_NAME);
+        assertFalse(fingerprintCache.isUnchanged(USER, TYPE_NAME, QUALIFIED_NAME, "1", entity));
+
+        // another upsert of the element started earlier and is still running
+        fingerprintCache.startUpsert(TYPE_NAME, QUALIFIED_NAME);
+        generation = fingerprintCache.startUpsert(TYPE_NAME, QUALIFIED_NAME);
+        fingerprintCache.saveFingerprint(USER, TYPE_NAME, QUALIFIED_NAME, "1", entity, generation);
+        fingerprintCache.endUpsert(TYPE_NAME, QUALIFIED_NAME);
+        fingerprintCache.endUpsert(TYPE_NAME, QUALIFIED_NAME);
+        assertFalse(fingerprintCache.isUnchanged(USER, TYPE_NAME, QUALIFIED_NAME, "1", entity));
+
+        // an upsert of another element does not matter
+        generation = fingerprintCache.startUpsert(TYPE_NAME, QUALIFIED_NAME);
+        fingerprintCache.startUpsert(TYPE_NAME, "other");
+        fingerprintCache.saveFingerprint(USER, TYPE_NAME, QUALIFIED_NAME, "1", entity, generation);
+        fingerprintCache.endUpsert(TYPE_NAME, QUALIFIED_NAME);
+        assertTrue(fingerprintCache.isUnchanged(USER, TYPE_NAME, QUALIFIED_NAME, "1", entity));
+    }
+
+    @Test
+    void saveFingerprint_DropsLeastRecentlyUsed() {
+        DataEngineFingerprintCache fingerprintCache = new DataEngineFingerprintCache(2);
+        EntityDetail entity = getEntity(GUID, 1);
+
+        saveFingerprint(fingerprintCache, "first", "1", entity);
+        saveFingerprint(fingerprintCache, "second", "2", entity);
+        assertTrue(fingerprintCache.isUnchanged(USER, TYPE_NAME, "first", "1", entity));
+        saveFingerprint(fingerprintCache, "third", "3", entity);
+
+        assertEquals(2, fingerprintCache.size());
+        assertTrue(fingerprintCache.isUnchanged(USER, TYPE_NAME, "first", "1", entity));
+        assertFalse(fingerprintCache.isUnchanged(USER, TYPE_NAME, "second", "2", entity));
+    }
+
+    private void saveFingerprint(DataEngineFingerprintCache fingerprintCache, String qualifiedName, String fingerprint, EntityDetail entity) {
+        long generation = fingerprintCache.startUpsert(TYPE_NAME, qualifiedName);
+        fingerprintCache.saveFingerprint(USER, TYPE_NAME, qualifiedName, fingerprint, entity, generation);
+        fingerprintCache.endUpsert(TYPE_NAME, qualifiedName);
+    }
+
+    private EntityDetail getEntity(String guid, long version) {
+        EntityDetail entityDetail = new EntityDetail();
+        entityDetail.setGUID(guid);
+        entityDetail.setVersion(version);
+        return entityDetail;
+    }
+
+    private DataFlow getDataFlow(String formula) {
+        DataFlow dataFlow = new DataFlow();
+        dataFlow.setDataSupplier("source");
+        dataFlow.setDataConsumer("target");
+        dataFlow.setFormula(formula);
+        return dataFlow;
+    }
+}
@@ -92,7 +92,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -211,11 +213,13 @@ class DataEngineRESTServicesTest {
     private final Process process = getProcess(Collections.singletonList(portImplementation), Collections.singletonList(portAlias),
             Collections.emptyList());
 
+    private final DataEngineFingerprintCache fingerprintCache = new DataEngineFingerprintCache();
+
     @Captor
     private ArgumentCaptor<InstanceStatus> instanceStatuses;
 
     @BeforeEach
-    void before() {
+    void before() throws InvalidParameterException, UserNotAuthorizedException, PropertyServerException {
         Field instanceHandlerField = ReflectionUtils.findField(DataEngineRESTServices.class, "instanceHandler");
         instanceHandlerField.setAccessible(true);
         ReflectionUtils.setField(instanceHandlerField, dataEngineRESTServices, instanceHandler);
@@ -226,6 +230,8 @@ class DataEngineRESTServicesTest {
         restExceptionHandlerField.setAccessible(true);
         ReflectionUtils.setField(restExceptionHandlerField, dataEngineRESTServices, restExceptionHandler);
         restExceptionHandlerField.setAccessible(false);
+
+        lenient().when(instanceHandler.getFingerprintCache(any(), any(), any())).thenReturn(fingerprintCache);
     }
 
     @Test
@@ -733,6 +739,68 @@ class DataEngineRESTServicesTest {
         assertEquals(PROCESS_GUID, response.getGUID());
     }
 
+    @Test
+    void upsertProcess_SkipsProcessWritesWhenUnchanged() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        Optional<EntityDetail> portEntity = mockProcessWithPorts();
+
+        ProcessRequestBody requestBody = mockProcessRequestBody();
+        dataEngineRESTServices.upsertProcess(USER, SERVER_NAME, requestBody);
+        GUIDResponse response = dataEngineRESTServices.upsertProcess(USER, SERVER_NAME, requestBody);
+
+        verify(processHandler, times(1)).createProcess(USER, process, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        verify(processHandler, never()).updateProcess(any(), any(), any(), any());
+        verify(processHandler, times(1)).updateProcessStatus(USER, PROCESS_GUID, InstanceStatus.ACTIVE, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        // the ports and schema types are still upserted, so changes made to them by others are repaired
+        verify(dataEnginePortHandler, times(1)).createPortImplementation(USER, portImplementation, PROCESS_GUID, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        verify(dataEnginePortHandler, times(1)).updatePortImplementation(USER, portEntity.get(), portImplementation, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        verify(dataEngineSchemaTypeHandler, times(2)).upsertSchemaType(USER, getSchemaType(), PORT_GUID, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        assertEquals(PROCESS_GUID, response.getGUID());
+    }
+
+    @Test
+    void upsertProcess_AppliesProcessChangedByOthers() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        mockProcessWithPorts();
+
+        ProcessRequestBody requestBody = mockProcessRequestBody();
+        dataEngineRESTServices.upsertProcess(USER, SERVER_NAME, requestBody);
+
+        // the process was updated by someone else since it was applied
+        EntityDetail processEntity = processHandler.findProcessEntity(USER, PROCESS_QUALIFIED_NAME).orElseThrow();
+        when(processEntity.getVersion()).thenReturn(2L);
+        GUIDResponse response = dataEngineRESTServices.upsertProcess(USER, SERVER_NAME, requestBody);
+
+        verify(processHandler, times(1)).updateProcess(USER, processEntity, process, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        verify(processHandler, times(1)).updateProcessStatus(USER, PROCESS_GUID, InstanceStatus.DRAFT, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        verify(processHandler, times(2)).updateProcessStatus(USER, PROCESS_GUID, InstanceStatus.ACTIVE, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        assertEquals(PROCESS_GUID, response.getGUID());
+    }
+
+    private Optional<EntityDetail> mockProcessWithPorts() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        mockSchemaTypeHandler("upsertSchemaType");
+        mockPortHandler("upsertPortImplementation");
+        mockPortHandler("upsertPortAliasWithDelegation");
+        mockPortHandler("upsertSchemaType");
+        mockProcessHandler("upsertProcess");
+        mockProcessHandler("deleteObsoletePorts");
+        mockPortHandler("deleteObsoletePorts");
+        mockCollectionHandler("createCollection");
+        mockCollectionHandler("addProcessCollectionRelationship");
+
+        when(dataEnginePortHandler.createPortImplementation(USER, portImplementation, PROCESS_GUID, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(PORT_GUID);
+        when(dataEnginePortHandler.createPortAlias(USER, portAlias, PROCESS_GUID, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(GUID);
+        when(processHandler.createProcess(USER, process, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(PROCESS_GUID);
+        when(dataEngineCollectionHandler.createCollection(USER, getCollection(), EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(COLLECTION_GUID);
+
+        // the elements are created by the first upsert and then retrieved from the repository
+        Optional<EntityDetail> processEntity = mockEntityDetail(PROCESS_GUID);
+        Optional<EntityDetail> portEntity = mockEntityDetail(PORT_GUID);
+        Optional<EntityDetail> portAliasEntity = mockEntityDetail(GUID);
+        when(processHandler.findProcessEntity(USER, PROCESS_QUALIFIED_NAME)).thenReturn(Optional.empty(), processEntity);
+        when(dataEnginePortHandler.findPortImplementationEntity(USER, QUALIFIED_NAME)).thenReturn(Optional.empty(), portEntity);
+        when(dataEnginePortHandler.findPortAliasEntity(USER, QUALIFIED_NAME)).thenReturn(Optional.empty(), portAliasEntity);
+        return portEntity;
+    }
+
     private Optional<EntityDetail> mockEntityDetail(String guid) {
         EntityDetail mockedPortEntity = mock(EntityDetail.class);
         when(mockedPortEntity.getGUID()).thenReturn(guid);
@@ -0,0 +1,248 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.http;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * HttpGzipRequestFilter is a Java Servlet Filter that decompresses request bodies sent with
+ * "Content-Encoding: gzip" so that REST clients can compress large request payloads.  Requests without
+ * this encoding are passed through unchanged.
+ * <p>
+ * The body is decompressed before the request is passed on, and no more than the configured number of
+ * decompressed bytes are kept.  A larger body is rejected with 413 (Payload Too Large) and a body that is
+ * not valid gzip data is rejected with 400 (Bad Request), so a small compressed request can not exhaust
+ * the memory of the platform.
+ */
+public class HttpGzipRequestFilter implements Filter {
+    static final String CONTENT_ENCODING = "Content-Encoding";
+    static final String CONTENT_LENGTH = "Content-Length";
+    static final String GZIP = "gzip";
+
+    /**
+     * Default maximum size of a decompressed request body in bytes (100 MB).
+     */
+    public static final long DEFAULT_MAX_DECOMPRESSED_SIZE = 100L * 1024 * 1024;
+
+    private final long maxDecompressedSize;
+
+    /**
+     * Create a filter that accepts decompressed bodies up to the default size.
+     */
+    public HttpGzipRequestFilter() {
+        this(DEFAULT_MAX_DECOMPRESSED_SIZE);
+    }
+
+    /**
+     * Create a filter with a specific limit on the size of a decompressed body.
+     *
+     * @param maxDecompressedSize maximum number of bytes in a decompressed request body
+     */
+    public HttpGzipRequestFilter(long maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
+            throws IOException, ServletException {
+        if (servletRequest instanceof HttpServletRequest) {
+            HttpServletRequest req = (HttpServletRequest) servletRequest;
+            String contentEncoding = req.getHeader(CONTENT_ENCODING);
+
+            if (contentEncoding != null && GZIP.equalsIgnoreCase(contentEncoding.trim())) {
+                byte[] body;
+                try {
+                    body = decompress(req.getInputStream());
+                } catch (ZipException | EOFException error) {
+                    ((HttpServletResponse) servletResponse).sendError(HttpServletResponse.SC_BAD_REQUEST,
+                            "The request body is not valid gzip data");
+                    return;
+                }
+                if (body == null) {
+                    ((HttpServletResponse) servletResponse).sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                            "The decompressed request body is larger than " + maxDecompressedSize + " bytes");
+                    return;
+                }
+                filterChain.doFilter(new GzipRequestWrapper(req, body), servletResponse);
+                return;
+            }
+        }
+
+        filterChain.doFilter(servletRequest, servletResponse);
+    }
+
+    /**
+     * Decompress the request body, stopping as soon as it grows beyond the limit.
+     *
+     * @param compressedInputStream request body
+     * @return decompressed body, or null if it is larger than the limit
+     * @throws IOException the body could not be read or is not valid gzip data
+     */
+    private byte[] decompress(InputStream compressedInputStream) throws IOException {
+        PushbackInputStream pushbackInputStream = new PushbackInputStream(compressedInputStream, 1);
+        int firstByte = pushbackInputStream.read();
+        if (firstByte == -1) {
+            return new byte[0];
+        }
+        pushbackInputStream.unread(firstByte);
+
+        ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        try (InputStream gzipInputStream = new GZIPInputStream(pushbackInputStream)) {
+            int count;
+            while ((count = gzipInputStream.read(buffer)) != -1) {
+                if (decompressed.size() + (long) count > maxDecompressedSize) {
+                    return null;
+                }
+                decompressed.write(buffer, 0, count);
+            }
+        }
+        return decompressed.toByteArray();
+    }
+
+    /**
+     * Presents the decompressed body and hides the headers that describe the compressed one.
+     */
+    private static class GzipRequestWrapper extends HttpServletRequestWrapper {
+        private final byte[] body;
+        private ServletInputStream inputStream = null;
+        private BufferedReader reader = null;
+
+        GzipRequestWrapper(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            if (reader != null) {
+                throw new IllegalStateException("getReader() has already been called for this request");
+            }
+            if (inputStream == null) {
+                inputStream = new BodyServletInputStream(body);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            if (inputStream != null) {
+                throw new IllegalStateException("getInputStream() has already been called for this request");
+            }
+            if (reader == null) {
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+                reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), charset));
+            }
+            return reader;
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (isHidden(name)) {
+                return null;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (isHidden(name)) {
+                return Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isHidden(name))
+                    .collect(Collectors.toList());
+            return Collections.enumeration(names);
+        }
+
+        private boolean isHidden(String name) {
+            return CONTENT_ENCODING.equalsIgnoreCase(name) || CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    /**
+     * Reads the decompressed body.  The whole body is already in memory, so the stream is always ready and an
+     * asynchronous reader is told straight away that all of the data is available.
+     */
+    private static class BodyServletInputStream extends ServletInputStream {
+        private final ByteArrayInputStream body;
+
+        BodyServletInputStream(byte[] body) {
+            this.body = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public int read() {
+            return body.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            return body.read(buffer, offset, length);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return body.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            try {
+                if (!isFinished()) {
+                    readListener.onDataAvailable();
+                }
+                readListener.onAllDataRead();
+            } catch (IOException error) {
+                readListener.onError(error);
+            }
+        }
+    }
+}
@@ -16,6 +16,8 @@ public class HttpHelper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpHelper.class);
 
+    private static volatile SSLContext noStrictSSLContext = null;
+
     /**
      * Allows using self signed certificates https connections
      * makes all the clients and servers trusted no matter the certificate
@@ -45,11 +47,25 @@ public class HttpHelper {
             sc.init(null, trustAllCerts, new java.security.SecureRandom());
             HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
             HttpsURLConnection.setDefaultHostnameVerifier ((hostname, session) -> true);
+
+            // java.net.http clients do not use the HttpsURLConnection defaults
+            noStrictSSLContext = sc;
         } catch (GeneralSecurityException e) {
             LOGGER.error("The configuration for no strict SSL went wrong");
         }
     }
 
+    /**
+     * Returns the all-trusting SSL context installed by noStrictSSL so that clients that do not use
+     * HttpsURLConnection can accept the same certificates.  Only the certificate checks are relaxed:
+     * such clients still verify that the certificate matches the host name.
+     *
+     * @return SSL context or null if strict SSL is in force
+     */
+    public static SSLContext getNoStrictSSLContext() {
+        return noStrictSSLContext;
+    }
+
     /**
      * Allows using self signed certificates https connections
      * makes all the clients and servers trusted no matter the certificate
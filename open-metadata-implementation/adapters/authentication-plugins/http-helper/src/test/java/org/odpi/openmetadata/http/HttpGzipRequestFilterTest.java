@@ -0,0 +1,189 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.http;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.testng.Assert.*;
+
+public class HttpGzipRequestFilterTest {
+
+    private static final String BODY = "{\"class\":\"EntityDetail\",\"guid\":\"1234\"}";
+
+    @Test
+    /**
+     * Tests that a gzip encoded body is presented decompressed.
+     */
+    public void testCompressedRequestIsDecompressed() throws Exception {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getHeader("Content-Encoding")).thenReturn("gzip");
+        Mockito.when(request.getInputStream()).thenReturn(servletInputStream(gzip(BODY)));
+        FilterChain filterChain = Mockito.mock(FilterChain.class);
+
+        new HttpGzipRequestFilter().doFilter(request, Mockito.mock(ServletResponse.class), filterChain);
+
+        ArgumentCaptor<ServletRequest> captor = ArgumentCaptor.forClass(ServletRequest.class);
+        Mockito.verify(filterChain).doFilter(captor.capture(), Mockito.any());
+        HttpServletRequest filtered = (HttpServletRequest) captor.getValue();
+
+        assertEquals(new String(filtered.getInputStream().readAllBytes(), StandardCharsets.UTF_8), BODY);
+        assertNull(filtered.getHeader("Content-Encoding"));
+        assertEquals(filtered.getContentLength(), -1);
+    }
+
+    @Test
+    /**
+     * Tests that requests without a content encoding are passed through untouched.
+     */
+    public void testUncompressedRequestIsUnchanged() throws Exception {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        FilterChain filterChain = Mockito.mock(FilterChain.class);
+        ServletResponse response = Mockito.mock(ServletResponse.class);
+
+        new HttpGzipRequestFilter().doFilter(request, response, filterChain);
+
+        Mockito.verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    /**
+     * Tests that the reader also returns the decompressed body.
+     */
+    public void testCompressedRequestReader() throws Exception {
+        HttpServletRequest filtered = filter(gzip(BODY));
+
+        assertEquals(filtered.getReader().readLine(), BODY);
+    }
+
+    @Test
+    /**
+     * Tests that an empty body sent with a gzip encoding reads as empty rather than failing.
+     */
+    public void testEmptyCompressedRequest() throws Exception {
+        HttpServletRequest filtered = filter(new byte[0]);
+        ServletInputStream inputStream = filtered.getInputStream();
+
+        assertEquals(inputStream.readAllBytes().length, 0);
+        assertTrue(inputStream.isFinished());
+    }
+
+    @Test
+    /**
+     * Tests that an asynchronous reader is told that the whole decompressed body is available.
+     */
+    public void testReadListenerIsNotified() throws Exception {
+        ServletInputStream inputStream = filter(gzip(BODY)).getInputStream();
+        ReadListener readListener = Mockito.mock(ReadListener.class);
+
+        inputStream.setReadListener(readListener);
+
+        Mockito.verify(readListener).onDataAvailable();
+        Mockito.verify(readListener).onAllDataRead();
+        assertTrue(inputStream.isReady());
+        assertEquals(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8), BODY);
+    }
+
+    @Test
+    /**
+     * Tests that a body that decompresses to more than the limit is rejected without being passed on.
+     */
+    public void testOversizedRequestIsRejected() throws Exception {
+        HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+        FilterChain filterChain = Mockito.mock(FilterChain.class);
+
+        new HttpGzipRequestFilter(BODY.length() - 1).doFilter(gzipRequest(gzip(BODY)), response, filterChain);
+
+        Mockito.verify(response).sendError(Mockito.eq(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE), Mockito.anyString());
+        Mockito.verifyNoInteractions(filterChain);
+    }
+
+    @Test
+    /**
+     * Tests that a body that decompresses to exactly the limit is accepted.
+     */
+    public void testRequestAtLimitIsAccepted() throws Exception {
+        FilterChain filterChain = Mockito.mock(FilterChain.class);
+
+        new HttpGzipRequestFilter(BODY.length()).doFilter(gzipRequest(gzip(BODY)), Mockito.mock(HttpServletResponse.class), filterChain);
+
+        Mockito.verify(filterChain).doFilter(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    /**
+     * Tests that a body that is not gzip data is rejected as a bad request.
+     */
+    public void testInvalidCompressedRequestIsRejected() throws Exception {
+        HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+        FilterChain filterChain = Mockito.mock(FilterChain.class);
+
+        new HttpGzipRequestFilter().doFilter(gzipRequest(BODY.getBytes(StandardCharsets.UTF_8)), response, filterChain);
+
+        Mockito.verify(response).sendError(Mockito.eq(HttpServletResponse.SC_BAD_REQUEST), Mockito.anyString());
+        Mockito.verifyNoInteractions(filterChain);
+    }
+
+    private HttpServletRequest filter(byte[] body) throws Exception {
+        FilterChain filterChain = Mockito.mock(FilterChain.class);
+
+        new HttpGzipRequestFilter().doFilter(gzipRequest(body), Mockito.mock(ServletResponse.class), filterChain);
+
+        ArgumentCaptor<ServletRequest> captor = ArgumentCaptor.forClass(ServletRequest.class);
+        Mockito.verify(filterChain).doFilter(captor.capture(), Mockito.any());
+        return (HttpServletRequest) captor.getValue();
+    }
+
+    private HttpServletRequest gzipRequest(byte[] body) throws IOException {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getHeader("Content-Encoding")).thenReturn("gzip");
+        Mockito.when(request.getInputStream()).thenReturn(servletInputStream(body));
+        return request;
+    }
+
+    private byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private ServletInputStream servletInputStream(byte[] content) {
+        ByteArrayInputStream source = new ByteArrayInputStream(content);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return source.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+            }
+
+            @Override
+            public int read() {
+                return source.read();
+            }
+        };
+    }
+}
@@ -14,6 +14,8 @@ import org.apache.kafka.clients.consumer.*;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsCounter;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,6 +73,15 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     private long countMessagesToProcess = 0;
     private long countMessagesFailedToProcess = 0;
 
+    private static final String CONSUMER_LAG_METRIC       = "kafka_consumer_lag_messages";
+    private static final String UNPROCESSED_EVENTS_METRIC = "kafka_consumer_unprocessed_events";
+
+    private final MetricsCounter receivedMessagesCounter;
+    private final MetricsCounter ignoredMessagesCounter;
+    private final MetricsCounter failedMessagesCounter;
+    private final MetricsCounter commitsCounter;
+    private volatile long        consumerLag = 0;
+
 
     /**
      * Constructor for the event consumer.
@@ -117,6 +128,29 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         long messageTimeoutMins = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.CONSUMER_EVENT_PROCESSING_TIMEOUT_MINS);
         this.messageProcessingTimeoutMs = messageTimeoutMins < 0 ? messageTimeoutMins : TimeUnit.MILLISECONDS.convert(messageTimeoutMins, TimeUnit.MINUTES);
 
+        MetricsRegistry metricsRegistry = MetricsRegistry.getPlatformRegistry();
+
+        this.receivedMessagesCounter = metricsRegistry.getCounter("kafka_consumer_messages_received_total",
+                                                                  "Number of messages received from the topic.",
+                                                                  "topic", topicName, "server", localServerId);
+        this.ignoredMessagesCounter = metricsRegistry.getCounter("kafka_consumer_messages_ignored_total",
+                                                                 "Number of messages received from the topic that were sent by this server.",
+                                                                 "topic", topicName, "server", localServerId);
+        this.failedMessagesCounter = metricsRegistry.getCounter("kafka_consumer_messages_failed_total",
+                                                                "Number of messages received from the topic that could not be passed to the listeners.",
+                                                                "topic", topicName, "server", localServerId);
+        this.commitsCounter = metricsRegistry.getCounter("kafka_consumer_commits_total",
+                                                         "Number of offsets recorded for commit.",
+                                                         "topic", topicName, "server", localServerId);
+
+        metricsRegistry.registerGauge(CONSUMER_LAG_METRIC,
+                                      "Number of messages on the topic's assigned partitions that the consumer has not yet received, as of the last poll.",
+                                      () -> consumerLag,
+                                      "topic", topicName, "server", localServerId);
+        metricsRegistry.registerGauge(UNPROCESSED_EVENTS_METRIC,
+                                      "Number of received events waiting to be processed by the listeners.",
+                                      connector::getNumberOfUnprocessedEvents,
+                                      "topic", topicName, "server", localServerId);
     }
 
     private static boolean getBooleanProperty(Properties p, String name, boolean defaultValue) {
@@ -177,12 +211,15 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                 final Duration pollDuration = Duration.ofMillis(pollTimeout);
                 final ConsumerRecords<String, String> records = consumer.poll(pollDuration);
                 
+                updateConsumerLag();
+
                 log.debug("Found records: {}", records.count());
                 for (ConsumerRecord<String, String> consumerRecord : records)
                 {
                     String json = consumerRecord.value();
                     log.debug("Received message: {}" ,json);
                     countReceivedMessages++;
+                    receivedMessagesCounter.increment();
                     log.debug("Metrics: receivedMessages: {}", countReceivedMessages);
                     final KafkaIncomingEvent event = new KafkaIncomingEvent(json, consumerRecord.offset());
                     final String recordKey=consumerRecord.key();
@@ -199,6 +236,7 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                         catch (Exception error)
                         {
                             countMessagesFailedToProcess++;
+                            failedMessagesCounter.increment();
                             log.debug("Metrics: messagesFailedToProcess: {}", countMessagesFailedToProcess);
                             log.warn("Error distributing inbound event: {}", error.getMessage());
 
@@ -217,6 +255,7 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                     {
                         log.debug("Ignoring message with key: {} and value: {}",recordKey, recordValue);
                         countIgnoredMessages++;
+                        ignoredMessagesCounter.increment();
                         log.debug("Metrics: ignoredMessages: {}", countIgnoredMessages);
                     }
 
@@ -231,6 +270,7 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                         final TopicPartition partition = new TopicPartition(consumerRecord.topic(), consumerRecord.partition());
                         currentOffsets.put(partition, new OffsetAndMetadata(consumerRecord.offset() + 1));
                         countCommits++;
+                        commitsCounter.increment();
                         log.debug("Metrics: messageCommits: {}", countCommits);
                     
                     }
@@ -317,6 +357,28 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
 
     }
 
+    /**
+     * Total the lag of the partitions assigned to this consumer, using the positions and end offsets
+     * returned by the last poll so that no extra calls are made to the brokers.
+     */
+    private void updateConsumerLag()
+    {
+        long totalLag = 0;
+
+        for (TopicPartition topicPartition : consumer.assignment())
+        {
+            OptionalLong partitionLag = consumer.currentLag(topicPartition);
+
+            if (partitionLag.isPresent())
+            {
+                totalLag = totalLag + partitionLag.getAsLong();
+            }
+        }
+
+        consumerLag = totalLag;
+    }
+
+
     private void addUnprocessedEvent(int partition, String topic, KafkaIncomingEvent event) {
         if (isAutoCommitEnabled) {
             return;
@@ -506,6 +568,9 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         log.debug("Closing consumer");
         stopRunning();
 
+        MetricsRegistry.getPlatformRegistry().removeGauge(CONSUMER_LAG_METRIC, "topic", topicToSubscribe, "server", localServerId);
+        MetricsRegistry.getPlatformRegistry().removeGauge(UNPROCESSED_EVENTS_METRIC, "topic", topicToSubscribe, "server", localServerId);
+
         /*
          * Wake the thread up so it shuts down quicker.
          */
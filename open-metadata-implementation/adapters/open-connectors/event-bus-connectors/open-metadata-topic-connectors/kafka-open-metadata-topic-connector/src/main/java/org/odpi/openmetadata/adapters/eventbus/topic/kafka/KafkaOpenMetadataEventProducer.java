@@ -8,6 +8,9 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.errors.RetriableException;
 import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsCounter;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsRegistry;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsTimer;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +46,13 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
     private long kafkaSendFailCount = 0;
     private long messageFailedSendCount = 0;
 
+    private static final String SEND_BUFFER_METRIC = "kafka_producer_send_buffer_events";
+
+    private final MetricsCounter messagesSentCounter;
+    private final MetricsCounter sendFailuresCounter;
+    private final MetricsCounter messagesFailedCounter;
+    private final MetricsTimer sendTimer;
+
 
     /**
      * Constructor for the event producer.
@@ -59,6 +69,26 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
         this.localServerId = localServerId;
         this.producerProperties = producerProperties;
 
+        MetricsRegistry metricsRegistry = MetricsRegistry.getPlatformRegistry();
+
+        this.messagesSentCounter = metricsRegistry.getCounter("kafka_producer_messages_sent_total",
+                                                              "Number of messages sent to the topic.",
+                                                              "topic", topicName, "server", localServerId);
+        this.sendFailuresCounter = metricsRegistry.getCounter("kafka_producer_send_failures_total",
+                                                              "Number of attempts to send a message to the topic that failed.",
+                                                              "topic", topicName, "server", localServerId);
+        this.messagesFailedCounter = metricsRegistry.getCounter("kafka_producer_messages_failed_total",
+                                                                "Number of messages that could not be sent to the topic.",
+                                                                "topic", topicName, "server", localServerId);
+        this.sendTimer = metricsRegistry.getTimer("kafka_producer_send_seconds",
+                                                  "Time taken for the topic to acknowledge a message.",
+                                                  "topic", topicName, "server", localServerId);
+
+        metricsRegistry.registerGauge(SEND_BUFFER_METRIC,
+                                      "Number of events waiting to be sent to the topic.",
+                                      this::getSendBufferSize,
+                                      "topic", topicName, "server", localServerId);
+
         final String           actionDescription = "new producer";
 
         if (auditLog != null) {
@@ -108,12 +138,16 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
                 ProducerRecord<String, String> producerRecord = new ProducerRecord<>(topicName, localServerId, event);
                 kafkaSendAttemptCount++;
                 log.debug("Metrics: kafkaSendAttemptCount {}", kafkaSendAttemptCount);
+                long startTime = System.nanoTime();
                 producer.send(producerRecord).get();
+                sendTimer.recordSince(startTime);
                 eventSent = true;
                 messageSendCount++;
+                messagesSentCounter.increment();
                 log.debug("Metrics: messageSendCount {}", messageSendCount);
             } catch (ExecutionException error) {
                 kafkaSendFailCount++;
+                sendFailuresCounter.increment();
                 log.debug("Metrics: kafkaSendFailCount {}", kafkaSendFailCount);
                 /*
                  * This may be a simple timeout or something else more
@@ -129,6 +163,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
                     producer = null;
 
                     messageFailedSendCount++;
+                    messagesFailedCounter.increment();
                     log.warn(messageFailedCountString, messageFailedSendCount);
 
                     throw new ConnectorCheckedException(
@@ -141,6 +176,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
                     producer.close();
                     producer = null;
                     messageFailedSendCount++;
+                    messagesFailedCounter.increment();
                     log.warn(messageFailedCountString, messageFailedSendCount);
                     log.error("Retryable Exception closed producer after {} tries", eventRetryCount);
                     break;
@@ -171,6 +207,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
                 }
 
                 messageFailedSendCount++;
+                messagesFailedCounter.increment();
                 log.warn(messageFailedCountString, messageFailedSendCount);
 
                 throw new ConnectorCheckedException(
@@ -326,6 +363,8 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
      */
     public void safeCloseProducer() {
         stopRunning();
+
+        MetricsRegistry.getPlatformRegistry().removeGauge(SEND_BUFFER_METRIC, "topic", topicName, "server", localServerId);
     }
 
 
@@ -0,0 +1,289 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Least recently used cache of upstream and downstream reachability summaries for lineage vertices.
+ * <p>
+ * For a vertex, a set of edge labels and a direction, a closure records every vertex reachable by following
+ * those edges (including the vertex itself) and the ends of those paths, which are the ultimate sources or
+ * destinations of the vertex. Once a closure is cached, ultimate source and destination queries become a
+ * lookup of the ends rather than a traversal whose cost grows with the depth of the lineage.
+ * <p>
+ * Closures are only added by ultimate source and destination queries that missed the cache, and only when
+ * the traversal did not hit its limits, so every entry is exact. Ingestion keeps the cached closures
+ * consistent rather than building new ones: when an edge a -&gt; b is added, every upstream closure that
+ * reaches b is extended with the upstream closure of a, and every downstream closure that reaches a is
+ * extended with the downstream closure of b. If the closure to merge in is not cached, the affected closures
+ * are dropped and rebuilt on their next query. Edge and vertex removals drop the closures that reach the
+ * removed elements.
+ * <p>
+ * Every change moves the cache to a new generation. A query reads the generation before it starts and passes
+ * it to {@link #put}, which drops the closure if the graph has changed in the meantime, so a closure computed
+ * from the graph as it was before a change is never cached after the change. Closures also expire after the
+ * same time to live as the lineage query results.
+ */
+public class LineageClosureCache {
+
+    private final int maxEntries;
+    private final long timeToLiveMillis;
+
+    private final LinkedHashMap<ClosureKey, Closure> closures;
+    private final Map<String, Set<ClosureKey>> keysByVertexGuid = new HashMap<>();
+    private long generation = 0;
+
+    /**
+     * Create a cache.
+     *
+     * @param maxEntries       maximum number of closures held, the least recently used are evicted first; zero or
+     *                         less disables the cache
+     * @param timeToLiveMillis maximum age of a closure; zero or less means closures only leave through invalidation or eviction
+     */
+    public LineageClosureCache(int maxEntries, long timeToLiveMillis) {
+        this.maxEntries = maxEntries;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.closures = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Return whether closures are retained at all.
+     *
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * Return the guids of the ultimate sources ({@link Direction#IN}) or ultimate destinations
+     * ({@link Direction#OUT}) of a vertex, if its closure is cached.
+     *
+     * @param direction  IN for upstream, OUT for downstream
+     * @param edgeLabels labels of the lineage edges followed
+     * @param guid       guid of the queried vertex
+     * @return the guids of the ends, or empty if the closure is not cached
+     */
+    public synchronized Optional<Set<String>> getEnds(Direction direction, List<String> edgeLabels, String guid) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        ClosureKey key = new ClosureKey(direction, edgeLabels, guid);
+        Closure closure = closures.get(key);
+        if (closure == null) {
+            return Optional.empty();
+        }
+        if (timeToLiveMillis > 0 && System.currentTimeMillis() - closure.createTime > timeToLiveMillis) {
+            remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(closure.ends);
+    }
+
+    /**
+     * Return the current generation, to be read before computing a closure that will be passed to {@link #put}.
+     *
+     * @return generation number
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Cache the closure of a vertex.
+     *
+     * @param direction  IN for upstream, OUT for downstream
+     * @param edgeLabels labels of the lineage edges followed
+     * @param guid       guid of the queried vertex
+     * @param ends       guids of the ultimate sources or destinations
+     * @param reachable  guids of every vertex visited by the traversal
+     * @param queryGeneration generation returned by {@link #getGeneration()} before the closure was computed;
+     *                        the closure is discarded if the cache has changed since
+     */
+    public synchronized void put(Direction direction, List<String> edgeLabels, String guid, Collection<String> ends,
+                                 Collection<String> reachable, long queryGeneration) {
+        if (!isEnabled() || queryGeneration != generation) {
+            return;
+        }
+        Set<String> reachableGuids = new HashSet<>(reachable);
+        reachableGuids.add(guid);
+        reachableGuids.addAll(ends);
+        store(new ClosureKey(direction, edgeLabels, guid), new Closure(new HashSet<>(ends), reachableGuids, System.currentTimeMillis()));
+    }
+
+    /**
+     * Fold a new lineage edge into the closures it extends.
+     *
+     * @param edgeLabel label of the new edge
+     * @param fromGuid  guid of the vertex the edge leaves
+     * @param toGuid    guid of the vertex the edge enters
+     */
+    public synchronized void edgeAdded(String edgeLabel, String fromGuid, String toGuid) {
+        generation++;
+        if (closures.isEmpty() || edgeLabel == null || fromGuid == null || toGuid == null) {
+            return;
+        }
+        extend(Direction.IN, edgeLabel, toGuid, fromGuid);
+        extend(Direction.OUT, edgeLabel, fromGuid, toGuid);
+    }
+
+    /**
+     * Drop the closures that reach any of the supplied vertices, for example because an edge between them was
+     * removed or the vertex itself was deleted.
+     *
+     * @param vertexGuids guids of the affected vertices
+     */
+    public synchronized void invalidate(Collection<String> vertexGuids) {
+        generation++;
+        if (closures.isEmpty() || vertexGuids == null) {
+            return;
+        }
+        for (String vertexGuid : vertexGuids) {
+            Set<ClosureKey> keys = keysByVertexGuid.get(vertexGuid);
+            if (keys != null) {
+                new HashSet<>(keys).forEach(this::remove);
+            }
+        }
+    }
+
+    /**
+     * Empty the cache.
+     */
+    public synchronized void clear() {
+        generation++;
+        closures.clear();
+        keysByVertexGuid.clear();
+    }
+
+    /**
+     * Return the number of closures held.
+     *
+     * @return count
+     */
+    public synchronized int size() {
+        return closures.size();
+    }
+
+    /**
+     * Extend the closures in one direction that reach the vertex the new edge is attached to.
+     *
+     * @param direction    direction of the closures to extend
+     * @param edgeLabel    label of the new edge
+     * @param attachedGuid end of the edge that is already inside the closures being extended
+     * @param addedGuid    end of the edge whose own closure is merged in
+     */
+    private void extend(Direction direction, String edgeLabel, String attachedGuid, String addedGuid) {
+        Set<ClosureKey> keys = keysByVertexGuid.get(attachedGuid);
+        if (keys == null) {
+            return;
+        }
+        Map<ClosureKey, Closure> updates = new HashMap<>();
+        for (ClosureKey key : keys) {
+            if (key.direction != direction || !key.edgeLabels.contains(edgeLabel)) {
+                continue;
+            }
+            // closures are immutable, so the merged closure is the one from before this edge even on a cycle
+            Closure added = closures.get(new ClosureKey(direction, key.edgeLabels, addedGuid));
+            updates.put(key, added == null ? null : closures.get(key).extendWith(attachedGuid, added));
+        }
+        updates.forEach((key, closure) -> {
+            remove(key);
+            if (closure != null) {
+                store(key, closure);
+            }
+        });
+    }
+
+    private void store(ClosureKey key, Closure closure) {
+        remove(key);
+        closures.put(key, closure);
+        closure.reachable.forEach(vertexGuid -> keysByVertexGuid.computeIfAbsent(vertexGuid, k -> new HashSet<>()).add(key));
+
+        if (closures.size() > maxEntries) {
+            remove(closures.keySet().iterator().next());
+        }
+    }
+
+    private void remove(ClosureKey key) {
+        Closure removed = closures.remove(key);
+        if (removed == null) {
+            return;
+        }
+        for (String vertexGuid : removed.reachable) {
+            Set<ClosureKey> keys = keysByVertexGuid.get(vertexGuid);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByVertexGuid.remove(vertexGuid);
+                }
+            }
+        }
+    }
+
+    private static final class ClosureKey {
+        private final Direction direction;
+        private final Set<String> edgeLabels;
+        private final String guid;
+
+        private ClosureKey(Direction direction, Collection<String> edgeLabels, String guid) {
+            this.direction = direction;
+            this.edgeLabels = Set.copyOf(edgeLabels);
+            this.guid = guid;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ClosureKey that = (ClosureKey) o;
+            return direction == that.direction && Objects.equals(edgeLabels, that.edgeLabels) && Objects.equals(guid, that.guid);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(direction, edgeLabels, guid);
+        }
+    }
+
+    private static final class Closure {
+        private final Set<String> ends;
+        private final Set<String> reachable;
+        private final long createTime;
+
+        private Closure(Set<String> ends, Set<String> reachable, long createTime) {
+            this.ends = Collections.unmodifiableSet(ends);
+            this.reachable = Collections.unmodifiableSet(reachable);
+            this.createTime = createTime;
+        }
+
+        /**
+         * The attached vertex now has an edge to follow, so it stops being an end, and everything reachable
+         * from the other end of the edge becomes reachable from this closure. The merged closure is as old as
+         * the older of the two.
+         */
+        private Closure extendWith(String attachedGuid, Closure added) {
+            Set<String> newEnds = new HashSet<>(ends);
+            newEnds.addAll(added.ends);
+            newEnds.remove(attachedGuid);
+            Set<String> newReachable = new HashSet<>(reachable);
+            newReachable.addAll(added.reachable);
+            return new Closure(newEnds, newReachable, Math.min(createTime, added.createTime));
+        }
+    }
+}
@@ -14,7 +14,21 @@ import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlinea
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphConnectorProvider.LINEAGE_CLOSURE_CACHE_SIZE;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphConnectorProvider.LINEAGE_QUERY_CACHE_SIZE;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphConnectorProvider.LINEAGE_QUERY_CACHE_TIME_TO_LIVE_SECONDS;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphConnectorProvider.LINEAGE_QUERY_MAX_DEPTH;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphConnectorProvider.LINEAGE_QUERY_MAX_NODES;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphConnectorProvider.LINEAGE_QUERY_PROPERTIES;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.GRAPH_DISCONNECT_ERROR;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.DEFAULT_LINEAGE_CACHE_SIZE;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.DEFAULT_LINEAGE_CACHE_TIME_TO_LIVE_SECONDS;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.DEFAULT_LINEAGE_CLOSURE_CACHE_SIZE;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.DEFAULT_LINEAGE_MAX_DEPTH;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.DEFAULT_LINEAGE_MAX_NODES;
 
 @EqualsAndHashCode(callSuper = true)
 public class LineageGraphConnector extends ConnectorBase implements OpenLineageGraphConnector {
@@ -31,6 +45,8 @@ public class LineageGraphConnector extends ConnectorBase implements OpenLineageG
     private GraphHelper graphHelper;
     private LineageGraphStorageService graphStorageHelper;
     private LineageGraphQueryService lineageGraphQueryService;
+    private LineageQueryCache lineageQueryCache;
+    private LineageClosureCache lineageClosureCache;
     private AuditLog auditLog;
 
     /**
@@ -41,11 +57,27 @@ public class LineageGraphConnector extends ConnectorBase implements OpenLineageG
         try {
             this.graphHelper = new GraphHelper();
 
+            Map<String, Object> configurationProperties = new HashMap<>();
+            if (connectionProperties.getConfigurationProperties() != null) {
+                configurationProperties.putAll(connectionProperties.getConfigurationProperties());
+            }
+            int maxDepth = getIntegerProperty(configurationProperties, LINEAGE_QUERY_MAX_DEPTH, DEFAULT_LINEAGE_MAX_DEPTH);
+            int maxNodes = getIntegerProperty(configurationProperties, LINEAGE_QUERY_MAX_NODES, DEFAULT_LINEAGE_MAX_NODES);
+            int cacheSize = getIntegerProperty(configurationProperties, LINEAGE_QUERY_CACHE_SIZE, DEFAULT_LINEAGE_CACHE_SIZE);
+            long cacheTimeToLive = getIntegerProperty(configurationProperties, LINEAGE_QUERY_CACHE_TIME_TO_LIVE_SECONDS,
+                    (int) DEFAULT_LINEAGE_CACHE_TIME_TO_LIVE_SECONDS);
+            int closureCacheSize = getIntegerProperty(configurationProperties, LINEAGE_CLOSURE_CACHE_SIZE, DEFAULT_LINEAGE_CLOSURE_CACHE_SIZE);
+            LINEAGE_QUERY_PROPERTIES.forEach(configurationProperties::remove);
+
             this.graphHelper.openGraph(connectionProperties.getConnectorType().getConnectorProviderClassName(),
-                    connectionProperties.getConfigurationProperties(), auditLog);
+                    configurationProperties, auditLog);
 
-            this.graphStorageHelper = new LineageGraphStorageService(graphHelper, auditLog);
-            this.lineageGraphQueryService = new LineageGraphQueryService(graphHelper, auditLog);
+            this.lineageQueryCache = new LineageQueryCache(cacheSize, cacheTimeToLive * 1000);
+            this.lineageClosureCache = new LineageClosureCache(closureCacheSize, cacheTimeToLive * 1000);
+            this.lineageGraphQueryService = new LineageGraphQueryService(graphHelper, auditLog, lineageQueryCache, lineageClosureCache,
+                    maxDepth, maxNodes);
+            this.graphStorageHelper = new LineageGraphStorageService(graphHelper, auditLog, lineageGraphQueryService, lineageQueryCache,
+                    lineageClosureCache);
 
         } catch (JanusConnectorException error) {
             log.error(THE_LINEAGE_GRAPH_COULD_NOT_BE_INITIALIZED_DUE_TO_AN_ERROR, error);
@@ -55,6 +87,20 @@ public class LineageGraphConnector extends ConnectorBase implements OpenLineageG
     }
 
 
+    private int getIntegerProperty(Map<String, Object> configurationProperties, String propertyName, int defaultValue) {
+        Object value = configurationProperties.get(propertyName);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.toString());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid value {} for configuration property {}; using {}", value, propertyName, defaultValue);
+            return defaultValue;
+        }
+    }
+
+
     @Override
     public synchronized void disconnect() throws ConnectorCheckedException {
         try {
@@ -71,6 +117,9 @@ public class LineageGraphConnector extends ConnectorBase implements OpenLineageG
     public void performLineageGraphJob() {
         LineageJobHelper lineageJobHelper = new LineageJobHelper(graphHelper, auditLog);
         lineageJobHelper.performLineageGraphJob();
+        // the job adds sub-process vertices and edges throughout the graph
+        lineageQueryCache.clear();
+        lineageClosureCache.clear();
     }
     @Override
     public OpenLineageQueryService getLineageQueryService(){
@@ -5,12 +5,25 @@ package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openline
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.governanceservers.openlineage.graph.LineageGraphProviderBase;
 
+import java.util.List;
+
 public class LineageGraphConnectorProvider extends LineageGraphProviderBase {
 
     static final String CONNECTOR_TYPE_GUID = "e2f657d6-e5bd-11e9-81b4-2a2ae2dbcce4";
     static final String CONNECTOR_TYPE_NAME = "Janus Graph Connector";
     static final String CONNECTOR_TYPE_DESCRIPTION = "Connector supports storing and retrieving entities for lineage from Janus Graph.";
 
+    /*
+     * Configuration properties read by the connector itself rather than passed on to JanusGraph or the Gremlin driver.
+     */
+    public static final String LINEAGE_QUERY_MAX_DEPTH = "lineage.query.maxDepth";
+    public static final String LINEAGE_QUERY_MAX_NODES = "lineage.query.maxNodes";
+    public static final String LINEAGE_QUERY_CACHE_SIZE = "lineage.query.cache.size";
+    public static final String LINEAGE_QUERY_CACHE_TIME_TO_LIVE_SECONDS = "lineage.query.cache.timeToLiveSeconds";
+    public static final String LINEAGE_CLOSURE_CACHE_SIZE = "lineage.closure.cache.size";
+    public static final List<String> LINEAGE_QUERY_PROPERTIES = List.of(LINEAGE_QUERY_MAX_DEPTH, LINEAGE_QUERY_MAX_NODES,
+            LINEAGE_QUERY_CACHE_SIZE, LINEAGE_QUERY_CACHE_TIME_TO_LIVE_SECONDS, LINEAGE_CLOSURE_CACHE_SIZE);
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * registry store implementation.
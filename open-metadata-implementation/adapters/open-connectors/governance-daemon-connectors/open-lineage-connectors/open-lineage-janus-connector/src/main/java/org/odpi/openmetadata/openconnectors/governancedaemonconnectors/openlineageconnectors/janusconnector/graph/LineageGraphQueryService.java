@@ -4,10 +4,12 @@ package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openline
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -37,6 +39,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -51,7 +54,10 @@ import java.util.stream.Stream;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.hasLabel;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.inE;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.loops;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.or;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.select;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.until;
 import static org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageServerErrorCode.ERROR_ENTITY_NOT_FOUND;
 import static org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageServerErrorCode.ERROR_LINEAGE_NOT_FOUND;
@@ -108,6 +114,8 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.TERM_CATEGORIZATION;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.TOPIC;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.CONDENSED_NODE_DISPLAY_NAME;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.DEFAULT_LINEAGE_MAX_DEPTH;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.DEFAULT_LINEAGE_MAX_NODES;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.DESTINATION_CONDENSATION;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.EDGE_LABEL_CLASSIFICATION;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.EDGE_LABEL_COLUMN_DATA_FLOW;
@@ -129,14 +137,46 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LineageGraphQueryService.class);
 
+    private static final String UPSTREAM_ENDS = "upstreamEnds";
+    private static final String DOWNSTREAM_ENDS = "downstreamEnds";
+    private static final String ENDS = "ends";
+    private static final String VISITED = "visited";
+    private static final String UPSTREAM_VISITED = "upstreamVisited";
+    private static final String DOWNSTREAM_VISITED = "downstreamVisited";
+
     private final GraphHelper graphHelper;
     private final LineageGraphQueryHelper lineageGraphQueryHelper;
     private final AuditLog auditLog;
+    private final LineageQueryCache lineageQueryCache;
+    private final LineageClosureCache lineageClosureCache;
+    private final int maxDepth;
+    private final int maxNodes;
 
     public LineageGraphQueryService(GraphHelper graphHelper, AuditLog auditLog) {
+        this(graphHelper, auditLog, new LineageQueryCache(0, 0), new LineageClosureCache(0, 0), DEFAULT_LINEAGE_MAX_DEPTH,
+                DEFAULT_LINEAGE_MAX_NODES);
+    }
+
+    /**
+     * Create the query service with explicit traversal limits.
+     *
+     * @param graphHelper       helper for running traversals
+     * @param auditLog          destination for errors
+     * @param lineageQueryCache   cache of lineage results, shared with the storage service that invalidates it
+     * @param lineageClosureCache reachability cache answering ultimate source and destination queries, shared
+     *                            with the storage service that maintains it
+     * @param maxDepth          maximum number of hops followed from the queried vertex in each direction
+     * @param maxNodes          maximum number of vertices visited, and of traversal ends collected, in each direction
+     */
+    public LineageGraphQueryService(GraphHelper graphHelper, AuditLog auditLog, LineageQueryCache lineageQueryCache,
+                                    LineageClosureCache lineageClosureCache, int maxDepth, int maxNodes) {
         this.graphHelper = graphHelper;
         this.auditLog = auditLog;
         this.lineageGraphQueryHelper = new LineageGraphQueryHelper(graphHelper);
+        this.lineageQueryCache = lineageQueryCache;
+        this.lineageClosureCache = lineageClosureCache;
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
     }
 
     /**
@@ -150,26 +190,46 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
             return response;
         }
 
+        Optional<LineageVerticesAndEdges> cachedLineage = lineageQueryCache.get(guid, scope, includeProcesses);
+        if (cachedLineage.isPresent()) {
+            return new LineageResponse(cachedLineage.get());
+        }
+        long cacheGeneration = lineageQueryCache.getGeneration();
+
         Optional<LineageVerticesAndEdges> lineageVerticesAndEdges = Optional.empty();
+        Set<String> vertexGuids = new HashSet<>();
 
         switch (scope) {
             case END_TO_END:
-                lineageVerticesAndEdges = endToEnd(guid, includeProcesses);
+                lineageVerticesAndEdges = endToEnd(guid, includeProcesses, vertexGuids);
                 break;
             case ULTIMATE_SOURCE:
-                lineageVerticesAndEdges = ultimateSource(guid);
-                break;
             case ULTIMATE_DESTINATION:
-                lineageVerticesAndEdges = ultimateDestination(guid);
-                break;
+                // answered from the closure cache rather than the result cache
+                return ultimateLineage(scope, guid);
             case VERTICAL:
-                lineageVerticesAndEdges = verticalLineage(guid);
+                lineageVerticesAndEdges = verticalLineage(guid, vertexGuids);
                 break;
         }
         if (lineageVerticesAndEdges.isEmpty()) {
             return getLineageResponse(guid, ERROR_LINEAGE_NOT_FOUND);
         }
-        return new LineageResponse(lineageVerticesAndEdges.orElse(null));
+
+        LineageVerticesAndEdges lineage = lineageVerticesAndEdges.get();
+        if (lineage.getLineageVertices() != null) {
+            lineage.getLineageVertices().stream().map(LineageVertex::getGuid).filter(StringUtils::isNotEmpty).forEach(vertexGuids::add);
+        }
+        lineageQueryCache.put(guid, scope, includeProcesses, lineage, vertexGuids, !lineage.isTruncated(), cacheGeneration);
+        return new LineageResponse(lineage);
+    }
+
+    private LineageResponse ultimateLineage(Scope scope, String guid) {
+        Optional<LineageVerticesAndEdges> lineageVerticesAndEdges =
+                scope == Scope.ULTIMATE_SOURCE ? ultimateSource(guid) : ultimateDestination(guid);
+        if (lineageVerticesAndEdges.isEmpty()) {
+            return getLineageResponse(guid, ERROR_LINEAGE_NOT_FOUND);
+        }
+        return new LineageResponse(lineageVerticesAndEdges.get());
     }
 
     private LineageResponse checkEntityExists(GraphTraversalSource g, String guid) {
@@ -203,6 +263,10 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
      * @return graph in an Open Lineage specific format
      */
     public Optional<LineageVerticesAndEdges> endToEnd(String guid, boolean includeProcesses) {
+        return endToEnd(guid, includeProcesses, new HashSet<>());
+    }
+
+    private Optional<LineageVerticesAndEdges> endToEnd(String guid, boolean includeProcesses, Set<String> vertexGuids) {
 
         Vertex queriedVertex = this.graphHelper.getResult(this::getQueriedVertex, guid, this::handleGetQueriedVertexException);
         String label = queriedVertex.label();
@@ -213,32 +277,96 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
         }
         List<String> edgeLabels = edgeLabelsOptional.get();
 
-        Graph endToEndGraph = this.graphHelper.getResult(this::queryEndToEnd, guid, edgeLabels, this::handleLineageNotFoundException);
-        if (endToEndGraph == null || !endToEndGraph.vertices().hasNext()) {
+        BoundedTraversal<Graph> endToEnd = this.graphHelper.getResult(this::queryEndToEnd, guid, edgeLabels, this::handleLineageNotFoundException);
+        if (endToEnd == null || !endToEnd.getResult().vertices().hasNext()) {
             return Optional.empty();
         }
+        Graph endToEndGraph = endToEnd.getResult();
+        collectVertexGuids(endToEndGraph, vertexGuids);
 
         LineageVerticesAndEdges lineageVerticesAndEdges = this.lineageGraphQueryHelper.getLineageVerticesAndEdges(endToEndGraph, includeProcesses);
+        lineageVerticesAndEdges.setTruncated(endToEnd.isTruncated());
         addIncompleteClassifications(lineageVerticesAndEdges);
         this.lineageGraphQueryHelper.addColumnProperties(lineageVerticesAndEdges);
         return Optional.of(lineageVerticesAndEdges);
     }
 
     /**
-     * Queries graph for end to end
+     * Queries graph for end to end. Each direction stops after the configured number of hops, once the configured
+     * number of vertices has been visited, and once the configured number of traversal ends has been collected.
      *
      * @param guid       queried entity
      * @param edgeLabels edge type to traverse
-     * @return graph
+     * @return graph, and whether either direction was cut short
      */
-    private Graph queryEndToEnd(GraphTraversalSource g, String guid, List<String> edgeLabels) {
+    private BoundedTraversal<Graph> queryEndToEnd(GraphTraversalSource g, String guid, List<String> edgeLabels) {
         String[] labels = edgeLabels.toArray(new String[0]);
-        return (Graph) g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
-                union(until(inE(labels).count().is(0)).
-                                repeat((Traversal) inE(labels).subgraph(SUB_GRAPH).outV().simplePath().dedup()),
-                        until(outE(labels).count().is(0)).
-                                repeat((Traversal) outE(labels).subgraph(SUB_GRAPH).inV().simplePath().dedup())
-                ).cap(SUB_GRAPH).next();
+        Map<String, Object> sideEffects = (Map<String, Object>) g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
+                union(until(or(inE(labels).count().is(0), loops().is(maxDepth), visitedAtLeast(UPSTREAM_VISITED))).
+                                repeat((Traversal) inE(labels).subgraph(SUB_GRAPH).outV().simplePath().dedup().aggregate(UPSTREAM_VISITED)).
+                                limit(maxNodes).aggregate(UPSTREAM_ENDS),
+                        until(or(outE(labels).count().is(0), loops().is(maxDepth), visitedAtLeast(DOWNSTREAM_VISITED))).
+                                repeat((Traversal) outE(labels).subgraph(SUB_GRAPH).inV().simplePath().dedup().aggregate(DOWNSTREAM_VISITED)).
+                                limit(maxNodes).aggregate(DOWNSTREAM_ENDS)
+                ).cap(SUB_GRAPH, UPSTREAM_ENDS, DOWNSTREAM_ENDS, UPSTREAM_VISITED, DOWNSTREAM_VISITED).next();
+
+        Collection<Vertex> upstreamEnds = (Collection<Vertex>) sideEffects.get(UPSTREAM_ENDS);
+        Collection<Vertex> downstreamEnds = (Collection<Vertex>) sideEffects.get(DOWNSTREAM_ENDS);
+        boolean truncated = isBudgetSpent((Collection<Vertex>) sideEffects.get(UPSTREAM_VISITED))
+                || isBudgetSpent((Collection<Vertex>) sideEffects.get(DOWNSTREAM_VISITED))
+                || isCutShort(g, upstreamEnds, Direction.IN, labels) || isCutShort(g, downstreamEnds, Direction.OUT, labels);
+        return new BoundedTraversal<>((Graph) sideEffects.get(SUB_GRAPH), truncated);
+    }
+
+    /**
+     * Stop condition for a repeat step that aggregates the vertices it reaches into visitedKey: true once the
+     * configured number of vertices has been visited, so wide fan-outs stop expanding instead of walking the
+     * whole graph before the ends are limited.
+     *
+     * @param visitedKey side effect holding the vertices visited so far
+     * @return traversal that yields a result once the budget is spent
+     */
+    private Traversal<?, ?> visitedAtLeast(String visitedKey) {
+        return select(visitedKey).count(org.apache.tinkerpop.gremlin.process.traversal.Scope.local).is(P.gte(maxNodes));
+    }
+
+    private boolean isBudgetSpent(Collection<Vertex> visited) {
+        return visited != null && visited.size() >= maxNodes;
+    }
+
+    /**
+     * A bounded traversal was cut short if it collected its full budget of ends, or if any of the ends it
+     * stopped at still has lineage edges to follow, which only happens when the depth limit was reached
+     * (cycles are removed by simplePath rather than ending at a vertex).
+     *
+     * @param g          traversal source
+     * @param ends       vertices the traversal stopped at
+     * @param direction  direction the traversal was following
+     * @param labels     edge labels followed
+     * @return true if more lineage exists beyond the ends
+     */
+    private boolean isCutShort(GraphTraversalSource g, Collection<Vertex> ends, Direction direction, String[] labels) {
+        if (CollectionUtils.isEmpty(ends)) {
+            return false;
+        }
+        if (ends.size() >= maxNodes) {
+            return true;
+        }
+        Object[] ids = ends.stream().map(Vertex::id).toArray();
+        if (direction == Direction.IN) {
+            return g.V(ids).where(inE(labels)).limit(1).hasNext();
+        }
+        return g.V(ids).where(outE(labels)).limit(1).hasNext();
+    }
+
+    private void collectVertexGuids(Graph graph, Set<String> vertexGuids) {
+        Iterator<Vertex> vertices = graph.vertices();
+        while (vertices.hasNext()) {
+            VertexProperty<Object> guidProperty = vertices.next().property(PROPERTY_KEY_ENTITY_GUID);
+            if (guidProperty.isPresent()) {
+                vertexGuids.add(guidProperty.value().toString());
+            }
+        }
     }
 
     private void handleLineageNotFoundException(Exception e, String guid, List<String> edgeLabels) {
@@ -274,9 +402,67 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
             return Optional.empty();
         }
         List<String> edgeLabels = edgeLabelsOptional.get();
-        List<Vertex> sourcesList = this.graphHelper.getResult(this::querySources, guid, edgeLabels, this::handleLineageNotFoundException);
-        Set<LineageVertex> lineageVertices = this.lineageGraphQueryHelper.getLineageVertices(sourcesList);
-        return Optional.of(getCondensedLineage(queriedVertex, lineageVertices, SOURCE_CONDENSATION));
+        BoundedTraversal<List<Vertex>> sources = getUltimateEnds(Direction.IN, guid, edgeLabels);
+        if (sources == null) {
+            return Optional.empty();
+        }
+        Set<LineageVertex> lineageVertices = this.lineageGraphQueryHelper.getLineageVertices(sources.getResult());
+        LineageVerticesAndEdges condensedLineage = getCondensedLineage(queriedVertex, lineageVertices, SOURCE_CONDENSATION);
+        condensedLineage.setTruncated(sources.isTruncated());
+        return Optional.of(condensedLineage);
+    }
+
+    /**
+     * Returns the ultimate sources or destinations of a vertex, looking them up in the closure cache when it holds
+     * the closure of the vertex, and otherwise traversing the graph and caching the closure found.
+     *
+     * @param direction  IN for sources, OUT for destinations
+     * @param guid       entity
+     * @param edgeLabels edge type to traverse
+     * @return ends, and whether the traversal was cut short
+     */
+    private BoundedTraversal<List<Vertex>> getUltimateEnds(Direction direction, String guid, List<String> edgeLabels) {
+        Optional<Set<String>> cachedEnds = lineageClosureCache.getEnds(direction, edgeLabels, guid);
+        if (cachedEnds.isPresent()) {
+            List<Vertex> ends = graphHelper.getResult(this::getVerticesByGuid, cachedEnds.get(), this::handleGetVerticesByGuidException);
+            if (ends != null && ends.size() == cachedEnds.get().size()) {
+                return new BoundedTraversal<>(ends, false);
+            }
+            // a vertex was removed without the cache hearing about it
+            lineageClosureCache.invalidate(cachedEnds.get());
+        }
+
+        long cacheGeneration = lineageClosureCache.getGeneration();
+        BoundedTraversal<List<Vertex>> ends = direction == Direction.IN ?
+                graphHelper.getResult(this::querySources, guid, edgeLabels, this::handleLineageNotFoundException) :
+                graphHelper.getResult(this::queryDestinations, guid, edgeLabels, this::handleLineageNotFoundException);
+        if (ends != null && !ends.isTruncated() && ends.getVisitedGuids() != null) {
+            Set<String> endGuids = getGuids(ends.getResult());
+            if (endGuids.size() == ends.getResult().size()) {
+                lineageClosureCache.put(direction, edgeLabels, guid, endGuids, ends.getVisitedGuids(), cacheGeneration);
+            }
+        }
+        return ends;
+    }
+
+    private List<Vertex> getVerticesByGuid(GraphTraversalSource g, Set<String> guids) {
+        return g.V().has(PROPERTY_KEY_ENTITY_GUID, P.within(guids)).toList();
+    }
+
+    private void handleGetVerticesByGuidException(Exception e, Set<String> guids) {
+        auditLog.logException(COULD_NOT_RETRIEVE_VERTEX.getFormattedErrorMessage(guids.toString()),
+                COULD_NOT_RETRIEVE_VERTEX.getMessageDefinition(guids.toString()), e);
+    }
+
+    private Set<String> getGuids(Collection<Vertex> vertices) {
+        Set<String> guids = new HashSet<>();
+        for (Vertex vertex : vertices) {
+            VertexProperty<Object> guidProperty = vertex.property(PROPERTY_KEY_ENTITY_GUID);
+            if (guidProperty.isPresent()) {
+                guids.add(guidProperty.value().toString());
+            }
+        }
+        return guids;
     }
 
     /**
@@ -284,15 +470,16 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
      *
      * @param guid       entity
      * @param edgeLabels edge type to traverse
-     * @return sources
+     * @return sources, whether the traversal was cut short, and the guids of the vertices it visited
      */
-    private List<Vertex> querySources(GraphTraversalSource g, String guid, List<String> edgeLabels) {
+    private BoundedTraversal<List<Vertex>> querySources(GraphTraversalSource g, String guid, List<String> edgeLabels) {
         String[] labels = edgeLabels.toArray(new String[0]);
-        List<Vertex> sourceList = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
-                until(inE(labels).count().is(0)).
-                repeat(inE(labels).outV().simplePath().dedup()).
-                dedup().toList();
-        return sourceList;
+        Map<String, Object> sideEffects = (Map<String, Object>) g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
+                until(or(inE(labels).count().is(0), loops().is(maxDepth), visitedAtLeast(VISITED))).
+                repeat(inE(labels).outV().simplePath().dedup().aggregate(VISITED)).
+                dedup().limit(maxNodes).aggregate(ENDS).
+                cap(ENDS, VISITED).next();
+        return getBoundedEnds(g, sideEffects, Direction.IN, labels);
     }
 
     /**
@@ -312,9 +499,14 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
             return Optional.empty();
         }
         List<String> edgeLabels = edgeLabelsOptional.get();
-        List<Vertex> destinationsList = graphHelper.getResult(this::queryDestinations, guid, edgeLabels, this::handleLineageNotFoundException);
-        Set<LineageVertex> lineageVertices = this.lineageGraphQueryHelper.getLineageVertices(destinationsList);
-        return Optional.of(getCondensedLineage(queriedVertex, lineageVertices, DESTINATION_CONDENSATION));
+        BoundedTraversal<List<Vertex>> destinations = getUltimateEnds(Direction.OUT, guid, edgeLabels);
+        if (destinations == null) {
+            return Optional.empty();
+        }
+        Set<LineageVertex> lineageVertices = this.lineageGraphQueryHelper.getLineageVertices(destinations.getResult());
+        LineageVerticesAndEdges condensedLineage = getCondensedLineage(queriedVertex, lineageVertices, DESTINATION_CONDENSATION);
+        condensedLineage.setTruncated(destinations.isTruncated());
+        return Optional.of(condensedLineage);
 
     }
 
@@ -323,16 +515,24 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
      *
      * @param guid       entity
      * @param edgeLabels edge type to traverse
-     * @return sources
+     * @return destinations, whether the traversal was cut short, and the guids of the vertices it visited
      */
-    private List<Vertex> queryDestinations(GraphTraversalSource g, String guid, List<String> edgeLabels) {
+    private BoundedTraversal<List<Vertex>> queryDestinations(GraphTraversalSource g, String guid, List<String> edgeLabels) {
         String[] labels = edgeLabels.toArray(new String[0]);
-        List<Vertex> destinationList = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
-                until(outE(labels).count().is(0)).
-                repeat(outE(labels).inV().simplePath().dedup()).
-                dedup().toList();
+        Map<String, Object> sideEffects = (Map<String, Object>) g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
+                until(or(outE(labels).count().is(0), loops().is(maxDepth), visitedAtLeast(VISITED))).
+                repeat(outE(labels).inV().simplePath().dedup().aggregate(VISITED)).
+                dedup().limit(maxNodes).aggregate(ENDS).
+                cap(ENDS, VISITED).next();
+        return getBoundedEnds(g, sideEffects, Direction.OUT, labels);
+    }
 
-        return destinationList;
+    private BoundedTraversal<List<Vertex>> getBoundedEnds(GraphTraversalSource g, Map<String, Object> sideEffects,
+                                                          Direction direction, String[] labels) {
+        List<Vertex> ends = new ArrayList<>((Collection<Vertex>) sideEffects.get(ENDS));
+        Set<String> visitedGuids = getGuids((Collection<Vertex>) sideEffects.get(VISITED));
+        boolean truncated = isBudgetSpent((Collection<Vertex>) sideEffects.get(VISITED)) || isCutShort(g, ends, direction, labels);
+        return new BoundedTraversal<>(ends, truncated, visitedGuids);
     }
 
     /**
@@ -343,6 +543,10 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
      * @return a subgraph in an Open Lineage specific format
      */
     public Optional<LineageVerticesAndEdges> verticalLineage(String guid) {
+        return verticalLineage(guid, new HashSet<>());
+    }
+
+    private Optional<LineageVerticesAndEdges> verticalLineage(String guid, Set<String> vertexGuids) {
         Vertex queriedVertex = this.graphHelper.getResult(this::getQueriedVertex, guid, this::handleGetQueriedVertexException);
         String label = queriedVertex.label();
         Graph graph;
@@ -364,6 +568,7 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
             default:
                 return Optional.empty();
         }
+        collectVertexGuids(graph, vertexGuids);
         LineageVerticesAndEdges lineageVerticesAndEdges = this.lineageGraphQueryHelper.getLineageVerticesAndEdges(graph, true);
         addIncompleteClassifications(lineageVerticesAndEdges);
         this.lineageGraphQueryHelper.addColumnProperties(lineageVerticesAndEdges);
@@ -637,13 +842,15 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
         if (CollectionUtils.isEmpty(hierarchyEdgeLabels)) {
             return new LineageVerticesAndEdges();
         }
-        Graph hierarchyGraph = this.graphHelper.getResult(this::queryEndToEnd, elementHierarchyRequest.getGuid(), hierarchyEdgeLabels,
+        BoundedTraversal<Graph> hierarchy = this.graphHelper.getResult(this::queryEndToEnd, elementHierarchyRequest.getGuid(), hierarchyEdgeLabels,
                 this::handleLineageNotFoundException);
-        if (hierarchyGraph == null || !hierarchyGraph.vertices().hasNext()) {
+        if (hierarchy == null || !hierarchy.getResult().vertices().hasNext()) {
             return new LineageVerticesAndEdges();
         }
 
-        return this.lineageGraphQueryHelper.getLineageVerticesAndEdges(hierarchyGraph, true);
+        LineageVerticesAndEdges hierarchyVerticesAndEdges = this.lineageGraphQueryHelper.getLineageVerticesAndEdges(hierarchy.getResult(), true);
+        hierarchyVerticesAndEdges.setTruncated(hierarchy.isTruncated());
+        return hierarchyVerticesAndEdges;
     }
 
     private List<String> getHierarchyEdgeLabels(ElementHierarchyRequest elementHierarchyRequest) {
@@ -816,4 +1023,37 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
     private void handleGetElementHierarchyException(Exception e, ElementHierarchyRequest elementHierarchyRequest) {
         auditLog.logException(HIERARCHY_ERROR.getFormattedErrorMessage(), SEARCH_ERROR.getMessageDefinition(elementHierarchyRequest.toString()), e);
     }
+
+    /**
+     * Result of a traversal that is limited in depth and size, with a flag recording whether the limits cut it short.
+     *
+     * @param <T> type of the traversal result
+     */
+    private static final class BoundedTraversal<T> {
+        private final T result;
+        private final boolean truncated;
+        private final Set<String> visitedGuids;
+
+        private BoundedTraversal(T result, boolean truncated) {
+            this(result, truncated, null);
+        }
+
+        private BoundedTraversal(T result, boolean truncated, Set<String> visitedGuids) {
+            this.result = result;
+            this.truncated = truncated;
+            this.visitedGuids = visitedGuids;
+        }
+
+        T getResult() {
+            return result;
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        Set<String> getVisitedGuids() {
+            return visitedGuids;
+        }
+    }
 }
@@ -22,14 +22,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.addE;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.addV;
@@ -84,11 +88,31 @@ public class LineageGraphStorageService implements LineageGraph {
     private LineageGraphQueryService helper;
     private GraphHelper graphHelper;
     private AuditLog auditLog;
+    private LineageQueryCache lineageQueryCache;
+    private LineageClosureCache lineageClosureCache;
 
     public LineageGraphStorageService(GraphHelper graphHelper, AuditLog auditLog) {
+        this(graphHelper, auditLog, new LineageGraphQueryService(graphHelper, auditLog), new LineageQueryCache(0, 0),
+                new LineageClosureCache(0, 0));
+    }
+
+    /**
+     * Create the storage service sharing the query service, its cache and its closure cache, so that changes
+     * to the graph invalidate the cached lineage and maintain the reachability summaries that depend on them.
+     *
+     * @param graphHelper         helper for running traversals
+     * @param auditLog            destination for errors
+     * @param helper              query service
+     * @param lineageQueryCache   cache of lineage results to invalidate
+     * @param lineageClosureCache reachability cache to maintain
+     */
+    public LineageGraphStorageService(GraphHelper graphHelper, AuditLog auditLog, LineageGraphQueryService helper,
+                                      LineageQueryCache lineageQueryCache, LineageClosureCache lineageClosureCache) {
         this.graphHelper = graphHelper;
         this.auditLog = auditLog;
-        this.helper = new LineageGraphQueryService(graphHelper, auditLog);
+        this.helper = helper;
+        this.lineageQueryCache = lineageQueryCache;
+        this.lineageClosureCache = lineageClosureCache;
     }
 
     /**
@@ -99,6 +123,11 @@ public class LineageGraphStorageService implements LineageGraph {
     @Override
     public void storeToGraph(Set<GraphContext> graphContext) {
         graphContext.stream().map(this::getGraphRelationship).forEach(this::storeRelationship);
+        graphContext.forEach(context -> lineageClosureCache.edgeAdded(context.getRelationshipType(),
+                context.getFromVertex().getGuid(), context.getToVertex().getGuid()));
+        lineageQueryCache.invalidateConnections(graphContext.stream()
+                .flatMap(context -> Stream.of(context.getFromVertex().getGuid(), context.getToVertex().getGuid()))
+                .collect(Collectors.toSet()));
     }
 
     private GraphRelationship getGraphRelationship(GraphContext entry) {
@@ -171,6 +200,11 @@ public class LineageGraphStorageService implements LineageGraph {
                 this.graphHelper.getResult(this::getAllNeighbours, syncUpdateContext.getEntityGUID(), this::handleErrorGetAllNeighbours);
         if (isDifferentGraphContext(syncUpdateContext.getNeighboursGUID(), existingNeighboursGUIDs)) {
             this.graphHelper.commit(this::removeObsoleteEdges, syncUpdateContext, existingNeighboursGUIDs, this::handleErrorRemoveObsoleteEdges);
+
+            Set<String> affectedGUIDs = new HashSet<>(existingNeighboursGUIDs);
+            affectedGUIDs.add(syncUpdateContext.getEntityGUID());
+            lineageQueryCache.invalidateConnections(affectedGUIDs);
+            lineageClosureCache.invalidate(affectedGUIDs);
         }
     }
 
@@ -229,7 +263,7 @@ public class LineageGraphStorageService implements LineageGraph {
     @Override
     public void updateEntity(LineageEntity lineageEntity) {
         this.graphHelper.commit(this::updateEntityInGraph, lineageEntity, this::handleUpdateEntityError);
-
+        lineageQueryCache.invalidateVertices(Collections.singleton(lineageEntity.getGuid()));
     }
 
     private void updateEntityInGraph(GraphTraversalSource g, LineageEntity entity) {
@@ -284,6 +318,17 @@ public class LineageGraphStorageService implements LineageGraph {
 
         BiConsumer<GraphTraversalSource, LineageRelationship> addOrUpdatePropertiesEdge = this::addOrUpdatePropertiesEdge;
         graphHelper.commit(addOrUpdatePropertiesEdge, lineageRelationship, this::handlePropertiesEdgeException);
+
+        lineageQueryCache.invalidateConnections(getEndGUIDs(lineageRelationship));
+        if (lineageRelationship.getSourceEntity() != null && lineageRelationship.getTargetEntity() != null) {
+            lineageClosureCache.edgeAdded(lineageRelationship.getTypeDefName(), lineageRelationship.getSourceEntity().getGuid(),
+                    lineageRelationship.getTargetEntity().getGuid());
+        }
+    }
+
+    private Set<String> getEndGUIDs(LineageRelationship lineageRelationship) {
+        return Stream.of(lineageRelationship.getSourceEntity(), lineageRelationship.getTargetEntity())
+                .filter(Objects::nonNull).map(LineageEntity::getGuid).collect(Collectors.toSet());
     }
 
     /**
@@ -334,6 +379,7 @@ public class LineageGraphStorageService implements LineageGraph {
     public void updateRelationship(LineageRelationship lineageRelationship) {
         BiConsumer<GraphTraversalSource, LineageRelationship> updateEdgeIfItExists = this::updateEdgeIfItExists;
         this.graphHelper.commit(updateEdgeIfItExists, lineageRelationship, this::handlePropertiesEdgeException);
+        lineageQueryCache.invalidateVertices(getEndGUIDs(lineageRelationship));
     }
 
     private void updateEdgeIfItExists(GraphTraversalSource g, LineageRelationship lineageRelationship) {
@@ -353,6 +399,13 @@ public class LineageGraphStorageService implements LineageGraph {
     @Override
     public void updateClassification(Set<GraphContext> classificationContext) {
         classificationContext.forEach(context -> this.graphHelper.commit(this::updateClassification, context, this::handleUpdateClassificationException));
+        lineageQueryCache.invalidateVertices(getClassifiedGUIDs(classificationContext));
+    }
+
+    private Set<String> getClassifiedGUIDs(Set<GraphContext> classificationContext) {
+        return classificationContext.stream()
+                .flatMap(context -> Stream.of(context.getFromVertex().getGuid(), context.getToVertex().getGuid()))
+                .collect(Collectors.toSet());
     }
 
     private void updateClassification(GraphTraversalSource g, GraphContext graphContext) {
@@ -386,6 +439,7 @@ public class LineageGraphStorageService implements LineageGraph {
     public void deleteClassification(Set<GraphContext> classificationContext) {
         BiConsumer<GraphTraversalSource, GraphContext> deleteClassification = this::deleteClassification;
         classificationContext.forEach(classification -> graphHelper.commit(deleteClassification, classification, this::handleDeleteClassificationException));
+        lineageQueryCache.invalidateVertices(getClassifiedGUIDs(classificationContext));
     }
 
     private void deleteClassification(GraphTraversalSource g, GraphContext context) {
@@ -419,16 +473,23 @@ public class LineageGraphStorageService implements LineageGraph {
 
     @Override
     public void deleteRelationship(String guid) {
+        Set<String> endGUIDs = new HashSet<>();
         BiConsumer<GraphTraversalSource, String> deleteRelationship = (g, edgeGuid) -> {
             Iterator<Edge> edge = g.E().has(PROPERTY_KEY_RELATIONSHIP_GUID, edgeGuid);
             if (!edge.hasNext()) {
                 log.debug(EDGE_WITH_GUID_DID_NOT_DELETE, edgeGuid);
                 return;
             }
-            g.E(edge.next().id()).drop().iterate();
+            Object edgeId = edge.next().id();
+            g.E(edgeId).bothV().values(PROPERTY_KEY_ENTITY_GUID).forEachRemaining(endGuid -> endGUIDs.add(endGuid.toString()));
+            g.E(edgeId).drop().iterate();
             log.debug(EDGE_WITH_GUID_DELETED, edgeGuid);
         };
         graphHelper.commit(deleteRelationship, guid, this::handleDeleteRelationshipException);
+        if (!endGUIDs.isEmpty()) {
+            lineageQueryCache.invalidateConnections(endGUIDs);
+            lineageClosureCache.invalidate(endGUIDs);
+        }
     }
 
     private void handleDeleteRelationshipException(Exception e) {
@@ -445,6 +506,8 @@ public class LineageGraphStorageService implements LineageGraph {
          * */
         BiConsumer<GraphTraversalSource, String> deleteEntity = this::deleteEntity;
         this.graphHelper.commit(deleteEntity, guid, this::handleDeleteEntityException);
+        lineageQueryCache.invalidateConnections(Collections.singleton(guid));
+        lineageClosureCache.invalidate(Collections.singleton(guid));
         log.debug(VERTEX_WITH_GUID_DELETED, guid);
     }
 
@@ -0,0 +1,279 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph;
+
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageEdge;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVertex;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVerticesAndEdges;
+import org.odpi.openmetadata.governanceservers.openlineage.model.Scope;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Bounded, time limited cache of lineage query results keyed by (guid, scope, includeProcesses).
+ * <p>
+ * Each entry remembers the guids of the vertices its result was built from. Property changes to a vertex
+ * invalidate the entries that contain it. Changes to the edges of a vertex also invalidate every entry that
+ * does not cover the whole region that was traversed (truncated results), since a new or removed edge
+ * anywhere upstream or downstream may change them.
+ * <p>
+ * Every invalidation moves the cache to a new generation. A query reads the generation before it starts and
+ * passes it to {@link #put}, which drops the result if an invalidation happened in the meantime, so a
+ * result computed from the graph as it was before a change is never cached after the change.
+ * Results are copied on the way in and on the way out, so callers never share the cached instances.
+ */
+public class LineageQueryCache {
+
+    private final int maxEntries;
+    private final long timeToLiveMillis;
+
+    private final LinkedHashMap<CacheKey, CacheEntry> entries;
+    private final Map<String, Set<CacheKey>> keysByVertexGuid = new HashMap<>();
+    private long generation = 0;
+
+    /**
+     * Create a cache.
+     *
+     * @param maxEntries       maximum number of lineage results held; zero or less disables the cache
+     * @param timeToLiveMillis maximum age of an entry; zero or less means entries only leave through invalidation or eviction
+     */
+    public LineageQueryCache(int maxEntries, long timeToLiveMillis) {
+        this.maxEntries = maxEntries;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Return whether results are retained at all.
+     *
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * Look up a previously computed lineage.
+     *
+     * @param guid             queried entity
+     * @param scope            lineage scope
+     * @param includeProcesses include processes
+     * @return the cached result or empty
+     */
+    public synchronized Optional<LineageVerticesAndEdges> get(String guid, Scope scope, boolean includeProcesses) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        CacheKey key = new CacheKey(guid, scope, includeProcesses);
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (timeToLiveMillis > 0 && System.currentTimeMillis() - entry.createTime > timeToLiveMillis) {
+            remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(copyOf(entry.result));
+    }
+
+    /**
+     * Return the current generation, to be read before computing a result that will be passed to {@link #put}.
+     *
+     * @return generation number
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Save a computed lineage.
+     *
+     * @param guid             queried entity
+     * @param scope            lineage scope
+     * @param includeProcesses include processes
+     * @param result           lineage returned to the caller
+     * @param vertexGuids      guids of the vertices the result depends on
+     * @param selfContained    true if the vertices cover every vertex the traversal visited
+     * @param queryGeneration  generation returned by {@link #getGeneration()} before the result was computed;
+     *                         the result is discarded if the cache has been invalidated since
+     */
+    public synchronized void put(String guid, Scope scope, boolean includeProcesses, LineageVerticesAndEdges result,
+                                 Collection<String> vertexGuids, boolean selfContained, long queryGeneration) {
+        if (!isEnabled() || result == null || queryGeneration != generation) {
+            return;
+        }
+        CacheKey key = new CacheKey(guid, scope, includeProcesses);
+        remove(key);
+
+        Set<String> dependencies = new HashSet<>(vertexGuids);
+        dependencies.add(guid);
+        entries.put(key, new CacheEntry(copyOf(result), dependencies, selfContained));
+        dependencies.forEach(vertexGuid -> keysByVertexGuid.computeIfAbsent(vertexGuid, k -> new HashSet<>()).add(key));
+
+        if (entries.size() > maxEntries) {
+            remove(entries.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Drop the entries built from any of the vertices whose properties or classifications have changed.
+     *
+     * @param vertexGuids guids of the changed vertices
+     */
+    public synchronized void invalidateVertices(Collection<String> vertexGuids) {
+        generation++;
+        if (entries.isEmpty() || vertexGuids == null) {
+            return;
+        }
+        for (String vertexGuid : vertexGuids) {
+            Set<CacheKey> keys = keysByVertexGuid.get(vertexGuid);
+            if (keys != null) {
+                new HashSet<>(keys).forEach(this::remove);
+            }
+        }
+    }
+
+    /**
+     * Drop the entries affected by edges being added to or removed from the supplied vertices.
+     *
+     * @param vertexGuids guids of the vertices at either end of the changed edges
+     */
+    public synchronized void invalidateConnections(Collection<String> vertexGuids) {
+        invalidateVertices(vertexGuids);
+
+        Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<CacheKey, CacheEntry> entry = iterator.next();
+            if (!entry.getValue().selfContained) {
+                iterator.remove();
+                unlink(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Empty the cache.
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+        keysByVertexGuid.clear();
+    }
+
+    /**
+     * Return the number of results held.
+     *
+     * @return count
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Return a copy of the lineage that shares no mutable state with the original. The sets of the copy
+     * can not be modified.
+     *
+     * @param lineage lineage to copy
+     * @return copy
+     */
+    private static LineageVerticesAndEdges copyOf(LineageVerticesAndEdges lineage) {
+        LineageVerticesAndEdges copy = new LineageVerticesAndEdges();
+        if (lineage.getLineageVertices() != null) {
+            Set<LineageVertex> vertices = new HashSet<>();
+            lineage.getLineageVertices().forEach(vertex -> vertices.add(copyOf(vertex)));
+            copy.setLineageVertices(Collections.unmodifiableSet(vertices));
+        }
+        if (lineage.getLineageEdges() != null) {
+            // edges have no setters, so the instances can be shared
+            Set<LineageEdge> edges = new HashSet<>(lineage.getLineageEdges());
+            copy.setLineageEdges(Collections.unmodifiableSet(edges));
+        }
+        copy.setTruncated(lineage.isTruncated());
+        return copy;
+    }
+
+    private static LineageVertex copyOf(LineageVertex vertex) {
+        if (vertex == null) {
+            return null;
+        }
+        LineageVertex copy = new LineageVertex(vertex.getNodeID(), vertex.getNodeType());
+        copy.setId(vertex.getId());
+        copy.setGuid(vertex.getGuid());
+        copy.setDisplayName(vertex.getDisplayName());
+        copy.setQualifiedName(vertex.getQualifiedName());
+        if (vertex.getProperties() != null) {
+            copy.setProperties(Collections.unmodifiableMap(new HashMap<>(vertex.getProperties())));
+        }
+        return copy;
+    }
+
+    private void remove(CacheKey key) {
+        CacheEntry removed = entries.remove(key);
+        if (removed != null) {
+            unlink(key, removed);
+        }
+    }
+
+    private void unlink(CacheKey key, CacheEntry entry) {
+        for (String vertexGuid : entry.vertexGuids) {
+            Set<CacheKey> keys = keysByVertexGuid.get(vertexGuid);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByVertexGuid.remove(vertexGuid);
+                }
+            }
+        }
+    }
+
+    private static final class CacheKey {
+        private final String guid;
+        private final Scope scope;
+        private final boolean includeProcesses;
+
+        private CacheKey(String guid, Scope scope, boolean includeProcesses) {
+            this.guid = guid;
+            this.scope = scope;
+            this.includeProcesses = includeProcesses;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return includeProcesses == cacheKey.includeProcesses && Objects.equals(guid, cacheKey.guid) && scope == cacheKey.scope;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(guid, scope, includeProcesses);
+        }
+    }
+
+    private static final class CacheEntry {
+        private final LineageVerticesAndEdges result;
+        private final Set<String> vertexGuids;
+        private final boolean selfContained;
+        private final long createTime = System.currentTimeMillis();
+
+        private CacheEntry(LineageVerticesAndEdges result, Set<String> vertexGuids, boolean selfContained) {
+            this.result = result;
+            this.vertexGuids = Collections.unmodifiableSet(vertexGuids);
+            this.selfContained = selfContained;
+        }
+    }
+}
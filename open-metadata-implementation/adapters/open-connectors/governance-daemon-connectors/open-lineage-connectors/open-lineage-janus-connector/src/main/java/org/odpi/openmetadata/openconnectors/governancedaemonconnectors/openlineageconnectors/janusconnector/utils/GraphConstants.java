@@ -64,6 +64,13 @@ public class GraphConstants {
     public static final String SOURCE_CONDENSATION = "source";
     public static final String DESTINATION_CONDENSATION = "destination";
 
+    // LIMITS AND CACHING FOR LINEAGE QUERIES
+    public static final int DEFAULT_LINEAGE_MAX_DEPTH = 50;
+    public static final int DEFAULT_LINEAGE_MAX_NODES = 5000;
+    public static final int DEFAULT_LINEAGE_CACHE_SIZE = 500;
+    public static final long DEFAULT_LINEAGE_CACHE_TIME_TO_LIVE_SECONDS = 600;
+    public static final int DEFAULT_LINEAGE_CLOSURE_CACHE_SIZE = 10000;
+
     public static final String NODE_LABEL_CONDENSED = "condensedNode";
     public static final String NODE_LABEL_PROCESS = "process";
     public static final String NODE_LABEL_SUB_PROCESS = "subProcess";
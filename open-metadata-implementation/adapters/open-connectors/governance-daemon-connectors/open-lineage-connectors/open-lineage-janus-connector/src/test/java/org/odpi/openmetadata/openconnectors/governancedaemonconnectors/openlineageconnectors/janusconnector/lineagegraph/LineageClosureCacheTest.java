@@ -0,0 +1,85 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.lineagegraph;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageClosureCache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class LineageClosureCacheTest {
+
+    private static final List<String> LABELS = List.of("DataFlow", "LineageMapping");
+
+    @Test
+    void addedEdgeExtendsUpstreamClosures() {
+        LineageClosureCache cache = new LineageClosureCache(10, 0);
+        // a -> b -> c and x is a separate source
+        cache.put(Direction.IN, LABELS, "c", Set.of("a"), Set.of("a", "b"), cache.getGeneration());
+        cache.put(Direction.IN, LABELS, "x", Set.of("x"), Collections.emptySet(), cache.getGeneration());
+
+        cache.edgeAdded("DataFlow", "x", "a");
+
+        assertEquals(Set.of("x"), cache.getEnds(Direction.IN, LABELS, "c").get());
+    }
+
+    @Test
+    void addedEdgeExtendsDownstreamClosures() {
+        LineageClosureCache cache = new LineageClosureCache(10, 0);
+        cache.put(Direction.OUT, LABELS, "a", Set.of("b"), Set.of("b"), cache.getGeneration());
+        cache.put(Direction.OUT, LABELS, "c", Set.of("d", "e"), Set.of("d", "e"), cache.getGeneration());
+
+        cache.edgeAdded("LineageMapping", "b", "c");
+
+        assertEquals(Set.of("d", "e"), cache.getEnds(Direction.OUT, LABELS, "a").get());
+    }
+
+    @Test
+    void closureIsDroppedWhenMergedClosureIsUnknown() {
+        LineageClosureCache cache = new LineageClosureCache(10, 0);
+        cache.put(Direction.IN, LABELS, "c", Set.of("a"), Set.of("a", "b"), cache.getGeneration());
+
+        cache.edgeAdded("DataFlow", "unknown", "b");
+
+        assertFalse(cache.getEnds(Direction.IN, LABELS, "c").isPresent());
+    }
+
+    @Test
+    void edgesWithOtherLabelsAreIgnored() {
+        LineageClosureCache cache = new LineageClosureCache(10, 0);
+        cache.put(Direction.IN, LABELS, "c", Set.of("a"), Set.of("a", "b"), cache.getGeneration());
+
+        cache.edgeAdded("SemanticAssignment", "term", "a");
+
+        assertEquals(Set.of("a"), cache.getEnds(Direction.IN, LABELS, "c").get());
+    }
+
+    @Test
+    void closureComputedBeforeChangeIsNotCached() {
+        LineageClosureCache cache = new LineageClosureCache(10, 0);
+        long generation = cache.getGeneration();
+
+        cache.edgeAdded("DataFlow", "x", "a");
+        cache.put(Direction.IN, LABELS, "c", Set.of("a"), Set.of("a", "b"), generation);
+
+        assertFalse(cache.getEnds(Direction.IN, LABELS, "c").isPresent());
+    }
+
+    @Test
+    void removalDropsClosuresThatReachTheVertex() {
+        LineageClosureCache cache = new LineageClosureCache(10, 0);
+        cache.put(Direction.IN, LABELS, "c", Set.of("a"), Set.of("a", "b"), cache.getGeneration());
+        cache.put(Direction.IN, LABELS, "z", Set.of("y"), Set.of("y"), cache.getGeneration());
+
+        cache.invalidate(Collections.singleton("b"));
+
+        assertFalse(cache.getEnds(Direction.IN, LABELS, "c").isPresent());
+        assertEquals(1, cache.size());
+    }
+}
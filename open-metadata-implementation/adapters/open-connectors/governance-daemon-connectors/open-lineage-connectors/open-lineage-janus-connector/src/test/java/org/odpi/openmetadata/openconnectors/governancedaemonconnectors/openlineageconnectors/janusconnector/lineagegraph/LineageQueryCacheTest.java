@@ -0,0 +1,98 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.lineagegraph;
+
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVertex;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVerticesAndEdges;
+import org.odpi.openmetadata.governanceservers.openlineage.model.Scope;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageQueryCache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LineageQueryCacheTest {
+
+    private final LineageVerticesAndEdges result = new LineageVerticesAndEdges(new HashSet<>(), new HashSet<>());
+
+    @Test
+    void disabledCacheHoldsNothing() {
+        LineageQueryCache cache = new LineageQueryCache(0, 0);
+        cache.put("a", Scope.END_TO_END, true, result, Collections.emptySet(), true, cache.getGeneration());
+
+        assertFalse(cache.get("a", Scope.END_TO_END, true).isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        LineageQueryCache cache = new LineageQueryCache(2, 0);
+        cache.put("a", Scope.END_TO_END, true, result, Collections.emptySet(), true, cache.getGeneration());
+        cache.put("b", Scope.END_TO_END, true, result, Collections.emptySet(), true, cache.getGeneration());
+        cache.get("a", Scope.END_TO_END, true);
+        cache.put("c", Scope.END_TO_END, true, result, Collections.emptySet(), true, cache.getGeneration());
+
+        assertTrue(cache.get("a", Scope.END_TO_END, true).isPresent());
+        assertFalse(cache.get("b", Scope.END_TO_END, true).isPresent());
+        assertTrue(cache.get("c", Scope.END_TO_END, true).isPresent());
+    }
+
+    @Test
+    void vertexChangeInvalidatesOnlyDependentEntries() {
+        LineageQueryCache cache = new LineageQueryCache(10, 0);
+        cache.put("a", Scope.END_TO_END, true, result, Arrays.asList("x", "y"), true, cache.getGeneration());
+        cache.put("b", Scope.VERTICAL, false, result, Collections.singleton("z"), true, cache.getGeneration());
+
+        cache.invalidateVertices(Collections.singleton("y"));
+
+        assertFalse(cache.get("a", Scope.END_TO_END, true).isPresent());
+        assertTrue(cache.get("b", Scope.VERTICAL, false).isPresent());
+    }
+
+    @Test
+    void connectionChangeInvalidatesEntriesThatAreNotSelfContained() {
+        LineageQueryCache cache = new LineageQueryCache(10, 0);
+        cache.put("a", Scope.END_TO_END, true, result, Collections.singleton("x"), true, cache.getGeneration());
+        cache.put("b", Scope.ULTIMATE_SOURCE, true, result, Collections.singleton("y"), false, cache.getGeneration());
+
+        cache.invalidateConnections(Collections.singleton("unrelated"));
+
+        assertTrue(cache.get("a", Scope.END_TO_END, true).isPresent());
+        assertFalse(cache.get("b", Scope.ULTIMATE_SOURCE, true).isPresent());
+    }
+
+    @Test
+    void resultComputedBeforeInvalidationIsNotCached() {
+        LineageQueryCache cache = new LineageQueryCache(10, 0);
+        long generation = cache.getGeneration();
+
+        cache.invalidateVertices(Collections.singleton("x"));
+        cache.put("a", Scope.END_TO_END, true, result, Collections.singleton("x"), true, generation);
+
+        assertFalse(cache.get("a", Scope.END_TO_END, true).isPresent());
+    }
+
+    @Test
+    void cachedResultIsCopied() {
+        LineageQueryCache cache = new LineageQueryCache(10, 0);
+        LineageVertex vertex = new LineageVertex("x", "RelationalColumn");
+        vertex.setDisplayName("before");
+        LineageVerticesAndEdges lineage = new LineageVerticesAndEdges(new HashSet<>(Collections.singleton(vertex)),
+                new HashSet<>());
+        cache.put("a", Scope.END_TO_END, true, lineage, Collections.singleton("x"), true, cache.getGeneration());
+
+        vertex.setDisplayName("after");
+        LineageVerticesAndEdges first = cache.get("a", Scope.END_TO_END, true).get();
+        first.getLineageVertices().iterator().next().setDisplayName("changed");
+        LineageVerticesAndEdges second = cache.get("a", Scope.END_TO_END, true).get();
+
+        assertEquals("before", second.getLineageVertices().iterator().next().getDisplayName());
+        assertThrows(UnsupportedOperationException.class, () -> second.getLineageVertices().clear());
+    }
+}
@@ -0,0 +1,437 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.adapters.connectors.integration.elasticsearch.ffdc.ElasticsearchIntegrationConnectorAuditCode;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * ElasticsearchBulkIndexer batches documents into Elasticsearch bulk requests.  A batch is sent when it holds
+ * the maximum number of documents or bytes, or when the flush interval has passed since the last send.  Batches
+ * are sent on a small pool of threads and the number of requests in flight is capped: once the cap is reached
+ * the caller adding documents waits, so that a fast producer (such as a full reindex) cannot run ahead of the
+ * cluster.  Items rejected because the cluster is busy are retried with an increasing back-off; other
+ * failures are counted and logged.
+ */
+public class ElasticsearchBulkIndexer {
+    private static final Logger log = LoggerFactory.getLogger(ElasticsearchBulkIndexer.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /*
+     * Item statuses that mean the cluster could not accept the document right now.
+     */
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 502, 503, 504);
+
+    private final ElasticsearchClient client;
+    private final String indexName;
+    private final int maxBatchDocuments;
+    private final long maxBatchBytes;
+    private final int maxConcurrentRequests;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final AuditLog auditLog;
+    private final String connectorName;
+
+    private final Semaphore inFlightRequests;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService flushTimer;
+
+    private final AtomicLong documentsIndexed = new AtomicLong();
+    private final AtomicLong documentsFailed = new AtomicLong();
+    private final AtomicLong bulkRequests = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+
+    private List<PendingDocument> pendingDocuments = new ArrayList<>();
+    private long pendingBytes = 0;
+    private long lastSendTime = System.currentTimeMillis();
+    private boolean closed = false;
+
+
+    /**
+     * A document waiting to be sent.
+     */
+    private static class PendingDocument {
+        private final String id;
+        private final JsonNode document;
+
+        PendingDocument(String id, JsonNode document) {
+            this.id = id;
+            this.document = document;
+        }
+    }
+
+
+    /**
+     * Create the indexer and start its flush timer.
+     *
+     * @param client client for the Elasticsearch cluster
+     * @param indexName name of the index to write to
+     * @param maxBatchDocuments maximum number of documents in a bulk request
+     * @param maxBatchBytes approximate maximum size of the documents in a bulk request
+     * @param flushIntervalMillis maximum time a document waits before it is sent (0 to disable time-based sends)
+     * @param maxConcurrentRequests maximum number of bulk requests in flight
+     * @param maxRetries number of times a rejected document is resent
+     * @param retryBackoffMillis wait before the first retry; it doubles for each subsequent retry
+     * @param auditLog logging destination (may be null)
+     * @param connectorName name of the connector for messages
+     */
+    public ElasticsearchBulkIndexer(ElasticsearchClient client,
+                                    String indexName,
+                                    int maxBatchDocuments,
+                                    long maxBatchBytes,
+                                    long flushIntervalMillis,
+                                    int maxConcurrentRequests,
+                                    int maxRetries,
+                                    long retryBackoffMillis,
+                                    AuditLog auditLog,
+                                    String connectorName) {
+        this.client = client;
+        this.indexName = indexName;
+        this.maxBatchDocuments = Math.max(1, maxBatchDocuments);
+        this.maxBatchBytes = Math.max(1, maxBatchBytes);
+        this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffMillis = Math.max(0, retryBackoffMillis);
+        this.auditLog = auditLog;
+        this.connectorName = connectorName;
+
+        this.inFlightRequests = new Semaphore(this.maxConcurrentRequests, true);
+        this.senders = Executors.newFixedThreadPool(this.maxConcurrentRequests, runnable -> {
+            Thread thread = new Thread(runnable, "elasticsearch-bulk-" + indexName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flushTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "elasticsearch-bulk-flush-" + indexName);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (flushIntervalMillis > 0) {
+            flushTimer.scheduleWithFixedDelay(() -> sendIfDue(flushIntervalMillis),
+                    flushIntervalMillis,
+                    flushIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * Queue a document for indexing.  A document with the same id replaces any previous version in the index.
+     * This method blocks if the batch it completes cannot be sent because too many requests are in flight.
+     *
+     * @param id unique identifier of the document
+     * @param document object to serialize as the document
+     * @throws IOException the document could not be serialized
+     * @throws InterruptedException the caller was interrupted while waiting to send
+     */
+    public void add(String id, Object document) throws IOException, InterruptedException {
+        byte[] json = OBJECT_MAPPER.writeValueAsBytes(document);
+        PendingDocument pendingDocument = new PendingDocument(id, OBJECT_MAPPER.readTree(json));
+        List<PendingDocument> batch = null;
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Bulk indexer for " + indexName + " is closed");
+            }
+
+            pendingDocuments.add(pendingDocument);
+            pendingBytes = pendingBytes + json.length;
+
+            if ((pendingDocuments.size() >= maxBatchDocuments) || (pendingBytes >= maxBatchBytes)) {
+                batch = takePendingDocuments();
+            }
+        }
+
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+
+    /**
+     * Send any queued documents and wait for all requests in flight to complete.
+     *
+     * @throws InterruptedException the caller was interrupted while waiting
+     */
+    public void flush() throws InterruptedException {
+        List<PendingDocument> batch;
+
+        synchronized (this) {
+            batch = takePendingDocuments();
+        }
+
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+
+        /*
+         * Holding every permit means no request is in flight.
+         */
+        inFlightRequests.acquire(maxConcurrentRequests);
+        inFlightRequests.release(maxConcurrentRequests);
+    }
+
+
+    /**
+     * Send the remaining documents and stop the indexer's threads.
+     *
+     * @throws InterruptedException the caller was interrupted while waiting
+     */
+    public void close() throws InterruptedException {
+        try {
+            this.flush();
+        } finally {
+            synchronized (this) {
+                closed = true;
+            }
+
+            flushTimer.shutdownNow();
+            senders.shutdown();
+            senders.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+
+    /**
+     * Return the number of documents accepted by the cluster.
+     *
+     * @return count
+     */
+    public long getDocumentsIndexed() {
+        return documentsIndexed.get();
+    }
+
+
+    /**
+     * Return the number of documents that could not be indexed.
+     *
+     * @return count
+     */
+    public long getDocumentsFailed() {
+        return documentsFailed.get();
+    }
+
+
+    /**
+     * Return the number of bulk requests sent, including retries.
+     *
+     * @return count
+     */
+    public long getBulkRequests() {
+        return bulkRequests.get();
+    }
+
+
+    /**
+     * Return the number of times documents were resent after being rejected.
+     *
+     * @return count
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+
+    /**
+     * Called by the flush timer to send documents that have waited for the flush interval.
+     *
+     * @param flushIntervalMillis flush interval
+     */
+    private void sendIfDue(long flushIntervalMillis) {
+        List<PendingDocument> batch = null;
+
+        synchronized (this) {
+            if ((!pendingDocuments.isEmpty()) && (System.currentTimeMillis() - lastSendTime >= flushIntervalMillis)) {
+                batch = takePendingDocuments();
+            }
+        }
+
+        if (batch != null) {
+            try {
+                send(batch);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    /**
+     * Remove the queued documents ready to send them.  The caller must hold the lock on this object.
+     *
+     * @return queued documents
+     */
+    private List<PendingDocument> takePendingDocuments() {
+        List<PendingDocument> batch = pendingDocuments;
+
+        pendingDocuments = new ArrayList<>();
+        pendingBytes = 0;
+        lastSendTime = System.currentTimeMillis();
+
+        return batch;
+    }
+
+
+    /**
+     * Wait for a free request slot and then send the batch on a sender thread.
+     *
+     * @param batch documents to send
+     * @throws InterruptedException the caller was interrupted while waiting for a slot
+     */
+    private void send(List<PendingDocument> batch) throws InterruptedException {
+        inFlightRequests.acquire();
+
+        try {
+            senders.execute(() -> {
+                try {
+                    sendWithRetries(batch);
+                } finally {
+                    inFlightRequests.release();
+                }
+            });
+        } catch (RuntimeException rejected) {
+            inFlightRequests.release();
+            throw rejected;
+        }
+    }
+
+
+    /**
+     * Send a batch, resending any documents the cluster was too busy to accept.  The request slot is held
+     * across the retries so that a struggling cluster sees less traffic rather than more.
+     *
+     * @param batch documents to send
+     */
+    private void sendWithRetries(List<PendingDocument> batch) {
+        final String methodName = "sendWithRetries";
+
+        List<PendingDocument> remaining = batch;
+        int attempt = 0;
+
+        while (!remaining.isEmpty()) {
+            if (attempt > 0) {
+                retries.addAndGet(remaining.size());
+
+                try {
+                    Thread.sleep(retryBackoffMillis << Math.min(attempt - 1, 16));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    recordFailures(remaining.size(), remaining.get(0).id, "interrupted");
+                    return;
+                }
+            }
+
+            Map<String, PendingDocument> documentsById = new HashMap<>();
+            BulkRequest.Builder request = new BulkRequest.Builder();
+
+            for (PendingDocument pendingDocument : remaining) {
+                documentsById.put(pendingDocument.id, pendingDocument);
+                request.operations(operation -> operation.index(index -> index.index(indexName)
+                        .id(pendingDocument.id)
+                        .document(pendingDocument.document)));
+            }
+
+            bulkRequests.incrementAndGet();
+
+            BulkResponse response;
+
+            try {
+                response = client.bulk(request.build());
+            } catch (IOException | RuntimeException error) {
+                log.debug("Bulk request of {} documents failed: {}", remaining.size(), error.getMessage());
+
+                if (attempt < maxRetries) {
+                    attempt++;
+                    continue;
+                }
+
+                documentsFailed.addAndGet(remaining.size());
+
+                if (auditLog != null) {
+                    auditLog.logException(methodName,
+                            ElasticsearchIntegrationConnectorAuditCode.BULK_REQUEST_FAILED.getMessageDefinition(connectorName,
+                                    Integer.toString(remaining.size()),
+                                    indexName,
+                                    error.getClass().getName(),
+                                    error.getMessage()),
+                            error);
+                }
+                return;
+            }
+
+            List<PendingDocument> rejected = new ArrayList<>();
+            int failures = 0;
+            String firstFailureId = null;
+            String firstFailureReason = null;
+
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() == null) {
+                    documentsIndexed.incrementAndGet();
+                } else if (RETRYABLE_STATUSES.contains(item.status()) && (attempt < maxRetries) && documentsById.containsKey(item.id())) {
+                    rejected.add(documentsById.get(item.id()));
+                } else {
+                    failures++;
+
+                    if (firstFailureId == null) {
+                        firstFailureId = item.id();
+                        firstFailureReason = item.error().reason();
+                    }
+                }
+            }
+
+            if (failures > 0) {
+                recordFailures(failures, firstFailureId, firstFailureReason);
+            }
+
+            remaining = rejected;
+            attempt++;
+        }
+    }
+
+
+    /**
+     * Count and log documents that will not be indexed.
+     *
+     * @param failures number of documents
+     * @param firstFailureId id of the first document that failed
+     * @param firstFailureReason reason given for the first failure
+     */
+    private void recordFailures(int failures, String firstFailureId, String firstFailureReason) {
+        final String methodName = "recordFailures";
+
+        documentsFailed.addAndGet(failures);
+
+        if (auditLog != null) {
+            auditLog.logMessage(methodName,
+                    ElasticsearchIntegrationConnectorAuditCode.BULK_ITEMS_FAILED.getMessageDefinition(connectorName,
+                            Integer.toString(failures),
+                            indexName,
+                            firstFailureId,
+                            firstFailureReason));
+        }
+    }
+}
@@ -8,8 +8,6 @@ import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.http.HttpHost;
 import org.elasticsearch.client.RestClient;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogEvent;
@@ -23,6 +21,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -31,19 +30,42 @@ import static org.odpi.openmetadata.adapters.connectors.integration.elasticsearc
 
 /**
  * ElasticsearchIntegrationConnector provides common methods for the connector in this module.
+ * Assets are written to Elasticsearch through an ElasticsearchBulkIndexer, so events that arrive close together
+ * share bulk requests.  When reindexOnStart is set, the first refresh pages through every asset in the
+ * catalog and sends them through the same pipeline to rebuild the index.
  */
 public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector {
     private static final Logger log = LoggerFactory.getLogger(ElasticsearchIntegrationConnector.class);
-    private static final ObjectWriter OBJECT_WRITER = new ObjectMapper().writer();
-    private static final String INDEX_NAME = "indexName";
     private static final String ASSETS_INDEX_NAME = "assets";
 
+    private static final int DEFAULT_BULK_MAX_DOCUMENTS = 1000;
+    private static final long DEFAULT_BULK_MAX_BYTES = 5 * 1024 * 1024;
+    private static final long DEFAULT_BULK_FLUSH_INTERVAL_MILLIS = 1000;
+    private static final int DEFAULT_BULK_MAX_CONCURRENT_REQUESTS = 2;
+    private static final int DEFAULT_BULK_MAX_RETRIES = 3;
+    private static final long DEFAULT_BULK_RETRY_BACKOFF_MILLIS = 200;
+    private static final int DEFAULT_REINDEX_PAGE_SIZE = 500;
+
     private String targetRootURL = null;
     private String targetRootProtocol = null;
     private SearchIntegratorContext myContext = null;
+    private RestClient restClient;
     private ElasticsearchClient client;
+    private volatile ElasticsearchBulkIndexer bulkIndexer = null;
     private String indexName = "test";
 
+    private int bulkMaxDocuments = DEFAULT_BULK_MAX_DOCUMENTS;
+    private long bulkMaxBytes = DEFAULT_BULK_MAX_BYTES;
+    private long bulkFlushIntervalMillis = DEFAULT_BULK_FLUSH_INTERVAL_MILLIS;
+    private int bulkMaxConcurrentRequests = DEFAULT_BULK_MAX_CONCURRENT_REQUESTS;
+    private int bulkMaxRetries = DEFAULT_BULK_MAX_RETRIES;
+    private long bulkRetryBackoffMillis = DEFAULT_BULK_RETRY_BACKOFF_MILLIS;
+    private int reindexPageSize = DEFAULT_REINDEX_PAGE_SIZE;
+    private volatile boolean reindexPending = false;
+    private String badConfigurationProperty = null;
+    private String badConfigurationValue = null;
+    private NumberFormatException badConfigurationException = null;
+
     /**
      * Initialize the connector.
      *
@@ -64,8 +86,23 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
 
         Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
 
-        String configuredIndexName = (String) configurationProperties.get(INDEX_NAME);
+        if (configurationProperties == null) {
+            configurationProperties = Map.of();
+        }
+
+        String configuredIndexName = (String) configurationProperties.get(ElasticsearchIntegrationProvider.INDEX_NAME_CONFIGURATION_PROPERTY);
         this.indexName = Objects.requireNonNullElse(configuredIndexName, ASSETS_INDEX_NAME);
+
+        bulkMaxDocuments = (int) getLongProperty(configurationProperties, ElasticsearchIntegrationProvider.BULK_MAX_DOCUMENTS_CONFIGURATION_PROPERTY, DEFAULT_BULK_MAX_DOCUMENTS);
+        bulkMaxBytes = getLongProperty(configurationProperties, ElasticsearchIntegrationProvider.BULK_MAX_BYTES_CONFIGURATION_PROPERTY, DEFAULT_BULK_MAX_BYTES);
+        bulkFlushIntervalMillis = getLongProperty(configurationProperties, ElasticsearchIntegrationProvider.BULK_FLUSH_INTERVAL_CONFIGURATION_PROPERTY, DEFAULT_BULK_FLUSH_INTERVAL_MILLIS);
+        bulkMaxConcurrentRequests = (int) getLongProperty(configurationProperties, ElasticsearchIntegrationProvider.BULK_MAX_CONCURRENT_CONFIGURATION_PROPERTY, DEFAULT_BULK_MAX_CONCURRENT_REQUESTS);
+        bulkMaxRetries = (int) getLongProperty(configurationProperties, ElasticsearchIntegrationProvider.BULK_MAX_RETRIES_CONFIGURATION_PROPERTY, DEFAULT_BULK_MAX_RETRIES);
+        bulkRetryBackoffMillis = getLongProperty(configurationProperties, ElasticsearchIntegrationProvider.BULK_RETRY_BACKOFF_CONFIGURATION_PROPERTY, DEFAULT_BULK_RETRY_BACKOFF_MILLIS);
+        reindexPageSize = (int) getLongProperty(configurationProperties, ElasticsearchIntegrationProvider.REINDEX_PAGE_SIZE_CONFIGURATION_PROPERTY, DEFAULT_REINDEX_PAGE_SIZE);
+
+        Object reindexOnStart = configurationProperties.get(ElasticsearchIntegrationProvider.REINDEX_ON_START_CONFIGURATION_PROPERTY);
+        reindexPending = (reindexOnStart != null) && Boolean.parseBoolean(reindexOnStart.toString());
     }
 
 
@@ -88,13 +125,129 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
     }
 
     /**
-     * <p>
+     * Runs the full reindex if one has been requested and sends any documents waiting in the bulk pipeline.
      *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
     @Override
     public synchronized void refresh() throws ConnectorCheckedException {
         final String methodName = "refresh";
+
+        if (reindexPending) {
+            reindex();
+        }
+
+        if (bulkIndexer != null) {
+            try {
+                bulkIndexer.flush();
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    /**
+     * Request that the index is rebuilt from the catalog on the next refresh.
+     */
+    public void requestReindex() {
+        reindexPending = true;
+    }
+
+
+    /**
+     * Page through every asset in the catalog and send it to the index through the bulk pipeline.  Pages are
+     * retrieved while earlier pages are still being indexed; the pipeline's cap on requests in flight stops
+     * the retrieval from running ahead of the cluster.
+     *
+     * @return number of assets sent to the index
+     */
+    public synchronized long reindex() {
+        final String methodName = "reindex";
+
+        if (bulkIndexer == null) {
+            return 0;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long failuresBefore = bulkIndexer.getDocumentsFailed();
+        long assetCount = 0;
+
+        if (auditLog != null) {
+            auditLog.logMessage(methodName,
+                    ElasticsearchIntegrationConnectorAuditCode.REINDEX_STARTING.getMessageDefinition(connectorName, indexName));
+        }
+
+        try {
+            int startFrom = 0;
+            List<Asset> assets = getAssetPage(startFrom, reindexPageSize);
+
+            while ((assets != null) && (!assets.isEmpty())) {
+                for (Asset asset : assets) {
+                    if ((asset != null) && (asset.getGUID() != null)) {
+                        bulkIndexer.add(asset.getGUID(), asset);
+                        assetCount++;
+                    }
+                }
+
+                if (assets.size() < reindexPageSize) {
+                    break;
+                }
+
+                startFrom = startFrom + assets.size();
+                assets = getAssetPage(startFrom, reindexPageSize);
+            }
+
+            bulkIndexer.flush();
+            reindexPending = false;
+
+            if (auditLog != null) {
+                auditLog.logMessage(methodName,
+                        ElasticsearchIntegrationConnectorAuditCode.REINDEX_COMPLETE.getMessageDefinition(connectorName,
+                                indexName,
+                                Long.toString(assetCount),
+                                Long.toString(System.currentTimeMillis() - startTime),
+                                Long.toString(bulkIndexer.getDocumentsFailed() - failuresBefore)));
+            }
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        } catch (Exception error) {
+            log.debug("reindex failed after {} assets", assetCount, error);
+            if (auditLog != null) {
+                auditLog.logException(methodName,
+                        ElasticsearchIntegrationConnectorAuditCode.REINDEX_FAILED.getMessageDefinition(connectorName,
+                                indexName,
+                                Long.toString(assetCount),
+                                error.getClass().getName(),
+                                error.getMessage()),
+                        error);
+            }
+        }
+
+        return assetCount;
+    }
+
+
+    /**
+     * Return a page of assets from the catalog for the full reindex.
+     *
+     * @param startFrom starting element
+     * @param pageSize maximum number of assets to return
+     * @return list of assets or null if there are no more
+     * @throws Exception problem retrieving the assets
+     */
+    protected List<Asset> getAssetPage(int startFrom, int pageSize) throws Exception {
+        return myContext.getAssets(startFrom, pageSize);
+    }
+
+
+    /**
+     * Return the bulk pipeline used to write to the index.
+     *
+     * @return bulk indexer or null if the connector has not started
+     */
+    public ElasticsearchBulkIndexer getBulkIndexer() {
+        return bulkIndexer;
     }
 
 
@@ -108,6 +261,25 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
         final String methodName = "disconnect";
 
         log.debug("disconnecting");
+
+        if (bulkIndexer != null) {
+            try {
+                bulkIndexer.close();
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            bulkIndexer = null;
+        }
+
+        if (restClient != null) {
+            try {
+                restClient.close();
+            } catch (IOException ioException) {
+                log.debug("received exception closing the client " + ioException.getMessage());
+            }
+            restClient = null;
+        }
+
         if (auditLog != null) {
             auditLog.logMessage(methodName,
                     ElasticsearchIntegrationConnectorAuditCode.CONNECTOR_STOPPING.getMessageDefinition(connectorName));
@@ -117,6 +289,15 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
     }
 
     public void initializeElasticSearchClient(String callingMethodName) throws ConnectorCheckedException {
+        if (badConfigurationException != null) {
+            throw new ConnectorCheckedException(BAD_CONFIG.getMessageDefinition(badConfigurationValue,
+                    badConfigurationProperty,
+                    badConfigurationException.getClass().getName(),
+                    badConfigurationException.getMessage()),
+                    this.getClass().getName(),
+                    callingMethodName);
+        }
+
         String[] urlParts = targetRootURL.split(":");
         String hostname = urlParts[0];
         int port;
@@ -127,14 +308,26 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
             throw new ConnectorCheckedException(BAD_CONFIG.getMessageDefinition("port", "targetRootURL", callingMethodName, e.getMessage()), this.getClass().getName(),
                     callingMethodName);
         }
-        RestClient restClient = RestClient.builder(new HttpHost(hostname, port, targetRootProtocol)).build();
+        restClient = RestClient.builder(new HttpHost(hostname, port, targetRootProtocol)).build();
         ElasticsearchTransport transport = new RestClientTransport(restClient, new JacksonJsonpMapper());
         client = new ElasticsearchClient(transport);
 
+        bulkIndexer = new ElasticsearchBulkIndexer(client,
+                indexName,
+                bulkMaxDocuments,
+                bulkMaxBytes,
+                bulkFlushIntervalMillis,
+                bulkMaxConcurrentRequests,
+                bulkMaxRetries,
+                bulkRetryBackoffMillis,
+                auditLog,
+                connectorName);
     }
 
     /**
-     * Save the events received from asset catalog to the Elasticsearch service
+     * Save the events received from asset catalog to the Elasticsearch service.  The asset is queued in the
+     * bulk pipeline and sent with the other assets that arrive within the flush interval.  Events that arrive
+     * before the client is initialized or after the connector has disconnected are ignored.
      *
      * @param assetCatalogEvent the event which contains the asset
      */
@@ -147,14 +340,52 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
         if (asset.getGUID() == null) {
             return;
         }
+        ElasticsearchBulkIndexer indexer = bulkIndexer;
+        if (indexer == null) {
+            log.debug("ignoring asset {} because the connector is not connected to elasticsearch", asset.getGUID());
+            return;
+        }
         log.debug("saving to elasticsearch {}", asset);
         try {
-            String jsonAsset = OBJECT_WRITER.writeValueAsString(asset);
-            client.index(s-> s.index(jsonAsset).index(indexName).id(asset.getGUID()));
+            indexer.add(asset.getGUID(), asset);
 
+        } catch (IllegalStateException closed) {
+            log.debug("ignoring asset {} because the connector has disconnected", asset.getGUID());
         } catch (IOException ioException) {
-            String actionDescription = "The client could not write to the Elasticsearch cluster";
-            auditLog.logException(actionDescription, ElasticsearchIntegrationConnectorAuditCode.IO_EXCEPTION.getMessageDefinition(), ioException);
+            if (auditLog != null) {
+                String actionDescription = "The client could not write to the Elasticsearch cluster";
+                auditLog.logException(actionDescription, ElasticsearchIntegrationConnectorAuditCode.IO_EXCEPTION.getMessageDefinition(connectorName), ioException);
+            }
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
         }
     }
+
+
+    /**
+     * Read a numeric configuration property that may have been supplied as a number or a string.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @return value (the default if the property is not a number; the error is reported when the client starts)
+     */
+    private long getLongProperty(Map<String, Object> configurationProperties, String propertyName, long defaultValue) {
+        Object value = configurationProperties.get(propertyName);
+
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        } else if (value != null) {
+            try {
+                return Long.parseLong(value.toString().trim());
+            } catch (NumberFormatException e) {
+                log.debug("received exception trying to read " + propertyName + " " + e.getMessage());
+                badConfigurationProperty = propertyName;
+                badConfigurationValue = value.toString();
+                badConfigurationException = e;
+            }
+        }
+
+        return defaultValue;
+    }
 }
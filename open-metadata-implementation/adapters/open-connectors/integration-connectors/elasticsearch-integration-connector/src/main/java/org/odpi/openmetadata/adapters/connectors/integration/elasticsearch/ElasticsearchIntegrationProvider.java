@@ -21,6 +21,15 @@ public class ElasticsearchIntegrationProvider extends ConnectorProviderBase
     private static final String connectorTypeDescription   = "Connector used to connect to a Elasticsearch instance and store metadata for search operations";
 
     static final String TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY = "templateQualifiedName";
+    static final String INDEX_NAME_CONFIGURATION_PROPERTY               = "indexName";
+    static final String BULK_MAX_DOCUMENTS_CONFIGURATION_PROPERTY       = "bulkMaxDocuments";
+    static final String BULK_MAX_BYTES_CONFIGURATION_PROPERTY           = "bulkMaxBytes";
+    static final String BULK_FLUSH_INTERVAL_CONFIGURATION_PROPERTY      = "bulkFlushIntervalMillis";
+    static final String BULK_MAX_CONCURRENT_CONFIGURATION_PROPERTY      = "bulkMaxConcurrentRequests";
+    static final String BULK_MAX_RETRIES_CONFIGURATION_PROPERTY         = "bulkMaxRetries";
+    static final String BULK_RETRY_BACKOFF_CONFIGURATION_PROPERTY       = "bulkRetryBackoffMillis";
+    static final String REINDEX_ON_START_CONFIGURATION_PROPERTY         = "reindexOnStart";
+    static final String REINDEX_PAGE_SIZE_CONFIGURATION_PROPERTY        = "reindexPageSize";
 
 
     /**
@@ -43,6 +52,15 @@ public class ElasticsearchIntegrationProvider extends ConnectorProviderBase
 
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(INDEX_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(BULK_MAX_DOCUMENTS_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(BULK_MAX_BYTES_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(BULK_FLUSH_INTERVAL_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(BULK_MAX_CONCURRENT_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(BULK_MAX_RETRIES_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(BULK_RETRY_BACKOFF_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(REINDEX_ON_START_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(REINDEX_PAGE_SIZE_CONFIGURATION_PROPERTY);
 
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
@@ -34,7 +34,43 @@ public enum ElasticsearchIntegrationConnectorAuditCode implements AuditLogMessag
             OMRSAuditLogRecordSeverity.ERROR,
             "The {0} integration connector could not save data to Elasticsearch",
             "The connector is disconnecting.",
-            "Verify the integrity of the ElasticSearch cluster and the client connection.");
+            "Verify the integrity of the ElasticSearch cluster and the client connection."),
+
+
+    BULK_ITEMS_FAILED("ELASTICSEARCH-INTEGRATION-CONNECTOR-0003",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The {0} integration connector could not index {1} documents in index {2}; the first failure was for document {3} with reason: {4}",
+            "The documents are not in the index.  The connector continues to index other documents.",
+            "Check the mapping of the index and the Elasticsearch cluster logs.  Once the cause is corrected, rebuild the index with a full reindex."),
+
+
+    BULK_REQUEST_FAILED("ELASTICSEARCH-INTEGRATION-CONNECTOR-0004",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The {0} integration connector could not send a bulk request of {1} documents to index {2} after retrying; the {3} exception returned the message: {4}",
+            "The documents in the request are not in the index.  The connector continues to index other documents.",
+            "Verify that the Elasticsearch cluster is running and reachable, then rebuild the index with a full reindex."),
+
+
+    REINDEX_STARTING("ELASTICSEARCH-INTEGRATION-CONNECTOR-0005",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The {0} integration connector is rebuilding index {1} from the assets in the catalog",
+            "The connector pages through the catalog and sends the assets to Elasticsearch in bulk requests.",
+            "No action is required.  Asset catalog events continue to be indexed while the reindex runs."),
+
+
+    REINDEX_COMPLETE("ELASTICSEARCH-INTEGRATION-CONNECTOR-0006",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The {0} integration connector has rebuilt index {1} with {2} assets in {3} milliseconds; {4} documents could not be indexed",
+            "The index now reflects the catalog.",
+            "If any documents could not be indexed, look for earlier messages from this connector that describe the failures."),
+
+
+    REINDEX_FAILED("ELASTICSEARCH-INTEGRATION-CONNECTOR-0007",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The {0} integration connector stopped rebuilding index {1} after {2} assets because the {3} exception returned the message: {4}",
+            "The index only holds the assets sent before the failure.  The reindex is tried again on the next refresh.",
+            "Use the exception message to correct the problem with the metadata server or the connector's userId.");
+
     private String logMessageId;
     private OMRSAuditLogRecordSeverity severity;
     private String logMessage;
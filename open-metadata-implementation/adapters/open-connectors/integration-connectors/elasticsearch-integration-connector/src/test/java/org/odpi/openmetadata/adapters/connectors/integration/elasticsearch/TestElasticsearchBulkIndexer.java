@@ -0,0 +1,373 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogEvent;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify the bulk pipeline against a local HTTP server that answers the Elasticsearch bulk API.
+ */
+public class TestElasticsearchBulkIndexer {
+    private static final String INDEX_NAME = "assets";
+    private static final Pattern ID_PATTERN = Pattern.compile("\"_id\"\\s*:\\s*\"([^\"]+)\"");
+
+    private HttpServer server;
+    private RestClient restClient;
+
+    private final Map<String, String> indexedDocuments = new ConcurrentHashMap<>();
+    private final Set<String> rejectOnce = ConcurrentHashMap.newKeySet();
+    private final Set<String> alwaysFail = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger bulkRequests = new AtomicInteger();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private volatile long responseDelayMillis = 0;
+
+
+    @BeforeMethod
+    public void startServer() throws IOException {
+        indexedDocuments.clear();
+        rejectOnce.clear();
+        alwaysFail.clear();
+        bulkRequests.set(0);
+        concurrentRequests.set(0);
+        maxConcurrentRequests.set(0);
+        responseDelayMillis = 0;
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/_bulk", this::handleBulk);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+
+        restClient = RestClient.builder(new HttpHost("localhost", server.getAddress().getPort(), "http")).build();
+    }
+
+
+    @AfterMethod
+    public void stopServer() throws IOException {
+        restClient.close();
+        server.stop(0);
+    }
+
+
+    /**
+     * Documents are grouped into requests of the maximum batch size.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testBatchBySize() throws Exception {
+        ElasticsearchBulkIndexer indexer = getIndexer(10, 0, 2, 3);
+
+        for (int i = 0; i < 95; i++) {
+            indexer.add("guid-" + i, getAsset("guid-" + i));
+        }
+        indexer.close();
+
+        assertEquals(indexedDocuments.size(), 95);
+        assertEquals(bulkRequests.get(), 10);
+        assertEquals(indexer.getDocumentsIndexed(), 95);
+        assertEquals(indexer.getDocumentsFailed(), 0);
+        assertTrue(indexedDocuments.get("guid-7").contains("Asset number 7"));
+    }
+
+
+    /**
+     * A partly filled batch is sent once the flush interval has passed.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testBatchByTime() throws Exception {
+        ElasticsearchBulkIndexer indexer = getIndexer(1000, 50, 2, 3);
+
+        for (int i = 0; i < 3; i++) {
+            indexer.add("guid-" + i, getAsset("guid-" + i));
+        }
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while ((indexedDocuments.size() < 3) && (System.currentTimeMillis() < deadline)) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(indexedDocuments.size(), 3);
+        indexer.close();
+    }
+
+
+    /**
+     * Items the cluster is too busy to accept are resent; items it refuses are counted as failures.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testPartialFailureRetried() throws Exception {
+        rejectOnce.add("guid-3");
+        rejectOnce.add("guid-4");
+        alwaysFail.add("guid-8");
+
+        ElasticsearchBulkIndexer indexer = getIndexer(10, 0, 1, 3);
+
+        for (int i = 0; i < 10; i++) {
+            indexer.add("guid-" + i, getAsset("guid-" + i));
+        }
+        indexer.close();
+
+        assertEquals(indexedDocuments.size(), 9);
+        assertTrue(indexedDocuments.containsKey("guid-3"));
+        assertTrue(indexedDocuments.containsKey("guid-4"));
+        assertEquals(indexer.getDocumentsIndexed(), 9);
+        assertEquals(indexer.getDocumentsFailed(), 1);
+        assertEquals(indexer.getRetries(), 2);
+        assertEquals(bulkRequests.get(), 2);
+    }
+
+
+    /**
+     * No more than the configured number of requests is ever in flight.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testInFlightRequestsCapped() throws Exception {
+        responseDelayMillis = 50;
+
+        ElasticsearchBulkIndexer indexer = getIndexer(5, 0, 2, 3);
+
+        for (int i = 0; i < 100; i++) {
+            indexer.add("guid-" + i, getAsset("guid-" + i));
+        }
+        indexer.close();
+
+        assertEquals(indexedDocuments.size(), 100);
+        assertTrue(maxConcurrentRequests.get() <= 2, "In flight: " + maxConcurrentRequests.get());
+    }
+
+
+    /**
+     * The full reindex pages through the catalog and sends every asset.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testReindex() throws Exception {
+        List<Asset> catalog = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            catalog.add(getAsset("guid-" + i));
+        }
+
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress("localhost:" + server.getAddress().getPort());
+        endpoint.setProtocol("http");
+
+        Connection connection = new Connection();
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(Map.<String, Object>of(ElasticsearchIntegrationProvider.REINDEX_PAGE_SIZE_CONFIGURATION_PROPERTY, 1000,
+                ElasticsearchIntegrationProvider.BULK_MAX_DOCUMENTS_CONFIGURATION_PROPERTY, "400"));
+
+        ElasticsearchIntegrationConnector connector = new ElasticsearchIntegrationConnector() {
+            @Override
+            protected List<Asset> getAssetPage(int startFrom, int pageSize) {
+                return catalog.subList(Math.min(startFrom, catalog.size()), Math.min(startFrom + pageSize, catalog.size()));
+            }
+        };
+
+        connector.initialize("TestConnectorId", new ConnectionProperties(connection));
+        connector.initializeElasticSearchClient("testReindex");
+
+        assertEquals(connector.reindex(), 2500);
+        assertEquals(indexedDocuments.size(), 2500);
+        assertEquals(bulkRequests.get(), 7);
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * Asset events that arrive before the client is initialized, or after the connector has disconnected,
+     * are ignored rather than failing the event listener.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testSaveAssetWhenNotConnected() throws Exception {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress("localhost:" + server.getAddress().getPort());
+        endpoint.setProtocol("http");
+
+        Connection connection = new Connection();
+        connection.setEndpoint(endpoint);
+
+        ElasticsearchIntegrationConnector connector = new ElasticsearchIntegrationConnector();
+        connector.initialize("TestConnectorId", new ConnectionProperties(connection));
+
+        AssetCatalogEvent event = new AssetCatalogEvent();
+        event.setAsset(getAsset("guid-1"));
+
+        connector.saveAsset(event);
+
+        /*
+         * Closing the indexer directly stands in for an event that races with disconnect.
+         */
+        connector.initializeElasticSearchClient("testSaveAssetWhenNotConnected");
+        connector.getBulkIndexer().close();
+        connector.saveAsset(event);
+
+        connector.disconnect();
+        connector.saveAsset(event);
+
+        assertEquals(indexedDocuments.size(), 0);
+    }
+
+
+    /**
+     * Create an indexer that writes to the stand-in server.
+     *
+     * @param maxBatchDocuments documents per request
+     * @param flushIntervalMillis flush interval
+     * @param maxConcurrent requests in flight
+     * @param maxRetries retries for rejected documents
+     * @return indexer
+     */
+    private ElasticsearchBulkIndexer getIndexer(int maxBatchDocuments, long flushIntervalMillis, int maxConcurrent, int maxRetries) {
+        ElasticsearchClient client = new ElasticsearchClient(new RestClientTransport(restClient, new JacksonJsonpMapper()));
+
+        return new ElasticsearchBulkIndexer(client,
+                INDEX_NAME,
+                maxBatchDocuments,
+                1024 * 1024,
+                flushIntervalMillis,
+                maxConcurrent,
+                maxRetries,
+                1,
+                null,
+                "TestConnector");
+    }
+
+
+    /**
+     * Build an asset.
+     *
+     * @param guid unique identifier
+     * @return asset
+     */
+    private Asset getAsset(String guid) {
+        Asset asset = new Asset();
+        asset.setGUID(guid);
+        asset.setQualifiedName("Asset:" + guid);
+        asset.setDisplayName("Asset number " + guid.substring(guid.indexOf('-') + 1));
+
+        return asset;
+    }
+
+
+    /**
+     * Answer a bulk request in the way Elasticsearch does: one item per action, in order, with the
+     * errors flag set if any item failed.
+     *
+     * @param exchange request and response
+     * @throws IOException unable to read the request or write the response
+     */
+    private void handleBulk(HttpExchange exchange) throws IOException {
+        int inFlight = concurrentRequests.incrementAndGet();
+        maxConcurrentRequests.accumulateAndGet(inFlight, Math::max);
+        bulkRequests.incrementAndGet();
+
+        try {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            List<String> lines = new ArrayList<>();
+            for (String line : body.split("\n")) {
+                if (!line.isBlank()) {
+                    lines.add(line);
+                }
+            }
+
+            if (responseDelayMillis > 0) {
+                Thread.sleep(responseDelayMillis);
+            }
+
+            StringBuilder items = new StringBuilder();
+            boolean errors = false;
+
+            for (int i = 0; i + 1 < lines.size(); i = i + 2) {
+                Matcher matcher = ID_PATTERN.matcher(lines.get(i));
+                String id = matcher.find() ? matcher.group(1) : null;
+
+                if (items.length() > 0) {
+                    items.append(',');
+                }
+
+                if (rejectOnce.remove(id)) {
+                    errors = true;
+                    items.append(getErrorItem(id, 429, "es_rejected_execution_exception"));
+                } else if (alwaysFail.contains(id)) {
+                    errors = true;
+                    items.append(getErrorItem(id, 400, "mapper_parsing_exception"));
+                } else {
+                    indexedDocuments.put(id, lines.get(i + 1));
+                    items.append("{\"index\":{\"_index\":\"").append(INDEX_NAME).append("\",\"_id\":\"").append(id)
+                            .append("\",\"_version\":1,\"result\":\"created\",\"status\":201,\"_seq_no\":0,\"_primary_term\":1,")
+                            .append("\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0}}}");
+                }
+            }
+
+            byte[] response = ("{\"took\":1,\"errors\":" + errors + ",\"items\":[" + items + "]}").getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrentRequests.decrementAndGet();
+        }
+    }
+
+
+    /**
+     * Build a failed bulk item.
+     *
+     * @param id document id
+     * @param status HTTP status for the item
+     * @param type error type
+     * @return JSON for the item
+     */
+    private String getErrorItem(String id, int status, String type) {
+        return "{\"index\":{\"_index\":\"" + INDEX_NAME + "\",\"_id\":\"" + id + "\",\"status\":" + status +
+                ",\"error\":{\"type\":\"" + type + "\",\"reason\":\"" + type + " for " + id + "\"}}}";
+    }
+}
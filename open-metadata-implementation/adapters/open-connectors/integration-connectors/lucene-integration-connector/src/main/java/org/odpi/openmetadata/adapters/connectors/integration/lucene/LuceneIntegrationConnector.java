@@ -0,0 +1,582 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.lucene;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogEvent;
+import org.odpi.openmetadata.adapters.connectors.integration.lucene.ffdc.LuceneIntegrationConnectorAuditCode;
+import org.odpi.openmetadata.adapters.connectors.integration.lucene.ffdc.LuceneIntegrationConnectorErrorCode;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementType;
+import org.odpi.openmetadata.integrationservices.search.connector.SearchIntegratorConnector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * LuceneIntegrationConnector maintains an embedded Lucene index of the assets published by the Asset Catalog OMAS.
+ * The index is stored in the directory named by the address of the connection's endpoint.
+ *
+ * Each asset received is added to the index immediately, but changes are only committed to disk in batches -
+ * when the number of uncommitted changes reaches the commit batch size, when the commit interval has passed, or
+ * when the integration daemon refreshes the connector.  Searches see the latest changes whether they are
+ * committed or not.
+ */
+public class LuceneIntegrationConnector extends SearchIntegratorConnector
+{
+    private static final Logger log = LoggerFactory.getLogger(LuceneIntegrationConnector.class);
+
+    static final String GUID_FIELD           = "guid";
+    static final String TYPE_NAME_FIELD      = "typeName";
+    static final String TYPE_NAMES_FIELD     = "typeNames";
+    static final String QUALIFIED_NAME_FIELD = "qualifiedName";
+    static final String DISPLAY_NAME_FIELD   = "displayName";
+    static final String RESOURCE_NAME_FIELD  = "resourceName";
+    static final String DESCRIPTION_FIELD    = "description";
+
+    private static final String[]           SEARCH_FIELDS = {DISPLAY_NAME_FIELD, RESOURCE_NAME_FIELD, QUALIFIED_NAME_FIELD, DESCRIPTION_FIELD};
+    private static final Map<String, Float> FIELD_BOOSTS  = Map.of(DISPLAY_NAME_FIELD,   3.0f,
+                                                                   RESOURCE_NAME_FIELD,  2.0f,
+                                                                   QUALIFIED_NAME_FIELD, 2.0f,
+                                                                   DESCRIPTION_FIELD,    1.0f);
+
+    private static final int  DEFAULT_COMMIT_BATCH_SIZE      = 100;
+    private static final long DEFAULT_COMMIT_INTERVAL_MILLIS = 5000L;
+    private static final int  DEFAULT_PAGE_SIZE              = 100;
+
+    private String indexDirectoryName   = null;
+    private int    commitBatchSize      = DEFAULT_COMMIT_BATCH_SIZE;
+    private long   commitIntervalMillis = DEFAULT_COMMIT_INTERVAL_MILLIS;
+
+    private          Directory       indexDirectory  = null;
+    private          Analyzer        analyzer        = null;
+    private volatile IndexWriter     indexWriter     = null;
+    private volatile SearcherManager searcherManager = null;
+
+    private int  uncommittedChanges = 0;
+    private long lastCommitTime     = 0L;
+    private long committedChanges   = 0L;
+
+
+    /**
+     * Initialize the connector.
+     *
+     * @param connectorInstanceId - unique id for the connector instance - useful for messages etc
+     * @param connectionProperties - POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String               connectorInstanceId,
+                           ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        EndpointProperties endpoint = connectionProperties.getEndpoint();
+
+        if (endpoint != null)
+        {
+            indexDirectoryName = endpoint.getAddress();
+        }
+    }
+
+
+    /**
+     * Indicates that the connector is completely configured and can begin processing.  The index is opened (and created
+     * if necessary).
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public synchronized void start() throws ConnectorCheckedException
+    {
+        super.start();
+
+        final String methodName = "start";
+
+        if ((indexDirectoryName == null) || (indexDirectoryName.isBlank()))
+        {
+            throw new ConnectorCheckedException(LuceneIntegrationConnectorErrorCode.NO_INDEX_DIRECTORY.getMessageDefinition(connectorName),
+                                                this.getClass().getName(),
+                                                methodName);
+        }
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            commitBatchSize = (int) this.getPositiveConfigurationProperty(configurationProperties,
+                                                                          LuceneIntegrationProvider.COMMIT_BATCH_SIZE_CONFIGURATION_PROPERTY,
+                                                                          DEFAULT_COMMIT_BATCH_SIZE,
+                                                                          methodName);
+            commitIntervalMillis = this.getPositiveConfigurationProperty(configurationProperties,
+                                                                         LuceneIntegrationProvider.COMMIT_INTERVAL_CONFIGURATION_PROPERTY,
+                                                                         DEFAULT_COMMIT_INTERVAL_MILLIS,
+                                                                         methodName);
+        }
+
+        try
+        {
+            analyzer = new StandardAnalyzer();
+            indexDirectory = FSDirectory.open(Paths.get(indexDirectoryName));
+
+            IndexWriterConfig indexWriterConfig = new IndexWriterConfig(analyzer);
+            indexWriterConfig.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+
+            indexWriter = new IndexWriter(indexDirectory, indexWriterConfig);
+            searcherManager = new SearcherManager(indexWriter, null);
+            lastCommitTime = System.currentTimeMillis();
+        }
+        catch (IOException error)
+        {
+            this.closeIndex();
+
+            throw new ConnectorCheckedException(LuceneIntegrationConnectorErrorCode.UNABLE_TO_OPEN_INDEX.getMessageDefinition(connectorName,
+                                                                                                                             error.getClass().getName(),
+                                                                                                                             indexDirectoryName,
+                                                                                                                             error.getMessage()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                LuceneIntegrationConnectorAuditCode.CONNECTOR_CONFIGURATION.getMessageDefinition(connectorName,
+                                                                                                                indexDirectoryName,
+                                                                                                                Integer.toString(indexWriter.getDocStats().numDocs),
+                                                                                                                Integer.toString(commitBatchSize),
+                                                                                                                Long.toString(commitIntervalMillis)));
+        }
+    }
+
+
+    /**
+     * Commit any outstanding changes to the index.  This is called periodically by the integration daemon.
+     *
+     * @throws ConnectorCheckedException there is a problem with the connector.
+     */
+    @Override
+    public void refresh() throws ConnectorCheckedException
+    {
+        this.commitChanges(true);
+    }
+
+
+    /**
+     * Add the asset from an event received from Asset Catalog to the index, replacing any earlier version of the asset.
+     *
+     * @param assetCatalogEvent the event which contains the asset
+     */
+    @Override
+    public void saveAsset(AssetCatalogEvent assetCatalogEvent)
+    {
+        final String methodName = "saveAsset";
+
+        if (assetCatalogEvent == null)
+        {
+            return;
+        }
+
+        Asset asset = assetCatalogEvent.getAsset();
+
+        if ((asset == null) || (asset.getGUID() == null))
+        {
+            return;
+        }
+
+        IndexWriter currentIndexWriter = indexWriter;
+
+        if (currentIndexWriter == null)
+        {
+            log.debug("Asset {} received while the index is closed", asset.getGUID());
+            return;
+        }
+
+        try
+        {
+            currentIndexWriter.updateDocument(new Term(GUID_FIELD, asset.getGUID()), this.getDocument(asset));
+
+            synchronized (this)
+            {
+                uncommittedChanges++;
+            }
+
+            this.commitChanges(false);
+        }
+        catch (Exception error)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      LuceneIntegrationConnectorAuditCode.UNABLE_TO_INDEX_ASSET.getMessageDefinition(connectorName,
+                                                                                                                    error.getClass().getName(),
+                                                                                                                    asset.getGUID(),
+                                                                                                                    error.getMessage()),
+                                      error);
+            }
+        }
+    }
+
+
+    /**
+     * Return the assets that match the search criteria, in descending order of relevance.  The search criteria is treated as a set of
+     * keywords: any special characters are escaped.  Changes to the index are visible to the search as soon as they are received,
+     * even if they are not yet committed.
+     *
+     * @param searchCriteria keywords to search for - null or blank means return all assets
+     * @param typeNames limit the results to assets of these types (or their subtypes) - null means any type
+     * @param startFrom index of the first result to return
+     * @param pageSize maximum number of results to return - 0 means the default page size
+     * @return list of results (may be empty)
+     * @throws ConnectorCheckedException the index is not open or could not be searched
+     */
+    public List<LuceneSearchResult> search(String       searchCriteria,
+                                           List<String> typeNames,
+                                           int          startFrom,
+                                           int          pageSize) throws ConnectorCheckedException
+    {
+        final String methodName = "search";
+
+        SearcherManager currentSearcherManager = searcherManager;
+
+        if (currentSearcherManager == null)
+        {
+            throw new ConnectorCheckedException(LuceneIntegrationConnectorErrorCode.NOT_STARTED.getMessageDefinition(connectorName),
+                                                this.getClass().getName(),
+                                                methodName);
+        }
+
+        int firstResult = Math.max(startFrom, 0);
+        int maxResults  = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+
+        try
+        {
+            Query query = this.getQuery(searchCriteria, typeNames);
+
+            currentSearcherManager.maybeRefresh();
+
+            IndexSearcher indexSearcher = currentSearcherManager.acquire();
+
+            try
+            {
+                TopDocs                  topDocs = indexSearcher.search(query, firstResult + maxResults);
+                List<LuceneSearchResult> results = new ArrayList<>();
+
+                for (int i = firstResult; i < topDocs.scoreDocs.length; i++)
+                {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    Document document = indexSearcher.doc(scoreDoc.doc);
+
+                    results.add(new LuceneSearchResult(document.get(GUID_FIELD),
+                                                       document.get(TYPE_NAME_FIELD),
+                                                       document.get(QUALIFIED_NAME_FIELD),
+                                                       document.get(DISPLAY_NAME_FIELD),
+                                                       scoreDoc.score));
+                }
+
+                return results;
+            }
+            finally
+            {
+                currentSearcherManager.release(indexSearcher);
+            }
+        }
+        catch (Exception error)
+        {
+            throw new ConnectorCheckedException(LuceneIntegrationConnectorErrorCode.UNABLE_TO_SEARCH.getMessageDefinition(connectorName,
+                                                                                                                         error.getClass().getName(),
+                                                                                                                         searchCriteria,
+                                                                                                                         error.getMessage()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+    }
+
+
+    /**
+     * Commit any outstanding changes and close the index.
+     *
+     * @throws ConnectorCheckedException something failed in the super class
+     */
+    @Override
+    public synchronized void disconnect() throws ConnectorCheckedException
+    {
+        final String methodName = "disconnect";
+
+        this.commitChanges(true);
+        this.closeIndex();
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                LuceneIntegrationConnectorAuditCode.CONNECTOR_STOPPING.getMessageDefinition(connectorName,
+                                                                                                           Long.toString(committedChanges)));
+        }
+
+        super.disconnect();
+    }
+
+
+    /**
+     * Build the index document for an asset.  The guid and type names are indexed as they are; the names and descriptions
+     * are analyzed for keyword search.
+     *
+     * @param asset asset from the event
+     * @return document
+     */
+    private Document getDocument(Asset asset)
+    {
+        Document document = new Document();
+
+        document.add(new StringField(GUID_FIELD, asset.getGUID(), Field.Store.YES));
+
+        ElementType type = asset.getType();
+
+        if (type != null)
+        {
+            if (type.getTypeName() != null)
+            {
+                document.add(new StringField(TYPE_NAME_FIELD, type.getTypeName(), Field.Store.YES));
+                document.add(new StringField(TYPE_NAMES_FIELD, type.getTypeName(), Field.Store.NO));
+            }
+
+            if (type.getSuperTypeNames() != null)
+            {
+                for (String superTypeName : type.getSuperTypeNames())
+                {
+                    if (superTypeName != null)
+                    {
+                        document.add(new StringField(TYPE_NAMES_FIELD, superTypeName, Field.Store.NO));
+                    }
+                }
+            }
+        }
+
+        this.addTextField(document, QUALIFIED_NAME_FIELD, asset.getQualifiedName(), Field.Store.YES);
+        this.addTextField(document, DISPLAY_NAME_FIELD, asset.getDisplayName(), Field.Store.YES);
+        this.addTextField(document, RESOURCE_NAME_FIELD, asset.getResourceName(), Field.Store.NO);
+        this.addTextField(document, DESCRIPTION_FIELD, asset.getDisplaySummary(), Field.Store.NO);
+        this.addTextField(document, DESCRIPTION_FIELD, asset.getDisplayDescription(), Field.Store.NO);
+        this.addTextField(document, DESCRIPTION_FIELD, asset.getResourceDescription(), Field.Store.NO);
+
+        return document;
+    }
+
+
+    /**
+     * Add an analyzed field to the document if it has a value.
+     *
+     * @param document document to update
+     * @param fieldName name of the field
+     * @param value value from the asset
+     * @param store whether the value is returned in search results
+     */
+    private void addTextField(Document    document,
+                              String      fieldName,
+                              String      value,
+                              Field.Store store)
+    {
+        if (value != null)
+        {
+            document.add(new TextField(fieldName, value, store));
+        }
+    }
+
+
+    /**
+     * Build the query for a search.
+     *
+     * @param searchCriteria keywords to search for
+     * @param typeNames types to limit the results to
+     * @return query
+     * @throws Exception the search criteria could not be parsed
+     */
+    private Query getQuery(String       searchCriteria,
+                           List<String> typeNames) throws Exception
+    {
+        Query keywordQuery;
+
+        if ((searchCriteria == null) || (searchCriteria.isBlank()))
+        {
+            keywordQuery = new MatchAllDocsQuery();
+        }
+        else
+        {
+            MultiFieldQueryParser queryParser = new MultiFieldQueryParser(SEARCH_FIELDS, analyzer, FIELD_BOOSTS);
+
+            keywordQuery = queryParser.parse(QueryParser.escape(searchCriteria));
+        }
+
+        if ((typeNames == null) || (typeNames.isEmpty()))
+        {
+            return keywordQuery;
+        }
+
+        List<BytesRef> typeNameTerms = new ArrayList<>();
+
+        for (String typeName : typeNames)
+        {
+            if (typeName != null)
+            {
+                typeNameTerms.add(new BytesRef(typeName));
+            }
+        }
+
+        return new BooleanQuery.Builder().add(keywordQuery, BooleanClause.Occur.MUST)
+                                         .add(new TermInSetQuery(TYPE_NAMES_FIELD, typeNameTerms), BooleanClause.Occur.FILTER)
+                                         .build();
+    }
+
+
+    /**
+     * Commit the outstanding changes to the index if there are enough of them, if they have been outstanding
+     * for longer than the commit interval, or if the commit is forced.
+     *
+     * @param force commit any outstanding changes
+     */
+    private synchronized void commitChanges(boolean force)
+    {
+        final String methodName = "commitChanges";
+
+        if ((indexWriter == null) || (uncommittedChanges == 0))
+        {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+
+        if ((force) || (uncommittedChanges >= commitBatchSize) || (now - lastCommitTime >= commitIntervalMillis))
+        {
+            try
+            {
+                indexWriter.commit();
+
+                committedChanges   = committedChanges + uncommittedChanges;
+                uncommittedChanges = 0;
+                lastCommitTime     = now;
+            }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          LuceneIntegrationConnectorAuditCode.UNABLE_TO_COMMIT.getMessageDefinition(connectorName,
+                                                                                                                   error.getClass().getName(),
+                                                                                                                   indexDirectoryName,
+                                                                                                                   error.getMessage()),
+                                          error);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Close the index, ignoring any errors since the connector is shutting down.
+     */
+    private synchronized void closeIndex()
+    {
+        try
+        {
+            if (searcherManager != null)
+            {
+                searcherManager.close();
+            }
+
+            if (indexWriter != null)
+            {
+                indexWriter.close();
+            }
+
+            if (indexDirectory != null)
+            {
+                indexDirectory.close();
+            }
+        }
+        catch (IOException error)
+        {
+            log.debug("Unable to close Lucene index in " + indexDirectoryName, error);
+        }
+
+        searcherManager = null;
+        indexWriter     = null;
+        indexDirectory  = null;
+    }
+
+
+    /**
+     * Return the value of a numeric configuration property.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @param methodName calling method
+     * @return value
+     * @throws ConnectorCheckedException the value is not a positive number
+     */
+    private long getPositiveConfigurationProperty(Map<String, Object> configurationProperties,
+                                                  String              propertyName,
+                                                  long                defaultValue,
+                                                  String              methodName) throws ConnectorCheckedException
+    {
+        Object value = configurationProperties.get(propertyName);
+
+        if (value == null)
+        {
+            return defaultValue;
+        }
+
+        try
+        {
+            long longValue = Long.parseLong(value.toString());
+
+            if (longValue > 0)
+            {
+                return longValue;
+            }
+        }
+        catch (NumberFormatException error)
+        {
+            log.debug("Invalid value for " + propertyName, error);
+        }
+
+        throw new ConnectorCheckedException(LuceneIntegrationConnectorErrorCode.BAD_CONFIGURATION.getMessageDefinition(connectorName,
+                                                                                                                      value.toString(),
+                                                                                                                      propertyName),
+                                            this.getClass().getName(),
+                                            methodName);
+    }
+}
@@ -0,0 +1,61 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.lucene;
+
+import org.odpi.openmetadata.frameworks.connectors.ConnectorProviderBase;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * LuceneIntegrationProvider is the connector provider for the embedded Lucene search integration connector.
+ * The address of the connection's endpoint is the directory where the index is stored.
+ */
+public class LuceneIntegrationProvider extends ConnectorProviderBase
+{
+    private static final String connectorTypeGUID          = "2a6b3f0e-6f7d-4b3c-9a51-8d3e52c0f4a7";
+    private static final String connectorTypeQualifiedName = "Egeria:IntegrationConnector:LuceneIntegrationProvider";
+    private static final String connectorTypeDisplayName   = "Embedded Lucene Search Integration Connector";
+    private static final String connectorTypeDescription   = "Connector used to maintain an embedded Lucene index of assets for keyword search operations";
+
+    /**
+     * Maximum number of changes to the index before they are committed.
+     */
+    static final String COMMIT_BATCH_SIZE_CONFIGURATION_PROPERTY = "commitBatchSize";
+
+    /**
+     * Maximum time (in milliseconds) that a change to the index remains uncommitted.
+     */
+    static final String COMMIT_INTERVAL_CONFIGURATION_PROPERTY = "commitIntervalMillis";
+
+
+    /**
+     * Constructor used to initialize the ConnectorProvider with the Java class name of the specific
+     * store implementation.
+     */
+    public LuceneIntegrationProvider()
+    {
+        super();
+
+        super.setConnectorClassName(LuceneIntegrationConnector.class.getName());
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeQualifiedName);
+        connectorType.setDisplayName(connectorTypeDisplayName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(COMMIT_BATCH_SIZE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(COMMIT_INTERVAL_CONFIGURATION_PROPERTY);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
+        super.connectorTypeBean = connectorType;
+    }
+}
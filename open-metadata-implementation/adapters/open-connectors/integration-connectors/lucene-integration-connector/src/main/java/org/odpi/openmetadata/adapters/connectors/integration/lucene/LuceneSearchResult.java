@@ -0,0 +1,113 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.lucene;
+
+/**
+ * LuceneSearchResult describes one asset matching a keyword search.  The results of a search are returned
+ * in descending order of score.
+ */
+public class LuceneSearchResult
+{
+    private final String guid;
+    private final String typeName;
+    private final String qualifiedName;
+    private final String displayName;
+    private final float  score;
+
+
+    /**
+     * Constructor used by the connector.
+     *
+     * @param guid unique identifier of the asset
+     * @param typeName name of the asset's type
+     * @param qualifiedName unique name of the asset
+     * @param displayName display name of the asset
+     * @param score relevance of the asset to the search
+     */
+    LuceneSearchResult(String guid,
+                       String typeName,
+                       String qualifiedName,
+                       String displayName,
+                       float  score)
+    {
+        this.guid          = guid;
+        this.typeName      = typeName;
+        this.qualifiedName = qualifiedName;
+        this.displayName   = displayName;
+        this.score         = score;
+    }
+
+
+    /**
+     * Return the unique identifier of the asset.
+     *
+     * @return guid
+     */
+    public String getGUID()
+    {
+        return guid;
+    }
+
+
+    /**
+     * Return the name of the asset's type.
+     *
+     * @return type name
+     */
+    public String getTypeName()
+    {
+        return typeName;
+    }
+
+
+    /**
+     * Return the unique name of the asset.
+     *
+     * @return qualified name
+     */
+    public String getQualifiedName()
+    {
+        return qualifiedName;
+    }
+
+
+    /**
+     * Return the display name of the asset.
+     *
+     * @return display name
+     */
+    public String getDisplayName()
+    {
+        return displayName;
+    }
+
+
+    /**
+     * Return the relevance of the asset to the search.  Scores are only comparable within a single search.
+     *
+     * @return score
+     */
+    public float getScore()
+    {
+        return score;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "LuceneSearchResult{" +
+                       "guid='" + guid + '\'' +
+                       ", typeName='" + typeName + '\'' +
+                       ", qualifiedName='" + qualifiedName + '\'' +
+                       ", displayName='" + displayName + '\'' +
+                       ", score=" + score +
+                       '}';
+    }
+}
@@ -0,0 +1,139 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.lucene.ffdc;
+
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageSet;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogRecordSeverity;
+
+
+/**
+ * The LuceneIntegrationConnectorAuditCode is used to define the message content for the OMRS Audit Log.
+ *
+ * The 5 fields in the enum are:
+ * <ul>
+ *     <li>Log Message Id - to uniquely identify the message</li>
+ *     <li>Severity - is this an event, decision, action, error or exception</li>
+ *     <li>Log Message Text - includes placeholder to allow additional values to be captured</li>
+ *     <li>Additional Information - further parameters and data relating to the audit message (optional)</li>
+ *     <li>SystemAction - describes the result of the situation</li>
+ *     <li>UserAction - describes how a user should correct the situation</li>
+ * </ul>
+ */
+public enum LuceneIntegrationConnectorAuditCode implements AuditLogMessageSet
+{
+    CONNECTOR_CONFIGURATION("LUCENE-INTEGRATION-CONNECTOR-0001",
+                            OMRSAuditLogRecordSeverity.INFO,
+                            "The {0} integration connector has opened the Lucene index in directory {1} containing {2} assets; changes are committed every {3} updates or {4} milliseconds",
+                            "The connector adds the assets published by the Asset Catalog OMAS to the index and uses it to answer keyword searches.",
+                            "No specific action is required.  This message is to confirm the configuration for the integration connector."),
+
+    CONNECTOR_STOPPING("LUCENE-INTEGRATION-CONNECTOR-0002",
+                       OMRSAuditLogRecordSeverity.INFO,
+                       "The {0} integration connector has committed {1} assets to the Lucene index and is shutting down",
+                       "The connector is disconnecting.",
+                       "No action is required unless there are errors that follow indicating that there were problems shutting down."),
+
+    UNABLE_TO_INDEX_ASSET("LUCENE-INTEGRATION-CONNECTOR-0003",
+                          OMRSAuditLogRecordSeverity.EXCEPTION,
+                          "The {0} integration connector received an unexpected {1} exception when adding asset {2} to the Lucene index.  The error message was {3}",
+                          "The exception is logged and the integration connector continues to process events.  The asset is missing from the " +
+                                  "index, or is out of date, until the next event for the asset is received.",
+                          "Use the message in the exception to determine the root cause of the error.  Check that the index directory " +
+                                  "is writable and has sufficient free space."),
+
+    UNABLE_TO_COMMIT("LUCENE-INTEGRATION-CONNECTOR-0004",
+                     OMRSAuditLogRecordSeverity.EXCEPTION,
+                     "The {0} integration connector received an unexpected {1} exception when committing changes to the Lucene index in directory {2}.  The error message was {3}",
+                     "The changes remain uncommitted and are retried on the next commit.  They are lost if the integration daemon stops before then.",
+                     "Use the message in the exception to determine the root cause of the error.  Once it is resolved, the changes " +
+                             "are committed during the connector's next refresh."),
+    ;
+
+    private final String                     logMessageId;
+    private final OMRSAuditLogRecordSeverity severity;
+    private final String                     logMessage;
+    private final String                     systemAction;
+    private final String                     userAction;
+
+
+    /**
+     * The constructor for LuceneIntegrationConnectorAuditCode expects to be passed one of the enumeration rows defined in
+     * LuceneIntegrationConnectorAuditCode above.   For example:
+     *
+     *     LuceneIntegrationConnectorAuditCode   auditCode = LuceneIntegrationConnectorAuditCode.CONNECTOR_STOPPING;
+     *
+     * This will expand out to the 5 parameters shown below.
+     *
+     * @param messageId - unique id for the message
+     * @param severity - severity of the message
+     * @param message - text for the message
+     * @param systemAction - description of the action taken by the system when the condition happened
+     * @param userAction - instructions for resolving the situation, if any
+     */
+    LuceneIntegrationConnectorAuditCode(String                     messageId,
+                                        OMRSAuditLogRecordSeverity severity,
+                                        String                     message,
+                                        String                     systemAction,
+                                        String                     userAction)
+    {
+        this.logMessageId = messageId;
+        this.severity = severity;
+        this.logMessage = message;
+        this.systemAction = systemAction;
+        this.userAction = userAction;
+    }
+
+
+    /**
+     * Retrieve a message definition object for logging.  This method is used when there are no message inserts.
+     *
+     * @return message definition object.
+     */
+    @Override
+    public AuditLogMessageDefinition getMessageDefinition()
+    {
+        return new AuditLogMessageDefinition(logMessageId,
+                                             severity,
+                                             logMessage,
+                                             systemAction,
+                                             userAction);
+    }
+
+
+    /**
+     * Retrieve a message definition object for logging.  This method is used when there are values to be inserted into the message.
+     *
+     * @param params array of parameters (all strings).  They are inserted into the message according to the numbering in the message text.
+     * @return message definition object.
+     */
+    @Override
+    public AuditLogMessageDefinition getMessageDefinition(String ...params)
+    {
+        AuditLogMessageDefinition messageDefinition = new AuditLogMessageDefinition(logMessageId,
+                                                                                    severity,
+                                                                                    logMessage,
+                                                                                    systemAction,
+                                                                                    userAction);
+        messageDefinition.setMessageParameters(params);
+        return messageDefinition;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return string of property names and values for this enum
+     */
+    @Override
+    public String toString()
+    {
+        return "LuceneIntegrationConnectorAuditCode{" +
+                "logMessageId='" + logMessageId + '\'' +
+                ", severity=" + severity +
+                ", logMessage='" + logMessage + '\'' +
+                ", systemAction='" + systemAction + '\'' +
+                ", userAction='" + userAction + '\'' +
+                '}';
+    }
+}
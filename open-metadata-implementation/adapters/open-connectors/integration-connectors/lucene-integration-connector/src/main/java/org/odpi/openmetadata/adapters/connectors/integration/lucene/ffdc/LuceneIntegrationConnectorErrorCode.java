@@ -0,0 +1,125 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.lucene.ffdc;
+
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.ExceptionMessageDefinition;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.ExceptionMessageSet;
+
+/**
+ * The LuceneIntegrationConnectorErrorCode is used to define first failure data capture (FFDC) for errors that
+ * occur when working with the Lucene integration connector.  It is used in conjunction with all exceptions,
+ * both Checked and Runtime (unchecked).
+ *
+ * The 5 fields in the enum are:
+ * <ul>
+ *     <li>HTTP Error Code for translating between REST and JAVA - Typically the numbers used are:</li>
+ *     <li><ul>
+ *         <li>500 - internal error</li>
+ *         <li>400 - invalid parameters</li>
+ *         <li>404 - not found</li>
+ *         <li>409 - data conflict errors - eg item already defined</li>
+ *     </ul></li>
+ *     <li>Error Message Id - to uniquely identify the message</li>
+ *     <li>Error Message Text - includes placeholder to allow additional values to be captured</li>
+ *     <li>SystemAction - describes the result of the error</li>
+ *     <li>UserAction - describes how a consumer should correct the error</li>
+ * </ul>
+ */
+public enum LuceneIntegrationConnectorErrorCode implements ExceptionMessageSet
+{
+    NO_INDEX_DIRECTORY(400, "LUCENE-INTEGRATION-CONNECTOR-400-001",
+             "The {0} integration connector has not been configured with the directory for its Lucene index",
+             "The connector is unable to start because it does not know where to store the index.",
+             "Set the address of the connection's endpoint to the directory where the index should be stored and restart the connector."),
+
+    BAD_CONFIGURATION(400, "LUCENE-INTEGRATION-CONNECTOR-400-002",
+             "The {0} integration connector has been passed an invalid value of {1} in the {2} configuration property",
+             "The connector is unable to start because its configuration is not valid.",
+             "Correct the configuration property and restart the connector."),
+
+    UNABLE_TO_OPEN_INDEX(500, "LUCENE-INTEGRATION-CONNECTOR-500-001",
+             "The {0} integration connector received an unexpected {1} exception when opening the Lucene index in directory {2}; the error message was: {3}",
+             "The connector is unable to start.",
+             "Use the details from the error message to determine the cause of the error.  Check that the directory is " +
+                     "writable and not in use by another connector, then restart the connector."),
+
+    UNABLE_TO_SEARCH(500, "LUCENE-INTEGRATION-CONNECTOR-500-002",
+             "The {0} integration connector received an unexpected {1} exception when searching the Lucene index for {2}; the error message was: {3}",
+             "The search request failed.",
+             "Use the details from the error message to determine the cause of the error and retry the request once it is resolved."),
+
+    NOT_STARTED(500, "LUCENE-INTEGRATION-CONNECTOR-500-003",
+             "The {0} integration connector was called before it was started, or after it was disconnected",
+             "The request is rejected because the Lucene index is not open.",
+             "Start the connector in the integration daemon before issuing searches."),
+    ;
+
+
+    private final ExceptionMessageDefinition messageDefinition;
+
+
+    /**
+     * The constructor for LuceneIntegrationConnectorErrorCode expects to be passed one of the enumeration rows defined in
+     * LuceneIntegrationConnectorErrorCode above.   For example:
+     *
+     *     LuceneIntegrationConnectorErrorCode   errorCode = LuceneIntegrationConnectorErrorCode.NO_INDEX_DIRECTORY;
+     *
+     * This will expand out to the 5 parameters shown below.
+     *
+     *
+     * @param httpErrorCode   error code to use over REST calls
+     * @param errorMessageId   unique Id for the message
+     * @param errorMessage   text for the message
+     * @param systemAction   description of the action taken by the system when the error condition happened
+     * @param userAction   instructions for resolving the error
+     */
+    LuceneIntegrationConnectorErrorCode(int  httpErrorCode, String errorMessageId, String errorMessage, String systemAction, String userAction)
+    {
+        this.messageDefinition = new ExceptionMessageDefinition(httpErrorCode,
+                                                                errorMessageId,
+                                                                errorMessage,
+                                                                systemAction,
+                                                                userAction);
+    }
+
+
+    /**
+     * Retrieve a message definition object for an exception.  This method is used when there are no message inserts.
+     *
+     * @return message definition object.
+     */
+    @Override
+    public ExceptionMessageDefinition getMessageDefinition()
+    {
+        return messageDefinition;
+    }
+
+
+    /**
+     * Retrieve a message definition object for an exception.  This method is used when there are values to be inserted into the message.
+     *
+     * @param params array of parameters (all strings).  They are inserted into the message according to the numbering in the message text.
+     * @return message definition object.
+     */
+    @Override
+    public ExceptionMessageDefinition getMessageDefinition(String... params)
+    {
+        messageDefinition.setMessageParameters(params);
+
+        return messageDefinition;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return string of property names and values for this enum
+     */
+    @Override
+    public String toString()
+    {
+        return "LuceneIntegrationConnectorErrorCode{" +
+                       "messageDefinition=" + messageDefinition +
+                       '}';
+    }
+}
@@ -0,0 +1,9 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+/**
+ * FFDC stands for First Failure Data Capture.  The classes in this package provide the message definitions and
+ * descriptions used by the Lucene integration connector.  LuceneIntegrationConnectorAuditCode contains the
+ * messages for the audit log and the LuceneIntegrationConnectorErrorCode contains the messages for any exceptions
+ * that are thrown by the connector.
+ */
+package org.odpi.openmetadata.adapters.connectors.integration.lucene.ffdc;
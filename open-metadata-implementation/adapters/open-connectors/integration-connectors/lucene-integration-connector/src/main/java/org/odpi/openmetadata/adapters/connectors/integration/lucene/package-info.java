@@ -0,0 +1,7 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+/**
+ * The Lucene integration connector maintains an embedded, on-disk Lucene index of the assets published by the
+ * Asset Catalog OMAS and offers ranked, paged keyword search over this index.
+ */
+package org.odpi.openmetadata.adapters.connectors.integration.lucene;
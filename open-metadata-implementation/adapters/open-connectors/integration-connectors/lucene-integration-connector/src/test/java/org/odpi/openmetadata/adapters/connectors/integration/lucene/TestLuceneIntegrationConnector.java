@@ -0,0 +1,134 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.lucene;
+
+import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogEvent;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementType;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that assets received from Asset Catalog can be found by keyword search.
+ */
+public class TestLuceneIntegrationConnector
+{
+    /**
+     * Create a started connector with an index in a new temporary directory.
+     *
+     * @param indexDirectory directory for the index
+     * @return connector
+     * @throws Exception unable to start the connector
+     */
+    private LuceneIntegrationConnector getConnector(Path indexDirectory) throws Exception
+    {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress(indexDirectory.toString());
+
+        Connection connection = new Connection();
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(Map.<String, Object>of(LuceneIntegrationProvider.COMMIT_BATCH_SIZE_CONFIGURATION_PROPERTY, 2));
+
+        LuceneIntegrationConnector connector = new LuceneIntegrationConnector();
+
+        connector.initialize("TestConnectorId", new ConnectionProperties(connection));
+        connector.start();
+
+        return connector;
+    }
+
+
+    /**
+     * Build an event for an asset.
+     *
+     * @param guid unique identifier
+     * @param typeName type of asset
+     * @param displayName display name
+     * @param description description
+     * @return event
+     */
+    private AssetCatalogEvent getEvent(String guid,
+                                       String typeName,
+                                       String displayName,
+                                       String description)
+    {
+        ElementType type = new ElementType();
+        type.setTypeName(typeName);
+        type.setSuperTypeNames(List.of("Asset", "Referenceable", "OpenMetadataRoot"));
+
+        Asset asset = new Asset();
+        asset.setGUID(guid);
+        asset.setType(type);
+        asset.setQualifiedName(typeName + ":" + displayName);
+        asset.setDisplayName(displayName);
+        asset.setDisplayDescription(description);
+
+        AssetCatalogEvent event = new AssetCatalogEvent();
+        event.setAsset(asset);
+
+        return event;
+    }
+
+
+    /**
+     * Assets are ranked, filtered by type, paged and replaced when they change.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testKeywordSearch() throws Exception
+    {
+        Path                       indexDirectory = Files.createTempDirectory("lucene-integration-connector");
+        LuceneIntegrationConnector connector      = this.getConnector(indexDirectory);
+
+        connector.saveAsset(this.getEvent("guid1", "CSVFile", "customer accounts", "Weekly extract of accounts"));
+        connector.saveAsset(this.getEvent("guid2", "RelationalTable", "orders", "Orders placed by each customer"));
+        connector.saveAsset(this.getEvent("guid3", "CSVFile", "products", "Product catalog"));
+
+        /*
+         * Uncommitted changes are visible to searches.
+         */
+        List<LuceneSearchResult> results = connector.search("customer", null, 0, 10);
+
+        assertEquals(results.size(), 2);
+        assertEquals(results.get(0).getGUID(), "guid1");
+        assertTrue(results.get(0).getScore() >= results.get(1).getScore());
+
+        results = connector.search("customer", Collections.singletonList("RelationalTable"), 0, 10);
+
+        assertEquals(results.size(), 1);
+        assertEquals(results.get(0).getGUID(), "guid2");
+        assertEquals(connector.search("customer", Collections.singletonList("Asset"), 0, 10).size(), 2);
+
+        assertEquals(connector.search(null, null, 0, 10).size(), 3);
+        assertEquals(connector.search(null, null, 2, 10).size(), 1);
+        assertEquals(connector.search(null, null, 0, 2).size(), 2);
+
+        connector.saveAsset(this.getEvent("guid3", "CSVFile", "products", "Product catalog: (customer facing)"));
+
+        assertEquals(connector.search("customer", null, 0, 10).size(), 3);
+        assertEquals(connector.search(null, null, 0, 10).size(), 3);
+
+        connector.disconnect();
+
+        /*
+         * The index survives a restart.
+         */
+        connector = this.getConnector(indexDirectory);
+
+        assertEquals(connector.search("catalog", null, 0, 10).size(), 1);
+
+        connector.disconnect();
+    }
+}
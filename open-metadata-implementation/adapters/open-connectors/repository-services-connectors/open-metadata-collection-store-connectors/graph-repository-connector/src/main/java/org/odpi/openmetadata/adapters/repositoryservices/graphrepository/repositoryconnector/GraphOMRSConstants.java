@@ -238,6 +238,14 @@ public class GraphOMRSConstants {
      */
     public static final String QUALIFIED_PROPERTY_SEPARATOR = "x";
 
+    /*
+     * Store write operations run in the JanusGraph transaction bound to the calling thread.  If a commit fails
+     * because another transaction holds (or has changed) one of the locked unique index entries, the whole
+     * operation is re-run in a fresh transaction up to this many times, waiting a little longer before each attempt.
+     */
+    public static final int  TRANSACTION_CONFLICT_MAX_RETRIES     = 5;
+    public static final long TRANSACTION_CONFLICT_RETRY_BACKOFF_MS = 20L;
+
     public enum ElementType {
         Vertex,
         Edge
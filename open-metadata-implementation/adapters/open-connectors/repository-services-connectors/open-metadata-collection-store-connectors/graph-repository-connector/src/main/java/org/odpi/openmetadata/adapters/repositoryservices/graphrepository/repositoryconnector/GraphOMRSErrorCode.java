@@ -146,6 +146,10 @@ public enum GraphOMRSErrorCode implements ExceptionMessageSet
             "The search properties contains a values that do not match the type of property {0} - reported by the {1} method of class {2} to open metadata repository {3}",
             "The system is unable to perform the request because the provided values do not match the type of the property.",
             "Correct the caller's code and retry the request."),
+    TRANSACTION_CONFLICT(409, "OMRS-GRAPH-REPOSITORY-409-001",
+            "The {0} method of class {1} could not commit its change to instance {2} in open metadata repository {3} after {4} attempts because of conflicting concurrent updates",
+            "The system rolled back the transaction and was unable to perform the request.",
+            "Retry the request.  If the problem persists, check the locking and storage backend settings of the graph database."),
 
     ;
 
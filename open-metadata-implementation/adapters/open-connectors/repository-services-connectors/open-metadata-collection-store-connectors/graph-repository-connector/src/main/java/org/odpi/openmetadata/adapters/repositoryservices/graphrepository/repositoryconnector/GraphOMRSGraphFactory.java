@@ -463,6 +463,16 @@ public class GraphOMRSGraphFactory {
     }
 
     void createMixedIndexForVertexProperty(String propName, String propKeyName, String className, MixedIndexMapping mapping) {
+        createMixedIndexForVertexProperty(propName, propKeyName, className, mapping, false);
+    }
+
+    /*
+     * When exactMatchIndex is set, a (non-unique) composite index is also built so that equality lookups do not need the
+     * search index.  The composite index is only built when the property key is created in the same transaction: adding it
+     * to an existing key would force a REINDEX of every vertex, so graphs created before the index was introduced keep
+     * answering exact lookups from the mixed index.
+     */
+    void createMixedIndexForVertexProperty(String propName, String propKeyName, String className, MixedIndexMapping mapping, boolean exactMatchIndex) {
 
         final String methodName = "createMixedIndexForVertexProperty";
 
@@ -513,6 +523,17 @@ public class GraphOMRSGraphFactory {
             else
                 vertexIndexBuilder.addKey(propertyKey, Mapping.STRING.asParameter() );   // override default - explicitly String mapping
             vertexIndexBuilder.buildMixedIndex("search");
+
+            String compositeIndexName = null;
+            if (exactMatchIndex) {
+                if (oldKey) {
+                    log.info("{} no composite index for existing property key {}; exact lookups will use {}", methodName, propKeyName, indexName);
+                } else {
+                    compositeIndexName = "vertexIndexComposite" + propKeyName;
+                    management.buildIndex(compositeIndexName, Vertex.class).addKey(propertyKey).buildCompositeIndex();
+                }
+            }
+
             management.commit();
             log.debug("{} index created {}", methodName, indexName);
 
@@ -536,6 +557,11 @@ public class GraphOMRSGraphFactory {
             ManagementSystem.awaitGraphIndexStatus(graph, indexName).status(SchemaStatus.ENABLED).timeout(10, ChronoUnit.SECONDS).call();
             log.debug("{} index {} ready", methodName, indexName);
 
+            if (compositeIndexName != null) {
+                ManagementSystem.awaitGraphIndexStatus(graph, compositeIndexName).status(SchemaStatus.ENABLED).timeout(10, ChronoUnit.SECONDS).call();
+                log.debug("{} index {} ready", methodName, compositeIndexName);
+            }
+
         }
         catch (Exception e) {
 
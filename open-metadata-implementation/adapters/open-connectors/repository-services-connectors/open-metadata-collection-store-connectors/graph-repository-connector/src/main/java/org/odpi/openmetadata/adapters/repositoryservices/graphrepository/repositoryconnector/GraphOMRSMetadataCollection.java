@@ -20,6 +20,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
@@ -27,6 +29,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSInstanceGraphDigestUtilities;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.ClassificationErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityConflictException;
@@ -56,6 +59,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -420,6 +424,56 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         return entity;
     }
 
+    // getEntityDetails
+    @Override
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.getEntityDetailsParameterValidation(userId, guids);
+
+        /*
+         * Perform operation - the entities are retrieved in a single traversal and then put back
+         * into the order they were requested.
+         */
+        Set<String> uniqueGUIDs = new LinkedHashSet<>(guids);
+
+        Map<String, EntityDetail> retrievedEntities = new HashMap<>();
+
+        for (EntityDetail entity : graphStore.getEntityDetailsFromStore(uniqueGUIDs))
+        {
+            if (entity.getStatus() != InstanceStatus.DELETED)
+            {
+                retrievedEntities.put(entity.getGUID(), entity);
+            }
+        }
+
+        List<EntityDetail> results = new ArrayList<>();
+
+        for (String guid : uniqueGUIDs)
+        {
+            EntityDetail entity = retrievedEntities.get(guid);
+
+            if (entity != null)
+            {
+                results.add(entity);
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
 
     // addRelationship
     @Override
@@ -1319,6 +1373,98 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
 
 
+    // findEntitiesByUniquePropertyValue
+    @Override
+    public List<EntityDetail> findEntitiesByUniquePropertyValue(String               userId,
+                                                                String               entityTypeGUID,
+                                                                String               propertyName,
+                                                                String               propertyValue,
+                                                                List<InstanceStatus> limitResultsByStatus,
+                                                                Date                 asOfTime)
+    throws
+    InvalidParameterException,
+    TypeErrorException,
+    RepositoryErrorException,
+    PropertyErrorException,
+    PagingErrorException,
+    FunctionNotSupportedException,
+    UserNotAuthorizedException
+    {
+
+        final String methodName = "findEntitiesByUniquePropertyValue";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByUniquePropertyValueParameterValidation(userId,
+                                                                   entityTypeGUID,
+                                                                   propertyName,
+                                                                   propertyValue,
+                                                                   limitResultsByStatus,
+                                                                   asOfTime);
+
+        if (asOfTime != null) {
+            log.error("{} does not support asOfTime searches", methodName);
+
+            super.reportUnsupportedOptionalFunction(methodName);
+        }
+
+        /*
+         * Work out which qualified property names the short property name maps to for the valid types.
+         */
+        InstanceProperties matchProperties = repositoryHelper.addStringPropertyToInstance(repositoryName,
+                                                                                          null,
+                                                                                          propertyName,
+                                                                                          repositoryHelper.getExactMatchRegex(propertyValue),
+                                                                                          methodName);
+
+        GraphOMRSQueryPlan queryPlan = new GraphOMRSQueryPlan(repositoryName,
+                                                              metadataCollectionId,
+                                                              repositoryHelper,
+                                                              TypeDefCategory.ENTITY_DEF,
+                                                              matchProperties,
+                                                              entityTypeGUID,
+                                                              null);
+
+        List<String> qualifiedPropertyNames = queryPlan.getShortPropertyNameToQualifiedPropertyNames().get(propertyName);
+
+        if ((queryPlan.getValidTypeNames().isEmpty()) || (qualifiedPropertyNames == null))
+        {
+            return null;
+        }
+
+        /*
+         * Each qualified property is an exact lookup on its property key.  Entities are keyed on guid so that
+         * the same entity is not returned twice.
+         */
+        Map<String, EntityDetail> foundEntities = new HashMap<>();
+
+        for (String qualifiedPropertyName : qualifiedPropertyNames)
+        {
+            TypeDefAttribute typeDefAttribute = queryPlan.getQualifiedPropertyNameToTypeDefinedAttribute().get(qualifiedPropertyName);
+
+            if ((typeDefAttribute != null) &&
+                (typeDefAttribute.getAttributeType() instanceof PrimitiveDef) &&
+                (((PrimitiveDef) typeDefAttribute.getAttributeType()).getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING))
+            {
+                for (EntityDetail entity : graphStore.findEntitiesByQualifiedPropertyValue(qualifiedPropertyName, propertyValue))
+                {
+                    if ((repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entity))
+                            && (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)))
+                    {
+                        foundEntities.put(entity.getGUID(), entity);
+                    }
+                }
+            }
+        }
+
+        return repositoryHelper.formatEntityResults(new ArrayList<>(foundEntities.values()), 0, null, null, 0);
+    }
+
+
+
+
+
     // findEntitiesByPropertyIteratively
     public List<EntityDetail> findEntitiesByPropertyIteratively(List<String>                  validTypeNames,
                                                                 InstanceProperties            matchProperties,
@@ -4418,6 +4564,70 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
 
 
+    // getEntityNeighborhoodDigest
+    //
+    // The graph store stops the traversal once it has reached maxEntities distinct entities so that a large neighbourhood
+    // is not traversed in full. The result is then bounded breadth-first from the root and reduced to the requested properties.
+    @Override
+    public InstanceGraph getEntityNeighborhoodDigest(String               userId,
+                                                     String               entityGUID,
+                                                     List<String>         entityTypeGUIDs,
+                                                     List<String>         relationshipTypeGUIDs,
+                                                     List<InstanceStatus> limitResultsByStatus,
+                                                     List<String>         limitResultsByClassification,
+                                                     Date                 asOfTime,
+                                                     int                  level,
+                                                     int                  maxEntities,
+                                                     List<String>         digestPropertyNames)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            EntityNotKnownException,
+            TypeErrorException,
+            PropertyErrorException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "getEntityNeighborhoodDigest";
+
+        /*
+         * Validate parameters
+         */
+        this.getEntityNeighborhoodDigestParameterValidation(userId,
+                                                            entityGUID,
+                                                            entityTypeGUIDs,
+                                                            relationshipTypeGUIDs,
+                                                            limitResultsByStatus,
+                                                            limitResultsByClassification,
+                                                            asOfTime,
+                                                            level,
+                                                            maxEntities,
+                                                            digestPropertyNames);
+
+        if (asOfTime != null) {
+            // Not supported
+            log.error("{} does not support asOfTime parameter", methodName);
+
+            super.reportUnsupportedOptionalFunction(methodName);
+        }
+
+        /*
+         * Delegate to the graph store
+         */
+        InstanceGraph subGraph = graphStore.getSubGraph(entityGUID,
+                                                        entityTypeGUIDs,
+                                                        relationshipTypeGUIDs,
+                                                        limitResultsByStatus,
+                                                        limitResultsByClassification,
+                                                        level,
+                                                        maxEntities);
+
+        return OMRSInstanceGraphDigestUtilities.getGraphDigest(OMRSInstanceGraphDigestUtilities.getBoundedGraph(entityGUID, subGraph, maxEntities),
+                                                               digestPropertyNames);
+    }
+
+
+
 
     // Return the list of entities that are of the types listed in entityTypeGUIDs and are connected, either directly or
     // indirectly to the entity identified by startEntityGUID.
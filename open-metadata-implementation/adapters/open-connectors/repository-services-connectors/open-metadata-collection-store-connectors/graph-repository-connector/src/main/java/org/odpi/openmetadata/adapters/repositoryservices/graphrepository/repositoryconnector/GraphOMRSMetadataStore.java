@@ -12,7 +12,10 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphException;
 import org.janusgraph.core.attribute.Text;
+import org.janusgraph.diskstorage.TemporaryBackendException;
+import org.janusgraph.diskstorage.locking.PermanentLockingException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
@@ -80,6 +83,8 @@ import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_RELATIONSHIP_GUID;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_RELATIONSHIP_TYPE_NAME;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_NAME_TYPE_NAME;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.TRANSACTION_CONFLICT_MAX_RETRIES;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.TRANSACTION_CONFLICT_RETRY_BACKOFF_MS;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.corePropertiesClassification;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.corePropertiesEntity;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.corePropertiesRelationship;
@@ -164,13 +169,127 @@ class GraphOMRSMetadataStore {
     }
 
 
+    /**
+     * A unit of work against the graph that opens, and either commits or rolls back, the transaction bound to
+     * the calling thread.  It must be safe to re-run from the start if the commit fails because of a conflict.
+     *
+     * @param <T> type of result
+     * @param <E> checked exception thrown by the operation in addition to RepositoryErrorException
+     */
+    @FunctionalInterface
+    private interface GraphStoreOperation<T, E extends Exception>
+    {
+        T execute() throws E, RepositoryErrorException;
+    }
+
+
+    /**
+     * Run a write operation in its own thread-bound transaction.  JanusGraph gives each request thread an
+     * independent transaction, so reads and creates are not serialized by a store-wide lock.  If the commit is
+     * rejected because a concurrent transaction has locked or changed one of the unique index entries (such as
+     * the instance GUID), the transaction is rolled back and the whole operation re-run, so the existence checks
+     * it makes are repeated against the newly committed state.
+     *
+     * JanusGraph only detects conflicts on the locked unique index entries.  It would not notice two transactions
+     * reading and then rewriting the properties of the same vertex or edge, so the methods that change an existing
+     * instance (update, save reference copy and remove) remain synchronized on the store.
+     *
+     * @param methodName calling method
+     * @param guid unique identifier of the instance being changed (for error reporting)
+     * @param operation unit of work to run
+     * @param <T> type of result
+     * @param <E> checked exception thrown by the operation
+     * @return result of the operation
+     * @throws E exception from the operation
+     * @throws RepositoryErrorException the operation failed or the conflict persisted after all retries
+     */
+    private <T, E extends Exception> T executeWithRetry(String                       methodName,
+                                                        String                       guid,
+                                                        GraphStoreOperation<T, E>    operation) throws E, RepositoryErrorException
+    {
+        int attempt = 0;
+
+        while (true)
+        {
+            attempt++;
+
+            try
+            {
+                return operation.execute();
+            }
+            catch (JanusGraphException error)
+            {
+                if (instanceGraph.tx().isOpen())
+                {
+                    instanceGraph.tx().rollback();
+                }
+
+                if (! isTransactionConflict(error))
+                {
+                    throw error;
+                }
+
+                if (attempt > TRANSACTION_CONFLICT_MAX_RETRIES)
+                {
+                    log.error("{} gave up on instance {} after {} conflicting attempts", methodName, guid, attempt);
+
+                    throw new RepositoryErrorException(GraphOMRSErrorCode.TRANSACTION_CONFLICT.getMessageDefinition(methodName,
+                                                                                                                   this.getClass().getName(),
+                                                                                                                   guid,
+                                                                                                                   repositoryName,
+                                                                                                                   Integer.toString(attempt)),
+                                                       this.getClass().getName(),
+                                                       methodName,
+                                                       error);
+                }
+
+                log.debug("{} transaction conflict on instance {} - retrying (attempt {})", methodName, guid, attempt);
+
+                try
+                {
+                    Thread.sleep(TRANSACTION_CONFLICT_RETRY_BACKOFF_MS * attempt);
+                }
+                catch (InterruptedException interrupted)
+                {
+                    Thread.currentThread().interrupt();
+
+                    throw error;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Determine whether a failed commit was caused by a concurrent transaction, in which case it is worth retrying.
+     *
+     * @param error exception from JanusGraph
+     * @return boolean
+     */
+    private boolean isTransactionConflict(JanusGraphException error)
+    {
+        return error.isCausedBy(PermanentLockingException.class) || error.isCausedBy(TemporaryBackendException.class);
+    }
+
+
     // A note on existence checking:
     // The MDC will NOT have already checked that there is not already an entity or entity proxy wth the same GUID.
     // Although we KNOW that this is an attempt to create a new entity and that the GUID has just been generated,
     // so we COULD re-spin it, we should NOT do that here - it should be in the MDC layer and RepoHelper layer.
     // Therefore if we get a GUID clash here we throw an exception.
     //
-    synchronized EntityDetail createEntityInStore(EntityDetail entity)
+    EntityDetail createEntityInStore(EntityDetail entity)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
+        final String methodName = "createEntityInStore";
+
+        return executeWithRetry(methodName, entity.getGUID(), () -> createEntityInStoreInTransaction(entity));
+    }
+
+
+    private EntityDetail createEntityInStoreInTransaction(EntityDetail entity)
 
     throws RepositoryErrorException,
            InvalidParameterException
@@ -289,7 +408,18 @@ class GraphOMRSMetadataStore {
     // If the MDC found that an entity (of any description, entity, proxy or reference copy) is present - then it will not have asked you to create the proxy
     // So - if we do find that there is a GUID clash then throw exception.
     //
-    synchronized void createEntityProxyInStore(EntityProxy entityProxy)
+    void createEntityProxyInStore(EntityProxy entityProxy)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
+        final String methodName = "createEntityProxyInStore";
+
+        executeWithRetry(methodName, entityProxy.getGUID(), () -> { createEntityProxyInStoreInTransaction(entityProxy); return null; });
+    }
+
+
+    private void createEntityProxyInStoreInTransaction(EntityProxy entityProxy)
 
     throws RepositoryErrorException,
            InvalidParameterException
@@ -391,6 +521,17 @@ class GraphOMRSMetadataStore {
      */
     synchronized void saveEntityReferenceCopyToStore(EntityDetail entity)
 
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
+        final String methodName = "saveEntityReferenceCopyToStore";
+
+        executeWithRetry(methodName, entity.getGUID(), () -> { saveEntityReferenceCopyToStoreInTransaction(entity); return null; });
+    }
+
+
+    private void saveEntityReferenceCopyToStoreInTransaction(EntityDetail entity)
+
     throws InvalidParameterException,
            RepositoryErrorException
 
@@ -526,6 +667,17 @@ class GraphOMRSMetadataStore {
      */
     synchronized void saveEntityReferenceCopyToStore(EntityProxy entity)
 
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
+        final String methodName = "saveEntityReferenceCopyToStore";
+
+        executeWithRetry(methodName, entity.getGUID(), () -> { saveEntityReferenceCopyToStoreInTransaction(entity); return null; });
+    }
+
+
+    private void saveEntityReferenceCopyToStoreInTransaction(EntityProxy entity)
+
             throws InvalidParameterException,
                    RepositoryErrorException
 
@@ -607,7 +759,7 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized EntityDetail getEntityDetailFromStore(String guid)
+    EntityDetail getEntityDetailFromStore(String guid)
 
     throws EntityNotKnownException,
            EntityProxyOnlyException,
@@ -704,7 +856,47 @@ class GraphOMRSMetadataStore {
         return entity;
     }
 
-    synchronized EntitySummary getEntitySummaryFromStore(String guid)
+    // getEntityDetailsFromStore
+    List<EntityDetail> getEntityDetailsFromStore(Collection<String> guids)
+    {
+
+        final String methodName = "getEntityDetailsFromStore";
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        /*
+         * A single traversal retrieves all the entities - the GUID lookup is answered by the composite index
+         * on the entity GUID property key.  Proxies are not returned.
+         */
+        GraphTraversal<Vertex, Vertex> gt = g.V().has(PROPERTY_KEY_ENTITY_GUID, within(guids))
+                                                 .hasLabel("Entity")
+                                                 .has(PROPERTY_KEY_ENTITY_IS_PROXY, false);
+
+        while (gt.hasNext())
+        {
+            Vertex vertex = gt.next();
+            log.debug("{} found vertex {}", methodName, vertex);
+
+            EntityDetail entityDetail = new EntityDetail();
+            try
+            {
+                entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
+                entities.add(entityDetail);
+            }
+            catch (Exception e)
+            {
+                log.error("{} caught exception from entity mapper, entity being ignored, {}", methodName, e.getMessage());
+            }
+        }
+
+        g.tx().commit();
+
+        return entities;
+    }
+
+    EntitySummary getEntitySummaryFromStore(String guid)
 
     throws EntityNotKnownException,
            RepositoryErrorException
@@ -774,7 +966,7 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized EntityProxy getEntityProxyFromStore(String guid)
+    EntityProxy getEntityProxyFromStore(String guid)
 
     throws RepositoryErrorException
 
@@ -833,7 +1025,18 @@ class GraphOMRSMetadataStore {
     // This method needs to locate the vertices so that the edge can be created in the graph.
     // If either of these fails then throw exception
     //
-    synchronized void createRelationshipInStore(Relationship relationship)
+    void createRelationshipInStore(Relationship relationship)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
+        final String methodName = "createRelationshipInStore";
+
+        executeWithRetry(methodName, relationship.getGUID(), () -> { createRelationshipInStoreInTransaction(relationship); return null; });
+    }
+
+
+    private void createRelationshipInStoreInTransaction(Relationship relationship)
 
     throws RepositoryErrorException,
            InvalidParameterException
@@ -976,6 +1179,17 @@ class GraphOMRSMetadataStore {
      */
     synchronized void saveRelationshipReferenceCopyToStore(Relationship relationship)
 
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
+        final String methodName = "saveRelationshipReferenceCopyToStore";
+
+        executeWithRetry(methodName, relationship.getGUID(), () -> { saveRelationshipReferenceCopyToStoreInTransaction(relationship); return null; });
+    }
+
+
+    private void saveRelationshipReferenceCopyToStoreInTransaction(Relationship relationship)
+
     throws InvalidParameterException,
            RepositoryErrorException
 
@@ -1152,7 +1366,7 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized Relationship getRelationshipFromStore(String guid)
+    Relationship getRelationshipFromStore(String guid)
 
     throws RepositoryErrorException
 
@@ -1229,6 +1443,16 @@ class GraphOMRSMetadataStore {
 
     synchronized void updateEntityInStore(EntityDetail entity)
 
+    throws RepositoryErrorException
+    {
+        final String methodName = "updateEntityInStore";
+
+        executeWithRetry(methodName, entity.getGUID(), () -> { updateEntityInStoreInTransaction(entity); return null; });
+    }
+
+
+    private void updateEntityInStoreInTransaction(EntityDetail entity)
+
     throws RepositoryErrorException
 
     {
@@ -1287,6 +1511,16 @@ class GraphOMRSMetadataStore {
 
     synchronized void updateEntityInStore(EntityProxy entity)
 
+    throws RepositoryErrorException
+    {
+        final String methodName = "updateEntityInStore";
+
+        executeWithRetry(methodName, entity.getGUID(), () -> { updateEntityInStoreInTransaction(entity); return null; });
+    }
+
+
+    private void updateEntityInStoreInTransaction(EntityProxy entity)
+
             throws RepositoryErrorException
 
     {
@@ -1440,6 +1674,16 @@ class GraphOMRSMetadataStore {
     // updateRelationshipInStore
     synchronized void updateRelationshipInStore(Relationship relationship)
 
+    throws RepositoryErrorException
+    {
+        final String methodName = "updateRelationshipInStore";
+
+        executeWithRetry(methodName, relationship.getGUID(), () -> { updateRelationshipInStoreInTransaction(relationship); return null; });
+    }
+
+
+    private void updateRelationshipInStoreInTransaction(Relationship relationship)
+
     throws RepositoryErrorException
 
     {
@@ -1560,7 +1804,7 @@ class GraphOMRSMetadataStore {
     }
 
     // getRelationshipsForEntity
-    synchronized List<Relationship> getRelationshipsForEntity(String entityGUID)
+    List<Relationship> getRelationshipsForEntity(String entityGUID)
 
     throws RepositoryErrorException
 
@@ -2079,6 +2323,49 @@ class GraphOMRSMetadataStore {
 
 
 
+    // findEntitiesByQualifiedPropertyValue
+    List<EntityDetail> findEntitiesByQualifiedPropertyValue(String qualifiedPropertyName,
+                                                            String propertyValue)
+    {
+
+        final String methodName = "findEntitiesByQualifiedPropertyValue";
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        /*
+         * An equality match on the property key is answered directly by the composite (or mixed) index for the key.
+         */
+        GraphTraversal<Vertex, Vertex> gt = g.V().has(getPropertyKeyEntity(qualifiedPropertyName), propertyValue)
+                                                 .hasLabel("Entity")
+                                                 .has(PROPERTY_KEY_ENTITY_IS_PROXY, false);
+
+        while (gt.hasNext())
+        {
+            Vertex vertex = gt.next();
+            log.debug("{} found vertex {}", methodName, vertex);
+
+            EntityDetail entityDetail = new EntityDetail();
+            try
+            {
+                entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
+                entities.add(entityDetail);
+            }
+            catch (Exception e)
+            {
+                log.error("{} caught exception from entity mapper, entity being ignored, {}", methodName, e.getMessage());
+            }
+        }
+
+        g.tx().commit();
+
+        return entities;
+    }
+
+
+
+
     // findEntitiesByPropertyForTypes
     List<EntityDetail> findEntitiesByPropertyForTypes(List<String>                   entityTypeNames,
                                                       String                         filterTypeName,
@@ -4758,11 +5045,14 @@ class GraphOMRSMetadataStore {
                         else
                             mapping = GraphOMRSGraphFactory.MixedIndexMapping.Default;
 
+                        // Exact lookups of unique string properties (such as qualifiedName) are also served by a composite index in new graphs.
+                        // The index does not enforce uniqueness because reference copies and instances of other types may share a value.
                         graphFactory.createMixedIndexForVertexProperty(
                                 qualifiedPropertyName,
                                 getPropertyKeyEntity(qualifiedPropertyName),
                                 primDefCat.getJavaClassName(),
-                                mapping);
+                                mapping,
+                                primDefCat == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING && typeDefAttribute.isUnique());
 
                     }
                 }
@@ -5296,6 +5586,27 @@ class GraphOMRSMetadataStore {
                               List<String>          limitResultsByClassification,
                               int level)
 
+    throws TypeErrorException,
+           EntityNotKnownException
+    {
+        return getSubGraph(entityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, level, 0);
+    }
+
+
+    /*
+     * As above, but the traversal is abandoned as soon as it reaches more than maxEntities distinct entities (including the
+     * root entity). The traversal expands one level at a time, so the entities kept are those closest to the root entity.
+     * Each entity and relationship is only returned once. A maxEntities of zero or less means no limit, in which case the
+     * results are the same as for the method above.
+     */
+    InstanceGraph getSubGraph(String                entityGUID,
+                              List<String>          entityTypeGUIDs,
+                              List<String>          relationshipTypeGUIDs,
+                              List<InstanceStatus>  limitResultsByStatus,
+                              List<String>          limitResultsByClassification,
+                              int level,
+                              int maxEntities)
+
     throws TypeErrorException,
            EntityNotKnownException
     {
@@ -5328,6 +5639,11 @@ class GraphOMRSMetadataStore {
         List<EntityDetail> entities = new ArrayList<>();
         List<Relationship> relationships = new ArrayList<>();
 
+        // Used to apply the entity budget (if any)
+        boolean bounded = maxEntities > 0;
+        Set<String> reachedEntityGUIDs = new HashSet<>();
+        Set<String> reachedRelationshipGUIDs = new HashSet<>();
+
         InstanceGraph subGraph = new InstanceGraph();
 
 
@@ -5489,6 +5805,7 @@ class GraphOMRSMetadataStore {
                     EntityDetail rootEntity = new EntityDetail();
                     entityMapper.mapVertexToEntityDetail(rootVertex, rootEntity);
                     entities.add(rootEntity);
+                    reachedEntityGUIDs.add(entityGUID);
                     g.tx().commit();
 
                 }
@@ -5563,6 +5880,13 @@ class GraphOMRSMetadataStore {
                     // Include simplePath to avoid back-tracking
                     vertexTraversal = vertexTraversal.simplePath();
 
+                    // With an entity budget, complete each level before starting the next so that the traversal is
+                    // breadth-first - repeat() on its own may emit a deeper entity before a nearer one.
+                    if (bounded)
+                    {
+                        vertexTraversal = vertexTraversal.barrier();
+                    }
+
                     // Construct the overall traversal
 
                     GraphTraversal<Vertex, Map<String,Element>> overallTraversal;
@@ -5584,6 +5908,35 @@ class GraphOMRSMetadataStore {
 
                         log.debug("{} subgraph has edge {} and vertex {}", methodName, edge, vertex);
 
+                        if (bounded && edge != null && vertex != null)
+                        {
+                            /*
+                             * The traversal emits every simple path, so the same entity and relationship can be
+                             * emitted more than once. Skip anything already in the subgraph and stop the traversal
+                             * when it reaches an entity that would exceed the budget. The barrier in the repeated
+                             * traversal means every entity at one level is emitted before any entity at the next, so
+                             * no entity nearer the root can be dropped. The traversed-from entity is always already
+                             * in the subgraph, so the result remains connected to the root.
+                             */
+                            String vertexGUID = entityMapper.getEntityGUID(vertex);
+                            String edgeGUID = relationshipMapper.getRelationshipGUID(edge);
+
+                            if (!reachedEntityGUIDs.contains(vertexGUID))
+                            {
+                                if (reachedEntityGUIDs.size() >= maxEntities)
+                                {
+                                    log.debug("{} entity budget of {} reached", methodName, maxEntities);
+                                    break;
+                                }
+                            }
+                            else if (reachedRelationshipGUIDs.contains(edgeGUID))
+                            {
+                                continue;
+                            }
+
+                            reachedRelationshipGUIDs.add(edgeGUID);
+                        }
+
                         if (edge != null && vertex != null)
                         {
 
@@ -5639,7 +5992,9 @@ class GraphOMRSMetadataStore {
 
                                 log.debug("{} Create entity detail for remote vertex {}", methodName, vertex);
 
-                                if (!entityMapper.isProxy(vertex))
+                                boolean newEntity = !bounded || reachedEntityGUIDs.add(entityMapper.getEntityGUID(vertex));
+
+                                if (newEntity && !entityMapper.isProxy(vertex))
                                 {
                                     EntityDetail entityDetail = new EntityDetail();
                                     entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
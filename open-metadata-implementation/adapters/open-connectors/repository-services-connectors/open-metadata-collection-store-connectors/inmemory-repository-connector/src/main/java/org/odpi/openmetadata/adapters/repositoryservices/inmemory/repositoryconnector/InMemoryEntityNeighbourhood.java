@@ -27,6 +27,7 @@ class InMemoryEntityNeighbourhood
     private List<InstanceStatus>      limitResultsByStatus;
     private List<String>              limitResultsByClassification;
     private int                       level;
+    private int                       maxEntities            = 0;
     private Set<String>               graphEntities          = new HashSet<>();
     private Set<String>               graphRelationships     = new HashSet<>();
     private Map<String, Set<String>>  entityToRelationships  = new HashMap<>();
@@ -84,6 +85,54 @@ class InMemoryEntityNeighbourhood
         initializeMaps();
     }
 
+    /**
+     * Constructor for a neighbourhood that is limited to a maximum number of entities.
+     *
+     * @param repositoryHelper             helper methods when calling the repository connector
+     * @param repositoryName               name of this repository
+     * @param repositoryValidator          repository validator
+     * @param entityStore                  entity store
+     * @param relationshipStore            relationship store
+     * @param rootEntityGUID               the starting point of the query.
+     * @param entityTypeGUIDs              list of entity types to include in the query results.  Null means include
+     *                                     all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs        list of relationship types to include in the query results.  Null means include
+     *                                     all entities found, irrespective of their type.
+     * @param limitResultsByStatus         By default, relationships in all statuses are returned.  However, it is possible
+     *                                     to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                                     status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param level                        the number of the relationships out from the starting entity that the query will traverse to
+     * @param maxEntities                  the maximum number of entities in the graph (including the root entity).  Zero or less
+     *                                     means no limit.  The traversal stops adding new entities once the limit is reached.
+     */
+    InMemoryEntityNeighbourhood(OMRSRepositoryHelper      repositoryHelper,
+                                String                    repositoryName,
+                                OMRSRepositoryValidator   repositoryValidator,
+                                Map<String, EntityDetail> entityStore,
+                                Map<String, Relationship> relationshipStore,
+                                String                    rootEntityGUID,
+                                List<String>              entityTypeGUIDs,
+                                List<String>              relationshipTypeGUIDs,
+                                List<InstanceStatus>      limitResultsByStatus,
+                                List<String>              limitResultsByClassification,
+                                int                       level,
+                                int                       maxEntities)
+    {
+        this(repositoryHelper,
+             repositoryName,
+             repositoryValidator,
+             entityStore,
+             relationshipStore,
+             rootEntityGUID,
+             entityTypeGUIDs,
+             relationshipTypeGUIDs,
+             limitResultsByStatus,
+             limitResultsByClassification,
+             level);
+        this.maxEntities = maxEntities;
+    }
+
     /**
      * Initialize maps that help us traverse between entities and relationships using their guids
      */
@@ -395,7 +444,7 @@ class InMemoryEntityNeighbourhood
                          * Check to see if we have already visited this relationship
                          */
                         if (!visitedRelationships.contains(relationshipGuid)) {
-                            if (verifyRelationshipForEntityNeighbourhood(relationship)) {
+                            if (verifyRelationshipForEntityNeighbourhood(relationship) && withinEntityBudget(relationship)) {
                                 /*
                                  * valid relationship and entities
                                  */
@@ -437,6 +486,38 @@ class InMemoryEntityNeighbourhood
     }
 
 
+    /**
+     * Check that adding the relationship to the graph would not take the number of entities in the graph over the
+     * maximum.  A relationship between entities that are already in the graph is always allowed.  A relationship
+     * that is rejected is not marked as visited, so it is added if its other end joins the graph later in the traversal.
+     *
+     * @param relationship relationship to check
+     * @return true if the relationship can be added
+     */
+    private boolean withinEntityBudget(Relationship relationship)
+    {
+        if (maxEntities <= 0)
+        {
+            return true;
+        }
+
+        int newEntityCount = 0;
+        String end1Guid = getEnd1EntityGUID(relationship);
+        String end2Guid = getEnd2EntityGUID(relationship);
+
+        if (!graphEntities.contains(end1Guid))
+        {
+            newEntityCount++;
+        }
+        if ((!Objects.equals(end1Guid, end2Guid)) && (!graphEntities.contains(end2Guid)))
+        {
+            newEntityCount++;
+        }
+
+        return graphEntities.size() + newEntityCount <= maxEntities;
+    }
+
+
     /**
      * Return the guid of an entity linked to end 1 of the relationship.
      *
@@ -12,6 +12,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSInstanceGraphDigestUtilities;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
@@ -179,6 +180,52 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  The entities are
+     * retrieved from the store in a single operation.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of the entities that were found, in the order they were requested; entities that are not known,
+     * are only proxies or are soft-deleted are omitted.  Null means none of the entities were found.
+     * @throws InvalidParameterException the list of guids is null or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.getEntityDetailsParameterValidation(userId, guids);
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail> results = new ArrayList<>();
+
+        for (EntityDetail entity : repositoryStore.getEntities(new LinkedHashSet<>(guids)))
+        {
+            if (entity.getStatus() != InstanceStatus.DELETED)
+            {
+                results.add(entity);
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
     /**
      * Return a historical version of an entity - includes the header, classifications and properties of the entity.
      *
@@ -442,6 +489,93 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return the entities whose string property exactly matches the supplied value.  Current values are served
+     * from an index maintained by the store.  Historical queries fall back to a search of the time-warped store.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the property to match.
+     * @param propertyValue value of the property (this is a literal value rather than a regular expression).
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @return a list of entities matching the supplied value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for the requested type of entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> findEntitiesByUniquePropertyValue(String               userId,
+                                                                String               entityTypeGUID,
+                                                                String               propertyName,
+                                                                String               propertyValue,
+                                                                List<InstanceStatus> limitResultsByStatus,
+                                                                Date                 asOfTime) throws InvalidParameterException,
+                                                                                                      TypeErrorException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      PropertyErrorException,
+                                                                                                      PagingErrorException,
+                                                                                                      UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesByUniquePropertyValue";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByUniquePropertyValueParameterValidation(userId,
+                                                                   entityTypeGUID,
+                                                                   propertyName,
+                                                                   propertyValue,
+                                                                   limitResultsByStatus,
+                                                                   asOfTime);
+
+        /*
+         * Perform operation
+         */
+        if (asOfTime != null)
+        {
+            InstanceProperties matchProperties = repositoryHelper.addStringPropertyToInstance(repositoryName,
+                                                                                              null,
+                                                                                              propertyName,
+                                                                                              repositoryHelper.getExactMatchRegex(propertyValue),
+                                                                                              methodName);
+
+            return this.findEntitiesByProperty(userId,
+                                               entityTypeGUID,
+                                               matchProperties,
+                                               MatchCriteria.ALL,
+                                               0,
+                                               limitResultsByStatus,
+                                               null,
+                                               asOfTime,
+                                               null,
+                                               null,
+                                               0);
+        }
+
+        List<EntityDetail> foundEntities = new ArrayList<>();
+
+        for (EntityDetail entity : repositoryStore.getEntitiesByPropertyValue(propertyName, propertyValue))
+        {
+            if ((repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entity)) &&
+                (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)))
+            {
+                foundEntities.add(entity);
+            }
+        }
+
+        return repositoryHelper.formatEntityResults(foundEntities, 0, null, null, 0);
+    }
+
+
     /**
      * Return a list of entities that match the supplied criteria.  The results can be returned over many pages.
      *
@@ -1357,6 +1491,94 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return a digest of the entities and relationships that radiate out from the supplied entity GUID.
+     * The traversal stops adding entities once the maximum number of entities is reached.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param maxEntities the maximum number of entities to return.  Zero or less means no limit.
+     * @param digestPropertyNames names of the properties to return for each instance.  Null means return the
+     *                            full instances.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public  InstanceGraph getEntityNeighborhoodDigest(String               userId,
+                                                      String               entityGUID,
+                                                      List<String>         entityTypeGUIDs,
+                                                      List<String>         relationshipTypeGUIDs,
+                                                      List<InstanceStatus> limitResultsByStatus,
+                                                      List<String>         limitResultsByClassification,
+                                                      Date                 asOfTime,
+                                                      int                  level,
+                                                      int                  maxEntities,
+                                                      List<String>         digestPropertyNames) throws InvalidParameterException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       EntityNotKnownException,
+                                                                                                       TypeErrorException,
+                                                                                                       PropertyErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.getEntityNeighborhoodDigestParameterValidation(userId,
+                                                             entityGUID,
+                                                             entityTypeGUIDs,
+                                                             relationshipTypeGUIDs,
+                                                             limitResultsByStatus,
+                                                             limitResultsByClassification,
+                                                             asOfTime,
+                                                             level,
+                                                             maxEntities,
+                                                             digestPropertyNames);
+
+        /*
+         * Time warp the stores
+         */
+        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+
+        InMemoryEntityNeighbourhood inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,
+                                                                                                  repositoryName,
+                                                                                                  repositoryValidator,
+                                                                                                  entityStore,
+                                                                                                  relationshipStore,
+                                                                                                  entityGUID,
+                                                                                                  entityTypeGUIDs,
+                                                                                                  relationshipTypeGUIDs,
+                                                                                                  limitResultsByStatus,
+                                                                                                  limitResultsByClassification,
+                                                                                                  level,
+                                                                                                  maxEntities);
+
+        return OMRSInstanceGraphDigestUtilities.getGraphDigest(inMemoryEntityNeighbourhood.createInstanceGraph(),
+                                                               digestPropertyNames);
+    }
+
+
     /* ======================================================
      * Group 4: Maintaining entity and relationship instances
      */
@@ -8,6 +8,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
@@ -28,6 +31,14 @@ class InMemoryOMRSMetadataStore
     private final Map<String, StoredEntity>       entityStore       = new HashMap<>();
     private final Map<String, StoredRelationship> relationshipStore = new HashMap<>();
 
+    /*
+     * Exact match indexes over string properties (property name to property value to entity GUIDs).
+     * An index is built the first time a property is looked up by value and is then maintained as entities are stored.
+     * The values indexed for each entity are remembered so that they can be removed when the entity changes.
+     */
+    private final Map<String, Map<String, Set<String>>> propertyValueIndexes  = new HashMap<>();
+    private final Map<String, Map<String, String>>      indexedPropertyValues = new HashMap<>();
+
     private static final Logger log = LoggerFactory.getLogger(InMemoryOMRSMetadataStore.class);
 
 
@@ -107,6 +118,30 @@ class InMemoryOMRSMetadataStore
     }
 
 
+    /**
+     * Return the entities identified by the guids.  Guids that do not identify a full entity are skipped.
+     *
+     * @param guids - unique identifiers for the entities
+     * @return list of entity objects in the order of the guids
+     */
+    synchronized List<EntityDetail>  getEntities(Collection<String> guids)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            StoredEntity storedEntity = entityStore.get(guid);
+
+            if ((storedEntity != null) && (storedEntity.getEntity() != null))
+            {
+                entities.add(storedEntity.getEntity());
+            }
+        }
+
+        return entities;
+    }
+
+
     /**
      * Return the entity identified by the guid.
      *
@@ -246,6 +281,8 @@ class InMemoryOMRSMetadataStore
             existingStoredEntity = entityStore.put(entity.getGUID(), newStoredEntity);
         }
 
+        indexEntity(entity.getGUID());
+
         return entity;
     }
 
@@ -296,6 +333,8 @@ class InMemoryOMRSMetadataStore
         {
             storedEntity.saveEntity(entityDetail);
         }
+
+        indexEntity(entityDetail.getGUID());
     }
 
 
@@ -359,6 +398,8 @@ class InMemoryOMRSMetadataStore
         {
             storedEntity.saveEntity(entity);
         }
+
+        indexEntity(entity.getGUID());
     }
 
 
@@ -562,10 +603,171 @@ class InMemoryOMRSMetadataStore
         if (storedEntity != null)
         {
             entityStore.remove(guid);
+            unindexEntity(guid);
+        }
+    }
+
+
+    /**
+     * Return the current entities whose string property has exactly the requested value.  The index for the
+     * property is built on the first request.
+     *
+     * @param propertyName name of the property
+     * @param propertyValue value to match
+     * @return list of entities (may be empty)
+     */
+    synchronized List<EntityDetail> getEntitiesByPropertyValue(String propertyName,
+                                                               String propertyValue)
+    {
+        Map<String, Set<String>> propertyValueIndex = propertyValueIndexes.get(propertyName);
+
+        if (propertyValueIndex == null)
+        {
+            propertyValueIndex = new HashMap<>();
+            propertyValueIndexes.put(propertyName, propertyValueIndex);
+
+            for (Map.Entry<String, StoredEntity> storedEntity : entityStore.entrySet())
+            {
+                indexEntityProperty(storedEntity.getKey(), storedEntity.getValue().getEntity(), propertyName, propertyValueIndex);
+            }
+        }
+
+        List<EntityDetail> results = new ArrayList<>();
+        Set<String>        guids   = propertyValueIndex.get(propertyValue);
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                StoredEntity storedEntity = entityStore.get(guid);
+
+                if (storedEntity != null)
+                {
+                    EntityDetail entity = storedEntity.getEntity();
+
+                    /*
+                     * The stored entity is returned to callers so recheck the value in case it has been changed in place.
+                     */
+                    if (propertyValue.equals(getStringPropertyValue(entity, propertyName)))
+                    {
+                        results.add(entity);
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Refresh the index entries for the current version of an entity.
+     *
+     * @param guid unique identifier of the entity
+     */
+    private void indexEntity(String guid)
+    {
+        unindexEntity(guid);
+
+        StoredEntity storedEntity = entityStore.get(guid);
+
+        if (storedEntity != null)
+        {
+            for (Map.Entry<String, Map<String, Set<String>>> propertyValueIndex : propertyValueIndexes.entrySet())
+            {
+                indexEntityProperty(guid, storedEntity.getEntity(), propertyValueIndex.getKey(), propertyValueIndex.getValue());
+            }
         }
     }
 
 
+    /**
+     * Add an entity to the index for one of its properties.
+     *
+     * @param guid unique identifier of the entity
+     * @param entity current version of the entity (null if only the proxy is known)
+     * @param propertyName name of the indexed property
+     * @param propertyValueIndex index for the property
+     */
+    private void indexEntityProperty(String                   guid,
+                                     EntityDetail             entity,
+                                     String                   propertyName,
+                                     Map<String, Set<String>> propertyValueIndex)
+    {
+        String propertyValue = getStringPropertyValue(entity, propertyName);
+
+        if (propertyValue != null)
+        {
+            propertyValueIndex.computeIfAbsent(propertyValue, key -> new HashSet<>()).add(guid);
+            indexedPropertyValues.computeIfAbsent(guid, key -> new HashMap<>()).put(propertyName, propertyValue);
+        }
+    }
+
+
+    /**
+     * Remove all index entries for an entity.
+     *
+     * @param guid unique identifier of the entity
+     */
+    private void unindexEntity(String guid)
+    {
+        Map<String, String> indexedValues = indexedPropertyValues.remove(guid);
+
+        if (indexedValues != null)
+        {
+            for (Map.Entry<String, String> indexedValue : indexedValues.entrySet())
+            {
+                Map<String, Set<String>> propertyValueIndex = propertyValueIndexes.get(indexedValue.getKey());
+
+                if (propertyValueIndex != null)
+                {
+                    Set<String> guids = propertyValueIndex.get(indexedValue.getValue());
+
+                    if (guids != null)
+                    {
+                        guids.remove(guid);
+
+                        if (guids.isEmpty())
+                        {
+                            propertyValueIndex.remove(indexedValue.getValue());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the value of a string property from an entity.
+     *
+     * @param entity entity to examine (may be null)
+     * @param propertyName name of the property
+     * @return string value or null if the entity does not have a string value for the property
+     */
+    private String getStringPropertyValue(EntityDetail entity,
+                                          String       propertyName)
+    {
+        if ((entity != null) && (entity.getProperties() != null))
+        {
+            InstancePropertyValue instancePropertyValue = entity.getProperties().getPropertyValue(propertyName);
+
+            if ((instancePropertyValue != null) &&
+                (instancePropertyValue.getInstancePropertyCategory() == InstancePropertyCategory.PRIMITIVE))
+            {
+                Object primitiveValue = ((PrimitivePropertyValue) instancePropertyValue).getPrimitiveValue();
+
+                if (primitiveValue instanceof String)
+                {
+                    return (String) primitiveValue;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
     /**
      * Remove a relationship from the active store and add it to the history store.
      * This occurs when an entity is deleted.
@@ -0,0 +1,63 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+public class TestInMemoryBulkEntityRetrieval
+{
+    @Mock
+    private OMRSRepositoryHelper repositoryHelper;
+
+    private InMemoryOMRSMetadataStore store;
+
+    @BeforeMethod
+    public void setup()
+    {
+        MockitoAnnotations.openMocks(this);
+        store = new InMemoryOMRSMetadataStore("testRepository", repositoryHelper, "testCollection");
+    }
+
+    @Test
+    void testEntitiesReturnedInRequestOrder() throws Exception
+    {
+        store.createEntityInStore(getEntity("1111"));
+        store.createEntityInStore(getEntity("2222"));
+        store.createEntityInStore(getEntity("3333"));
+
+        List<EntityDetail> results = store.getEntities(Arrays.asList("3333", "unknown", "1111"));
+        assertEquals(results.size(), 2);
+        assertEquals(results.get(0).getGUID(), "3333");
+        assertEquals(results.get(1).getGUID(), "1111");
+
+        // purged entities are not returned
+        store.purgeEntityFromStore("3333");
+        results = store.getEntities(Arrays.asList("3333", "2222"));
+        assertEquals(results.size(), 1);
+        assertEquals(results.get(0).getGUID(), "2222");
+
+        assertTrue(store.getEntities(Collections.singletonList("unknown")).isEmpty());
+    }
+
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setVersion(1);
+
+        return entity;
+    }
+}
@@ -0,0 +1,81 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+public class TestInMemoryPropertyValueIndex
+{
+    private static final String QUALIFIED_NAME = "qualifiedName";
+
+    @Mock
+    private OMRSRepositoryHelper repositoryHelper;
+
+    private InMemoryOMRSMetadataStore store;
+
+    @BeforeMethod
+    public void setup()
+    {
+        MockitoAnnotations.openMocks(this);
+        store = new InMemoryOMRSMetadataStore("testRepository", repositoryHelper, "testCollection");
+    }
+
+    @Test
+    void testIndexFollowsUpdatesAndPurges() throws Exception
+    {
+        store.createEntityInStore(getEntity("1111", "asset1", 1));
+        store.createEntityInStore(getEntity("2222", "asset2", 1));
+
+        // the first lookup builds the index from the existing entities
+        List<EntityDetail> results = store.getEntitiesByPropertyValue(QUALIFIED_NAME, "asset1");
+        assertEquals(results.size(), 1);
+        assertEquals(results.get(0).getGUID(), "1111");
+
+        // later entities are added to the index as they are stored
+        store.createEntityInStore(getEntity("3333", "asset1", 1));
+        assertEquals(store.getEntitiesByPropertyValue(QUALIFIED_NAME, "asset1").size(), 2);
+
+        // an update moves the entity to its new value
+        store.updateEntityInStore(getEntity("1111", "asset3", 2));
+        results = store.getEntitiesByPropertyValue(QUALIFIED_NAME, "asset1");
+        assertEquals(results.size(), 1);
+        assertEquals(results.get(0).getGUID(), "3333");
+        assertEquals(store.getEntitiesByPropertyValue(QUALIFIED_NAME, "asset3").get(0).getGUID(), "1111");
+
+        // purged entities are removed
+        store.purgeEntityFromStore("3333");
+        assertTrue(store.getEntitiesByPropertyValue(QUALIFIED_NAME, "asset1").isEmpty());
+
+        // values are matched exactly
+        assertTrue(store.getEntitiesByPropertyValue(QUALIFIED_NAME, "asset.*").isEmpty());
+    }
+
+    private EntityDetail getEntity(String guid, String qualifiedName, long version)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(qualifiedName);
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty(QUALIFIED_NAME, propertyValue);
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setVersion(version);
+        entity.setProperties(properties);
+
+        return entity;
+    }
+}
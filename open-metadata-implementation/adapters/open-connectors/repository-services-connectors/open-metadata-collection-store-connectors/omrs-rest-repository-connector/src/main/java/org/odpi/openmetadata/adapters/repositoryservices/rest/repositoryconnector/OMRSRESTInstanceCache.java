@@ -0,0 +1,518 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OMRSRESTInstanceCache remembers the entities and relationships retrieved from the remote repository so that
+ * repeated requests for the same instance are not sent to the remote server.  The cache is keyed on the unique
+ * identifier of the instance and each entry records the version of the instance it holds.  The results for each
+ * user are held separately because the remote server may apply its own security checks.
+ * <p>
+ * An entry is discarded when an instance event for the instance arrives from the cohort, or when the local server
+ * changes the instance through this connector.  For an instance that is cached, the version in the event is
+ * remembered in its entry so that a retrieval that was in flight when the event arrived can not put the old version
+ * back into the cache.  Events for instances that are not cached do not add entries; instead they move the cache
+ * to a new generation, and a retrieval that started in an earlier generation is not cached unless an entry for
+ * the instance already exists to check its version against.  Every entry expires after a
+ * fixed time as a safety net for missed events, and the least recently used entry is evicted when the cache is full.
+ * Exceptions and empty results are never cached, and the cached instances are copied on the way in and out so
+ * callers can not change them.
+ */
+class OMRSRESTInstanceCache
+{
+    private final int                                   maxEntries;
+    private final long                                  timeToLiveMillis;
+    private final LinkedHashMap<String, CachedInstance> cachedInstances;
+
+    private long hitCount   = 0;
+    private long missCount  = 0;
+    private long generation = 0;
+
+
+    /**
+     * Create a cache.
+     *
+     * @param maxEntries maximum number of instances in the cache
+     * @param timeToLiveMillis maximum age of an entry
+     */
+    OMRSRESTInstanceCache(int  maxEntries,
+                          long timeToLiveMillis)
+    {
+        this.maxEntries       = maxEntries;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.cachedInstances  = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedInstance> eldest)
+            {
+                return size() > OMRSRESTInstanceCache.this.maxEntries;
+            }
+        };
+    }
+
+
+    /**
+     * Return a copy of the entity previously retrieved by the user.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the entity
+     * @return entity or null if not cached
+     */
+    synchronized EntityDetail getEntityDetail(String userId,
+                                              String guid)
+    {
+        CachedInstance cachedInstance = this.getCachedInstance(guid);
+
+        if (cachedInstance != null)
+        {
+            EntityDetail entity = cachedInstance.entityDetails.get(userId);
+
+            if (entity != null)
+            {
+                hitCount ++;
+                return new EntityDetail(entity);
+            }
+        }
+
+        missCount ++;
+        return null;
+    }
+
+
+    /**
+     * Remember the entity retrieved by the user.
+     *
+     * @param userId calling user
+     * @param entity retrieved entity
+     * @param queryGeneration generation of the cache when the retrieval started
+     */
+    synchronized void saveEntityDetail(String       userId,
+                                       EntityDetail entity,
+                                       long         queryGeneration)
+    {
+        CachedInstance cachedInstance = this.getEntryForInstance(userId, entity, queryGeneration);
+
+        if (cachedInstance != null)
+        {
+            cachedInstance.entityDetails.put(userId, new EntityDetail(entity));
+        }
+    }
+
+
+    /**
+     * Return a copy of the entity summary previously retrieved by the user.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the entity
+     * @return entity summary or null if not cached
+     */
+    synchronized EntitySummary getEntitySummary(String userId,
+                                                String guid)
+    {
+        CachedInstance cachedInstance = this.getCachedInstance(guid);
+
+        if (cachedInstance != null)
+        {
+            EntitySummary entity = cachedInstance.entitySummaries.get(userId);
+
+            if (entity != null)
+            {
+                hitCount ++;
+                return new EntitySummary(entity);
+            }
+        }
+
+        missCount ++;
+        return null;
+    }
+
+
+    /**
+     * Remember the entity summary retrieved by the user.
+     *
+     * @param userId calling user
+     * @param entity retrieved entity summary
+     * @param queryGeneration generation of the cache when the retrieval started
+     */
+    synchronized void saveEntitySummary(String        userId,
+                                        EntitySummary entity,
+                                        long          queryGeneration)
+    {
+        CachedInstance cachedInstance = this.getEntryForInstance(userId, entity, queryGeneration);
+
+        if (cachedInstance != null)
+        {
+            cachedInstance.entitySummaries.put(userId, new EntitySummary(entity));
+        }
+    }
+
+
+    /**
+     * Return a copy of the relationship previously retrieved by the user.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the relationship
+     * @return relationship or null if not cached
+     */
+    synchronized Relationship getRelationship(String userId,
+                                              String guid)
+    {
+        CachedInstance cachedInstance = this.getCachedInstance(guid);
+
+        if (cachedInstance != null)
+        {
+            Relationship relationship = cachedInstance.relationships.get(userId);
+
+            if (relationship != null)
+            {
+                hitCount ++;
+                return new Relationship(relationship);
+            }
+        }
+
+        missCount ++;
+        return null;
+    }
+
+
+    /**
+     * Remember the relationship retrieved by the user.
+     *
+     * @param userId calling user
+     * @param relationship retrieved relationship
+     * @param queryGeneration generation of the cache when the retrieval started
+     */
+    synchronized void saveRelationship(String       userId,
+                                       Relationship relationship,
+                                       long         queryGeneration)
+    {
+        CachedInstance cachedInstance = this.getEntryForInstance(userId, relationship, queryGeneration);
+
+        if (cachedInstance != null)
+        {
+            cachedInstance.relationships.put(userId, new Relationship(relationship));
+        }
+    }
+
+
+    /**
+     * Discard the cached copies of an instance.  Any version of the instance may be cached again afterwards.
+     *
+     * @param guid unique identifier of the instance
+     */
+    synchronized void invalidate(String guid)
+    {
+        if (guid != null)
+        {
+            cachedInstances.remove(guid);
+            generation ++;
+        }
+    }
+
+
+    /**
+     * Return the current generation of the cache.  It is read before an instance is retrieved from the remote
+     * repository and passed back when the instance is saved.
+     *
+     * @return generation
+     */
+    synchronized long getGeneration()
+    {
+        return generation;
+    }
+
+
+    /**
+     * Discard the cached copies of each instance described in an instance event from the cohort.
+     *
+     * @param instanceEvent event
+     */
+    synchronized void processInstanceEvent(OMRSInstanceEvent instanceEvent)
+    {
+        if ((instanceEvent == null) || (instanceEvent.getInstanceEventType() == null))
+        {
+            return;
+        }
+
+        switch (instanceEvent.getInstanceEventType())
+        {
+            case REFRESH_ENTITY_REQUEST:
+            case REFRESH_RELATIONSHIP_REQUEST:
+                /*
+                 * These requests do not change the instance.
+                 */
+                break;
+
+            case BATCH_INSTANCES_EVENT:
+                InstanceGraph instanceBatch = instanceEvent.getInstanceBatch();
+
+                if (instanceBatch != null)
+                {
+                    this.invalidateInstances(instanceBatch.getEntities());
+                    this.invalidateInstances(instanceBatch.getRelationships());
+                }
+                break;
+
+            default:
+                long latestVersion = this.getLatestVersion(instanceEvent);
+
+                this.invalidate(instanceEvent.getInstanceGUID(), latestVersion);
+                this.invalidate(instanceEvent.getOriginalInstanceGUID(), latestVersion);
+                this.invalidate(instanceEvent.getOriginalEntity(), latestVersion);
+                this.invalidate(instanceEvent.getEntity(), latestVersion);
+                this.invalidate(instanceEvent.getEntityProxy(), latestVersion);
+                this.invalidate(instanceEvent.getOriginalRelationship(), latestVersion);
+                this.invalidate(instanceEvent.getRelationship(), latestVersion);
+                break;
+        }
+    }
+
+
+    /**
+     * Discard all the cached instances.
+     */
+    synchronized void clear()
+    {
+        cachedInstances.clear();
+        generation ++;
+    }
+
+
+    /**
+     * Return the number of instances in the cache.
+     *
+     * @return count
+     */
+    synchronized int size()
+    {
+        return cachedInstances.size();
+    }
+
+
+    /**
+     * Return the number of requests that were served from the cache.
+     *
+     * @return count
+     */
+    synchronized long getHitCount()
+    {
+        return hitCount;
+    }
+
+
+    /**
+     * Return the number of requests that had to be sent to the remote repository.
+     *
+     * @return count
+     */
+    synchronized long getMissCount()
+    {
+        return missCount;
+    }
+
+
+    /**
+     * Return the version of the instance after the change described in the event.  Events that do not carry
+     * the changed instance (such as a purge) return the maximum value, so no version of the instance is
+     * cached again until the record of the event expires.
+     *
+     * @param instanceEvent event
+     * @return version
+     */
+    private long getLatestVersion(OMRSInstanceEvent instanceEvent)
+    {
+        if (instanceEvent.getInstanceEventType() == OMRSInstanceEventType.PURGED_ENTITY_EVENT ||
+            instanceEvent.getInstanceEventType() == OMRSInstanceEventType.PURGED_RELATIONSHIP_EVENT ||
+            instanceEvent.getInstanceEventType() == OMRSInstanceEventType.DELETE_PURGED_ENTITY_EVENT ||
+            instanceEvent.getInstanceEventType() == OMRSInstanceEventType.DELETE_PURGED_RELATIONSHIP_EVENT)
+        {
+            return Long.MAX_VALUE;
+        }
+        else if (instanceEvent.getEntity() != null)
+        {
+            return instanceEvent.getEntity().getVersion();
+        }
+        else if (instanceEvent.getEntityProxy() != null)
+        {
+            return instanceEvent.getEntityProxy().getVersion();
+        }
+        else if (instanceEvent.getRelationship() != null)
+        {
+            return instanceEvent.getRelationship().getVersion();
+        }
+
+        return Long.MAX_VALUE;
+    }
+
+
+    /**
+     * Discard the cached copies of each of the instances in a batch.
+     *
+     * @param instances instances from the event
+     */
+    private void invalidateInstances(List<? extends InstanceHeader> instances)
+    {
+        if (instances != null)
+        {
+            for (InstanceHeader instance : instances)
+            {
+                if (instance != null)
+                {
+                    this.invalidate(instance.getGUID(), instance.getVersion());
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Discard the cached copies of an instance from an event.
+     *
+     * @param instance instance from the event
+     * @param latestVersion version of the instance after the change
+     */
+    private void invalidate(InstanceHeader instance,
+                            long           latestVersion)
+    {
+        if (instance != null)
+        {
+            this.invalidate(instance.getGUID(), latestVersion);
+        }
+    }
+
+
+    /**
+     * Discard the cached copies of an instance.  If the instance is cached, the version that the instance has
+     * reached is recorded in its entry so that older versions are not cached again.  Otherwise, no entry is added
+     * (so the event does not evict other instances) and the generation moves on instead.
+     *
+     * @param guid unique identifier of the instance
+     * @param latestVersion version of the instance after the change
+     */
+    private void invalidate(String guid,
+                            long   latestVersion)
+    {
+        if (guid != null)
+        {
+            CachedInstance cachedInstance = this.getCachedInstance(guid);
+
+            if (cachedInstance == null)
+            {
+                generation ++;
+            }
+            else
+            {
+                long minimumVersion = Math.max(latestVersion, cachedInstance.minimumVersion);
+
+                cachedInstances.replace(guid, new CachedInstance(minimumVersion, System.currentTimeMillis() + timeToLiveMillis));
+            }
+        }
+    }
+
+
+    /**
+     * Return the unexpired entry for an instance.
+     *
+     * @param guid unique identifier of the instance
+     * @return entry or null
+     */
+    private CachedInstance getCachedInstance(String guid)
+    {
+        if (guid == null)
+        {
+            return null;
+        }
+
+        CachedInstance cachedInstance = cachedInstances.get(guid);
+
+        if ((cachedInstance != null) && (System.currentTimeMillis() > cachedInstance.expiryTime))
+        {
+            cachedInstances.remove(guid);
+            return null;
+        }
+
+        return cachedInstance;
+    }
+
+
+    /**
+     * Return the entry that a newly retrieved instance should be added to.  An entry holding an older version
+     * of the instance is replaced.  Null is returned if the instance is older than the version already cached
+     * or the version reported by the cohort, or if there is no entry for the instance and the cache has moved
+     * to a new generation since the retrieval started.
+     *
+     * @param userId calling user
+     * @param instance retrieved instance
+     * @param queryGeneration generation of the cache when the retrieval started
+     * @return entry or null if the instance must not be cached
+     */
+    private CachedInstance getEntryForInstance(String         userId,
+                                               InstanceHeader instance,
+                                               long           queryGeneration)
+    {
+        if ((userId == null) || (instance == null) || (instance.getGUID() == null))
+        {
+            return null;
+        }
+
+        CachedInstance cachedInstance = this.getCachedInstance(instance.getGUID());
+
+        if (cachedInstance == null)
+        {
+            if (queryGeneration != generation)
+            {
+                return null;
+            }
+
+            cachedInstance = new CachedInstance(instance.getVersion(), System.currentTimeMillis() + timeToLiveMillis);
+            cachedInstances.put(instance.getGUID(), cachedInstance);
+        }
+        else if (instance.getVersion() < cachedInstance.minimumVersion)
+        {
+            return null;
+        }
+        else if (instance.getVersion() > cachedInstance.minimumVersion)
+        {
+            /*
+             * The remote repository has a later version - the cached copies are out of date.
+             */
+            cachedInstance = new CachedInstance(instance.getVersion(), System.currentTimeMillis() + timeToLiveMillis);
+            cachedInstances.put(instance.getGUID(), cachedInstance);
+        }
+
+        return cachedInstance;
+    }
+
+
+    /**
+     * The cached copies of one version of an instance.
+     */
+    private static class CachedInstance
+    {
+        private final long                       minimumVersion;
+        private final long                       expiryTime;
+        private final Map<String, EntityDetail>  entityDetails   = new HashMap<>();
+        private final Map<String, EntitySummary> entitySummaries = new HashMap<>();
+        private final Map<String, Relationship>  relationships   = new HashMap<>();
+
+        CachedInstance(long minimumVersion,
+                       long expiryTime)
+        {
+            this.minimumVersion = minimumVersion;
+            this.expiryTime     = expiryTime;
+        }
+    }
+}
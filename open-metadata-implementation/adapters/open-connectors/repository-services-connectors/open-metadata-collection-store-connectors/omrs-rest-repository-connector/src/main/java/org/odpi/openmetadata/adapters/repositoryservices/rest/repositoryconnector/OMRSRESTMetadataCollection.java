@@ -28,7 +28,9 @@ import java.util.List;
 /**
  * The OMRSRESTMetadataCollection represents a remote metadata repository that supports the OMRS REST API.
  * Requests to this metadata collection are translated one-for-one to requests to the remote repository since
- * the OMRS REST API has a one-to-one correspondence with the metadata collection.
+ * the OMRS REST API has a one-to-one correspondence with the metadata collection.  The exception is when the
+ * optional instance cache is enabled: entities and relationships retrieved by their unique identifier are then
+ * remembered, and served locally until they change.
  */
 public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
 {
@@ -37,6 +39,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     private final LocalRepositoryServicesClient omrsClient;   /* Initialized in constructor */
     private final AuditLog                      auditLog; /* Initialized in constructor */
     private final List<String>                  unsupportedFunctionList = new ArrayList<>();
+    private final OMRSRESTInstanceCache         instanceCache; /* Initialized in constructor */
 
     private String                        errorMessage = null;
     private String                        remoteMetadataCollectionId = null;
@@ -54,6 +57,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
      * @param repositoryValidator  class used to validate type definitions and instances.
      * @param auditLog             optional logging destination
      * @param metadataCollectionId unique identifier for the metadata collection
+     * @param instanceCache        optional cache of the instances retrieved from the remote repository
      * @throws RepositoryErrorException problem creating the REST client
      */
     OMRSRESTMetadataCollection(OMRSRESTRepositoryConnector parentConnector,
@@ -62,7 +66,8 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
                                OMRSRepositoryHelper        repositoryHelper,
                                OMRSRepositoryValidator     repositoryValidator,
                                AuditLog                    auditLog,
-                               String                      metadataCollectionId) throws RepositoryErrorException
+                               String                      metadataCollectionId,
+                               OMRSRESTInstanceCache       instanceCache) throws RepositoryErrorException
     {
         /*
          * The metadata collection id is the unique id for the metadata collection.  It is managed by the super class.
@@ -72,6 +77,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         final String  methodName = "OMRSMetadataCollection constructor";
 
         this.auditLog = auditLog;
+        this.instanceCache = instanceCache;
 
         /*
          * The name of the repository comes from the connection
@@ -154,6 +160,20 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Test whether an exception from the remote repository means that it does not support the request.  This is
+     * reported with HTTP code 501, either by the remote repository or by the client when the remote server
+     * does not provide the requested URL.
+     *
+     * @param error exception from the remote repository
+     * @return boolean flag
+     */
+    private boolean isRemoteFunctionNotSupported(RepositoryErrorException error)
+    {
+        return error.getReportedHTTPCode() == 501;
+    }
+
+
     /**
      * Mark that a function has been reported as unsupported by the remote repository.
      *
@@ -177,6 +197,34 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Discard any cached copy of an instance that is about to be changed through this connector.
+     *
+     * @param guid unique identifier of the instance
+     */
+    private void forgetInstance(String guid)
+    {
+        if (instanceCache != null)
+        {
+            instanceCache.invalidate(guid);
+        }
+    }
+
+
+    /**
+     * Discard any cached copy of an instance that is about to be changed through this connector.
+     *
+     * @param instance instance to change
+     */
+    private void forgetInstance(InstanceHeader instance)
+    {
+        if (instance != null)
+        {
+            this.forgetInstance(instance.getGUID());
+        }
+    }
+
+
     /**
      * Validate that the metadata collection id from the remote server matches the one expected
      * locally.
@@ -912,7 +960,8 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
 
     /**
      * Return the header and classifications for a specific entity.  The returned entity summary may be from
-     * a full entity object or an entity proxy.
+     * a full entity object or an entity proxy.  If the instance cache is enabled, the entity summary is returned
+     * from the cache when the same user has already retrieved it.
      *
      * @param userId unique identifier for requesting user.
      * @param guid   String unique identifier for the entity
@@ -933,12 +982,28 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         final String methodName  = "getEntitySummary";
 
         validateClient(methodName);
+
+        if (instanceCache != null)
+        {
+            long          cacheGeneration = instanceCache.getGeneration();
+            EntitySummary entity          = instanceCache.getEntitySummary(userId, guid);
+
+            if (entity == null)
+            {
+                entity = omrsClient.getEntitySummary(userId, guid);
+                instanceCache.saveEntitySummary(userId, entity, cacheGeneration);
+            }
+
+            return entity;
+        }
+
         return omrsClient.getEntitySummary(userId, guid);
     }
 
 
     /**
-     * Return the header, classifications and properties of a specific entity.
+     * Return the header, classifications and properties of a specific entity.  If the instance cache is enabled,
+     * the entity is returned from the cache when the same user has already retrieved it.
      *
      * @param userId unique identifier for requesting user.
      * @param guid   String unique identifier for the entity.
@@ -961,10 +1026,71 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         final String methodName  = "getEntityDetail";
 
         validateClient(methodName);
+
+        if (instanceCache != null)
+        {
+            long         cacheGeneration = instanceCache.getGeneration();
+            EntityDetail entity          = instanceCache.getEntityDetail(userId, guid);
+
+            if (entity == null)
+            {
+                entity = omrsClient.getEntityDetail(userId, guid);
+                instanceCache.saveEntityDetail(userId, entity, cacheGeneration);
+            }
+
+            return entity;
+        }
+
         return omrsClient.getEntityDetail(userId, guid);
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  If the remote
+     * server reports that it does not support this request (because it is at an earlier level) the entities are
+     * retrieved one at a time and the remote server is not sent this request again.  Any other error is returned
+     * to the caller.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of the entities that were found, in the order they were requested; entities that are not known,
+     * are only proxies or are soft-deleted are omitted.  Null means none of the entities were found.
+     * @throws InvalidParameterException  the list of guids is null or contains a null guid.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String methodName  = "getEntityDetails";
+
+        validateClient(methodName);
+
+        if (isfunctionSupported(methodName))
+        {
+            try
+            {
+                return omrsClient.getEntityDetails(userId, guids);
+            }
+            catch (RepositoryErrorException error)
+            {
+                if (! isRemoteFunctionNotSupported(error))
+                {
+                    throw error;
+                }
+
+                markFunctionUnsupported(methodName);
+            }
+        }
+
+        return super.getEntityDetails(userId, guids);
+    }
+
+
     /**
      * Return a historical version of an entity includes the header, classifications and properties of the entity.
      *
@@ -1421,7 +1547,8 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
 
 
     /**
-     * Return a requested relationship.
+     * Return a requested relationship.  If the instance cache is enabled, the relationship is returned
+     * from the cache when the same user has already retrieved it.
      *
      * @param userId unique identifier for requesting user.
      * @param guid String unique identifier for the relationship.
@@ -1443,6 +1570,21 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         final String methodName  = "getRelationship";
 
         validateClient(methodName);
+
+        if (instanceCache != null)
+        {
+            long         cacheGeneration = instanceCache.getGeneration();
+            Relationship relationship    = instanceCache.getRelationship(userId, guid);
+
+            if (relationship == null)
+            {
+                relationship = omrsClient.getRelationship(userId, guid);
+                instanceCache.saveRelationship(userId, relationship, cacheGeneration);
+            }
+
+            return relationship;
+        }
+
         return omrsClient.getRelationship(userId, guid);
     }
 
@@ -1826,6 +1968,100 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a digest of the entities and relationships that radiate out from the supplied entity GUID.
+     * If the remote server does not support this request, the neighborhood is retrieved in full and
+     * reduced locally.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param maxEntities the maximum number of entities to return.  Zero or less means no limit.
+     * @param digestPropertyNames names of the properties to return for each instance.  Null means return the
+     *                            full instances.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public  InstanceGraph getEntityNeighborhoodDigest(String               userId,
+                                                      String               entityGUID,
+                                                      List<String>         entityTypeGUIDs,
+                                                      List<String>         relationshipTypeGUIDs,
+                                                      List<InstanceStatus> limitResultsByStatus,
+                                                      List<String>         limitResultsByClassification,
+                                                      Date                 asOfTime,
+                                                      int                  level,
+                                                      int                  maxEntities,
+                                                      List<String>         digestPropertyNames) throws InvalidParameterException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       TypeErrorException,
+                                                                                                       EntityNotKnownException,
+                                                                                                       PropertyErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        final String methodName  = "getEntityNeighborhoodDigest";
+
+        validateClient(methodName);
+
+        if (isfunctionSupported(methodName))
+        {
+            try
+            {
+                return omrsClient.getEntityNeighborhoodDigest(userId,
+                                                              entityGUID,
+                                                              entityTypeGUIDs,
+                                                              relationshipTypeGUIDs,
+                                                              limitResultsByStatus,
+                                                              limitResultsByClassification,
+                                                              asOfTime,
+                                                              level,
+                                                              maxEntities,
+                                                              digestPropertyNames);
+            }
+            catch (RepositoryErrorException error)
+            {
+                if (! isRemoteFunctionNotSupported(error))
+                {
+                    throw error;
+                }
+
+                markFunctionUnsupported(methodName);
+            }
+        }
+
+        return super.getEntityNeighborhoodDigest(userId,
+                                                 entityGUID,
+                                                 entityTypeGUIDs,
+                                                 relationshipTypeGUIDs,
+                                                 limitResultsByStatus,
+                                                 limitResultsByClassification,
+                                                 asOfTime,
+                                                 level,
+                                                 maxEntities,
+                                                 digestPropertyNames);
+    }
+
+
     /**
      * Return the list of entities that are of the types listed in entityTypeGUIDs and are connected, either directly or
      * indirectly to the entity identified by startEntityGUID.
@@ -2111,6 +2347,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityGUID);
 
             try
             {
@@ -2162,6 +2399,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityGUID);
 
             try
             {
@@ -2208,6 +2446,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityGUID);
 
             try
             {
@@ -2264,6 +2503,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(obsoleteEntityGUID);
 
             try
             {
@@ -2317,6 +2557,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(deletedEntityGUID);
 
             try
             {
@@ -2363,6 +2604,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(deletedEntityGUID);
 
             try
             {
@@ -2419,6 +2661,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityGUID);
 
             try
             {
@@ -2478,6 +2721,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityProxy);
 
             try
             {
@@ -2542,6 +2786,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityGUID);
 
             try
             {
@@ -2616,6 +2861,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityProxy);
 
             try
             {
@@ -2673,6 +2919,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityGUID);
 
             try
             {
@@ -2723,6 +2970,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityProxy);
 
             try
             {
@@ -2778,6 +3026,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityGUID);
 
             try
             {
@@ -2833,6 +3082,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityProxy);
 
             try
             {
@@ -3028,6 +3278,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(relationshipGUID);
 
             try
             {
@@ -3079,6 +3330,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(relationshipGUID);
 
             try
             {
@@ -3126,6 +3378,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(relationshipGUID);
 
             try
             {
@@ -3179,6 +3432,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(obsoleteRelationshipGUID);
 
             try
             {
@@ -3230,6 +3484,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(deletedRelationshipGUID);
 
             try
             {
@@ -3277,6 +3532,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(deletedRelationshipGUID);
 
             try
             {
@@ -3336,6 +3592,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityGUID);
 
             try
             {
@@ -3395,6 +3652,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityGUID);
 
             try
             {
@@ -3453,6 +3711,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(entityGUID);
 
             try
             {
@@ -3514,6 +3773,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(relationshipGUID);
 
             try
             {
@@ -3572,6 +3832,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(relationshipGUID);
 
             try
             {
@@ -3631,6 +3892,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
         if (isfunctionSupported(methodName))
         {
             validateClient(methodName);
+            this.forgetInstance(relationshipGUID);
 
             try
             {
@@ -2,21 +2,34 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnector;
 
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicRepositoryEventListener;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.Map;
+
 /**
  * The OMRSRESTRepositoryConnector is a connector to a remote Apache Atlas repository (or any other metadata repository
  * that supports the OMRS REST APIs).  This is the connector used by the EnterpriseOMRSRepositoryConnector to make a direct call
  * to another open metadata repository.
+ * <p>
+ * If the instanceCacheSize configuration property is set, the entities and relationships retrieved from the remote
+ * repository are cached.  The connector is passed the instance events from the cohort so that it can discard the
+ * cached instances that have changed.
  */
-public class OMRSRESTRepositoryConnector extends OMRSRepositoryConnector
+public class OMRSRESTRepositoryConnector extends OMRSRepositoryConnector implements OMRSTopicRepositoryEventListener
 {
+    private static final long defaultInstanceCacheTimeToLive = 60000;
+
     private OMRSRESTMetadataCollection  metadataCollection   = null;
     private RepositoryErrorException    metadataCollectionException = null;
+    private OMRSRESTInstanceCache       instanceCache = null;
 
     /**
      * Default constructor used by the OCF Connector Provider.
@@ -39,6 +52,8 @@ public class OMRSRESTRepositoryConnector extends OMRSRepositoryConnector
     {
         super.setMetadataCollectionId(metadataCollectionId);
 
+        instanceCache = this.getInstanceCache();
+
         try
         {
             /*
@@ -50,7 +65,8 @@ public class OMRSRESTRepositoryConnector extends OMRSRepositoryConnector
                                                                 repositoryHelper,
                                                                 repositoryValidator,
                                                                 auditLog,
-                                                                metadataCollectionId);
+                                                                metadataCollectionId,
+                                                                instanceCache);
         }
         catch (RepositoryErrorException  error)
         {
@@ -88,4 +104,112 @@ public class OMRSRESTRepositoryConnector extends OMRSRepositoryConnector
 
         return metadataCollection;
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Create the instance cache if it is requested in the configuration properties of the connection.
+     *
+     * @return instance cache or null if caching is not enabled
+     */
+    private OMRSRESTInstanceCache getInstanceCache()
+    {
+        if ((connectionProperties != null) && (connectionProperties.getConfigurationProperties() != null))
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            long maxEntries = this.getLongProperty(configurationProperties,
+                                                   OMRSRESTRepositoryConnectorProvider.INSTANCE_CACHE_SIZE_PROPERTY,
+                                                   0);
+            long timeToLive = this.getLongProperty(configurationProperties,
+                                                   OMRSRESTRepositoryConnectorProvider.INSTANCE_CACHE_TIME_TO_LIVE_PROPERTY,
+                                                   defaultInstanceCacheTimeToLive);
+
+            if ((maxEntries > 0) && (timeToLive > 0))
+            {
+                return new OMRSRESTInstanceCache((int) Math.min(maxEntries, Integer.MAX_VALUE), timeToLive);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return a numeric configuration property.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or is not a number
+     * @return value
+     */
+    private long getLongProperty(Map<String, Object> configurationProperties,
+                                 String              propertyName,
+                                 long                defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue instanceof Number)
+        {
+            return ((Number) propertyValue).longValue();
+        }
+        else if (propertyValue != null)
+        {
+            try
+            {
+                return Long.parseLong(propertyValue.toString().trim());
+            }
+            catch (NumberFormatException error)
+            {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * TypeDef events do not affect the cached instances.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processTypeDefEvent(OMRSTypeDefEvent event)
+    {
+        /*
+         * Nothing to do
+         */
+    }
+
+
+    /**
+     * Discard any cached copies of the instances described in an instance event from the cohort.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processInstanceEvent(OMRSInstanceEvent event)
+    {
+        if (instanceCache != null)
+        {
+            instanceCache.processInstanceEvent(event);
+        }
+    }
+
+
+    /**
+     * Free up any resources held since the connector is no longer needed.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        if (instanceCache != null)
+        {
+            instanceCache.clear();
+        }
+
+        super.disconnect();
+    }
+}
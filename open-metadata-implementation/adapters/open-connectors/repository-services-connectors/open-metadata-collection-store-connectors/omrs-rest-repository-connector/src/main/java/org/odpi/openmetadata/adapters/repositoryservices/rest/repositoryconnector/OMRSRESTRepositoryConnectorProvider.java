@@ -8,6 +8,9 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnectorProviderBase;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * In the Open Connector Framework (OCF), a ConnectorProvider is a factory for a specific type of connector.
  * The OMRSRESTRepositoryConnectorProvider is the connector provider for the OMRSRESTRepositoryConnector.
@@ -44,6 +47,13 @@ public class OMRSRESTRepositoryConnectorProvider extends OMRSRepositoryConnector
      */
     private static final Class<?> connectorClass       = OMRSRESTRepositoryConnector.class;
 
+    /*
+     * Names of configuration properties.  The instance cache is enabled by setting its maximum size.
+     * The time to live is in milliseconds.
+     */
+    public  static final String INSTANCE_CACHE_SIZE_PROPERTY         = "instanceCacheSize";
+    public  static final String INSTANCE_CACHE_TIME_TO_LIVE_PROPERTY = "instanceCacheTimeToLive";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * OMRS Connector implementation.
@@ -68,6 +78,11 @@ public class OMRSRESTRepositoryConnectorProvider extends OMRSRepositoryConnector
         connectorType.setDescription(connectorDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(INSTANCE_CACHE_SIZE_PROPERTY);
+        recognizedConfigurationProperties.add(INSTANCE_CACHE_TIME_TO_LIVE_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
 
         /*
@@ -0,0 +1,175 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Verify that the instance cache only returns the current version of an instance.
+ */
+public class TestOMRSRESTInstanceCache
+{
+    @Test
+    void testEntityCachedPerUser()
+    {
+        OMRSRESTInstanceCache cache  = new OMRSRESTInstanceCache(10, 60000);
+        EntityDetail          entity = getEntity("1111", 1);
+
+        cache.saveEntityDetail("user1", entity, cache.getGeneration());
+
+        EntityDetail cachedEntity = cache.getEntityDetail("user1", "1111");
+        assertNotNull(cachedEntity);
+        assertNotSame(cachedEntity, entity);
+        assertEquals(cachedEntity.getVersion(), 1);
+
+        assertNull(cache.getEntityDetail("user2", "1111"));
+        assertNull(cache.getEntitySummary("user1", "1111"));
+        assertEquals(cache.getHitCount(), 1);
+        assertEquals(cache.getMissCount(), 2);
+    }
+
+
+    @Test
+    void testEventInvalidatesEntity()
+    {
+        OMRSRESTInstanceCache cache = new OMRSRESTInstanceCache(10, 60000);
+
+        cache.saveEntityDetail("user1", getEntity("1111", 1), cache.getGeneration());
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                         getEntity("1111", 1),
+                                                         getEntity("1111", 2)));
+        assertNull(cache.getEntityDetail("user1", "1111"));
+
+        // a retrieval that started before the event must not put the old version back
+        cache.saveEntityDetail("user1", getEntity("1111", 1), cache.getGeneration());
+        assertNull(cache.getEntityDetail("user1", "1111"));
+
+        cache.saveEntityDetail("user1", getEntity("1111", 2), cache.getGeneration());
+        assertEquals(cache.getEntityDetail("user1", "1111").getVersion(), 2);
+
+        // a later version replaces the cached copies for every user
+        cache.saveEntityDetail("user2", getEntity("1111", 2), cache.getGeneration());
+        cache.saveEntityDetail("user1", getEntity("1111", 3), cache.getGeneration());
+        assertNull(cache.getEntityDetail("user2", "1111"));
+        assertEquals(cache.getEntityDetail("user1", "1111").getVersion(), 3);
+    }
+
+
+    @Test
+    void testPurgeAndBatchEvents()
+    {
+        OMRSRESTInstanceCache cache = new OMRSRESTInstanceCache(10, 60000);
+
+        cache.saveRelationship("user1", getRelationship("2222", 4), cache.getGeneration());
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_RELATIONSHIP_EVENT,
+                                                         "typeGUID",
+                                                         "typeName",
+                                                         "2222"));
+        cache.saveRelationship("user1", getRelationship("2222", 4), cache.getGeneration());
+        assertNull(cache.getRelationship("user1", "2222"));
+
+        cache.saveEntityDetail("user1", getEntity("3333", 1), cache.getGeneration());
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT,
+                                                         new InstanceGraph(Collections.singletonList(getEntity("3333", 5)),
+                                                                           null)));
+        assertNull(cache.getEntityDetail("user1", "3333"));
+
+        // refresh requests do not change the instance
+        cache.saveEntityDetail("user1", getEntity("3333", 5), cache.getGeneration());
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.REFRESH_ENTITY_REQUEST,
+                                                         "typeGUID",
+                                                         "typeName",
+                                                         "3333"));
+        assertNotNull(cache.getEntityDetail("user1", "3333"));
+    }
+
+
+    @Test
+    void testEventForUncachedInstance()
+    {
+        OMRSRESTInstanceCache cache = new OMRSRESTInstanceCache(2, 60000);
+
+        cache.saveEntityDetail("user1", getEntity("1111", 1), cache.getGeneration());
+        cache.saveEntityDetail("user1", getEntity("2222", 1), cache.getGeneration());
+
+        // a retrieval of 3333 starts before an event for it arrives
+        long queryGeneration = cache.getGeneration();
+
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                         getEntity("3333", 1),
+                                                         getEntity("3333", 2)));
+
+        // the event does not add an entry, so nothing is evicted
+        assertEquals(cache.size(), 2);
+        assertNotNull(cache.getEntityDetail("user1", "1111"));
+        assertNotNull(cache.getEntityDetail("user1", "2222"));
+
+        // the in-flight retrieval is not cached, a new one is
+        cache.saveEntityDetail("user1", getEntity("3333", 1), queryGeneration);
+        assertNull(cache.getEntityDetail("user1", "3333"));
+
+        cache.saveEntityDetail("user1", getEntity("3333", 2), cache.getGeneration());
+        assertEquals(cache.getEntityDetail("user1", "3333").getVersion(), 2);
+    }
+
+
+    @Test
+    void testCacheIsBounded()
+    {
+        OMRSRESTInstanceCache cache = new OMRSRESTInstanceCache(2, 60000);
+
+        cache.saveEntityDetail("user1", getEntity("1111", 1), cache.getGeneration());
+        cache.saveEntityDetail("user1", getEntity("2222", 1), cache.getGeneration());
+        cache.getEntityDetail("user1", "1111");
+        cache.saveEntityDetail("user1", getEntity("3333", 1), cache.getGeneration());
+
+        assertEquals(cache.size(), 2);
+        assertNotNull(cache.getEntityDetail("user1", "1111"));
+        assertNull(cache.getEntityDetail("user1", "2222"));
+    }
+
+
+    @Test
+    void testEntriesExpire() throws Exception
+    {
+        OMRSRESTInstanceCache cache = new OMRSRESTInstanceCache(10, 1);
+
+        cache.saveEntityDetail("user1", getEntity("1111", 1), cache.getGeneration());
+        Thread.sleep(10);
+
+        assertNull(cache.getEntityDetail("user1", "1111"));
+    }
+
+
+    private EntityDetail getEntity(String guid, long version)
+    {
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String guid, long version)
+    {
+        Relationship relationship = new Relationship();
+        relationship.setGUID(guid);
+        relationship.setVersion(version);
+
+        return relationship;
+    }
+}
@@ -11,14 +11,41 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 public class RESTClientFactory
 {
     private static final Logger log = LoggerFactory.getLogger(RESTClientFactory.class);
 
+    /*
+     * Client settings applied to every connection created by this factory in the JVM.
+     */
+    private static volatile Map<String, Object> defaultConfigurationProperties = null;
+
     private final Connection   clientConnection;
 
+
+    /**
+     * Set the configuration properties that are added to the connection of every REST client created after this
+     * call, for example to switch all clients on the platform to the shared pooled HTTP client.
+     * The recognized properties are listed in SpringRESTClientConnectorProvider.
+     *
+     * @param configurationProperties client settings; null or empty removes them
+     */
+    public static void setDefaultConfigurationProperties(Map<String, Object> configurationProperties)
+    {
+        if ((configurationProperties == null) || (configurationProperties.isEmpty()))
+        {
+            defaultConfigurationProperties = null;
+        }
+        else
+        {
+            defaultConfigurationProperties = new HashMap<>(configurationProperties);
+        }
+    }
+
     /**
      * Constructor for unsecured client connector
      *
@@ -94,6 +121,13 @@ public class RESTClientFactory
         connection.setConnectorType(getConnectorType(SpringRESTClientConnectorProvider.class.getName()));
         connection.setQualifiedName(endpoint.getAddress());
 
+        Map<String, Object> configurationProperties = defaultConfigurationProperties;
+
+        if (configurationProperties != null)
+        {
+            connection.setConfigurationProperties(new HashMap<>(configurationProperties));
+        }
+
         return connection;
     }
 
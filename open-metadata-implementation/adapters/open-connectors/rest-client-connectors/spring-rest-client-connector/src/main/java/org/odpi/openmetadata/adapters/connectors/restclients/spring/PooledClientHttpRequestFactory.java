@@ -0,0 +1,496 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import org.odpi.openmetadata.http.HttpHelper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import javax.net.ssl.SSLContext;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * PooledClientHttpRequestFactory issues the requests of a RestTemplate through a java.net.http.HttpClient.
+ * The HttpClient keeps its connections alive between requests and negotiates HTTP/2 with platforms that
+ * support it, so a single factory can be shared by every REST client that calls the same platform.
+ * The number of concurrent requests is bounded so that one busy platform cannot exhaust the caller's
+ * connections.  When enabled, gzip-compressed responses are requested and large request bodies are compressed.
+ */
+public class PooledClientHttpRequestFactory implements ClientHttpRequestFactory
+{
+    private static final String ACCEPT_ENCODING  = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String GZIP             = "gzip";
+
+    /*
+     * These headers are managed by the HttpClient itself and it rejects requests that set them.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final String      platformURLRoot;
+    private final HttpClient  httpClient;
+    private final long        connectTimeoutMillis;
+    private final long        readTimeoutMillis;
+    private final int         maxConnections;
+    private final boolean     responseCompressionEnabled;
+    private final int         requestCompressionThreshold;
+    private final Semaphore   connectionPermits;
+
+    private final AtomicLong  totalRequests                 = new AtomicLong();
+    private final AtomicLong  failedRequests                = new AtomicLong();
+    private final AtomicLong  poolTimeouts                  = new AtomicLong();
+    private final AtomicLong  requestBytesBeforeCompression = new AtomicLong();
+    private final AtomicLong  requestBytesSent              = new AtomicLong();
+    private final AtomicLong  responseBytesReceived         = new AtomicLong();
+    private final AtomicLong  compressedResponses           = new AtomicLong();
+
+
+    /**
+     * Create a factory for requests to a single platform.
+     *
+     * @param platformURLRoot platform that is called
+     * @param connectTimeoutMillis maximum time to establish a connection or wait for a free one
+     * @param readTimeoutMillis maximum time to wait for a response, zero or less means no limit
+     * @param maxConnections maximum number of concurrent requests to the platform
+     * @param http2Enabled should HTTP/2 be negotiated with the platform
+     * @param responseCompressionEnabled should the platform be asked to compress its responses
+     * @param requestCompressionThreshold request bodies of at least this many bytes are compressed, less than zero means never
+     */
+    PooledClientHttpRequestFactory(String  platformURLRoot,
+                                   long    connectTimeoutMillis,
+                                   long    readTimeoutMillis,
+                                   int     maxConnections,
+                                   boolean http2Enabled,
+                                   boolean responseCompressionEnabled,
+                                   int     requestCompressionThreshold)
+    {
+        this.platformURLRoot             = platformURLRoot;
+        this.connectTimeoutMillis        = connectTimeoutMillis;
+        this.readTimeoutMillis           = readTimeoutMillis;
+        this.maxConnections              = maxConnections;
+        this.responseCompressionEnabled  = responseCompressionEnabled;
+        this.requestCompressionThreshold = requestCompressionThreshold;
+        this.connectionPermits           = new Semaphore(maxConnections, true);
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                                               .version(http2Enabled ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                                               .followRedirects(HttpClient.Redirect.NEVER);
+
+        if (connectTimeoutMillis > 0)
+        {
+            builder.connectTimeout(Duration.ofMillis(connectTimeoutMillis));
+        }
+
+        SSLContext noStrictSSLContext = HttpHelper.getNoStrictSSLContext();
+
+        if (noStrictSSLContext != null)
+        {
+            builder.sslContext(noStrictSSLContext);
+        }
+
+        this.httpClient = builder.build();
+    }
+
+
+    /**
+     * Create a request for the URI.  The request is sent when it is executed.
+     *
+     * @param uri target of the request
+     * @param httpMethod HTTP method
+     * @return request
+     */
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod)
+    {
+        return new PooledClientHttpRequest(uri, httpMethod);
+    }
+
+
+    /**
+     * Return a snapshot of the activity of this client.
+     *
+     * @return statistics
+     */
+    public PooledClientHttpStatistics getStatistics()
+    {
+        return new PooledClientHttpStatistics(platformURLRoot,
+                                              httpClient.version().name(),
+                                              maxConnections,
+                                              maxConnections - connectionPermits.availablePermits(),
+                                              connectionPermits.getQueueLength(),
+                                              totalRequests.get(),
+                                              failedRequests.get(),
+                                              poolTimeouts.get(),
+                                              requestBytesBeforeCompression.get(),
+                                              requestBytesSent.get(),
+                                              responseBytesReceived.get(),
+                                              compressedResponses.get());
+    }
+
+
+    /**
+     * Wait for a free connection.
+     *
+     * @param uri target of the request
+     * @throws IOException no connection became free in time
+     */
+    private void acquireConnection(URI uri) throws IOException
+    {
+        try
+        {
+            boolean acquired;
+
+            if (connectTimeoutMillis > 0)
+            {
+                acquired = connectionPermits.tryAcquire(connectTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            else
+            {
+                connectionPermits.acquire();
+                acquired = true;
+            }
+
+            if (! acquired)
+            {
+                poolTimeouts.incrementAndGet();
+                throw new IOException("All " + maxConnections + " connections to " + platformURLRoot +
+                                              " were in use for " + connectTimeoutMillis + "ms; request to " + uri + " abandoned");
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection to " + platformURLRoot);
+        }
+    }
+
+
+    /**
+     * The request body is buffered and then sent in a single call to the HttpClient.
+     */
+    private class PooledClientHttpRequest extends AbstractClientHttpRequest
+    {
+        private final URI                   uri;
+        private final HttpMethod            method;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+
+        PooledClientHttpRequest(URI        uri,
+                                HttpMethod method)
+        {
+            this.uri    = uri;
+            this.method = method;
+        }
+
+
+        @Override
+        public HttpMethod getMethod()
+        {
+            return method;
+        }
+
+
+        @Override
+        public URI getURI()
+        {
+            return uri;
+        }
+
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers)
+        {
+            return body;
+        }
+
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException
+        {
+            byte[] requestBody = body.toByteArray();
+            byte[] sentBody    = requestBody;
+
+            HttpRequest.Builder builder = HttpRequest.newBuilder(uri);
+
+            headers.forEach((name, values) ->
+            {
+                if (! RESTRICTED_HEADERS.contains(name.toLowerCase()))
+                {
+                    values.forEach(value -> builder.header(name, value));
+                }
+            });
+
+            if ((requestCompressionThreshold >= 0) && (requestBody.length > 0) &&
+                        (requestBody.length >= requestCompressionThreshold) && (! headers.containsKey(CONTENT_ENCODING)))
+            {
+                sentBody = gzip(requestBody);
+                builder.header(CONTENT_ENCODING, GZIP);
+            }
+
+            if (responseCompressionEnabled && (! headers.containsKey(ACCEPT_ENCODING)))
+            {
+                builder.header(ACCEPT_ENCODING, GZIP);
+            }
+
+            if (readTimeoutMillis > 0)
+            {
+                builder.timeout(Duration.ofMillis(readTimeoutMillis));
+            }
+
+            if (sentBody.length > 0)
+            {
+                builder.method(method.name(), HttpRequest.BodyPublishers.ofByteArray(sentBody));
+            }
+            else
+            {
+                builder.method(method.name(), HttpRequest.BodyPublishers.noBody());
+            }
+
+            acquireConnection(uri);
+            totalRequests.incrementAndGet();
+            requestBytesBeforeCompression.addAndGet(requestBody.length);
+            requestBytesSent.addAndGet(sentBody.length);
+
+            try
+            {
+                HttpResponse<InputStream> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+                return new PooledClientHttpResponse(response);
+            }
+            catch (InterruptedException error)
+            {
+                failedRequests.incrementAndGet();
+                connectionPermits.release();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while calling " + uri);
+            }
+            catch (IOException | RuntimeException error)
+            {
+                failedRequests.incrementAndGet();
+                connectionPermits.release();
+                throw error;
+            }
+        }
+
+
+        private byte[] gzip(byte[] content) throws IOException
+        {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed))
+            {
+                gzipOutputStream.write(content);
+            }
+
+            return compressed.toByteArray();
+        }
+    }
+
+
+    /**
+     * The response holds its connection until it is closed by the RestTemplate.
+     */
+    private class PooledClientHttpResponse implements ClientHttpResponse
+    {
+        private final HttpResponse<InputStream> response;
+        private final HttpHeaders               headers = new HttpHeaders();
+        private final boolean                   compressed;
+        private final AtomicBoolean             closed  = new AtomicBoolean(false);
+        private       InputStream               body    = null;
+
+
+        PooledClientHttpResponse(HttpResponse<InputStream> response)
+        {
+            this.response = response;
+
+            List<String> contentEncodings = response.headers().allValues(CONTENT_ENCODING);
+            this.compressed = contentEncodings.stream().anyMatch(GZIP::equalsIgnoreCase);
+
+            response.headers().map().forEach((name, values) ->
+            {
+                /*
+                 * The body is decompressed here, so the headers describing the compressed body are dropped.
+                 */
+                if ((! name.startsWith(":")) &&
+                            (! (compressed && (CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)))))
+                {
+                    headers.addAll(name, values);
+                }
+            });
+
+            if (compressed)
+            {
+                compressedResponses.incrementAndGet();
+            }
+        }
+
+
+        @Override
+        public HttpStatusCode getStatusCode()
+        {
+            return HttpStatusCode.valueOf(response.statusCode());
+        }
+
+
+        @Override
+        @Deprecated
+        public int getRawStatusCode()
+        {
+            return response.statusCode();
+        }
+
+
+        @Override
+        public String getStatusText()
+        {
+            HttpStatus status = HttpStatus.resolve(response.statusCode());
+
+            return status == null ? "" : status.getReasonPhrase();
+        }
+
+
+        @Override
+        public HttpHeaders getHeaders()
+        {
+            return headers;
+        }
+
+
+        @Override
+        public synchronized InputStream getBody() throws IOException
+        {
+            if (body == null)
+            {
+                InputStream counted = new CountingInputStream(response.body());
+
+                body = compressed ? decompress(counted) : counted;
+            }
+
+            return body;
+        }
+
+
+        /**
+         * Responses without a body, such as 204 and 304, may still carry "Content-Encoding: gzip".
+         * Only a body that has at least one byte is decompressed.
+         *
+         * @param counted body received from the platform
+         * @return decompressed body
+         * @throws IOException the body is not valid gzip
+         */
+        private InputStream decompress(InputStream counted) throws IOException
+        {
+            int statusCode = response.statusCode();
+
+            if ((statusCode == HttpStatus.NO_CONTENT.value()) || (statusCode == HttpStatus.NOT_MODIFIED.value()))
+            {
+                return counted;
+            }
+
+            PushbackInputStream pushbackInputStream = new PushbackInputStream(counted, 1);
+            int                 firstByte           = pushbackInputStream.read();
+
+            if (firstByte == -1)
+            {
+                return pushbackInputStream;
+            }
+
+            pushbackInputStream.unread(firstByte);
+
+            return new GZIPInputStream(pushbackInputStream);
+        }
+
+
+        @Override
+        public void close()
+        {
+            if (closed.compareAndSet(false, true))
+            {
+                try
+                {
+                    if (body != null)
+                    {
+                        body.close();
+                    }
+                    else
+                    {
+                        response.body().close();
+                    }
+                }
+                catch (IOException error)
+                {
+                    // the connection is discarded by the HttpClient
+                }
+                finally
+                {
+                    connectionPermits.release();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Records the number of bytes received from the platform.
+     */
+    private class CountingInputStream extends FilterInputStream
+    {
+        CountingInputStream(InputStream in)
+        {
+            super(in);
+        }
+
+
+        @Override
+        public int read() throws IOException
+        {
+            int next = super.read();
+
+            if (next != -1)
+            {
+                responseBytesReceived.incrementAndGet();
+            }
+
+            return next;
+        }
+
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException
+        {
+            int count = super.read(buffer, offset, length);
+
+            if (count > 0)
+            {
+                responseBytesReceived.addAndGet(count);
+            }
+
+            return count;
+        }
+    }
+}
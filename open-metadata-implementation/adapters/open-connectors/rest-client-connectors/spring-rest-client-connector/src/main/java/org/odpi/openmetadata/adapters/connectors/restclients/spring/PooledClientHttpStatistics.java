@@ -0,0 +1,224 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+/**
+ * PooledClientHttpStatistics is a point in time snapshot of the activity of one shared pooled HTTP client.
+ * There is one shared client for each remote platform and combination of client settings.
+ */
+public class PooledClientHttpStatistics
+{
+    private final String  platformURLRoot;
+    private final String  protocolVersion;
+    private final int     maxConnections;
+    private final int     leasedConnections;
+    private final int     waitingRequests;
+    private final long    totalRequests;
+    private final long    failedRequests;
+    private final long    poolTimeouts;
+    private final long    requestBytesBeforeCompression;
+    private final long    requestBytesSent;
+    private final long    responseBytesReceived;
+    private final long    compressedResponses;
+
+
+    /**
+     * Constructor used by the pooled client.
+     *
+     * @param platformURLRoot platform that the client calls
+     * @param protocolVersion preferred HTTP protocol version
+     * @param maxConnections maximum number of concurrent requests to the platform
+     * @param leasedConnections number of requests currently in progress
+     * @param waitingRequests number of requests waiting for a free connection
+     * @param totalRequests number of requests issued
+     * @param failedRequests number of requests that failed before a response was received
+     * @param poolTimeouts number of requests that gave up waiting for a free connection
+     * @param requestBytesBeforeCompression size of the request bodies before compression
+     * @param requestBytesSent size of the request bodies sent
+     * @param responseBytesReceived size of the response bodies received
+     * @param compressedResponses number of responses that were compressed by the platform
+     */
+    PooledClientHttpStatistics(String  platformURLRoot,
+                               String  protocolVersion,
+                               int     maxConnections,
+                               int     leasedConnections,
+                               int     waitingRequests,
+                               long    totalRequests,
+                               long    failedRequests,
+                               long    poolTimeouts,
+                               long    requestBytesBeforeCompression,
+                               long    requestBytesSent,
+                               long    responseBytesReceived,
+                               long    compressedResponses)
+    {
+        this.platformURLRoot               = platformURLRoot;
+        this.protocolVersion               = protocolVersion;
+        this.maxConnections                = maxConnections;
+        this.leasedConnections             = leasedConnections;
+        this.waitingRequests               = waitingRequests;
+        this.totalRequests                 = totalRequests;
+        this.failedRequests                = failedRequests;
+        this.poolTimeouts                  = poolTimeouts;
+        this.requestBytesBeforeCompression = requestBytesBeforeCompression;
+        this.requestBytesSent              = requestBytesSent;
+        this.responseBytesReceived         = responseBytesReceived;
+        this.compressedResponses           = compressedResponses;
+    }
+
+
+    /**
+     * Return the platform that the client calls.
+     *
+     * @return url root
+     */
+    public String getPlatformURLRoot()
+    {
+        return platformURLRoot;
+    }
+
+
+    /**
+     * Return the preferred HTTP protocol version.  HTTP/2 falls back to HTTP/1.1 if the platform does not support it.
+     *
+     * @return version name
+     */
+    public String getProtocolVersion()
+    {
+        return protocolVersion;
+    }
+
+
+    /**
+     * Return the maximum number of concurrent requests to the platform.
+     *
+     * @return count
+     */
+    public int getMaxConnections()
+    {
+        return maxConnections;
+    }
+
+
+    /**
+     * Return the number of requests currently in progress.
+     *
+     * @return count
+     */
+    public int getLeasedConnections()
+    {
+        return leasedConnections;
+    }
+
+
+    /**
+     * Return the number of requests that are waiting for a free connection.
+     *
+     * @return count
+     */
+    public int getWaitingRequests()
+    {
+        return waitingRequests;
+    }
+
+
+    /**
+     * Return the number of requests issued.
+     *
+     * @return count
+     */
+    public long getTotalRequests()
+    {
+        return totalRequests;
+    }
+
+
+    /**
+     * Return the number of requests that failed before a response was received.
+     *
+     * @return count
+     */
+    public long getFailedRequests()
+    {
+        return failedRequests;
+    }
+
+
+    /**
+     * Return the number of requests that gave up waiting for a free connection.
+     *
+     * @return count
+     */
+    public long getPoolTimeouts()
+    {
+        return poolTimeouts;
+    }
+
+
+    /**
+     * Return the total size of the request bodies before compression.
+     *
+     * @return bytes
+     */
+    public long getRequestBytesBeforeCompression()
+    {
+        return requestBytesBeforeCompression;
+    }
+
+
+    /**
+     * Return the total size of the request bodies sent.
+     *
+     * @return bytes
+     */
+    public long getRequestBytesSent()
+    {
+        return requestBytesSent;
+    }
+
+
+    /**
+     * Return the total size of the response bodies received, as transmitted.
+     *
+     * @return bytes
+     */
+    public long getResponseBytesReceived()
+    {
+        return responseBytesReceived;
+    }
+
+
+    /**
+     * Return the number of responses that were compressed by the platform.
+     *
+     * @return count
+     */
+    public long getCompressedResponses()
+    {
+        return compressedResponses;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "PooledClientHttpStatistics{" +
+                       "platformURLRoot='" + platformURLRoot + '\'' +
+                       ", protocolVersion='" + protocolVersion + '\'' +
+                       ", maxConnections=" + maxConnections +
+                       ", leasedConnections=" + leasedConnections +
+                       ", waitingRequests=" + waitingRequests +
+                       ", totalRequests=" + totalRequests +
+                       ", failedRequests=" + failedRequests +
+                       ", poolTimeouts=" + poolTimeouts +
+                       ", requestBytesBeforeCompression=" + requestBytesBeforeCompression +
+                       ", requestBytesSent=" + requestBytesSent +
+                       ", responseBytesReceived=" + responseBytesReceived +
+                       ", compressedResponses=" + compressedResponses +
+                       '}';
+    }
+}
@@ -16,17 +16,23 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -36,7 +42,12 @@ import java.util.Map;
  */
 public class SpringRESTClientConnector extends RESTClientConnector
 {
-    private final RestTemplate restTemplate;
+    /*
+     * Pooled clients are shared by every connector calling the same platform with the same settings.
+     */
+    private static final Map<String, SharedRESTClient> sharedRESTClients = new ConcurrentHashMap<>();
+
+    private RestTemplate restTemplate;
 
     private String       serverName               = null;
     private String       serverPlatformURLRoot    = null;
@@ -55,6 +66,18 @@ public class SpringRESTClientConnector extends RESTClientConnector
     {
         super();
 
+        restTemplate = createRestTemplate(null);
+    }
+
+
+    /**
+     * Create a REST template.
+     *
+     * @param requestFactory factory used to issue requests, or null to use the default
+     * @return configured template
+     */
+    private static RestTemplate createRestTemplate(ClientHttpRequestFactory requestFactory)
+    {
         /*
          * Rather than creating a RestTemplate directly, the RestTemplateBuilder is used so that the
          * uriTemplateHandler can be specified. The URI encoding is set to VALUES_ONLY so that the
@@ -67,7 +90,16 @@ public class SpringRESTClientConnector extends RESTClientConnector
         DefaultUriBuilderFactory builderFactory = new DefaultUriBuilderFactory();
         builderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.VALUES_ONLY);
 
-        restTemplate = new RestTemplate();
+        RestTemplate restTemplate;
+
+        if (requestFactory == null)
+        {
+            restTemplate = new RestTemplate();
+        }
+        else
+        {
+            restTemplate = new RestTemplate(requestFactory);
+        }
 
         restTemplate.setUriTemplateHandler(builderFactory);
 
@@ -75,8 +107,29 @@ public class SpringRESTClientConnector extends RESTClientConnector
         List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
         converters.removeIf(httpMessageConverter -> httpMessageConverter instanceof StringHttpMessageConverter);
         converters.add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
+
+        return restTemplate;
     }
 
+
+    /**
+     * Return the activity of the shared pooled HTTP clients, one per remote platform and client settings.
+     *
+     * @return list of statistics
+     */
+    public static List<PooledClientHttpStatistics> getPooledClientStatistics()
+    {
+        List<PooledClientHttpStatistics> statistics = new ArrayList<>();
+
+        for (SharedRESTClient sharedClient : sharedRESTClients.values())
+        {
+            statistics.add(sharedClient.requestFactory.getStatistics());
+        }
+
+        return statistics;
+    }
+
+
     /**
      * Initialize the connector.
      *
@@ -117,6 +170,183 @@ public class SpringRESTClientConnector extends RESTClientConnector
             log.debug("Using no authentication to call server {} on platform {} .", this.serverName, this.serverPlatformURLRoot );
 
         }
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if ((this.serverPlatformURLRoot != null) && (configurationProperties != null) &&
+                    (SpringRESTClientConnectorProvider.POOLED_HTTP_CLIENT_MODE.equalsIgnoreCase(
+                            getStringProperty(configurationProperties, SpringRESTClientConnectorProvider.HTTP_CLIENT_MODE_PROPERTY))))
+        {
+            this.restTemplate = getSharedRESTClient(this.serverPlatformURLRoot, configurationProperties).restTemplate;
+        }
+    }
+
+
+    /**
+     * Return the shared pooled client for the platform, creating it if this is the first connector to call it
+     * with these settings.
+     *
+     * @param serverPlatformURLRoot platform to call
+     * @param configurationProperties settings for the pooled client
+     * @return shared client
+     */
+    private SharedRESTClient getSharedRESTClient(String              serverPlatformURLRoot,
+                                                 Map<String, Object> configurationProperties)
+    {
+        long    connectTimeoutMillis        = getIntegerProperty(configurationProperties,
+                                                                 SpringRESTClientConnectorProvider.CONNECT_TIMEOUT_MILLIS_PROPERTY,
+                                                                 SpringRESTClientConnectorProvider.DEFAULT_CONNECT_TIMEOUT_MILLIS);
+        long    readTimeoutMillis           = getIntegerProperty(configurationProperties,
+                                                                 SpringRESTClientConnectorProvider.READ_TIMEOUT_MILLIS_PROPERTY,
+                                                                 SpringRESTClientConnectorProvider.DEFAULT_READ_TIMEOUT_MILLIS);
+        int     maxConnections              = getIntegerProperty(configurationProperties,
+                                                                 SpringRESTClientConnectorProvider.MAX_CONNECTIONS_PER_PLATFORM_PROPERTY,
+                                                                 SpringRESTClientConnectorProvider.DEFAULT_MAX_CONNECTIONS_PER_PLATFORM);
+        boolean http2Enabled                = getBooleanProperty(configurationProperties,
+                                                                 SpringRESTClientConnectorProvider.HTTP2_ENABLED_PROPERTY,
+                                                                 SpringRESTClientConnectorProvider.DEFAULT_HTTP2_ENABLED);
+        boolean responseCompressionEnabled  = getBooleanProperty(configurationProperties,
+                                                                 SpringRESTClientConnectorProvider.RESPONSE_COMPRESSION_ENABLED_PROPERTY,
+                                                                 SpringRESTClientConnectorProvider.DEFAULT_RESPONSE_COMPRESSION_ENABLED);
+        int     requestCompressionThreshold = getIntegerProperty(configurationProperties,
+                                                                 SpringRESTClientConnectorProvider.REQUEST_COMPRESSION_THRESHOLD_PROPERTY,
+                                                                 SpringRESTClientConnectorProvider.DEFAULT_REQUEST_COMPRESSION_THRESHOLD);
+
+        if (maxConnections < 1)
+        {
+            maxConnections = SpringRESTClientConnectorProvider.DEFAULT_MAX_CONNECTIONS_PER_PLATFORM;
+        }
+
+        String platformKey = getPlatformKey(serverPlatformURLRoot);
+        String clientKey   = platformKey + "|" + connectTimeoutMillis + "|" + readTimeoutMillis + "|" + maxConnections + "|" +
+                                     http2Enabled + "|" + responseCompressionEnabled + "|" + requestCompressionThreshold;
+
+        final int finalMaxConnections = maxConnections;
+
+        return sharedRESTClients.computeIfAbsent(clientKey, key ->
+        {
+            log.debug("Creating pooled HTTP client for platform {} with settings {}.", platformKey, key);
+
+            PooledClientHttpRequestFactory requestFactory = new PooledClientHttpRequestFactory(platformKey,
+                                                                                               connectTimeoutMillis,
+                                                                                               readTimeoutMillis,
+                                                                                               finalMaxConnections,
+                                                                                               http2Enabled,
+                                                                                               responseCompressionEnabled,
+                                                                                               requestCompressionThreshold);
+
+            return new SharedRESTClient(requestFactory, createRestTemplate(requestFactory));
+        });
+    }
+
+
+    /**
+     * The pool is shared by all servers on a platform, so only the scheme, host and port of the platform
+     * URL root are used to identify it.
+     *
+     * @param serverPlatformURLRoot platform URL root
+     * @return scheme://host[:port], or the supplied value if it can not be parsed
+     */
+    private String getPlatformKey(String serverPlatformURLRoot)
+    {
+        try
+        {
+            URI uri = new URI(serverPlatformURLRoot.trim());
+
+            if ((uri.getScheme() != null) && (uri.getHost() != null))
+            {
+                String platformKey = uri.getScheme().toLowerCase() + "://" + uri.getHost().toLowerCase();
+
+                if (uri.getPort() != -1)
+                {
+                    platformKey = platformKey + ":" + uri.getPort();
+                }
+
+                return platformKey;
+            }
+        }
+        catch (URISyntaxException error)
+        {
+            log.debug("Unable to parse platform URL root {}: {}", serverPlatformURLRoot, error.getMessage());
+        }
+
+        return serverPlatformURLRoot;
+    }
+
+
+    /**
+     * Return a configuration property as a string.
+     *
+     * @param configurationProperties properties from the connection
+     * @param propertyName name of the property
+     * @return value or null
+     */
+    private String getStringProperty(Map<String, Object> configurationProperties,
+                                     String              propertyName)
+    {
+        Object value = configurationProperties.get(propertyName);
+
+        if (value == null)
+        {
+            return null;
+        }
+
+        return value.toString().trim();
+    }
+
+
+    /**
+     * Return a configuration property as an integer.
+     *
+     * @param configurationProperties properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or is invalid
+     * @return value
+     */
+    private int getIntegerProperty(Map<String, Object> configurationProperties,
+                                   String              propertyName,
+                                   int                 defaultValue)
+    {
+        String value = getStringProperty(configurationProperties, propertyName);
+
+        if ((value == null) || (value.isEmpty()))
+        {
+            return defaultValue;
+        }
+
+        try
+        {
+            return Integer.parseInt(value);
+        }
+        catch (NumberFormatException error)
+        {
+            log.warn("Ignoring invalid value {} for configuration property {}; using {}.", value, propertyName, defaultValue);
+
+            return defaultValue;
+        }
+    }
+
+
+    /**
+     * Return a configuration property as a boolean.
+     *
+     * @param configurationProperties properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @return value
+     */
+    private boolean getBooleanProperty(Map<String, Object> configurationProperties,
+                                       String              propertyName,
+                                       boolean             defaultValue)
+    {
+        String value = getStringProperty(configurationProperties, propertyName);
+
+        if ((value == null) || (value.isEmpty()))
+        {
+            return defaultValue;
+        }
+
+        return Boolean.parseBoolean(value);
     }
 
 
@@ -205,7 +435,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPErrorCode(errorCode, error),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -290,7 +520,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPErrorCode(errorCode, error),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -380,7 +610,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPErrorCode(errorCode, error),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -477,7 +707,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPErrorCode(errorCode, error),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -560,7 +790,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPErrorCode(errorCode, error),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -646,7 +876,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPErrorCode(errorCode, error),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -720,7 +950,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPErrorCode(errorCode, error),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -815,7 +1045,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPErrorCode(errorCode, error),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -900,7 +1130,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPErrorCode(errorCode, error),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -974,7 +1204,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPErrorCode(errorCode, error),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -1057,7 +1287,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                                                                                      serverPlatformURLRoot,
                                                                                                      error.getMessage());
 
-            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+            throw new RESTServerException(this.getHTTPErrorCode(errorCode, error),
                                           this.getClass().getName(),
                                           methodName,
                                           errorMessage,
@@ -1094,4 +1324,42 @@ public class SpringRESTClientConnector extends RESTClientConnector
 
         return headers;
     }
+
+
+    /**
+     * Return the HTTP code to report for an exception from a REST call.  If the server responded with an error
+     * status, that status is reported so that the caller can tell, for example, that the server does not
+     * support the request.  Otherwise, the code from the error code is used.
+     *
+     * @param errorCode error code for the failure
+     * @param error exception from the REST call
+     * @return HTTP code
+     */
+    private int getHTTPErrorCode(RESTClientConnectorErrorCode errorCode,
+                                 Exception                    error)
+    {
+        if (error instanceof RestClientResponseException)
+        {
+            return ((RestClientResponseException) error).getStatusCode().value();
+        }
+
+        return errorCode.getHTTPErrorCode();
+    }
+
+
+    /**
+     * A pooled request factory and the REST template that uses it.
+     */
+    private static class SharedRESTClient
+    {
+        private final PooledClientHttpRequestFactory requestFactory;
+        private final RestTemplate                   restTemplate;
+
+        SharedRESTClient(PooledClientHttpRequestFactory requestFactory,
+                         RestTemplate                   restTemplate)
+        {
+            this.requestFactory = requestFactory;
+            this.restTemplate   = restTemplate;
+        }
+    }
 }
@@ -6,6 +6,9 @@ import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector
 import org.odpi.openmetadata.frameworks.connectors.ConnectorProviderBase;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * SpringRESTClientConnectorProvider provides the connector provider for the SpringRESTClientConnector.
@@ -16,6 +19,31 @@ public class SpringRESTClientConnectorProvider extends RESTClientConnectorProvid
     static final String  connectorTypeName = "Spring REST Client Connector";
     static final String  connectorTypeDescription = "Connector that calls the REST API of a remote server using Spring.";
 
+    /**
+     * Set to "pooled" to send requests through an HTTP client that is shared by every connector calling the
+     * same platform with the same settings.  The shared client keeps connections alive, uses HTTP/2 where
+     * the platform supports it and can compress payloads.  Any other value uses a private client per connector.
+     */
+    public static final String HTTP_CLIENT_MODE_PROPERTY                 = "httpClientMode";
+    public static final String POOLED_HTTP_CLIENT_MODE                   = "pooled";
+
+    /**
+     * The remaining properties only apply to the pooled client.
+     */
+    public static final String CONNECT_TIMEOUT_MILLIS_PROPERTY           = "connectTimeoutMillis";
+    public static final String READ_TIMEOUT_MILLIS_PROPERTY              = "readTimeoutMillis";
+    public static final String MAX_CONNECTIONS_PER_PLATFORM_PROPERTY     = "maxConnectionsPerPlatform";
+    public static final String HTTP2_ENABLED_PROPERTY                    = "http2Enabled";
+    public static final String RESPONSE_COMPRESSION_ENABLED_PROPERTY     = "responseCompressionEnabled";
+    public static final String REQUEST_COMPRESSION_THRESHOLD_PROPERTY    = "requestCompressionThreshold";
+
+    static final int     DEFAULT_CONNECT_TIMEOUT_MILLIS        = 10000;
+    static final int     DEFAULT_READ_TIMEOUT_MILLIS           = 0;
+    static final int     DEFAULT_MAX_CONNECTIONS_PER_PLATFORM  = 100;
+    static final boolean DEFAULT_HTTP2_ENABLED                 = true;
+    static final boolean DEFAULT_RESPONSE_COMPRESSION_ENABLED  = true;
+    static final int     DEFAULT_REQUEST_COMPRESSION_THRESHOLD = -1;
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * REST Client Connector implementation.
@@ -34,6 +62,16 @@ public class SpringRESTClientConnectorProvider extends RESTClientConnectorProvid
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(HTTP_CLIENT_MODE_PROPERTY);
+        recognizedConfigurationProperties.add(CONNECT_TIMEOUT_MILLIS_PROPERTY);
+        recognizedConfigurationProperties.add(READ_TIMEOUT_MILLIS_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_CONNECTIONS_PER_PLATFORM_PROPERTY);
+        recognizedConfigurationProperties.add(HTTP2_ENABLED_PROPERTY);
+        recognizedConfigurationProperties.add(RESPONSE_COMPRESSION_ENABLED_PROPERTY);
+        recognizedConfigurationProperties.add(REQUEST_COMPRESSION_THRESHOLD_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
@@ -0,0 +1,220 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Validate that PooledClientHttpRequestFactory compresses requests and decompresses responses
+ * when talking to a local HTTP server.
+ */
+public class TestPooledClientHttpRequestFactory
+{
+    private static final String BODY = "{\"class\":\"EntityDetail\",\"guid\":\"1234\"}";
+
+    private HttpServer server;
+    private String     platformURLRoot;
+    private String     lastRequestEncoding;
+    private String     lastRequestBody;
+
+
+    @BeforeClass
+    public void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+        server.createContext("/echo", this::echo);
+        server.createContext("/compressed", exchange -> respond(exchange, 200, gzip(BODY), true));
+        server.createContext("/no-content", exchange -> respond(exchange, 204, null, true));
+        server.createContext("/empty", exchange -> respond(exchange, 200, new byte[0], true));
+        server.start();
+
+        platformURLRoot = "http://localhost:" + server.getAddress().getPort();
+    }
+
+
+    @AfterClass
+    public void stopServer()
+    {
+        server.stop(0);
+    }
+
+
+    @Test
+    public void testCompressedRequest() throws IOException
+    {
+        PooledClientHttpRequestFactory factory = getFactory(0);
+
+        try (ClientHttpResponse response = send(factory, "/echo", HttpMethod.POST, BODY))
+        {
+            assertEquals(response.getStatusCode().value(), 200);
+        }
+
+        assertEquals(lastRequestEncoding, "gzip");
+        assertEquals(lastRequestBody, BODY);
+        assertEquals(factory.getStatistics().getRequestBytesBeforeCompression(), BODY.length());
+        assertEquals(factory.getStatistics().getLeasedConnections(), 0);
+    }
+
+
+    @Test
+    public void testUncompressedRequestBelowThreshold() throws IOException
+    {
+        PooledClientHttpRequestFactory factory = getFactory(BODY.length() + 1);
+
+        try (ClientHttpResponse response = send(factory, "/echo", HttpMethod.POST, BODY))
+        {
+            assertEquals(response.getStatusCode().value(), 200);
+        }
+
+        assertNull(lastRequestEncoding);
+        assertEquals(lastRequestBody, BODY);
+    }
+
+
+    @Test
+    public void testCompressedResponse() throws IOException
+    {
+        PooledClientHttpRequestFactory factory = getFactory(-1);
+
+        try (ClientHttpResponse response = send(factory, "/compressed", HttpMethod.GET, null))
+        {
+            assertEquals(new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8), BODY);
+            assertNull(response.getHeaders().getFirst("Content-Encoding"));
+        }
+
+        assertEquals(factory.getStatistics().getCompressedResponses(), 1);
+        assertEquals(factory.getStatistics().getLeasedConnections(), 0);
+    }
+
+
+    @Test
+    public void testEmptyCompressedResponse() throws IOException
+    {
+        PooledClientHttpRequestFactory factory = getFactory(-1);
+
+        try (ClientHttpResponse response = send(factory, "/no-content", HttpMethod.DELETE, null))
+        {
+            assertEquals(response.getStatusCode().value(), 204);
+            assertEquals(response.getBody().readAllBytes().length, 0);
+        }
+
+        try (ClientHttpResponse response = send(factory, "/empty", HttpMethod.GET, null))
+        {
+            assertEquals(response.getStatusCode().value(), 200);
+            assertEquals(response.getBody().readAllBytes().length, 0);
+        }
+
+        assertEquals(factory.getStatistics().getFailedRequests(), 0);
+        assertEquals(factory.getStatistics().getLeasedConnections(), 0);
+    }
+
+
+    private PooledClientHttpRequestFactory getFactory(int requestCompressionThreshold)
+    {
+        return new PooledClientHttpRequestFactory(platformURLRoot,
+                                                  5000,
+                                                  5000,
+                                                  4,
+                                                  false,
+                                                  true,
+                                                  requestCompressionThreshold);
+    }
+
+
+    private ClientHttpResponse send(PooledClientHttpRequestFactory factory,
+                                    String                         path,
+                                    HttpMethod                     method,
+                                    String                         body) throws IOException
+    {
+        ClientHttpRequest request = factory.createRequest(URI.create(platformURLRoot + path), method);
+
+        if (body != null)
+        {
+            request.getHeaders().set("Content-Type", "application/json");
+            request.getBody().write(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return request.execute();
+    }
+
+
+    private void echo(HttpExchange exchange) throws IOException
+    {
+        byte[] received = exchange.getRequestBody().readAllBytes();
+
+        lastRequestEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+
+        if ("gzip".equals(lastRequestEncoding))
+        {
+            received = new GZIPInputStream(new ByteArrayInputStream(received)).readAllBytes();
+        }
+
+        lastRequestBody = new String(received, StandardCharsets.UTF_8);
+
+        respond(exchange, 200, received, false);
+    }
+
+
+    private void respond(HttpExchange exchange,
+                         int          statusCode,
+                         byte[]       body,
+                         boolean      compressed) throws IOException
+    {
+        exchange.getRequestBody().readAllBytes();
+
+        if (compressed)
+        {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+
+        if ((body == null) || (body.length == 0))
+        {
+            exchange.sendResponseHeaders(statusCode, -1);
+        }
+        else
+        {
+            exchange.sendResponseHeaders(statusCode, body.length);
+
+            try (OutputStream outputStream = exchange.getResponseBody())
+            {
+                outputStream.write(body);
+            }
+        }
+
+        exchange.close();
+    }
+
+
+    private byte[] gzip(String body) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(bytes))
+        {
+            gzipOutputStream.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return bytes.toByteArray();
+    }
+}
@@ -31,6 +31,11 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     private int      waitBetweenScenarios = 60;
     private List<String> profilesToSkip = Collections.emptyList();
     private List<String> methodsToSkip  = Collections.emptyList();
+    private int      concurrentClients = 0;
+    private int      rampUpSeconds = 0;
+    private int      loadDurationSeconds = 60;
+    private int      targetOperationsPerSecond = 0;
+    private String   workloadProfile = "read-mostly";
 
 
     /**
@@ -54,10 +59,16 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
         if (template != null)
         {
             tutRepositoryServerName = template.getTutRepositoryServerName();
+            instancesPerType = template.getInstancesPerType();
             maxSearchResults = template.getMaxSearchResults();
             waitBetweenScenarios = template.getWaitBetweenScenarios();
             profilesToSkip = template.getProfilesToSkip();
             methodsToSkip  = template.getMethodsToSkip();
+            concurrentClients = template.getConcurrentClients();
+            rampUpSeconds = template.getRampUpSeconds();
+            loadDurationSeconds = template.getLoadDurationSeconds();
+            targetOperationsPerSecond = template.getTargetOperationsPerSecond();
+            workloadProfile = template.getWorkloadProfile();
         }
     }
 
@@ -198,6 +209,126 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     }
 
 
+    /**
+     * Return the number of client threads that drive the concurrent workload scenario.  Zero (the default) means
+     * the concurrent workload is not run.
+     *
+     * @return number of concurrent clients
+     */
+    public int getConcurrentClients()
+    {
+        return concurrentClients;
+    }
+
+
+    /**
+     * Set up the number of client threads that drive the concurrent workload scenario.  Zero means the concurrent
+     * workload is not run.
+     *
+     * @param concurrentClients number of concurrent clients
+     */
+    public void setConcurrentClients(int concurrentClients)
+    {
+        this.concurrentClients = concurrentClients;
+    }
+
+
+    /**
+     * Return the amount of time (in seconds) over which the clients of the concurrent workload are started.
+     * Operations that begin during the ramp-up are not included in the results.
+     *
+     * @return ramp-up time (in seconds)
+     */
+    public int getRampUpSeconds()
+    {
+        return rampUpSeconds;
+    }
+
+
+    /**
+     * Set up the amount of time (in seconds) over which the clients of the concurrent workload are started.
+     * Operations that begin during the ramp-up are not included in the results.
+     *
+     * @param rampUpSeconds ramp-up time (in seconds)
+     */
+    public void setRampUpSeconds(int rampUpSeconds)
+    {
+        this.rampUpSeconds = rampUpSeconds;
+    }
+
+
+    /**
+     * Return the amount of time (in seconds), after the ramp-up, for which the concurrent workload is measured.
+     *
+     * @return measured duration (in seconds)
+     */
+    public int getLoadDurationSeconds()
+    {
+        return loadDurationSeconds;
+    }
+
+
+    /**
+     * Set up the amount of time (in seconds), after the ramp-up, for which the concurrent workload is measured.
+     *
+     * @param loadDurationSeconds measured duration (in seconds)
+     */
+    public void setLoadDurationSeconds(int loadDurationSeconds)
+    {
+        this.loadDurationSeconds = loadDurationSeconds;
+    }
+
+
+    /**
+     * Return the rate at which the concurrent workload issues operations (across all clients).  Zero (the default)
+     * means each client issues its next operation as soon as the previous one completes.  A positive rate issues
+     * operations on a fixed schedule, whether or not the repository is keeping up, and latencies are measured
+     * from the time each operation was scheduled to start.
+     *
+     * @return operations per second
+     */
+    public int getTargetOperationsPerSecond()
+    {
+        return targetOperationsPerSecond;
+    }
+
+
+    /**
+     * Set up the rate at which the concurrent workload issues operations (across all clients).  Zero means each
+     * client issues its next operation as soon as the previous one completes.
+     *
+     * @param targetOperationsPerSecond operations per second
+     */
+    public void setTargetOperationsPerSecond(int targetOperationsPerSecond)
+    {
+        this.targetOperationsPerSecond = targetOperationsPerSecond;
+    }
+
+
+    /**
+     * Return the name of the mix of read and write operations issued by the concurrent workload: read-only,
+     * read-mostly (the default), balanced or write-mostly.
+     *
+     * @return workload profile name
+     */
+    public String getWorkloadProfile()
+    {
+        return workloadProfile;
+    }
+
+
+    /**
+     * Set up the name of the mix of read and write operations issued by the concurrent workload: read-only,
+     * read-mostly, balanced or write-mostly.
+     *
+     * @param workloadProfile workload profile name
+     */
+    public void setWorkloadProfile(String workloadProfile)
+    {
+        this.workloadProfile = workloadProfile;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -213,6 +344,11 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
                 "waitBetweenScenarios='" + waitBetweenScenarios + '\'' +
                 "profilesToSkip=" + profilesToSkip +
                 "methodsToSkip=" + methodsToSkip +
+                "concurrentClients=" + concurrentClients +
+                "rampUpSeconds=" + rampUpSeconds +
+                "loadDurationSeconds=" + loadDurationSeconds +
+                "targetOperationsPerSecond=" + targetOperationsPerSecond +
+                "workloadProfile='" + workloadProfile + '\'' +
                 '}';
     }
 
@@ -240,7 +376,12 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
                 && Objects.equals(getMaxSearchResults(), that.getMaxSearchResults())
                 && Objects.equals(getWaitBetweenScenarios(), that.getWaitBetweenScenarios())
                 && Objects.equals(getProfilesToSkip(), that.getProfilesToSkip())
-                && Objects.equals(getMethodsToSkip(), that.getMethodsToSkip());
+                && Objects.equals(getMethodsToSkip(), that.getMethodsToSkip())
+                && getConcurrentClients() == that.getConcurrentClients()
+                && getRampUpSeconds() == that.getRampUpSeconds()
+                && getLoadDurationSeconds() == that.getLoadDurationSeconds()
+                && getTargetOperationsPerSecond() == that.getTargetOperationsPerSecond()
+                && Objects.equals(getWorkloadProfile(), that.getWorkloadProfile());
     }
 
 
@@ -252,6 +393,7 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     @Override
     public int hashCode()
     {
-        return Objects.hash(getTutRepositoryServerName(), getInstancesPerType(), getMaxSearchResults(), getWaitBetweenScenarios(), getProfilesToSkip(), getMethodsToSkip());
+        return Objects.hash(getTutRepositoryServerName(), getInstancesPerType(), getMaxSearchResults(), getWaitBetweenScenarios(), getProfilesToSkip(), getMethodsToSkip(),
+                            getConcurrentClients(), getRampUpSeconds(), getLoadDurationSeconds(), getTargetOperationsPerSecond(), getWorkloadProfile());
     }
 }
@@ -333,6 +333,20 @@ public enum OMAGAdminAuditCode implements AuditLogMessageSet
                                           "in the engine service's configuration and restart the server instance. Otherwise, " +
                                           "remove the configuration for this engine service and restart the engine host OMAG server."),
 
+    SERVICE_STARTUP_TIME("OMAG-ADMIN-0049",
+                         OMRSAuditLogRecordSeverity.STARTUP,
+                         "The start-up of {0} for {1} completed in {2} milliseconds",
+                         "The operational admin services record how long each server and service takes to start so that slow ones can be identified.",
+                         "No action is required.  If the server is slow to start, use these messages to find the services that " +
+                                 "take the longest and check the resources that they connect to, such as the event bus."),
+
+    STARTUP_PLAN_COMPLETE("OMAG-ADMIN-0050",
+                          OMRSAuditLogRecordSeverity.STARTUP,
+                          "The {0} start-up steps for {1} completed in {2} milliseconds using up to {3} threads; run one after another they took {4} milliseconds",
+                          "The operational admin services run start-up steps that do not depend on one another at the same time.",
+                          "No action is required.  The number of threads is set with the startup.parallelism property of the OMAG Server Platform."),
+
+
 
 
     STARTING_GOVERNANCE_SERVICES("OMAG-ADMIN-0100",
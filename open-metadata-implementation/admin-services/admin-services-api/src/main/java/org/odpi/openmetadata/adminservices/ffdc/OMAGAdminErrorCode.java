@@ -402,6 +402,11 @@ public enum OMAGAdminErrorCode implements ExceptionMessageSet
             "This is likely to be either an operational or logic error. Look for other errors in the audit log.  Validate the request.  " +
                                                 "If you are stuck, raise an issue."),
 
+    STARTUP_PLAN_INVALID(500, "OMAG-ADMIN-500-005",
+            "The start-up plan for {0} is unable to run steps {1} because their dependencies are missing from the plan or depend on them in turn",
+            "The system is unable to start the remaining services because it cannot work out an order to start them in.",
+            "This is a logic error in the operational admin services.  Raise an issue on Egeria's GitHub with the list of configured services."),
+
     CLIENT_SIDE_REST_API_ERROR(503, "OMAG-ADMIN-503-001",
             "A client-side exception was received from API call {0} to OMAG Server Platform at {1}.  The error message was {2}",
             "The server has issued a call to the open metadata admin service REST API in a remote server and has received an exception from the " +
@@ -42,8 +42,11 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMAGServerOperationalServices will provide support to start, manage and stop services in the OMAG Server.
@@ -61,6 +64,78 @@ public class OMAGServerOperationalServices
     private final static RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(OMAGServerOperationalServices.class),
                                                                             CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceName());
 
+    /*
+     * The maximum number of servers, or services within a server, that are started at the same time.
+     */
+    private final static String platformName              = "OMAG Server Platform";
+    private static OMRSAuditLog platformAuditLog          = null;
+
+    private final static int    defaultStartupParallelism = 4;
+    private static volatile int startupParallelism        = defaultStartupParallelism;
+
+
+    /**
+     * Set up the maximum number of servers, or services within a server, that may be started at the same time.
+     * A value of 1 starts them one after another in the order they are configured.
+     *
+     * @param parallelism number of threads to use for start-up - values less than 1 restore the default
+     */
+    public static void setStartupParallelism(int parallelism)
+    {
+        if (parallelism < 1)
+        {
+            startupParallelism = defaultStartupParallelism;
+        }
+        else
+        {
+            startupParallelism = parallelism;
+        }
+    }
+
+
+    /**
+     * Return the maximum number of servers, or services within a server, that may be started at the same time.
+     *
+     * @return number of threads used for start-up
+     */
+    public static int getStartupParallelism()
+    {
+        return startupParallelism;
+    }
+
+    /**
+     * Return the audit log used for messages about the platform as a whole, such as the start-up of its servers.
+     * It is created on first use and writes to the console since there is no server configuration to
+     * supply its destinations.
+     *
+     * @return audit log
+     */
+    private static synchronized OMRSAuditLog getPlatformAuditLog()
+    {
+        if (platformAuditLog == null)
+        {
+            OMRSOperationalServices  platformRepositoryServices = new OMRSOperationalServices(platformName,
+                                                                                              platformName,
+                                                                                              null,
+                                                                                              null,
+                                                                                              null,
+                                                                                              null,
+                                                                                              0);
+            RepositoryServicesConfig platformConfig             = new RepositoryServicesConfig();
+
+            platformConfig.setAuditLogConnections(Collections.singletonList(new ConnectorConfigurationFactory().getDefaultAuditLogConnection()));
+            platformRepositoryServices.initializeAuditLog(platformConfig, platformName);
+
+            platformAuditLog = platformRepositoryServices.getAuditLog(CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceCode(),
+                                                                      CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceDevelopmentStatus(),
+                                                                      CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceName(),
+                                                                      CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceDescription(),
+                                                                      CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceWiki());
+        }
+
+        return platformAuditLog;
+    }
+
     /*
      * =============================================================
      * Initialization and shutdown
@@ -68,9 +143,11 @@ public class OMAGServerOperationalServices
 
     /**
      * Activate the list of open metadata and governance servers using the stored configuration information.
-     * The code works through the list, starting each server in turn.  It stops if one of the servers fails to
-     * start and returns the error.  Otherwise, it continues through the list, returning the successful
-     * start-up messages.
+     * Servers that supply metadata (metadata servers, metadata access points, repository proxies and conformance
+     * test servers) are started first since the other servers typically call them.  Servers of the same kind
+     * are started at the same time, up to the platform's start-up parallelism.  If one of the servers fails to
+     * start, no further servers are started and the error is returned.  Otherwise, the successful start-up
+     * messages are returned in the order the servers were listed.
      *
      * @param userId  user that is issuing the request
      * @param serverNames  list of server names
@@ -82,6 +159,8 @@ public class OMAGServerOperationalServices
     public SuccessMessageResponse activateServerListWithStoredConfig(String       userId,
                                                                      List<String> serverNames)
     {
+        final String methodName = "activateServerListWithStoredConfig";
+
         String                 startUpMessage = null;
         SuccessMessageResponse response       = new SuccessMessageResponse();
 
@@ -89,43 +168,144 @@ public class OMAGServerOperationalServices
 
         if (serverNames != null)
         {
+            OMAGServerStartupPlanner            startupPlanner    = new OMAGServerStartupPlanner(platformName, startupParallelism, getPlatformAuditLog());
+            Map<String, SuccessMessageResponse> serverResponses   = new ConcurrentHashMap<>();
+            List<String>                        plannedServers    = new ArrayList<>();
+            List<String>                        metadataServers   = new ArrayList<>();
+            List<String>                        dependentServers  = new ArrayList<>();
+
             for (String serverName : serverNames)
             {
-                if (serverName != null)
+                if ((serverName != null) && (! plannedServers.contains(serverName.trim())))
                 {
-                    response = activateWithStoredConfig(userId, serverName.trim());
+                    String trimmedServerName = serverName.trim();
 
-                    if (response.getRelatedHTTPCode() == 200)
+                    plannedServers.add(trimmedServerName);
+
+                    if (this.isMetadataSource(userId, trimmedServerName))
                     {
-                        String serverStartUpMessage = "OMAG Server '" + serverName + "' successful start , with message: " +
-                                response.getSuccessMessage() + System.lineSeparator();
-                        if (startUpMessage == null)
-                        {
-                            startUpMessage = serverStartUpMessage;
-                        }
-                        else
-                        {
-                            startUpMessage += serverStartUpMessage;
-                        }
+                        metadataServers.add(trimmedServerName);
                     }
                     else
                     {
-                        break;
+                        dependentServers.add(trimmedServerName);
                     }
                 }
             }
+
+            for (String serverName : plannedServers)
+            {
+                List<String> dependencies = new ArrayList<>();
+
+                if (dependentServers.contains(serverName))
+                {
+                    dependencies = metadataServers;
+                }
+
+                startupPlanner.addStep(serverName, () ->
+                {
+                    SuccessMessageResponse serverResponse = activateWithStoredConfig(userId, serverName);
+
+                    serverResponses.put(serverName, serverResponse);
+
+                    if (serverResponse.getRelatedHTTPCode() != 200)
+                    {
+                        throw new ServerStartupFailure(serverName);
+                    }
+                }, dependencies);
+            }
+
+            try
+            {
+                startupPlanner.run();
+            }
+            catch (ServerStartupFailure failure)
+            {
+                return serverResponses.get(failure.getServerName());
+            }
+            catch (Exception error)
+            {
+                exceptionHandler.capturePlatformRuntimeException(methodName, response, error);
+
+                return response;
+            }
+
+            for (String serverName : plannedServers)
+            {
+                SuccessMessageResponse serverResponse = serverResponses.get(serverName);
+
+                String serverStartUpMessage = "OMAG Server '" + serverName + "' successful start , with message: " +
+                        serverResponse.getSuccessMessage() + System.lineSeparator();
+                if (startUpMessage == null)
+                {
+                    startUpMessage = serverStartUpMessage;
+                }
+                else
+                {
+                    startUpMessage += serverStartUpMessage;
+                }
+            }
         }
         else
         {
             startUpMessage = "No OMAG servers listed in startup configuration";
         }
 
-        if (response.getRelatedHTTPCode() == 200)
+        response.setSuccessMessage(new Date() + " " + startUpMessage);
+
+        return response;
+    }
+
+
+    /**
+     * Determine from its stored configuration whether a server supplies metadata to other servers.
+     * If the configuration cannot be read, the server is treated as not supplying metadata and any error
+     * is reported when it is started.
+     *
+     * @param userId calling user
+     * @param serverName server to test
+     * @return boolean flag
+     */
+    private boolean isMetadataSource(String userId,
+                                     String serverName)
+    {
+        final String methodName = "isMetadataSource";
+
+        try
+        {
+            ServerTypeClassifier     serverTypeClassifier     = new ServerTypeClassifier(serverName,
+                                                                                         configStore.getServerConfig(userId, serverName, false, methodName));
+            ServerTypeClassification serverTypeClassification = serverTypeClassifier.getServerType();
+
+            return (ServerTypeClassification.METADATA_SERVER.equals(serverTypeClassification)) ||
+                   (ServerTypeClassification.METADATA_ACCESS_POINT.equals(serverTypeClassification)) ||
+                   (ServerTypeClassification.REPOSITORY_PROXY.equals(serverTypeClassification)) ||
+                   (ServerTypeClassification.CONFORMANCE_SERVER.equals(serverTypeClassification));
+        }
+        catch (Exception error)
+        {
+            return false;
+        }
+    }
+
+
+    /**
+     * Signals that a server in a list of servers did not start.  The details of the failure are in the server's response.
+     */
+    private static class ServerStartupFailure extends Exception
+    {
+        private final String serverName;
+
+        ServerStartupFailure(String serverName)
         {
-            response.setSuccessMessage(new Date() + " " + startUpMessage);
+            super(serverName);
+            this.serverName = serverName;
         }
 
-        return response;
+        String getServerName()
+        {
+            return serverName;
+        }
     }
 
 
@@ -194,7 +374,7 @@ public class OMAGServerOperationalServices
 
         RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
 
-        List<String>                    activatedServiceList = new ArrayList<>();
+        List<String>                    activatedServiceList = Collections.synchronizedList(new ArrayList<>());
         OMAGOperationalServicesInstance instance             = null;
         SuccessMessageResponse          response             = new SuccessMessageResponse();
 
@@ -718,6 +898,13 @@ public class OMAGServerOperationalServices
             int  configuredAccessServiceCount = 0;
             int  enabledAccessServiceCount = 0;
 
+            /*
+             * The access services only depend on the repository services, which are already running, so they are started
+             * at the same time.  The admin objects and enterprise connectors are created here, one at a time, because they
+             * share the repository services' state.  The lengthy part of the start-up in initialize() runs in the plan.
+             */
+            OMAGServerStartupPlanner startupPlanner = new OMAGServerStartupPlanner(serverName, startupParallelism, auditLog);
+
             for (AccessServiceConfig  accessServiceConfig : accessServiceConfigList)
             {
                 if (accessServiceConfig != null)
@@ -729,9 +916,13 @@ public class OMAGServerOperationalServices
                         enabledAccessServiceCount ++;
                         instance.setServerServiceActiveStatus(accessServiceConfig.getAccessServiceFullName(), ServerActiveStatus.STARTING);
 
+                        AccessServiceAdmin      accessServiceAdmin;
+                        OMRSAuditLog            accessServicesAuditLog;
+                        OMRSRepositoryConnector enterpriseRepositoryConnector;
+
                         try
                         {
-                            AccessServiceAdmin accessServiceAdmin = this.getAccessServiceAdminClass(accessServiceConfig, auditLog, serverName);
+                            accessServiceAdmin = this.getAccessServiceAdminClass(accessServiceConfig, auditLog, serverName);
 
                             accessServiceAdmin.setFullServiceName(accessServiceConfig.getAccessServiceFullName());
 
@@ -739,25 +930,14 @@ public class OMAGServerOperationalServices
                             /*
                              * Each access service has its own audit log instance.
                              */
-                            OMRSAuditLog accessServicesAuditLog
+                            accessServicesAuditLog
                                     = operationalRepositoryServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
                                                                                 accessServiceConfig.getAccessServiceDevelopmentStatus(),
                                                                                 accessServiceConfig.getAccessServiceFullName(),
                                                                                 accessServiceConfig.getAccessServiceDescription(),
                                                                                 accessServiceConfig.getAccessServiceWiki());
 
-                            /*
-                             * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
-                             * AuditLog.  The default implementation of this method delegates to the new version of the method so
-                             */
-                            accessServiceAdmin.initialize(accessServiceConfig,
-                                                          enterpriseTopicConnector,
-                                                          operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName()),
-                                                          accessServicesAuditLog,
-                                                          localServerUserId);
-                            operationalAccessServiceAdminList.add(accessServiceAdmin);
-                            activatedServiceList.add(accessServiceConfig.getAccessServiceFullName());
-                            instance.setServerServiceActiveStatus(accessServiceAdmin.getFullServiceName(), ServerActiveStatus.RUNNING);
+                            enterpriseRepositoryConnector = operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName());
                         }
                         catch (OMAGConfigurationErrorException error)
                         {
@@ -784,6 +964,57 @@ public class OMAGServerOperationalServices
                                                                       methodName,
                                                                       error);
                         }
+
+                        startupPlanner.addStep(accessServiceConfig.getAccessServiceFullName(), () ->
+                        {
+                            try
+                            {
+                                /*
+                                 * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
+                                 * AuditLog.  The default implementation of this method delegates to the new version of the method so
+                                 */
+                                accessServiceAdmin.initialize(accessServiceConfig,
+                                                              enterpriseTopicConnector,
+                                                              enterpriseRepositoryConnector,
+                                                              accessServicesAuditLog,
+                                                              localServerUserId);
+
+                                /*
+                                 * Services that started before a failure are on the list so that they are shut down.
+                                 */
+                                synchronized (operationalAccessServiceAdminList)
+                                {
+                                    operationalAccessServiceAdminList.add(accessServiceAdmin);
+                                }
+                                activatedServiceList.add(accessServiceConfig.getAccessServiceFullName());
+                                instance.setServerServiceActiveStatus(accessServiceAdmin.getFullServiceName(), ServerActiveStatus.RUNNING);
+                            }
+                            catch (OMAGConfigurationErrorException error)
+                            {
+                                auditLog.logException(methodName,
+                                                      OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
+                                                                                                                              error.getMessage()),
+                                                      accessServiceConfig.toString(),
+                                                      error);
+                                throw error;
+                            }
+                            catch (Exception error)
+                            {
+                                auditLog.logException(methodName,
+                                                      OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                                              accessServiceConfig.getAccessServiceName(),
+                                                                                                                              error.getMessage()),
+                                                      accessServiceConfig.toString(),
+                                                      error);
+
+                                throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                                      accessServiceConfig.getAccessServiceName(),
+                                                                                                                                                      error.getMessage()),
+                                                                          this.getClass().getName(),
+                                                                          methodName,
+                                                                          error);
+                            }
+                        });
                     }
                     else
                     {
@@ -794,6 +1025,8 @@ public class OMAGServerOperationalServices
                 }
             }
 
+            this.runStartupPlan(startupPlanner, serverName, methodName);
+
             auditLog.logMessage(actionDescription,
                                 OMAGAdminAuditCode.ALL_ACCESS_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledAccessServiceCount),
                                                                                                     Integer.toString(configuredAccessServiceCount)));
@@ -844,6 +1077,11 @@ public class OMAGServerOperationalServices
             int configuredViewServiceCount = 0;
             int enabledViewServiceCount = 0;
 
+            /*
+             * View services are independent of one another so they are started at the same time.
+             */
+            OMAGServerStartupPlanner startupPlanner = new OMAGServerStartupPlanner(serverName, startupParallelism, auditLog);
+
             for (ViewServiceConfig viewServiceConfig : viewServiceConfigList)
             {
                 configuredViewServiceCount++;
@@ -853,28 +1091,21 @@ public class OMAGServerOperationalServices
                     enabledViewServiceCount++;
                     instance.setServerServiceActiveStatus(viewServiceConfig.getViewServiceFullName(), ServerActiveStatus.STARTING);
 
+                    ViewServiceAdmin viewServiceAdmin;
+                    OMRSAuditLog     viewServicesAuditLog;
+
                     try
                     {
-                        ViewServiceAdmin viewServiceAdmin = this.getViewServiceAdminClass(viewServiceConfig, auditLog, serverName);
+                        viewServiceAdmin = this.getViewServiceAdminClass(viewServiceConfig, auditLog, serverName);
 
                         /*
                          * Each view service has its own audit log instance.
                          */
-                        OMRSAuditLog viewServicesAuditLog
-                                = operationalRepositoryServices.getAuditLog(viewServiceConfig.getViewServiceId(),
-                                                                            viewServiceConfig.getViewServiceDevelopmentStatus(),
-                                                                            viewServiceConfig.getViewServiceFullName(),
-                                                                            viewServiceConfig.getViewServiceDescription(),
-                                                                            viewServiceConfig.getViewServiceWiki());
-
-                        viewServiceAdmin.initialize(serverName,
-                                                    viewServiceConfig,
-                                                    viewServicesAuditLog,
-                                                    localServerUserId,
-                                                    maxPageSize);
-                        operationalViewServiceAdminList.add(viewServiceAdmin);
-                        activatedServiceList.add(viewServiceConfig.getViewServiceFullName());
-                        instance.setServerServiceActiveStatus(viewServiceConfig.getViewServiceFullName(), ServerActiveStatus.RUNNING);
+                        viewServicesAuditLog = operationalRepositoryServices.getAuditLog(viewServiceConfig.getViewServiceId(),
+                                                                                         viewServiceConfig.getViewServiceDevelopmentStatus(),
+                                                                                         viewServiceConfig.getViewServiceFullName(),
+                                                                                         viewServiceConfig.getViewServiceDescription(),
+                                                                                         viewServiceConfig.getViewServiceWiki());
                     }
                     catch (OMAGConfigurationErrorException error)
                     {
@@ -901,6 +1132,50 @@ public class OMAGServerOperationalServices
                                                                   methodName,
                                                                   error);
                     }
+
+                    startupPlanner.addStep(viewServiceConfig.getViewServiceFullName(), () ->
+                    {
+                        try
+                        {
+                            viewServiceAdmin.initialize(serverName,
+                                                        viewServiceConfig,
+                                                        viewServicesAuditLog,
+                                                        localServerUserId,
+                                                        maxPageSize);
+
+                            synchronized (operationalViewServiceAdminList)
+                            {
+                                operationalViewServiceAdminList.add(viewServiceAdmin);
+                            }
+                            activatedServiceList.add(viewServiceConfig.getViewServiceFullName());
+                            instance.setServerServiceActiveStatus(viewServiceConfig.getViewServiceFullName(), ServerActiveStatus.RUNNING);
+                        }
+                        catch (OMAGConfigurationErrorException error)
+                        {
+                            auditLog.logException(methodName,
+                                                  OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(viewServiceConfig.getViewServiceName(),
+                                                                                                                        error.getMessage()),
+                                                  viewServiceConfig.toString(),
+                                                  error);
+                            throw error;
+                        }
+                        catch (Exception error)
+                        {
+                            auditLog.logException(methodName,
+                                                  OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                                        viewServiceConfig.getViewServiceName(),
+                                                                                                                        error.getMessage()),
+                                                  viewServiceConfig.toString(),
+                                                  error);
+
+                            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                                  viewServiceConfig.getViewServiceName(),
+                                                                                                                                                  error.getMessage()),
+                                                                      this.getClass().getName(),
+                                                                      methodName,
+                                                                      error);
+                        }
+                    });
                 }
                 else
                 {
@@ -911,6 +1186,8 @@ public class OMAGServerOperationalServices
 
             }
 
+            this.runStartupPlan(startupPlanner, serverName, methodName);
+
             auditLog.logMessage(actionDescription,
                                 OMAGAdminAuditCode.ALL_VIEW_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledViewServiceCount),
                                                                                                   Integer.toString(configuredViewServiceCount)));
@@ -924,6 +1201,39 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Run a start-up plan for the services of a server.  Failures from the steps have already been logged
+     * and are returned as configuration errors.
+     *
+     * @param startupPlanner plan to run
+     * @param serverName server name
+     * @param methodName calling method
+     * @throws OMAGConfigurationErrorException a service failed to start
+     */
+    private void runStartupPlan(OMAGServerStartupPlanner startupPlanner,
+                                String                   serverName,
+                                String                   methodName) throws OMAGConfigurationErrorException
+    {
+        try
+        {
+            startupPlanner.run();
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            throw error;
+        }
+        catch (Exception error)
+        {
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                  error.getClass().getName(),
+                                                                                                                                  error.getMessage()),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      error);
+        }
+    }
+
+
     /**
      * Create an instance of the access service's admin class from the class name in the configuration.
      *
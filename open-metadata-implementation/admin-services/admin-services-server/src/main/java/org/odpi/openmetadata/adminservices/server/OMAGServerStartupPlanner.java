@@ -0,0 +1,495 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.server;
+
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminAuditCode;
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminErrorCode;
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OMAGServerStartupPlanner runs the steps needed to start servers, or the services within a server, in an order
+ * that respects the dependencies between them.  Each step names the steps it depends on.  A step starts as soon
+ * as all of its dependencies have completed, so steps that do not depend on one another run at the same time,
+ * up to the maximum parallelism of the plan.  With a parallelism of one, the steps run on the caller's thread
+ * in the order they were added (subject to their dependencies), which matches the original sequential start-up.
+ *
+ * If a step fails, no further steps are started.  The steps already running are allowed to complete so that
+ * the caller can clean up a consistent set of services, and then the exception from the first failing step is
+ * thrown to the caller.  The time taken by each step is written to the audit log.
+ */
+class OMAGServerStartupPlanner
+{
+    private static final Logger log = LoggerFactory.getLogger(OMAGServerStartupPlanner.class);
+
+    private static final AtomicInteger planCount = new AtomicInteger();
+
+    private final String   planName;
+    private final int      maxParallelism;
+    private final AuditLog auditLog;
+
+    private final Map<String, PlannedStep> plannedSteps   = new LinkedHashMap<>();
+    private final Map<String, Long>        stepDurations  = new LinkedHashMap<>();
+
+
+    /**
+     * A piece of start-up work.
+     */
+    @FunctionalInterface
+    interface StartupStep
+    {
+        /**
+         * Perform the step.
+         *
+         * @throws Exception the step failed and the start-up must stop
+         */
+        void start() throws Exception;
+    }
+
+
+    /**
+     * A step together with the names of the steps that must complete before it starts.
+     */
+    private static class PlannedStep
+    {
+        private final String       stepName;
+        private final StartupStep  step;
+        private final List<String> dependencies;
+
+        PlannedStep(String       stepName,
+                    StartupStep  step,
+                    List<String> dependencies)
+        {
+            this.stepName     = stepName;
+            this.step         = step;
+            this.dependencies = dependencies;
+        }
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param planName name of the server (or platform) being started - used in messages
+     * @param maxParallelism maximum number of steps to run at once
+     * @param auditLog logging destination for the step timings (may be null)
+     */
+    OMAGServerStartupPlanner(String   planName,
+                             int      maxParallelism,
+                             AuditLog auditLog)
+    {
+        this.planName       = planName;
+        this.maxParallelism = Math.max(1, maxParallelism);
+        this.auditLog       = auditLog;
+    }
+
+
+    /**
+     * Add a step to the plan.
+     *
+     * @param stepName unique name of the step - typically the full name of the service or server it starts
+     * @param step work to perform
+     * @param dependencies names of steps that must complete before this step starts
+     */
+    synchronized void addStep(String      stepName,
+                              StartupStep step,
+                              String...   dependencies)
+    {
+        this.addStep(stepName, step, Arrays.asList(dependencies));
+    }
+
+
+    /**
+     * Add a step to the plan.
+     *
+     * @param stepName unique name of the step - typically the full name of the service or server it starts
+     * @param step work to perform
+     * @param dependencies names of steps that must complete before this step starts
+     */
+    synchronized void addStep(String       stepName,
+                              StartupStep  step,
+                              List<String> dependencies)
+    {
+        List<String> stepDependencies = new ArrayList<>();
+
+        if (dependencies != null)
+        {
+            for (String dependency : dependencies)
+            {
+                if ((dependency != null) && (! stepDependencies.contains(dependency)))
+                {
+                    stepDependencies.add(dependency);
+                }
+            }
+        }
+
+        plannedSteps.put(stepName, new PlannedStep(stepName, step, stepDependencies));
+    }
+
+
+    /**
+     * Return the names of the steps in the plan.
+     *
+     * @return list of step names in the order they were added
+     */
+    synchronized List<String> getStepNames()
+    {
+        return new ArrayList<>(plannedSteps.keySet());
+    }
+
+
+    /**
+     * Return the time taken by each step that completed.
+     *
+     * @return map of step name to milliseconds, in the order the steps completed
+     */
+    synchronized Map<String, Long> getStepDurations()
+    {
+        return new LinkedHashMap<>(stepDurations);
+    }
+
+
+    /**
+     * Run the plan.
+     *
+     * @throws OMAGConfigurationErrorException the dependencies between the steps cannot be satisfied
+     * @throws Exception the exception from the first step that failed
+     */
+    void run() throws Exception
+    {
+        final String methodName = "run";
+
+        List<PlannedStep> steps;
+
+        synchronized (this)
+        {
+            steps = new ArrayList<>(plannedSteps.values());
+        }
+
+        if (steps.isEmpty())
+        {
+            return;
+        }
+
+        /*
+         * Work out how many dependencies each step is waiting for and which steps wait for it.
+         */
+        Map<String, Integer>      waitingCount = new HashMap<>();
+        Set<String>               stepNames    = new HashSet<>(getStepNames(steps));
+        Map<String, List<String>> dependents   = new HashMap<>();
+        List<String>              missingSteps = new ArrayList<>();
+
+        for (PlannedStep plannedStep : steps)
+        {
+            int count = 0;
+
+            for (String dependency : plannedStep.dependencies)
+            {
+                if (stepNames.contains(dependency))
+                {
+                    dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(plannedStep.stepName);
+                    count ++;
+                }
+                else
+                {
+                    missingSteps.add(plannedStep.stepName);
+                }
+            }
+
+            waitingCount.put(plannedStep.stepName, count);
+        }
+
+        if (! missingSteps.isEmpty())
+        {
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.STARTUP_PLAN_INVALID.getMessageDefinition(planName,
+                                                                                                                  missingSteps.toString()),
+                                                      this.getClass().getName(),
+                                                      methodName);
+        }
+
+        long startTime = System.currentTimeMillis();
+        int  threadCount = Math.min(maxParallelism, steps.size());
+
+        if (threadCount == 1)
+        {
+            runSequentially(steps, waitingCount, dependents);
+        }
+        else
+        {
+            runConcurrently(steps, waitingCount, dependents, threadCount);
+        }
+
+        long totalStepTime = 0;
+
+        for (Long duration : getStepDurations().values())
+        {
+            totalStepTime = totalStepTime + duration;
+        }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OMAGAdminAuditCode.STARTUP_PLAN_COMPLETE.getMessageDefinition(Integer.toString(steps.size()),
+                                                                                              planName,
+                                                                                              Long.toString(System.currentTimeMillis() - startTime),
+                                                                                              Integer.toString(threadCount),
+                                                                                              Long.toString(totalStepTime)));
+        }
+        else
+        {
+            log.info("The {} start-up steps for {} completed in {} milliseconds using up to {} threads; run one after another they took {} milliseconds",
+                     steps.size(), planName, System.currentTimeMillis() - startTime, threadCount, totalStepTime);
+        }
+    }
+
+
+    /**
+     * Run the steps one at a time on the caller's thread, in the order they were added but never before
+     * their dependencies.
+     *
+     * @param steps steps in the order they were added
+     * @param waitingCount number of incomplete dependencies for each step
+     * @param dependents steps waiting for each step
+     * @throws Exception the exception from the first step that failed
+     */
+    private void runSequentially(List<PlannedStep>         steps,
+                                 Map<String, Integer>      waitingCount,
+                                 Map<String, List<String>> dependents) throws Exception
+    {
+        final String methodName = "runSequentially";
+
+        List<PlannedStep> remainingSteps = new ArrayList<>(steps);
+
+        while (! remainingSteps.isEmpty())
+        {
+            PlannedStep readyStep = null;
+
+            for (PlannedStep plannedStep : remainingSteps)
+            {
+                if (waitingCount.get(plannedStep.stepName) == 0)
+                {
+                    readyStep = plannedStep;
+                    break;
+                }
+            }
+
+            if (readyStep == null)
+            {
+                throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.STARTUP_PLAN_INVALID.getMessageDefinition(planName,
+                                                                                                                      getStepNames(remainingSteps).toString()),
+                                                          this.getClass().getName(),
+                                                          methodName);
+            }
+
+            remainingSteps.remove(readyStep);
+            runStep(readyStep);
+            releaseDependents(readyStep.stepName, waitingCount, dependents);
+        }
+    }
+
+
+    /**
+     * Run the steps on a pool of threads, starting each one as soon as its dependencies are complete.
+     *
+     * @param steps steps in the order they were added
+     * @param waitingCount number of incomplete dependencies for each step
+     * @param dependents steps waiting for each step
+     * @param threadCount number of threads to use
+     * @throws Exception the exception from the first step that failed
+     */
+    private void runConcurrently(List<PlannedStep>         steps,
+                                 Map<String, Integer>      waitingCount,
+                                 Map<String, List<String>> dependents,
+                                 int                       threadCount) throws Exception
+    {
+        final String methodName = "runConcurrently";
+
+        final int planNumber = planCount.incrementAndGet();
+        final AtomicInteger threadNumber = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable ->
+        {
+            Thread thread = new Thread(runnable, "omag-startup-" + planNumber + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ExecutorCompletionService<PlannedStep> completionService = new ExecutorCompletionService<>(executor);
+        List<PlannedStep>                      notStarted        = new ArrayList<>(steps);
+        Exception                              firstFailure      = null;
+        int                                    runningCount      = 0;
+
+        try
+        {
+            while (true)
+            {
+                /*
+                 * Start every step whose dependencies are complete, unless a step has failed.
+                 */
+                if (firstFailure == null)
+                {
+                    List<PlannedStep> readySteps = new ArrayList<>();
+
+                    for (PlannedStep plannedStep : notStarted)
+                    {
+                        if (waitingCount.get(plannedStep.stepName) == 0)
+                        {
+                            readySteps.add(plannedStep);
+                        }
+                    }
+
+                    for (PlannedStep readyStep : readySteps)
+                    {
+                        notStarted.remove(readyStep);
+                        completionService.submit(() ->
+                        {
+                            runStep(readyStep);
+                            return readyStep;
+                        });
+                        runningCount ++;
+                    }
+                }
+
+                if (runningCount == 0)
+                {
+                    break;
+                }
+
+                Future<PlannedStep> completedStep = completionService.take();
+                runningCount --;
+
+                try
+                {
+                    PlannedStep plannedStep = completedStep.get();
+
+                    releaseDependents(plannedStep.stepName, waitingCount, dependents);
+                }
+                catch (ExecutionException error)
+                {
+                    if (firstFailure == null)
+                    {
+                        if (error.getCause() instanceof Exception)
+                        {
+                            firstFailure = (Exception) error.getCause();
+                        }
+                        else
+                        {
+                            firstFailure = error;
+                        }
+                    }
+                }
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        if (firstFailure != null)
+        {
+            throw firstFailure;
+        }
+
+        if (! notStarted.isEmpty())
+        {
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.STARTUP_PLAN_INVALID.getMessageDefinition(planName,
+                                                                                                                  getStepNames(notStarted).toString()),
+                                                      this.getClass().getName(),
+                                                      methodName);
+        }
+    }
+
+
+    /**
+     * Run a single step and record how long it took.
+     *
+     * @param plannedStep step to run
+     * @throws Exception the step failed
+     */
+    private void runStep(PlannedStep plannedStep) throws Exception
+    {
+        final String methodName = "runStep";
+
+        long stepStartTime = System.currentTimeMillis();
+
+        plannedStep.step.start();
+
+        long duration = System.currentTimeMillis() - stepStartTime;
+
+        synchronized (this)
+        {
+            stepDurations.put(plannedStep.stepName, duration);
+        }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OMAGAdminAuditCode.SERVICE_STARTUP_TIME.getMessageDefinition(plannedStep.stepName,
+                                                                                             planName,
+                                                                                             Long.toString(duration)));
+        }
+        else
+        {
+            log.info("The start-up of {} for {} completed in {} milliseconds", plannedStep.stepName, planName, duration);
+        }
+    }
+
+
+    /**
+     * Record that a step has completed so the steps waiting for it can start.
+     *
+     * @param stepName completed step
+     * @param waitingCount number of incomplete dependencies for each step
+     * @param dependents steps waiting for each step
+     */
+    private void releaseDependents(String                    stepName,
+                                   Map<String, Integer>      waitingCount,
+                                   Map<String, List<String>> dependents)
+    {
+        List<String> waitingSteps = dependents.get(stepName);
+
+        if (waitingSteps != null)
+        {
+            for (String waitingStep : waitingSteps)
+            {
+                waitingCount.put(waitingStep, waitingCount.get(waitingStep) - 1);
+            }
+        }
+    }
+
+
+    /**
+     * Return the names of a list of steps.
+     *
+     * @param steps steps
+     * @return names
+     */
+    private List<String> getStepNames(List<PlannedStep> steps)
+    {
+        List<String> stepNames = new ArrayList<>();
+
+        for (PlannedStep plannedStep : steps)
+        {
+            stepNames.add(plannedStep.stepName);
+        }
+
+        return stepNames;
+    }
+}
@@ -0,0 +1,128 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.server;
+
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verify the order and concurrency of the start-up steps.
+ */
+public class TestOMAGServerStartupPlanner
+{
+    /**
+     * With a parallelism of one the steps run in the order they are added, after their dependencies.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testSequentialOrder() throws Exception
+    {
+        List<String>             startOrder     = new ArrayList<>();
+        OMAGServerStartupPlanner startupPlanner = new OMAGServerStartupPlanner("testServer", 1, null);
+
+        startupPlanner.addStep("viewServer", () -> startOrder.add("viewServer"), "metadataServer");
+        startupPlanner.addStep("metadataServer", () -> startOrder.add("metadataServer"));
+        startupPlanner.addStep("integrationDaemon", () -> startOrder.add("integrationDaemon"));
+
+        startupPlanner.run();
+
+        assertEquals(List.of("metadataServer", "viewServer", "integrationDaemon"), startOrder);
+        assertEquals(3, startupPlanner.getStepDurations().size());
+    }
+
+
+    /**
+     * Independent steps run at the same time and dependent steps wait for all of their dependencies.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testConcurrentSteps() throws Exception
+    {
+        CountDownLatch           allStarted     = new CountDownLatch(3);
+        List<String>             startOrder     = Collections.synchronizedList(new ArrayList<>());
+        OMAGServerStartupPlanner startupPlanner = new OMAGServerStartupPlanner("testServer", 4, null);
+
+        for (String serviceName : List.of("service1", "service2", "service3"))
+        {
+            startupPlanner.addStep(serviceName, () ->
+            {
+                allStarted.countDown();
+
+                /*
+                 * Only completes if the other services are running at the same time.
+                 */
+                assertTrue(allStarted.await(10, TimeUnit.SECONDS));
+                startOrder.add(serviceName);
+            });
+        }
+
+        startupPlanner.addStep("eventBus", () -> startOrder.add("eventBus"), "service1", "service2", "service3");
+
+        startupPlanner.run();
+
+        assertEquals(4, startOrder.size());
+        assertEquals("eventBus", startOrder.get(3));
+    }
+
+
+    /**
+     * After a failure no more steps start, and the first failure is returned.
+     */
+    @Test
+    public void testFailureStopsPlan()
+    {
+        AtomicInteger            stepsRun       = new AtomicInteger();
+        OMAGServerStartupPlanner startupPlanner = new OMAGServerStartupPlanner("testServer", 2, null);
+
+        startupPlanner.addStep("service1", () -> { throw new IllegalStateException("service1 failed"); });
+        startupPlanner.addStep("service2", stepsRun::incrementAndGet, "service1");
+        startupPlanner.addStep("service3", stepsRun::incrementAndGet, "service2");
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, startupPlanner::run);
+
+        assertEquals("service1 failed", error.getMessage());
+        assertEquals(0, stepsRun.get());
+        assertFalse(startupPlanner.getStepDurations().containsKey("service1"));
+    }
+
+
+    /**
+     * Dependencies that are missing or circular are reported as configuration errors before any step runs.
+     */
+    @Test
+    public void testInvalidPlan()
+    {
+        AtomicInteger            stepsRun       = new AtomicInteger();
+        OMAGServerStartupPlanner startupPlanner = new OMAGServerStartupPlanner("testServer", 2, null);
+
+        startupPlanner.addStep("service1", stepsRun::incrementAndGet, "unknownService");
+
+        assertThrows(OMAGConfigurationErrorException.class, startupPlanner::run);
+        assertEquals(0, stepsRun.get());
+
+        for (int parallelism : new int[]{1, 2})
+        {
+            OMAGServerStartupPlanner circularPlanner = new OMAGServerStartupPlanner("testServer", parallelism, null);
+
+            circularPlanner.addStep("service1", stepsRun::incrementAndGet, "service2");
+            circularPlanner.addStep("service2", stepsRun::incrementAndGet, "service1");
+
+            assertThrows(OMAGConfigurationErrorException.class, circularPlanner::run);
+            assertEquals(0, stepsRun.get());
+        }
+    }
+}
@@ -3,17 +3,33 @@
 
 package org.odpi.openmetadata.commonservices.ffdc;
 
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsRegistry;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsTimer;
 import org.slf4j.Logger;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * RESTCallLogger provides standard logging for REST API method invocations.  It logs
  * the start and end of the call and manages a timer so that the elapsed time of a call is logged.
+ * The elapsed time is also recorded in the platform's metrics registry for every call, whether or not
+ * debug logging is enabled.  The server name comes from the request URL, so it is only used as a metrics
+ * label when it names a server that is running on the platform.  Otherwise the label is left empty.
  */
 public class RESTCallLogger
 {
+    private static volatile Set<String> activeServerNames = Collections.emptySet();
+
     private  Logger  log;
     private  String  serviceName;
 
+    private final Map<String, MetricsTimer> requestTimers = new ConcurrentHashMap<>();
+
     /**
      * Create a REST Call logger for a REST Service.
      *
@@ -27,6 +43,25 @@ public class RESTCallLogger
     }
 
 
+    /**
+     * Set up the names of the servers that are running on the platform.  This is called each time a server
+     * starts or stops.
+     *
+     * @param serverNames names of the active servers
+     */
+    public static void setActiveServerNames(Collection<String> serverNames)
+    {
+        if (serverNames == null)
+        {
+            activeServerNames = Collections.emptySet();
+        }
+        else
+        {
+            activeServerNames = Collections.unmodifiableSet(new HashSet<>(serverNames));
+        }
+    }
+
+
     /**
      * Log the start of an inbound REST Call.
      *
@@ -39,18 +74,14 @@ public class RESTCallLogger
                                      String userId,
                                      String methodName)
     {
+        RESTCallToken token = new RESTCallToken(serviceName, serverName, userId, methodName);
+
         if (log.isDebugEnabled())
         {
-            RESTCallToken token = new RESTCallToken(serviceName, serverName, userId, methodName);
-
             log.debug(token.getRESTCallStartText());
-
-            return token;
-        }
-        else
-        {
-            return null;
         }
+
+        return token;
     }
 
 
@@ -63,6 +94,11 @@ public class RESTCallLogger
     public void logRESTCallReturn(RESTCallToken  token,
                                   String         response)
     {
+        if (token != null)
+        {
+            this.getRequestTimer(token).recordSince(token.getStartNanos());
+        }
+
         if (log.isDebugEnabled())
         {
             if (token != null)
@@ -75,4 +111,31 @@ public class RESTCallLogger
             }
         }
     }
+
+
+    /**
+     * Return the timer for the REST call.  The timers are held by the logger so that the metrics registry
+     * is only consulted the first time an operation is called for a server.
+     *
+     * @param token REST call token
+     * @return timer
+     */
+    private MetricsTimer getRequestTimer(RESTCallToken token)
+    {
+        String serverName = token.getServerName();
+
+        if ((serverName == null) || (! activeServerNames.contains(serverName)))
+        {
+            serverName = "";
+        }
+
+        final String metricsServerName = serverName;
+
+        return requestTimers.computeIfAbsent(token.getServiceName() + ":" + metricsServerName + ":" + token.getMethodName(),
+                                             (key) -> MetricsRegistry.getPlatformRegistry().getTimer("omag_rest_request_seconds",
+                                                                                                     "Time taken to process inbound REST calls.",
+                                                                                                     "service", token.getServiceName(),
+                                                                                                     "server", metricsServerName,
+                                                                                                     "operation", token.getMethodName()));
+    }
 }
@@ -3,7 +3,7 @@
 
 package org.odpi.openmetadata.commonservices.ffdc;
 
-import org.apache.commons.lang3.time.StopWatch;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * RESTCallToken provides a cache of information about a single REST API call invocation.
@@ -11,12 +11,10 @@ import org.apache.commons.lang3.time.StopWatch;
  */
 public class RESTCallToken
 {
-    static volatile private long nextCallId = 0;
+    static final private AtomicLong nextCallId = new AtomicLong();
     static final String PLATFORM_NAME = "<*>";
 
-    static private synchronized long getNextCallId() { return nextCallId++; }
-
-    private StopWatch watch;
+    private long      startNanos;
     private long      callId;
     private String    serviceName;
     private String    serverName;
@@ -37,8 +35,8 @@ public class RESTCallToken
         this.userId      = userId;
         this.methodName  = methodName;
 
-        this.watch = StopWatch.createStarted();
-        this.callId = getNextCallId();
+        this.startNanos = System.nanoTime();
+        this.callId = nextCallId.getAndIncrement();
 
         if (serverName == null)
         {
@@ -70,6 +68,50 @@ public class RESTCallToken
      */
     String getRESTCallReturnText(String response)
     {
-        return callId + ":" + serviceName + ":" + serverName + ":" + methodName + " call invoked by " + userId + " returned with response " + response + "; Duration: " + watch.getTime()/1000 + "seconds";
+        return callId + ":" + serviceName + ":" + serverName + ":" + methodName + " call invoked by " + userId + " returned with response " + response + "; Duration: " + (System.nanoTime() - startNanos)/1000000000L + "seconds";
+    }
+
+
+    /**
+     * Return the name of the called service.
+     *
+     * @return service name
+     */
+    String getServiceName()
+    {
+        return serviceName;
+    }
+
+
+    /**
+     * Return the name of the called server.
+     *
+     * @return server name
+     */
+    String getServerName()
+    {
+        return serverName;
+    }
+
+
+    /**
+     * Return the name of the called method.
+     *
+     * @return method name
+     */
+    String getMethodName()
+    {
+        return methodName;
+    }
+
+
+    /**
+     * Return the time the call started.
+     *
+     * @return value of System.nanoTime() when the token was created
+     */
+    long getStartNanos()
+    {
+        return startNanos;
     }
 }
@@ -0,0 +1,48 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ffdc;
+
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsRegistry;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that RESTCallLogger only uses the server name from the request as a metrics label when the server is
+ * running on the platform.
+ */
+public class TestRESTCallLogger
+{
+    private static final String serviceName = "TestRESTCallLoggerService";
+
+
+    /**
+     * Calls to a running server are labelled with its name and calls to unknown servers are not.
+     */
+    @Test public void testServerLabel()
+    {
+        RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(TestRESTCallLogger.class), serviceName);
+
+        RESTCallLogger.setActiveServerNames(Collections.singletonList("activeServer"));
+
+        try
+        {
+            restCallLogger.logRESTCallReturn(restCallLogger.logRESTCall("activeServer", "testUser", "testMethod"), "OK");
+            restCallLogger.logRESTCallReturn(restCallLogger.logRESTCall("unknownServer", "testUser", "testMethod"), "OK");
+
+            String metrics = MetricsRegistry.getPlatformRegistry().getPrometheusText();
+
+            assertTrue(metrics.contains("server=\"activeServer\""));
+            assertTrue(metrics.contains("server=\"\""));
+            assertFalse(metrics.contains("server=\"unknownServer\""));
+        }
+        finally
+        {
+            RESTCallLogger.setActiveServerNames(null);
+        }
+    }
+}
@@ -6,10 +6,13 @@ import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.repositoryhandler.*;
 import org.odpi.openmetadata.commonservices.generichandlers.ffdc.*;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsRegistry;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsTimer;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSEventEnrichmentContext;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.HistorySequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
@@ -27,6 +30,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OpenMetadataAPIGenericHandler manages the exchange of Open Metadata API Bean content with the repository services
@@ -66,6 +70,8 @@ public class OpenMetadataAPIGenericHandler<B>
 
     private final List<String> qualifiedNamePropertyNamesList;
 
+    private final Map<String, MetricsTimer> requestTimers = new ConcurrentHashMap<>();
+
 
     /**
      * Construct the handler information needed to interact with the repository services
@@ -126,6 +132,25 @@ public class OpenMetadataAPIGenericHandler<B>
     }
 
 
+    /**
+     * Return the timer for one of the handler's repository operations.  The time is recorded as the operation
+     * returns, so it covers the calls to the repository services and the visibility checks made on the results.
+     * Operations that fail with an exception are not timed.
+     *
+     * @param operationName name of the handler method
+     * @return timer
+     */
+    private MetricsTimer getRequestTimer(String operationName)
+    {
+        return requestTimers.computeIfAbsent(operationName,
+                                             (key) -> MetricsRegistry.getPlatformRegistry().getTimer("omag_generic_handler_request_seconds",
+                                                                                                     "Time taken by the generic handlers to process repository requests.",
+                                                                                                     "server", serverName,
+                                                                                                     "service", serviceName,
+                                                                                                     "operation", operationName));
+    }
+
+
     /**
      * Return this handler's converter.
      *
@@ -2840,6 +2865,144 @@ public class OpenMetadataAPIGenericHandler<B>
     }
 
 
+    /**
+     * Walk the relationships to find the anchor of an entity that has no Anchors classification and, if one is found, store it
+     * in the classification.  When an OMRS event is being processed, this is only done once for all the access services
+     * listening to the event.  Similarly, when a request context is active, it is only done once for the request.
+     *
+     * @param connectToGUID unique identifier of the entity
+     * @param connectToGUIDParameterName parameter that provided the guid
+     * @param connectToType type of the entity
+     * @param connectToEntity entity retrieved from the repository
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     * @return anchorGUID or null
+     * @throws InvalidParameterException one of the properties is invalid
+     * @throws UserNotAuthorizedException the local server userId does not have access to the repository instances
+     * @throws PropertyServerException something is wrong with the repository
+     */
+    private String deriveAndMaintainAnchorGUID(String       connectToGUID,
+                                               String       connectToGUIDParameterName,
+                                               String       connectToType,
+                                               EntityDetail connectToEntity,
+                                               boolean      forLineage,
+                                               boolean      forDuplicateProcessing,
+                                               Date         effectiveTime,
+                                               String       methodName) throws InvalidParameterException,
+                                                                               UserNotAuthorizedException,
+                                                                               PropertyServerException
+    {
+        final String localMethodName = "deriveAndMaintainAnchorGUID";
+
+        OMRSEventEnrichmentContext enrichmentContext = OMRSEventEnrichmentContext.getCurrentContext();
+        RepositoryRequestContext   requestContext    = RepositoryRequestContext.getCurrentContext();
+
+        if ((enrichmentContext == null) && (requestContext == null))
+        {
+            return this.deriveAndMaintainAnchorGUIDInRepository(connectToGUID,
+                                                                connectToGUIDParameterName,
+                                                                connectToType,
+                                                                connectToEntity,
+                                                                forLineage,
+                                                                forDuplicateProcessing,
+                                                                effectiveTime,
+                                                                methodName);
+        }
+
+        try
+        {
+            if (enrichmentContext != null)
+            {
+                return enrichmentContext.getAnchorGUID(localServerUserId,
+                                                       connectToGUID,
+                                                       forLineage,
+                                                       forDuplicateProcessing,
+                                                       effectiveTime,
+                                                       () -> this.deriveAndMaintainAnchorGUIDInRepository(connectToGUID,
+                                                                                                          connectToGUIDParameterName,
+                                                                                                          connectToType,
+                                                                                                          connectToEntity,
+                                                                                                          forLineage,
+                                                                                                          forDuplicateProcessing,
+                                                                                                          effectiveTime,
+                                                                                                          methodName));
+            }
+
+            return requestContext.getAnchorGUID(connectToGUID,
+                                                forLineage,
+                                                forDuplicateProcessing,
+                                                effectiveTime,
+                                                () -> this.deriveAndMaintainAnchorGUIDInRepository(connectToGUID,
+                                                                                                   connectToGUIDParameterName,
+                                                                                                   connectToType,
+                                                                                                   connectToEntity,
+                                                                                                   forLineage,
+                                                                                                   forDuplicateProcessing,
+                                                                                                   effectiveTime,
+                                                                                                   methodName));
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException | RuntimeException error)
+        {
+            throw error;
+        }
+        catch (Exception error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, localMethodName);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Walk the relationships to find the anchor of an entity and, if one is found, store it in the Anchors classification,
+     * so it is easy to find next time.
+     *
+     * @param connectToGUID unique identifier of the entity
+     * @param connectToGUIDParameterName parameter that provided the guid
+     * @param connectToType type of the entity
+     * @param connectToEntity entity retrieved from the repository
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     * @return anchorGUID or null
+     * @throws InvalidParameterException one of the properties is invalid
+     * @throws UserNotAuthorizedException the local server userId does not have access to the repository instances
+     * @throws PropertyServerException something is wrong with the repository
+     */
+    private String deriveAndMaintainAnchorGUIDInRepository(String       connectToGUID,
+                                                           String       connectToGUIDParameterName,
+                                                           String       connectToType,
+                                                           EntityDetail connectToEntity,
+                                                           boolean      forLineage,
+                                                           boolean      forDuplicateProcessing,
+                                                           Date         effectiveTime,
+                                                           String       methodName) throws InvalidParameterException,
+                                                                                           UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        String anchorGUID = deriveAnchorGUID(connectToGUID, connectToEntity.getType().getTypeDefName(), forLineage, forDuplicateProcessing, effectiveTime, methodName);
+
+        if (anchorGUID != null)
+        {
+            maintainAnchorGUIDInClassification(connectToGUID,
+                                               connectToGUIDParameterName,
+                                               connectToType,
+                                               connectToEntity,
+                                               anchorGUID,
+                                               forLineage,
+                                               forDuplicateProcessing,
+                                               effectiveTime,
+                                               methodName);
+        }
+
+        return anchorGUID;
+    }
+
+
     /**
      * Validates that the current anchorGUID is correct and updates it if it is not.
      *
@@ -3152,23 +3315,14 @@ public class OpenMetadataAPIGenericHandler<B>
             /*
              * The classification is missing - so walk the relationships to find the anchor if it exists.
              */
-            anchorGUID = deriveAnchorGUID(connectToGUID, connectToEntity.getType().getTypeDefName(), forLineage, forDuplicateProcessing, effectiveTime, methodName);
-
-            if (anchorGUID != null)
-            {
-                /*
-                 * The anchor has been found so store it in the classification, so it is easy to find next time.
-                 */
-                maintainAnchorGUIDInClassification(connectToGUID,
-                                                   connectToGUIDParameterName,
-                                                   connectToType,
-                                                   connectToEntity,
-                                                   anchorGUID,
-                                                   forLineage,
-                                                   forDuplicateProcessing,
-                                                   effectiveTime,
-                                                   methodName);
-            }
+            anchorGUID = this.deriveAndMaintainAnchorGUID(connectToGUID,
+                                                          connectToGUIDParameterName,
+                                                          connectToType,
+                                                          connectToEntity,
+                                                          forLineage,
+                                                          forDuplicateProcessing,
+                                                          effectiveTime,
+                                                          methodName);
         }
 
         /*
@@ -4641,6 +4795,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                   PropertyServerException,
                                                                                   UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateObject(startingElement, startingElementGUIDParameterName, methodName);
 
@@ -4704,10 +4860,13 @@ public class OpenMetadataAPIGenericHandler<B>
 
             if (! visibleEntities.isEmpty())
             {
+                this.getRequestTimer("getAttachedEntities").recordSince(startTime);
                 return visibleEntities;
             }
         }
 
+        this.getRequestTimer("getAttachedEntities").recordSince(startTime);
+
         return null;
     }
 
@@ -5401,6 +5560,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                           PropertyServerException,
                                                                                           UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         invalidParameterHandler.validateUserId(userId, methodName);
 
         validateNewEntityRequest(userId,
@@ -5412,15 +5573,19 @@ public class OpenMetadataAPIGenericHandler<B>
                                  effectiveTime,
                                  methodName);
 
-        return repositoryHandler.createEntity(userId,
-                                              entityTypeGUID,
-                                              entityTypeName,
-                                              externalSourceGUID,
-                                              externalSourceName,
-                                              propertyBuilder.getInstanceProperties(methodName),
-                                              propertyBuilder.getEntityClassifications(),
-                                              propertyBuilder.getInstanceStatus(),
-                                              methodName);
+        String entityGUID = repositoryHandler.createEntity(userId,
+                                                           entityTypeGUID,
+                                                           entityTypeName,
+                                                           externalSourceGUID,
+                                                           externalSourceName,
+                                                           propertyBuilder.getInstanceProperties(methodName),
+                                                           propertyBuilder.getEntityClassifications(),
+                                                           propertyBuilder.getInstanceStatus(),
+                                                           methodName);
+
+        this.getRequestTimer("createBeanInRepository").recordSince(startTime);
+
+        return entityGUID;
     }
 
 
@@ -9458,6 +9623,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                 PropertyServerException,
                                                                                 UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateGUID(requestedEntityGUID, requestedEntityGUIDParameterName, methodName);
 
@@ -9525,9 +9692,12 @@ public class OpenMetadataAPIGenericHandler<B>
 
         if (! beanValid)
         {
+            this.getRequestTimer("getEntityFromRepository").recordSince(startTime);
             return null;
         }
 
+        this.getRequestTimer("getEntityFromRepository").recordSince(startTime);
+
         return retrievedEntity;
     }
 
@@ -9864,7 +10034,28 @@ public class OpenMetadataAPIGenericHandler<B>
                 searchValue = repositoryHelper.getExactMatchRegex(searchString, caseInsensitive);
             }
 
-            if ((specificMatchPropertyNames == null) || (specificMatchPropertyNames.isEmpty()))
+            if ((exactValueMatch) && (! caseInsensitive) &&
+                (specificMatchPropertyNames != null) && (specificMatchPropertyNames.size() == 1) &&
+                (this.isUniqueProperty(resultTypeName, specificMatchPropertyNames.get(0), methodName)))
+            {
+                /*
+                 * Exact lookup of a unique property such as qualifiedName - served by the repositories' indexes
+                 */
+                iterator = new RepositoryUniquePropertyValueIterator(repositoryHandler,
+                                                                     invalidParameterHandler,
+                                                                     userId,
+                                                                     resultTypeGUID,
+                                                                     specificMatchPropertyNames.get(0),
+                                                                     searchString,
+                                                                     sequencingPropertyName,
+                                                                     forLineage,
+                                                                     forDuplicateProcessing,
+                                                                     startFrom,
+                                                                     queryPageSize,
+                                                                     effectiveTime,
+                                                                     methodName);
+            }
+            else if ((specificMatchPropertyNames == null) || (specificMatchPropertyNames.isEmpty()))
             {
                 /*
                  * Search for value in any string property
@@ -9925,6 +10116,43 @@ public class OpenMetadataAPIGenericHandler<B>
     }
 
 
+    /**
+     * Return whether the named property is declared as unique in the supplied type (or its super types).
+     *
+     * @param typeName name of the type
+     * @param propertyName name of the property
+     * @param methodName calling method
+     * @return boolean flag
+     */
+    private boolean isUniqueProperty(String typeName,
+                                     String propertyName,
+                                     String methodName)
+    {
+        if (typeName != null)
+        {
+            TypeDef typeDef = repositoryHelper.getTypeDefByName(serviceName, typeName);
+
+            if (typeDef != null)
+            {
+                List<TypeDefAttribute> typeDefAttributes = repositoryHelper.getAllPropertiesForTypeDef(serviceName, typeDef, methodName);
+
+                if (typeDefAttributes != null)
+                {
+                    for (TypeDefAttribute typeDefAttribute : typeDefAttributes)
+                    {
+                        if ((typeDefAttribute != null) && (propertyName.equals(typeDefAttribute.getAttributeName())))
+                        {
+                            return typeDefAttribute.isUnique();
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+
     /**
      * Return the unique identifier of the entity that has the supplied unique name. An exception is thrown if
      * multiple entities are found with this name.
@@ -10716,6 +10944,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                     UserNotAuthorizedException,
                                                                                     PropertyServerException
     {
+        long startTime = System.nanoTime();
+
         final String entityGUIDParameterName = "foundEntity.GUID";
 
         invalidParameterHandler.validateUserId(userId, methodName);
@@ -10769,9 +10999,12 @@ public class OpenMetadataAPIGenericHandler<B>
 
         if (! results.isEmpty())
         {
+            this.getRequestTimer("findEntities").recordSince(startTime);
             return results;
         }
 
+        this.getRequestTimer("findEntities").recordSince(startTime);
+
         return null;
     }
 
@@ -11637,6 +11870,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                                   PropertyServerException,
                                                                                                   UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         /*
          * The loop is necessary because some entities returned may not be visible to the calling user.
          * Once they are filtered out, more entities need to be retrieved to fill the gaps.
@@ -11727,10 +11962,12 @@ public class OpenMetadataAPIGenericHandler<B>
 
         if (results.isEmpty())
         {
+            this.getRequestTimer("getEntitiesByValue").recordSince(startTime);
             return null;
         }
         else
         {
+            this.getRequestTimer("getEntitiesByValue").recordSince(startTime);
             return results;
         }
     }
@@ -12428,6 +12665,72 @@ public class OpenMetadataAPIGenericHandler<B>
     }
 
 
+    /**
+     * Remove the assets that the user is not allowed to read from a page of entities retrieved directly from the
+     * repositories.  All the assets in the page are checked with one call to the security verifier so the supported
+     * zones for the user are only calculated once.  Entities that are not assets are left in place.
+     *
+     * @param userId the name of the calling user
+     * @param entities page of entities
+     * @param serviceSupportedZones supported zones for calling service
+     * @param methodName calling method
+     *
+     * @return the visible entities in their original order
+     * @throws InvalidParameterException the supported zones could not be calculated
+     * @throws PropertyServerException there is a problem retrieving information from the repositories.
+     */
+    private List<EntityDetail> selectReadableEntities(String             userId,
+                                                      List<EntityDetail> entities,
+                                                      List<String>       serviceSupportedZones,
+                                                      String             methodName) throws InvalidParameterException,
+                                                                                            PropertyServerException
+    {
+        if ((entities == null) || (entities.isEmpty()))
+        {
+            return entities;
+        }
+
+        List<EntityDetail> assetEntities = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            if ((entity != null) && (entity.getType() != null) &&
+                        (repositoryHelper.isTypeOf(serviceName, entity.getType().getTypeDefName(), OpenMetadataAPIMapper.ASSET_TYPE_NAME)))
+            {
+                assetEntities.add(entity);
+            }
+        }
+
+        if (assetEntities.isEmpty())
+        {
+            return entities;
+        }
+
+        List<EntityDetail> readableAssets = securityVerifier.selectReadableAssets(userId,
+                                                                                  assetEntities,
+                                                                                  serviceSupportedZones,
+                                                                                  repositoryHelper,
+                                                                                  serviceName,
+                                                                                  methodName);
+        Set<EntityDetail> hiddenAssets = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        hiddenAssets.addAll(assetEntities);
+        hiddenAssets.removeAll(readableAssets);
+
+        List<EntityDetail> results = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            if ((entity != null) && (! hiddenAssets.contains(entity)))
+            {
+                results.add(entity);
+            }
+        }
+
+        return results;
+    }
+
+
     /**
      * Return the list of beans of the requested type that match the supplied classification.
      *
@@ -12471,6 +12774,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                          effectiveTime,
                                                                                          methodName);
 
+        entities = this.selectReadableEntities(userId, entities, supportedZones, methodName);
+
         if (entities != null)
         {
             List<B>  beans = new ArrayList<>();
@@ -12536,6 +12841,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                          effectiveTime,
                                                                                          methodName);
 
+        entities = this.selectReadableEntities(userId, entities, supportedZones, methodName);
+
         if (entities != null)
         {
             List<String>  softwareServerCapabilityGUIDs = new ArrayList<>();
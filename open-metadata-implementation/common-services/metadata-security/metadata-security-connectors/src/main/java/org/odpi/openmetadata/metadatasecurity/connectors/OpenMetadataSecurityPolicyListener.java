@@ -0,0 +1,16 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.connectors;
+
+/**
+ * OpenMetadataSecurityPolicyListener is notified by an Open Metadata Security Connector when the rules it uses
+ * to make its decisions have changed.  Components that remember the outcome of earlier security checks
+ * use this to discard them.
+ */
+public interface OpenMetadataSecurityPolicyListener
+{
+    /**
+     * The security policies have changed, so decisions made previously may no longer be valid.
+     */
+    void policiesChanged();
+}
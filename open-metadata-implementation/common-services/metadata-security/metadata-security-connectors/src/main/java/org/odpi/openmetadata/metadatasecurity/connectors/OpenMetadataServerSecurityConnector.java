@@ -23,6 +23,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * OpenMetadataServerSecurityConnector provides the base class for an Open Metadata Security Connector for
@@ -44,6 +45,8 @@ public class OpenMetadataServerSecurityConnector extends ConnectorBase implement
 
     protected final String unknownTypeName = "<Unknown>";
 
+    private final List<OpenMetadataSecurityPolicyListener> policyListeners = new CopyOnWriteArrayList<>();
+
 
     /**
      * Write an audit log message to say that the connector is initializing.
@@ -693,6 +696,34 @@ public class OpenMetadataServerSecurityConnector extends ConnectorBase implement
     }
 
 
+    /**
+     * Register a component that needs to know when the security policies of this connector change.
+     *
+     * @param listener listener to call
+     */
+    public void registerPolicyListener(OpenMetadataSecurityPolicyListener listener)
+    {
+        if (listener != null)
+        {
+            policyListeners.add(listener);
+        }
+    }
+
+
+    /**
+     * Called when the rules used to make security decisions have changed, for example by a subclass after
+     * reloading an external policy store, and when the connector is disconnected.  Any decisions remembered
+     * by the server are discarded.
+     */
+    protected void notifyPolicyChange()
+    {
+        for (OpenMetadataSecurityPolicyListener listener : policyListeners)
+        {
+            listener.policiesChanged();
+        }
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      *
@@ -1876,6 +1907,11 @@ public class OpenMetadataServerSecurityConnector extends ConnectorBase implement
     {
         super.disconnect();
 
+        /*
+         * Decisions made by this connector must not outlive it.
+         */
+        notifyPolicyChange();
+
         logConnectorDisconnecting();
     }
 }
@@ -0,0 +1,451 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataSecurityPolicyListener;
+import org.odpi.openmetadata.metadatasecurity.properties.Asset;
+import org.odpi.openmetadata.metadatasecurity.properties.ConfidenceGovernanceClassification;
+import org.odpi.openmetadata.metadatasecurity.properties.ConfidentialityGovernanceClassification;
+import org.odpi.openmetadata.metadatasecurity.properties.CriticalityGovernanceClassification;
+import org.odpi.openmetadata.metadatasecurity.properties.ImpactGovernanceClassification;
+import org.odpi.openmetadata.metadatasecurity.properties.RetentionGovernanceClassification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * OpenMetadataSecurityDecisionCache remembers the positive outcome of asset security checks, the asset beans built
+ * for the security connector and the supported zones calculated for each user so that the same element returned
+ * by successive queries is not re-evaluated.  Entries are keyed on the element's version, so any change to the
+ * element is a cache miss.  Each part of the cache is bounded and its entries expire after a fixed time.  The whole
+ * cache is emptied when the security connector reports that its policies have changed.
+ *
+ * Refusals are never cached so the exceptions (and audit log messages) they produce are always current.
+ */
+class OpenMetadataSecurityDecisionCache implements OpenMetadataSecurityPolicyListener
+{
+    /**
+     * The asset operations whose outcome is remembered.
+     */
+    enum AssetOperation
+    {
+        READ,
+        ATTACHMENT_UPDATE,
+        FEEDBACK
+    }
+
+    private final ExpiringMap<DecisionKey, Boolean>    decisions;
+    private final ExpiringMap<BeanKey, Asset>          assetBeans;
+    private final ExpiringMap<ZonesKey, List<String>>  supportedZones;
+
+
+    /**
+     * Create a cache.
+     *
+     * @param maxEntries maximum number of entries in each part of the cache
+     * @param timeToLiveMillis maximum age of an entry
+     */
+    OpenMetadataSecurityDecisionCache(int  maxEntries,
+                                      long timeToLiveMillis)
+    {
+        this.decisions      = new ExpiringMap<>(maxEntries, timeToLiveMillis);
+        this.assetBeans     = new ExpiringMap<>(maxEntries, timeToLiveMillis);
+        this.supportedZones = new ExpiringMap<>(maxEntries, timeToLiveMillis);
+    }
+
+
+    /**
+     * Return whether the user has already been permitted to perform the operation on this version of the asset.
+     *
+     * @param userId calling user
+     * @param assetEntity asset
+     * @param operation requested operation
+     * @param serviceName calling service
+     * @param suppliedSupportedZones zones supplied by the calling service
+     * @return boolean
+     */
+    boolean isPermitted(String         userId,
+                        EntityDetail   assetEntity,
+                        AssetOperation operation,
+                        String         serviceName,
+                        List<String>   suppliedSupportedZones)
+    {
+        if ((userId == null) || (assetEntity == null) || (assetEntity.getGUID() == null))
+        {
+            return false;
+        }
+
+        return decisions.get(new DecisionKey(userId, assetEntity, operation, serviceName, suppliedSupportedZones)) != null;
+    }
+
+
+    /**
+     * Remember that the user may perform the operation on this version of the asset.
+     *
+     * @param userId calling user
+     * @param assetEntity asset
+     * @param operation requested operation
+     * @param serviceName calling service
+     * @param suppliedSupportedZones zones supplied by the calling service
+     */
+    void setPermitted(String         userId,
+                      EntityDetail   assetEntity,
+                      AssetOperation operation,
+                      String         serviceName,
+                      List<String>   suppliedSupportedZones)
+    {
+        if ((userId != null) && (assetEntity != null) && (assetEntity.getGUID() != null))
+        {
+            decisions.put(new DecisionKey(userId, assetEntity, operation, serviceName, suppliedSupportedZones), Boolean.TRUE);
+        }
+    }
+
+
+    /**
+     * Return a copy of the asset bean built for this version of the entity.  The copy shares no lists, maps or
+     * classifications with the cached bean, since the security connector is free to change the bean it is passed.
+     *
+     * @param assetEntity asset
+     * @return bean or null if not cached
+     */
+    Asset getAssetBean(EntityDetail assetEntity)
+    {
+        if ((assetEntity == null) || (assetEntity.getGUID() == null))
+        {
+            return null;
+        }
+
+        Asset cachedBean = assetBeans.get(new BeanKey(assetEntity));
+
+        if (cachedBean != null)
+        {
+            return copyOf(cachedBean);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Remember the asset bean built for this version of the entity.
+     *
+     * @param assetEntity asset
+     * @param assetBean bean built from the entity
+     */
+    void setAssetBean(EntityDetail assetEntity,
+                      Asset        assetBean)
+    {
+        if ((assetEntity != null) && (assetEntity.getGUID() != null) && (assetBean != null))
+        {
+            assetBeans.put(new BeanKey(assetEntity), copyOf(assetBean));
+        }
+    }
+
+
+    /**
+     * Return the supported zones previously calculated for the user.
+     *
+     * @param userId calling user
+     * @param suppliedSupportedZones zones supplied by the calling service
+     * @param serviceName calling service
+     * @return copy of the zones or null if not cached
+     */
+    List<String> getSupportedZones(String       userId,
+                                   List<String> suppliedSupportedZones,
+                                   String       serviceName)
+    {
+        return copyOf(supportedZones.get(new ZonesKey(userId, suppliedSupportedZones, serviceName)));
+    }
+
+
+    /**
+     * Remember the supported zones calculated for the user.
+     *
+     * @param userId calling user
+     * @param suppliedSupportedZones zones supplied by the calling service
+     * @param serviceName calling service
+     * @param zones calculated zones
+     */
+    void setSupportedZones(String       userId,
+                           List<String> suppliedSupportedZones,
+                           String       serviceName,
+                           List<String> zones)
+    {
+        if (zones != null)
+        {
+            supportedZones.put(new ZonesKey(userId, suppliedSupportedZones, serviceName), new ArrayList<>(zones));
+        }
+    }
+
+
+    /**
+     * The security connector's policies have changed so every remembered decision is discarded.
+     */
+    @Override
+    public void policiesChanged()
+    {
+        decisions.clear();
+        assetBeans.clear();
+        supportedZones.clear();
+    }
+
+
+    /**
+     * Return a copy of an asset bean that can be changed without affecting the original.  The values of the
+     * security and extended properties maps are shared since they are not changed through the bean.
+     *
+     * @param template bean to copy
+     * @return copy
+     */
+    private static Asset copyOf(Asset template)
+    {
+        Asset copy = new Asset(template);
+
+        copy.setZoneMembership(copyOf(template.getZoneMembership()));
+        copy.setOrigin(copyOf(template.getOrigin()));
+        copy.setAdditionalProperties(copyOf(template.getAdditionalProperties()));
+        copy.setSecurityLabels(copyOf(template.getSecurityLabels()));
+        copy.setSecurityProperties(copyOf(template.getSecurityProperties()));
+        copy.setExtendedProperties(copyOf(template.getExtendedProperties()));
+
+        if (template.getAccessGroups() != null)
+        {
+            Map<String, List<String>> accessGroups = new HashMap<>();
+
+            template.getAccessGroups().forEach((operation, groups) -> accessGroups.put(operation, copyOf(groups)));
+            copy.setAccessGroups(accessGroups);
+        }
+
+        if (template.getConfidentiality() != null)
+        {
+            copy.setConfidentiality(new ConfidentialityGovernanceClassification(template.getConfidentiality()));
+        }
+        if (template.getConfidence() != null)
+        {
+            copy.setConfidence(new ConfidenceGovernanceClassification(template.getConfidence()));
+        }
+        if (template.getCriticality() != null)
+        {
+            copy.setCriticality(new CriticalityGovernanceClassification(template.getCriticality()));
+        }
+        if (template.getImpact() != null)
+        {
+            copy.setImpact(new ImpactGovernanceClassification(template.getImpact()));
+        }
+        if (template.getRetention() != null)
+        {
+            copy.setRetention(new RetentionGovernanceClassification(template.getRetention()));
+        }
+
+        return copy;
+    }
+
+
+    private static <T> List<T> copyOf(List<T> list)
+    {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+
+    private static <K, V> Map<K, V> copyOf(Map<K, V> map)
+    {
+        return map == null ? null : new HashMap<>(map);
+    }
+
+
+    /**
+     * Bounded map whose entries expire after a fixed time.  The least recently used entry is evicted when it is full.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     */
+    private static class ExpiringMap<K, V>
+    {
+        private final int                         maxEntries;
+        private final long                        timeToLiveMillis;
+        private final LinkedHashMap<K, Entry<V>>  entries;
+
+        ExpiringMap(int  maxEntries,
+                    long timeToLiveMillis)
+        {
+            this.maxEntries       = maxEntries;
+            this.timeToLiveMillis = timeToLiveMillis;
+            this.entries          = new LinkedHashMap<>(16, 0.75f, true)
+            {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest)
+                {
+                    return size() > ExpiringMap.this.maxEntries;
+                }
+            };
+        }
+
+        synchronized V get(K key)
+        {
+            Entry<V> entry = entries.get(key);
+
+            if (entry == null)
+            {
+                return null;
+            }
+
+            if (System.currentTimeMillis() > entry.expiryTime)
+            {
+                entries.remove(key);
+                return null;
+            }
+
+            return entry.value;
+        }
+
+        synchronized void put(K key, V value)
+        {
+            entries.put(key, new Entry<>(value, System.currentTimeMillis() + timeToLiveMillis));
+        }
+
+        synchronized void clear()
+        {
+            entries.clear();
+        }
+    }
+
+
+    private static class Entry<V>
+    {
+        private final V    value;
+        private final long expiryTime;
+
+        Entry(V value, long expiryTime)
+        {
+            this.value      = value;
+            this.expiryTime = expiryTime;
+        }
+    }
+
+
+    private static class BeanKey
+    {
+        private final String guid;
+        private final long   version;
+
+        BeanKey(EntityDetail entity)
+        {
+            this.guid    = entity.getGUID();
+            this.version = entity.getVersion();
+        }
+
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            BeanKey that = (BeanKey) objectToCompare;
+            return version == that.version && guid.equals(that.guid);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(guid, version);
+        }
+    }
+
+
+    private static class DecisionKey
+    {
+        private final String         userId;
+        private final BeanKey        element;
+        private final AssetOperation operation;
+        private final String         serviceName;
+        private final List<String>   suppliedSupportedZones;
+
+        DecisionKey(String         userId,
+                    EntityDetail   entity,
+                    AssetOperation operation,
+                    String         serviceName,
+                    List<String>   suppliedSupportedZones)
+        {
+            this.userId                 = userId;
+            this.element                = new BeanKey(entity);
+            this.operation              = operation;
+            this.serviceName            = serviceName;
+            this.suppliedSupportedZones = suppliedSupportedZones == null ? null : new ArrayList<>(suppliedSupportedZones);
+        }
+
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            DecisionKey that = (DecisionKey) objectToCompare;
+            return userId.equals(that.userId) &&
+                           element.equals(that.element) &&
+                           operation == that.operation &&
+                           Objects.equals(serviceName, that.serviceName) &&
+                           Objects.equals(suppliedSupportedZones, that.suppliedSupportedZones);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(userId, element, operation, serviceName, suppliedSupportedZones);
+        }
+    }
+
+
+    private static class ZonesKey
+    {
+        private final String       userId;
+        private final List<String> suppliedSupportedZones;
+        private final String       serviceName;
+
+        ZonesKey(String       userId,
+                 List<String> suppliedSupportedZones,
+                 String       serviceName)
+        {
+            this.userId                 = userId;
+            this.suppliedSupportedZones = suppliedSupportedZones == null ? null : new ArrayList<>(suppliedSupportedZones);
+            this.serviceName            = serviceName;
+        }
+
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            ZonesKey that = (ZonesKey) objectToCompare;
+            return Objects.equals(userId, that.userId) &&
+                           Objects.equals(suppliedSupportedZones, that.suppliedSupportedZones) &&
+                           Objects.equals(serviceName, that.serviceName);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(userId, suppliedSupportedZones, serviceName);
+        }
+    }
+}
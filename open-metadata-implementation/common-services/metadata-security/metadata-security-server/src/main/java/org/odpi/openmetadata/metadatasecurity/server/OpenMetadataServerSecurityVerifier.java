@@ -12,6 +12,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.metadatasecurity.*;
 import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityConnector;
 import org.odpi.openmetadata.metadatasecurity.ffdc.OpenMetadataSecurityErrorCode;
+import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataSecurityDecisionCache.AssetOperation;
 import org.odpi.openmetadata.metadatasecurity.properties.AssetAuditHeader;
 import org.odpi.openmetadata.metadatasecurity.properties.Asset;
 import org.odpi.openmetadata.metadatasecurity.properties.ConfidenceGovernanceClassification;
@@ -118,6 +119,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     private static final String OWNER_PROPERTY_NAME_PROPERTY_NAME         = "ownerPropertyName";                   /* from Area 4 */
     private static final String OWNER_TYPE_PROPERTY_NAME                  = "ownerType"; /* deprecated */
 
+    /*
+     * Optional configuration properties of the security connector's connection that turn on the decision cache.
+     */
+    public static final String DECISION_CACHE_SIZE_PROPERTY_NAME          = "decisionCacheSize";
+    public static final String DECISION_CACHE_TIME_TO_LIVE_PROPERTY_NAME  = "decisionCacheTimeToLiveSeconds";
+
+    private static final long  DEFAULT_DECISION_CACHE_TIME_TO_LIVE_SECONDS = 60;
+
 
     private OpenMetadataRepositorySecurity repositorySecurityConnector = null;
     private OpenMetadataEventsSecurity     eventsSecurityConnector     = null;
@@ -127,6 +136,8 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     private OpenMetadataAssetSecurity      assetSecurityConnector      = null;
     private OpenMetadataGlossarySecurity   glossarySecurityConnector   = null;
 
+    private OpenMetadataSecurityDecisionCache decisionCache = null;
+
     private final InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
 
     /**
@@ -193,6 +204,13 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
             {
                 glossarySecurityConnector = (OpenMetadataGlossarySecurity)connector;
             }
+
+            decisionCache = this.getDecisionCache(connection);
+
+            if ((connector != null) && (decisionCache != null))
+            {
+                connector.registerPolicyListener(decisionCache);
+            }
         }
         catch (InvalidParameterException error)
         {
@@ -201,6 +219,66 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     }
 
 
+    /**
+     * Create the decision cache if it is requested in the configuration properties of the security connector's
+     * connection.  There is no cache by default.
+     *
+     * @param connection connection from the configuration document
+     * @return cache or null
+     */
+    private OpenMetadataSecurityDecisionCache getDecisionCache(org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection connection)
+    {
+        if ((connection == null) || (connection.getConfigurationProperties() == null))
+        {
+            return null;
+        }
+
+        Map<String, Object> configurationProperties = connection.getConfigurationProperties();
+
+        long cacheSize  = this.getLongProperty(configurationProperties, DECISION_CACHE_SIZE_PROPERTY_NAME, 0);
+        long timeToLive = this.getLongProperty(configurationProperties,
+                                               DECISION_CACHE_TIME_TO_LIVE_PROPERTY_NAME,
+                                               DEFAULT_DECISION_CACHE_TIME_TO_LIVE_SECONDS);
+
+        if ((cacheSize > 0) && (timeToLive > 0))
+        {
+            return new OpenMetadataSecurityDecisionCache((int)Math.min(cacheSize, Integer.MAX_VALUE), timeToLive * 1000);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Extract a numeric configuration property.
+     *
+     * @param configurationProperties properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is missing or not a number
+     * @return value
+     */
+    private long getLongProperty(Map<String, Object> configurationProperties,
+                                 String              propertyName,
+                                 long                defaultValue)
+    {
+        Object value = configurationProperties.get(propertyName);
+
+        if (value != null)
+        {
+            try
+            {
+                return Long.parseLong(value.toString());
+            }
+            catch (NumberFormatException error)
+            {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Return the Open Metadata Server Security Connector for the connection.
      *
@@ -270,7 +348,24 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (assetSecurityConnector != null)
         {
-            return assetSecurityConnector.setSupportedZonesForUser(suppliedSupportedZones, serviceName, userId);
+            if (decisionCache != null)
+            {
+                List<String> cachedZones = decisionCache.getSupportedZones(userId, suppliedSupportedZones, serviceName);
+
+                if (cachedZones != null)
+                {
+                    return cachedZones;
+                }
+            }
+
+            List<String> supportedZones = assetSecurityConnector.setSupportedZonesForUser(suppliedSupportedZones, serviceName, userId);
+
+            if (decisionCache != null)
+            {
+                decisionCache.setSupportedZones(userId, suppliedSupportedZones, serviceName, supportedZones);
+            }
+
+            return supportedZones;
         }
 
         return suppliedSupportedZones;
@@ -463,6 +558,39 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     }
 
 
+    /**
+     * Return the asset bean for a stored entity, reusing the one built for the same version of the entity
+     * when the decision cache is active.  This must not be used for entities that have been modified
+     * in memory since they do not have a new version number.
+     *
+     * @param entity stored entity
+     * @param repositoryHelper helper for OMRS objects
+     * @param serviceName calling service
+     * @param methodName calling method
+     * @return asset bean or null
+     */
+    private Asset getAssetBeanFromStoredEntity(EntityDetail         entity,
+                                               OMRSRepositoryHelper repositoryHelper,
+                                               String               serviceName,
+                                               String               methodName)
+    {
+        if (decisionCache == null)
+        {
+            return this.getAssetBeanFromEntity(entity, repositoryHelper, serviceName, methodName);
+        }
+
+        Asset assetBean = decisionCache.getAssetBean(entity);
+
+        if (assetBean == null)
+        {
+            assetBean = this.getAssetBeanFromEntity(entity, repositoryHelper, serviceName, methodName);
+            decisionCache.setAssetBean(entity, assetBean);
+        }
+
+        return assetBean;
+    }
+
+
     /**
      * Convert an OMRS InstanceStatus enum into a metadata security Referenceable Status enum.
      *
@@ -1302,6 +1430,52 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                                                  PropertyServerException,
                                                                                  UserNotAuthorizedException
     {
+        this.validateUserForAssetRead(userId,
+                                      assetGUID,
+                                      assetGUIDParameterName,
+                                      assetEntity,
+                                      suppliedSupportedZones,
+                                      this.getSupportedZones(userId, suppliedSupportedZones, serviceName),
+                                      repositoryHelper,
+                                      serviceName,
+                                      methodName);
+    }
+
+
+    /**
+     * Validate that the user is able to read an asset once the supported zones for the user are known.
+     *
+     * @param userId calling user
+     * @param assetGUID unique identifier of the asset
+     * @param assetGUIDParameterName name of parameter supplying the assetGUID
+     * @param assetEntity entity storing the asset's properties
+     * @param suppliedSupportedZones list of supported zones from the caller.
+     * @param supportedZones list of supported zones for the user
+     * @param repositoryHelper helper for OMRS objects
+     * @param serviceName calling service
+     * @param methodName calling method
+     * @throws InvalidParameterException the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException problem accessing the property server
+     */
+    private void validateUserForAssetRead(String               userId,
+                                          String               assetGUID,
+                                          String               assetGUIDParameterName,
+                                          EntityDetail         assetEntity,
+                                          List<String>         suppliedSupportedZones,
+                                          List<String>         supportedZones,
+                                          OMRSRepositoryHelper repositoryHelper,
+                                          String               serviceName,
+                                          String               methodName) throws InvalidParameterException,
+                                                                                  PropertyServerException,
+                                                                                  UserNotAuthorizedException
+    {
+        if ((decisionCache != null) &&
+                    (decisionCache.isPermitted(userId, assetEntity, AssetOperation.READ, serviceName, suppliedSupportedZones)))
+        {
+            return;
+        }
+
         /*
          * This method will throw an exception if the asset is not in the supported zones - it will look like
          * the asset is not known.
@@ -1309,7 +1483,7 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
         invalidParameterHandler.validateAssetInSupportedZone(assetGUID,
                                                              assetGUIDParameterName,
                                                              suppliedSupportedZones,
-                                                             this.getSupportedZones(userId, suppliedSupportedZones, serviceName),
+                                                             supportedZones,
                                                              serviceName,
                                                              methodName);
 
@@ -1318,10 +1492,79 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
             /*
              * Create the bean for the security module then call the appropriate security method.
              */
-            Asset assetBean = this.getAssetBeanFromEntity(assetEntity, repositoryHelper, serviceName, methodName);
+            Asset assetBean = this.getAssetBeanFromStoredEntity(assetEntity, repositoryHelper, serviceName, methodName);
 
             assetSecurityConnector.validateUserForAssetRead(userId, assetBean);
         }
+
+        if (decisionCache != null)
+        {
+            decisionCache.setPermitted(userId, assetEntity, AssetOperation.READ, serviceName, suppliedSupportedZones);
+        }
+    }
+
+
+    /**
+     * Return the assets from a page of query results that the user is allowed to read.  The supported zones
+     * for the user are calculated once for the whole page and assets that the user may not see are
+     * removed rather than causing an exception.
+     *
+     * @param userId calling user
+     * @param assetEntities entities storing the assets' properties
+     * @param suppliedSupportedZones list of supported zones from the caller.
+     * @param repositoryHelper helper for OMRS objects
+     * @param serviceName calling service
+     * @param methodName calling method
+     * @return the visible assets in their original order
+     * @throws InvalidParameterException the supported zones could not be calculated
+     * @throws PropertyServerException problem accessing the property server
+     */
+    public List<EntityDetail> selectReadableAssets(String               userId,
+                                                   List<EntityDetail>   assetEntities,
+                                                   List<String>         suppliedSupportedZones,
+                                                   OMRSRepositoryHelper repositoryHelper,
+                                                   String               serviceName,
+                                                   String               methodName) throws InvalidParameterException,
+                                                                                           PropertyServerException
+    {
+        final String assetGUIDParameterName = "assetEntity.getGUID()";
+
+        if ((assetEntities == null) || (assetEntities.isEmpty()))
+        {
+            return assetEntities;
+        }
+
+        List<String>       supportedZones = this.getSupportedZones(userId, suppliedSupportedZones, serviceName);
+        List<EntityDetail> readableAssets = new ArrayList<>();
+
+        for (EntityDetail assetEntity : assetEntities)
+        {
+            if (assetEntity != null)
+            {
+                try
+                {
+                    this.validateUserForAssetRead(userId,
+                                                  assetEntity.getGUID(),
+                                                  assetGUIDParameterName,
+                                                  assetEntity,
+                                                  suppliedSupportedZones,
+                                                  supportedZones,
+                                                  repositoryHelper,
+                                                  serviceName,
+                                                  methodName);
+
+                    readableAssets.add(assetEntity);
+                }
+                catch (InvalidParameterException | UserNotAuthorizedException notVisible)
+                {
+                    /*
+                     * Not in the supported zones or not allowed by the security connector - skip the asset.
+                     */
+                }
+            }
+        }
+
+        return readableAssets;
     }
 
 
@@ -1357,6 +1600,19 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                                                        PropertyServerException,
                                                                                        UserNotAuthorizedException
     {
+        AssetOperation operation = AssetOperation.READ;
+
+        if (isUpdate)
+        {
+            operation = isFeedback ? AssetOperation.FEEDBACK : AssetOperation.ATTACHMENT_UPDATE;
+        }
+
+        if ((decisionCache != null) &&
+                    (decisionCache.isPermitted(userId, assetEntity, operation, serviceName, suppliedSupportedZones)))
+        {
+            return;
+        }
+
         /*
          * This method will throw an exception if the asset is not in the supported zones - it will look like
          * the asset is not known.
@@ -1372,7 +1628,7 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
 
         if (assetSecurityConnector != null)
         {
-            Asset asset = this.getAssetBeanFromEntity(assetEntity, repositoryHelper, serviceName, methodName);
+            Asset asset = this.getAssetBeanFromStoredEntity(assetEntity, repositoryHelper, serviceName, methodName);
 
             /*
              * Now validate the security.
@@ -1393,6 +1649,11 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                 assetSecurityConnector.validateUserForAssetRead(userId, asset);
             }
         }
+
+        if (decisionCache != null)
+        {
+            decisionCache.setPermitted(userId, assetEntity, operation, serviceName, suppliedSupportedZones);
+        }
     }
 
 
@@ -1419,7 +1680,7 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (assetSecurityConnector != null)
         {
-            Asset originalAsset = this.getAssetBeanFromEntity(originalAssetEntity, repositoryHelper, serviceName, methodName);
+            Asset originalAsset = this.getAssetBeanFromStoredEntity(originalAssetEntity, repositoryHelper, serviceName, methodName);
 
             AssetAuditHeader assetAuditHeader = new AssetAuditHeader();
             assetAuditHeader.setCreatedBy(originalAssetEntity.getCreatedBy());
@@ -1462,7 +1723,7 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (assetSecurityConnector != null)
         {
-            Asset asset = this.getAssetBeanFromEntity(assetEntity, repositoryHelper, serviceName, methodName);
+            Asset asset = this.getAssetBeanFromStoredEntity(assetEntity, repositoryHelper, serviceName, methodName);
 
             assetSecurityConnector.validateUserForAssetDelete(userId, asset);
         }
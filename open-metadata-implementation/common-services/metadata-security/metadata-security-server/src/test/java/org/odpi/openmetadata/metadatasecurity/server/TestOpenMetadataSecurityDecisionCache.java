@@ -0,0 +1,134 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityConnector;
+import org.odpi.openmetadata.metadatasecurity.properties.Asset;
+import org.odpi.openmetadata.metadatasecurity.properties.ConfidentialityGovernanceClassification;
+import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataSecurityDecisionCache.AssetOperation;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * TestOpenMetadataSecurityDecisionCache validates that remembered decisions are tied to the version of the asset,
+ * that cached beans and zones are never shared with the caller and that a policy change empties the cache.
+ */
+public class TestOpenMetadataSecurityDecisionCache
+{
+    private static final String       userId      = "garygeeke";
+    private static final String       serviceName = "TestService";
+    private static final List<String> zones       = Collections.singletonList("quarantine");
+
+
+    /**
+     * A decision only applies to the version of the asset it was made for.
+     */
+    @Test public void testDecisionIsKeyedOnVersion()
+    {
+        OpenMetadataSecurityDecisionCache cache = new OpenMetadataSecurityDecisionCache(10, 60000);
+
+        cache.setPermitted(userId, getEntity("guid1", 1), AssetOperation.READ, serviceName, zones);
+
+        assertTrue(cache.isPermitted(userId, getEntity("guid1", 1), AssetOperation.READ, serviceName, zones));
+        assertFalse(cache.isPermitted(userId, getEntity("guid1", 2), AssetOperation.READ, serviceName, zones));
+        assertFalse(cache.isPermitted(userId, getEntity("guid1", 1), AssetOperation.FEEDBACK, serviceName, zones));
+        assertFalse(cache.isPermitted("erinoverview", getEntity("guid1", 1), AssetOperation.READ, serviceName, zones));
+        assertFalse(cache.isPermitted(userId, getEntity("guid1", 1), AssetOperation.READ, serviceName, null));
+    }
+
+
+    /**
+     * The least recently used decision is evicted when the cache is full.
+     */
+    @Test public void testEviction()
+    {
+        OpenMetadataSecurityDecisionCache cache = new OpenMetadataSecurityDecisionCache(2, 60000);
+
+        cache.setPermitted(userId, getEntity("guid1", 1), AssetOperation.READ, serviceName, zones);
+        cache.setPermitted(userId, getEntity("guid2", 1), AssetOperation.READ, serviceName, zones);
+        assertTrue(cache.isPermitted(userId, getEntity("guid1", 1), AssetOperation.READ, serviceName, zones));
+        cache.setPermitted(userId, getEntity("guid3", 1), AssetOperation.READ, serviceName, zones);
+
+        assertTrue(cache.isPermitted(userId, getEntity("guid1", 1), AssetOperation.READ, serviceName, zones));
+        assertFalse(cache.isPermitted(userId, getEntity("guid2", 1), AssetOperation.READ, serviceName, zones));
+        assertTrue(cache.isPermitted(userId, getEntity("guid3", 1), AssetOperation.READ, serviceName, zones));
+    }
+
+
+    /**
+     * Changes made to a bean or zone list by the caller do not reach the cache.
+     */
+    @Test public void testCachedValuesAreCopied()
+    {
+        OpenMetadataSecurityDecisionCache cache = new OpenMetadataSecurityDecisionCache(10, 60000);
+        EntityDetail                      entity = getEntity("guid1", 1);
+
+        Asset asset = new Asset();
+        asset.setZoneMembership(new ArrayList<>(zones));
+        ConfidentialityGovernanceClassification confidentiality = new ConfidentialityGovernanceClassification();
+        confidentiality.setConfidentialityLevel(1);
+        asset.setConfidentiality(confidentiality);
+
+        cache.setAssetBean(entity, asset);
+        asset.getZoneMembership().add("changedBeforeGet");
+
+        Asset firstCopy = cache.getAssetBean(entity);
+        firstCopy.getZoneMembership().add("changedAfterGet");
+        firstCopy.getConfidentiality().setConfidentialityLevel(3);
+
+        Asset secondCopy = cache.getAssetBean(entity);
+        assertNotSame(secondCopy, firstCopy);
+        assertEquals(secondCopy.getZoneMembership(), zones);
+        assertEquals(secondCopy.getConfidentiality().getConfidentialityLevel(), 1);
+
+        List<String> supportedZones = new ArrayList<>(zones);
+        cache.setSupportedZones(userId, null, serviceName, supportedZones);
+        supportedZones.add("changedBeforeGet");
+        cache.getSupportedZones(userId, null, serviceName).add("changedAfterGet");
+
+        assertEquals(cache.getSupportedZones(userId, null, serviceName), zones);
+    }
+
+
+    /**
+     * Disconnecting the security connector reports a policy change that empties the cache.
+     *
+     * @throws Exception test failure
+     */
+    @Test public void testPolicyChangeEmptiesCache() throws Exception
+    {
+        OpenMetadataSecurityDecisionCache   cache     = new OpenMetadataSecurityDecisionCache(10, 60000);
+        OpenMetadataServerSecurityConnector connector = new OpenMetadataServerSecurityConnector();
+        EntityDetail                        entity    = getEntity("guid1", 1);
+
+        connector.registerPolicyListener(cache);
+
+        cache.setPermitted(userId, entity, AssetOperation.READ, serviceName, zones);
+        cache.setAssetBean(entity, new Asset());
+        cache.setSupportedZones(userId, null, serviceName, zones);
+
+        connector.disconnect();
+
+        assertFalse(cache.isPermitted(userId, entity, AssetOperation.READ, serviceName, zones));
+        assertNull(cache.getAssetBean(entity));
+        assertNull(cache.getSupportedZones(userId, null, serviceName));
+    }
+
+
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+}
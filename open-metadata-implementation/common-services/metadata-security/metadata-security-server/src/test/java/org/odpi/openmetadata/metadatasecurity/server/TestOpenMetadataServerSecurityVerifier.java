@@ -0,0 +1,73 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * TestOpenMetadataServerSecurityVerifier validates the page-level asset read check.
+ */
+public class TestOpenMetadataServerSecurityVerifier
+{
+    private static final String serviceName = "TestService";
+    private static final String methodName  = "testMethod";
+
+
+    /**
+     * Without a security connector every asset in the page is readable and the order is kept.
+     *
+     * @throws Exception test failure
+     */
+    @Test public void testSelectReadableAssetsKeepsOrder() throws Exception
+    {
+        OpenMetadataServerSecurityVerifier verifier = new OpenMetadataServerSecurityVerifier();
+
+        EntityDetail first  = getEntity("guid1");
+        EntityDetail second = getEntity("guid2");
+        EntityDetail third  = getEntity("guid3");
+
+        List<EntityDetail> page = new ArrayList<>(Arrays.asList(first, null, second, third));
+
+        List<EntityDetail> readable = verifier.selectReadableAssets("garygeeke",
+                                                                    page,
+                                                                    Collections.singletonList("quarantine"),
+                                                                    null,
+                                                                    serviceName,
+                                                                    methodName);
+
+        assertEquals(readable, Arrays.asList(first, second, third));
+    }
+
+
+    /**
+     * An empty or missing page is returned unchanged.
+     *
+     * @throws Exception test failure
+     */
+    @Test public void testSelectReadableAssetsEmptyPage() throws Exception
+    {
+        OpenMetadataServerSecurityVerifier verifier = new OpenMetadataServerSecurityVerifier();
+
+        assertNull(verifier.selectReadableAssets("garygeeke", null, null, null, serviceName, methodName));
+        assertTrue(verifier.selectReadableAssets("garygeeke", new ArrayList<>(), null, null, serviceName, methodName).isEmpty());
+    }
+
+
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(1);
+
+        return entity;
+    }
+}
@@ -16,15 +16,17 @@ import java.util.*;
 /**
  * OMAGServerInstance represents an instance of a service in an OMAG Server.
  * It is also responsible for registering itself in the instance map.
+ * The service map is replaced rather than updated when services register and unregister so that
+ * the registered services can be looked up on each request without locking the server instance.
  */
 class OMAGServerInstance
 {
-    private final String                             serverName;
-    private String                                   serverType;
-    private final List<OMAGServerInstanceHistory>    serverHistory      = new ArrayList<>();
-    private Map<String, OMAGServerServiceInstance>   serviceInstanceMap = new HashMap<>();
-    private Date                                     serverStartTime    = new Date();
-    private final OpenMetadataServerSecurityVerifier securityVerifier   = new OpenMetadataServerSecurityVerifier();
+    private final String                                    serverName;
+    private volatile String                                 serverType;
+    private final List<OMAGServerInstanceHistory>           serverHistory      = new ArrayList<>();
+    private volatile Map<String, OMAGServerServiceInstance> serviceInstanceMap = Collections.emptyMap();
+    private Date                                            serverStartTime    = new Date();
+    private final OpenMetadataServerSecurityVerifier        securityVerifier   = new OpenMetadataServerSecurityVerifier();
 
 
     /**
@@ -181,7 +183,7 @@ class OMAGServerInstance
      *
      * @return connector
      */
-    synchronized OpenMetadataServerSecurityVerifier  getSecurityVerifier()
+    OpenMetadataServerSecurityVerifier  getSecurityVerifier()
     {
         return securityVerifier;
     }
@@ -198,8 +200,11 @@ class OMAGServerInstance
     {
         if (serviceInstance != null)
         {
-            serviceInstanceMap.put(serviceName, serviceInstance);
+            Map<String, OMAGServerServiceInstance> newServiceInstanceMap = new HashMap<>(serviceInstanceMap);
+
             serviceInstance.setSecurityVerifier(securityVerifier);
+            newServiceInstanceMap.put(serviceName, serviceInstance);
+            serviceInstanceMap = Collections.unmodifiableMap(newServiceInstanceMap);
         }
     }
 
@@ -215,10 +220,10 @@ class OMAGServerInstance
      * @throws UserNotAuthorizedException calling user not authorized to call the request
      * @throws PropertyServerException service is not running in this server
      */
-    synchronized OMAGServerServiceInstance getRegisteredService(String    userId,
-                                                                String    serviceName,
-                                                                String    serviceOperationName) throws UserNotAuthorizedException,
-                                                                                                       PropertyServerException
+    OMAGServerServiceInstance getRegisteredService(String    userId,
+                                                   String    serviceName,
+                                                   String    serviceOperationName) throws UserNotAuthorizedException,
+                                                                                          PropertyServerException
     {
         try
         {
@@ -252,7 +257,13 @@ class OMAGServerInstance
      */
     synchronized  void unRegisterService(String   serviceName)
     {
-        serviceInstanceMap.remove(serviceName);
+        if (serviceInstanceMap.containsKey(serviceName))
+        {
+            Map<String, OMAGServerServiceInstance> newServiceInstanceMap = new HashMap<>(serviceInstanceMap);
+
+            newServiceInstanceMap.remove(serviceName);
+            serviceInstanceMap = Collections.unmodifiableMap(newServiceInstanceMap);
+        }
     }
 
 
@@ -269,9 +280,11 @@ class OMAGServerInstance
 
         if (!serviceInstanceMap.isEmpty())
         {
-            this.serviceInstanceMap = new HashMap<>();
+            Set<String> residualServices = serviceInstanceMap.keySet();
+
+            this.serviceInstanceMap = Collections.emptyMap();
             throw new PropertyServerException(OMAGServerInstanceErrorCode.SERVICES_NOT_SHUTDOWN.getMessageDefinition(serverName,
-                                                                                                                     serviceInstanceMap.keySet().toString()),
+                                                                                                                     residualServices.toString()),
                                               this.getClass().getName(),
                                               methodName);
         }
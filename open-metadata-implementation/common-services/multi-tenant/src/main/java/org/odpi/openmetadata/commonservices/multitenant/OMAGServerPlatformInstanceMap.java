@@ -5,6 +5,7 @@ package org.odpi.openmetadata.commonservices.multitenant;
 import org.odpi.openmetadata.adminservices.registration.OMAGAccessServiceRegistration;
 import org.odpi.openmetadata.adminservices.registration.OMAGViewServiceRegistration;
 import org.odpi.openmetadata.adminservices.configuration.registration.*;
+import org.odpi.openmetadata.commonservices.ffdc.RESTCallLogger;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerException;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.UserNotAuthorizedException;
@@ -20,18 +21,78 @@ import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityV
 import org.odpi.openmetadata.platformservices.properties.OMAGServerInstanceHistory;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * OMAGServerPlatformInstanceMap provides part of the mapping for inbound REST requests to the appropriate
  * service instances for the requested server.  It manages the server name to server instance mapping.
  * The map is maintained in a static, so it is scoped to the class loader.
  *
- * Instances of this class call the synchronized static methods to work with the map.
+ * Instances of this class call the static methods to work with the map.  The map is held as an immutable
+ * snapshot that is replaced whenever a server starts or stops.  The methods that change the map are
+ * synchronized so that one change is made at a time.  The methods used to look up servers on the
+ * request path read the current snapshot without taking a lock.
  */
 public class OMAGServerPlatformInstanceMap
 {
-    private static final Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>();
-    private static final Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>();
+    private static final AtomicReference<ServerInstanceMaps> serverInstanceMaps = new AtomicReference<>(new ServerInstanceMaps(new HashMap<>(),
+                                                                                                                              new HashMap<>()));
+
+
+    /**
+     * ServerInstanceMaps is an immutable snapshot of the servers known to the platform.  A new snapshot
+     * is built each time a server moves between the active and inactive maps.
+     */
+    private static class ServerInstanceMaps
+    {
+        private final Map<String, OMAGServerInstance> activeServerInstanceMap;
+        private final Map<String, OMAGServerInstance> inActiveServerInstanceMap;
+
+
+        /**
+         * Take a copy of the supplied maps.
+         *
+         * @param activeServerInstanceMap servers that are running
+         * @param inActiveServerInstanceMap servers that have run and are now shutdown
+         */
+        ServerInstanceMaps(Map<String, OMAGServerInstance> activeServerInstanceMap,
+                           Map<String, OMAGServerInstance> inActiveServerInstanceMap)
+        {
+            this.activeServerInstanceMap   = Collections.unmodifiableMap(new HashMap<>(activeServerInstanceMap));
+            this.inActiveServerInstanceMap = Collections.unmodifiableMap(new HashMap<>(inActiveServerInstanceMap));
+        }
+
+
+        /**
+         * Return the instance for a running server.
+         *
+         * @param serverName name of the server
+         * @return server instance or null if the server is not running
+         */
+        OMAGServerInstance getActiveServerInstance(String serverName)
+        {
+            return activeServerInstanceMap.get(serverName);
+        }
+
+
+        /**
+         * Return the instance for a server that is running or has run on this platform.
+         *
+         * @param serverName name of the server
+         * @return server instance or null if the server is not known
+         */
+        OMAGServerInstance getKnownServerInstance(String serverName)
+        {
+            OMAGServerInstance serverInstance = this.getActiveServerInstance(serverName);
+
+            if (serverInstance == null)
+            {
+                serverInstance = inActiveServerInstanceMap.get(serverName);
+            }
+
+            return serverInstance;
+        }
+    }
 
 
     /**
@@ -406,17 +467,22 @@ public class OMAGServerPlatformInstanceMap
      */
     private static synchronized OMAGServerInstance getActiveServerInstance(String serverName)
     {
+        ServerInstanceMaps currentMaps = serverInstanceMaps.get();
+
         /*
          * Is this a server that is currently running?
          */
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = currentMaps.getActiveServerInstance(serverName);
 
         if (serverInstance == null)
         {
+            Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>(currentMaps.activeServerInstanceMap);
+            Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>(currentMaps.inActiveServerInstanceMap);
+
             /*
              * Is this a known server that is currently inactive?
              */
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = inActiveServerInstanceMap.remove(serverName);
 
             if (serverInstance == null)
             {
@@ -424,16 +490,14 @@ public class OMAGServerPlatformInstanceMap
                  * New server for this platform
                  */
                 serverInstance = new OMAGServerInstance(serverName);
-                activeServerInstanceMap.put(serverName, serverInstance);
-            }
-            else
-            {
-                /*
-                 * Move the inactive server to active
-                 */
-                activeServerInstanceMap.put(serverName, serverInstance);
-                inActiveServerInstanceMap.remove(serverName);
             }
+
+            /*
+             * Publish the new snapshot with the server active
+             */
+            activeServerInstanceMap.put(serverName, serverInstance);
+            serverInstanceMaps.set(new ServerInstanceMaps(activeServerInstanceMap, inActiveServerInstanceMap));
+            RESTCallLogger.setActiveServerNames(activeServerInstanceMap.keySet());
         }
 
         return serverInstance;
@@ -496,14 +560,14 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws InvalidParameterException the server name is not known
      */
-    private static synchronized String getServerInstanceType(String  userId,
-                                                             String  serverName,
-                                                             String  serviceOperationName) throws InvalidParameterException,
-                                                                                                  UserNotAuthorizedException
+    private static String getServerInstanceType(String  userId,
+                                                String  serverName,
+                                                String  serviceOperationName) throws InvalidParameterException,
+                                                                                     UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        OMAGServerInstance serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance serverInstance = serverInstanceMaps.get().getActiveServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -531,12 +595,12 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceActive(String  userId,
-                                                               String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceActive(String  userId,
+                                                  String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        return (activeServerInstanceMap.get(serverName) != null);
+        return (serverInstanceMaps.get().getActiveServerInstance(serverName) != null);
     }
 
 
@@ -551,13 +615,12 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceKnown(String  userId,
-                                                              String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceKnown(String  userId,
+                                                 String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        return ((activeServerInstanceMap.get(serverName) != null) ||
-                (inActiveServerInstanceMap.get(serverName) != null));
+        return (serverInstanceMaps.get().getKnownServerInstance(serverName) != null);
     }
 
 
@@ -574,14 +637,14 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws PropertyServerException the service name is not know - indicating a logic error
      */
-    private static synchronized OMAGServerServiceInstance getInstanceForPlatform(String  userId,
-                                                                                 String  serverName,
-                                                                                 String  serviceName,
-                                                                                 String  serviceOperationName) throws InvalidParameterException,
-                                                                                                                      UserNotAuthorizedException,
-                                                                                                                      PropertyServerException
+    private static OMAGServerServiceInstance getInstanceForPlatform(String  userId,
+                                                                    String  serverName,
+                                                                    String  serviceName,
+                                                                    String  serviceOperationName) throws InvalidParameterException,
+                                                                                                         UserNotAuthorizedException,
+                                                                                                         PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstanceMaps.get().getActiveServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -619,7 +682,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -630,7 +693,7 @@ public class OMAGServerPlatformInstanceMap
             throw new UserNotAuthorizedException(error);
         }
 
-        Set<String>  activeServerSet = activeServerInstanceMap.keySet();
+        Set<String>  activeServerSet = serverInstanceMaps.get().activeServerInstanceMap.keySet();
 
         if (activeServerSet.isEmpty())
         {
@@ -650,7 +713,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -661,8 +724,9 @@ public class OMAGServerPlatformInstanceMap
             throw new UserNotAuthorizedException(error);
         }
 
-        List<String> knownServerList = new ArrayList<>(activeServerInstanceMap.keySet());
-        knownServerList.addAll(inActiveServerInstanceMap.keySet());
+        ServerInstanceMaps currentMaps     = serverInstanceMaps.get();
+        List<String>       knownServerList = new ArrayList<>(currentMaps.activeServerInstanceMap.keySet());
+        knownServerList.addAll(currentMaps.inActiveServerInstanceMap.keySet());
 
         if (knownServerList.isEmpty())
         {
@@ -682,8 +746,8 @@ public class OMAGServerPlatformInstanceMap
      * @param serverInstance instance for the server
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized void validateUserAsServerInvestigator(String              userId,
-                                                                      OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
+    private static void validateUserAsServerInvestigator(String              userId,
+                                                         OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
     {
         if (serverInstance != null)
         {
@@ -711,18 +775,13 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerStartTimeFromPlatform(String  userId,
-                                                                     String  serverName) throws InvalidParameterException,
-                                                                                                UserNotAuthorizedException
+    private static Date getServerStartTimeFromPlatform(String  userId,
+                                                        String  serverName) throws InvalidParameterException,
+                                                                                   UserNotAuthorizedException
     {
         final String  methodName = "getServerStartTimeFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-        }
+        OMAGServerInstance  serverInstance = serverInstanceMaps.get().getKnownServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -748,18 +807,13 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerEndTimeFromPlatform(String  userId,
-                                                                   String  serverName) throws InvalidParameterException,
-                                                                                              UserNotAuthorizedException
+    private static Date getServerEndTimeFromPlatform(String  userId,
+                                                      String  serverName) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException
     {
         final String  methodName = "getServerEndTimeFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-        }
+        OMAGServerInstance  serverInstance = serverInstanceMaps.get().getKnownServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -785,18 +839,13 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
-                                                                                              String  serverName) throws InvalidParameterException,
-                                                                                                                         UserNotAuthorizedException
+    private static List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
+                                                                                 String  serverName) throws InvalidParameterException,
+                                                                                                            UserNotAuthorizedException
     {
         final String  methodName = "getServerHistoryFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-        }
+        OMAGServerInstance  serverInstance = serverInstanceMaps.get().getKnownServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -821,13 +870,14 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the server name is not known
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String>   getActiveServiceListForServerOnPlatform(String userId,
-                                                                                       String serverName) throws InvalidParameterException,
-                                                                                                                 UserNotAuthorizedException
+    private static List<String>   getActiveServiceListForServerOnPlatform(String userId,
+                                                                          String serverName) throws InvalidParameterException,
+                                                                                                    UserNotAuthorizedException
     {
         final String  methodName = "getActiveServiceListForServerOnPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        ServerInstanceMaps  currentMaps    = serverInstanceMaps.get();
+        OMAGServerInstance  serverInstance = currentMaps.getActiveServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -837,7 +887,7 @@ public class OMAGServerPlatformInstanceMap
         }
         else /* server is not active */
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = currentMaps.inActiveServerInstanceMap.get(serverName);
 
             if (serverInstance != null)
             {
@@ -862,7 +912,7 @@ public class OMAGServerPlatformInstanceMap
     private static synchronized void removeInstanceForPlatform(String   serverName,
                                                                String   serviceName)
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstanceMaps.get().getActiveServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -885,7 +935,7 @@ public class OMAGServerPlatformInstanceMap
                                                        String   methodName) throws InvalidParameterException,
                                                                                    PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstanceMaps.get().getActiveServerInstance(serverName);
 
         if (serverInstance == null)
         {
@@ -903,8 +953,14 @@ public class OMAGServerPlatformInstanceMap
             }
             finally
             {
+                ServerInstanceMaps              currentMaps               = serverInstanceMaps.get();
+                Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>(currentMaps.activeServerInstanceMap);
+                Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>(currentMaps.inActiveServerInstanceMap);
+
                 inActiveServerInstanceMap.put(serverName, serverInstance);
                 activeServerInstanceMap.remove(serverName);
+                serverInstanceMaps.set(new ServerInstanceMaps(activeServerInstanceMap, inActiveServerInstanceMap));
+                RESTCallLogger.setActiveServerNames(activeServerInstanceMap.keySet());
             }
         }
     }
@@ -919,12 +975,12 @@ public class OMAGServerPlatformInstanceMap
      * @return OpenMetadataServerSecurityVerifier object - never null
      * @throws InvalidParameterException the server name is not known
      */
-    private static synchronized OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
-                                                                                                        String    serverName) throws InvalidParameterException
+    private static OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
+                                                                                           String    serverName) throws InvalidParameterException
     {
         final String  methodName = "getServerSecurityVerifierForPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstanceMaps.get().getActiveServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -0,0 +1,125 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.multitenant;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that servers looked up on the request path are seen consistently while other servers start and stop.
+ */
+public class TestOMAGServerPlatformInstanceMap
+{
+    private static final String userId      = "testUser";
+    private static final String methodName  = "TestOMAGServerPlatformInstanceMap";
+    private static final int    workerCount = 4;
+    private static final int    iterations  = 500;
+
+
+    /**
+     * Servers are started and shutdown on several threads while other threads look them up.  A server that has
+     * been started must always be known, and a server that is not changing state must always be seen as active.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testConcurrentStartAndShutdown() throws Exception
+    {
+        final String stableServerName = "stableServer";
+
+        OMAGServerPlatformInstanceMap platformInstanceMap = new OMAGServerPlatformInstanceMap();
+
+        platformInstanceMap.startUpServerInstance(userId, stableServerName, null, null);
+
+        List<String> changingServerNames = new ArrayList<>();
+
+        for (int i = 0; i < workerCount; i++)
+        {
+            String serverName = "changingServer" + i;
+
+            changingServerNames.add(serverName);
+            platformInstanceMap.startUpServerInstance(userId, serverName, null, null);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(workerCount * 2);
+        CountDownLatch  startLatch      = new CountDownLatch(1);
+        AtomicBoolean   running         = new AtomicBoolean(true);
+        List<Future<?>> writers         = new ArrayList<>();
+        List<Future<?>> readers         = new ArrayList<>();
+
+        try
+        {
+            for (String serverName : changingServerNames)
+            {
+                writers.add(executorService.submit(() ->
+                {
+                    startLatch.await();
+
+                    for (int i = 0; i < iterations; i++)
+                    {
+                        platformInstanceMap.shutdownServerInstance(userId, serverName, methodName);
+                        platformInstanceMap.startUpServerInstance(userId, serverName, null, null);
+                    }
+
+                    return null;
+                }));
+
+                readers.add(executorService.submit(() ->
+                {
+                    startLatch.await();
+
+                    while (running.get())
+                    {
+                        assertTrue(platformInstanceMap.isServerKnown(userId, serverName));
+                        assertTrue(platformInstanceMap.isServerKnown(userId, stableServerName));
+                        assertTrue(platformInstanceMap.isServerActive(userId, stableServerName));
+                        assertTrue(platformInstanceMap.getActiveServerList(userId).contains(stableServerName));
+                    }
+
+                    return null;
+                }));
+            }
+
+            startLatch.countDown();
+
+            for (Future<?> writer : writers)
+            {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+
+            running.set(false);
+
+            for (Future<?> reader : readers)
+            {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+
+            for (String serverName : changingServerNames)
+            {
+                assertTrue(platformInstanceMap.isServerActive(userId, serverName));
+
+                platformInstanceMap.shutdownServerInstance(userId, serverName, methodName);
+
+                assertFalse(platformInstanceMap.isServerActive(userId, serverName));
+                assertTrue(platformInstanceMap.isServerKnown(userId, serverName));
+            }
+        }
+        finally
+        {
+            running.set(false);
+            executorService.shutdownNow();
+            platformInstanceMap.shutdownServerInstance(userId, stableServerName, methodName);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSEventEnrichmentContext;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.HistorySequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
@@ -74,6 +75,303 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Retrieve an entity from the repository.  When an OMRS event is being processed, the entity is only retrieved once
+     * for all the access services listening to the event.  Similarly, when a request context is active, the entity is
+     * only retrieved once for the request.  Each caller receives its own copy.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the entity
+     * @return entity
+     * @throws Exception exception from the repository
+     */
+    private EntityDetail getEntityDetailFromRepository(String userId,
+                                                       String guid) throws Exception
+    {
+        OMRSEventEnrichmentContext enrichmentContext = OMRSEventEnrichmentContext.getCurrentContext();
+        RepositoryRequestContext   requestContext    = RepositoryRequestContext.getCurrentContext();
+
+        EntityDetail entity;
+
+        if (enrichmentContext != null)
+        {
+            entity = enrichmentContext.getEntityDetail(userId, guid, () -> metadataCollection.getEntityDetail(userId, guid));
+        }
+        else if (requestContext != null)
+        {
+            entity = requestContext.getEntityDetail(userId, guid, () -> metadataCollection.getEntityDetail(userId, guid));
+        }
+        else
+        {
+            return metadataCollection.getEntityDetail(userId, guid);
+        }
+
+        if (entity != null)
+        {
+            return new EntityDetail(entity);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Retrieve a set of entities from the repository with a single request.  This is used to load the entities at the
+     * far end of a page of relationships.  The result is only an optimization: the caller retrieves any entity that is
+     * missing from the map individually so that the usual error handling applies.  When an OMRS event is being processed,
+     * no entities are retrieved here, so that the entities cached for the event are used.  When a request context is
+     * active, only the entities that it does not already hold are retrieved and the results are saved in the context.
+     *
+     * @param userId calling user
+     * @param guids unique identifiers of the entities
+     * @return map of the retrieved entities keyed by GUID
+     */
+    private Map<String, EntityDetail> getEntityDetailsFromRepository(String       userId,
+                                                                     List<String> guids)
+    {
+        Map<String, EntityDetail> results = new HashMap<>();
+
+        if (OMRSEventEnrichmentContext.getCurrentContext() != null)
+        {
+            return results;
+        }
+
+        RepositoryRequestContext requestContext = RepositoryRequestContext.getCurrentContext();
+        List<String>             requiredGUIDs  = guids;
+
+        if (requestContext != null)
+        {
+            requiredGUIDs = new ArrayList<>();
+
+            for (String guid : guids)
+            {
+                EntityDetail cachedEntity = requestContext.getCachedEntityDetail(userId, guid);
+
+                if (cachedEntity != null)
+                {
+                    results.put(guid, cachedEntity);
+                }
+                else
+                {
+                    requiredGUIDs.add(guid);
+                }
+            }
+        }
+
+        if (requiredGUIDs.size() > 1)
+        {
+            try
+            {
+                List<EntityDetail> entities = metadataCollection.getEntityDetails(userId, requiredGUIDs);
+
+                if (entities != null)
+                {
+                    for (EntityDetail entity : entities)
+                    {
+                        if (entity != null)
+                        {
+                            results.put(entity.getGUID(), entity);
+
+                            if (requestContext != null)
+                            {
+                                requestContext.saveEntityDetail(userId, entity);
+                            }
+                        }
+                    }
+                }
+            }
+            catch (Exception error)
+            {
+                log.debug("Bulk retrieval of entities failed; retrieving them individually: " + error.getMessage());
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Retrieve a page of the relationships linked to an entity.  When an OMRS event is being processed, the relationships are only
+     * retrieved once for all the access services listening to the event.  Similarly, when a request context is active, they are
+     * only retrieved once for the request.  Each caller receives its own copy.
+     *
+     * @param userId calling user
+     * @param entityGUID unique identifier of the entity
+     * @param relationshipTypeGUID type of relationship or null for all types
+     * @param startingFrom initial position in the stored list
+     * @param sequencingPropertyName name of property used to sequence the results - null means no sequencing
+     * @param sequencingOrder order of the results
+     * @param pageSize maximum number of relationships to return
+     * @return list of relationships
+     * @throws Exception exception from the repository
+     */
+    private List<Relationship> getRelationshipsForEntityFromRepository(String          userId,
+                                                                       String          entityGUID,
+                                                                       String          relationshipTypeGUID,
+                                                                       int             startingFrom,
+                                                                       String          sequencingPropertyName,
+                                                                       SequencingOrder sequencingOrder,
+                                                                       int             pageSize) throws Exception
+    {
+        OMRSEventEnrichmentContext enrichmentContext = OMRSEventEnrichmentContext.getCurrentContext();
+        RepositoryRequestContext   requestContext    = RepositoryRequestContext.getCurrentContext();
+
+        List<Relationship> relationships;
+
+        if (enrichmentContext != null)
+        {
+            relationships = enrichmentContext.getRelationshipsForEntity(userId,
+                                                                        entityGUID,
+                                                                        relationshipTypeGUID,
+                                                                        sequencingPropertyName,
+                                                                        sequencingOrder,
+                                                                        startingFrom,
+                                                                        pageSize,
+                                                                        () -> metadataCollection.getRelationshipsForEntity(userId,
+                                                                                                                           entityGUID,
+                                                                                                                           relationshipTypeGUID,
+                                                                                                                           startingFrom,
+                                                                                                                           null,
+                                                                                                                           null,
+                                                                                                                           sequencingPropertyName,
+                                                                                                                           sequencingOrder,
+                                                                                                                           pageSize));
+        }
+        else if (requestContext != null)
+        {
+            relationships = requestContext.getRelationshipsForEntity(userId,
+                                                                     entityGUID,
+                                                                     relationshipTypeGUID,
+                                                                     sequencingPropertyName,
+                                                                     sequencingOrder,
+                                                                     startingFrom,
+                                                                     pageSize,
+                                                                     () -> metadataCollection.getRelationshipsForEntity(userId,
+                                                                                                                        entityGUID,
+                                                                                                                        relationshipTypeGUID,
+                                                                                                                        startingFrom,
+                                                                                                                        null,
+                                                                                                                        null,
+                                                                                                                        sequencingPropertyName,
+                                                                                                                        sequencingOrder,
+                                                                                                                        pageSize));
+        }
+        else
+        {
+            return metadataCollection.getRelationshipsForEntity(userId,
+                                                                entityGUID,
+                                                                relationshipTypeGUID,
+                                                                startingFrom,
+                                                                null,
+                                                                null,
+                                                                sequencingPropertyName,
+                                                                sequencingOrder,
+                                                                pageSize);
+        }
+
+        if (relationships == null)
+        {
+            return null;
+        }
+
+        List<Relationship> results = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            if (relationship != null)
+            {
+                results.add(new Relationship(relationship));
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Retrieve a relationship from the repository.  When a request context is active, the relationship is only
+     * retrieved once for the request.  Each caller receives its own copy.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the relationship
+     * @return relationship
+     * @throws Exception exception from the repository
+     */
+    private Relationship getRelationshipFromRepository(String userId,
+                                                       String guid) throws Exception
+    {
+        RepositoryRequestContext requestContext = RepositoryRequestContext.getCurrentContext();
+
+        if (requestContext == null)
+        {
+            return metadataCollection.getRelationship(userId, guid);
+        }
+
+        Relationship relationship = requestContext.getRelationship(userId, guid, () -> metadataCollection.getRelationship(userId, guid));
+
+        if (relationship != null)
+        {
+            return new Relationship(relationship);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Discard the values held in the request context (if any) because the repository is about to be updated.
+     */
+    private void invalidateRequestContext()
+    {
+        RepositoryRequestContext requestContext = RepositoryRequestContext.getCurrentContext();
+
+        if (requestContext != null)
+        {
+            requestContext.invalidate();
+        }
+    }
+
+
+    /**
+     * Remove the values made out of date by an update to an entity from the enrichment context of the OMRS event
+     * being processed (if any), so that the listeners that run later see the update.
+     *
+     * @param entityGUID unique identifier of the updated entity
+     */
+    private void invalidateEnrichedEntity(String entityGUID)
+    {
+        OMRSEventEnrichmentContext enrichmentContext = OMRSEventEnrichmentContext.getCurrentContext();
+
+        if ((enrichmentContext != null) && (entityGUID != null))
+        {
+            enrichmentContext.invalidateEntity(entityGUID);
+        }
+    }
+
+
+    /**
+     * Remove the values made out of date by an update to a relationship from the enrichment context of the OMRS event
+     * being processed (if any), so that the listeners that run later see the update.
+     *
+     * @param relationship updated relationship, or null if its ends are not known
+     */
+    private void invalidateEnrichedRelationship(Relationship relationship)
+    {
+        OMRSEventEnrichmentContext enrichmentContext = OMRSEventEnrichmentContext.getCurrentContext();
+
+        if (enrichmentContext != null)
+        {
+            if ((relationship != null) && (relationship.getEntityOneProxy() != null) && (relationship.getEntityTwoProxy() != null))
+            {
+                enrichmentContext.invalidateRelationships(relationship.getEntityOneProxy().getGUID(), relationship.getEntityTwoProxy().getGUID());
+            }
+            else
+            {
+                enrichmentContext.invalidateRelationships();
+            }
+        }
+    }
+
     /**
      * Return a flag to indicate whether the effectivity dates in the properties of an element indicate that the element is not
      * effective at the supplied effectiveTime.  If a null effectiveTime is supplied then it is assumed to be "any".
@@ -132,7 +430,7 @@ public class RepositoryHandler
 
         try
         {
-            EntityDetail entity = metadataCollection.getEntityDetail(userId, guid);
+            EntityDetail entity = this.getEntityDetailFromRepository(userId, guid);
 
             if (entity != null)
             {
@@ -563,6 +861,8 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateRequestContext();
+
             EntityDetail newEntity;
             if (externalSourceGUID == null)
             {
@@ -734,8 +1034,12 @@ public class RepositoryHandler
 
             try
             {
+                this.invalidateRequestContext();
+
                 EntityDetail newEntity = metadataCollection.updateEntityProperties(userId, entityGUID, newProperties);
 
+                this.invalidateEnrichedEntity(entityGUID);
+
                 if (newEntity == null)
                 {
                     errorHandler.handleNoEntity(entityTypeGUID, entityTypeName, newProperties, methodName);
@@ -1224,8 +1528,12 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.invalidateRequestContext();
+
             EntityDetail newEntity = metadataCollection.updateEntityProperties(userId, entityHeader.getGUID(), properties);
 
+            this.invalidateEnrichedEntity(entityHeader.getGUID());
+
             if (newEntity == null)
             {
                 errorHandler.handleNoEntity(entityTypeGUID, entityTypeName, properties, methodName);
@@ -1274,8 +1582,12 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateRequestContext();
+
             EntityDetail entity = metadataCollection.undoEntityUpdate(userId, updatedEntityGUID);
 
+            this.invalidateEnrichedEntity(updatedEntityGUID);
+
             if (entity != null)
             {
                 errorHandler.validateProvenance(userId,
@@ -1438,8 +1750,12 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.invalidateRequestContext();
+
             EntityDetail newEntity = metadataCollection.updateEntityStatus(userId, entityGUID, instanceStatus);
 
+            this.invalidateEnrichedEntity(entityGUID);
+
             if (newEntity == null)
             {
                 errorHandler.handleNoEntity(entityTypeGUID, entityTypeName, null, methodName);
@@ -1528,6 +1844,8 @@ public class RepositoryHandler
             // create a proxy representation to allow classification of entities incoming from other metadata collections
             EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(userId, entityDetail);
 
+            this.invalidateRequestContext();
+
             Classification newClassification = metadataCollection.classifyEntity(userId,
                                                                                  entityProxy,
                                                                                  classificationTypeName,
@@ -1537,6 +1855,7 @@ public class RepositoryHandler
                                                                                  classificationOriginGUID,
                                                                                  properties);
 
+            this.invalidateEnrichedEntity(entityProxy.getGUID());
 
             if (newClassification == null)
             {
@@ -1734,11 +2053,15 @@ public class RepositoryHandler
 
                 EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(userId, entityDetail);
 
+                this.invalidateRequestContext();
+
                 Classification newClassification = metadataCollection.updateEntityClassification(userId,
                                                                                                  entityProxy,
                                                                                                  classificationTypeName,
                                                                                                  newProperties);
 
+                this.invalidateEnrichedEntity(entityProxy.getGUID());
+
                 if (newClassification == null)
                 {
                     errorHandler.handleNoEntityForClassification(entityGUID,
@@ -1883,8 +2206,12 @@ public class RepositoryHandler
                 // create a proxy representation to allow declassification of entities incoming from other metadata collections
                 EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(userId, entityDetail);
 
+                this.invalidateRequestContext();
+
                 Classification removedClassification = metadataCollection.declassifyEntity(userId, entityProxy, classificationTypeName);
 
+                this.invalidateEnrichedEntity(entityProxy.getGUID());
+
                 if (removedClassification == null)
                 {
                     errorHandler.handleNoEntityForClassification(entityGUID,
@@ -2204,7 +2531,12 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateRequestContext();
+
             metadataCollection.deleteEntity(userId, entityTypeGUID, entityTypeName, obsoleteEntityGUID);
+
+            this.invalidateEnrichedEntity(obsoleteEntityGUID);
+            this.invalidateEnrichedRelationship(null);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException error)
         {
@@ -2240,7 +2572,12 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateRequestContext();
+
             metadataCollection.deleteEntity(userId, entityTypeGUID, entityTypeName, obsoleteEntityGUID);
+
+            this.invalidateEnrichedEntity(obsoleteEntityGUID);
+            this.invalidateEnrichedRelationship(null);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException error)
         {
@@ -2286,8 +2623,13 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateRequestContext();
+
             metadataCollection.purgeEntity(userId, entityTypeGUID, entityTypeName, obsoleteEntityGUID);
 
+            this.invalidateEnrichedEntity(obsoleteEntityGUID);
+            this.invalidateEnrichedRelationship(null);
+
             auditLog.logMessage(methodName,
                                 RepositoryHandlerAuditCode.ENTITY_PURGED.getMessageDefinition(obsoleteEntityGUID,
                                                                                               entityTypeName,
@@ -2330,8 +2672,13 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateRequestContext();
+
             EntityDetail entity = metadataCollection.restoreEntity(userId, deletedEntityGUID);
 
+            this.invalidateEnrichedEntity(deletedEntityGUID);
+            this.invalidateEnrichedRelationship(null);
+
             if (entity != null)
             {
                 errorHandler.validateProvenance(userId,
@@ -2735,7 +3082,8 @@ public class RepositoryHandler
 
             if (relationships != null)
             {
-                List<EntityDetail> results = new ArrayList<>();
+                List<EntityProxy> requiredEnds = new ArrayList<>();
+                List<String>      requiredGUIDs = new ArrayList<>();
 
                 for (Relationship relationship : relationships)
                 {
@@ -2743,19 +3091,53 @@ public class RepositoryHandler
                     {
                         EntityProxy requiredEnd = getOtherEnd(startingEntityGUID, startingEntityTypeName, relationship, attachmentEntityEnd, methodName);
 
-                        EntityDetail entity = this.getEntityByGUID(userId,
-                                                                   requiredEnd.getGUID(),
-                                                                   guidParameterName,
-                                                                   requiredEnd.getType().getTypeDefName(),
-                                                                   forLineage,
-                                                                   forDuplicateProcessing,
-                                                                   effectiveTime,
-                                                                   methodName);
+                        requiredEnds.add(requiredEnd);
+                        requiredGUIDs.add(requiredEnd.getGUID());
+                    }
+                }
 
-                        if (entity != null)
-                        {
-                            results.add(entity);
-                        }
+                /*
+                 * The entities at the far end of the relationships are retrieved in a single request.  Any that are
+                 * not returned are retrieved one at a time so the errors are reported as before.
+                 */
+                Map<String, EntityDetail> retrievedEntities = this.getEntityDetailsFromRepository(userId, requiredGUIDs);
+
+                List<EntityDetail> results = new ArrayList<>();
+
+                for (EntityProxy requiredEnd : requiredEnds)
+                {
+                    EntityDetail entity;
+                    EntityDetail retrievedEntity = retrievedEntities.get(requiredEnd.getGUID());
+
+                    if (retrievedEntity == null)
+                    {
+                        entity = this.getEntityByGUID(userId,
+                                                      requiredEnd.getGUID(),
+                                                      guidParameterName,
+                                                      requiredEnd.getType().getTypeDefName(),
+                                                      forLineage,
+                                                      forDuplicateProcessing,
+                                                      effectiveTime,
+                                                      methodName);
+                    }
+                    else
+                    {
+                        errorHandler.validateInstanceType(retrievedEntity, requiredEnd.getType().getTypeDefName(), methodName, localMethodName);
+
+                        entity = this.verifyEntityForCaller(userId,
+                                                            requiredEnd.getGUID(),
+                                                            guidParameterName,
+                                                            new EntityDetail(retrievedEntity),
+                                                            requiredEnd.getType().getTypeDefName(),
+                                                            forLineage,
+                                                            forDuplicateProcessing,
+                                                            effectiveTime,
+                                                            methodName);
+                    }
+
+                    if (entity != null)
+                    {
+                        results.add(entity);
                     }
                 }
 
@@ -3126,10 +3508,54 @@ public class RepositoryHandler
                                                                      UserNotAuthorizedException,
                                                                      PropertyServerException
     {
-        final String localMethodName = "getEntityByGUID";
-
         EntityDetail entity = validateEntityGUID(userId, guid, guidParameterName, entityTypeName, methodName);
 
+        return this.verifyEntityForCaller(userId,
+                                          guid,
+                                          guidParameterName,
+                                          entity,
+                                          entityTypeName,
+                                          forLineage,
+                                          forDuplicateProcessing,
+                                          effectiveTime,
+                                          methodName);
+    }
+
+
+    /**
+     * Check that an entity retrieved from the repository can be returned to the caller, converting any problems
+     * into the local OMAS exceptions.
+     *
+     * @param userId calling user
+     * @param guid unique identifier for the entity
+     * @param guidParameterName name of the guid parameter for error handling
+     * @param entity entity retrieved from the repository
+     * @param entityTypeName expected type of the entity
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing       the request is for duplicate processing and so must not deduplicate
+     * @param effectiveTime          the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method name
+     *
+     * @return entity detail object
+     *
+     * @throws InvalidParameterException the entity is not suitable for the caller.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the entity.
+     */
+    private EntityDetail verifyEntityForCaller(String       userId,
+                                               String       guid,
+                                               String       guidParameterName,
+                                               EntityDetail entity,
+                                               String       entityTypeName,
+                                               boolean      forLineage,
+                                               boolean      forDuplicateProcessing,
+                                               Date         effectiveTime,
+                                               String       methodName) throws InvalidParameterException,
+                                                                               UserNotAuthorizedException,
+                                                                               PropertyServerException
+    {
+        final String localMethodName = "getEntityByGUID";
+
         if (entity != null)
         {
             log.debug("retrievedEntity=" + entity.getGUID());
@@ -3257,7 +3683,7 @@ public class RepositoryHandler
 
         try
         {
-            EntityDetail entity = metadataCollection.getEntityDetail(userId, guid);
+            EntityDetail entity = this.getEntityDetailFromRepository(userId, guid);
 
             if ((entity == null) || (! this.isCorrectEffectiveTime(entity.getProperties(), effectiveTime)))
             {
@@ -3589,6 +4015,67 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return the entities whose string property exactly matches the supplied value.  This is used to resolve
+     * elements by a property that is unique for their type (such as qualifiedName) and is served from the
+     * repositories' exact-match indexes where they exist.
+     *
+     * @param userId calling userId
+     * @param entityTypeGUID unique identifier of the entity's type
+     * @param propertyName name of the property to match
+     * @param propertyValue literal value of the property (not a RegEx)
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     *
+     * @return list of returned entities - null means none found
+     *
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the entity.
+     */
+    public List<EntityDetail>  getEntitiesByUniquePropertyValue(String  userId,
+                                                                String  entityTypeGUID,
+                                                                String  propertyName,
+                                                                String  propertyValue,
+                                                                boolean forLineage,
+                                                                boolean forDuplicateProcessing,
+                                                                Date    effectiveTime,
+                                                                String  methodName) throws UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        final String localMethodName = "getEntitiesByUniquePropertyValue";
+
+        try
+        {
+            List<EntityDetail> retrievedEntities = metadataCollection.findEntitiesByUniquePropertyValue(userId,
+                                                                                                        entityTypeGUID,
+                                                                                                        propertyName,
+                                                                                                        propertyValue,
+                                                                                                        null,
+                                                                                                        null);
+
+            return this.validateEntities(userId,
+                                         retrievedEntities,
+                                         null,
+                                         forLineage,
+                                         forDuplicateProcessing,
+                                         effectiveTime,
+                                         methodName);
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Exception   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, localMethodName);
+        }
+
+        return null;
+    }
+
+
     /**
      * Return the entities that match all supplied properties.
      *
@@ -4089,7 +4576,7 @@ public class RepositoryHandler
 
         try
         {
-            Relationship relationship = metadataCollection.getRelationship(userId, relationshipGUID);
+            Relationship relationship = this.getRelationshipFromRepository(userId, relationshipGUID);
 
             errorHandler.validateInstanceType(relationship, relationshipTypeName, methodName, localMethodName);
 
@@ -4334,12 +4821,10 @@ public class RepositoryHandler
 
                     try
                     {
-                        List<Relationship> retrievedRelationships = metadataCollection.getRelationshipsForEntity(userId,
+                        List<Relationship> retrievedRelationships = this.getRelationshipsForEntityFromRepository(userId,
                                                                                                                  retrievingEntity.getGUID(),
                                                                                                                  relationshipTypeGUID,
                                                                                                                  startingFrom,
-                                                                                                                 null,
-                                                                                                                 null,
                                                                                                                  sequencingPropertyName,
                                                                                                                  sequencingOrder,
                                                                                                                  pageSize);
@@ -4364,12 +4849,10 @@ public class RepositoryHandler
         {
             try
             {
-                List<Relationship> relationships = metadataCollection.getRelationshipsForEntity(userId,
+                List<Relationship> relationships = this.getRelationshipsForEntityFromRepository(userId,
                                                                                                 startingEntity.getGUID(),
                                                                                                 relationshipTypeGUID,
                                                                                                 startingFrom,
-                                                                                                null,
-                                                                                                null,
                                                                                                 sequencingPropertyName,
                                                                                                 sequencingOrder,
                                                                                                 pageSize);
@@ -5297,27 +5780,34 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateRequestContext();
+
+            Relationship newRelationship;
+
             if (externalSourceGUID == null)
             {
-                return metadataCollection.addRelationship(userId,
-                                                          relationshipTypeGUID,
-                                                          relationshipProperties,
-                                                          end1GUID,
-                                                          end2GUID,
-                                                          InstanceStatus.ACTIVE);
+                newRelationship = metadataCollection.addRelationship(userId,
+                                                                     relationshipTypeGUID,
+                                                                     relationshipProperties,
+                                                                     end1GUID,
+                                                                     end2GUID,
+                                                                     InstanceStatus.ACTIVE);
             }
             else
             {
-                return metadataCollection.addExternalRelationship(userId,
-                                                                  relationshipTypeGUID,
-                                                                  externalSourceGUID,
-                                                                  externalSourceName,
-                                                                  relationshipProperties,
-                                                                  end1GUID,
-                                                                  end2GUID,
-                                                                  InstanceStatus.ACTIVE);
+                newRelationship = metadataCollection.addExternalRelationship(userId,
+                                                                             relationshipTypeGUID,
+                                                                             externalSourceGUID,
+                                                                             externalSourceName,
+                                                                             relationshipProperties,
+                                                                             end1GUID,
+                                                                             end2GUID,
+                                                                             InstanceStatus.ACTIVE);
             }
 
+            this.invalidateEnrichedRelationship(newRelationship);
+
+            return newRelationship;
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
         {
@@ -5542,10 +6032,14 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.invalidateRequestContext();
+
             metadataCollection.deleteRelationship(userId,
                                                   relationship.getType().getTypeDefGUID(),
                                                   relationship.getType().getTypeDefName(),
                                                   relationship.getGUID());
+
+            this.invalidateEnrichedRelationship(relationship);
         }
         catch (UserNotAuthorizedException error)
         {
@@ -5610,10 +6104,14 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateRequestContext();
+
             metadataCollection.purgeRelationship(userId,
                                                  relationshipTypeGUID,
                                                  relationshipTypeName,
                                                  relationshipGUID);
+
+            this.invalidateEnrichedRelationship(null);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
         {
@@ -5651,7 +6149,12 @@ public class RepositoryHandler
         {
             // check each end is active prior to attempting the restore
 
+            this.invalidateRequestContext();
+
             Relationship relationship = metadataCollection.restoreRelationship(userId, deletedRelationshipGUID);
+
+            this.invalidateEnrichedRelationship(relationship);
+
             if (relationship != null)
             {
                 errorHandler.validateProvenance(userId,
@@ -5857,7 +6360,13 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
-            return metadataCollection.updateRelationshipProperties(userId, relationship.getGUID(), relationshipProperties);
+            this.invalidateRequestContext();
+
+            Relationship updatedRelationship = metadataCollection.updateRelationshipProperties(userId, relationship.getGUID(), relationshipProperties);
+
+            this.invalidateEnrichedRelationship(relationship);
+
+            return updatedRelationship;
         }
         catch (UserNotAuthorizedException error)
         {
@@ -5973,7 +6482,11 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.invalidateRequestContext();
+
             metadataCollection.updateRelationshipStatus(userId, relationshipGUID, instanceStatus);
+
+            this.invalidateEnrichedRelationship(relationship);
         }
         catch (UserNotAuthorizedException | PropertyServerException error)
         {
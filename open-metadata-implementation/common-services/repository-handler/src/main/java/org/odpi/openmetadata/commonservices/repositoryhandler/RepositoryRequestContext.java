@@ -0,0 +1,377 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RepositoryRequestContext is a memo of the repository reads made while one request (typically one REST call)
+ * is being processed on a thread.  A single call to an access service often retrieves the same entity several
+ * times - to validate its anchor, to check the caller's access and to convert it into a bean - and each of these
+ * retrievals is a call to the repository services.  With a request context active, the RepositoryHandler and the
+ * generic handlers retrieve each entity, relationship and anchor just once.
+ * <p>
+ * The cache is opt-in.  The code that handles the request starts the context with start() and closes it when
+ * the request is complete (ideally with try-with-resources).  If a context is already active on the thread, start()
+ * returns a nested handle and the outer context continues to be used.  Without an active context, the handlers read
+ * the repository directly.  Work that is passed to other threads while the request is processed can share the
+ * request's context by calling join() on those threads with the context returned by getCurrentContext().
+ * <p>
+ * The RepositoryHandler clears the context before each change it makes to the repository so that the rest of the
+ * request sees the results of its own updates.  Changes made by other requests while this request is running are
+ * not seen, so the context must only be active for the duration of a single request.  Exceptions are not
+ * remembered.  The values are the raw results of the repository calls for a specific user, so zone and
+ * access checks are still made by the handlers.
+ */
+public class RepositoryRequestContext implements AutoCloseable
+{
+    private static final ThreadLocal<RepositoryRequestContext> currentContext = new ThreadLocal<>();
+
+    private final Map<String, Object> resolvedValues;
+    private final AtomicInteger       hitCount;
+    private final boolean             isOwner;
+
+    private int nestingLevel = 1;
+
+
+    /**
+     * Retrieves a value from the repository.
+     *
+     * @param <T> type of value
+     */
+    @FunctionalInterface
+    public interface Resolver<T>
+    {
+        /**
+         * Retrieve the value.
+         *
+         * @return value (may be null)
+         * @throws Exception problem retrieving the value
+         */
+        T resolve() throws Exception;
+    }
+
+
+    /**
+     * Private constructor - use start().
+     */
+    private RepositoryRequestContext()
+    {
+        this.resolvedValues = Collections.synchronizedMap(new HashMap<>());
+        this.hitCount       = new AtomicInteger();
+        this.isOwner        = true;
+    }
+
+
+    /**
+     * Private constructor - use join().
+     *
+     * @param requestContext context of the request that this thread is working for
+     */
+    private RepositoryRequestContext(RepositoryRequestContext requestContext)
+    {
+        this.resolvedValues = requestContext.resolvedValues;
+        this.hitCount       = requestContext.hitCount;
+        this.isOwner        = false;
+    }
+
+
+    /**
+     * Start a request context on this thread.  If a context is already active, it remains in use and will
+     * be closed by the outermost caller.
+     *
+     * @return context to close when the request is complete
+     */
+    public static RepositoryRequestContext start()
+    {
+        RepositoryRequestContext context = currentContext.get();
+
+        if (context == null)
+        {
+            context = new RepositoryRequestContext();
+            currentContext.set(context);
+        }
+        else
+        {
+            context.nestingLevel ++;
+        }
+
+        return context;
+    }
+
+
+    /**
+     * Use the context of a request on this thread while it does work for that request.  The values retrieved on
+     * this thread are shared with the request.  Closing the returned context detaches it from this thread but
+     * leaves the request's context active.  If a context is already active on this thread, it remains in use.
+     *
+     * @param requestContext context returned by getCurrentContext() on the thread processing the request
+     *                       (may be null)
+     * @return context to close when the work is complete, or null if there is no request context
+     */
+    public static RepositoryRequestContext join(RepositoryRequestContext requestContext)
+    {
+        if (requestContext == null)
+        {
+            return null;
+        }
+
+        if (currentContext.get() != null)
+        {
+            return start();
+        }
+
+        RepositoryRequestContext context = new RepositoryRequestContext(requestContext);
+
+        currentContext.set(context);
+
+        return context;
+    }
+
+
+    /**
+     * Return the context for the request currently being processed on this thread.
+     *
+     * @return context or null if no context has been started
+     */
+    public static RepositoryRequestContext getCurrentContext()
+    {
+        return currentContext.get();
+    }
+
+
+    /**
+     * End the request context.  The values it holds are discarded when the outermost caller closes the context
+     * on the thread that started it.
+     */
+    @Override
+    public void close()
+    {
+        nestingLevel --;
+
+        if (nestingLevel <= 0)
+        {
+            if (isOwner)
+            {
+                resolvedValues.clear();
+            }
+
+            if (currentContext.get() == this)
+            {
+                currentContext.remove();
+            }
+        }
+    }
+
+
+    /**
+     * Return the entity with the requested unique identifier, retrieving it just once for this request.
+     *
+     * @param userId user making the retrieval
+     * @param guid unique identifier of the entity
+     * @param resolver retrieves the entity from the repository
+     * @return entity
+     * @throws Exception exception from the resolver
+     */
+    public EntityDetail getEntityDetail(String                 userId,
+                                        String                 guid,
+                                        Resolver<EntityDetail> resolver) throws Exception
+    {
+        return this.resolve(getEntityKey(userId, guid), resolver);
+    }
+
+
+    /**
+     * Return the entity with the requested unique identifier if it has already been retrieved in this request.
+     *
+     * @param userId user making the retrieval
+     * @param guid unique identifier of the entity
+     * @return entity or null if it has not been retrieved
+     */
+    public EntityDetail getCachedEntityDetail(String userId,
+                                              String guid)
+    {
+        EntityDetail entity = (EntityDetail) resolvedValues.get(getEntityKey(userId, guid));
+
+        if (entity != null)
+        {
+            hitCount.incrementAndGet();
+        }
+
+        return entity;
+    }
+
+
+    /**
+     * Remember an entity retrieved from the repository by another means (for example, as part of a bulk retrieval).
+     *
+     * @param userId user making the retrieval
+     * @param entity retrieved entity
+     */
+    public void saveEntityDetail(String       userId,
+                                 EntityDetail entity)
+    {
+        if ((entity != null) && (entity.getGUID() != null))
+        {
+            resolvedValues.put(getEntityKey(userId, entity.getGUID()), entity);
+        }
+    }
+
+
+    /**
+     * Return the relationship with the requested unique identifier, retrieving it just once for this request.
+     *
+     * @param userId user making the retrieval
+     * @param guid unique identifier of the relationship
+     * @param resolver retrieves the relationship from the repository
+     * @return relationship
+     * @throws Exception exception from the resolver
+     */
+    public Relationship getRelationship(String                 userId,
+                                        String                 guid,
+                                        Resolver<Relationship> resolver) throws Exception
+    {
+        return this.resolve("relationship:" + userId + ":" + guid, resolver);
+    }
+
+
+    /**
+     * Return a page of relationships linked to an entity, retrieving it just once for this request.
+     *
+     * @param userId user making the retrieval
+     * @param guid unique identifier of the entity
+     * @param relationshipTypeGUID type of relationship or null for all types
+     * @param sequencingPropertyName property used to sequence the results
+     * @param sequencingOrder order of the results
+     * @param startingFrom initial position in the results
+     * @param pageSize maximum number of relationships
+     * @param resolver retrieves the relationships from the repository
+     * @return list of relationships
+     * @throws Exception exception from the resolver
+     */
+    public List<Relationship> getRelationshipsForEntity(String                       userId,
+                                                        String                       guid,
+                                                        String                       relationshipTypeGUID,
+                                                        String                       sequencingPropertyName,
+                                                        SequencingOrder              sequencingOrder,
+                                                        int                          startingFrom,
+                                                        int                          pageSize,
+                                                        Resolver<List<Relationship>> resolver) throws Exception
+    {
+        return this.resolve("relationships:" + userId + ":" + guid + ":" + relationshipTypeGUID + ":" +
+                                    sequencingPropertyName + ":" + sequencingOrder + ":" + startingFrom + ":" + pageSize,
+                            resolver);
+    }
+
+
+    /**
+     * Return the anchor of an entity, deriving it just once for this request.  The anchor is derived by the
+     * server's own user, so the entity's unique identifier and the options used to walk the relationships
+     * are sufficient to identify it.
+     *
+     * @param guid unique identifier of the anchored entity
+     * @param forLineage the request is to support lineage retrieval
+     * @param forDuplicateProcessing the request is for duplicate processing
+     * @param effectiveTime time that the relationships must be effective (null for any time)
+     * @param resolver works out the anchor's unique identifier
+     * @return unique identifier of the anchor or null if the entity has no anchor
+     * @throws Exception exception from the resolver
+     */
+    public String getAnchorGUID(String           guid,
+                                boolean          forLineage,
+                                boolean          forDuplicateProcessing,
+                                Date             effectiveTime,
+                                Resolver<String> resolver) throws Exception
+    {
+        return this.resolve("anchor:" + guid + ":" + forLineage + ":" + forDuplicateProcessing + ":" +
+                                    (effectiveTime == null ? null : effectiveTime.getTime()),
+                            resolver);
+    }
+
+
+    /**
+     * Discard all the values held in the context.  This is called before the repository is updated.
+     */
+    public void invalidate()
+    {
+        resolvedValues.clear();
+    }
+
+
+    /**
+     * Return the number of values held in the context.
+     *
+     * @return count
+     */
+    public int size()
+    {
+        return resolvedValues.size();
+    }
+
+
+    /**
+     * Return the number of times a value has been returned from the context rather than retrieved.
+     *
+     * @return count
+     */
+    public int getHitCount()
+    {
+        return hitCount.get();
+    }
+
+
+    /**
+     * Return the key for an entity.
+     *
+     * @param userId user making the retrieval
+     * @param guid unique identifier of the entity
+     * @return key
+     */
+    private static String getEntityKey(String userId,
+                                       String guid)
+    {
+        return "entity:" + userId + ":" + guid;
+    }
+
+
+    /**
+     * Return the memoised value for the key, or run the resolver and remember its result.  Null results are
+     * remembered too.  The resolver runs without holding the lock on the values so that threads sharing the
+     * context do not wait for each other's retrievals.
+     *
+     * @param key identity of the value
+     * @param resolver retrieves the value
+     * @param <T> type of value
+     * @return value
+     * @throws Exception exception from the resolver
+     */
+    @SuppressWarnings(value = "unchecked")
+    private <T> T resolve(String      key,
+                          Resolver<T> resolver) throws Exception
+    {
+        synchronized (resolvedValues)
+        {
+            if (resolvedValues.containsKey(key))
+            {
+                hitCount.incrementAndGet();
+
+                return (T) resolvedValues.get(key);
+            }
+        }
+
+        T value = resolver.resolve();
+
+        resolvedValues.put(key, value);
+
+        return value;
+    }
+}
@@ -0,0 +1,148 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+
+
+/**
+ * RepositoryUniquePropertyValueIterator retrieves the entities whose unique property (such as qualifiedName)
+ * exactly matches a value.  The matching entities are retrieved in a single request to the repositories since
+ * only a handful are expected.  They are then sequenced on the requested property and the entities before
+ * the starting position are skipped, so the iterator returns the same page as the other search iterators.
+ *
+ * Note this class is intended for a single request's use - it is not thread-safe.
+ */
+public class RepositoryUniquePropertyValueIterator extends RepositoryIteratorForEntities
+{
+    private final String propertyName;
+    private final String propertyValue;
+
+    private boolean retrieved = false;
+
+
+    /**
+     * Constructor takes the parameters used to call the repository handler.
+     *
+     * @param repositoryHandler interface to the open metadata repositories.
+     * @param invalidParameterHandler invalid parameter handler
+     * @param userId  user making the request
+     * @param entityTypeGUID  String unique identifier for the entity type of interest (null means any entity type)
+     * @param propertyName name of the property to match
+     * @param propertyValue literal value of the property (not a RegEx)
+     * @param sequencingPropertyName name of property used to sequence the results - null means no sequencing
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param startingFrom initial position in the stored list.
+     * @param pageSize maximum number of definitions to return on this call.
+     * @param effectiveTime the time that the retrieved elements must be effective for
+     * @param methodName  name of calling method
+     * @throws InvalidParameterException when page size or start from parameters do not meet criteria
+     */
+    public RepositoryUniquePropertyValueIterator(RepositoryHandler       repositoryHandler,
+                                                 InvalidParameterHandler invalidParameterHandler,
+                                                 String                  userId,
+                                                 String                  entityTypeGUID,
+                                                 String                  propertyName,
+                                                 String                  propertyValue,
+                                                 String                  sequencingPropertyName,
+                                                 boolean                 forLineage,
+                                                 boolean                 forDuplicateProcessing,
+                                                 int                     startingFrom,
+                                                 int                     pageSize,
+                                                 Date                    effectiveTime,
+                                                 String                  methodName) throws InvalidParameterException
+    {
+        super(repositoryHandler,
+              invalidParameterHandler,
+              userId,
+              entityTypeGUID,
+              null,
+              sequencingPropertyName,
+              forLineage,
+              forDuplicateProcessing,
+              startingFrom,
+              pageSize,
+              effectiveTime,
+              methodName);
+
+        this.propertyName  = propertyName;
+        this.propertyValue = propertyValue;
+    }
+
+
+    /**
+     * Determine if there is more to receive.  The first call retrieves all the matching entities.
+     *
+     * @return boolean flag
+     * @throws InvalidParameterException the bean properties are invalid
+     * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+     * @throws PropertyServerException there is a problem in the repository
+     */
+    @Override
+    public boolean  moreToReceive() throws InvalidParameterException,
+                                           UserNotAuthorizedException,
+                                           PropertyServerException
+    {
+        if (! retrieved)
+        {
+            retrieved = true;
+
+            entitiesCache = repositoryHandler.getEntitiesByUniquePropertyValue(userId,
+                                                                               entityTypeGUID,
+                                                                               propertyName,
+                                                                               propertyValue,
+                                                                               forLineage,
+                                                                               forDuplicateProcessing,
+                                                                               effectiveTime,
+                                                                               methodName);
+
+            if (entitiesCache != null)
+            {
+                entitiesCache = new ArrayList<>(entitiesCache);
+
+                if (sequencingPropertyName != null)
+                {
+                    entitiesCache.sort(Comparator.comparing(this::getSequencingValue,
+                                                            Comparator.nullsLast(Comparator.naturalOrder())));
+                }
+
+                entitiesCache.subList(0, Math.min(startingFrom, entitiesCache.size())).clear();
+            }
+        }
+
+        return ((entitiesCache != null) && (! entitiesCache.isEmpty()));
+    }
+
+
+    /**
+     * Return the value of the sequencing property of an entity as a string.
+     *
+     * @param entity retrieved entity
+     * @return property value or null if the entity does not have the property
+     */
+    private String getSequencingValue(EntityDetail entity)
+    {
+        if (entity.getProperties() != null)
+        {
+            InstancePropertyValue propertyValue = entity.getProperties().getPropertyValue(sequencingPropertyName);
+
+            if (propertyValue != null)
+            {
+                return propertyValue.valueAsString();
+            }
+        }
+
+        return null;
+    }
+}
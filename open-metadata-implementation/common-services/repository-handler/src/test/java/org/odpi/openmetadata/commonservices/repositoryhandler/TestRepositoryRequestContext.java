@@ -0,0 +1,171 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that the request context only retrieves each value once per request.
+ */
+public class TestRepositoryRequestContext
+{
+    /**
+     * The same entity requested by the same user is only retrieved once, until the context is invalidated.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testEntityRetrievedOnce() throws Exception
+    {
+        AtomicInteger reads  = new AtomicInteger();
+        EntityDetail  entity = new EntityDetail();
+
+        entity.setGUID("testGUID");
+
+        try (RepositoryRequestContext context = RepositoryRequestContext.start())
+        {
+            assertSame(context.getEntityDetail("user1", "testGUID", () -> { reads.incrementAndGet(); return entity; }), entity);
+            assertSame(context.getEntityDetail("user1", "testGUID", () -> { reads.incrementAndGet(); return entity; }), entity);
+            assertSame(context.getEntityDetail("user2", "testGUID", () -> { reads.incrementAndGet(); return entity; }), entity);
+            assertEquals(reads.get(), 2);
+            assertEquals(context.getHitCount(), 1);
+
+            context.invalidate();
+
+            assertSame(context.getEntityDetail("user1", "testGUID", () -> { reads.incrementAndGet(); return entity; }), entity);
+            assertEquals(reads.get(), 3);
+        }
+    }
+
+
+    /**
+     * Exceptions are not remembered.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testExceptionNotRemembered() throws Exception
+    {
+        AtomicInteger reads = new AtomicInteger();
+
+        try (RepositoryRequestContext context = RepositoryRequestContext.start())
+        {
+            try
+            {
+                context.getAnchorGUID("testGUID", false, false, null, () -> { reads.incrementAndGet(); throw new IllegalStateException("test"); });
+                fail("Exception not thrown");
+            }
+            catch (IllegalStateException expected)
+            {
+                // expected
+            }
+
+            assertEquals(context.getAnchorGUID("testGUID", false, false, null, () -> { reads.incrementAndGet(); return "anchorGUID"; }), "anchorGUID");
+            assertEquals(context.getAnchorGUID("testGUID", false, false, null, () -> { reads.incrementAndGet(); return null; }), "anchorGUID");
+            assertEquals(reads.get(), 2);
+        }
+    }
+
+
+    /**
+     * Anchors derived with different request options are remembered separately.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testAnchorRequestOptionsInKey() throws Exception
+    {
+        AtomicInteger reads         = new AtomicInteger();
+        Date          effectiveTime = new Date();
+
+        try (RepositoryRequestContext context = RepositoryRequestContext.start())
+        {
+            assertEquals(context.getAnchorGUID("testGUID", false, false, null, () -> { reads.incrementAndGet(); return "anchor1"; }), "anchor1");
+            assertEquals(context.getAnchorGUID("testGUID", true, false, null, () -> { reads.incrementAndGet(); return "anchor2"; }), "anchor2");
+            assertEquals(context.getAnchorGUID("testGUID", false, true, null, () -> { reads.incrementAndGet(); return "anchor3"; }), "anchor3");
+            assertEquals(context.getAnchorGUID("testGUID", false, false, effectiveTime, () -> { reads.incrementAndGet(); return "anchor4"; }), "anchor4");
+            assertEquals(context.getAnchorGUID("testGUID", false, false, new Date(effectiveTime.getTime()), () -> { reads.incrementAndGet(); return "other"; }), "anchor4");
+            assertEquals(context.getAnchorGUID("testGUID", false, false, null, () -> { reads.incrementAndGet(); return "other"; }), "anchor1");
+            assertEquals(reads.get(), 4);
+        }
+    }
+
+
+    /**
+     * A nested start shares the outer context, which is only removed from the thread when the outermost caller closes it.
+     */
+    @Test public void testNestedContexts()
+    {
+        assertNull(RepositoryRequestContext.getCurrentContext());
+
+        try (RepositoryRequestContext outer = RepositoryRequestContext.start())
+        {
+            try (RepositoryRequestContext inner = RepositoryRequestContext.start())
+            {
+                assertSame(inner, outer);
+            }
+
+            assertSame(RepositoryRequestContext.getCurrentContext(), outer);
+        }
+
+        assertNull(RepositoryRequestContext.getCurrentContext());
+    }
+
+
+    /**
+     * A thread that joins a request shares the values retrieved for the request, and closing its context leaves
+     * the request's context active.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testJoinFromOtherThread() throws Exception
+    {
+        AtomicInteger reads  = new AtomicInteger();
+        EntityDetail  entity = new EntityDetail();
+
+        entity.setGUID("testGUID");
+
+        try (RepositoryRequestContext context = RepositoryRequestContext.start())
+        {
+            context.getEntityDetail("user1", "testGUID", () -> { reads.incrementAndGet(); return entity; });
+
+            RepositoryRequestContext requestContext = RepositoryRequestContext.getCurrentContext();
+            AtomicReference<Object>  joinedResult   = new AtomicReference<>();
+
+            Thread worker = new Thread(() ->
+            {
+                try (RepositoryRequestContext joined = RepositoryRequestContext.join(requestContext))
+                {
+                    joinedResult.set(joined.getEntityDetail("user1", "testGUID", () -> { reads.incrementAndGet(); return null; }));
+                    joined.getEntityDetail("user1", "otherGUID", () -> { reads.incrementAndGet(); return entity; });
+                }
+                catch (Exception error)
+                {
+                    joinedResult.set(error);
+                }
+
+                if (RepositoryRequestContext.getCurrentContext() != null)
+                {
+                    joinedResult.set("context left on worker thread");
+                }
+            });
+
+            worker.start();
+            worker.join();
+
+            assertSame(joinedResult.get(), entity);
+            assertSame(RepositoryRequestContext.getCurrentContext(), context);
+            assertEquals(context.size(), 2);
+            assertEquals(reads.get(), 2);
+        }
+
+        assertNull(RepositoryRequestContext.join(null));
+    }
+}
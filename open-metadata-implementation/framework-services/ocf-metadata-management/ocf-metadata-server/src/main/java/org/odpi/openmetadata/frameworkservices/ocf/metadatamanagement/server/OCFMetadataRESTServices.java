@@ -7,6 +7,7 @@ import org.odpi.openmetadata.commonservices.ffdc.RESTCallToken;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
 import org.odpi.openmetadata.commonservices.generichandlers.*;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryRequestContext;
 import org.odpi.openmetadata.frameworkservices.ocf.metadatamanagement.rest.*;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
@@ -297,7 +298,11 @@ public class OCFMetadataRESTServices
         AssetResponse response = new AssetResponse();
         AuditLog      auditLog = null;
 
-        try
+        /*
+         * The asset is retrieved many times while the summary is assembled, so the repository reads are
+         * memoised for the duration of this call.
+         */
+        try (RepositoryRequestContext ignored = RepositoryRequestContext.start())
         {
             List<String>  supportedZones = instanceHandler.getSupportedZones(userId, serverName, serviceURLName, methodName);
 
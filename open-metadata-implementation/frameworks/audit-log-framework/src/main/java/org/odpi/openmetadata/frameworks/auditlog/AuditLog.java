@@ -5,12 +5,15 @@ package org.odpi.openmetadata.frameworks.auditlog;
 
 import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
 import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogRecordSeverity;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsRegistry;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * AuditLog is the superclass of audit log implementations.  It is concrete
@@ -20,10 +23,13 @@ public class AuditLog extends MessageFormatter
 {
     private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
 
+    private static final MetricsTimer writeTimer = MetricsRegistry.getPlatformRegistry().getTimer("audit_log_write_seconds",
+                                                                                                   "Time taken to build audit log records and write them to the audit log destinations.");
+
     private final AuditLogDestination        destination;          /* Initialized in the constructor */
     private final AuditLogReportingComponent reportingComponent;   /* Initialized in the constructor */
 
-    protected List<AuditLog>            childAuditLogs         = new ArrayList<>();
+    protected List<AuditLog>            childAuditLogs         = new CopyOnWriteArrayList<>();
     protected AuditLogActivity          auditLogActivity       = new AuditLogActivity();
 
 
@@ -243,11 +249,15 @@ public class AuditLog extends MessageFormatter
     {
         if (destination != null)
         {
+            long startTime = System.nanoTime();
+
             destination.addLogRecord(
                     this.createLogRecord(actionDescription,
                                          messageDefinition,
                                          additionalInformation,
                                          caughtException));
+
+            writeTimer.recordSince(startTime);
         }
     }
 
@@ -291,6 +301,10 @@ public class AuditLog extends MessageFormatter
                 logRecord.setSeverity(severity.getName());
 
                 auditLogActivity.countRecord(severity.getOrdinal(), severity.getName());
+
+                MetricsRegistry.getPlatformRegistry().getCounter("audit_log_records_total",
+                                                                 "Number of audit log records written, by severity.",
+                                                                 "severity", severity.getName()).increment();
             }
 
             logRecord.setMessageId(messageDefinition.getMessageId());
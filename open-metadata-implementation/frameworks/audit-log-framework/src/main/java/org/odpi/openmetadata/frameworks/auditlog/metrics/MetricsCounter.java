@@ -0,0 +1,56 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.auditlog.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MetricsCounter is a value that only goes up, such as the number of events received.  It is safe to
+ * increment from many threads at once.
+ */
+public class MetricsCounter
+{
+    private final LongAdder count = new LongAdder();
+
+
+    /**
+     * Constructor used by the registry.
+     */
+    MetricsCounter()
+    {
+    }
+
+
+    /**
+     * Add one to the counter.
+     */
+    public void increment()
+    {
+        count.increment();
+    }
+
+
+    /**
+     * Add to the counter.
+     *
+     * @param amount amount to add - negative values are ignored
+     */
+    public void increment(long amount)
+    {
+        if (amount > 0)
+        {
+            count.add(amount);
+        }
+    }
+
+
+    /**
+     * Return the current value of the counter.
+     *
+     * @return count
+     */
+    public long getCount()
+    {
+        return count.sum();
+    }
+}
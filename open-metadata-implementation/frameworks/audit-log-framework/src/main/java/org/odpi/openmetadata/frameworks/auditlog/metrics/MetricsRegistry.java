@@ -0,0 +1,574 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.auditlog.metrics;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * MetricsRegistry holds the counters, gauges and timers that describe the operation of the components
+ * running in a process.  There is one registry for the OMAG Server Platform, returned by getPlatformRegistry(),
+ * so components register their metrics without needing to be passed a registry.
+ * <p>
+ * Each metric has a name, help text and optional labels.  The labels are supplied as pairs of label name and
+ * label value, for example <code>getTimer("omrs_local_request_seconds", "...", "server", serverName, "operation", methodName)</code>.
+ * The same name and label values always return the same metric object, so callers may either keep the object
+ * or look it up each time.  Metrics with the same name must have the same type and label names.
+ * </p>
+ * <p>
+ * The content of the registry is reported in the Prometheus text exposition format.
+ * </p>
+ */
+public class MetricsRegistry
+{
+    /**
+     * Upper bounds in seconds of the histogram buckets used by timers unless others are requested.
+     */
+    public static final double[] DEFAULT_TIMER_BUCKETS = {0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30};
+
+    private static final MetricsRegistry platformRegistry = new MetricsRegistry();
+
+    private static final Pattern metricNamePattern = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final Pattern labelNamePattern  = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+
+    private final Map<String, MetricsFamily> families = new ConcurrentHashMap<>();
+
+
+    /**
+     * A group of metrics with the same name and type that are distinguished by their label values.
+     */
+    private static class MetricsFamily
+    {
+        private final String              name;
+        private final String              help;
+        private final MetricsType         type;
+        private final String[]            labelNames;
+        private final double[]            bucketBoundaries;
+        private final Map<String, Object> metrics = new ConcurrentHashMap<>();
+
+        MetricsFamily(String      name,
+                      String      help,
+                      MetricsType type,
+                      String[]    labelNames,
+                      double[]    bucketBoundaries)
+        {
+            this.name             = name;
+            this.help             = help;
+            this.type             = type;
+            this.labelNames       = labelNames;
+            this.bucketBoundaries = bucketBoundaries;
+        }
+    }
+
+
+    /**
+     * Constructor for a registry that is separate from the platform registry - typically used in tests.
+     */
+    public MetricsRegistry()
+    {
+    }
+
+
+    /**
+     * Return the registry shared by all the components running in this process.
+     *
+     * @return registry
+     */
+    public static MetricsRegistry getPlatformRegistry()
+    {
+        return platformRegistry;
+    }
+
+
+    /**
+     * Return the counter with the requested name and label values, creating it if necessary.
+     *
+     * @param name metric name
+     * @param help description of the metric
+     * @param labels pairs of label name and label value
+     * @return counter
+     * @throws IllegalArgumentException the name or labels are invalid or do not match the existing metrics of this name
+     */
+    public MetricsCounter getCounter(String    name,
+                                     String    help,
+                                     String... labels)
+    {
+        MetricsFamily family = this.getFamily(name, help, MetricsType.COUNTER, labels, null);
+
+        return (MetricsCounter) family.metrics.computeIfAbsent(getLabelText(labels), key -> new MetricsCounter());
+    }
+
+
+    /**
+     * Return the timer with the requested name and label values, creating it with the default histogram
+     * buckets if necessary.
+     *
+     * @param name metric name - by convention it ends in "_seconds"
+     * @param help description of the metric
+     * @param labels pairs of label name and label value
+     * @return timer
+     * @throws IllegalArgumentException the name or labels are invalid or do not match the existing metrics of this name
+     */
+    public MetricsTimer getTimer(String    name,
+                                 String    help,
+                                 String... labels)
+    {
+        return this.getTimer(name, help, DEFAULT_TIMER_BUCKETS, labels);
+    }
+
+
+    /**
+     * Return the timer with the requested name and label values, creating it if necessary.
+     *
+     * @param name metric name - by convention it ends in "_seconds"
+     * @param help description of the metric
+     * @param bucketBoundaries upper bounds of the histogram buckets in seconds, in increasing order - only used
+     *                         when the first metric with this name is created
+     * @param labels pairs of label name and label value
+     * @return timer
+     * @throws IllegalArgumentException the name, buckets or labels are invalid or do not match the existing metrics of this name
+     */
+    public MetricsTimer getTimer(String    name,
+                                 String    help,
+                                 double[]  bucketBoundaries,
+                                 String... labels)
+    {
+        MetricsFamily family = this.getFamily(name, help, MetricsType.HISTOGRAM, labels, bucketBoundaries);
+
+        return (MetricsTimer) family.metrics.computeIfAbsent(getLabelText(labels), key -> new MetricsTimer(family.bucketBoundaries));
+    }
+
+
+    /**
+     * Register a gauge.  The supplier is called each time the metrics are reported so it must be quick and must not
+     * block.  A gauge registered with the same name and label values as an existing gauge replaces it.  Components
+     * should remove their gauges when they shut down so that the registry does not keep them in memory.
+     *
+     * @param name metric name
+     * @param help description of the metric
+     * @param value supplier of the current value
+     * @param labels pairs of label name and label value
+     * @throws IllegalArgumentException the name or labels are invalid or do not match the existing metrics of this name
+     */
+    public void registerGauge(String         name,
+                              String         help,
+                              DoubleSupplier value,
+                              String...      labels)
+    {
+        if (value == null)
+        {
+            throw new IllegalArgumentException("Null value supplier for gauge " + name);
+        }
+
+        MetricsFamily family = this.getFamily(name, help, MetricsType.GAUGE, labels, null);
+
+        family.metrics.put(getLabelText(labels), value);
+    }
+
+
+    /**
+     * Remove a gauge.
+     *
+     * @param name metric name
+     * @param labels pairs of label name and label value used when the gauge was registered
+     */
+    public void removeGauge(String    name,
+                            String... labels)
+    {
+        MetricsFamily family = families.get(name);
+
+        if ((family != null) && (family.type == MetricsType.GAUGE))
+        {
+            family.metrics.remove(getLabelText(labels));
+        }
+    }
+
+
+    /**
+     * Remove all metrics from the registry.
+     */
+    public void clear()
+    {
+        families.clear();
+    }
+
+
+    /**
+     * Return the content of the registry in the Prometheus text exposition format (version 0.0.4).
+     *
+     * @return metrics text
+     */
+    public String getPrometheusText()
+    {
+        StringBuilder text = new StringBuilder();
+
+        this.writePrometheusText(text);
+
+        return text.toString();
+    }
+
+
+    /**
+     * Write the content of the registry in the Prometheus text exposition format (version 0.0.4).  The metrics
+     * are sorted by name and label values so the output is stable from one call to the next.
+     *
+     * @param text destination for the metrics
+     */
+    public void writePrometheusText(StringBuilder text)
+    {
+        Map<String, MetricsFamily> sortedFamilies = new TreeMap<>(families);
+
+        for (MetricsFamily family : sortedFamilies.values())
+        {
+            Map<String, Object> sortedMetrics = new TreeMap<>(family.metrics);
+
+            if (sortedMetrics.isEmpty())
+            {
+                continue;
+            }
+
+            if (family.help != null)
+            {
+                text.append("# HELP ").append(family.name).append(' ').append(escapeHelp(family.help)).append('\n');
+            }
+
+            text.append("# TYPE ").append(family.name).append(' ').append(family.type.getExportName()).append('\n');
+
+            for (Map.Entry<String, Object> entry : sortedMetrics.entrySet())
+            {
+                String labelText = entry.getKey();
+
+                switch (family.type)
+                {
+                    case COUNTER:
+                        appendSample(text, family.name, labelText, Long.toString(((MetricsCounter) entry.getValue()).getCount()));
+                        break;
+
+                    case GAUGE:
+                        appendSample(text, family.name, labelText, formatValue(getGaugeValue((DoubleSupplier) entry.getValue())));
+                        break;
+
+                    case HISTOGRAM:
+                        MetricsTimer timer            = (MetricsTimer) entry.getValue();
+                        long[]       cumulativeCounts = timer.getCumulativeBucketCounts();
+
+                        for (int i = 0; i < family.bucketBoundaries.length; i++)
+                        {
+                            appendSample(text,
+                                         family.name + "_bucket",
+                                         addLabel(labelText, "le", formatValue(family.bucketBoundaries[i])),
+                                         Long.toString(cumulativeCounts[i]));
+                        }
+
+                        long count = cumulativeCounts[cumulativeCounts.length - 1];
+
+                        appendSample(text, family.name + "_bucket", addLabel(labelText, "le", "+Inf"), Long.toString(count));
+                        appendSample(text, family.name + "_sum", labelText, formatValue(timer.getTotalSeconds()));
+                        appendSample(text, family.name + "_count", labelText, Long.toString(count));
+                        break;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the family for a metric name, creating it if necessary, after checking that the request matches it.
+     *
+     * @param name metric name
+     * @param help description of the metric
+     * @param type type of metric requested
+     * @param labels pairs of label name and label value
+     * @param bucketBoundaries histogram buckets for a timer
+     * @return family
+     * @throws IllegalArgumentException the request is invalid or does not match the existing family
+     */
+    private MetricsFamily getFamily(String      name,
+                                    String      help,
+                                    MetricsType type,
+                                    String[]    labels,
+                                    double[]    bucketBoundaries)
+    {
+        MetricsFamily family = families.get(name);
+
+        if (family == null)
+        {
+            if ((name == null) || (! metricNamePattern.matcher(name).matches()))
+            {
+                throw new IllegalArgumentException("Invalid metric name " + name);
+            }
+
+            String[] labelNames = getLabelNames(labels);
+
+            for (String labelName : labelNames)
+            {
+                if ((labelName == null) || (! labelNamePattern.matcher(labelName).matches()) || ("le".equals(labelName)))
+                {
+                    throw new IllegalArgumentException("Invalid label name " + labelName + " for metric " + name);
+                }
+            }
+
+            double[] buckets = (type == MetricsType.HISTOGRAM) ? validateBuckets(name, bucketBoundaries) : null;
+
+            family = families.computeIfAbsent(name, key -> new MetricsFamily(name, help, type, labelNames, buckets));
+        }
+
+        if (family.type != type)
+        {
+            throw new IllegalArgumentException("Metric " + name + " is a " + family.type.getExportName() + " not a " + type.getExportName());
+        }
+
+        if (! hasLabelNames(family, labels))
+        {
+            throw new IllegalArgumentException("Metric " + name + " has labels " + Arrays.toString(family.labelNames));
+        }
+
+        return family;
+    }
+
+
+    /**
+     * Check that the label names match those of the family.  This is called on every lookup so it avoids
+     * creating objects.
+     *
+     * @param family existing family
+     * @param labels pairs of label name and label value
+     * @return true if the label names match
+     */
+    private static boolean hasLabelNames(MetricsFamily family,
+                                         String[]      labels)
+    {
+        int labelCount = (labels == null) ? 0 : labels.length;
+
+        if (labelCount != family.labelNames.length * 2)
+        {
+            return false;
+        }
+
+        for (int i = 0; i < family.labelNames.length; i++)
+        {
+            if (! family.labelNames[i].equals(labels[i * 2]))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Check the histogram buckets are usable.
+     *
+     * @param name metric name
+     * @param bucketBoundaries upper bounds of the buckets
+     * @return copy of the buckets
+     * @throws IllegalArgumentException the buckets are missing or not in increasing order
+     */
+    private double[] validateBuckets(String   name,
+                                     double[] bucketBoundaries)
+    {
+        if ((bucketBoundaries == null) || (bucketBoundaries.length == 0))
+        {
+            throw new IllegalArgumentException("No histogram buckets for metric " + name);
+        }
+
+        for (int i = 1; i < bucketBoundaries.length; i++)
+        {
+            if (bucketBoundaries[i] <= bucketBoundaries[i - 1])
+            {
+                throw new IllegalArgumentException("Histogram buckets for metric " + name + " are not in increasing order");
+            }
+        }
+
+        return bucketBoundaries.clone();
+    }
+
+
+    /**
+     * Extract the label names from the label pairs.
+     *
+     * @param labels pairs of label name and label value
+     * @return label names
+     * @throws IllegalArgumentException the labels are not in pairs
+     */
+    private static String[] getLabelNames(String[] labels)
+    {
+        if (labels == null)
+        {
+            return new String[0];
+        }
+
+        if (labels.length % 2 != 0)
+        {
+            throw new IllegalArgumentException("Labels must be supplied as name and value pairs: " + Arrays.toString(labels));
+        }
+
+        String[] labelNames = new String[labels.length / 2];
+
+        for (int i = 0; i < labelNames.length; i++)
+        {
+            labelNames[i] = labels[i * 2];
+        }
+
+        return labelNames;
+    }
+
+
+    /**
+     * Format the label pairs as they appear in the Prometheus text format.  This is also the key of the metric
+     * within its family.
+     *
+     * @param labels pairs of label name and label value
+     * @return label text without the surrounding braces
+     */
+    private static String getLabelText(String[] labels)
+    {
+        if ((labels == null) || (labels.length == 0))
+        {
+            return "";
+        }
+
+        StringBuilder labelText = new StringBuilder();
+
+        for (int i = 0; i + 1 < labels.length; i = i + 2)
+        {
+            if (i > 0)
+            {
+                labelText.append(',');
+            }
+
+            labelText.append(labels[i]).append("=\"").append(escapeLabelValue(labels[i + 1])).append('"');
+        }
+
+        return labelText.toString();
+    }
+
+
+    /**
+     * Add a label to some label text.
+     *
+     * @param labelText existing labels
+     * @param labelName name of new label
+     * @param labelValue value of new label
+     * @return combined label text
+     */
+    private static String addLabel(String labelText,
+                                   String labelName,
+                                   String labelValue)
+    {
+        String newLabel = labelName + "=\"" + labelValue + "\"";
+
+        if (labelText.isEmpty())
+        {
+            return newLabel;
+        }
+
+        return labelText + "," + newLabel;
+    }
+
+
+    /**
+     * Add a sample line to the text.
+     *
+     * @param text destination
+     * @param name sample name
+     * @param labelText labels
+     * @param value formatted value
+     */
+    private static void appendSample(StringBuilder text,
+                                     String        name,
+                                     String        labelText,
+                                     String        value)
+    {
+        text.append(name);
+
+        if (! labelText.isEmpty())
+        {
+            text.append('{').append(labelText).append('}');
+        }
+
+        text.append(' ').append(value).append('\n');
+    }
+
+
+    /**
+     * Call a gauge's supplier.  A supplier that fails is reported as not a number rather than stopping the report.
+     *
+     * @param gauge supplier
+     * @return value
+     */
+    private static double getGaugeValue(DoubleSupplier gauge)
+    {
+        try
+        {
+            return gauge.getAsDouble();
+        }
+        catch (RuntimeException error)
+        {
+            return Double.NaN;
+        }
+    }
+
+
+    /**
+     * Format a value in the way Prometheus expects.
+     *
+     * @param value value
+     * @return text
+     */
+    private static String formatValue(double value)
+    {
+        if (Double.isNaN(value))
+        {
+            return "NaN";
+        }
+        else if (value == Double.POSITIVE_INFINITY)
+        {
+            return "+Inf";
+        }
+        else if (value == Double.NEGATIVE_INFINITY)
+        {
+            return "-Inf";
+        }
+        else if ((value == Math.rint(value)) && (Math.abs(value) < 1e15))
+        {
+            return Long.toString((long) value);
+        }
+
+        return Double.toString(value);
+    }
+
+
+    /**
+     * Escape a label value.
+     *
+     * @param value raw value
+     * @return escaped value
+     */
+    private static String escapeLabelValue(String value)
+    {
+        if (value == null)
+        {
+            return "";
+        }
+
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+
+    /**
+     * Escape help text.
+     *
+     * @param help raw text
+     * @return escaped text
+     */
+    private static String escapeHelp(String help)
+    {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
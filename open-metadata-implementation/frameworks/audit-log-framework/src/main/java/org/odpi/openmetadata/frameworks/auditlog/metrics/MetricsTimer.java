@@ -0,0 +1,144 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.auditlog.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MetricsTimer records how long an operation takes.  Each duration is counted in the first histogram
+ * bucket whose upper bound it does not exceed, so the distribution of durations can be reported as well
+ * as their count and total.  It is safe to record from many threads at once.
+ * <p>
+ * The typical use is:
+ * </p>
+ * <pre>
+ *     long startTime = System.nanoTime();
+ *
+ *     try
+ *     {
+ *         ... operation ...
+ *     }
+ *     finally
+ *     {
+ *         timer.recordSince(startTime);
+ *     }
+ * </pre>
+ */
+public class MetricsTimer
+{
+    private final double[]    bucketBoundaries;
+    private final long[]      bucketBoundaryNanos;
+    private final LongAdder[] bucketCounts;
+    private final LongAdder   count    = new LongAdder();
+    private final LongAdder   sumNanos = new LongAdder();
+
+
+    /**
+     * Constructor used by the registry.
+     *
+     * @param bucketBoundaries upper bounds of the histogram buckets in seconds, in increasing order
+     */
+    MetricsTimer(double[] bucketBoundaries)
+    {
+        this.bucketBoundaries    = bucketBoundaries.clone();
+        this.bucketBoundaryNanos = new long[bucketBoundaries.length];
+        this.bucketCounts        = new LongAdder[bucketBoundaries.length + 1];
+
+        for (int i = 0; i < bucketBoundaries.length; i++)
+        {
+            bucketBoundaryNanos[i] = (long) (bucketBoundaries[i] * 1_000_000_000d);
+        }
+
+        for (int i = 0; i < bucketCounts.length; i++)
+        {
+            bucketCounts[i] = new LongAdder();
+        }
+    }
+
+
+    /**
+     * Record the time since the supplied start time.
+     *
+     * @param startNanos value of System.nanoTime() when the operation started
+     */
+    public void recordSince(long startNanos)
+    {
+        this.record(System.nanoTime() - startNanos);
+    }
+
+
+    /**
+     * Record the duration of an operation.
+     *
+     * @param durationNanos duration in nanoseconds - negative values are recorded as zero
+     */
+    public void record(long durationNanos)
+    {
+        long duration = Math.max(0, durationNanos);
+        int  bucket   = 0;
+
+        while ((bucket < bucketBoundaryNanos.length) && (duration > bucketBoundaryNanos[bucket]))
+        {
+            bucket++;
+        }
+
+        bucketCounts[bucket].increment();
+        count.increment();
+        sumNanos.add(duration);
+    }
+
+
+    /**
+     * Return the number of operations recorded.
+     *
+     * @return count
+     */
+    public long getCount()
+    {
+        return count.sum();
+    }
+
+
+    /**
+     * Return the total time of the operations recorded.
+     *
+     * @return seconds
+     */
+    public double getTotalSeconds()
+    {
+        return sumNanos.sum() / 1_000_000_000d;
+    }
+
+
+    /**
+     * Return the upper bounds of the histogram buckets.
+     *
+     * @return seconds, in increasing order
+     */
+    public double[] getBucketBoundaries()
+    {
+        return bucketBoundaries.clone();
+    }
+
+
+    /**
+     * Return the number of operations that took no longer than each bucket's upper bound.  The counts are
+     * cumulative and there is a final entry for the operations that exceeded every bound, so the last
+     * entry equals the total count (apart from operations recorded while the counts were read).
+     *
+     * @return cumulative counts, one more than the number of buckets
+     */
+    public long[] getCumulativeBucketCounts()
+    {
+        long[] cumulativeCounts = new long[bucketCounts.length];
+        long   runningTotal     = 0;
+
+        for (int i = 0; i < bucketCounts.length; i++)
+        {
+            runningTotal        = runningTotal + bucketCounts[i].sum();
+            cumulativeCounts[i] = runningTotal;
+        }
+
+        return cumulativeCounts;
+    }
+}
@@ -0,0 +1,49 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.auditlog.metrics;
+
+/**
+ * MetricsType defines the kinds of metric that the registry supports, along with the name used for each
+ * in the Prometheus text format.
+ */
+public enum MetricsType
+{
+    /**
+     * A value that only goes up.
+     */
+    COUNTER("counter"),
+
+    /**
+     * A value that is read when the metrics are reported and may go up or down.
+     */
+    GAUGE("gauge"),
+
+    /**
+     * A distribution of durations.
+     */
+    HISTOGRAM("histogram");
+
+    private final String exportName;
+
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param exportName name of the type in the Prometheus text format
+     */
+    MetricsType(String exportName)
+    {
+        this.exportName = exportName;
+    }
+
+
+    /**
+     * Return the name of the type in the Prometheus text format.
+     *
+     * @return type name
+     */
+    public String getExportName()
+    {
+        return exportName;
+    }
+}
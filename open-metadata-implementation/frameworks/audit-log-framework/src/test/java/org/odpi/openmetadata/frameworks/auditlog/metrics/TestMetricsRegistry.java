@@ -0,0 +1,114 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.auditlog.metrics;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * TestMetricsRegistry validates the recording of metrics and their output in the Prometheus text format.
+ */
+public class TestMetricsRegistry
+{
+    /**
+     * Counters with the same name and labels are shared, and each set of labels has its own sample.
+     */
+    @Test public void testCounters()
+    {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.getCounter("events_total", "Events received.", "topic", "cohort").increment();
+        registry.getCounter("events_total", "Events received.", "topic", "cohort").increment(2);
+        registry.getCounter("events_total", "Events received.", "topic", "other").increment(-1);
+
+        assertEquals(registry.getCounter("events_total", "Events received.", "topic", "cohort").getCount(), 3);
+
+        assertEquals(registry.getPrometheusText(),
+                     "# HELP events_total Events received.\n" +
+                     "# TYPE events_total counter\n" +
+                     "events_total{topic=\"cohort\"} 3\n" +
+                     "events_total{topic=\"other\"} 0\n");
+    }
+
+
+    /**
+     * Timer buckets are reported as cumulative counts, followed by the sum and count.
+     */
+    @Test public void testTimer()
+    {
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsTimer    timer    = registry.getTimer("request_seconds", null, new double[]{0.1, 1}, "operation", "find");
+
+        timer.record(50_000_000L);
+        timer.record(100_000_000L);
+        timer.record(500_000_000L);
+        timer.record(2_000_000_000L);
+
+        assertEquals(timer.getCount(), 4);
+        assertEquals(timer.getCumulativeBucketCounts(), new long[]{2, 3, 4});
+
+        assertEquals(registry.getPrometheusText(),
+                     "# TYPE request_seconds histogram\n" +
+                     "request_seconds_bucket{operation=\"find\",le=\"0.1\"} 2\n" +
+                     "request_seconds_bucket{operation=\"find\",le=\"1\"} 3\n" +
+                     "request_seconds_bucket{operation=\"find\",le=\"+Inf\"} 4\n" +
+                     "request_seconds_sum{operation=\"find\"} 2.65\n" +
+                     "request_seconds_count{operation=\"find\"} 4\n");
+    }
+
+
+    /**
+     * Gauges are read when the metrics are reported, and can be removed.
+     */
+    @Test public void testGauge()
+    {
+        MetricsRegistry registry = new MetricsRegistry();
+        long[]          queueSize = {5};
+
+        registry.registerGauge("queue_size", "Waiting events.", () -> queueSize[0]);
+        queueSize[0] = 7;
+
+        assertTrue(registry.getPrometheusText().contains("queue_size 7\n"));
+
+        registry.registerGauge("queue_size", "Waiting events.", () -> { throw new IllegalStateException(); });
+
+        assertTrue(registry.getPrometheusText().contains("queue_size NaN\n"));
+
+        registry.removeGauge("queue_size");
+
+        assertEquals(registry.getPrometheusText(), "");
+    }
+
+
+    /**
+     * Label values are escaped.
+     */
+    @Test public void testLabelEscaping()
+    {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.getCounter("errors_total", "Errors.", "message", "a \"quoted\" \\ value\nwith a new line").increment();
+
+        assertTrue(registry.getPrometheusText().contains("errors_total{message=\"a \\\"quoted\\\" \\\\ value\\nwith a new line\"} 1\n"));
+    }
+
+
+    /**
+     * Requests that do not match the existing metric or are badly formed are rejected.
+     */
+    @Test public void testInvalidRequests()
+    {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.getCounter("requests_total", "Requests.", "server", "server1");
+
+        assertThrows(IllegalArgumentException.class, () -> registry.getTimer("requests_total", "Requests.", "server", "server1"));
+        assertThrows(IllegalArgumentException.class, () -> registry.getCounter("requests_total", "Requests.", "service", "server1"));
+        assertThrows(IllegalArgumentException.class, () -> registry.getCounter("requests_total", "Requests."));
+        assertThrows(IllegalArgumentException.class, () -> registry.getCounter("bad-name", "Requests."));
+        assertThrows(IllegalArgumentException.class, () -> registry.getCounter("pairs_total", "Requests.", "server"));
+        assertThrows(IllegalArgumentException.class, () -> registry.getTimer("latency_seconds", "Latency.", "le", "1"));
+        assertThrows(IllegalArgumentException.class, () -> registry.getTimer("latency_seconds", "Latency.", new double[]{1, 0.5}));
+    }
+}
@@ -43,6 +43,9 @@ public abstract class ConnectorBase extends Connector
 
     private volatile boolean           isActive                 = false;
 
+    private ConnectorPool              connectorPool            = null;
+    private Connection                 connectorPoolConnection  = null;
+
     /*
      * Secured properties are protected properties from the connection.  They are retrieved as a protected
      * variable to allow subclasses of ConnectorBase to access them.
@@ -183,6 +186,34 @@ public abstract class ConnectorBase extends Connector
     }
 
 
+    /**
+     * Called by the connector broker to link the connector to the pool it is returned to when it is released.
+     *
+     * @param connectorPool pool that the connector is returned to
+     * @param connectorPoolConnection connection that the connector is pooled under
+     */
+    synchronized void setConnectorPool(ConnectorPool connectorPool,
+                                       Connection    connectorPoolConnection)
+    {
+        this.connectorPool = connectorPool;
+        this.connectorPoolConnection = connectorPoolConnection;
+    }
+
+
+    /**
+     * Called by the connector broker once the connector's disconnect() (including any subclass processing) has
+     * completed, to return the connector to the pool it came from.  Nothing happens if the connector is not
+     * pooled or has been started again.
+     */
+    synchronized void returnToConnectorPool()
+    {
+        if ((connectorPool != null) && (! isActive))
+        {
+            connectorPool.returnConnector(connectorPoolConnection, this);
+        }
+    }
+
+
 
 
     /**
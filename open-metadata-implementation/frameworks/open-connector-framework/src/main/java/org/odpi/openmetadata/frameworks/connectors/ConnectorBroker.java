@@ -15,11 +15,17 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.VirtualConnection;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The ConnectorBroker is a generic factory for Open Connector Framework (OCF) Connectors.
  * The OCF provides a default implementation because all the implementation that is specific to a
  * particular type of connector is delegated to the connector provider specified in the connection.
+ * <p>
+ * Connector providers are loaded once and then shared by all connector brokers in the JVM, in a cache keyed
+ * by the class loader used to load them and the connector provider's class name.  Optionally, a connector broker
+ * can be given a ConnectorPool so that connectors released through disconnectConnector() are reused rather than
+ * a new connector being created each time.
  */
 public class ConnectorBroker
 {
@@ -27,7 +33,10 @@ public class ConnectorBroker
     private final        int    hashCode = UUID.randomUUID().hashCode();
 
 
-    private AuditLog auditLog = null;
+    private static final Map<ConnectorProviderKey, ConnectorProvider> connectorProviderCache = new ConcurrentHashMap<>();
+
+    private AuditLog      auditLog      = null;
+    private ConnectorPool connectorPool = null;
 
 
     /**
@@ -50,6 +59,32 @@ public class ConnectorBroker
     }
 
 
+    /**
+     * Constructor to supply the audit log to all connectors that implement the AuditLoggingConnector interface
+     * and the pool that connectors are reused from.
+     *
+     * @param auditLog audit log to pass on to the connector providers
+     * @param connectorPool pool of disconnected connectors that can be reused; null for no pooling
+     */
+    public ConnectorBroker(AuditLog      auditLog,
+                           ConnectorPool connectorPool)
+    {
+        this.auditLog = auditLog;
+        this.connectorPool = connectorPool;
+    }
+
+
+    /**
+     * Remove all the connector providers from the cache shared by the connector brokers.  They are loaded
+     * again when they are next needed.  The cache holds on to the class loaders of the connector providers,
+     * so it should be cleared when connector class loaders are discarded.
+     */
+    public static void clearConnectorProviderCache()
+    {
+        connectorProviderCache.clear();
+    }
+
+
     /**
      * Validate that the connection (or the embedded connections if this is a virtual connection)
      * are not null.
@@ -115,7 +150,10 @@ public class ConnectorBroker
 
 
     /**
-     * Create a connector provider object based on the content of the supplied connector type properties.
+     * Return the connector provider object for the supplied connector type properties.  The connector provider
+     * class is loaded through the calling thread's context class loader, falling back to the class loader of the
+     * connector broker.  The connector provider is created the first time its class is requested through a
+     * class loader and then cached for reuse by callers with the same class loader.
      *
      * @param requestedConnectorType  connector type properties
      * @param connectionName  name of the connection (for error handling)
@@ -144,6 +182,22 @@ public class ConnectorBroker
         }
 
 
+        ClassLoader           classLoader = Thread.currentThread().getContextClassLoader();
+
+        if (classLoader == null)
+        {
+            classLoader = ConnectorBroker.class.getClassLoader();
+        }
+
+        ConnectorProviderKey  connectorProviderKey = new ConnectorProviderKey(classLoader, connectorProviderClassName);
+        ConnectorProvider     connectorProvider = connectorProviderCache.get(connectorProviderKey);
+
+        if (connectorProvider != null)
+        {
+            return connectorProvider;
+        }
+
+
         /*
          * Extract the class for the connector provider and then create a connector provider object.
          * These actions may reveal that the class is not known to local JVM (ClassNotFound) or
@@ -151,11 +205,9 @@ public class ConnectorBroker
          * results in a connection error exception that hopefully guides the consumer to correct
          * the config and/or setup error.
          */
-        ConnectorProvider     connectorProvider;
-
         try
         {
-            Class<?>   connectorProviderClass = Class.forName(connectorProviderClassName);
+            Class<?>   connectorProviderClass = this.loadConnectorProviderClass(connectorProviderClassName, classLoader);
             Object     potentialConnectorProvider = connectorProviderClass.getDeclaredConstructor().newInstance();
 
             connectorProvider = (ConnectorProvider)potentialConnectorProvider;
@@ -197,10 +249,49 @@ public class ConnectorBroker
                                                  unexpectedSomething);
         }
 
+        /*
+         * If another thread has loaded the same connector provider in the meantime, its instance is used so that
+         * only one instance is shared.
+         */
+        ConnectorProvider cachedConnectorProvider = connectorProviderCache.putIfAbsent(connectorProviderKey, connectorProvider);
+
+        if (cachedConnectorProvider != null)
+        {
+            return cachedConnectorProvider;
+        }
+
         return connectorProvider;
     }
 
 
+    /**
+     * Load the connector provider class through the requested class loader.  If that class loader does not
+     * know the class, the class loader of the connector broker is tried.
+     *
+     * @param connectorProviderClassName name of the connector provider class
+     * @param classLoader class loader to try first
+     * @return class
+     * @throws ClassNotFoundException the class is not known to either class loader
+     */
+    private Class<?> loadConnectorProviderClass(String      connectorProviderClassName,
+                                                ClassLoader classLoader) throws ClassNotFoundException
+    {
+        try
+        {
+            return Class.forName(connectorProviderClassName, true, classLoader);
+        }
+        catch (ClassNotFoundException classException)
+        {
+            if (classLoader == ConnectorBroker.class.getClassLoader())
+            {
+                throw classException;
+            }
+
+            return Class.forName(connectorProviderClassName);
+        }
+    }
+
+
     /**
      * Extract the connection from the embedded connection and push any arguments into the
      * AdditionalProperties for the connection.
@@ -319,6 +410,8 @@ public class ConnectorBroker
 
     /**
      * Creates a new instance of a connector using the name of the connector provider in the supplied connection.
+     * If this connector broker has a connector pool, an idle connector for the same connection is returned
+     * from the pool if there is one.  Connectors are only returned to the pool by disconnectConnector().
      *
      * @param connection   properties for the connector and connector provider.
      * @return new connector instance.
@@ -327,6 +420,40 @@ public class ConnectorBroker
      */
     public Connector getConnector(ConnectionProperties connection) throws ConnectionCheckedException,
                                                                           ConnectorCheckedException
+    {
+        if ((connectorPool == null) || (connection == null) || (connection instanceof VirtualConnectionProperties))
+        {
+            return this.createConnector(connection);
+        }
+
+        AccessibleConnection accessibleConnection = new AccessibleConnection(connection);
+        Connection           poolConnection       = accessibleConnection.getConnectionBean();
+        Connector            connectorInstance    = connectorPool.borrowConnector(poolConnection);
+
+        if (connectorInstance == null)
+        {
+            connectorInstance = this.createConnector(connection);
+
+            if (connectorInstance instanceof ConnectorBase)
+            {
+                ((ConnectorBase) connectorInstance).setConnectorPool(connectorPool, poolConnection);
+            }
+        }
+
+        return connectorInstance;
+    }
+
+
+    /**
+     * Creates a new instance of a connector using the name of the connector provider in the supplied connection.
+     *
+     * @param connection   properties for the connector and connector provider.
+     * @return new connector instance.
+     * @throws ConnectionCheckedException an error with the connection.
+     * @throws ConnectorCheckedException an error initializing the connector.
+     */
+    private Connector createConnector(ConnectionProperties connection) throws ConnectionCheckedException,
+                                                                              ConnectorCheckedException
     {
         final String         methodName = "getConnector";
         String               connectionName;
@@ -355,44 +482,23 @@ public class ConnectorBroker
 
         /*
          * If the connector provider or connector is capable of using an audit log, an audit log is passed to the connector provider if available.
-         */
-        if (connectorProvider instanceof AuditLoggingComponent)
-        {
-            ((AuditLoggingComponent) connectorProvider).setAuditLog(auditLog);
-        }
-
-
-        /*
-         * At this point we hopefully have a valid connector provider so all that is left to do is call
-         * it to get the connector instance.  This is done in a different try ... catch block from the
-         * instantiation of the connector provider so we can separate errors in the Connection from
-         * errors generated in the Connector Provider, since both classes are
-         * potentially code from a source outside of Egeria.
+         * The connector provider is shared with other connector brokers that may have a different audit log, so the
+         * audit log is set up and used to create the connector under the connector provider's lock.
          */
         Connector    connectorInstance;
 
-        try
-        {
-            connectorInstance = connectorProvider.getConnector(connection);
-        }
-        catch (ConnectionCheckedException | ConnectorCheckedException ocfError)
+        if (connectorProvider instanceof AuditLoggingComponent)
         {
-            /*
-             * The connector provider has already provided first failure data capture in an OCF Exception.
-             * This exception is rethrown to the caller.
-             */
-            throw ocfError;
+            synchronized (connectorProvider)
+            {
+                ((AuditLoggingComponent) connectorProvider).setAuditLog(auditLog);
+
+                connectorInstance = this.getConnectorFromProvider(connectorProvider, connection);
+            }
         }
-        catch (Exception  unexpectedSomething)
+        else
         {
-            /*
-             * The connector provider threw an unexpected runtime exception or error.  This is wrapped in a
-             * ConnectorError and thrown to caller.
-             */
-            throw new ConnectorCheckedException(OCFErrorCode.CAUGHT_EXCEPTION.getMessageDefinition(),
-                                                this.getClass().getName(),
-                                                "getConnector",
-                                                unexpectedSomething);
+            connectorInstance = this.getConnectorFromProvider(connectorProvider, connection);
         }
 
 
@@ -436,7 +542,7 @@ public class ConnectorBroker
 
                 for (EmbeddedConnectionProperties  embeddedConnection : embeddedConnections)
                 {
-                    embeddedConnectors.add(getConnector(this.getConnection(embeddedConnection)));
+                    embeddedConnectors.add(createConnector(this.getConnection(embeddedConnection)));
                 }
 
                 virtualConnectorExtension.initializeEmbeddedConnectors(embeddedConnectors);
@@ -466,6 +572,72 @@ public class ConnectorBroker
     }
 
 
+    /**
+     * Disconnect a connector that was returned by this connector broker and, if it came from a connector pool,
+     * return it to the pool so it can be reused.  The connector is only returned to the pool after its
+     * disconnect() method (including any processing in its subclasses) has completed successfully.
+     * The caller must not use the connector afterwards.
+     *
+     * @param connector connector to disconnect
+     * @throws ConnectorCheckedException there is a problem within the connector; it is not returned to the pool
+     */
+    public void disconnectConnector(Connector connector) throws ConnectorCheckedException
+    {
+        if (connector != null)
+        {
+            connector.disconnect();
+
+            if (connector instanceof ConnectorBase)
+            {
+                ((ConnectorBase) connector).returnToConnectorPool();
+            }
+        }
+    }
+
+
+    /**
+     * At this point we hopefully have a valid connector provider so all that is left to do is call
+     * it to get the connector instance.  This is done in a different try ... catch block from the
+     * instantiation of the connector provider so we can separate errors in the Connection from
+     * errors generated in the Connector Provider, since both classes are
+     * potentially code from a source outside of Egeria.
+     *
+     * @param connectorProvider connector provider for the connection
+     * @param connection   properties for the connector
+     * @return new connector instance (or null if the connector provider did not return one)
+     * @throws ConnectionCheckedException an error with the connection.
+     * @throws ConnectorCheckedException an error initializing the connector.
+     */
+    private Connector getConnectorFromProvider(ConnectorProvider    connectorProvider,
+                                               ConnectionProperties connection) throws ConnectionCheckedException,
+                                                                                       ConnectorCheckedException
+    {
+        try
+        {
+            return connectorProvider.getConnector(connection);
+        }
+        catch (ConnectionCheckedException | ConnectorCheckedException ocfError)
+        {
+            /*
+             * The connector provider has already provided first failure data capture in an OCF Exception.
+             * This exception is rethrown to the caller.
+             */
+            throw ocfError;
+        }
+        catch (Exception  unexpectedSomething)
+        {
+            /*
+             * The connector provider threw an unexpected runtime exception or error.  This is wrapped in a
+             * ConnectorError and thrown to caller.
+             */
+            throw new ConnectorCheckedException(OCFErrorCode.CAUGHT_EXCEPTION.getMessageDefinition(),
+                                                this.getClass().getName(),
+                                                "getConnector",
+                                                unexpectedSomething);
+        }
+    }
+
+
     /**
      * Provide an implementation of hashCode for all OCF Connector Broker objects.  The UUID is unique and
      * is randomly assigned and so its hashCode is as good as anything to describe the hash code of the connector
@@ -517,6 +689,49 @@ public class ConnectorBroker
     }
 
 
+    /**
+     * ConnectorProviderKey identifies a cached connector provider by the class loader it was requested through
+     * and its class name, so connector providers with the same name from different class loaders are kept apart.
+     */
+    private static class ConnectorProviderKey
+    {
+        private final ClassLoader classLoader;
+        private final String      className;
+
+        ConnectorProviderKey(ClassLoader classLoader,
+                             String      className)
+        {
+            this.classLoader = classLoader;
+            this.className = className;
+        }
+
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (this == object)
+            {
+                return true;
+            }
+            if (object == null || getClass() != object.getClass())
+            {
+                return false;
+            }
+
+            ConnectorProviderKey that = (ConnectorProviderKey) object;
+
+            return classLoader == that.classLoader && className.equals(that.className);
+        }
+
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * System.identityHashCode(classLoader) + className.hashCode();
+        }
+    }
+
+
     /**
      * ProtectedConnection provides a subclass to Connection in order to extract protected values from the
      * connection in order to supply them to the Connector implementation.
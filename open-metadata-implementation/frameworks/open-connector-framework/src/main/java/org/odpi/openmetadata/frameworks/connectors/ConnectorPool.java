@@ -0,0 +1,174 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ConnectorPool holds connector instances that have been disconnected so that they can be handed out again by the
+ * ConnectorBroker to callers that request a connector for an identical connection.  This avoids the cost of
+ * loading, instantiating and initializing a new connector each time.
+ * <p>
+ * Pooling is opt-in.  It is turned on by passing a ConnectorPool to the ConnectorBroker's constructor.  Only
+ * connectors that extend ConnectorBase and are created from a connection that is not a virtual connection are
+ * pooled.  Such a connector is returned to the pool when the caller releases it with the ConnectorBroker's
+ * disconnectConnector() method, after its disconnect() method has completed.  Connectors that are disconnected
+ * directly are not pooled.  A pooled connector has been initialized but not started, just like a newly created
+ * connector, so the caller must call start() before using it.  This means pooling is only suitable for connectors that release all of their resources in disconnect()
+ * and can be started again afterwards.  A caller must not use a connector after disconnecting it.
+ * <p>
+ * The connectors are held by connection: two connections with the same properties (including their
+ * secured properties) share the same pooled connectors.  The number of idle connectors held for each connection is
+ * limited.  Connectors returned when the limit is reached are discarded.
+ */
+public class ConnectorPool
+{
+    private static final Logger log = LoggerFactory.getLogger(ConnectorPool.class);
+
+    private final int                                   maxIdleConnectors;
+    private final Map<Connection, Deque<ConnectorBase>> idleConnectors = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor for a pool holding up to 10 idle connectors for each connection.
+     */
+    public ConnectorPool()
+    {
+        this(10);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxIdleConnectors maximum number of idle connectors held for each connection.  If a number
+     *                          less than one is supplied, 1 is used.
+     */
+    public ConnectorPool(int maxIdleConnectors)
+    {
+        this.maxIdleConnectors = Math.max(maxIdleConnectors, 1);
+    }
+
+
+    /**
+     * Return the maximum number of idle connectors held for each connection.
+     *
+     * @return count
+     */
+    public int getMaxIdleConnectors()
+    {
+        return maxIdleConnectors;
+    }
+
+
+    /**
+     * Return the number of idle connectors held for the connection.
+     *
+     * @param connection connection used to create the connectors
+     * @return count
+     */
+    public int getIdleConnectorCount(Connection connection)
+    {
+        Deque<ConnectorBase> connectors = idleConnectors.get(connection);
+
+        if (connectors == null)
+        {
+            return 0;
+        }
+
+        synchronized (connectors)
+        {
+            return connectors.size();
+        }
+    }
+
+
+    /**
+     * Remove an idle connector for the connection from the pool.
+     *
+     * @param connection connection requested by the caller
+     * @return connector or null if there is no idle connector for the connection
+     */
+    ConnectorBase borrowConnector(Connection connection)
+    {
+        Deque<ConnectorBase> connectors = idleConnectors.get(connection);
+
+        if (connectors != null)
+        {
+            synchronized (connectors)
+            {
+                ConnectorBase connector = connectors.pollFirst();
+
+                if (connector != null)
+                {
+                    log.debug("Reusing pooled connector: " + connector.getConnectorInstanceId());
+                    return connector;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Add a disconnected connector to the pool so it can be reused.  A connector that is already in the pool
+     * (because it has been disconnected more than once) is not added again.
+     *
+     * @param connection connection used to create the connector
+     * @param connector disconnected connector
+     */
+    void returnConnector(Connection    connection,
+                         ConnectorBase connector)
+    {
+        Deque<ConnectorBase> connectors = idleConnectors.computeIfAbsent(connection, key -> new ArrayDeque<>());
+
+        synchronized (connectors)
+        {
+            for (ConnectorBase idleConnector : connectors)
+            {
+                if (idleConnector == connector)
+                {
+                    return;
+                }
+            }
+
+            if (connectors.size() < maxIdleConnectors)
+            {
+                log.debug("Returning connector to pool: " + connector.getConnectorInstanceId());
+                connectors.addFirst(connector);
+            }
+        }
+    }
+
+
+    /**
+     * Discard all the idle connectors.
+     */
+    public void clear()
+    {
+        idleConnectors.clear();
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "ConnectorPool{" +
+                "maxIdleConnectors=" + maxIdleConnectors +
+                ", connections=" + idleConnectors.size() +
+                '}';
+    }
+}
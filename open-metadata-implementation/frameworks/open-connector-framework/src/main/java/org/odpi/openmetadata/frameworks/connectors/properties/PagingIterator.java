@@ -10,9 +10,18 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.PropertyBase
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * PagingIterator supports an iterator over a list of objects that extend ElementBase.
@@ -44,6 +53,17 @@ import java.util.List;
  * the first two would have 10 elements in them and the third will have 5 elements.
  * In the first 2 retrieves, maxCacheSize and cachedElementList.size() are set to 10.
  * In the last one, maxCacheSize==10 and cachedElementList.size()==5.
+ *
+ * By default, the next cache is only retrieved when the caller steps past the end of the current one, so the caller
+ * waits for a full round trip to the property server at each cache boundary.  Setting a prefetch depth greater than
+ * zero turns on read-ahead: each time a cache is retrieved, up to prefetchDepth of the caches that follow it are
+ * requested in the background so that they are ready (or on their way) when the caller reaches them.
+ * Read-ahead stops when the end of the list is reached, and any outstanding requests are cancelled if the prefetch
+ * depth is set back to zero, or cancelPrefetch() is called - for example because the caller is abandoning the iterator
+ * part way through the list.  An iterator made with the copy/clone constructor has the same prefetch depth as its
+ * template but none of its outstanding requests: it starts its own read-ahead when it retrieves its first cache.
+ * The background requests of all iterators share a bounded thread pool.  If the pool is full, no more caches are
+ * requested in the background and the caller retrieves them when it reaches them.
  */
 public class PagingIterator extends PropertyBase implements Iterator<ElementBase>
 {
@@ -58,6 +78,9 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
 
     protected PropertyIteratorBase iterator = null;
 
+    protected int                            prefetchDepth    = 0;
+    private transient Deque<PrefetchedCache> prefetchedCaches = null;
+
     protected static final Logger log = LoggerFactory.getLogger(PagingIterator.class);
 
 
@@ -133,6 +156,8 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
                 this.maxCacheSize = templateIterator.maxCacheSize;
             }
 
+            this.prefetchDepth = templateIterator.prefetchDepth;
+
             if (iterator != null)
             {
                 this.iterator = iterator;
@@ -199,7 +224,7 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
             {
                 try
                 {
-                    cachedElementList = iterator.getCachedList(cachedElementStart, maxCacheSize);
+                    cachedElementList = retrieveCachedList(cachedElementStart);
                     cachedElementPointer = 0;
                 }
                 catch (PropertyServerException error)
@@ -250,6 +275,194 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
     }
 
 
+    /**
+     * Return the number of caches that are retrieved ahead of the one being processed.  Zero means read-ahead is off.
+     *
+     * @return prefetch depth
+     */
+    public int getPrefetchDepth()
+    {
+        return prefetchDepth;
+    }
+
+
+    /**
+     * Set up the number of caches that are retrieved ahead of the one being processed.  Zero (the default) turns
+     * read-ahead off.  The new value is used from the next cache retrieval.
+     *
+     * @param prefetchDepth number of caches to retrieve in the background.  A negative value is converted to 0.
+     */
+    public synchronized void setPrefetchDepth(int prefetchDepth)
+    {
+        if (prefetchDepth > 0)
+        {
+            this.prefetchDepth = prefetchDepth;
+        }
+        else
+        {
+            this.prefetchDepth = 0;
+            this.cancelPrefetch();
+        }
+    }
+
+
+    /**
+     * Cancel any caches that are being retrieved in the background and discard those that have already arrived.
+     * This is called when the caller is not going to process the rest of the list.  If the caller carries on
+     * stepping through the list, the next cache is retrieved when it is needed and read-ahead restarts from there.
+     */
+    public synchronized void cancelPrefetch()
+    {
+        if (prefetchedCaches != null)
+        {
+            for (PrefetchedCache prefetchedCache : prefetchedCaches)
+            {
+                prefetchedCache.cache.cancel(true);
+            }
+
+            prefetchedCaches.clear();
+        }
+    }
+
+
+    /**
+     * Return the cache of elements that starts at the requested position.  If it has been requested in the
+     * background, the call waits for it to arrive; otherwise it is retrieved now.  Then, if read-ahead is on,
+     * the caches that follow it are requested in the background.
+     *
+     * @param cacheStart position in the full list of the first element in the cache
+     * @return list of elements (may be null or empty if there are no more elements)
+     * @throws PropertyServerException there is a problem retrieving elements from the property (metadata) server.
+     */
+    protected synchronized List<ElementBase> retrieveCachedList(int cacheStart) throws PropertyServerException
+    {
+        List<ElementBase> cache = null;
+        boolean           retrieved = false;
+
+        if ((prefetchedCaches != null) && (! prefetchedCaches.isEmpty()))
+        {
+            if (prefetchedCaches.peekFirst().cacheStart == cacheStart)
+            {
+                try
+                {
+                    cache = prefetchedCaches.removeFirst().cache.get();
+                    retrieved = true;
+                }
+                catch (ExecutionException error)
+                {
+                    this.cancelPrefetch();
+
+                    if (error.getCause() instanceof PropertyServerException)
+                    {
+                        throw (PropertyServerException)error.getCause();
+                    }
+                    else if (error.getCause() instanceof RuntimeException)
+                    {
+                        throw (RuntimeException)error.getCause();
+                    }
+                    else if (error.getCause() instanceof Error)
+                    {
+                        throw (Error)error.getCause();
+                    }
+
+                    /*
+                     * Anything else is retried synchronously.
+                     */
+                    log.debug("Prefetch of cache failed: " + error.getMessage());
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                    this.cancelPrefetch();
+                }
+            }
+            else
+            {
+                /*
+                 * The caches that were requested do not line up with the caller's position (a cache came back
+                 * with fewer elements than maxCacheSize) so they are discarded.
+                 */
+                this.cancelPrefetch();
+            }
+        }
+
+        if (! retrieved)
+        {
+            cache = iterator.getCachedList(cacheStart, maxCacheSize);
+        }
+
+        this.schedulePrefetch(cacheStart, cache);
+
+        return cache;
+    }
+
+
+    /**
+     * Request the caches that follow the one just retrieved in the background, keeping up to prefetchDepth
+     * requests outstanding.  Nothing is requested once the end of the list is reached.
+     *
+     * @param cacheStart position in the full list of the first element in the cache just retrieved
+     * @param cache cache just retrieved
+     */
+    private void schedulePrefetch(int               cacheStart,
+                                  List<ElementBase> cache)
+    {
+        if ((prefetchDepth == 0) || (cache == null) || (cache.isEmpty()))
+        {
+            this.cancelPrefetch();
+            return;
+        }
+
+        if (prefetchedCaches == null)
+        {
+            prefetchedCaches = new ArrayDeque<>();
+        }
+
+        int nextCacheStart;
+
+        if (prefetchedCaches.isEmpty())
+        {
+            /*
+             * When the total is not known, a short cache marks the end of the list.
+             */
+            if ((totalElementCount == 0) && (cache.size() < maxCacheSize))
+            {
+                return;
+            }
+
+            nextCacheStart = cacheStart + cache.size();
+        }
+        else
+        {
+            nextCacheStart = prefetchedCaches.peekLast().cacheStart + maxCacheSize;
+        }
+
+        while ((prefetchedCaches.size() < prefetchDepth) &&
+               ((totalElementCount == 0) || (nextCacheStart < totalElementCount)))
+        {
+            final int                  requestStart  = nextCacheStart;
+            final int                  requestSize   = maxCacheSize;
+            final PropertyIteratorBase cacheIterator = iterator;
+
+            try
+            {
+                prefetchedCaches.addLast(new PrefetchedCache(requestStart,
+                                                             PrefetchExecutor.executor.submit(() -> cacheIterator.getCachedList(requestStart, requestSize))));
+            }
+            catch (RejectedExecutionException error)
+            {
+                /*
+                 * The pool is busy so this cache and the ones after it are retrieved when the caller reaches them.
+                 */
+                log.debug("Prefetch of cache rejected: " + error.getMessage());
+                return;
+            }
+
+            nextCacheStart = nextCacheStart + maxCacheSize;
+        }
+    }
+
+
     /**
      * Remove the current element in the iterator.  This call is not supported and results in
      * an exception
@@ -277,6 +490,56 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
                 ", cachedElementStart=" + cachedElementStart +
                 ", cachedElementList=" + cachedElementList +
                 ", cachedElementPointer=" + cachedElementPointer +
+                ", prefetchDepth=" + prefetchDepth +
                 '}';
     }
+
+
+    /**
+     * PrefetchedCache links a cache being retrieved in the background to its position in the full list.
+     */
+    private static class PrefetchedCache
+    {
+        final int                       cacheStart;
+        final Future<List<ElementBase>> cache;
+
+        PrefetchedCache(int                       cacheStart,
+                        Future<List<ElementBase>> cache)
+        {
+            this.cacheStart = cacheStart;
+            this.cache = cache;
+        }
+    }
+
+
+    /**
+     * PrefetchExecutor holds the thread pool used for read-ahead.  It is only created when an iterator first
+     * uses read-ahead.  The number of threads and waiting requests is bounded so that many iterators reading ahead
+     * at once can not exhaust the JVM's threads.  Idle threads are released, and they are daemon threads so they
+     * do not hold up the shutdown of the JVM.
+     */
+    private static class PrefetchExecutor
+    {
+        private static final int maxThreads        = Math.max(2, Runtime.getRuntime().availableProcessors());
+        private static final int maxQueuedRequests = 1000;
+
+        private static final AtomicInteger threadCount = new AtomicInteger();
+
+        static final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads,
+                                                                          maxThreads,
+                                                                          60L,
+                                                                          TimeUnit.SECONDS,
+                                                                          new ArrayBlockingQueue<>(maxQueuedRequests),
+                                                                          runnable ->
+        {
+            Thread thread = new Thread(runnable, "OCF-PagingIterator-prefetch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        static
+        {
+            executor.allowCoreThreadTimeOut(true);
+        }
+    }
 }
\ No newline at end of file
@@ -65,6 +65,53 @@ public abstract class PropertyIteratorBase extends PropertyBase
     }
 
 
+    /**
+     * Return the number of caches of elements that are retrieved from the property server ahead of the one
+     * being processed.  Zero means read-ahead is off.
+     *
+     * @return prefetch depth
+     */
+    public int getPrefetchDepth()
+    {
+        if (pagingIterator == null)
+        {
+            return 0;
+        }
+        else
+        {
+            return pagingIterator.getPrefetchDepth();
+        }
+    }
+
+
+    /**
+     * Turn on read-ahead so that the caches of elements that follow the one being processed are retrieved from
+     * the property server in the background.  Zero (the default) turns read-ahead off.
+     *
+     * @param prefetchDepth number of caches to retrieve in the background.  A negative value is converted to 0.
+     */
+    public void setPrefetchDepth(int prefetchDepth)
+    {
+        if (pagingIterator != null)
+        {
+            pagingIterator.setPrefetchDepth(prefetchDepth);
+        }
+    }
+
+
+    /**
+     * Cancel any retrievals that are running in the background.  This should be called if the iterator is
+     * abandoned before the end of the list is reached while read-ahead is on.
+     */
+    public void cancelPrefetch()
+    {
+        if (pagingIterator != null)
+        {
+            pagingIterator.cancelPrefetch();
+        }
+    }
+
+
     /**
      * Method implemented by a subclass that ensures the cloning process is a deep clone.
      *
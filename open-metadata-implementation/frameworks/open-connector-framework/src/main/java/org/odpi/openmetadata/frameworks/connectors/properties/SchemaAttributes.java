@@ -75,7 +75,7 @@ public abstract class SchemaAttributes extends PropertyIteratorBase implements I
                 {
                     try
                     {
-                        cachedElementList = iterator.getCachedList(cachedElementStart, maxCacheSize);
+                        cachedElementList = retrieveCachedList(cachedElementStart);
                         if (cachedElementList == null)
                         {
                             return false;
@@ -558,6 +558,148 @@ public class TestConnectorBroker
         }
     }
 
+    /**
+     * Return a connection for the mock connector.
+     *
+     * @param qualifiedName name of the connection
+     * @return connection
+     */
+    private Connection getMockConnection(String qualifiedName)
+    {
+        ConnectorType testConnType = new ConnectorType();
+
+        testConnType.setQualifiedName("Test.ConnectorType");
+        testConnType.setDisplayName("TestCT");
+        testConnType.setConnectorProviderClassName(MockConnectorProvider.class.getName());
+
+        Connection      testConnection = new Connection();
+
+        testConnection.setQualifiedName(qualifiedName);
+        testConnection.setDisplayName("Test");
+        testConnection.setConnectorType(testConnType);
+
+        return testConnection;
+    }
+
+
+    /**
+     * Validate that connectors are still created after the connector provider has been cached, and that
+     * each request without a pool returns a new connector.
+     */
+    @Test public void testCachedConnectorProvider()
+    {
+        try
+        {
+            Connector firstConnector  = new ConnectorBroker().getConnector(getMockConnection("Test.Connection"));
+            Connector secondConnector = new ConnectorBroker().getConnector(getMockConnection("Test.Connection"));
+
+            ConnectorBroker.clearConnectorProviderCache();
+
+            Connector thirdConnector  = new ConnectorBroker().getConnector(getMockConnection("Test.Connection"));
+
+            assertTrue(firstConnector instanceof MockConnector);
+            assertTrue(secondConnector instanceof MockConnector);
+            assertTrue(thirdConnector instanceof MockConnector);
+            assertFalse(firstConnector == secondConnector);
+            assertFalse(secondConnector == thirdConnector);
+        }
+        catch (Exception error)
+        {
+            assertTrue(false);
+        }
+    }
+
+
+    /**
+     * Validate that a released connector is reused from the pool for an identical connection only, and that
+     * connectors disconnected directly are not pooled.
+     */
+    @Test public void testPooledConnector()
+    {
+        ConnectorPool   connectorPool = new ConnectorPool(1);
+        ConnectorBroker cb            = new ConnectorBroker(null, connectorPool);
+
+        try
+        {
+            Connector firstConnector  = cb.getConnector(getMockConnection("Test.Connection"));
+            Connector secondConnector = cb.getConnector(getMockConnection("Test.Connection"));
+
+            assertFalse(firstConnector == secondConnector);
+            assertTrue(connectorPool.getIdleConnectorCount(getMockConnection("Test.Connection")) == 0);
+
+            firstConnector.start();
+            firstConnector.disconnect();
+
+            assertTrue(connectorPool.getIdleConnectorCount(getMockConnection("Test.Connection")) == 0);
+
+            cb.disconnectConnector(firstConnector);
+            cb.disconnectConnector(firstConnector);
+            cb.disconnectConnector(secondConnector);
+
+            assertTrue(connectorPool.getIdleConnectorCount(getMockConnection("Test.Connection")) == 1);
+
+            Connector reusedConnector = cb.getConnector(getMockConnection("Test.Connection"));
+
+            assertTrue(reusedConnector == firstConnector);
+            assertFalse(((ConnectorBase) reusedConnector).isActive());
+            assertTrue(connectorPool.getIdleConnectorCount(getMockConnection("Test.Connection")) == 0);
+
+            cb.disconnectConnector(reusedConnector);
+
+            Connector otherConnector = cb.getConnector(getMockConnection("Test.OtherConnection"));
+
+            assertFalse(otherConnector == firstConnector);
+
+            connectorPool.clear();
+
+            assertTrue(connectorPool.getIdleConnectorCount(getMockConnection("Test.Connection")) == 0);
+            assertTrue(connectorPool.toString().contains("ConnectorPool"));
+        }
+        catch (Exception error)
+        {
+            assertTrue(false);
+        }
+    }
+
+
+    /**
+     * Validate that a connector provider cached for one class loader is not used for another.
+     */
+    @Test public void testConnectorProviderCachedByClassLoader()
+    {
+        Thread      currentThread       = Thread.currentThread();
+        ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+
+        try
+        {
+            ConnectorBroker.clearConnectorProviderCache();
+
+            Connector firstConnector = new ConnectorBroker().getConnector(getMockConnection("Test.Connection"));
+
+            currentThread.setContextClassLoader(new ClassLoader(originalClassLoader) {});
+
+            Connector secondConnector = new ConnectorBroker().getConnector(getMockConnection("Test.Connection"));
+
+            currentThread.setContextClassLoader(null);
+
+            Connector thirdConnector = new ConnectorBroker().getConnector(getMockConnection("Test.Connection"));
+
+            assertTrue(firstConnector instanceof MockConnector);
+            assertTrue(secondConnector instanceof MockConnector);
+            assertTrue(thirdConnector instanceof MockConnector);
+        }
+        catch (Exception error)
+        {
+            assertTrue(false);
+        }
+        finally
+        {
+            currentThread.setContextClassLoader(originalClassLoader);
+            ConnectorBroker.clearConnectorProviderCache();
+        }
+    }
+
+
     /**
      *  Validate that 2 different objects with the same content have the same hash code.
      */
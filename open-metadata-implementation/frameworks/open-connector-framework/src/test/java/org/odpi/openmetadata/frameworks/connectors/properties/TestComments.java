@@ -118,6 +118,80 @@ public class TestComments
     }
 
 
+    /**
+     * Validate a combination of the paging iterate parameters works with this property iterator when
+     * read-ahead is turned on.
+     *
+     * @param totalElementCount number of elements available
+     * @param maxCacheSize size of cache
+     * @param prefetchDepth number of caches to retrieve in the background
+     */
+    private void  validatePrefetchingPropertyIterator(int    totalElementCount, int    maxCacheSize, int    prefetchDepth)
+    {
+        Comments iterator = getPropertyIterator(totalElementCount, maxCacheSize);
+
+        iterator.setPrefetchDepth(prefetchDepth);
+
+        int elementCount = 0;
+        while (iterator.hasNext())
+        {
+            assertTrue(iterator.next() != null);
+            elementCount ++;
+        }
+
+        assertTrue(elementCount == totalElementCount);
+    }
+
+
+    /**
+     * Test that read-ahead works through multiple caches.
+     */
+    @Test public void testPrefetchingIterator()
+    {
+        validatePrefetchingPropertyIterator(0, 10, 2);
+        validatePrefetchingPropertyIterator(10, 100, 2);
+        validatePrefetchingPropertyIterator(25, 10, 1);
+        validatePrefetchingPropertyIterator(30, 10, 2);
+        validatePrefetchingPropertyIterator(100, 7, 5);
+    }
+
+
+    /**
+     * Test that the iterator still returns every element if read-ahead is cancelled part way through.
+     */
+    @Test public void testCancelledPrefetchingIterator()
+    {
+        Comments propertyIterator = getPropertyIterator(50, 10);
+
+        propertyIterator.setPrefetchDepth(3);
+        assertTrue(propertyIterator.getPrefetchDepth() == 3);
+
+        int elementCount = 0;
+        while (elementCount < 15)
+        {
+            assertTrue(propertyIterator.next() != null);
+            elementCount ++;
+        }
+
+        propertyIterator.cancelPrefetch();
+
+        Comments propertyIteratorClone = new MockComments( propertyIterator);
+
+        assertTrue(propertyIteratorClone.getPrefetchDepth() == 3);
+
+        propertyIterator.setPrefetchDepth(0);
+        assertTrue(propertyIterator.getPrefetchDepth() == 0);
+
+        while (propertyIterator.hasNext())
+        {
+            assertTrue(propertyIterator.next() != null);
+            elementCount ++;
+        }
+
+        assertTrue(elementCount == 50);
+    }
+
+
     /**
      * Validate that element count is set.
      */
@@ -0,0 +1,211 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors.properties;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementBase;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * TestPagingIterator tests the read-ahead of caches by the paging iterator.
+ */
+public class TestPagingIterator
+{
+    /**
+     * MockPagedElements records the caches requested by the paging iterator and returns elements whose URL
+     * is their position in the full list.  Each retrieval takes a random time so that background retrievals
+     * complete out of order.
+     */
+    private static class MockPagedElements extends PropertyIteratorBase
+    {
+        private static final long     serialVersionUID = 1L;
+
+        private final List<Integer> requestedCaches = new CopyOnWriteArrayList<>();
+        private final Random        random          = new Random();
+
+
+        MockPagedElements(int totalElementCount,
+                          int maxCacheSize)
+        {
+            super(totalElementCount, maxCacheSize);
+        }
+
+
+        MockPagedElements(MockPagedElements template)
+        {
+            super(template);
+        }
+
+
+        ElementBase next()
+        {
+            return pagingIterator.next();
+        }
+
+
+        boolean hasNext()
+        {
+            return pagingIterator.hasNext();
+        }
+
+
+        @Override
+        protected ElementBase cloneElement(ElementBase template)
+        {
+            return new ElementBase(template);
+        }
+
+
+        @Override
+        protected List<ElementBase> getCachedList(int cacheStartPointer,
+                                                  int maximumSize)
+        {
+            requestedCaches.add(cacheStartPointer);
+
+            try
+            {
+                Thread.sleep(random.nextInt(20));
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            List<ElementBase> cache = new ArrayList<>();
+
+            for (int i = cacheStartPointer; (i < cacheStartPointer + maximumSize) && (i < getElementCount()); i++)
+            {
+                ElementBase element = new ElementBase();
+
+                element.setURL(Integer.toString(i));
+                cache.add(element);
+            }
+
+            return cache;
+        }
+    }
+
+
+    /**
+     * Step through the rest of the list checking that the elements are in order.
+     *
+     * @param iterator iterator to step through
+     * @param firstPosition position of the next element
+     * @return number of elements returned
+     */
+    private int validateOrder(MockPagedElements iterator,
+                              int               firstPosition)
+    {
+        int position = firstPosition;
+
+        while (iterator.hasNext())
+        {
+            assertEquals(iterator.next().getURL(), Integer.toString(position));
+            position ++;
+        }
+
+        return position - firstPosition;
+    }
+
+
+    /**
+     * Wait for the background retrievals to reach the expected number of requested caches.
+     *
+     * @param iterator iterator retrieving caches
+     * @param expectedCount number of caches expected
+     * @throws InterruptedException interrupted while waiting
+     */
+    private void waitForRequests(MockPagedElements iterator,
+                                 int               expectedCount) throws InterruptedException
+    {
+        for (int i = 0; (i < 100) && (iterator.requestedCaches.size() < expectedCount); i++)
+        {
+            Thread.sleep(10);
+        }
+
+        /*
+         * Give any unexpected requests a chance to arrive.
+         */
+        Thread.sleep(50);
+    }
+
+
+    /**
+     * Test that the elements are returned in order when the background retrievals complete out of order.
+     */
+    @Test public void testPrefetchOrdering()
+    {
+        for (int prefetchDepth = 1; prefetchDepth < 5; prefetchDepth++)
+        {
+            MockPagedElements iterator = new MockPagedElements(95, 10);
+
+            iterator.setPrefetchDepth(prefetchDepth);
+
+            assertEquals(validateOrder(iterator, 0), 95);
+            assertEquals(iterator.requestedCaches.size(), 10);
+        }
+    }
+
+
+    /**
+     * Test that no more than the prefetch depth of caches are requested ahead of the one being processed.
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    @Test public void testPrefetchDepth() throws InterruptedException
+    {
+        MockPagedElements iterator = new MockPagedElements(100, 10);
+
+        iterator.setPrefetchDepth(3);
+
+        iterator.next();
+        waitForRequests(iterator, 4);
+
+        assertEquals(iterator.requestedCaches.size(), 4);
+        assertTrue(iterator.requestedCaches.containsAll(List.of(0, 10, 20, 30)));
+
+        for (int i = 1; i <= 10; i++)
+        {
+            iterator.next();
+        }
+
+        waitForRequests(iterator, 5);
+
+        assertEquals(iterator.requestedCaches.size(), 5);
+        assertTrue(iterator.requestedCaches.contains(40));
+
+        assertEquals(validateOrder(iterator, 11), 89);
+        assertEquals(iterator.requestedCaches.size(), 10);
+    }
+
+
+    /**
+     * Test that a clone starts at the beginning of the list with the template's prefetch depth and its own
+     * read-ahead, while the template carries on from where it was.
+     */
+    @Test public void testClonedPrefetchingIterator()
+    {
+        MockPagedElements iterator = new MockPagedElements(50, 10);
+
+        iterator.setPrefetchDepth(2);
+
+        for (int i = 0; i < 15; i++)
+        {
+            iterator.next();
+        }
+
+        MockPagedElements iteratorClone = new MockPagedElements(iterator);
+
+        assertEquals(iteratorClone.getPrefetchDepth(), 2);
+        assertEquals(validateOrder(iteratorClone, 0), 50);
+        assertEquals(validateOrder(iterator, 15), 35);
+    }
+}
@@ -27,6 +27,7 @@ public class LineageVerticesAndEdges implements Serializable {
 
     private Set<LineageVertex> lineageVertices;
     private Set<LineageEdge> lineageEdges;
+    private boolean truncated;
 
     public LineageVerticesAndEdges(){}
 
@@ -51,11 +52,26 @@ public class LineageVerticesAndEdges implements Serializable {
         return lineageEdges;
     }
 
+    /**
+     * Return whether the traversal that produced this lineage stopped at its depth limit or node budget,
+     * in which case there is more lineage beyond the vertices returned.
+     *
+     * @return boolean
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
     @Override
     public String toString() {
         return "LineageVerticesAndEdges{" +
                 "lineageVertices=" + lineageVertices +
                 ", lineageEdges=" + lineageEdges +
+                ", truncated=" + truncated +
                 '}';
     }
 }
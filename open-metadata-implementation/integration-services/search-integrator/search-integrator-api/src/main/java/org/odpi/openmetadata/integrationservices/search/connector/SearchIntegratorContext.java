@@ -5,17 +5,30 @@ package org.odpi.openmetadata.integrationservices.search.connector;
 
 import org.odpi.openmetadata.accessservices.assetcatalog.eventclient.AssetCatalogEventClient;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
 import org.odpi.openmetadata.frameworks.governanceaction.client.OpenMetadataClient;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
+import org.odpi.openmetadata.frameworks.governanceaction.search.PropertyHelper;
 import org.odpi.openmetadata.frameworks.integration.client.OpenIntegrationClient;
 import org.odpi.openmetadata.frameworks.integration.context.IntegrationContext;
 import org.odpi.openmetadata.frameworks.integration.contextmanager.PermittedSynchronization;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
 /**
  * SearchIntegratorContext provides a wrapper around the Asset Catalog OMAS client.
  * It provides the simplified interface to open metadata needed by the SearchIntegratorConnector.
  */
 public class SearchIntegratorContext extends IntegrationContext
 {
+    private static final String assetTypeName = "Asset";
+
+    private final PropertyHelper propertyHelper = new PropertyHelper();
     private final String integrationServiceName;
     private final AuditLog auditLog;
     private final AssetCatalogEventClient eventClient;
@@ -71,4 +84,67 @@ public class SearchIntegratorContext extends IntegrationContext
         this.auditLog = auditLog;
         this.eventClient = assetCatalogEventClient;
     }
+
+
+    /**
+     * Return a page of the assets in the catalog.  This is used by connectors that need to rebuild their
+     * search index from scratch rather than wait for asset catalog events.  Only the properties of the asset
+     * entity itself are returned.
+     *
+     * @param startFrom starting element (used in paging through large result sets)
+     * @param pageSize maximum number of results to return
+     * @return list of assets or null if there are no more assets
+     * @throws InvalidParameterException the paging parameters are invalid
+     * @throws UserNotAuthorizedException the connector's userId is not permitted to retrieve the assets
+     * @throws PropertyServerException there is a problem accessing the metadata server
+     */
+    public List<Asset> getAssets(int startFrom,
+                                 int pageSize) throws InvalidParameterException,
+                                                      UserNotAuthorizedException,
+                                                      PropertyServerException
+    {
+        final String methodName = "getAssets";
+
+        List<OpenMetadataElement> elements = openMetadataStoreClient.findMetadataElements(userId,
+                                                                                          assetTypeName,
+                                                                                          null,
+                                                                                          null,
+                                                                                          null,
+                                                                                          null,
+                                                                                          null,
+                                                                                          null,
+                                                                                          false,
+                                                                                          false,
+                                                                                          new Date(),
+                                                                                          startFrom,
+                                                                                          pageSize);
+
+        if (elements == null)
+        {
+            return null;
+        }
+
+        List<Asset> assets = new ArrayList<>();
+
+        for (OpenMetadataElement element : elements)
+        {
+            if (element != null)
+            {
+                Asset asset = new Asset();
+
+                asset.setGUID(element.getElementGUID());
+                asset.setType(element.getType());
+                asset.setQualifiedName(propertyHelper.getStringProperty(integrationServiceName, "qualifiedName", element.getElementProperties(), methodName));
+                asset.setName(propertyHelper.getStringProperty(integrationServiceName, "name", element.getElementProperties(), methodName));
+                asset.setDisplayName(propertyHelper.getStringProperty(integrationServiceName, "displayName", element.getElementProperties(), methodName));
+                asset.setVersionIdentifier(propertyHelper.getStringProperty(integrationServiceName, "versionIdentifier", element.getElementProperties(), methodName));
+                asset.setDescription(propertyHelper.getStringProperty(integrationServiceName, "description", element.getElementProperties(), methodName));
+                asset.setAdditionalProperties(propertyHelper.getStringMapFromProperty(integrationServiceName, "additionalProperties", element.getElementProperties(), methodName));
+
+                assets.add(asset);
+            }
+        }
+
+        return assets;
+    }
 }
@@ -0,0 +1,91 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.platformservices.server;
+
+import org.odpi.openmetadata.adminservices.configuration.registration.CommonServicesDescription;
+import org.odpi.openmetadata.commonservices.ffdc.RESTCallLogger;
+import org.odpi.openmetadata.commonservices.ffdc.RESTCallToken;
+import org.odpi.openmetadata.commonservices.ffdc.exceptions.UserNotAuthorizedException;
+import org.odpi.openmetadata.commonservices.multitenant.OMAGServerPlatformInstanceMap;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsRegistry;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * OMAGServerPlatformMetricsServices returns the metrics gathered by the services running on this platform
+ * in the Prometheus text exposition format.  The metrics for all servers are returned together - each metric
+ * that relates to a particular server carries the server's name as a label.
+ * <p>
+ * The platform adds gauges for the JVM and for the common fork-join pool.  The common pool runs the
+ * OMRS topic's inbound listeners and outbound event sends, so its queue shows when event processing is
+ * falling behind.
+ */
+public class OMAGServerPlatformMetricsServices
+{
+    private static final RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(OMAGServerPlatformMetricsServices.class),
+                                                                            CommonServicesDescription.PLATFORM_SERVICES.getServiceName());
+
+    private final String serverName = "<null>";
+
+    static
+    {
+        MetricsRegistry metricsRegistry = MetricsRegistry.getPlatformRegistry();
+        ForkJoinPool    commonPool      = ForkJoinPool.commonPool();
+        Runtime         runtime         = Runtime.getRuntime();
+
+        metricsRegistry.registerGauge("jvm_common_pool_active_threads",
+                                      "Number of threads in the common fork-join pool that are running tasks.",
+                                      commonPool::getActiveThreadCount);
+        metricsRegistry.registerGauge("jvm_common_pool_queued_tasks",
+                                      "Number of tasks waiting to run in the common fork-join pool.",
+                                      () -> commonPool.getQueuedSubmissionCount() + commonPool.getQueuedTaskCount());
+        metricsRegistry.registerGauge("jvm_common_pool_parallelism",
+                                      "Target number of threads in the common fork-join pool.",
+                                      commonPool::getParallelism);
+        metricsRegistry.registerGauge("jvm_memory_heap_used_bytes",
+                                      "Heap memory in use.",
+                                      () -> runtime.totalMemory() - runtime.freeMemory());
+        metricsRegistry.registerGauge("jvm_memory_heap_max_bytes",
+                                      "Maximum heap memory that the JVM will use.",
+                                      runtime::maxMemory);
+        metricsRegistry.registerGauge("jvm_threads_live",
+                                      "Number of live threads in the JVM.",
+                                      () -> ManagementFactory.getThreadMXBean().getThreadCount());
+    }
+
+
+    /**
+     * Return the current values of the platform's metrics.
+     *
+     * @param userId calling user
+     * @return metrics in the Prometheus text format or null if the user is not authorized to investigate the platform
+     */
+    public String getPlatformMetrics(String userId)
+    {
+        final String methodName = "getPlatformMetrics";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        String response = null;
+
+        try
+        {
+            OMAGServerPlatformInstanceMap.validateUserAsInvestigatorForPlatform(userId);
+
+            response = MetricsRegistry.getPlatformRegistry().getPrometheusText();
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            restCallLogger.logRESTCallReturn(token, error.getReportedErrorMessage());
+
+            return null;
+        }
+
+        restCallLogger.logRESTCallReturn(token, "metrics returned");
+
+        return response;
+    }
+}
@@ -0,0 +1,63 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.platformservices.server.spring;
+
+import io.swagger.v3.oas.annotations.ExternalDocumentation;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.odpi.openmetadata.platformservices.server.OMAGServerPlatformMetricsServices;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+
+/**
+ * ServerPlatformMetricsResource provides the Spring wrapper for the service that returns the metrics gathered
+ * on this server platform in a format that can be scraped by Prometheus.
+ */
+@RestController
+@RequestMapping("/open-metadata/platform-services/users/{userId}")
+
+@Tag(name="Platform Services",
+        description="The platform services provides the APIs for querying the Open Metadata and Governance (OMAG) Server Platform and discovering information about the OMAG Servers that it is hosting.",
+        externalDocs=@ExternalDocumentation(description="Platform Services",url="https://egeria-project.org/services/platform-services/overview"))
+
+public class ServerPlatformMetricsResource
+{
+    private final OMAGServerPlatformMetricsServices metricsAPI = new OMAGServerPlatformMetricsServices();
+
+
+    /**
+     * Return the metrics gathered on this server platform.
+     *
+     * @param userId name of the user making the request
+     * @return metrics in the Prometheus text format, or a forbidden status if the user may not investigate the platform
+     */
+    @GetMapping(path = "/server-platform/metrics", produces = "text/plain; version=0.0.4; charset=utf-8")
+
+    @Operation( summary = "Get the metrics for this OMAG Server Platform",
+            description="Retrieve the counters, gauges and timers recorded by the services running on this platform in the Prometheus text format",
+            responses = {
+                    @ApiResponse(responseCode = "200",description="metrics",
+                            content = @Content(mediaType ="text/plain")),
+                    @ApiResponse(responseCode = "403",description="user not authorized to investigate the platform")
+            })
+
+    public ResponseEntity<String> getPlatformMetrics(@Parameter(description="calling user") @PathVariable String   userId)
+    {
+        String metrics = metricsAPI.getPlatformMetrics(userId);
+
+        if (metrics == null)
+        {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return ResponseEntity.ok(metrics);
+    }
+}
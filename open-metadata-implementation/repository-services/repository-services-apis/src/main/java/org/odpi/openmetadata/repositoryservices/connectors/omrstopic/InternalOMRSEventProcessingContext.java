@@ -81,6 +81,17 @@ public class InternalOMRSEventProcessingContext
         return instance;
     }
     
+    /**
+     * Sets the {@link InternalOMRSEventProcessingContext} of the current thread so that listeners
+     * running on another thread record their results with the thread that received the event.
+     *
+     * @param instance context of the thread that received the event
+     */
+    static void setInstance(InternalOMRSEventProcessingContext instance)
+    {
+        INSTANCE.set(instance);
+    }
+
     /**
      * Clears the {@link InternalOMRSEventProcessingContext} for the
      * current thread.
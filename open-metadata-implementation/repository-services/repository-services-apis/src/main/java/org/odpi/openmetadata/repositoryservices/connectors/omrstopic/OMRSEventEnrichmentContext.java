@@ -0,0 +1,299 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * OMRSEventEnrichmentContext is a short-lived memo of the repository reads made while one OMRS event is
+ * passed to the listeners registered with an OMRSTopicConnector.  Each access service listener typically
+ * retrieves the entity named in the event, works out its anchor and walks some of its relationships.  When many
+ * access services are active these reads are identical, so the first listener to need a value retrieves it and
+ * the other listeners share the result - including any exception it produced.
+ *
+ * The OMRSTopicConnector creates a new context for each event and makes it the current context of the
+ * threads it owns while they deliver the event to a listener.  Handlers look up the current context with
+ * getCurrentContext() and fall back to reading the repository directly when there is none.  The values held are
+ * not security decisions: they are the raw results of the repository calls for a specific user and set of
+ * request options, so zone and access checks are still made by each listener.  Handlers that update the
+ * repository while an event is processed remove the values affected by the update so that later listeners
+ * read the new values.
+ */
+public class OMRSEventEnrichmentContext
+{
+    private static final ThreadLocal<OMRSEventEnrichmentContext> currentContext = new ThreadLocal<>();
+
+    private static final String ENTITY_VALUE        = "entity";
+    private static final String ANCHOR_VALUE        = "anchor";
+    private static final String RELATIONSHIPS_VALUE = "relationships";
+    private static final String KEY_SEPARATOR       = "\n";
+
+    private final Map<String, CompletableFuture<Object>> resolvedValues = new ConcurrentHashMap<>();
+
+
+    /**
+     * Retrieves a value from the repository.  Any exception is rethrown to every caller asking for the same value.
+     *
+     * @param <T> type of value
+     */
+    @FunctionalInterface
+    public interface Resolver<T>
+    {
+        /**
+         * Retrieve the value.
+         *
+         * @return value (may be null)
+         * @throws Exception problem retrieving the value
+         */
+        T resolve() throws Exception;
+    }
+
+
+    /**
+     * Return the context for the event currently being processed on this thread.
+     *
+     * @return context or null if this thread is not processing an OMRS event
+     */
+    public static OMRSEventEnrichmentContext getCurrentContext()
+    {
+        return currentContext.get();
+    }
+
+
+    /**
+     * Set up the context for the event being processed on this thread.
+     *
+     * @param context context for the event, or null to clear the context
+     * @return context that was previously set on this thread so that it can be restored
+     */
+    static OMRSEventEnrichmentContext setCurrentContext(OMRSEventEnrichmentContext context)
+    {
+        OMRSEventEnrichmentContext previousContext = currentContext.get();
+
+        if (context == null)
+        {
+            currentContext.remove();
+        }
+        else
+        {
+            currentContext.set(context);
+        }
+
+        return previousContext;
+    }
+
+
+    /**
+     * Return the entity with the requested unique identifier, retrieving it just once for this event.
+     *
+     * @param userId user making the retrieval
+     * @param guid unique identifier of the entity
+     * @param resolver retrieves the entity from the repository
+     * @return entity
+     * @throws Exception exception from the resolver
+     */
+    public EntityDetail getEntityDetail(String                 userId,
+                                        String                 guid,
+                                        Resolver<EntityDetail> resolver) throws Exception
+    {
+        return this.resolve(this.getKey(ENTITY_VALUE, guid, userId), resolver);
+    }
+
+
+    /**
+     * Return the anchor of an entity, deriving it just once for this event.
+     *
+     * @param userId user making the retrievals
+     * @param guid unique identifier of the anchored entity
+     * @param forLineage the request is to support lineage retrieval
+     * @param forDuplicateProcessing the request is for duplicate processing
+     * @param effectiveTime the time that the retrieved elements must be effective for
+     * @param resolver works out the anchor's unique identifier
+     * @return unique identifier of the anchor or null if the entity has no anchor
+     * @throws Exception exception from the resolver
+     */
+    public String getAnchorGUID(String           userId,
+                                String           guid,
+                                boolean          forLineage,
+                                boolean          forDuplicateProcessing,
+                                Date             effectiveTime,
+                                Resolver<String> resolver) throws Exception
+    {
+        return this.resolve(this.getKey(ANCHOR_VALUE, guid, userId, forLineage, forDuplicateProcessing, effectiveTime), resolver);
+    }
+
+
+    /**
+     * Return a page of relationships linked to an entity, retrieving it just once for this event.
+     *
+     * @param userId user making the retrieval
+     * @param guid unique identifier of the entity
+     * @param relationshipTypeGUID type of relationship or null for all types
+     * @param sequencingPropertyName property used to sequence the results
+     * @param sequencingOrder order of the results
+     * @param startingFrom initial position in the results
+     * @param pageSize maximum number of relationships
+     * @param resolver retrieves the relationships from the repository
+     * @return list of relationships
+     * @throws Exception exception from the resolver
+     */
+    public List<Relationship> getRelationshipsForEntity(String                       userId,
+                                                        String                       guid,
+                                                        String                       relationshipTypeGUID,
+                                                        String                       sequencingPropertyName,
+                                                        SequencingOrder              sequencingOrder,
+                                                        int                          startingFrom,
+                                                        int                          pageSize,
+                                                        Resolver<List<Relationship>> resolver) throws Exception
+    {
+        return this.resolve(this.getKey(RELATIONSHIPS_VALUE, guid, userId, relationshipTypeGUID,
+                                        sequencingPropertyName, sequencingOrder, startingFrom, pageSize),
+                            resolver);
+    }
+
+
+    /**
+     * Remove the values affected by an update to an entity: the entity itself, its relationships and its anchor.
+     *
+     * @param guid unique identifier of the updated entity
+     */
+    public void invalidateEntity(String guid)
+    {
+        resolvedValues.keySet().removeIf((key) -> guid.equals(this.getGUID(key)));
+    }
+
+
+    /**
+     * Remove the values affected by an update to a relationship: the relationships of its ends and every anchor,
+     * since a new or removed relationship may change the anchor of any entity linked to its ends.
+     *
+     * @param entityGUIDs unique identifiers of the relationship's ends, or none if they are not known
+     */
+    public void invalidateRelationships(String... entityGUIDs)
+    {
+        List<String> guids = Arrays.asList(entityGUIDs);
+
+        resolvedValues.keySet().removeIf((key) -> key.startsWith(ANCHOR_VALUE + KEY_SEPARATOR) ||
+                                                 (key.startsWith(RELATIONSHIPS_VALUE + KEY_SEPARATOR) &&
+                                                          (guids.isEmpty() || guids.contains(this.getGUID(key)))));
+    }
+
+
+    /**
+     * Return the number of values held in the context.
+     *
+     * @return count
+     */
+    public int size()
+    {
+        return resolvedValues.size();
+    }
+
+
+    /**
+     * Build the key of a value from every parameter that affects the repository calls that retrieve it.
+     *
+     * @param valueName kind of value
+     * @param guid unique identifier of the entity that the value describes
+     * @param parameters other parameters of the retrieval
+     * @return key
+     */
+    private String getKey(String    valueName,
+                          String    guid,
+                          Object... parameters)
+    {
+        StringBuilder key = new StringBuilder(valueName).append(KEY_SEPARATOR).append(guid);
+
+        for (Object parameter : parameters)
+        {
+            key.append(KEY_SEPARATOR).append(parameter instanceof Date ? ((Date) parameter).getTime() : parameter);
+        }
+
+        return key.toString();
+    }
+
+
+    /**
+     * Return the unique identifier of the entity that the value with this key describes.
+     *
+     * @param key key of a value
+     * @return unique identifier
+     */
+    private String getGUID(String key)
+    {
+        String[] keyParts = key.split(KEY_SEPARATOR, 3);
+
+        return keyParts.length > 1 ? keyParts[1] : null;
+    }
+
+
+    /**
+     * Return the memoised value for the key.  The first caller runs the resolver; concurrent callers for the
+     * same key wait for it to complete.
+     *
+     * @param key identity of the value
+     * @param resolver retrieves the value
+     * @param <T> type of value
+     * @return value
+     * @throws Exception exception from the resolver
+     */
+    @SuppressWarnings(value = "unchecked")
+    private <T> T resolve(String      key,
+                          Resolver<T> resolver) throws Exception
+    {
+        CompletableFuture<Object> newValue      = new CompletableFuture<>();
+        CompletableFuture<Object> existingValue = resolvedValues.putIfAbsent(key, newValue);
+
+        if (existingValue == null)
+        {
+            try
+            {
+                T value = resolver.resolve();
+
+                newValue.complete(value);
+
+                return value;
+            }
+            catch (Exception error)
+            {
+                newValue.completeExceptionally(error);
+
+                throw error;
+            }
+            catch (Throwable error)
+            {
+                /*
+                 * Errors are not remembered so that a later listener has a chance to retrieve the value.
+                 */
+                resolvedValues.remove(key, newValue);
+                newValue.completeExceptionally(error);
+
+                throw error;
+            }
+        }
+
+        try
+        {
+            return (T) existingValue.get();
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof Exception)
+            {
+                throw (Exception) error.getCause();
+            }
+
+            throw error;
+        }
+    }
+}
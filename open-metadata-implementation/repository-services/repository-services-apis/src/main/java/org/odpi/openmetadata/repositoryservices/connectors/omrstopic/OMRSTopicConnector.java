@@ -8,6 +8,8 @@ import com.fasterxml.jackson.databind.ObjectWriter;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.auditlog.ComponentDescription;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsRegistry;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsTimer;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 import org.odpi.openmetadata.frameworks.connectors.VirtualConnectorExtension;
@@ -31,6 +33,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -72,7 +81,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
     private List<Connector> embeddedConnectors = null;
 
-    private final List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
+    private final List<OMRSTopicListener>          internalTopicListeners = new CopyOnWriteArrayList<>();
     private final List<OpenMetadataTopicConnector> eventBusConnectors     = new ArrayList<>();
 
     private String                    connectionName       = OMRSAuditingComponent.OMRS_TOPIC_CONNECTOR.getComponentName();
@@ -81,6 +90,8 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
     protected AuditLog auditLog = null;
 
+    private ExecutorService listenerExecutor = null;
+
 
     /**
      * Default constructor
@@ -458,14 +469,27 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
                     eventBusConnector.sendEvent(eventString);
                 }
             }
+
+            MetricsRegistry.getPlatformRegistry().getCounter("omrs_topic_events_sent_total",
+                                                             "Number of events sent to the OMRS topic.",
+                                                             "topic", topicName,
+                                                             "category", this.getCategoryName(event)).increment();
         }
         catch (ConnectorCheckedException exc)
         {
+            MetricsRegistry.getPlatformRegistry().getCounter("omrs_topic_send_errors_total",
+                                                             "Number of events that could not be sent to the OMRS topic.",
+                                                             "topic", topicName).increment();
+
             log.debug("Unable to send event: " + exc.getMessage());
             throw new CompletionException(exc);
         }
         catch (Exception exc)
         {
+            MetricsRegistry.getPlatformRegistry().getCounter("omrs_topic_send_errors_total",
+                                                             "Number of events that could not be sent to the OMRS topic.",
+                                                             "topic", topicName).increment();
+
             log.debug("Unexpected error sending event: " + exc.getMessage());
             throw new CompletionException(exc);
         }
@@ -498,6 +522,10 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             }
             catch (Exception   exception)
             {
+                MetricsRegistry.getPlatformRegistry().getCounter("omrs_topic_event_parsing_errors_total",
+                                                                 "Number of events received from the OMRS topic that could not be parsed.",
+                                                                 "topic", topicName).increment();
+
                 if (auditLog != null)
                 {
                     auditLog.logException(actionDescription,
@@ -513,27 +541,55 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             if (eventBean instanceof OMRSEventV1)
             {
                 OMRSEventBean finalEventBean = eventBean;
-                internalTopicListeners.parallelStream().forEach((topicListener) ->
+                String        categoryName   = this.getCategoryName((OMRSEventV1) eventBean);
+                MetricsTimer  eventTimer     = MetricsRegistry.getPlatformRegistry().getTimer("omrs_topic_event_processing_seconds",
+                                                                                              "Time taken by the registered listeners to process an event received from the OMRS topic.",
+                                                                                              "topic", topicName,
+                                                                                              "category", categoryName);
+                long          startTime      = System.nanoTime();
+
+                /*
+                 * All listeners share one enrichment context so that the repository reads they make while
+                 * processing this event are only made once.  The listeners run on threads owned by this connector
+                 * so that the context is never visible to unrelated work.
+                 */
+                OMRSEventEnrichmentContext         enrichmentContext = new OMRSEventEnrichmentContext();
+                InternalOMRSEventProcessingContext processingContext = InternalOMRSEventProcessingContext.getInstance();
+                List<Future<?>>                    deliveries        = new ArrayList<>();
+
+                for (OMRSTopicListener topicListener : internalTopicListeners)
                 {
                     try
                     {
-                        this.processOMRSEvent((OMRSEventV1) finalEventBean, topicListener);
+                        deliveries.add(this.getListenerExecutor().submit(() -> this.deliverEvent(event,
+                                                                                                 (OMRSEventV1) finalEventBean,
+                                                                                                 topicListener,
+                                                                                                 enrichmentContext,
+                                                                                                 processingContext)));
                     }
-                    catch (Throwable  error)
+                    catch (RejectedExecutionException error)
                     {
-                        log.debug("Unable to pass event to one of the topic listeners");
+                        log.debug("Event not passed to topic listener " + topicListener + " because the connector is disconnected");
+                    }
+                }
 
-                        if (auditLog != null)
-                        {
-                            auditLog.logException(methodName,
-                                                  OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
-                                                                                                            error.toString(),
-                                                                                                            topicListener.toString()),
-                                                  event,
-                                                  error);
-                        }
+                try
+                {
+                    for (Future<?> delivery : deliveries)
+                    {
+                        delivery.get();
                     }
-                });
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                catch (ExecutionException error)
+                {
+                    log.debug("Unexpected error from event delivery: " + error.getMessage());
+                }
+
+                eventTimer.recordSince(startTime);
             }
         }
         else
@@ -548,6 +604,98 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Pass an event to one of the registered listeners.  This runs on one of the connector's listener threads.
+     *
+     * @param event inbound event
+     * @param eventBean parsed event
+     * @param topicListener listener to call
+     * @param enrichmentContext repository reads shared by the listeners processing this event
+     * @param processingContext asynchronous processing context of the thread that received the event
+     */
+    private void deliverEvent(String                             event,
+                              OMRSEventV1                        eventBean,
+                              OMRSTopicListener                  topicListener,
+                              OMRSEventEnrichmentContext         enrichmentContext,
+                              InternalOMRSEventProcessingContext processingContext)
+    {
+        final String methodName = "processEvent";
+
+        OMRSEventEnrichmentContext.setCurrentContext(enrichmentContext);
+        InternalOMRSEventProcessingContext.setInstance(processingContext);
+
+        try
+        {
+            this.processOMRSEvent(eventBean, topicListener);
+        }
+        catch (Throwable  error)
+        {
+            MetricsRegistry.getPlatformRegistry().getCounter("omrs_topic_listener_errors_total",
+                                                             "Number of times a listener failed to process an event received from the OMRS topic.",
+                                                             "topic", topicName).increment();
+
+            log.debug("Unable to pass event to one of the topic listeners");
+
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
+                                                                                                error.toString(),
+                                                                                                topicListener.toString()),
+                                      event,
+                                      error);
+            }
+        }
+        finally
+        {
+            OMRSEventEnrichmentContext.setCurrentContext(null);
+            InternalOMRSEventProcessingContext.clear();
+        }
+    }
+
+
+    /**
+     * Return the thread pool that passes inbound events to the registered listeners, creating it on first use.
+     *
+     * @return executor service
+     */
+    private synchronized ExecutorService getListenerExecutor()
+    {
+        if (listenerExecutor == null)
+        {
+            AtomicInteger threadNumber = new AtomicInteger();
+
+            listenerExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), (runnable) ->
+            {
+                Thread thread = new Thread(runnable, "OMRSTopicListener-" + topicName + "-" + threadNumber.incrementAndGet());
+
+                thread.setDaemon(true);
+
+                return thread;
+            });
+        }
+
+        return listenerExecutor;
+    }
+
+
+    /**
+     * Return the name of the event's category for use as a metrics label.
+     *
+     * @param event event to categorize
+     * @return category name
+     */
+    private String getCategoryName(OMRSEventV1 event)
+    {
+        if (event.getEventCategory() == null)
+        {
+            return "Unknown";
+        }
+
+        return event.getEventCategory().getName();
+    }
+
+
     /**
      * Process the OMRS Event bean.  The processing is careful of nulls and ignores an event
      * that is incorrectly formatted.  The assumption is that the unformatted part of the message
@@ -630,6 +778,15 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             eventBusConnector.disconnect();
         }
 
+        synchronized (this)
+        {
+            if (listenerExecutor != null)
+            {
+                listenerExecutor.shutdown();
+                listenerExecutor = null;
+            }
+        }
+
         if (auditLog != null)
         {
             auditLog.logMessage(actionDescription,
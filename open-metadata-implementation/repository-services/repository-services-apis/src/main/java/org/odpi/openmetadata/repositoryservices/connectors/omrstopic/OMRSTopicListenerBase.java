@@ -77,6 +77,18 @@ public class OMRSTopicListenerBase implements OMRSTopicListener
     }
 
 
+    /**
+     * Return the enrichment context shared by all the listeners processing the current event.  It holds the
+     * entities, anchors and relationships already retrieved by other listeners for this event.
+     *
+     * @return context or null if no event is being processed on this thread
+     */
+    protected OMRSEventEnrichmentContext getEventEnrichmentContext()
+    {
+        return OMRSEventEnrichmentContext.getCurrentContext();
+    }
+
+
     /**
      * A new entity has been created.
      *
@@ -2,8 +2,11 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Future;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -25,6 +28,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSInstanceGraphDigestUtilities;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
@@ -835,6 +839,70 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                          UserNotAuthorizedException;
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  This is used by callers
+     * that need to retrieve a number of entities at once (such as the entities at the far end of a page of
+     * relationships) and avoids a separate request for each entity.
+     *
+     * Repositories that can retrieve a number of entities in a single operation should override this method.  The default
+     * implementation calls getEntityDetail for each unique identifier.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of the entities that were found, in the order they were requested; entities that are not known,
+     * are only proxies or are soft-deleted are omitted.  Null means none of the entities were found.
+     * @throws InvalidParameterException the list of guids is null or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getEntityDetails";
+        final String  guidsParameterName = "guids";
+
+        if (guids == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NO_GUID.getMessageDefinition(guidsParameterName,
+                                                                                          methodName,
+                                                                                          repositoryName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                guidsParameterName);
+        }
+
+        List<EntityDetail> results = new ArrayList<>();
+        Set<String>        retrievedGUIDs = new HashSet<>();
+
+        for (String guid : guids)
+        {
+            if (retrievedGUIDs.add(guid))
+            {
+                try
+                {
+                    results.add(this.getEntityDetail(userId, guid));
+                }
+                catch (EntityNotKnownException | EntityProxyOnlyException error)
+                {
+                    /*
+                     * The entity is omitted from the results.
+                     */
+                }
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
     /**
      * Return a historical version of an entity.  Thi includes the header, classifications and properties of the entity.
      *
@@ -1166,6 +1234,70 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                           UserNotAuthorizedException;
 
 
+    /**
+     * Return the entities whose string property exactly matches the supplied value.  This is intended for
+     * properties that are declared as unique in their type (such as qualifiedName) where the caller is resolving
+     * a single element.  More than one entity may be returned because uniqueness is not enforced across
+     * types or metadata collections.
+     *
+     * Repositories that maintain an index over these properties should override this method.  The default
+     * implementation runs an exact-match property search through findEntitiesByProperty.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the property to match.
+     * @param propertyValue value of the property (this is a literal value rather than a regular expression).
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @return a list of entities matching the supplied value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for the requested type of entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> findEntitiesByUniquePropertyValue(String               userId,
+                                                                String               entityTypeGUID,
+                                                                String               propertyName,
+                                                                String               propertyValue,
+                                                                List<InstanceStatus> limitResultsByStatus,
+                                                                Date                 asOfTime) throws InvalidParameterException,
+                                                                                                      TypeErrorException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      PropertyErrorException,
+                                                                                                      PagingErrorException,
+                                                                                                      FunctionNotSupportedException,
+                                                                                                      UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesByUniquePropertyValue";
+
+        InstanceProperties matchProperties = repositoryHelper.addStringPropertyToInstance(repositoryName,
+                                                                                          null,
+                                                                                          propertyName,
+                                                                                          repositoryHelper.getExactMatchRegex(propertyValue),
+                                                                                          methodName);
+
+        return this.findEntitiesByProperty(userId,
+                                           entityTypeGUID,
+                                           matchProperties,
+                                           MatchCriteria.ALL,
+                                           0,
+                                           limitResultsByStatus,
+                                           null,
+                                           asOfTime,
+                                           null,
+                                           null,
+                                           0);
+    }
+
+
     /**
      * Returns a relationship indicating if the relationship is stored in the metadata collection.
      * Notice that relationships in DELETED state are returned by this call.
@@ -1501,6 +1633,79 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                            UserNotAuthorizedException;
 
 
+    /**
+     * Return a digest of the entities and relationships that radiate out from the supplied entity GUID.
+     * This is used by callers that need to explore a number of hops out from an entity (such as a graph
+     * explorer) and avoids a separate neighborhood request for each hop.  The size of the result is limited
+     * both by the level and by a budget of entities, with the entities closest to the starting entity
+     * returned first.  Each instance is reduced to its header, the names of its classifications and the
+     * requested properties.
+     *
+     * Repositories that can build the digest natively should override this method.  The default
+     * implementation calls getEntityNeighborhood and then bounds and reduces the result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param maxEntities the maximum number of entities to return (including the starting entity).  Zero or less
+     *                    means no limit.
+     * @param digestPropertyNames names of the properties to return for each instance.  Null means return the
+     *                            full instances.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException one of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getEntityNeighborhoodDigest(String               userId,
+                                                     String               entityGUID,
+                                                     List<String>         entityTypeGUIDs,
+                                                     List<String>         relationshipTypeGUIDs,
+                                                     List<InstanceStatus> limitResultsByStatus,
+                                                     List<String>         limitResultsByClassification,
+                                                     Date                 asOfTime,
+                                                     int                  level,
+                                                     int                  maxEntities,
+                                                     List<String>         digestPropertyNames) throws InvalidParameterException,
+                                                                                                      TypeErrorException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      EntityNotKnownException,
+                                                                                                      PropertyErrorException,
+                                                                                                      FunctionNotSupportedException,
+                                                                                                      UserNotAuthorizedException
+    {
+        InstanceGraph neighborhood = this.getEntityNeighborhood(userId,
+                                                                entityGUID,
+                                                                entityTypeGUIDs,
+                                                                relationshipTypeGUIDs,
+                                                                limitResultsByStatus,
+                                                                limitResultsByClassification,
+                                                                asOfTime,
+                                                                level);
+
+        return OMRSInstanceGraphDigestUtilities.getGraphDigest(OMRSInstanceGraphDigestUtilities.getBoundedGraph(entityGUID,
+                                                                                                                neighborhood,
+                                                                                                                maxEntities),
+                                                               digestPropertyNames);
+    }
+
+
     /**
      * Return the list of entities that are of the types listed in entityTypeGUIDs and are connected, either directly or
      * indirectly to the entity identified by startEntityGUID.
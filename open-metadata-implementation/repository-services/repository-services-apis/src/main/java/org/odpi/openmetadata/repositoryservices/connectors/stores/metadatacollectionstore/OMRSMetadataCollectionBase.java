@@ -1814,6 +1814,44 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate the parameters for a retrieve of a list of entities.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @throws InvalidParameterException the list of guids is null or contains a null guid
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     */
+    protected  void getEntityDetailsParameterValidation(String       userId,
+                                                        List<String> guids) throws InvalidParameterException,
+                                                                                   RepositoryErrorException
+    {
+        final String  methodName = "getEntityDetails";
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+
+        if (guids == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NO_GUID.getMessageDefinition(guidsParameterName,
+                                                                                          methodName,
+                                                                                          repositoryName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                guidsParameterName);
+        }
+
+        for (String guid : guids)
+        {
+            repositoryValidator.validateGUID(repositoryName, guidsParameterName, guid, methodName);
+        }
+    }
+
+
     /**
      * Validate the parameters for a retrieve of a historical version of an instance.
      *
@@ -2228,6 +2266,49 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate parameters passed to findEntitiesByUniquePropertyValue.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the property to match.
+     * @param propertyValue literal value of the property.
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @SuppressWarnings(value = "unused")
+    protected void findEntitiesByUniquePropertyValueParameterValidation(String               userId,
+                                                                        String               entityTypeGUID,
+                                                                        String               propertyName,
+                                                                        String               propertyValue,
+                                                                        List<InstanceStatus> limitResultsByStatus,
+                                                                        Date                 asOfTime) throws InvalidParameterException,
+                                                                                                              TypeErrorException,
+                                                                                                              RepositoryErrorException,
+                                                                                                              UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesByUniquePropertyValue";
+        final String  propertyNameParameterName = "propertyName";
+        final String  propertyValueParameterName = "propertyValue";
+        final String  typeGUIDParameter = "entityTypeGUID";
+        final String  asOfTimeParameter = "asOfTime";
+
+        super.basicRequestValidation(userId, methodName);
+        repositoryValidator.validateSearchCriteria(repositoryName, propertyNameParameterName, propertyName, methodName);
+        repositoryValidator.validateSearchCriteria(repositoryName, propertyValueParameterName, propertyValue, methodName);
+        repositoryValidator.validateOptionalTypeGUID(repositoryName, typeGUIDParameter, entityTypeGUID, methodName);
+        repositoryValidator.validateAsOfTime(repositoryName, asOfTimeParameter, asOfTime, methodName);
+    }
+
+
     /**
      * Validate the parameters passed to findRelationships.
      *
@@ -2516,6 +2597,65 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate the parameters passed to getEntityNeighborhoodDigest.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param maxEntities the maximum number of entities to return.  Zero or less means no limit.
+     * @param digestPropertyNames names of the properties to return for each instance.  Null means return the
+     *                            full instances.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @SuppressWarnings(value = "unused")
+    protected void getEntityNeighborhoodDigestParameterValidation(String               userId,
+                                                                  String               entityGUID,
+                                                                  List<String>         entityTypeGUIDs,
+                                                                  List<String>         relationshipTypeGUIDs,
+                                                                  List<InstanceStatus> limitResultsByStatus,
+                                                                  List<String>         limitResultsByClassification,
+                                                                  Date                 asOfTime,
+                                                                  int                  level,
+                                                                  int                  maxEntities,
+                                                                  List<String>         digestPropertyNames) throws InvalidParameterException,
+                                                                                                                   TypeErrorException,
+                                                                                                                   RepositoryErrorException,
+                                                                                                                   EntityNotKnownException,
+                                                                                                                   PropertyErrorException,
+                                                                                                                   FunctionNotSupportedException,
+                                                                                                                   UserNotAuthorizedException
+    {
+        this.getEntityNeighborhoodParameterValidation(userId,
+                                                      entityGUID,
+                                                      entityTypeGUIDs,
+                                                      relationshipTypeGUIDs,
+                                                      limitResultsByStatus,
+                                                      limitResultsByClassification,
+                                                      asOfTime,
+                                                      level);
+    }
+
+
     /**
      * Validate the parameters passed to getLinkingEntities.
      *
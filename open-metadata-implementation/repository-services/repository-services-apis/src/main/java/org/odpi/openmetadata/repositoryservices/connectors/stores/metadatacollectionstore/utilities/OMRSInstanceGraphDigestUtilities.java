@@ -0,0 +1,313 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+import java.util.*;
+
+/**
+ * OMRSInstanceGraphDigestUtilities provides the methods used to bound the size of an entity neighborhood and
+ * to reduce its instances to a digest.  A digest keeps the headers of the instances (so the unique identifier,
+ * type, status and provenance are all present) along with the classification names and a small number of
+ * named properties - typically those used to label the instances in a user interface.
+ * <p>
+ * These methods are used by the metadata collections that implement getEntityNeighborhoodDigest so that the
+ * same rules are applied whether the graph is built natively by a repository or assembled by a federating
+ * repository from the results of a number of members of the cohort.
+ */
+public class OMRSInstanceGraphDigestUtilities
+{
+    /**
+     * Return the part of the graph that is closest to the root entity, containing no more than maxEntities
+     * entities.  The graph is traversed breadth first from the root entity so that the entities closest to the
+     * root are retained.  A relationship is retained if the entities at both of its ends are retained.
+     * Entities that are not connected to the root entity through the relationships in the graph are dropped.
+     *
+     * @param rootEntityGUID unique identifier of the entity at the centre of the graph
+     * @param graph graph to bound
+     * @param maxEntities maximum number of entities to return; zero or less means no limit
+     * @return bounded graph
+     */
+    public static InstanceGraph getBoundedGraph(String        rootEntityGUID,
+                                                InstanceGraph graph,
+                                                int           maxEntities)
+    {
+        if ((graph == null) || (rootEntityGUID == null) || (maxEntities <= 0))
+        {
+            return graph;
+        }
+
+        Map<String, List<Relationship>> relationshipsForEntity = new HashMap<>();
+        List<Relationship>              relationships          = graph.getRelationships();
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                if ((relationship != null) &&
+                    (relationship.getEntityOneProxy() != null) &&
+                    (relationship.getEntityTwoProxy() != null))
+                {
+                    relationshipsForEntity.computeIfAbsent(relationship.getEntityOneProxy().getGUID(), k -> new ArrayList<>()).add(relationship);
+                    relationshipsForEntity.computeIfAbsent(relationship.getEntityTwoProxy().getGUID(), k -> new ArrayList<>()).add(relationship);
+                }
+            }
+        }
+
+        Set<String>        retainedEntityGUIDs       = new HashSet<>();
+        Set<String>        retainedRelationshipGUIDs = new HashSet<>();
+        List<Relationship> retainedRelationships     = new ArrayList<>();
+        Deque<String>      entitiesToVisit           = new ArrayDeque<>();
+
+        retainedEntityGUIDs.add(rootEntityGUID);
+        entitiesToVisit.add(rootEntityGUID);
+
+        while (! entitiesToVisit.isEmpty())
+        {
+            String             entityGUID          = entitiesToVisit.poll();
+            List<Relationship> linkedRelationships = relationshipsForEntity.get(entityGUID);
+
+            if (linkedRelationships != null)
+            {
+                for (Relationship relationship : linkedRelationships)
+                {
+                    String linkedEntityGUID = relationship.returnLinkedEntity(entityGUID);
+
+                    if (linkedEntityGUID != null)
+                    {
+                        if ((! retainedEntityGUIDs.contains(linkedEntityGUID)) && (retainedEntityGUIDs.size() < maxEntities))
+                        {
+                            retainedEntityGUIDs.add(linkedEntityGUID);
+                            entitiesToVisit.add(linkedEntityGUID);
+                        }
+
+                        if ((retainedEntityGUIDs.contains(linkedEntityGUID)) && (retainedRelationshipGUIDs.add(relationship.getGUID())))
+                        {
+                            retainedRelationships.add(relationship);
+                        }
+                    }
+                }
+            }
+        }
+
+        List<EntityDetail> retainedEntities = new ArrayList<>();
+        List<EntityDetail> entities         = graph.getEntities();
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                if ((entity != null) && (retainedEntityGUIDs.contains(entity.getGUID())))
+                {
+                    retainedEntities.add(entity);
+                }
+            }
+        }
+
+        InstanceGraph boundedGraph = new InstanceGraph(graph);
+
+        boundedGraph.setEntities(retainedEntities.isEmpty() ? null : retainedEntities);
+        boundedGraph.setRelationships(retainedRelationships.isEmpty() ? null : retainedRelationships);
+
+        return boundedGraph;
+    }
+
+
+    /**
+     * Return a copy of the graph where each instance is reduced to its digest.
+     *
+     * @param graph graph to convert
+     * @param digestPropertyNames names of the properties to retain; null means retain the instances unchanged
+     * @return graph of digests
+     */
+    public static InstanceGraph getGraphDigest(InstanceGraph graph,
+                                               List<String>  digestPropertyNames)
+    {
+        if ((graph == null) || (digestPropertyNames == null))
+        {
+            return graph;
+        }
+
+        InstanceGraph      digestGraph   = new InstanceGraph(graph);
+        List<EntityDetail> entities      = graph.getEntities();
+        List<Relationship> relationships = graph.getRelationships();
+
+        if (entities != null)
+        {
+            List<EntityDetail> entityDigests = new ArrayList<>();
+
+            for (EntityDetail entity : entities)
+            {
+                if (entity != null)
+                {
+                    entityDigests.add(getEntityDigest(entity, digestPropertyNames));
+                }
+            }
+
+            digestGraph.setEntities(entityDigests);
+        }
+
+        if (relationships != null)
+        {
+            List<Relationship> relationshipDigests = new ArrayList<>();
+
+            for (Relationship relationship : relationships)
+            {
+                if (relationship != null)
+                {
+                    relationshipDigests.add(getRelationshipDigest(relationship, digestPropertyNames));
+                }
+            }
+
+            digestGraph.setRelationships(relationshipDigests);
+        }
+
+        return digestGraph;
+    }
+
+
+    /**
+     * Return a copy of the entity that only includes the requested properties.  The classifications are
+     * retained without their properties.
+     *
+     * @param entity entity to convert
+     * @param digestPropertyNames names of the properties to retain
+     * @return entity digest
+     */
+    public static EntityDetail getEntityDigest(EntityDetail entity,
+                                               List<String> digestPropertyNames)
+    {
+        if (entity == null)
+        {
+            return null;
+        }
+
+        EntityDetail digest = new EntityDetail(entity);
+
+        digest.setProperties(getPropertiesDigest(entity.getProperties(), digestPropertyNames));
+        digest.setClassifications(getClassificationDigests(entity.getClassifications()));
+
+        return digest;
+    }
+
+
+    /**
+     * Return a copy of the relationship that only includes the requested properties.  The entity proxies
+     * at each end of the relationship are reduced in the same way.
+     *
+     * @param relationship relationship to convert
+     * @param digestPropertyNames names of the properties to retain
+     * @return relationship digest
+     */
+    public static Relationship getRelationshipDigest(Relationship relationship,
+                                                     List<String> digestPropertyNames)
+    {
+        if (relationship == null)
+        {
+            return null;
+        }
+
+        Relationship digest = new Relationship(relationship);
+
+        digest.setProperties(getPropertiesDigest(relationship.getProperties(), digestPropertyNames));
+        digest.setEntityOneProxy(getEntityProxyDigest(relationship.getEntityOneProxy(), digestPropertyNames));
+        digest.setEntityTwoProxy(getEntityProxyDigest(relationship.getEntityTwoProxy(), digestPropertyNames));
+
+        return digest;
+    }
+
+
+    /**
+     * Return a copy of the entity proxy that only includes the requested unique properties.
+     *
+     * @param entityProxy proxy to convert
+     * @param digestPropertyNames names of the properties to retain
+     * @return proxy digest
+     */
+    private static EntityProxy getEntityProxyDigest(EntityProxy  entityProxy,
+                                                    List<String> digestPropertyNames)
+    {
+        if (entityProxy == null)
+        {
+            return null;
+        }
+
+        EntityProxy digest = new EntityProxy(entityProxy);
+
+        digest.setUniqueProperties(getPropertiesDigest(entityProxy.getUniqueProperties(), digestPropertyNames));
+        digest.setClassifications(getClassificationDigests(entityProxy.getClassifications()));
+
+        return digest;
+    }
+
+
+    /**
+     * Return copies of the classifications without their properties.
+     *
+     * @param classifications classifications to convert
+     * @return classification digests or null
+     */
+    private static List<Classification> getClassificationDigests(List<Classification> classifications)
+    {
+        if (classifications == null)
+        {
+            return null;
+        }
+
+        List<Classification> digests = new ArrayList<>();
+
+        for (Classification classification : classifications)
+        {
+            if (classification != null)
+            {
+                Classification digest = new Classification(classification);
+
+                digest.setProperties(null);
+                digests.add(digest);
+            }
+        }
+
+        return digests;
+    }
+
+
+    /**
+     * Return the requested properties.
+     *
+     * @param properties properties to filter
+     * @param digestPropertyNames names of the properties to retain
+     * @return filtered properties or null if none of the requested properties are present
+     */
+    private static InstanceProperties getPropertiesDigest(InstanceProperties properties,
+                                                          List<String>       digestPropertyNames)
+    {
+        if ((properties == null) || (digestPropertyNames == null) || (digestPropertyNames.isEmpty()))
+        {
+            return null;
+        }
+
+        InstanceProperties digest = new InstanceProperties();
+
+        digest.setEffectiveFromTime(properties.getEffectiveFromTime());
+        digest.setEffectiveToTime(properties.getEffectiveToTime());
+
+        for (String propertyName : digestPropertyNames)
+        {
+            InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+
+            if (propertyValue != null)
+            {
+                digest.setProperty(propertyName, propertyValue);
+            }
+        }
+
+        if (digest.getPropertyCount() == 0)
+        {
+            return null;
+        }
+
+        return digest;
+    }
+}
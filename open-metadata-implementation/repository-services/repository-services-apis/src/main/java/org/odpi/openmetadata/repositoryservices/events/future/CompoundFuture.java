@@ -3,8 +3,8 @@
 
 package org.odpi.openmetadata.repositoryservices.events.future;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * {@link OMRSFuture} which has a list of child futures.  It
@@ -12,7 +12,7 @@ import java.util.List;
  */
 public class CompoundFuture implements OMRSFuture {
     
-    private final List<OMRSFuture> children = new ArrayList<>();
+    private final List<OMRSFuture> children = new CopyOnWriteArrayList<>();
    
     /**
      * Adds a future whose result should be included
@@ -962,7 +962,11 @@ public enum OMRSErrorCode implements ExceptionMessageSet
     CLIENT_SIDE_REST_API_ERROR(503, "OMRS-REST-API-503-006",
             "A client-side exception was received from API call {0} to repository {1}.  The error message was {2}",
             "The server has invoked a call on the open metadata repository REST API services in a remote repository and has received an exception from the local client libraries.",
-            "Look for errors in the local repository's audit log and console to identify and correct the source of the error.")
+            "Look for errors in the local repository's audit log and console to identify and correct the source of the error."),
+    REMOTE_FUNCTION_NOT_SUPPORTED(501, "OMRS-REST-API-501-001",
+            "API call {0} is not supported by the REST API of repository {1}.  The error message was {2}",
+            "The server has invoked a call on the open metadata repository REST API services in a remote repository that does not provide this call, probably because it is running an earlier level of the software.",
+            "Use an equivalent call that the remote repository supports, or upgrade the remote repository.")
 
     ;
 
@@ -0,0 +1,166 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * EntityNeighborhoodDigestFindRequest extends the neighborhood search parameters with the maximum number of
+ * entities to return and the names of the properties to include in the digest of each instance.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class EntityNeighborhoodDigestFindRequest extends EntityNeighborhoodHistoricalFindRequest
+{
+    private static final long    serialVersionUID = 1L;
+
+    private int          maxEntities         = 0;
+    private List<String> digestPropertyNames = null;
+
+    /**
+     * Default constructor
+     */
+    public EntityNeighborhoodDigestFindRequest()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public EntityNeighborhoodDigestFindRequest(EntityNeighborhoodDigestFindRequest template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.maxEntities = template.getMaxEntities();
+            this.digestPropertyNames = template.getDigestPropertyNames();
+        }
+    }
+
+
+    /**
+     * Return the maximum number of entities to return.  Zero means no limit.
+     *
+     * @return int
+     */
+    public int getMaxEntities()
+    {
+        return maxEntities;
+    }
+
+
+    /**
+     * Set up the maximum number of entities to return.  Zero means no limit.
+     *
+     * @param maxEntities int
+     */
+    public void setMaxEntities(int maxEntities)
+    {
+        this.maxEntities = maxEntities;
+    }
+
+
+    /**
+     * Return the names of the properties to return for each instance.  Null means return the full instances.
+     *
+     * @return list of property names
+     */
+    public List<String> getDigestPropertyNames()
+    {
+        if (digestPropertyNames == null)
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(digestPropertyNames);
+        }
+    }
+
+
+    /**
+     * Set up the names of the properties to return for each instance.  Null means return the full instances.
+     *
+     * @param digestPropertyNames list of property names
+     */
+    public void setDigestPropertyNames(List<String> digestPropertyNames)
+    {
+        this.digestPropertyNames = digestPropertyNames;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "EntityNeighborhoodDigestFindRequest{" +
+                "maxEntities=" + maxEntities +
+                ", digestPropertyNames=" + digestPropertyNames +
+                ", asOfTime=" + getAsOfTime() +
+                ", relationshipTypeGUIDs=" + getRelationshipTypeGUIDs() +
+                ", entityTypeGUIDs=" + getEntityTypeGUIDs() +
+                ", limitResultsByStatus=" + getLimitResultsByStatus() +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof EntityNeighborhoodDigestFindRequest))
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        EntityNeighborhoodDigestFindRequest
+                that = (EntityNeighborhoodDigestFindRequest) objectToCompare;
+        return getMaxEntities() == that.getMaxEntities() &&
+                Objects.equals(getDigestPropertyNames(), that.getDigestPropertyNames());
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+
+        return Objects.hash(super.hashCode(), getMaxEntities(), getDigestPropertyNames());
+    }
+}
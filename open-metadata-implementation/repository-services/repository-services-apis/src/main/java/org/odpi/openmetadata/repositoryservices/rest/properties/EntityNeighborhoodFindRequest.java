@@ -23,7 +23,8 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
         property = "class")
 @JsonSubTypes(
         {
-                @JsonSubTypes.Type(value = EntityNeighborhoodHistoricalFindRequest.class, name = "EntityNeighborhoodHistoricalFindRequest")
+                @JsonSubTypes.Type(value = EntityNeighborhoodHistoricalFindRequest.class, name = "EntityNeighborhoodHistoricalFindRequest"),
+                @JsonSubTypes.Type(value = EntityNeighborhoodDigestFindRequest.class, name = "EntityNeighborhoodDigestFindRequest")
         })
 public class EntityNeighborhoodFindRequest extends OMRSAPIFindRequest
 {
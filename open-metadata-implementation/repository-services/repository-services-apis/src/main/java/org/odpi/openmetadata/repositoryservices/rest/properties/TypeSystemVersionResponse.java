@@ -0,0 +1,137 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * TypeSystemVersionResponse is the response structure used on the OMRS REST API call that returns the version of
+ * the type system supported by a server.  The version is an opaque token that changes whenever the types change.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class TypeSystemVersionResponse extends OMRSAPIResponse
+{
+    private static final long    serialVersionUID = 1L;
+
+    private String typeSystemVersion = null;
+
+
+    /**
+     * Default constructor
+     */
+    public TypeSystemVersionResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public TypeSystemVersionResponse(TypeSystemVersionResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            typeSystemVersion = template.getTypeSystemVersion();
+        }
+    }
+
+    /**
+     * Return the version of the type system.
+     *
+     * @return opaque version token
+     */
+    public String getTypeSystemVersion()
+    {
+        return typeSystemVersion;
+    }
+
+
+    /**
+     * Set up the version of the type system.
+     *
+     * @param typeSystemVersion opaque version token
+     */
+    public void setTypeSystemVersion(String typeSystemVersion)
+    {
+        this.typeSystemVersion = typeSystemVersion;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "TypeSystemVersionResponse{" +
+                "typeSystemVersion=" + typeSystemVersion +
+                ", relatedHTTPCode=" + relatedHTTPCode +
+                ", actionDescription='" + actionDescription + '\'' +
+                ", exceptionClassName='" + exceptionClassName + '\'' +
+                ", exceptionCausedBy='" + exceptionCausedBy + '\'' +
+                ", exceptionErrorMessage='" + exceptionErrorMessage + '\'' +
+                ", exceptionErrorMessageId='" + exceptionErrorMessageId + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(exceptionErrorMessageParameters) +
+                ", exceptionSystemAction='" + exceptionSystemAction + '\'' +
+                ", exceptionUserAction='" + exceptionUserAction + '\'' +
+                ", exceptionProperties=" + exceptionProperties +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof TypeSystemVersionResponse))
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        TypeSystemVersionResponse
+                that = (TypeSystemVersionResponse) objectToCompare;
+        return Objects.equals(typeSystemVersion, that.typeSystemVersion);
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getTypeSystemVersion());
+    }
+}
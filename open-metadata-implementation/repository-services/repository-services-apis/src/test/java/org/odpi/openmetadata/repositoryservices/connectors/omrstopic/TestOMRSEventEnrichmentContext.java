@@ -0,0 +1,181 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that the enrichment context only retrieves each value once per event.
+ */
+public class TestOMRSEventEnrichmentContext
+{
+    /**
+     * The same entity requested by the same user is only retrieved once.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testEntityRetrievedOnce() throws Exception
+    {
+        OMRSEventEnrichmentContext context = new OMRSEventEnrichmentContext();
+        AtomicInteger              reads   = new AtomicInteger();
+        EntityDetail               entity  = new EntityDetail();
+
+        entity.setGUID("testGUID");
+
+        EntityDetail first  = context.getEntityDetail("user1", "testGUID", () -> { reads.incrementAndGet(); return entity; });
+        EntityDetail second = context.getEntityDetail("user1", "testGUID", () -> { reads.incrementAndGet(); return entity; });
+        EntityDetail third  = context.getEntityDetail("user2", "testGUID", () -> { reads.incrementAndGet(); return entity; });
+
+        assertSame(first, entity);
+        assertSame(second, entity);
+        assertSame(third, entity);
+        assertEquals(reads.get(), 2);
+        assertEquals(context.size(), 2);
+    }
+
+
+    /**
+     * A null anchor is remembered as well as a real one.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testNullAnchorRemembered() throws Exception
+    {
+        OMRSEventEnrichmentContext context = new OMRSEventEnrichmentContext();
+        AtomicInteger              reads   = new AtomicInteger();
+
+        assertNull(context.getAnchorGUID("user1", "testGUID", false, false, null, () -> { reads.incrementAndGet(); return null; }));
+        assertNull(context.getAnchorGUID("user1", "testGUID", false, false, null, () -> { reads.incrementAndGet(); return "anchorGUID"; }));
+        assertEquals(reads.get(), 1);
+    }
+
+
+    /**
+     * Retrievals with different request options are held separately.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testRequestOptionsInKey() throws Exception
+    {
+        OMRSEventEnrichmentContext context       = new OMRSEventEnrichmentContext();
+        AtomicInteger              reads         = new AtomicInteger();
+        Date                       effectiveTime = new Date();
+
+        context.getAnchorGUID("user1", "testGUID", false, false, null, () -> { reads.incrementAndGet(); return "anchorGUID"; });
+        context.getAnchorGUID("user2", "testGUID", false, false, null, () -> { reads.incrementAndGet(); return "anchorGUID"; });
+        context.getAnchorGUID("user1", "testGUID", true, false, null, () -> { reads.incrementAndGet(); return "anchorGUID"; });
+        context.getAnchorGUID("user1", "testGUID", false, true, null, () -> { reads.incrementAndGet(); return "anchorGUID"; });
+        context.getAnchorGUID("user1", "testGUID", false, false, effectiveTime, () -> { reads.incrementAndGet(); return "anchorGUID"; });
+        context.getAnchorGUID("user1", "testGUID", false, false, new Date(effectiveTime.getTime()), () -> { reads.incrementAndGet(); return "anchorGUID"; });
+
+        assertEquals(reads.get(), 5);
+
+        context.getRelationshipsForEntity("user1", "testGUID", null, null, SequencingOrder.ANY, 0, 10, () -> { reads.incrementAndGet(); return null; });
+        context.getRelationshipsForEntity("user1", "testGUID", null, null, SequencingOrder.GUID, 0, 10, () -> { reads.incrementAndGet(); return null; });
+        context.getRelationshipsForEntity("user1", "testGUID", null, null, SequencingOrder.ANY, 10, 10, () -> { reads.incrementAndGet(); return null; });
+        context.getRelationshipsForEntity("user1", "testGUID", null, null, SequencingOrder.ANY, 0, 10, () -> { reads.incrementAndGet(); return null; });
+
+        assertEquals(reads.get(), 8);
+    }
+
+
+    /**
+     * An update to an entity removes every value that describes it.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testInvalidateEntity() throws Exception
+    {
+        OMRSEventEnrichmentContext context = new OMRSEventEnrichmentContext();
+
+        context.getEntityDetail("user1", "testGUID", EntityDetail::new);
+        context.getAnchorGUID("user1", "testGUID", false, false, null, () -> "anchorGUID");
+        context.getRelationshipsForEntity("user1", "testGUID", null, null, SequencingOrder.ANY, 0, 10, () -> null);
+        context.getEntityDetail("user1", "otherGUID", EntityDetail::new);
+
+        context.invalidateEntity("testGUID");
+
+        assertEquals(context.size(), 1);
+    }
+
+
+    /**
+     * An update to a relationship removes the relationships of its ends and every anchor.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testInvalidateRelationships() throws Exception
+    {
+        OMRSEventEnrichmentContext context = new OMRSEventEnrichmentContext();
+
+        context.getEntityDetail("user1", "end1GUID", EntityDetail::new);
+        context.getAnchorGUID("user1", "otherGUID", false, false, null, () -> "anchorGUID");
+        context.getRelationshipsForEntity("user1", "end1GUID", null, null, SequencingOrder.ANY, 0, 10, () -> null);
+        context.getRelationshipsForEntity("user1", "end2GUID", null, null, SequencingOrder.ANY, 0, 10, () -> null);
+        context.getRelationshipsForEntity("user1", "otherGUID", null, null, SequencingOrder.ANY, 0, 10, () -> null);
+
+        context.invalidateRelationships("end1GUID", "end2GUID");
+
+        assertEquals(context.size(), 2);
+
+        context.invalidateRelationships();
+
+        assertEquals(context.size(), 1);
+    }
+
+
+    /**
+     * An exception from the repository is passed to every caller.
+     */
+    @Test public void testExceptionRemembered()
+    {
+        OMRSEventEnrichmentContext context = new OMRSEventEnrichmentContext();
+        AtomicInteger              reads   = new AtomicInteger();
+        Exception                  error   = new Exception("not known");
+
+        for (int i = 0; i < 2; i++)
+        {
+            try
+            {
+                context.getEntityDetail("user1", "testGUID", () -> { reads.incrementAndGet(); throw error; });
+                fail("Exception expected");
+            }
+            catch (Exception caught)
+            {
+                assertSame(caught, error);
+            }
+        }
+
+        assertEquals(reads.get(), 1);
+    }
+
+
+    /**
+     * The current context is restored once an event has been processed.
+     */
+    @Test public void testCurrentContext()
+    {
+        OMRSEventEnrichmentContext context = new OMRSEventEnrichmentContext();
+
+        assertNull(OMRSEventEnrichmentContext.getCurrentContext());
+
+        OMRSEventEnrichmentContext previousContext = OMRSEventEnrichmentContext.setCurrentContext(context);
+
+        assertNull(previousContext);
+        assertSame(OMRSEventEnrichmentContext.getCurrentContext(), context);
+
+        OMRSEventEnrichmentContext.setCurrentContext(previousContext);
+
+        assertNull(OMRSEventEnrichmentContext.getCurrentContext());
+    }
+}
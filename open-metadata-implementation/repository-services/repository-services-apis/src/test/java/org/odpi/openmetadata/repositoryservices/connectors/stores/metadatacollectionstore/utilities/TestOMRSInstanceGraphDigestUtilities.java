@@ -0,0 +1,162 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that neighborhood graphs are bounded from the root entity and reduced to digests.
+ */
+public class TestOMRSInstanceGraphDigestUtilities
+{
+    /**
+     * The entities closest to the root are kept and only relationships between kept entities are returned.
+     */
+    @Test public void testGraphBoundedBreadthFirst()
+    {
+        /*
+         * root - a - c - d
+         *  |         |
+         *  b ------- +
+         */
+        InstanceGraph graph = new InstanceGraph(Arrays.asList(getEntity("root"),
+                                                              getEntity("a"),
+                                                              getEntity("b"),
+                                                              getEntity("c"),
+                                                              getEntity("d"),
+                                                              getEntity("unconnected")),
+                                                Arrays.asList(getRelationship("r1", "root", "a"),
+                                                              getRelationship("r2", "a", "c"),
+                                                              getRelationship("r3", "c", "d"),
+                                                              getRelationship("r4", "b", "root"),
+                                                              getRelationship("r5", "b", "c")));
+
+        InstanceGraph bounded = OMRSInstanceGraphDigestUtilities.getBoundedGraph("root", graph, 3);
+
+        assertEquals(getGUIDs(bounded.getEntities()), Arrays.asList("root", "a", "b"));
+        assertEquals(getGUIDs(bounded.getRelationships()), Arrays.asList("r1", "r4"));
+
+        bounded = OMRSInstanceGraphDigestUtilities.getBoundedGraph("root", graph, 4);
+
+        assertEquals(getGUIDs(bounded.getEntities()), Arrays.asList("root", "a", "b", "c"));
+        assertEquals(bounded.getRelationships().size(), 4);
+        assertTrue(getGUIDs(bounded.getRelationships()).containsAll(Arrays.asList("r1", "r2", "r4", "r5")));
+
+        assertSame(OMRSInstanceGraphDigestUtilities.getBoundedGraph("root", graph, 0), graph);
+    }
+
+
+    /**
+     * Only the requested properties are kept and classifications lose their properties.
+     */
+    @Test public void testGraphDigest()
+    {
+        EntityDetail entity = getEntity("root");
+
+        entity.setProperties(getProperties("qualifiedName", "description"));
+
+        Classification classification = new Classification();
+        classification.setName("Confidentiality");
+        classification.setProperties(getProperties("level"));
+        entity.setClassifications(Collections.singletonList(classification));
+
+        Relationship relationship = getRelationship("r1", "root", "a");
+        relationship.setProperties(getProperties("description"));
+
+        EntityProxy end2 = relationship.getEntityTwoProxy();
+        end2.setUniqueProperties(getProperties("qualifiedName"));
+        relationship.setEntityTwoProxy(end2);
+
+        InstanceGraph graph  = new InstanceGraph(Collections.singletonList(entity), Collections.singletonList(relationship));
+        InstanceGraph digest = OMRSInstanceGraphDigestUtilities.getGraphDigest(graph, Arrays.asList("qualifiedName", "name"));
+
+        EntityDetail entityDigest = digest.getEntities().get(0);
+
+        assertEquals(entityDigest.getGUID(), "root");
+        assertEquals(entityDigest.getProperties().getPropertyCount(), 1);
+        assertEquals(entityDigest.getProperties().getPropertyValue("qualifiedName").valueAsString(), "qualifiedName value");
+        assertEquals(entityDigest.getClassifications().get(0).getName(), "Confidentiality");
+        assertNull(entityDigest.getClassifications().get(0).getProperties());
+
+        Relationship relationshipDigest = digest.getRelationships().get(0);
+
+        assertNull(relationshipDigest.getProperties());
+        assertEquals(relationshipDigest.getEntityTwoProxy().getUniqueProperties().getPropertyCount(), 1);
+
+        /*
+         * The original instances are unchanged.
+         */
+        assertEquals(entity.getProperties().getPropertyCount(), 2);
+        assertEquals(relationship.getProperties().getPropertyCount(), 1);
+
+        assertSame(OMRSInstanceGraphDigestUtilities.getGraphDigest(graph, null), graph);
+    }
+
+
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String guid, String end1GUID, String end2GUID)
+    {
+        EntityProxy end1 = new EntityProxy();
+        end1.setGUID(end1GUID);
+
+        EntityProxy end2 = new EntityProxy();
+        end2.setGUID(end2GUID);
+
+        Relationship relationship = new Relationship();
+        relationship.setGUID(guid);
+        relationship.setEntityOneProxy(end1);
+        relationship.setEntityTwoProxy(end2);
+
+        return relationship;
+    }
+
+
+    private InstanceProperties getProperties(String... propertyNames)
+    {
+        InstanceProperties properties = new InstanceProperties();
+
+        for (String propertyName : propertyNames)
+        {
+            PrimitivePropertyValue value = new PrimitivePropertyValue();
+            value.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            value.setPrimitiveValue(propertyName + " value");
+            properties.setProperty(propertyName, value);
+        }
+
+        return properties;
+    }
+
+
+    private List<String> getGUIDs(List<? extends InstanceHeader> instances)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (InstanceHeader instance : instances)
+        {
+            guids.add(instance.getGUID());
+        }
+
+        return guids;
+    }
+}
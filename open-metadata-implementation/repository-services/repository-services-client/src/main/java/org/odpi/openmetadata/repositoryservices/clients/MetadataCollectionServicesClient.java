@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.repositoryservices.clients;
 
 import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector;
+import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
 import org.odpi.openmetadata.adapters.connectors.restclients.factory.RESTClientFactory;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -302,6 +303,38 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Returns a token that identifies the current version of the types returned by getAllTypes.  The token
+     * changes whenever a type is added, updated or removed in the server, and when the server restarts.
+     * It is much cheaper to retrieve than the types themselves, so a caller that caches the results of
+     * getAllTypes can use it to check whether its copy is still current.
+     *
+     * @param userId unique identifier for requesting user.
+     * @return opaque version token
+     * @throws InvalidParameterException the userId is null
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public String getTypeSystemVersion(String userId) throws InvalidParameterException,
+                                                             RepositoryErrorException,
+                                                             UserNotAuthorizedException
+    {
+        final String methodName  = "getTypeSystemVersion";
+        final String operationSpecificURL = "types/version";
+
+        TypeSystemVersionResponse restResult = this.callGetRESTCall(methodName,
+                                                                    TypeSystemVersionResponse.class,
+                                                                    restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                    userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+
+        return restResult.getTypeSystemVersion();
+    }
+
+
     /**
      * Returns a list of type definitions that have the specified name.  Type names should be unique.  This
      * method allows wildcard character to be included in the name.  These are * (asterisk) for an
@@ -1207,6 +1240,42 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of the entities that were found, in the order they were requested; entities that are not known,
+     * are only proxies or are soft-deleted are omitted.  Null means none of the entities were found.
+     * @throws InvalidParameterException  the list of guids is null or contains a null guid.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String methodName  = "getEntityDetails";
+        final String operationSpecificURL = "instances/entities/by-guids";
+
+        GUIDListRequest requestBody = new GUIDListRequest();
+        requestBody.setGUIDs(guids);
+
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                        requestBody,
+                                                                        userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntities();
+    }
+
+
     /**
      * Return a historical version of an entity includes the header, classifications and properties of the entity.
      *
@@ -2523,6 +2592,88 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Return a digest of the entities and relationships that radiate out from the supplied entity GUID.
+     * The results are scoped by the instance type guids, the level and the maximum number of entities, and
+     * each instance only includes the requested properties.  This means an n-hop neighborhood can be
+     * retrieved in a single call.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param maxEntities the maximum number of entities to return.  Zero or less means no limit.
+     * @param digestPropertyNames names of the properties to return for each instance.  Null means return the
+     *                            full instances.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getEntityNeighborhoodDigest(String               userId,
+                                                     String               entityGUID,
+                                                     List<String>         entityTypeGUIDs,
+                                                     List<String>         relationshipTypeGUIDs,
+                                                     List<InstanceStatus> limitResultsByStatus,
+                                                     List<String>         limitResultsByClassification,
+                                                     Date                 asOfTime,
+                                                     int                  level,
+                                                     int                  maxEntities,
+                                                     List<String>         digestPropertyNames) throws InvalidParameterException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      TypeErrorException,
+                                                                                                      EntityNotKnownException,
+                                                                                                      PropertyErrorException,
+                                                                                                      FunctionNotSupportedException,
+                                                                                                      UserNotAuthorizedException
+    {
+        final String                        methodName            = "getEntityNeighborhoodDigest";
+        final String                        operationSpecificURL  = "instances/entities/from-entity/{1}/by-neighborhood/digest?level={2}";
+        EntityNeighborhoodDigestFindRequest findRequestParameters = new EntityNeighborhoodDigestFindRequest();
+
+        findRequestParameters.setEntityTypeGUIDs(entityTypeGUIDs);
+        findRequestParameters.setRelationshipTypeGUIDs(relationshipTypeGUIDs);
+        findRequestParameters.setAsOfTime(asOfTime);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
+        findRequestParameters.setMaxEntities(maxEntities);
+        findRequestParameters.setDigestPropertyNames(digestPropertyNames);
+
+        InstanceGraphResponse restResult = this.callInstanceGraphPostRESTCall(methodName,
+                                                                              restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                              findRequestParameters,
+                                                                              userId,
+                                                                              entityGUID,
+                                                                              level);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowEntityNotKnownException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return this.getInstanceGraphFromRESTResult(restResult);
+    }
+
+
     /**
      * Return the list of entities that are of the types listed in entityTypeGUIDs and are connected, either directly or
      * indirectly to the entity identified by startEntityGUID.
@@ -5800,12 +5951,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
         }
         catch (Exception error)
         {
-            throw new RepositoryErrorException(OMRSErrorCode.CLIENT_SIDE_REST_API_ERROR.getMessageDefinition(methodName,
-                                                                                                             repositoryName,
-                                                                                                             error.getMessage()),
-                                               this.getClass().getName(),
-                                               methodName,
-                                               error);
+            throw this.getRESTCallException(methodName, error);
         }
     }
 
@@ -5837,13 +5983,44 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
         }
         catch (Exception error)
         {
-            throw new RepositoryErrorException(OMRSErrorCode.CLIENT_SIDE_REST_API_ERROR.getMessageDefinition(methodName,
-                                                                                                             repositoryName,
-                                                                                                             error.getMessage()),
-                                               this.getClass().getName(),
-                                               methodName,
-                                               error);
+            throw this.getRESTCallException(methodName, error);
+        }
+    }
+
+
+    /**
+     * Build the exception for a failed REST call.  If the remote server responded that it does not know the
+     * requested URL (404) or does not implement it (501), the exception reports HTTP code 501 so the caller
+     * can tell that the remote repository does not support the call.
+     *
+     * @param methodName name of the method being called
+     * @param error exception from the REST client
+     * @return exception to throw
+     */
+    private RepositoryErrorException getRESTCallException(String    methodName,
+                                                          Exception error)
+    {
+        if (error instanceof RESTServerException)
+        {
+            int httpCode = ((RESTServerException) error).getReportedHTTPCode();
+
+            if ((httpCode == 404) || (httpCode == 501))
+            {
+                return new RepositoryErrorException(OMRSErrorCode.REMOTE_FUNCTION_NOT_SUPPORTED.getMessageDefinition(methodName,
+                                                                                                                    repositoryName,
+                                                                                                                    error.getMessage()),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    error);
+            }
         }
+
+        return new RepositoryErrorException(OMRSErrorCode.CLIENT_SIDE_REST_API_ERROR.getMessageDefinition(methodName,
+                                                                                                          repositoryName,
+                                                                                                          error.getMessage()),
+                                            this.getClass().getName(),
+                                            methodName,
+                                            error);
     }
 
 
@@ -413,6 +413,16 @@ public class OMRSOperationalServices
                 this.localRepositoryEventManager.registerRepositoryEventProcessor(enterpriseEventPublisher);
             }
 
+            /*
+             * The remote members of the cohorts may hold reference copies of the local repository's instances, so
+             * the connectors to these members need to know when the local instances change.
+             */
+            if (enterpriseConnectorManager != null)
+            {
+                this.localRepositoryEventManager.registerInstanceEventListener("Local Repository to Remote Member Connectors",
+                                                                               enterpriseConnectorManager);
+            }
+
             /*
              * Pass the local metadata collectionId to the AuditLog
              */
@@ -502,6 +512,7 @@ public class OMRSOperationalServices
                                                          this.getEnterpriseOMRSRepositoryConnector(OMRSAuditingComponent.REST_SERVICES.getComponentName()),
                                                          this.getRemoteEnterpriseOMRSTopicConnection(enterpriseAccessConfig),
                                                          metadataHighwayManager,
+                                                         localRepositoryContentManager,
                                                          localServerURL,
                                                          auditLog.createNewAuditLog(OMRSAuditingComponent.REST_SERVICES),
                                                          maxPageSize);
@@ -604,6 +615,7 @@ public class OMRSOperationalServices
                                                          null,
                                                          null,
                                                          null,
+                                                         null,
                                                          auditLog.createNewAuditLog(OMRSAuditingComponent.REST_SERVICES),
                                                          maxPageSize);
 
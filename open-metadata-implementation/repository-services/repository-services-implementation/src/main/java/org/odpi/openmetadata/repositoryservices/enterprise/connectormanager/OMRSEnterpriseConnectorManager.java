@@ -8,8 +8,11 @@ import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectionCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicRepositoryEventListener;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
@@ -22,7 +25,10 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * OMRSEnterpriseConnectorManager provides the connectors for all the repositories in the connected metadata
@@ -64,11 +70,19 @@ import java.util.UUID;
  * the EnterpriseOMRSRepositoryConnector instances.
  * </p>
  * <p>
+ * The OMRSEnterpriseConnectorManager is also registered with the repository event managers to receive the instance
+ * events.  These are passed to any remote connector that is an OMRSTopicRepositoryEventListener, so that a connector
+ * that caches instances from its remote repository (such as the REST cohort member client) can discard the instances
+ * that have changed.
+ * </p>
+ * <p>
  * Note: this class uses synchronized methods to ensure that no registration information is lost when the
  * server is operating multi-threaded.
  * </p>
  */
-public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, OMRSConnectorManager
+public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer,
+                                                       OMRSConnectorManager,
+                                                       OMRSTopicRepositoryEventListener
 {
 
     private static final Logger log = LoggerFactory.getLogger(OMRSEnterpriseConnectorManager.class);
@@ -78,6 +92,7 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
     private final OMRSRepositoryContentManager      repositoryContentManager;
     private final List<RegisteredConnector>         registeredRemoteConnectors   = new ArrayList<>();
     private final List<RegisteredConnectorConsumer> registeredConnectorConsumers = new ArrayList<>();
+    private final Map<String, List<OMRSTopicRepositoryEventListener>> remoteInstanceEventListeners = new ConcurrentHashMap<>();
     private final AuditLog                          auditLog;
     private final String                            localServerUserId;
     private final String                            localServerPassword;
@@ -347,15 +362,22 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
          */
         if (enterpriseAccessEnabled)
         {
+            /*
+             * The connector consumers replace any connectors they already have for this repository.
+             */
+            remoteInstanceEventListeners.remove(metadataCollectionId);
+
             for (RegisteredConnectorConsumer registeredConnectorConsumer : registeredConnectorConsumers)
             {
-                registeredConnectorConsumer.getConnectorConsumer().addRemoteConnector(metadataCollectionId,
-                                                                                      this.getOMRSRepositoryConnector(remoteConnection,
-                                                                                                                      remoteServerName,
-                                                                                                                      remoteServerType,
-                                                                                                                      owningOrganizationName,
-                                                                                                                      metadataCollectionId,
-                                                                                                                      metadataCollectionName));
+                OMRSRepositoryConnector consumerConnector = this.getOMRSRepositoryConnector(remoteConnection,
+                                                                                            remoteServerName,
+                                                                                            remoteServerType,
+                                                                                            owningOrganizationName,
+                                                                                            metadataCollectionId,
+                                                                                            metadataCollectionName);
+
+                this.addRemoteInstanceEventListener(metadataCollectionId, consumerConnector);
+                registeredConnectorConsumer.getConnectorConsumer().addRemoteConnector(metadataCollectionId, consumerConnector);
             }
 
             this.printFederationList(actionDescription);
@@ -468,6 +490,8 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
          */
         if ((enterpriseAccessEnabled) && (repositoryRegistrationCount == 0))
         {
+            remoteInstanceEventListeners.remove(metadataCollectionId);
+
             for (RegisteredConnectorConsumer registeredConnectorConsumer : registeredConnectorConsumers)
             {
                 registeredConnectorConsumer.getConnectorConsumer().removeRemoteConnector(metadataCollectionId);
@@ -555,13 +579,15 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
             {
                 try
                 {
-                    connectorConsumer.addRemoteConnector(registeredConnector.getMetadataCollectionId(),
-                                                         getOMRSRepositoryConnector(registeredConnector.getConnection(),
-                                                                                    registeredConnector.getServerName(),
-                                                                                    registeredConnector.getServerType(),
-                                                                                    registeredConnector.getOwningOrganizationName(),
-                                                                                    registeredConnector.getMetadataCollectionId(),
-                                                                                    registeredConnector.getMetadataCollectionName()));
+                    OMRSRepositoryConnector consumerConnector = getOMRSRepositoryConnector(registeredConnector.getConnection(),
+                                                                                           registeredConnector.getServerName(),
+                                                                                           registeredConnector.getServerType(),
+                                                                                           registeredConnector.getOwningOrganizationName(),
+                                                                                           registeredConnector.getMetadataCollectionId(),
+                                                                                           registeredConnector.getMetadataCollectionName());
+
+                    this.addRemoteInstanceEventListener(registeredConnector.getMetadataCollectionId(), consumerConnector);
+                    connectorConsumer.addRemoteConnector(registeredConnector.getMetadataCollectionId(), consumerConnector);
                 }
                 catch (ConnectorCheckedException | ConnectionCheckedException error)
                 {
@@ -608,6 +634,71 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
     }
 
 
+    /**
+     * TypeDef events are not passed to the remote connectors.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processTypeDefEvent(OMRSTypeDefEvent event)
+    {
+        /*
+         * Nothing to do
+         */
+    }
+
+
+    /**
+     * Pass an instance event to each of the remote connectors that listen for instance events.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processInstanceEvent(OMRSInstanceEvent event)
+    {
+        final String methodName = "processInstanceEvent";
+
+        for (List<OMRSTopicRepositoryEventListener> listeners : remoteInstanceEventListeners.values())
+        {
+            for (OMRSTopicRepositoryEventListener listener : listeners)
+            {
+                try
+                {
+                    listener.processInstanceEvent(event);
+                }
+                catch (Exception error)
+                {
+                    log.debug("Remote connector " + listener + " failed to process event " + event, error);
+
+                    auditLog.logException(methodName,
+                                          OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event.toString(),
+                                                                                                    error.toString(),
+                                                                                                    listener.toString()),
+                                          event.toString(),
+                                          error);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remember a remote connector that has been passed to a connector consumer if it listens for instance events.
+     *
+     * @param metadataCollectionId metadata collection id for the remote repository
+     * @param remoteConnector connector passed to the connector consumer
+     */
+    private void addRemoteInstanceEventListener(String                  metadataCollectionId,
+                                                OMRSRepositoryConnector remoteConnector)
+    {
+        if (remoteConnector instanceof OMRSTopicRepositoryEventListener)
+        {
+            remoteInstanceEventListeners.computeIfAbsent(metadataCollectionId,
+                                                         key -> new CopyOnWriteArrayList<>()).add((OMRSTopicRepositoryEventListener) remoteConnector);
+        }
+    }
+
+
     /**
      * Private method to convert a Connection into an OMRS repository connector using the OCF ConnectorBroker.
      * The OCF ConnectorBroker is needed because the implementation of the OMRS connector is unknown and
@@ -15,6 +15,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSInstanceGraphDigestUtilities;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederationControl;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.ParallelFederationControl;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.SequentialFederationControl;
@@ -1002,6 +1003,56 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  Each repository is
+     * sent a single request for all the entities that it may hold.  The classifications are those returned with
+     * the entities; use getEntityDetail to also pick up classifications held only by repositories that have
+     * a proxy for an entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of the entities that were found, in the order they were requested; entities that are not known,
+     * are only proxies or are soft-deleted are omitted.  Null means none of the entities were found.
+     * @throws InvalidParameterException the list of guids is null or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName        = "getEntityDetails";
+
+        /*
+         * Validate parameters
+         */
+        super.getEntityDetailsParameterValidation(userId, guids);
+
+        if (guids.isEmpty())
+        {
+            return null;
+        }
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl        federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        GetEntityDetailsExecutor executor          = new GetEntityDetailsExecutor(userId, guids, auditLog, methodName);
+
+        federationControl.executeCommand(executor);
+
+        return executor.getEntityDetails();
+    }
+
+
     /**
      * Return a historical version of an entity.  This includes the header, classifications and properties of the entity.
      *
@@ -1698,6 +1749,86 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the entities whose string property exactly matches the supplied value.  This is intended for
+     * properties that are declared as unique in their type (such as qualifiedName).
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the property to match.
+     * @param propertyValue value of the property (this is a literal value rather than a regular expression).
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @return a list of entities matching the supplied value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for the requested type of entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> findEntitiesByUniquePropertyValue(String               userId,
+                                                                String               entityTypeGUID,
+                                                                String               propertyName,
+                                                                String               propertyValue,
+                                                                List<InstanceStatus> limitResultsByStatus,
+                                                                Date                 asOfTime) throws InvalidParameterException,
+                                                                                                      TypeErrorException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      PropertyErrorException,
+                                                                                                      PagingErrorException,
+                                                                                                      FunctionNotSupportedException,
+                                                                                                      UserNotAuthorizedException
+    {
+        final String methodName = "findEntitiesByUniquePropertyValue";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByUniquePropertyValueParameterValidation(userId,
+                                                                   entityTypeGUID,
+                                                                   propertyName,
+                                                                   propertyValue,
+                                                                   limitResultsByStatus,
+                                                                   asOfTime);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl                         federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FindEntitiesByUniquePropertyValueExecutor executor          = new FindEntitiesByUniquePropertyValueExecutor(userId,
+                                                                                                                    entityTypeGUID,
+                                                                                                                    propertyName,
+                                                                                                                    propertyValue,
+                                                                                                                    limitResultsByStatus,
+                                                                                                                    asOfTime,
+                                                                                                                    localMetadataCollectionId,
+                                                                                                                    auditLog,
+                                                                                                                    repositoryValidator,
+                                                                                                                    methodName);
+
+        /*
+         * Ready to process the request.  Some repositories may produce exceptions.  These exceptions are saved
+         * and will be returned if there are no positive results from any repository.
+         */
+        federationControl.executeCommand(executor);
+
+        return executor.getResults(enterpriseParentConnector, this);
+    }
+
+
     /**
      * Returns a relationship indicating if the relationship is stored in the metadata collection.
      * Notice that relationships in DELETED state are returned by this call.
@@ -2469,6 +2600,185 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a digest of the entities and relationships that radiate out from the supplied entity GUID.
+     * Each member of the cohort is asked for its digest with the same limits and the results are combined.
+     * The combined graph is then bounded again so the caller receives no more than the requested
+     * number of entities.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param maxEntities the maximum number of entities to return.  Zero or less means no limit.
+     * @param digestPropertyNames names of the properties to return for each instance.  Null means return the
+     *                            full instances.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph getEntityNeighborhoodDigest(String               userId,
+                                                     String               entityGUID,
+                                                     List<String>         entityTypeGUIDs,
+                                                     List<String>         relationshipTypeGUIDs,
+                                                     List<InstanceStatus> limitResultsByStatus,
+                                                     List<String>         limitResultsByClassification,
+                                                     Date                 asOfTime,
+                                                     int                  level,
+                                                     int                  maxEntities,
+                                                     List<String>         digestPropertyNames) throws InvalidParameterException,
+                                                                                                      TypeErrorException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      EntityNotKnownException,
+                                                                                                      PropertyErrorException,
+                                                                                                      FunctionNotSupportedException,
+                                                                                                      UserNotAuthorizedException
+    {
+        final String methodName = "getEntityNeighborhoodDigest";
+
+        /*
+         * Validate parameters
+         */
+        super.getEntityNeighborhoodDigestParameterValidation(userId,
+                                                             entityGUID,
+                                                             entityTypeGUIDs,
+                                                             relationshipTypeGUIDs,
+                                                             limitResultsByStatus,
+                                                             limitResultsByClassification,
+                                                             asOfTime,
+                                                             level,
+                                                             maxEntities,
+                                                             digestPropertyNames);
+
+        /*
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        /*
+         * Ready to process the request.  Search results need to come from all members of the cohort.
+         * They need to be combined and then duplicates removed to create the final list of results.
+         * Some repositories may produce exceptions.  These exceptions are saved and one selected to
+         * be returned if there are no results from any repository.
+         */
+        Map<String, EntityDetail> combinedEntityResults       = new HashMap<>();
+        Map<String, Relationship> combinedRelationshipResults = new HashMap<>();
+
+        EntityNotKnownException       entityNotKnownException       = null;
+        FunctionNotSupportedException functionNotSupportedException = null;
+        PropertyErrorException        propertyErrorException        = null;
+        UserNotAuthorizedException    userNotAuthorizedException    = null;
+        RepositoryErrorException      repositoryErrorException      = null;
+        Exception                     anotherException              = null;
+
+        /*
+         * Loop through the metadata collections extracting the digests from each repository.
+         */
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if (cohortConnector != null)
+            {
+                OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+                validateMetadataCollection(metadataCollection, methodName);
+
+                try
+                {
+                    /*
+                     * Issue the request
+                     */
+                    InstanceGraph results = metadataCollection.getEntityNeighborhoodDigest(userId,
+                                                                                           entityGUID,
+                                                                                           entityTypeGUIDs,
+                                                                                           relationshipTypeGUIDs,
+                                                                                           limitResultsByStatus,
+                                                                                           limitResultsByClassification,
+                                                                                           asOfTime,
+                                                                                           level,
+                                                                                           maxEntities,
+                                                                                           digestPropertyNames);
+
+                    /*
+                     * Step through the returned instances and consolidate.
+                     */
+                    if (results != null)
+                    {
+                        combinedRelationshipResults = this.addUniqueRelationships(combinedRelationshipResults,
+                                                                                  results.getRelationships(),
+                                                                                  cohortConnector.getServerName(),
+                                                                                  cohortConnector.getMetadataCollectionId(),
+                                                                                  methodName);
+                        combinedEntityResults = this.addUniqueEntities(combinedEntityResults,
+                                                                       results.getEntities(),
+                                                                       cohortConnector.getServerName(),
+                                                                       cohortConnector.getMetadataCollectionId(),
+                                                                       methodName);
+                    }
+                }
+                catch (RepositoryErrorException error)
+                {
+                    repositoryErrorException = error;
+                }
+                catch (PropertyErrorException error)
+                {
+                    propertyErrorException = error;
+                }
+                catch (EntityNotKnownException error)
+                {
+                    entityNotKnownException = error;
+                }
+                catch (FunctionNotSupportedException error)
+                {
+                    functionNotSupportedException = error;
+                }
+                catch (UserNotAuthorizedException error)
+                {
+                    userNotAuthorizedException = error;
+                }
+                catch (Exception error)
+                {
+                    anotherException = error;
+                }
+            }
+        }
+
+        InstanceGraph combinedGraph = validatedInstanceGraphResults(repositoryName,
+                                                                    combinedEntityResults,
+                                                                    combinedRelationshipResults,
+                                                                    userNotAuthorizedException,
+                                                                    propertyErrorException,
+                                                                    functionNotSupportedException,
+                                                                    entityNotKnownException,
+                                                                    repositoryErrorException,
+                                                                    anotherException,
+                                                                    methodName);
+
+        /*
+         * Each member has kept to the budget but together they may have returned more entities.
+         */
+        return OMRSInstanceGraphDigestUtilities.getBoundedGraph(entityGUID, combinedGraph, maxEntities);
+    }
+
+
     /**
      * Return the list of entities that are of the types listed in entityTypeGUIDs and are connected, either directly or
      * indirectly to the entity identified by startEntityGUID.
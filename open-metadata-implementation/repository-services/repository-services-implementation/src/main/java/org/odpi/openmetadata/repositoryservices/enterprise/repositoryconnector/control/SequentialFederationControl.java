@@ -3,6 +3,8 @@
 package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsRegistry;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsTimer;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
@@ -12,7 +14,8 @@ import java.util.List;
 
 /**
  * SequentialFederationControl provides a simple sequential federation control loop to
- * manage a single federated query.
+ * manage a single federated query.  The time taken by the whole query and by each call to a
+ * cohort member are recorded in the platform's metrics registry.
  */
 public class SequentialFederationControl extends FederationControlBase
 {
@@ -41,6 +44,32 @@ public class SequentialFederationControl extends FederationControlBase
      * This is probably a logic error rather than an outage
      */
     public void executeCommand(RepositoryExecutor executor) throws RepositoryErrorException
+    {
+        MetricsTimer federationTimer = MetricsRegistry.getPlatformRegistry().getTimer("omrs_enterprise_federated_request_seconds",
+                                                                                      "Time taken by a federated request across the open metadata repositories.",
+                                                                                      "operation", methodName);
+        long         startTime       = System.nanoTime();
+
+        try
+        {
+            this.executeSweeps(executor);
+        }
+        finally
+        {
+            federationTimer.recordSince(startTime);
+        }
+    }
+
+
+    /**
+     * Call each cohort member in turn until the executor has the results it needs, and then give the
+     * executor the chance to augment each result from the cohort members.
+     *
+     * @param executor command to execute
+     * @throws RepositoryErrorException problem with the state of one of the repositories.
+     * This is probably a logic error rather than an outage
+     */
+    private void executeSweeps(RepositoryExecutor executor) throws RepositoryErrorException
     {
         if (super.cohortConnectors != null)
         {
@@ -57,7 +86,7 @@ public class SequentialFederationControl extends FederationControlBase
 
                     if (metadataCollectionId != null)
                     {
-                        if (executor.issueRequestToRepository(metadataCollectionId, metadataCollection))
+                        if (this.issueTimedRequest(executor, cohortConnector, metadataCollectionId, metadataCollection))
                         {
                             /*
                              * The executor returns true if it has all the results it needs.
@@ -97,4 +126,35 @@ public class SequentialFederationControl extends FederationControlBase
             }
         }
     }
+
+
+    /**
+     * Pass the request to a single cohort member, recording how long it takes.
+     *
+     * @param executor command to execute
+     * @param cohortConnector connector to the cohort member
+     * @param metadataCollectionId unique identifier of the cohort member's metadata collection
+     * @param metadataCollection cohort member's metadata collection
+     * @return boolean true if the executor has all the results it needs
+     */
+    private boolean issueTimedRequest(RepositoryExecutor      executor,
+                                      OMRSRepositoryConnector cohortConnector,
+                                      String                  metadataCollectionId,
+                                      OMRSMetadataCollection  metadataCollection)
+    {
+        MetricsTimer repositoryTimer = MetricsRegistry.getPlatformRegistry().getTimer("omrs_enterprise_repository_request_seconds",
+                                                                                      "Time taken by a cohort member to respond to a federated request.",
+                                                                                      "operation", methodName,
+                                                                                      "repository", cohortConnector.getRepositoryName());
+        long         startTime       = System.nanoTime();
+
+        try
+        {
+            return executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+        }
+        finally
+        {
+            repositoryTimer.recordSince(startTime);
+        }
+    }
 }
@@ -0,0 +1,184 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntitiesAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * FindEntitiesByUniquePropertyValueExecutor is the executor for the findEntitiesByUniquePropertyValue request.
+ * This request can be issued in parallel - the call to each request potentially running in a different thread.
+ */
+public class FindEntitiesByUniquePropertyValueExecutor extends PageableEntityRepositoryExecutorBase
+{
+    private final String propertyName;
+    private final String propertyValue;
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the property to match.
+     * @param propertyValue literal value of the property.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param localMetadataCollectionId unique identifier for the local repository - may be null if no local repository
+     * @param auditLog logging destination
+     * @param repositoryValidator validator for resulting relationships
+     * @param methodName calling method
+     */
+    public FindEntitiesByUniquePropertyValueExecutor(String                  userId,
+                                                     String                  entityTypeGUID,
+                                                     String                  propertyName,
+                                                     String                  propertyValue,
+                                                     List<InstanceStatus>    limitResultsByStatus,
+                                                     Date                    asOfTime,
+                                                     String                  localMetadataCollectionId,
+                                                     AuditLog                auditLog,
+                                                     OMRSRepositoryValidator repositoryValidator,
+                                                     String                  methodName)
+    {
+        this(userId,
+             entityTypeGUID,
+             propertyName,
+             propertyValue,
+             limitResultsByStatus,
+             asOfTime,
+             new EntitiesAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             methodName);
+    }
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the property to match.
+     * @param propertyValue literal value of the property.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param accumulator location for results and returned exceptions
+     * @param methodName calling method
+     */
+    private FindEntitiesByUniquePropertyValueExecutor(String               userId,
+                                                      String               entityTypeGUID,
+                                                      String               propertyName,
+                                                      String               propertyValue,
+                                                      List<InstanceStatus> limitResultsByStatus,
+                                                      Date                 asOfTime,
+                                                      EntitiesAccumulator  accumulator,
+                                                      String               methodName)
+    {
+        super(userId,
+              entityTypeGUID,
+              0,
+              limitResultsByStatus,
+              asOfTime,
+              null,
+              null,
+              0,
+              accumulator,
+              methodName);
+
+        this.propertyName = propertyName;
+        this.propertyValue = propertyValue;
+    }
+
+
+    /**
+     * Return a clone of this executor with the same command parameters and accumulator instance.
+     * This is used when setting up the parallel execution of the work.  Each clone executes
+     * the calls to a single open metadata repository.
+     *
+     * @return clone of this executor
+     */
+    public CloneableRepositoryExecutor getClone()
+    {
+        return new FindEntitiesByUniquePropertyValueExecutor(userId,
+                                                             instanceTypeGUID,
+                                                             propertyName,
+                                                             propertyValue,
+                                                             limitResultsByStatus,
+                                                             asOfTime,
+                                                             accumulator,
+                                                             methodName);
+    }
+
+
+    /**
+     * Perform the required action for the supplied repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        try
+        {
+            /*
+             * Issue the request
+             */
+            List<EntityDetail> results = metadataCollection.findEntitiesByUniquePropertyValue(userId,
+                                                                                              instanceTypeGUID,
+                                                                                              propertyName,
+                                                                                              propertyValue,
+                                                                                              limitResultsByStatus,
+                                                                                              asOfTime);
+
+            accumulator.addEntities(results, metadataCollectionId);
+        }
+        catch (InvalidParameterException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (TypeErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (PagingErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (Exception error)
+        {
+            accumulator.captureGenericException(methodName, metadataCollectionId, error);
+        }
+
+        return false;
+    }
+}
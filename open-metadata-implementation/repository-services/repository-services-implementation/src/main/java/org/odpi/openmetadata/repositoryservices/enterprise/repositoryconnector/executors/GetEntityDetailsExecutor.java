@@ -0,0 +1,174 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntityDetailAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.MaintenanceAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GetEntityDetailsExecutor provides the executor for the getEntityDetails method.  It follows the same approach as
+ * the GetEntityDetailExecutor except that each repository is sent a single request for all the entities that have
+ * not yet been retrieved from their home repository.  An accumulator is kept for each entity so the latest version
+ * of the entity and the classifications from each repository are combined in the same way as for a single entity.
+ *
+ * Unlike the GetEntityDetailExecutor, repositories that do not return an entity are not asked for the home
+ * classifications they hold for it, since that would need a request for each entity.  Only the classifications
+ * returned with the entities are combined.
+ */
+public class GetEntityDetailsExecutor extends RepositoryExecutorBase
+{
+    private final Map<String, EntityDetailAccumulator> entityAccumulators = new LinkedHashMap<>();
+    private final MaintenanceAccumulator               requestAccumulator;
+
+
+    /**
+     * Constructor takes the parameters for the request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers (guids) for the entities.
+     * @param auditLog logging destination
+     * @param methodName calling method
+     */
+    public GetEntityDetailsExecutor(String       userId,
+                                    List<String> entityGUIDs,
+                                    AuditLog     auditLog,
+                                    String       methodName)
+    {
+        super(userId, methodName);
+
+        this.requestAccumulator = new MaintenanceAccumulator(auditLog);
+
+        if (entityGUIDs != null)
+        {
+            for (String entityGUID : entityGUIDs)
+            {
+                if ((entityGUID != null) && (! entityAccumulators.containsKey(entityGUID)))
+                {
+                    entityAccumulators.put(entityGUID, new EntityDetailAccumulator(auditLog));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Perform the required action for the supplied repository.
+     * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+     * there are no positive results from any repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    @Override
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        List<String> phaseOneGUIDs = new ArrayList<>();
+
+        for (Map.Entry<String, EntityDetailAccumulator> entry : entityAccumulators.entrySet())
+        {
+            entry.getValue().addContributingMetadataCollection(metadataCollectionId);
+
+            if (entry.getValue().isInPhaseOne())
+            {
+                phaseOneGUIDs.add(entry.getKey());
+            }
+        }
+
+        try
+        {
+            /*
+             * Retrieve the entities that have not yet been retrieved from their home repository.
+             */
+            if (! phaseOneGUIDs.isEmpty())
+            {
+                List<EntityDetail> retrievedEntities = metadataCollection.getEntityDetails(userId, phaseOneGUIDs);
+
+                if (retrievedEntities != null)
+                {
+                    for (EntityDetail retrievedEntity : retrievedEntities)
+                    {
+                        if (retrievedEntity != null)
+                        {
+                            EntityDetailAccumulator accumulator = entityAccumulators.get(retrievedEntity.getGUID());
+
+                            if (accumulator != null)
+                            {
+                                accumulator.addEntity(retrievedEntity, metadataCollectionId);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        catch (InvalidParameterException error)
+        {
+            requestAccumulator.captureException(error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            requestAccumulator.captureException(error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            requestAccumulator.captureException(error);
+        }
+        catch (Exception error)
+        {
+            requestAccumulator.captureGenericException(methodName, metadataCollectionId, error);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the header, classifications and properties of the requested entities.
+     *
+     * @return list of the entities that were found, in the order they were requested; entities that are not known,
+     * are only proxies or are soft-deleted are omitted.  Null means none of the entities were found.
+     * @throws InvalidParameterException one of the guids is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails() throws InvalidParameterException,
+                                                        RepositoryErrorException,
+                                                        UserNotAuthorizedException
+    {
+        List<EntityDetail> results = new ArrayList<>();
+
+        for (EntityDetailAccumulator accumulator : entityAccumulators.values())
+        {
+            EntityDetail entity = accumulator.getResult(false);
+
+            if ((entity != null) && (entity.getStatus() != InstanceStatus.DELETED))
+            {
+                results.add(entity);
+            }
+        }
+
+        if (! results.isEmpty())
+        {
+            return results;
+        }
+
+        requestAccumulator.throwCapturedRepositoryErrorException();
+        requestAccumulator.throwCapturedUserNotAuthorizedException();
+        requestAccumulator.throwCapturedInvalidParameterException();
+
+        return null;
+    }
+}
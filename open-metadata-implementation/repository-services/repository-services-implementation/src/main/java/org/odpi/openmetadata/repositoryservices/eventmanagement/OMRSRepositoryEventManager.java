@@ -4,12 +4,14 @@ package org.odpi.openmetadata.repositoryservices.eventmanagement;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.events.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.InternalOMRSEventProcessingContext;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicRepositoryEventListener;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryeventmapper.OMRSRepositoryEventProcessor;
@@ -35,6 +37,7 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     private final List<BufferedInstanceEvent>               instanceEventBuffer    = new ArrayList<>();
     private final List<OMRSTypeDefEventProcessorInterface>  typeDefEventConsumers  = new ArrayList<>();
     private final List<OMRSInstanceEventProcessorInterface> instanceEventConsumers = new ArrayList<>();
+    private final List<OMRSTopicRepositoryEventListener>    instanceEventListeners = new CopyOnWriteArrayList<>();
     private final OMRSRepositoryContentValidator            repositoryValidator;   /* set in constructor */
     private final OMRSRepositoryEventExchangeRule           exchangeRule;          /* set in constructor */
 
@@ -155,6 +158,27 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     }
 
 
+    /**
+     * Adds a listener that is passed every instance event the OMRSRepositoryEventManager receives, whether or
+     * not the exchange rule allows the event to be processed.  This is for components that hold copies of
+     * instances and need to know when the instances change.
+     *
+     * @param listenerName name of the listener for the audit log
+     * @param instanceEventListener the new listener for instance events
+     */
+    public void registerInstanceEventListener(String                           listenerName,
+                                              OMRSTopicRepositoryEventListener instanceEventListener)
+    {
+        final String actionDescription = "Register Instance Event Listener";
+
+        auditLog.logMessage(actionDescription,
+                            OMRSAuditCode.REGISTERING_EVENT_PROCESSOR.getMessageDefinition(listenerName,
+                                                                                           super.getEventProcessorName()));
+
+        instanceEventListeners.add(instanceEventListener);
+    }
+
+
     /**
      * Indicate that all the event processors are registered, and they are ready to process events.
      */
@@ -269,15 +293,39 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
 
 
     /**
-     * Providing the rule allows, send the instance event to all registered
-     * consumers.
+     * Pass the instance event to the registered listeners and then, providing the rule allows,
+     * send the instance event to all registered consumers.
      *
      * @param event formatted event to send
      */
     private void distributeInstanceEvent(OMRSInstanceEvent event)
     {
+        final String methodName = "distributeInstanceEvent";
+
         boolean validEvent = false;
 
+        /*
+         * A failing listener must not stop the event reaching the other listeners and the consumers.
+         */
+        for (OMRSTopicRepositoryEventListener listener : instanceEventListeners)
+        {
+            try
+            {
+                listener.processInstanceEvent(event);
+            }
+            catch (Exception error)
+            {
+                log.debug("Instance event listener " + listener + " failed to process event " + event, error);
+
+                auditLog.logException(methodName,
+                                      OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event.toString(),
+                                                                                                error.toString(),
+                                                                                                listener.toString()),
+                                      event.toString(),
+                                      error);
+            }
+        }
+
         if (event.getInstanceEventType() == OMRSInstanceEventType.BATCH_INSTANCES_EVENT)
         {
             /*
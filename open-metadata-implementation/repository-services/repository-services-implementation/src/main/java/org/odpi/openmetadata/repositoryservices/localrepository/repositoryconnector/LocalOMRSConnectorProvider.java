@@ -31,6 +31,13 @@ import java.util.UUID;
  */
 public class LocalOMRSConnectorProvider extends ConnectorProvider
 {
+    /*
+     * Name of the configuration property in the local repository's connection that sets the number of threads
+     * used to apply incoming instance events.  When it is not set, each event is applied on the thread that
+     * receives it from the cohort.
+     */
+    public static final String INBOUND_EVENT_APPLY_THREADS_PROPERTY = "inboundEventApplyThreads";
+
     private String                             localMetadataCollectionId       = null;
     private LocalRepositoryMode                localRepositoryMode             = null;
     private Connection                         localRepositoryRemoteConnection = null;
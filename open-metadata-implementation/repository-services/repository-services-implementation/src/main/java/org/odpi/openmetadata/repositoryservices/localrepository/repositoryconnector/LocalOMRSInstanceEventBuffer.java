@@ -0,0 +1,647 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.InternalOMRSEventProcessingContext;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+
+/**
+ * LocalOMRSInstanceEventBuffer sits between the cohort event listeners and the LocalOMRSInstanceEventProcessor.
+ * It queues the inbound instance events for each instance and applies the queues in parallel using a
+ * fixed pool of threads.  The events for a single instance are always applied in the order they arrived.
+ * A relationship event is also held back until the events already queued for the entities at either end of
+ * the relationship have been applied, so that the relationship is not applied before its end entities exist.
+ * <p>
+ * When an event carries the complete new state of an instance (or of one of its classifications) and the
+ * last event queued for that instance has not yet been applied and describes the same state with an earlier
+ * version, the queued event is replaced.  This means that a server catching up on a large number of events
+ * only saves the latest reference copy of each instance.
+ * <p>
+ * Events that can affect more than one instance (such as deletes, purges, re-identifies and batches) are
+ * not queued.  They wait until all the queued events have been applied and are then applied on the calling
+ * thread so that they are seen in the correct order by every instance.
+ * <p>
+ * The future for each queued event is registered with the event processing context of the calling thread
+ * so that the event is not treated as consumed until it has been applied to the local repository.
+ */
+class LocalOMRSInstanceEventBuffer
+{
+    private static final Logger log = LoggerFactory.getLogger(LocalOMRSInstanceEventBuffer.class);
+
+    private static final int    defaultMaxQueuedEventsPerThread = 1000;
+    private static final long   shutdownWaitTime                = 10;
+
+    private final BiConsumer<String, OMRSInstanceEvent> eventApplier;
+    private final AuditLog                              auditLog;
+    private final ExecutorService                       executorService;
+    private final int                                   maxQueuedEvents;
+
+    /*
+     * The queues of events for each instance that has events waiting or being applied.
+     * Access is synchronized on this object.
+     */
+    private final Map<String, InstanceEventQueue> instanceEventQueues = new HashMap<>();
+    private int                                   queuedEventCount    = 0;
+    private long                                  coalescedEventCount = 0;
+    private boolean                               isActive            = true;
+
+
+    /**
+     * Constructor supplies the method used to apply an event to the local repository.
+     *
+     * @param serverName name of the local server - used to name the threads
+     * @param threadCount number of events to apply in parallel
+     * @param eventApplier method that applies an event - it is passed the cohort name and the event
+     * @param auditLog audit log for reporting events that could not be applied
+     */
+    LocalOMRSInstanceEventBuffer(String                                serverName,
+                                 int                                   threadCount,
+                                 BiConsumer<String, OMRSInstanceEvent> eventApplier,
+                                 AuditLog                              auditLog)
+    {
+        final AtomicInteger threadNumber = new AtomicInteger();
+
+        this.eventApplier    = eventApplier;
+        this.auditLog        = auditLog;
+        this.maxQueuedEvents = threadCount * defaultMaxQueuedEventsPerThread;
+        this.executorService = Executors.newFixedThreadPool(threadCount, runnable ->
+        {
+            Thread thread = new Thread(runnable, "omrs-inbound-events-" + serverName + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+
+    /**
+     * Queue or apply an inbound instance event.
+     *
+     * @param cohortName name of the cohort that the event came from
+     * @param instanceEvent event to process
+     */
+    void processInstanceEvent(String            cohortName,
+                              OMRSInstanceEvent instanceEvent)
+    {
+        String instanceGUID = getQueuedInstanceGUID(instanceEvent);
+
+        if (instanceGUID != null)
+        {
+            CompletableFuture<Void> eventApplied = this.queueEvent(instanceGUID, new QueuedInstanceEvent(cohortName, instanceEvent));
+
+            if (eventApplied != null)
+            {
+                InternalOMRSEventProcessingContext.getInstance().addAsyncProcessingResult(eventApplied);
+                return;
+            }
+        }
+
+        /*
+         * Apply this event once all the queued events are applied.
+         */
+        this.waitForQueuedEvents();
+        eventApplier.accept(cohortName, instanceEvent);
+    }
+
+
+    /**
+     * Return the number of events that have been replaced by a later version of the same instance.
+     *
+     * @return count of events
+     */
+    synchronized long getCoalescedEventCount()
+    {
+        return coalescedEventCount;
+    }
+
+
+    /**
+     * Wait for the queued events to be applied and stop the threads.
+     */
+    void shutdown()
+    {
+        synchronized (this)
+        {
+            isActive = false;
+            this.notifyAll();
+        }
+
+        executorService.shutdown();
+
+        try
+        {
+            if (! executorService.awaitTermination(shutdownWaitTime, TimeUnit.SECONDS))
+            {
+                executorService.shutdownNow();
+            }
+        }
+        catch (InterruptedException error)
+        {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Add the event to the queue for its instance.  If the event replaces the last event in the queue, the future
+     * of the replaced event is returned since the new event will be applied in its place.
+     *
+     * @param instanceGUID unique identifier of the instance
+     * @param queuedEvent event to queue
+     * @return future that completes when the event has been applied or null if the buffer is shutting down
+     */
+    private synchronized CompletableFuture<Void> queueEvent(String              instanceGUID,
+                                                            QueuedInstanceEvent queuedEvent)
+    {
+        /*
+         * Hold back the listener if the local repository is falling too far behind.
+         */
+        while ((isActive) && (queuedEventCount >= maxQueuedEvents))
+        {
+            this.waitForChange();
+        }
+
+        if (! isActive)
+        {
+            return null;
+        }
+
+        /*
+         * A relationship waits for the events already queued for its end entities.
+         */
+        queuedEvent.setPrerequisites(this.getEndEntityEventsApplied(instanceGUID, queuedEvent.instanceEvent));
+
+        InstanceEventQueue  instanceEventQueue = instanceEventQueues.computeIfAbsent(instanceGUID, InstanceEventQueue::new);
+        QueuedInstanceEvent lastEvent          = instanceEventQueue.events.peekLast();
+
+        if ((lastEvent != null) && (queuedEvent.replaces(lastEvent)))
+        {
+            if (log.isDebugEnabled())
+            {
+                log.debug("Coalescing " + lastEvent.instanceEvent.getInstanceEventType().getName() + " (version " + lastEvent.version + ") with " +
+                          queuedEvent.instanceEvent.getInstanceEventType().getName() + " (version " + queuedEvent.version + ") for " + instanceGUID);
+            }
+
+            lastEvent.replaceWith(queuedEvent);
+            coalescedEventCount ++;
+
+            return lastEvent.eventApplied;
+        }
+
+        instanceEventQueue.events.addLast(queuedEvent);
+        instanceEventQueue.lastEventApplied = queuedEvent.eventApplied;
+        queuedEventCount ++;
+
+        if (! instanceEventQueue.isScheduled)
+        {
+            instanceEventQueue.isScheduled = true;
+            this.scheduleQueuedEvents(instanceEventQueue);
+        }
+
+        return queuedEvent.eventApplied;
+    }
+
+
+    /**
+     * Apply the events queued for an instance until its queue is empty.
+     *
+     * @param instanceEventQueue queue for an instance
+     */
+    private void applyQueuedEvents(InstanceEventQueue instanceEventQueue)
+    {
+        final String methodName = "applyQueuedEvents";
+
+        QueuedInstanceEvent nextEvent = this.getNextEvent(instanceEventQueue);
+
+        while (nextEvent != null)
+        {
+            try
+            {
+                eventApplier.accept(nextEvent.cohortName, nextEvent.instanceEvent);
+            }
+            catch (Exception error)
+            {
+                /*
+                 * This catch ensures the rest of the queue is applied.
+                 */
+                log.debug("Unexpected exception applying inbound instance event for " + instanceEventQueue.instanceGUID, error);
+
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          OMRSAuditCode.UNEXPECTED_EXCEPTION.getMessageDefinition(error.getClass().getName(),
+                                                                                                  methodName,
+                                                                                                  error.getMessage()),
+                                          nextEvent.instanceEvent.toString(),
+                                          error);
+                }
+            }
+            finally
+            {
+                /*
+                 * Any asynchronous processing registered while applying the event is not tracked on this thread.
+                 */
+                InternalOMRSEventProcessingContext.clear();
+                nextEvent.eventApplied.complete(null);
+            }
+
+            nextEvent = this.getNextEvent(instanceEventQueue);
+        }
+    }
+
+
+    /**
+     * Remove the next event from the queue for an instance.  Once the event is removed it can no longer be
+     * replaced.  The queue is discarded when it is empty.  If the next event is waiting for the events of
+     * other instances, it is left in the queue and the queue is scheduled again once they have been applied,
+     * so that no thread is blocked while it waits.
+     *
+     * @param instanceEventQueue queue for an instance
+     * @return next event or null if the queue is empty or waiting
+     */
+    private synchronized QueuedInstanceEvent getNextEvent(InstanceEventQueue instanceEventQueue)
+    {
+        QueuedInstanceEvent firstEvent = instanceEventQueue.events.peekFirst();
+
+        if ((firstEvent != null) && (firstEvent.prerequisites != null) && (! firstEvent.prerequisites.isDone()))
+        {
+            firstEvent.prerequisites.whenComplete((result, error) -> this.scheduleQueuedEvents(instanceEventQueue));
+
+            return null;
+        }
+
+        QueuedInstanceEvent nextEvent = instanceEventQueue.events.pollFirst();
+
+        if (nextEvent == null)
+        {
+            instanceEventQueue.isScheduled = false;
+            instanceEventQueues.remove(instanceEventQueue.instanceGUID);
+        }
+        else
+        {
+            queuedEventCount --;
+        }
+
+        this.notifyAll();
+
+        return nextEvent;
+    }
+
+
+    /**
+     * Apply the events queued for an instance on one of the buffer's threads.  If the threads have been
+     * shutdown, the events are applied on the calling thread.
+     *
+     * @param instanceEventQueue queue for an instance
+     */
+    private void scheduleQueuedEvents(InstanceEventQueue instanceEventQueue)
+    {
+        try
+        {
+            executorService.execute(() -> this.applyQueuedEvents(instanceEventQueue));
+        }
+        catch (RejectedExecutionException error)
+        {
+            this.applyQueuedEvents(instanceEventQueue);
+        }
+    }
+
+
+    /**
+     * Return a future that completes when the events queued for the end entities of a relationship have been
+     * applied.  The caller must hold the lock on this object.
+     *
+     * @param instanceGUID unique identifier that the event is queued under
+     * @param instanceEvent inbound event
+     * @return future or null if the event is not for a relationship or there is nothing to wait for
+     */
+    private CompletableFuture<Void> getEndEntityEventsApplied(String            instanceGUID,
+                                                              OMRSInstanceEvent instanceEvent)
+    {
+        Relationship relationship = instanceEvent.getRelationship();
+
+        if (relationship == null)
+        {
+            return null;
+        }
+
+        List<CompletableFuture<Void>> endEntityEventsApplied = new ArrayList<>();
+
+        for (EntityProxy endEntity : new EntityProxy[]{ relationship.getEntityOneProxy(), relationship.getEntityTwoProxy() })
+        {
+            String endEntityGUID = getGUID(endEntity);
+
+            if ((endEntityGUID != null) && (! endEntityGUID.equals(instanceGUID)))
+            {
+                InstanceEventQueue endEntityQueue = instanceEventQueues.get(endEntityGUID);
+
+                if (endEntityQueue != null)
+                {
+                    endEntityEventsApplied.add(endEntityQueue.lastEventApplied);
+                }
+            }
+        }
+
+        if (endEntityEventsApplied.isEmpty())
+        {
+            return null;
+        }
+
+        return CompletableFuture.allOf(endEntityEventsApplied.toArray(new CompletableFuture[0]));
+    }
+
+
+    /**
+     * Wait until all the queued events have been applied.
+     */
+    private synchronized void waitForQueuedEvents()
+    {
+        while ((isActive) && (! instanceEventQueues.isEmpty()))
+        {
+            this.waitForChange();
+        }
+    }
+
+
+    /**
+     * Wait for the queues to change.  The caller must hold the lock on this object.
+     */
+    private void waitForChange()
+    {
+        try
+        {
+            this.wait();
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            isActive = false;
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of the instance that an event is queued under, or null if the event
+     * must wait for all queued events to be applied.
+     *
+     * @param instanceEvent inbound event
+     * @return unique identifier or null
+     */
+    private String getQueuedInstanceGUID(OMRSInstanceEvent instanceEvent)
+    {
+        if ((instanceEvent.getInstanceEventType() == null) || (instanceEvent.getEventOriginator() == null))
+        {
+            return null;
+        }
+
+        switch (instanceEvent.getInstanceEventType())
+        {
+            case NEW_ENTITY_EVENT:
+            case UPDATED_ENTITY_EVENT:
+            case UNDONE_ENTITY_EVENT:
+            case REFRESHED_ENTITY_EVENT:
+                return getGUID(instanceEvent.getEntity());
+
+            case CLASSIFIED_ENTITY_EVENT:
+            case RECLASSIFIED_ENTITY_EVENT:
+            case DECLASSIFIED_ENTITY_EVENT:
+                if (instanceEvent.getEntityProxy() != null)
+                {
+                    return getGUID(instanceEvent.getEntityProxy());
+                }
+
+                return getGUID(instanceEvent.getEntity());
+
+            case NEW_RELATIONSHIP_EVENT:
+            case UPDATED_RELATIONSHIP_EVENT:
+            case UNDONE_RELATIONSHIP_EVENT:
+            case REFRESHED_RELATIONSHIP_EVENT:
+                return getGUID(instanceEvent.getRelationship());
+
+            default:
+                return null;
+        }
+    }
+
+
+    /**
+     * Return the unique identifier from an instance.
+     *
+     * @param instance instance from the event
+     * @return unique identifier or null
+     */
+    private static String getGUID(InstanceHeader instance)
+    {
+        if (instance != null)
+        {
+            return instance.getGUID();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * InstanceEventQueue holds the events waiting to be applied to a single instance.  The queue is kept until
+     * its last event has been applied, so lastEventApplied covers the event being applied as well as the
+     * events that are waiting.
+     */
+    private static class InstanceEventQueue
+    {
+        final String                     instanceGUID;
+        final Deque<QueuedInstanceEvent> events           = new ArrayDeque<>();
+        boolean                          isScheduled      = false;
+        CompletableFuture<Void>          lastEventApplied = null;
+
+
+        /**
+         * Constructor
+         *
+         * @param instanceGUID unique identifier of the instance
+         */
+        InstanceEventQueue(String instanceGUID)
+        {
+            this.instanceGUID = instanceGUID;
+        }
+    }
+
+
+    /**
+     * QueuedInstanceEvent is an event waiting to be applied.  Events with the same state key describe the same
+     * state of the same instance so the event with the later version can be applied in place of the other.
+     */
+    private static class QueuedInstanceEvent
+    {
+        final CompletableFuture<Void> eventApplied = new CompletableFuture<>();
+
+        String                  cohortName;
+        OMRSInstanceEvent       instanceEvent;
+        String                  stateKey;
+        long                    version;
+        CompletableFuture<Void> prerequisites = null;
+
+
+        /**
+         * Constructor
+         *
+         * @param cohortName name of the cohort that the event came from
+         * @param instanceEvent event to apply
+         */
+        QueuedInstanceEvent(String            cohortName,
+                            OMRSInstanceEvent instanceEvent)
+        {
+            this.cohortName    = cohortName;
+            this.instanceEvent = instanceEvent;
+            this.stateKey      = getStateKey(instanceEvent);
+            this.version       = getVersion(instanceEvent);
+        }
+
+
+        /**
+         * Return whether this event can be applied in place of an earlier event that has not yet been applied.
+         *
+         * @param queuedEvent earlier event for the same instance
+         * @return boolean
+         */
+        boolean replaces(QueuedInstanceEvent queuedEvent)
+        {
+            return ((stateKey != null) && (stateKey.equals(queuedEvent.stateKey)) && (version >= queuedEvent.version));
+        }
+
+
+        /**
+         * Apply the later event in place of this one.
+         *
+         * @param queuedEvent later event for the same state
+         */
+        void replaceWith(QueuedInstanceEvent queuedEvent)
+        {
+            this.cohortName    = queuedEvent.cohortName;
+            this.instanceEvent = queuedEvent.instanceEvent;
+            this.version       = queuedEvent.version;
+
+            this.setPrerequisites(queuedEvent.prerequisites);
+        }
+
+
+        /**
+         * Add to the events that must be applied before this event.
+         *
+         * @param prerequisites future that completes when the events have been applied (may be null)
+         */
+        void setPrerequisites(CompletableFuture<Void> prerequisites)
+        {
+            if (this.prerequisites == null)
+            {
+                this.prerequisites = prerequisites;
+            }
+            else if (prerequisites != null)
+            {
+                this.prerequisites = CompletableFuture.allOf(this.prerequisites, prerequisites);
+            }
+        }
+
+
+        /**
+         * Return the key that identifies the state that the event sets.  New, updated and refreshed events
+         * each carry the complete instance.  Classified and reclassified events carry the complete classification.
+         * The key includes the originator so events from different home repositories are never combined.
+         *
+         * @param instanceEvent inbound event
+         * @return key or null if the event can not replace another event
+         */
+        private static String getStateKey(OMRSInstanceEvent instanceEvent)
+        {
+            OMRSEventOriginator eventOriginator = instanceEvent.getEventOriginator();
+            String              originatorId    = eventOriginator.getMetadataCollectionId();
+
+            switch (instanceEvent.getInstanceEventType())
+            {
+                case NEW_ENTITY_EVENT:
+                case UPDATED_ENTITY_EVENT:
+                case REFRESHED_ENTITY_EVENT:
+                    return "Entity:" + originatorId;
+
+                case NEW_RELATIONSHIP_EVENT:
+                case UPDATED_RELATIONSHIP_EVENT:
+                case REFRESHED_RELATIONSHIP_EVENT:
+                    return "Relationship:" + originatorId;
+
+                case CLASSIFIED_ENTITY_EVENT:
+                case RECLASSIFIED_ENTITY_EVENT:
+                    Classification classification = instanceEvent.getClassification();
+
+                    if ((classification != null) && (classification.getName() != null))
+                    {
+                        String entityForm = (instanceEvent.getEntityProxy() != null) ? "EntityProxy:" : "Entity:";
+
+                        return "Classification:" + entityForm + classification.getName() + ":" + originatorId;
+                    }
+
+                    return null;
+
+                default:
+                    return null;
+            }
+        }
+
+
+        /**
+         * Return the version of the state carried by the event.
+         *
+         * @param instanceEvent inbound event
+         * @return version number
+         */
+        private static long getVersion(OMRSInstanceEvent instanceEvent)
+        {
+            switch (instanceEvent.getInstanceEventType())
+            {
+                case CLASSIFIED_ENTITY_EVENT:
+                case RECLASSIFIED_ENTITY_EVENT:
+                    if (instanceEvent.getClassification() != null)
+                    {
+                        return instanceEvent.getClassification().getVersion();
+                    }
+                    return 0;
+
+                case NEW_RELATIONSHIP_EVENT:
+                case UPDATED_RELATIONSHIP_EVENT:
+                case UNDONE_RELATIONSHIP_EVENT:
+                case REFRESHED_RELATIONSHIP_EVENT:
+                    return instanceEvent.getRelationship().getVersion();
+
+                default:
+                    if (instanceEvent.getEntity() != null)
+                    {
+                        return instanceEvent.getEntity().getVersion();
+                    }
+                    return 0;
+            }
+        }
+    }
+}
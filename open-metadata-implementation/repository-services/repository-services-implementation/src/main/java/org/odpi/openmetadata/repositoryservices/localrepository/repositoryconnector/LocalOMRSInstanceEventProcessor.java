@@ -50,6 +50,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     private final OMRSRepositoryEventProcessor    outboundRepositoryEventProcessor;
 
     private OMRSMetadataCollection          localMetadataCollection = null;
+    private LocalOMRSInstanceEventBuffer    inboundEventBuffer      = null;
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -63,6 +64,9 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     /**
      * Constructor saves all the information necessary to process incoming instance events.  It is intolerant
      * of nulls in any of its parameters and will throw a logic error exception is it finds any.
+     * If inboundEventApplyThreads is greater than zero, incoming events are passed through a
+     * LocalOMRSInstanceEventBuffer that applies the events for different instances in parallel and
+     * skips versions of an instance that are replaced before they are applied.
      *
      * @param localMetadataCollectionId        local metadata collection identifier
      * @param localServerName                  name of the local server for logging
@@ -73,6 +77,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
      * @param produceRefreshEvents             flag indicating whether the local connector should respond to refresh events
      * @param outboundRepositoryEventProcessor event processor
      * @param auditLog                         audit log for this component.
+     * @param inboundEventApplyThreads         number of threads applying incoming events - zero means apply each event
+     *                                         on the thread that delivers it
      */
     LocalOMRSInstanceEventProcessor(String                          localMetadataCollectionId,
                                     String                          localServerName,
@@ -82,7 +88,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                     OMRSRepositoryEventExchangeRule saveExchangeRule,
                                     boolean                         produceRefreshEvents,
                                     OMRSRepositoryEventProcessor    outboundRepositoryEventProcessor,
-                                    AuditLog                        auditLog)
+                                    AuditLog                        auditLog,
+                                    int                             inboundEventApplyThreads)
     {
         super(localOMRSInstanceEventProcessorName);
 
@@ -114,6 +121,26 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         }
 
         this.verifyEventProcessor(methodName);
+
+        if (inboundEventApplyThreads > 0)
+        {
+            this.inboundEventBuffer = new LocalOMRSInstanceEventBuffer(localServerName,
+                                                                       inboundEventApplyThreads,
+                                                                       this::applyInstanceEvent,
+                                                                       auditLog);
+        }
+    }
+
+
+    /**
+     * Stop the threads applying incoming events once the events already queued have been applied.
+     */
+    void shutdown()
+    {
+        if (inboundEventBuffer != null)
+        {
+            inboundEventBuffer.shutdown();
+        }
     }
 
 
@@ -173,7 +200,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
 
 
     /**
-     * Unpack and process the incoming event
+     * Process the incoming event.  If the inbound event buffer is in use, the event may be queued and applied
+     * by one of its threads.
      *
      * @param cohortName source of the event
      * @param instanceEvent the event to process
@@ -181,6 +209,26 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     @Override
     public void   sendInstanceEvent(String            cohortName,
                                     OMRSInstanceEvent instanceEvent)
+    {
+        if (inboundEventBuffer != null)
+        {
+            inboundEventBuffer.processInstanceEvent(cohortName, instanceEvent);
+        }
+        else
+        {
+            this.applyInstanceEvent(cohortName, instanceEvent);
+        }
+    }
+
+
+    /**
+     * Unpack and process the incoming event
+     *
+     * @param cohortName source of the event
+     * @param instanceEvent the event to process
+     */
+    private void applyInstanceEvent(String            cohortName,
+                                    OMRSInstanceEvent instanceEvent)
     {
         final String methodName = "sendInstanceEvent";
 
@@ -2,6 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
 
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsRegistry;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.MetricsTimer;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataDefaultRepositorySecurity;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OpenMetadataRepositorySecurity;
@@ -17,6 +19,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSInstanceGraphDigestUtilities;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.localrepository.OMRSLocalRepository;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSTypeDefManager;
@@ -24,6 +27,8 @@ import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconten
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * LocalOMRSMetadataCollection provides a wrapper around the metadata collection for the real local repository.
@@ -45,6 +50,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
      */
     private OpenMetadataRepositorySecurity securityVerifier = new OMRSMetadataDefaultRepositorySecurity();
 
+    private final Map<String, MetricsTimer> requestTimers = new ConcurrentHashMap<>();
+
 
     /**
      * Constructor used by LocalOMRSRepositoryConnector
@@ -115,6 +122,24 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the timer for an instance operation on the local repository.  The time is recorded as the
+     * operation returns, so it covers the validation, the call to the real repository connector and the
+     * outbound event.  Operations that fail with an exception are not timed.
+     *
+     * @param methodName name of the operation
+     * @return timer
+     */
+    private MetricsTimer getRequestTimer(String methodName)
+    {
+        return requestTimers.computeIfAbsent(methodName,
+                                             (operationName) -> MetricsRegistry.getPlatformRegistry().getTimer("omrs_local_repository_request_seconds",
+                                                                                                               "Time taken by the local repository to process instance requests.",
+                                                                                                               "server", localServerName,
+                                                                                                               "operation", operationName));
+    }
+
+
     /**
      * Set up a new security verifier (the handler runs with a default verifier until this
      * method is called).
@@ -1739,6 +1764,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String methodName = "isEntityKnown";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -1749,6 +1776,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         EntityDetail entity = realMetadataCollection.isEntityKnown(userId, guid);
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return this.getValidatedEntity(userId, entity);
     }
 
@@ -1775,6 +1804,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "getEntitySummary";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -1805,6 +1836,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return entity;
     }
 
@@ -1832,6 +1865,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName        = "getEntityDetail";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -1844,10 +1879,57 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
         repositoryValidator.validateEntityFromStore(repositoryName, guid, entity, methodName);
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return this.getValidatedEntity(userId, entity);
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of the entities that were found, in the order they were requested; entities that are not known,
+     * are only proxies or are soft-deleted are omitted.  Null means none of the entities were found.
+     * @throws InvalidParameterException the list of guids is null or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName        = "getEntityDetails";
+
+        long startTime = System.nanoTime();
+
+        /*
+         * Validate parameters
+         */
+        super.getEntityDetailsParameterValidation(userId, guids);
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail> resultList = this.securityVerifyReadEntityList(userId,
+                                                                          realMetadataCollection.getEntityDetails(userId, guids));
+
+        if ((resultList == null) || (resultList.isEmpty()))
+        {
+            this.getRequestTimer(methodName).recordSince(startTime);
+            return null;
+        }
+
+        this.getRequestTimer(methodName).recordSince(startTime);
+
+        return resultList;
+    }
+
+
     /**
      * Return a historical version of an entity.  This includes the header, classifications and properties of the entity.
      *
@@ -1876,6 +1958,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String methodName = "getEntityDetail";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -1888,6 +1972,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
         repositoryValidator.validateEntityFromStore(repositoryName, guid, entity, methodName);
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return this.getValidatedEntity(userId, entity);
     }
 
@@ -1931,6 +2017,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName        = "getEntityDetailHistory";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -1941,6 +2029,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<EntityDetail> history = realMetadataCollection.getEntityDetailHistory(userId, guid, fromTime, toTime, startFromElement, pageSize, sequencingOrder);
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(history));
     }
 
@@ -1994,6 +2084,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                     FunctionNotSupportedException,
                                                                                                     UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2020,6 +2112,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                           sequencingOrder,
                                                                                           pageSize);
 
+        this.getRequestTimer("getRelationshipsForEntity").recordSince(startTime);
+
         return this.securityVerifyReadRelationshipList(userId, setLocalProvenanceInRelationshipList(resultList));
     }
 
@@ -2079,6 +2173,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                 FunctionNotSupportedException,
                                                                                                 UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2113,6 +2209,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                    pageSize);
 
 
+        this.getRequestTimer("findEntitiesByProperty").recordSince(startTime);
+
         return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
     }
 
@@ -2170,6 +2268,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                       FunctionNotSupportedException,
                                                                                       UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2204,6 +2304,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                          sequencingOrder,
                                                          pageSize);
 
+        this.getRequestTimer("findEntities").recordSince(startTime);
+
         return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
     }
 
@@ -2266,6 +2368,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                        FunctionNotSupportedException,
                                                                                                        UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2298,6 +2402,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                          sequencingOrder,
                                                                          pageSize);
 
+        this.getRequestTimer("findEntitiesByClassification").recordSince(startTime);
+
         return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
     }
 
@@ -2358,6 +2464,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                   FunctionNotSupportedException,
                                                                                                   UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2386,6 +2494,74 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                            sequencingOrder,
                                                                                            pageSize);
 
+        this.getRequestTimer("findEntitiesByPropertyValue").recordSince(startTime);
+
+        return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
+    }
+
+
+    /**
+     * Return the entities whose string property exactly matches the supplied value.  This is intended for
+     * properties that are declared as unique in their type (such as qualifiedName).
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the property to match.
+     * @param propertyValue value of the property (this is a literal value rather than a regular expression).
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @return a list of entities matching the supplied value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for the requested type of entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public  List<EntityDetail> findEntitiesByUniquePropertyValue(String               userId,
+                                                                 String               entityTypeGUID,
+                                                                 String               propertyName,
+                                                                 String               propertyValue,
+                                                                 List<InstanceStatus> limitResultsByStatus,
+                                                                 Date                 asOfTime) throws InvalidParameterException,
+                                                                                                       TypeErrorException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       PropertyErrorException,
+                                                                                                       PagingErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        long startTime = System.nanoTime();
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByUniquePropertyValueParameterValidation(userId,
+                                                                   entityTypeGUID,
+                                                                   propertyName,
+                                                                   propertyValue,
+                                                                   limitResultsByStatus,
+                                                                   asOfTime);
+
+        /*
+         * Process operation
+         */
+        List<EntityDetail> resultList = realMetadataCollection.findEntitiesByUniquePropertyValue(userId,
+                                                                                                 entityTypeGUID,
+                                                                                                 propertyName,
+                                                                                                 propertyValue,
+                                                                                                 limitResultsByStatus,
+                                                                                                 asOfTime);
+
+        this.getRequestTimer("findEntitiesByUniquePropertyValue").recordSince(startTime);
+
         return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
     }
 
@@ -2410,6 +2586,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "isRelationshipKnown";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2421,6 +2599,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
         Relationship relationship = realMetadataCollection.isRelationshipKnown(userId, guid);
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return this.getValidatedRelationship(userId, relationship);
     }
 
@@ -2447,6 +2627,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "getRelationship";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2459,6 +2641,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
         repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return this.getValidatedRelationship(userId, relationship);
     }
 
@@ -2489,6 +2673,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "getRelationship";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2501,6 +2687,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
         repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return this.getValidatedRelationship(userId, relationship);
     }
 
@@ -2542,6 +2730,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "getRelationshipHistory";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2552,6 +2742,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<Relationship> history = realMetadataCollection.getRelationshipHistory(userId, guid, fromTime, toTime, startFromElement, pageSize, sequencingOrder);
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return this.securityVerifyReadRelationshipList(userId, setLocalProvenanceInRelationshipList(history));
     }
 
@@ -2610,6 +2802,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                             FunctionNotSupportedException,
                                                                                             UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2641,6 +2835,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                               sequencingOrder,
                                                               pageSize);
 
+        this.getRequestTimer("findRelationships").recordSince(startTime);
+
         return this.securityVerifyReadRelationshipList(userId, setLocalProvenanceInRelationshipList(resultList));
     }
 
@@ -2699,6 +2895,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                       FunctionNotSupportedException,
                                                                                                       UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2730,6 +2928,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                         sequencingOrder,
                                                                         pageSize);
 
+        this.getRequestTimer("findRelationshipsByProperty").recordSince(startTime);
+
         return this.securityVerifyReadRelationshipList(userId, setLocalProvenanceInRelationshipList(resultList));
     }
 
@@ -2787,6 +2987,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                            FunctionNotSupportedException,
                                                                                                            UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2813,6 +3015,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                 sequencingOrder,
                                                                                                 pageSize);
 
+        this.getRequestTimer("findRelationshipsByPropertyValue").recordSince(startTime);
+
         return this.securityVerifyReadRelationshipList(userId, setLocalProvenanceInRelationshipList(resultList));
     }
 
@@ -2850,6 +3054,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                        FunctionNotSupportedException,
                                                                                        UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2871,6 +3077,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Check result before return
          */
+        this.getRequestTimer("getLinkingEntities").recordSince(startTime);
+
         return this.securityVerifyReadGraph(userId, setLocalProvenanceInGraph(resultGraph));
     }
 
@@ -2922,6 +3130,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String methodName = "getEntityNeighborhood";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -2949,10 +3159,105 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Check result before return
          */
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return this.securityVerifyReadGraph(userId, setLocalProvenanceInGraph(resultGraph));
     }
 
 
+    /**
+     * Return a digest of the entities and relationships that radiate out from the supplied entity GUID.
+     * The results are scoped by the instance type guids, the level and the maximum number of entities.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param maxEntities the maximum number of entities to return.  Zero or less means no limit.
+     * @param digestPropertyNames names of the properties to return for each instance.  Null means return the
+     *                            full instances.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public  InstanceGraph getEntityNeighborhoodDigest(String               userId,
+                                                      String               entityGUID,
+                                                      List<String>         entityTypeGUIDs,
+                                                      List<String>         relationshipTypeGUIDs,
+                                                      List<InstanceStatus> limitResultsByStatus,
+                                                      List<String>         limitResultsByClassification,
+                                                      Date                 asOfTime,
+                                                      int                  level,
+                                                      int                  maxEntities,
+                                                      List<String>         digestPropertyNames) throws InvalidParameterException,
+                                                                                                       TypeErrorException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       EntityNotKnownException,
+                                                                                                       PropertyErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        final String methodName = "getEntityNeighborhoodDigest";
+
+        long startTime = System.nanoTime();
+
+        /*
+         * Validate parameters
+         */
+        super.getEntityNeighborhoodDigestParameterValidation(userId,
+                                                             entityGUID,
+                                                             entityTypeGUIDs,
+                                                             relationshipTypeGUIDs,
+                                                             limitResultsByStatus,
+                                                             limitResultsByClassification,
+                                                             asOfTime,
+                                                             level,
+                                                             maxEntities,
+                                                             digestPropertyNames);
+        this.validateRepositoryConnector(methodName);
+
+        /*
+         * Perform operation.  The full instances are retrieved from the real repository so that the
+         * security checks see the complete instances.  They are reduced to digests afterwards.
+         */
+        InstanceGraph resultGraph = realMetadataCollection.getEntityNeighborhoodDigest(userId,
+                                                                                       entityGUID,
+                                                                                       entityTypeGUIDs,
+                                                                                       relationshipTypeGUIDs,
+                                                                                       limitResultsByStatus,
+                                                                                       limitResultsByClassification,
+                                                                                       asOfTime,
+                                                                                       level,
+                                                                                       maxEntities,
+                                                                                       null);
+        /*
+         * Check result before return
+         */
+        this.getRequestTimer(methodName).recordSince(startTime);
+
+        return OMRSInstanceGraphDigestUtilities.getGraphDigest(this.securityVerifyReadGraph(userId, setLocalProvenanceInGraph(resultGraph)),
+                                                               digestPropertyNames);
+    }
+
+
     /**
      * Return the list of entities that are of the types listed in entityTypeGUIDs and are connected, either directly or
      * indirectly to the entity identified by startEntityGUID.
@@ -3007,6 +3312,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "getRelatedEntities";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -3036,6 +3343,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                    sequencingOrder,
                                                                                    pageSize);
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
     }
 
@@ -3084,6 +3393,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName  = "addEntity";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -3140,6 +3451,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return entity;
     }
 
@@ -3193,6 +3506,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "addExternalEntity";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -3251,6 +3566,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return entity;
     }
 
@@ -3274,6 +3591,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                 FunctionNotSupportedException,
                                                                 UserNotAuthorizedException
     {
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -3286,6 +3605,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * not stored locally.  Its type may not be supported locally either.
          */
         realMetadataCollection.addEntityProxy(userId, entityProxy);
+
+        this.getRequestTimer("addEntityProxy").recordSince(startTime);
     }
 
     /**
@@ -3597,6 +3918,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "updateEntityStatus";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -3630,6 +3953,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             notifyOfUpdatedEntity(currentEntity, newEntity);
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return newEntity;
     }
 
@@ -3662,6 +3987,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "updateEntityProperties";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -3695,6 +4022,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             notifyOfUpdatedEntity(currentEntity, newEntity);
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return newEntity;
     }
 
@@ -3721,6 +4050,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                       UserNotAuthorizedException
     {
         final String methodName    = "undoEntityUpdate";
+
+        long startTime = System.nanoTime();
+
         final String parameterName = "entityGUID";
 
         /*
@@ -3768,6 +4100,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return entity;
     }
 
@@ -3804,6 +4138,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                          UserNotAuthorizedException
     {
         final String methodName    = "deleteEntity";
+
+        long startTime = System.nanoTime();
+
         final String parameterName = "obsoleteEntityGUID";
 
         /*
@@ -3859,6 +4196,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return entity;
     }
 
@@ -3892,6 +4231,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                 UserNotAuthorizedException
     {
         final String methodName    = "purgeEntity";
+
+        long startTime = System.nanoTime();
+
         final String parameterName = "deletedEntityGUID";
 
         /*
@@ -3955,6 +4297,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
             }
         }
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -3982,6 +4326,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                           UserNotAuthorizedException
     {
         final String methodName    = "restoreEntity";
+
+        long startTime = System.nanoTime();
+
         final String parameterName = "deletedEntityGUID";
 
         /*
@@ -4024,6 +4371,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return entity;
     }
 
@@ -4061,6 +4410,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String methodName = "classifyEntity";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -4125,6 +4476,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return entity;
     }
 
@@ -4162,6 +4515,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String methodName = "classifyEntity";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -4216,6 +4571,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return classification;
     }
 
@@ -4261,6 +4618,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "classifyEntity (detailed)";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -4329,6 +4688,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return entity;
     }
 
@@ -4374,6 +4735,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "classifyEntity (detailed)";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -4432,6 +4795,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return classification;
     }
 
@@ -4463,6 +4828,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String methodName = "declassifyEntity";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -4518,6 +4885,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return entity;
     }
 
@@ -4549,6 +4918,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String methodName = "declassifyEntity (EntityProxy)";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -4592,6 +4963,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                             removedClassification);
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return removedClassification;
     }
 
@@ -4628,6 +5001,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String methodName = "updateEntityClassification";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -4689,6 +5064,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return entity;
     }
 
@@ -4725,6 +5102,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String methodName = "updateEntityClassification (EntityProxy)";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -4781,6 +5160,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                             newClassification);
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return newClassification;
     }
 
@@ -4825,6 +5206,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "addRelationship";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -4885,6 +5268,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return relationship;
     }
 
@@ -4937,6 +5322,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "addExternalRelationship";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -5001,6 +5388,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return relationship;
     }
 
@@ -5032,6 +5421,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName          = "updateRelationshipStatus";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -5069,6 +5460,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             notifyOfUpdatedRelationship(currentRelationship, newRelationship);
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return newRelationship;
     }
 
@@ -5101,6 +5494,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "updateRelationshipProperties";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -5136,6 +5531,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             notifyOfUpdatedRelationship(currentRelationship, newRelationship);
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return newRelationship;
     }
 
@@ -5187,6 +5584,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                   UserNotAuthorizedException
     {
         final String  methodName    = "undoRelationshipUpdate";
+
+        long startTime = System.nanoTime();
+
         final String  parameterName = "relationshipGUID";
 
         /*
@@ -5237,6 +5637,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return newRelationship;
     }
 
@@ -5270,6 +5672,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                    UserNotAuthorizedException
     {
         final String  methodName    = "deleteRelationship";
+
+        long startTime = System.nanoTime();
+
         final String  parameterName = "obsoleteRelationshipGUID";
 
 
@@ -5326,6 +5731,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return newRelationship;
     }
 
@@ -5357,6 +5764,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                             UserNotAuthorizedException
     {
         final String  methodName    = "purgeRelationship";
+
+        long startTime = System.nanoTime();
+
         final String  parameterName = "deletedRelationshipGUID";
 
 
@@ -5434,6 +5844,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
             }
         }
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -5462,6 +5874,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                       UserNotAuthorizedException
     {
         final String  methodName    = "restoreRelationship";
+
+        long startTime = System.nanoTime();
+
         final String  parameterName = "deletedRelationshipGUID";
 
         /*
@@ -5506,6 +5921,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return newRelationship;
     }
 
@@ -5545,6 +5962,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                          UserNotAuthorizedException
     {
         final String  methodName = "reIdentifyEntity";
+
+        long startTime = System.nanoTime();
+
         final String  instanceParameterName = "entityGUID";
         final String  newInstanceParameterName = "newEntityGUID";
 
@@ -5605,6 +6025,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return entity;
     }
 
@@ -5644,6 +6066,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                               UserNotAuthorizedException
     {
         final String  methodName                  = "reTypeEntity";
+
+        long startTime = System.nanoTime();
+
         final String  entityParameterName         = "entityGUID";
 
         /*
@@ -5701,6 +6126,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return entity;
     }
 
@@ -5739,6 +6166,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                      UserNotAuthorizedException
     {
         final String methodName           = "reHomeEntity";
+
+        long startTime = System.nanoTime();
+
         final String entityParameterName  = "entityGUID";
         final String newHomeParameterName = "newHomeMetadataCollectionId";
 
@@ -5839,6 +6269,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                 }
             }
 
+            this.getRequestTimer(methodName).recordSince(startTime);
+
             return entity;
         }
 
@@ -5885,6 +6317,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                      UserNotAuthorizedException
     {
         final String  methodName = "reIdentifyRelationship";
+
+        long startTime = System.nanoTime();
+
         final String  instanceParameterName = "relationshipGUID";
         final String  newInstanceParameterName = "newRelationshipGUID";
 
@@ -5945,6 +6380,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return relationship;
     }
 
@@ -5983,6 +6420,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                     UserNotAuthorizedException
     {
         final String methodName = "reTypeRelationship";
+
+        long startTime = System.nanoTime();
+
         final String relationshipParameterName = "relationshipGUID";
 
         /*
@@ -6041,6 +6481,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return relationship;
     }
 
@@ -6080,6 +6522,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                            UserNotAuthorizedException
     {
         final String methodName                = "reHomeRelationship";
+
+        long startTime = System.nanoTime();
+
         final String relationshipParameterName = "relationshipGUID";
         final String newHomeParameterName      = "newHomeMetadataCollectionId";
 
@@ -6169,6 +6614,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                 }
             }
 
+            this.getRequestTimer(methodName).recordSince(startTime);
+
             return relationship;
         }
 
@@ -6222,6 +6669,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                       UserNotAuthorizedException
     {
         final String  methodName = "saveEntityReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String  instanceParameterName = "entity";
 
         /*
@@ -6244,6 +6694,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                 realMetadataCollection.saveEntityReferenceCopy(userId, entity);
             }
         }
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -6272,6 +6724,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "getHomeClassifications";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -6287,6 +6741,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             setLocalProvenanceInEntityClassifications(homeClassifications);
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return homeClassifications;
     }
 
@@ -6317,6 +6773,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     {
         final String  methodName = "getHomeClassifications (with history)";
 
+        long startTime = System.nanoTime();
+
         /*
          * Validate parameters
          */
@@ -6332,6 +6790,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             setLocalProvenanceInEntityClassifications(homeClassifications);
         }
 
+        this.getRequestTimer(methodName).recordSince(startTime);
+
         return homeClassifications;
     }
 
@@ -6371,6 +6831,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                          UserNotAuthorizedException
     {
         final String  methodName = "deleteEntityReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String  instanceParameterName = "entity";
 
         /*
@@ -6382,6 +6845,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Pass request to real repository
          */
         realMetadataCollection.deleteEntityReferenceCopy(userId, entity);
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -6420,6 +6885,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                         UserNotAuthorizedException
     {
         final String  methodName = "purgeEntityReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String  instanceParameterName = "entity";
 
         /*
@@ -6431,6 +6899,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Pass request to real repository
          */
         realMetadataCollection.purgeEntityReferenceCopy(userId, entity);
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -6466,6 +6936,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                  UserNotAuthorizedException
     {
         final String methodName               = "purgeEntityReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String entityParameterName      = "entityGUID";
         final String homeParameterName        = "homeMetadataCollectionId";
 
@@ -6489,6 +6962,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                         typeDefGUID,
                                                         typeDefName,
                                                         homeMetadataCollectionId);
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -6519,6 +6994,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                       UserNotAuthorizedException
     {
         final String methodName                = "refreshEntityReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String entityParameterName       = "entityGUID";
         final String homeParameterName         = "homeMetadataCollectionId";
 
@@ -6565,6 +7043,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                        typeDefName,
                                                                        entityGUID,
                                                                        homeMetadataCollectionId);
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -6603,6 +7083,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                       FunctionNotSupportedException
     {
         final String  methodName = "saveClassificationReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String  instanceParameterName = "entity";
         final String  classificationParameterName = "classification";
 
@@ -6641,6 +7124,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
              */
             realMetadataCollection.saveClassificationReferenceCopy(userId, entity, classification);
         }
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -6679,6 +7164,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                       FunctionNotSupportedException
     {
         final String  methodName = "saveClassificationReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String  instanceParameterName = "entityProxy";
         final String  classificationParameterName = "classification";
 
@@ -6717,6 +7205,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
              */
             realMetadataCollection.saveClassificationReferenceCopy(userId, entityProxy, classification);
         }
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -6754,6 +7244,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                         FunctionNotSupportedException
     {
         final String  methodName = "purgeClassificationReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String  instanceParameterName = "entity";
         final String  classificationParameterName = "classification";
 
@@ -6791,6 +7284,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
              */
             realMetadataCollection.purgeClassificationReferenceCopy(userId, entity, classification);
         }
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -6828,6 +7323,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                         FunctionNotSupportedException
     {
         final String methodName = "purgeClassificationReferenceCopy (proxy)";
+
+        long startTime = System.nanoTime();
+
         final String instanceParameterName = "entityProxy";
         final String classificationParameterName = "classification";
 
@@ -6865,6 +7363,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
              */
             realMetadataCollection.purgeClassificationReferenceCopy(userId, entityProxy, classification);
         }
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -6904,6 +7404,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                   UserNotAuthorizedException
     {
         final String  methodName = "saveRelationshipReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String  instanceParameterName = "relationship";
 
         /*
@@ -6926,6 +7429,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                 realMetadataCollection.saveRelationshipReferenceCopy(userId, relationship);
             }
         }
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -6966,6 +7471,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                      UserNotAuthorizedException
     {
         final String  methodName = "deleteRelationshipReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String  instanceParameterName = "relationship";
 
         /*
@@ -6977,6 +7485,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Delete relationship
          */
         realMetadataCollection.deleteRelationshipReferenceCopy(userId, relationship);
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -7017,6 +7527,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                     UserNotAuthorizedException
     {
         final String methodName            = "purgeRelationshipReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String instanceParameterName = "relationship";
 
         /*
@@ -7028,6 +7541,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Purge relationship
          */
         realMetadataCollection.purgeRelationshipReferenceCopy(userId, relationship);
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -7063,6 +7578,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                           UserNotAuthorizedException
     {
         final String methodName                = "purgeRelationshipReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String relationshipParameterName = "relationshipGUID";
         final String homeParameterName         = "homeMetadataCollectionId";
 
@@ -7086,6 +7604,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                               typeDefGUID,
                                                               typeDefName,
                                                               homeMetadataCollectionId);
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -7117,6 +7637,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                             UserNotAuthorizedException
     {
         final String methodName                = "refreshRelationshipReferenceCopy";
+
+        long startTime = System.nanoTime();
+
         final String relationshipParameterName = "relationshipGUID";
         final String homeParameterName         = "homeMetadataCollectionId";
 
@@ -7159,6 +7682,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                            typeDefName,
                                                                            relationshipGUID,
                                                                            homeMetadataCollectionId);
+
+        this.getRequestTimer(methodName).recordSince(startTime);
     }
 
 
@@ -7199,6 +7724,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                               UserNotAuthorizedException,
                                                                               FunctionNotSupportedException
     {
+        long startTime = System.nanoTime();
+
         /*
          * It is necessary to filter out all the instances that should not be saved before passing the
          * instances to the real connector.  The validated instances are packed back into an instance graph to
@@ -7263,5 +7790,7 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                 realMetadataCollection.saveInstanceReferenceCopies(userId, validatedInstances);
             }
         }
+
+        this.getRequestTimer("saveInstanceReferenceCopies").recordSince(startTime);
     }
 }
@@ -179,6 +179,11 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     {
         super.disconnect();
 
+        if (incomingInstanceEventProcessor != null)
+        {
+            incomingInstanceEventProcessor.shutdown();
+        }
+
         if (realLocalConnector  != null)
         {
             realLocalConnector.disconnect();
@@ -460,7 +465,8 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
                                                           saveExchangeRule,
                                                           produceEventsForRealConnector,
                                                           outboundRepositoryEventManager,
-                                                          auditLog.createNewAuditLog(OMRSAuditingComponent.INSTANCE_EVENT_PROCESSOR));
+                                                          auditLog.createNewAuditLog(OMRSAuditingComponent.INSTANCE_EVENT_PROCESSOR),
+                                                          this.getInboundEventApplyThreads());
 
             this.incomingInstanceEventProcessor = localOMRSInstanceEventProcessor;
             this.instanceRetrievalEventProcessor = localOMRSInstanceEventProcessor;
@@ -475,6 +481,39 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     }
 
 
+    /**
+     * Return the number of threads to use to apply incoming instance events.  This is set in the configuration
+     * properties of the connection for the local repository.
+     *
+     * @return thread count - zero means events are applied on the thread that receives them
+     */
+    private int getInboundEventApplyThreads()
+    {
+        if ((connectionProperties != null) && (connectionProperties.getConfigurationProperties() != null))
+        {
+            Object propertyValue = connectionProperties.getConfigurationProperties().get(LocalOMRSConnectorProvider.INBOUND_EVENT_APPLY_THREADS_PROPERTY);
+
+            if (propertyValue instanceof Number)
+            {
+                return Math.max(0, ((Number) propertyValue).intValue());
+            }
+            else if (propertyValue != null)
+            {
+                try
+                {
+                    return Math.max(0, Integer.parseInt(propertyValue.toString().trim()));
+                }
+                catch (NumberFormatException error)
+                {
+                    return 0;
+                }
+            }
+        }
+
+        return 0;
+    }
+
+
     /**
      * Explicitly set up the metadata collection name.
      *
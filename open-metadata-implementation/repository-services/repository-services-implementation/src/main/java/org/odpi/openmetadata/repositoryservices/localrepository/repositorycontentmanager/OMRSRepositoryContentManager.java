@@ -53,6 +53,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * OMRSRepositoryContentManager supports an in-memory cache of TypeDefs for the local server.  It is used by the OMRS
@@ -97,6 +99,23 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     private final Map<String, String>             metadataCollectionNames        = new HashMap<>();
     private final Map<String, Set<String>>        knownPropertyToTypeDefNames    = new HashMap<>();
 
+    /*
+     * The compiled type hierarchy is built from the TypeDef cache when it is first needed and discarded whenever
+     * the cache changes.  The version is incremented on each change so that an index built from an out-of-date
+     * cache is not kept.
+     */
+    private final Object                          typeDefHierarchyIndexLock      = new Object();
+    private volatile TypeDefHierarchyIndex        typeDefHierarchyIndex          = null;
+    private volatile long                         typeDefCacheVersion            = 0;
+
+    /*
+     * The type system version changes whenever a TypeDef or AttributeTypeDef is added, changed or removed.  It is
+     * returned to callers that cache the types so that they can tell if their copy is still current.  The prefix
+     * is different each time the content manager is created so a version is never reused after a restart.
+     */
+    private final String                          typeSystemVersionPrefix        = UUID.randomUUID().toString();
+    private final AtomicLong                      typeSystemChangeCount          = new AtomicLong(0);
+
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -186,6 +205,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
         knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
+        invalidateTypeDefHierarchyIndex();
 
         if (isLocallySupported)
         {
@@ -270,6 +290,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
         knownTypeDefNames.remove(obsoleteTypeDefName);
+        invalidateTypeDefHierarchyIndex();
 
         if (isLocallySupported)
         {
@@ -329,6 +350,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         knownAttributeTypeDefGUIDs.put(newAttributeTypeDef.getGUID(), newAttributeTypeDef);
         knownAttributeTypeDefNames.put(newAttributeTypeDef.getName(), newAttributeTypeDef);
+        typeSystemChangeCount.incrementAndGet();
 
         if (isLocallySupported)
         {
@@ -377,6 +399,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         {
             knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
             knownTypeDefNames.remove(obsoleteTypeDefName);
+            invalidateTypeDefHierarchyIndex();
 
             if (localRepositoryConnector != null)
             {
@@ -405,6 +428,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         {
             knownAttributeTypeDefGUIDs.remove(obsoleteAttributeTypeDefGUID);
             knownAttributeTypeDefNames.remove(obsoleteAttributeTypeDefName);
+            typeSystemChangeCount.incrementAndGet();
 
             if (localRepositoryConnector != null)
             {
@@ -458,6 +482,80 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     }
 
 
+    /**
+     * Discard the compiled type hierarchy because the TypeDef cache has changed.
+     */
+    private void invalidateTypeDefHierarchyIndex()
+    {
+        synchronized (typeDefHierarchyIndexLock)
+        {
+            typeDefCacheVersion++;
+            typeDefHierarchyIndex = null;
+        }
+
+        typeSystemChangeCount.incrementAndGet();
+    }
+
+
+    /**
+     * Return a token that identifies the current state of the types known to this server.  The token changes
+     * whenever a TypeDef or AttributeTypeDef is added, updated or removed and whenever the server restarts.  It is
+     * cheap to retrieve so callers that have cached the result of getAllTypes can use it to decide whether their
+     * copy is still valid.
+     *
+     * @return opaque version token
+     */
+    public String getTypeSystemVersion()
+    {
+        return typeSystemVersionPrefix + "." + typeSystemChangeCount.get();
+    }
+
+
+    /**
+     * Return the compiled type hierarchy, building it from the TypeDef cache if it is out of date.
+     *
+     * @return type hierarchy index
+     */
+    private TypeDefHierarchyIndex getTypeDefHierarchyIndex()
+    {
+        TypeDefHierarchyIndex index = typeDefHierarchyIndex;
+
+        if (index != null)
+        {
+            return index;
+        }
+
+        long                 version;
+        List<TypeDef>        typeDefs;
+        Map<String, TypeDef> typeDefsByGUID;
+
+        synchronized (typeDefHierarchyIndexLock)
+        {
+            version = typeDefCacheVersion;
+            typeDefs = new ArrayList<>(knownTypeDefNames.values());
+            typeDefsByGUID = new HashMap<>(knownTypeDefGUIDs);
+        }
+
+        index = new TypeDefHierarchyIndex(typeDefs, typeDefsByGUID);
+
+        synchronized (typeDefHierarchyIndexLock)
+        {
+            /*
+             * Only keep the index if the cache has not changed while it was being built.  It is still
+             * consistent with the cache as it was at the start of this call so it is returned either way.
+             */
+            if (version == typeDefCacheVersion)
+            {
+                typeDefHierarchyIndex = index;
+            }
+        }
+
+        log.debug("Compiled type hierarchy for " + index.getTypeCount() + " types");
+
+        return index;
+    }
+
+
     /**
      * Return the list of property names defined for this TypeDef.
      *
@@ -668,6 +766,19 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return true;
         }
 
+        /*
+         * Use the compiled type hierarchy if the actual type is in it.
+         */
+        TypeDefHierarchyIndex index        = this.getTypeDefHierarchyIndex();
+        int                   actualTypeId = index.getResolvedTypeId(actualTypeName);
+
+        if (actualTypeId >= 0)
+        {
+            int expectedTypeId = index.getTypeId(expectedTypeName);
+
+            return (expectedTypeId >= 0) && (index.isTypeOf(actualTypeId, expectedTypeId));
+        }
+
         /*
          * Looking for a match in the superTypes.
          */
@@ -744,6 +855,18 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return true;
         }
 
+        /*
+         * Use the compiled type hierarchy if the actual type is in it and the expected type is known.
+         */
+        TypeDefHierarchyIndex index          = this.getTypeDefHierarchyIndex();
+        int                   actualTypeId   = index.getResolvedTypeId(actualTypeName);
+        int                   expectedTypeId = index.getTypeIdByGUID(expectedTypeGUID);
+
+        if ((actualTypeId >= 0) && (expectedTypeId >= 0))
+        {
+            return index.isTypeOf(actualTypeId, expectedTypeId);
+        }
+
         /*
          * Looking for a match in the superTypes.
          */
@@ -1241,6 +1364,65 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     }
 
 
+    /**
+     * Return the names of all the subtypes of a type.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param superTypeName name of the super type - this value is not included in the result.
+     * @return list of type names (a null means the type is not known, or it has no subtypes)
+     */
+    List<String>  getSubTypesOf(String sourceName,
+                                String superTypeName)
+    {
+        TypeDefHierarchyIndex index = this.getTypeDefHierarchyIndex();
+
+        /*
+         * If any type has an unresolved chain of supertypes, each type must be tested individually
+         * so that the error is reported.
+         */
+        if (index.isComplete())
+        {
+            int superTypeId = index.getTypeId(superTypeName);
+
+            if (superTypeId < 0)
+            {
+                return null;
+            }
+
+            return index.getSubTypeNames(superTypeId);
+        }
+
+        List<String>  subTypeNames = new ArrayList<>();
+        List<TypeDef> typeDefs = this.getKnownTypeDefs();
+
+        if (typeDefs != null)
+        {
+            for (TypeDef typeDef : typeDefs)
+            {
+                if (typeDef != null)
+                {
+                    if (! superTypeName.equals(typeDef.getName()))
+                    {
+                        if (this.isTypeOf(sourceName, typeDef.getName(), superTypeName))
+                        {
+                            subTypeNames.add(typeDef.getName());
+                        }
+                    }
+                }
+            }
+        }
+
+        if (subTypeNames.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return subTypeNames;
+        }
+    }
+
+
     /**
      * Return the list of attributeTypeDefs active in the local repository.
      *
@@ -1538,7 +1720,14 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return null;
         }
 
-        List<TypeDefAttribute>    propertiesDefinition = typeDef.getPropertiesDefinition();
+        List<TypeDefAttribute>    propertiesDefinition = this.getTypeDefHierarchyIndex().getAllProperties(typeDef);
+
+        if (propertiesDefinition != null)
+        {
+            return propertiesDefinition;
+        }
+
+        propertiesDefinition = typeDef.getPropertiesDefinition();
 
         /*
          * If propertiesDefinition is null, it means the TypeDef has no properties defined.  However, the superType
@@ -1618,6 +1807,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 if (!isKnownType(sourceName, typeDef.getGUID(), typeDef.getName()))
                 {
                     knownTypeDefNames.put(typeDef.getName(), typeDef);
+                    invalidateTypeDefHierarchyIndex();
                 }
             }
             else
@@ -1653,6 +1843,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 if (!isKnownType(sourceName, attributeTypeDef.getGUID(), attributeTypeDef.getName()))
                 {
                     knownAttributeTypeDefNames.put(attributeTypeDef.getName(), attributeTypeDef);
+                    typeSystemChangeCount.incrementAndGet();
                 }
             }
             else
@@ -0,0 +1,324 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * TypeDefHierarchyIndex is a snapshot of the type hierarchy of the TypeDefs known to the repository content manager,
+ * compiled so that the common questions about the hierarchy can be answered without walking the chain of supertypes.
+ * Each TypeDef is given a dense integer identifier and a bitset of its ancestors and of its descendants.  The full
+ * list of property definitions for each TypeDef (its own followed by those of its supertypes) is also
+ * calculated.
+ * <p>
+ * The index is immutable.  The repository content manager discards it whenever its TypeDef cache changes and builds
+ * a new one the next time it is needed.  A TypeDef whose chain of supertypes can not be resolved from the cache
+ * (an unknown supertype name, a supertype link whose GUID is missing or does not match the cached TypeDef, or a
+ * loop) is marked as unresolved.  For these types, the repository content manager falls back to walking the
+ * supertypes so its error handling is unchanged.
+ */
+class TypeDefHierarchyIndex
+{
+    private final Map<String, Integer>         typeIdsByName    = new HashMap<>();
+    private final Map<String, Integer>         typeIdsByGUID    = new HashMap<>();
+    private final List<TypeDef>                typeDefs         = new ArrayList<>();
+    private final List<BitSet>                 ancestors        = new ArrayList<>();
+    private final List<BitSet>                 descendants      = new ArrayList<>();
+    private final List<List<TypeDefAttribute>> allProperties    = new ArrayList<>();
+    private final BitSet                       resolvedTypes    = new BitSet();
+    private final BitSet                       registeredByGUID = new BitSet();
+    private final BitSet                       propertiesByGUID = new BitSet();
+    private       boolean                      allTypesIndexed  = true;
+
+
+    /**
+     * Build the index.
+     *
+     * @param knownTypeDefsByName TypeDefs known to the repository content manager, keyed by name
+     * @param knownTypeDefsByGUID TypeDefs known to the repository content manager, keyed by GUID
+     */
+    TypeDefHierarchyIndex(Collection<TypeDef>  knownTypeDefsByName,
+                          Map<String, TypeDef> knownTypeDefsByGUID)
+    {
+        /*
+         * Assign the identifiers.
+         */
+        for (TypeDef typeDef : knownTypeDefsByName)
+        {
+            if ((typeDef != null) && (typeDef.getName() != null) && (! typeIdsByName.containsKey(typeDef.getName())))
+            {
+                int typeId = typeDefs.size();
+
+                typeDefs.add(typeDef);
+                ancestors.add(new BitSet());
+                descendants.add(new BitSet());
+                typeIdsByName.put(typeDef.getName(), typeId);
+
+                if (typeDef.getGUID() != null)
+                {
+                    typeIdsByGUID.put(typeDef.getGUID(), typeId);
+
+                    if (knownTypeDefsByGUID.get(typeDef.getGUID()) == typeDef)
+                    {
+                        registeredByGUID.set(typeId);
+                    }
+                }
+            }
+        }
+
+        /*
+         * A TypeDef registered by GUID that is not the one registered under its name can not be indexed.
+         */
+        for (TypeDef typeDef : knownTypeDefsByGUID.values())
+        {
+            if (typeDef != null)
+            {
+                int typeId = this.getTypeId(typeDef.getName());
+
+                if ((typeId < 0) || (! registeredByGUID.get(typeId)))
+                {
+                    allTypesIndexed = false;
+                }
+            }
+        }
+
+        /*
+         * Resolve the chain of supertypes for each type.
+         */
+        for (int typeId = 0; typeId < typeDefs.size(); typeId++)
+        {
+            TypeDef                typeDef          = typeDefs.get(typeId);
+            BitSet                 typeAncestors    = ancestors.get(typeId);
+            List<TypeDefAttribute> typeProperties   = new ArrayList<>();
+            boolean                resolved         = true;
+            boolean                propertiesCached = registeredByGUID.get(typeId);
+
+            if (typeDef.getPropertiesDefinition() != null)
+            {
+                typeProperties.addAll(typeDef.getPropertiesDefinition());
+            }
+
+            TypeDefLink superTypeLink = typeDef.getSuperType();
+
+            while (superTypeLink != null)
+            {
+                Integer superTypeId = null;
+
+                if (superTypeLink.getName() != null)
+                {
+                    superTypeId = typeIdsByName.get(superTypeLink.getName());
+                }
+
+                if ((superTypeId == null) ||
+                    (superTypeId == typeId) ||
+                    (typeAncestors.get(superTypeId)) ||
+                    (superTypeLink.getGUID() == null) ||
+                    (! superTypeLink.getGUID().equals(typeDefs.get(superTypeId).getGUID())))
+                {
+                    resolved = false;
+                    break;
+                }
+
+                TypeDef superTypeDef = typeDefs.get(superTypeId);
+
+                typeAncestors.set(superTypeId);
+
+                if (! registeredByGUID.get(superTypeId))
+                {
+                    propertiesCached = false;
+                }
+
+                if (superTypeDef.getPropertiesDefinition() != null)
+                {
+                    typeProperties.addAll(superTypeDef.getPropertiesDefinition());
+                }
+
+                superTypeLink = superTypeDef.getSuperType();
+            }
+
+            if (resolved)
+            {
+                resolvedTypes.set(typeId);
+
+                if (propertiesCached)
+                {
+                    propertiesByGUID.set(typeId);
+                }
+            }
+
+            allProperties.add(Collections.unmodifiableList(typeProperties));
+        }
+
+        /*
+         * Invert the ancestors to give the descendants.
+         */
+        for (int typeId = resolvedTypes.nextSetBit(0); typeId >= 0; typeId = resolvedTypes.nextSetBit(typeId + 1))
+        {
+            BitSet typeAncestors = ancestors.get(typeId);
+
+            for (int ancestorId = typeAncestors.nextSetBit(0); ancestorId >= 0; ancestorId = typeAncestors.nextSetBit(ancestorId + 1))
+            {
+                descendants.get(ancestorId).set(typeId);
+            }
+        }
+    }
+
+
+    /**
+     * Return whether every TypeDef is in the index and the chain of supertypes of every type has been resolved.
+     *
+     * @return boolean
+     */
+    boolean isComplete()
+    {
+        return (allTypesIndexed) && (resolvedTypes.cardinality() == typeDefs.size());
+    }
+
+
+    /**
+     * Return the identifier of a type whose chain of supertypes has been resolved.
+     *
+     * @param typeName name of the type
+     * @return identifier or -1 if the type is not known or not resolved
+     */
+    int getResolvedTypeId(String typeName)
+    {
+        Integer typeId = typeIdsByName.get(typeName);
+
+        if ((typeId != null) && (resolvedTypes.get(typeId)))
+        {
+            return typeId;
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Return the identifier of a type.
+     *
+     * @param typeName name of the type
+     * @return identifier or -1 if the type is not known
+     */
+    int getTypeId(String typeName)
+    {
+        Integer typeId = typeIdsByName.get(typeName);
+
+        if (typeId != null)
+        {
+            return typeId;
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Return the identifier of a type from its GUID.
+     *
+     * @param typeGUID unique identifier of the type
+     * @return identifier or -1 if the type is not known
+     */
+    int getTypeIdByGUID(String typeGUID)
+    {
+        Integer typeId = typeIdsByGUID.get(typeGUID);
+
+        if (typeId != null)
+        {
+            return typeId;
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Return whether one type is the same as, or a subtype of, another.
+     *
+     * @param actualTypeId identifier of a resolved type
+     * @param expectedTypeId identifier of the type it is tested against
+     * @return boolean
+     */
+    boolean isTypeOf(int actualTypeId,
+                     int expectedTypeId)
+    {
+        return (actualTypeId == expectedTypeId) || (ancestors.get(actualTypeId).get(expectedTypeId));
+    }
+
+
+    /**
+     * Return the names of the subtypes of a type.  Only TypeDefs that are registered by GUID in the
+     * repository content manager are included.
+     *
+     * @param typeId identifier of the type
+     * @return list of type names or null if there are none
+     */
+    List<String> getSubTypeNames(int typeId)
+    {
+        BitSet subTypes = descendants.get(typeId);
+
+        if (subTypes.isEmpty())
+        {
+            return null;
+        }
+
+        List<String> subTypeNames = new ArrayList<>(subTypes.cardinality());
+
+        for (int subTypeId = subTypes.nextSetBit(0); subTypeId >= 0; subTypeId = subTypes.nextSetBit(subTypeId + 1))
+        {
+            if (registeredByGUID.get(subTypeId))
+            {
+                subTypeNames.add(typeDefs.get(subTypeId).getName());
+            }
+        }
+
+        if (subTypeNames.isEmpty())
+        {
+            return null;
+        }
+
+        return subTypeNames;
+    }
+
+
+    /**
+     * Return the property definitions of a TypeDef and all of its supertypes.  The list is only returned if the
+     * supplied TypeDef is the one in the index and all of its supertypes are registered by GUID.
+     *
+     * @param typeDef TypeDef to query
+     * @return new list of property definitions or null if they are not indexed for this TypeDef
+     */
+    List<TypeDefAttribute> getAllProperties(TypeDef typeDef)
+    {
+        Integer typeId = typeIdsByName.get(typeDef.getName());
+
+        if ((typeId != null) && (typeDefs.get(typeId) == typeDef) && (propertiesByGUID.get(typeId)))
+        {
+            return new ArrayList<>(allProperties.get(typeId));
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the number of types in the index.
+     *
+     * @return count
+     */
+    int getTypeCount()
+    {
+        return typeDefs.size();
+    }
+}
@@ -16,6 +16,7 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSConnectorErrorException;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicRepositoryEventListener;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.OMRSCohortRegistryStore;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
@@ -152,6 +153,16 @@ public class OMRSCohortManager
                                                                                new OMRSRepositoryContentValidator(localRepositoryContentManager),
                                                                                auditLog.createNewAuditLog(OMRSAuditingComponent.REPOSITORY_EVENT_MANAGER));
 
+            /*
+             * Pass the instance events from the cohort to the connection consumer so the connectors to the remote
+             * members can discard any instances they have cached that have changed.
+             */
+            if (connectionConsumer instanceof OMRSTopicRepositoryEventListener)
+            {
+                this.cohortRepositoryEventManager.registerInstanceEventListener(cohortName + " remote member connectors",
+                                                                                (OMRSTopicRepositoryEventListener) connectionConsumer);
+            }
+
             /*
              * Create event publisher(s) for the cohort registry to use to send registration requests.
              */
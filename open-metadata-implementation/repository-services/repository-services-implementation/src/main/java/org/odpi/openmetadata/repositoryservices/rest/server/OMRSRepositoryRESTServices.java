@@ -21,6 +21,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
 import org.odpi.openmetadata.repositoryservices.metadatahighway.OMRSMetadataHighwayManager;
 import org.odpi.openmetadata.repositoryservices.rest.properties.*;
 import org.odpi.openmetadata.repositoryservices.rest.services.OMRSRepositoryServicesInstance;
@@ -112,6 +113,7 @@ public class OMRSRepositoryRESTServices
      * @param enterpriseRepositoryConnector link to the repository responsible for servicing the REST calls to the enterprise.
      * @param remoteEnterpriseTopicConnection connection object to pass to client to enable it to listen on enterprise topic events - may be null
      * @param metadataHighwayManager        manager of the cohort managers
+     * @param repositoryContentManager      manager of the types known to the local server - may be null
      * @param localServerURL                URL of the local server
      * @param auditLog                      auditLog destination
      * @param maxPageSize                   max number of results to return on single request.
@@ -122,6 +124,7 @@ public class OMRSRepositoryRESTServices
                                              OMRSRepositoryConnector      enterpriseRepositoryConnector,
                                              Connection                   remoteEnterpriseTopicConnection,
                                              OMRSMetadataHighwayManager   metadataHighwayManager,
+                                             OMRSRepositoryContentManager repositoryContentManager,
                                              String                       localServerURL,
                                              AuditLog                     auditLog,
                                              int                          maxPageSize)
@@ -132,6 +135,7 @@ public class OMRSRepositoryRESTServices
                                            enterpriseRepositoryConnector,
                                            remoteEnterpriseTopicConnection,
                                            metadataHighwayManager,
+                                           repositoryContentManager,
                                            localServerURL,
                                            serviceName,
                                            auditLog,
@@ -374,6 +378,67 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Returns a token that identifies the current version of the types returned by getAllTypes.  The token
+     * changes whenever a type is added, updated or removed, and when the server restarts.  It is much cheaper
+     * to retrieve than the types themselves, so a caller that caches the results of getAllTypes can use it
+     * to check whether its copy is still current.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId     unique identifier for requesting user.
+     * @return TypeSystemVersionResponse:
+     * opaque version token or
+     * InvalidParameterException the userId is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public TypeSystemVersionResponse getTypeSystemVersion(String serverName, String userId)
+    {
+        final String methodName = "getTypeSystemVersion";
+
+        log.debug("Calling method: " + methodName);
+
+        TypeSystemVersionResponse response = new TypeSystemVersionResponse();
+
+        try
+        {
+            validateRepository(userId, serverName, methodName);
+
+            OMRSRepositoryServicesInstance instance                 = instanceHandler.getInstance(userId, serverName, methodName);
+            OMRSRepositoryContentManager   repositoryContentManager = instance.getRepositoryContentManager();
+
+            if (repositoryContentManager == null)
+            {
+                throw new RepositoryErrorException(OMRSErrorCode.NULL_CONTENT_MANAGER.getMessageDefinition(methodName),
+                                                   this.getClass().getName(),
+                                                   methodName);
+            }
+
+            response.setTypeSystemVersion(repositoryContentManager.getTypeSystemVersion());
+        }
+        catch (RepositoryErrorException error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response);
+
+        return response;
+    }
+
+
     /**
      * Returns a list of type definitions that have the specified name.  Type names should be unique.  This
      * method allows wildcard character to be included in the name.  These are * (asterisk) for an
@@ -1927,6 +1992,66 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * the entities that were found, in the order they were requested (entities that are not known,
+     *                                 are only proxies or are soft-deleted are omitted) or
+     * InvalidParameterException the list of guids is null or contains a null guid or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityListResponse getEntityDetails(String          serverName,
+                                               String          userId,
+                                               GUIDListRequest guids)
+    {
+        final  String   methodName = "getEntityDetails";
+
+        log.debug("Calling method: " + methodName);
+
+        EntityListResponse response = new EntityListResponse();
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            List<String> guidList = null;
+
+            if (guids != null)
+            {
+                guidList = guids.getGUIDs();
+            }
+
+            response.setEntities(metadataCollection.getEntityDetails(userId, guidList));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response);
+
+        return response;
+    }
+
+
     /**
      * Return a historical version of an entity.  This includes the header, classifications and properties of the entity.
      *
@@ -4576,6 +4701,117 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return a digest of the entities and relationships that radiate out from the supplied entity GUID.
+     * The results are scoped by the instance type guids, the level and the maximum number of entities.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return InstanceGraphResponse
+     * the sub-graph that represents the returned linked entities and their relationships or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * TypeErrorException one of the type guids passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection or
+     * PropertyErrorException there is a problem with one of the other parameters or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  InstanceGraphResponse getEntityNeighborhoodDigest(String                               serverName,
+                                                              String                               userId,
+                                                              String                               entityGUID,
+                                                              int                                  level,
+                                                              EntityNeighborhoodDigestFindRequest  findRequestParameters)
+    {
+        final  String   methodName = "getEntityNeighborhoodDigest";
+
+        log.debug("Calling method: " + methodName);
+
+        List<String>         entityTypeGUIDs                = null;
+        List<String>         relationshipTypeGUIDs          = null;
+        List<InstanceStatus> limitResultsByStatus           = null;
+        List<String>         limitResultsByClassification   = null;
+        Date                 asOfTime                       = null;
+        int                  maxEntities                    = 0;
+        List<String>         digestPropertyNames            = null;
+
+        InstanceGraphResponse response = new InstanceGraphResponse();
+
+        if (findRequestParameters != null)
+        {
+            entityTypeGUIDs = findRequestParameters.getEntityTypeGUIDs();
+            relationshipTypeGUIDs = findRequestParameters.getRelationshipTypeGUIDs();
+            limitResultsByStatus = findRequestParameters.getLimitResultsByStatus();
+            asOfTime = findRequestParameters.getAsOfTime();
+            limitResultsByClassification = findRequestParameters.getLimitResultsByClassification();
+            maxEntities = findRequestParameters.getMaxEntities();
+            digestPropertyNames = findRequestParameters.getDigestPropertyNames();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            InstanceGraph instanceGraph = metadataCollection.getEntityNeighborhoodDigest(userId,
+                                                                                         entityGUID,
+                                                                                         entityTypeGUIDs,
+                                                                                         relationshipTypeGUIDs,
+                                                                                         limitResultsByStatus,
+                                                                                         limitResultsByClassification,
+                                                                                         asOfTime,
+                                                                                         level,
+                                                                                         maxEntities,
+                                                                                         digestPropertyNames);
+            if (instanceGraph != null)
+            {
+                response.setEntityElementList(instanceGraph.getEntities());
+                response.setRelationshipElementList(instanceGraph.getRelationships());
+            }
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (EntityNotKnownException error)
+        {
+            captureEntityNotKnownException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response);
+
+        return response;
+    }
+
+
     /**
      * Return the list of entities that are of the types listed in instanceTypes and are connected, either directly or
      * indirectly to the entity identified by startEntityGUID.
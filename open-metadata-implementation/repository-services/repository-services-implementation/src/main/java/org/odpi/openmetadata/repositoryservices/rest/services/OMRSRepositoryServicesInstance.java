@@ -8,6 +8,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
 import org.odpi.openmetadata.repositoryservices.metadatahighway.OMRSMetadataHighwayManager;
 
 
@@ -21,6 +22,7 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
     private OMRSMetadataCollection       enterpriseMetadataCollection;
     private final Connection                   remoteEnterpriseOMRSTopicConnection;
     private final OMRSMetadataHighwayManager   metadataHighwayManager;
+    private final OMRSRepositoryContentManager repositoryContentManager;
     private final String                       localServerURL;
     private final AuditLog                     auditLog;
 
@@ -35,6 +37,7 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
      * @param enterpriseRepositoryConnector link to the repository responsible for servicing the REST calls to the enterprise
      * @param remoteEnterpriseTopicConnection connection object to pass to client to enable it to listen on enterprise topic events - may be null
      * @param metadataHighwayManager manager of the cohort managers
+     * @param repositoryContentManager manager of the types known to this server - may be null
      * @param localServerURL URL of the local server
      * @param serviceName name of this service
      * @param auditLog logging destination
@@ -46,6 +49,7 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
                                           OMRSRepositoryConnector      enterpriseRepositoryConnector,
                                           Connection                   remoteEnterpriseTopicConnection,
                                           OMRSMetadataHighwayManager   metadataHighwayManager,
+                                          OMRSRepositoryContentManager repositoryContentManager,
                                           String                       localServerURL,
                                           String                       serviceName,
                                           AuditLog                     auditLog,
@@ -57,6 +61,7 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
         this.auditLog = auditLog;
         this.localServerURL = localServerURL;
         this.metadataHighwayManager = metadataHighwayManager;
+        this.repositoryContentManager = repositoryContentManager;
         this.remoteEnterpriseOMRSTopicConnection = remoteEnterpriseTopicConnection;
 
         /*
@@ -163,6 +168,17 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
     }
 
 
+    /**
+     * Return the manager of the types known to this server.
+     *
+     * @return OMRSRepositoryContentManager object or null
+     */
+    public OMRSRepositoryContentManager getRepositoryContentManager()
+    {
+        return repositoryContentManager;
+    }
+
+
     /**
      * Return the URL root for this server.
      *
@@ -0,0 +1,291 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.InternalOMRSEventProcessingContext;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.future.OMRSFuture;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the inbound event buffer coalesces queued versions of an instance, keeps the order of the
+ * events for each instance, applies relationships after their end entities and reports failures.
+ */
+public class LocalOMRSInstanceEventBufferTest
+{
+    @Test
+    public void testQueuedVersionsCoalesced() throws Exception
+    {
+        CountDownLatch firstEventStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstEvent = new CountDownLatch(1);
+        List<String>   appliedEvents     = Collections.synchronizedList(new ArrayList<>());
+
+        LocalOMRSInstanceEventBuffer buffer = new LocalOMRSInstanceEventBuffer("testServer", 2, (cohortName, event) ->
+        {
+            if (event.getEntity().getVersion() == 1)
+            {
+                firstEventStarted.countDown();
+                awaitLatch(releaseFirstEvent);
+            }
+
+            appliedEvents.add(event.getInstanceEventType().getName() + ":" + event.getEntity().getGUID() + ":" + event.getEntity().getVersion());
+        }, null);
+
+        InternalOMRSEventProcessingContext.clear();
+
+        try
+        {
+            buffer.processInstanceEvent("cohort", getEntityEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "guid1", 1));
+            assertTrue(firstEventStarted.await(10, TimeUnit.SECONDS));
+
+            buffer.processInstanceEvent("cohort", getEntityEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, "guid1", 2));
+            buffer.processInstanceEvent("cohort", getEntityEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, "guid1", 3));
+            buffer.processInstanceEvent("cohort", getEntityEvent(OMRSInstanceEventType.UNDONE_ENTITY_EVENT, "guid1", 4));
+            buffer.processInstanceEvent("cohort", getEntityEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, "guid1", 5));
+            buffer.processInstanceEvent("cohort", getEntityEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, "guid1", 6));
+
+            OMRSFuture eventsApplied = InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult();
+            assertFalse(eventsApplied.isDone());
+
+            /*
+             * Events for other instances are not held up by guid1.
+             */
+            buffer.processInstanceEvent("cohort", getEntityEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "guid2", 7));
+            waitFor(() -> appliedEvents.contains("NewEntityEvent:guid2:7"));
+
+            releaseFirstEvent.countDown();
+
+            /*
+             * A delete waits for the queued events to be applied.
+             */
+            buffer.processInstanceEvent("cohort", getEntityEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, "guid1", 7));
+
+            assertTrue(eventsApplied.isDone());
+            assertEquals(buffer.getCoalescedEventCount(), 2);
+
+            List<String> guid1Events = new ArrayList<>();
+
+            for (String appliedEvent : appliedEvents)
+            {
+                if (appliedEvent.contains(":guid1:"))
+                {
+                    guid1Events.add(appliedEvent);
+                }
+            }
+
+            assertEquals(guid1Events, Arrays.asList("NewEntityEvent:guid1:1",
+                                                    "UpdatedEntityEvent:guid1:3",
+                                                    "UndoneEntityEvent:guid1:4",
+                                                    "UpdatedEntityEvent:guid1:6",
+                                                    "DeletedEntityEvent:guid1:7"));
+        }
+        finally
+        {
+            releaseFirstEvent.countDown();
+            buffer.shutdown();
+            InternalOMRSEventProcessingContext.clear();
+        }
+    }
+
+
+    @Test
+    public void testRelationshipWaitsForEndEntities() throws Exception
+    {
+        CountDownLatch entityEventStarted = new CountDownLatch(1);
+        CountDownLatch releaseEntityEvent = new CountDownLatch(1);
+        List<String>   appliedEvents      = Collections.synchronizedList(new ArrayList<>());
+
+        LocalOMRSInstanceEventBuffer buffer = new LocalOMRSInstanceEventBuffer("testServer", 4, (cohortName, event) ->
+        {
+            if (event.getEntity() != null)
+            {
+                if ("guid1".equals(event.getEntity().getGUID()))
+                {
+                    entityEventStarted.countDown();
+                    awaitLatch(releaseEntityEvent);
+                }
+
+                appliedEvents.add(event.getEntity().getGUID());
+            }
+            else
+            {
+                appliedEvents.add(event.getRelationship().getGUID());
+            }
+        }, null);
+
+        InternalOMRSEventProcessingContext.clear();
+
+        try
+        {
+            buffer.processInstanceEvent("cohort", getEntityEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "guid1", 1));
+            assertTrue(entityEventStarted.await(10, TimeUnit.SECONDS));
+
+            buffer.processInstanceEvent("cohort", getRelationshipEvent("relationship1", "guid1", "guid2", 1));
+            buffer.processInstanceEvent("cohort", getRelationshipEvent("relationship1", "guid1", "guid2", 2));
+            buffer.processInstanceEvent("cohort", getRelationshipEvent("relationship2", "guid2", "guid3", 1));
+
+            OMRSFuture eventsApplied = InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult();
+
+            /*
+             * A relationship whose end entities have no queued events is not held up.
+             */
+            waitFor(() -> appliedEvents.contains("relationship2"));
+            Thread.sleep(100);
+            assertFalse(appliedEvents.contains("relationship1"));
+
+            releaseEntityEvent.countDown();
+
+            waitFor(eventsApplied::isDone);
+            assertEquals(appliedEvents, Arrays.asList("relationship2", "guid1", "relationship1"));
+            assertEquals(buffer.getCoalescedEventCount(), 1);
+        }
+        finally
+        {
+            releaseEntityEvent.countDown();
+            buffer.shutdown();
+            InternalOMRSEventProcessingContext.clear();
+        }
+    }
+
+
+    @Test
+    public void testFailureReportedToAuditLog() throws Exception
+    {
+        List<AuditLogRecord> logRecords    = Collections.synchronizedList(new ArrayList<>());
+        List<String>         appliedEvents = Collections.synchronizedList(new ArrayList<>());
+
+        AuditLogDestination destination = new AuditLogDestination()
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                logRecords.add(logRecord);
+            }
+        };
+
+        AuditLog auditLog = new AuditLog(destination, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+
+        LocalOMRSInstanceEventBuffer buffer = new LocalOMRSInstanceEventBuffer("testServer", 2, (cohortName, event) ->
+        {
+            if (event.getEntity().getVersion() == 1)
+            {
+                throw new IllegalStateException("Test failure");
+            }
+
+            appliedEvents.add(event.getEntity().getGUID() + ":" + event.getEntity().getVersion());
+        }, auditLog);
+
+        InternalOMRSEventProcessingContext.clear();
+
+        try
+        {
+            buffer.processInstanceEvent("cohort", getEntityEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "guid1", 1));
+            buffer.processInstanceEvent("cohort", getEntityEvent(OMRSInstanceEventType.UNDONE_ENTITY_EVENT, "guid1", 2));
+
+            OMRSFuture eventsApplied = InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult();
+
+            waitFor(eventsApplied::isDone);
+            assertEquals(appliedEvents, Collections.singletonList("guid1:2"));
+            assertEquals(logRecords.size(), 1);
+            assertEquals(logRecords.get(0).getExceptionClassName(), IllegalStateException.class.getName());
+        }
+        finally
+        {
+            buffer.shutdown();
+            InternalOMRSEventProcessingContext.clear();
+        }
+    }
+
+
+    private OMRSInstanceEvent getEntityEvent(OMRSInstanceEventType eventType,
+                                             String                guid,
+                                             long                  version)
+    {
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+        originator.setMetadataCollectionId("remoteCollection");
+
+        OMRSInstanceEvent event = new OMRSInstanceEvent(eventType, entity);
+        event.setEventOriginator(originator);
+
+        return event;
+    }
+
+
+    private OMRSInstanceEvent getRelationshipEvent(String guid,
+                                                   String entityOneGUID,
+                                                   String entityTwoGUID,
+                                                   long   version)
+    {
+        EntityProxy entityOneProxy = new EntityProxy();
+        entityOneProxy.setGUID(entityOneGUID);
+
+        EntityProxy entityTwoProxy = new EntityProxy();
+        entityTwoProxy.setGUID(entityTwoGUID);
+
+        Relationship relationship = new Relationship();
+        relationship.setGUID(guid);
+        relationship.setVersion(version);
+        relationship.setEntityOneProxy(entityOneProxy);
+        relationship.setEntityTwoProxy(entityTwoProxy);
+
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+        originator.setMetadataCollectionId("remoteCollection");
+
+        OMRSInstanceEvent event = new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT, relationship);
+        event.setEventOriginator(originator);
+
+        return event;
+    }
+
+
+    private static void awaitLatch(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException
+    {
+        long endTime = System.currentTimeMillis() + 10000;
+
+        while ((! condition.getAsBoolean()) && (System.currentTimeMillis() < endTime))
+        {
+            Thread.sleep(10);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -7,15 +7,21 @@ import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 import org.testng.annotations.Test;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
 public class OMRSRepositoryContentManagerTest
 {
@@ -45,4 +51,91 @@ public class OMRSRepositoryContentManagerTest
         assertEquals(instanceType.getTypeDefName(), "EntityType1");
         assertEquals(instanceType.getTypeDefGUID(), entityDefGUID);
     }
+
+
+    @Test
+    public void testTypeHierarchy()
+    {
+        AuditLog auditLog = new AuditLog(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+        OMRSRepositoryContentManager testSubject = new OMRSRepositoryContentManager("testserver", auditLog);
+
+        EntityDef rootDef = getEntityDef("RootType", null, "rootProperty");
+        EntityDef middleDef = getEntityDef("MiddleType", rootDef, "middleProperty");
+        EntityDef leafDef = getEntityDef("LeafType", middleDef, "leafProperty");
+        EntityDef otherDef = getEntityDef("OtherType", null, null);
+
+        testSubject.addTypeDef("unittest", rootDef);
+        testSubject.addTypeDef("unittest", middleDef);
+        testSubject.addTypeDef("unittest", leafDef);
+        testSubject.addTypeDef("unittest", otherDef);
+
+        assertTrue(testSubject.isTypeOf("unittest", "LeafType", "RootType"));
+        assertTrue(testSubject.isTypeOf("unittest", "LeafType", "MiddleType"));
+        assertTrue(testSubject.isTypeOf("unittest", "LeafType", "LeafType"));
+        assertFalse(testSubject.isTypeOf("unittest", "RootType", "LeafType"));
+        assertFalse(testSubject.isTypeOf("unittest", "LeafType", "OtherType"));
+        assertFalse(testSubject.isTypeOf("unittest", "LeafType", "UnknownType"));
+
+        assertTrue(testSubject.isTypeOfByGUID("unittest", leafDef.getGUID(), "LeafType", rootDef.getGUID()));
+        assertFalse(testSubject.isTypeOfByGUID("unittest", rootDef.getGUID(), "RootType", leafDef.getGUID()));
+
+        List<String> subTypes = testSubject.getSubTypesOf("unittest", "RootType");
+
+        Collections.sort(subTypes);
+        assertEquals(subTypes.toString(), "[LeafType, MiddleType]");
+        assertNull(testSubject.getSubTypesOf("unittest", "LeafType"));
+        assertNull(testSubject.getSubTypesOf("unittest", "UnknownType"));
+
+        List<TypeDefAttribute> properties = testSubject.getAllPropertiesForTypeDef("unittest", leafDef, "testTypeHierarchy");
+
+        assertEquals(properties.size(), 3);
+        assertEquals(properties.get(0).getAttributeName(), "leafProperty");
+        assertEquals(properties.get(2).getAttributeName(), "rootProperty");
+
+        /*
+         * The hierarchy must be recalculated when the types change.
+         */
+        testSubject.deleteTypeDef("unittest", leafDef.getGUID(), leafDef.getName());
+
+        assertEquals(testSubject.getSubTypesOf("unittest", "RootType").toString(), "[MiddleType]");
+
+        EntityDef newLeafDef = getEntityDef("NewLeafType", otherDef, null);
+
+        testSubject.addTypeDef("unittest", newLeafDef);
+
+        assertTrue(testSubject.isTypeOf("unittest", "NewLeafType", "OtherType"));
+        assertEquals(testSubject.getSubTypesOf("unittest", "OtherType").toString(), "[NewLeafType]");
+    }
+
+
+    private EntityDef getEntityDef(String    name,
+                                   EntityDef superType,
+                                   String    propertyName)
+    {
+        EntityDef entityDef = new EntityDef();
+        entityDef.setName(name);
+        entityDef.setVersion(1);
+        entityDef.setVersionName("1.0");
+        entityDef.setGUID(UUID.randomUUID().toString());
+
+        if (superType != null)
+        {
+            TypeDefLink superTypeLink = new TypeDefLink();
+            superTypeLink.setGUID(superType.getGUID());
+            superTypeLink.setName(superType.getName());
+            entityDef.setSuperType(superTypeLink);
+        }
+
+        if (propertyName != null)
+        {
+            TypeDefAttribute attribute = new TypeDefAttribute();
+            attribute.setAttributeName(propertyName);
+
+            List<TypeDefAttribute> properties = new LinkedList<>();
+            properties.add(attribute);
+            entityDef.setPropertiesDefinition(properties);
+        }
+
+        return entityDef;
+    }
 }
@@ -91,6 +91,26 @@ public class LocalRepositoryServicesResource
     }
 
 
+    /**
+     * Returns a token that identifies the current version of the types returned by getAllTypes.  The token changes
+     * whenever the types change, so it can be used to check whether a cached copy of the types is still current.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @return TypeSystemVersionResponse:
+     * opaque version token or
+     * RepositoryErrorException there is a problem communicating with the metadata repository or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @GetMapping(path = "/types/version")
+
+    public TypeSystemVersionResponse getTypeSystemVersion(@PathVariable String   serverName,
+                                                          @PathVariable String   userId)
+    {
+        return restAPI.getTypeSystemVersion(serverName, userId);
+    }
+
+
     /**
      * Returns a list of type definitions that have the specified name.  Type names should be unique.  This
      * method allows wildcard character to be included in the name.  These are * (asterisk) for an
@@ -695,6 +715,30 @@ public class LocalRepositoryServicesResource
     }
 
 
+    /**
+     * Return the header, classifications and properties of each of the requested entities.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * the entities that were found, in the order they were requested (entities that are not known,
+     *                                 are only proxies or are soft-deleted are omitted) or
+     * InvalidParameterException the list of guids is null or contains a null guid or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/by-guids")
+
+    public EntityListResponse getEntityDetails(@PathVariable String          serverName,
+                                               @PathVariable String          userId,
+                                               @RequestBody  GUIDListRequest guids)
+    {
+        return restAPI.getEntityDetails(serverName, userId, guids);
+    }
+
+
     /**
      * Return a historical version of an entity includes the header, classifications and properties of the entity.
      *
@@ -1461,6 +1505,39 @@ public class LocalRepositoryServicesResource
     }
 
 
+    /**
+     * Return a digest of the entities and relationships that radiate out from the supplied entity GUID.
+     * The results are scoped by the instance type guids, the level and the maximum number of entities.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return InstanceGraphResponse
+     * the sub-graph that represents the returned linked entities and their relationships or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * TypeErrorException one of the type guids passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection or
+     * PropertyErrorException there is a problem with one of the other parameters or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/from-entity/{entityGUID}/by-neighborhood/digest")
+
+    public  InstanceGraphResponse getEntityNeighborhoodDigest(@PathVariable String                              serverName,
+                                                              @PathVariable String                              userId,
+                                                              @PathVariable String                              entityGUID,
+                                                              @RequestParam int                                 level,
+                                                              @RequestBody  EntityNeighborhoodDigestFindRequest findRequestParameters)
+    {
+        return restAPI.getEntityNeighborhoodDigest(serverName, userId, entityGUID, level, findRequestParameters);
+    }
+
+
     /**
      * Return the list of entities that are of the types listed in instanceTypes and are connected, either directly or
      * indirectly to the entity identified by startEntityGUID.
@@ -7,8 +7,11 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Contact;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.info.License;
+import org.odpi.openmetadata.adapters.connectors.restclients.factory.RESTClientFactory;
+import org.odpi.openmetadata.adapters.connectors.restclients.spring.SpringRESTClientConnectorProvider;
 import org.odpi.openmetadata.adminservices.server.OMAGServerOperationalServices;
 import org.odpi.openmetadata.adminservices.rest.SuccessMessageResponse;
+import org.odpi.openmetadata.http.HttpGzipRequestFilter;
 import org.odpi.openmetadata.http.HttpHelper;
 import org.odpi.openmetadata.http.HttpRequestHeadersFilter;
 import org.slf4j.Logger;
@@ -110,9 +113,61 @@ public class OMAGServerPlatform
                 System.setProperty("javax.net.ssl.trustStore", env.getProperty("server.ssl.trust-store"));
                 System.setProperty("javax.net.ssl.trustStorePassword", env.getProperty("server.ssl.trust-store-password"));
             }
+
+            RESTClientFactory.setDefaultConfigurationProperties(getRESTClientConfigurationProperties());
+
+            String startupParallelism = env.getProperty("startup.parallelism");
+
+            if ((startupParallelism != null) && (! startupParallelism.isBlank()))
+            {
+                try
+                {
+                    OMAGServerOperationalServices.setStartupParallelism(Integer.parseInt(startupParallelism.trim()));
+                }
+                catch (NumberFormatException error)
+                {
+                    log.warn("startup.parallelism is set to '{}' which is not a number; using {}",
+                             startupParallelism, OMAGServerOperationalServices.getStartupParallelism());
+                }
+            }
         };
     }
 
+
+    /**
+     * Extract the settings for the REST clients created on this platform.  Each property recognized by the
+     * Spring REST client connector can be set in the application properties with the prefix "rest.client.",
+     * for example "rest.client.httpClientMode=pooled".
+     *
+     * @return map of configuration properties; empty if none are set
+     */
+    Map<String, Object> getRESTClientConfigurationProperties()
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        List<String> propertyNames = new SpringRESTClientConnectorProvider().getConnectorType().getRecognizedConfigurationProperties();
+
+        if (propertyNames != null)
+        {
+            for (String propertyName : propertyNames)
+            {
+                String value = env.getProperty("rest.client." + propertyName);
+
+                if ((value != null) && (! value.isBlank()))
+                {
+                    configurationProperties.put(propertyName, value.trim());
+                }
+            }
+        }
+
+        if (! configurationProperties.isEmpty())
+        {
+            log.info("REST clients on this platform use settings {}", configurationProperties);
+        }
+
+        return configurationProperties;
+    }
+
     /**
      * Extract the list of servers to auto start along with the administration userId.
      * The userId is in property "sysUser" and the list of server names are in property
@@ -231,4 +286,25 @@ public class OMAGServerPlatform
         return registrationBean;
     }
 
+
+    /**
+     * Initialization of HttpGzipRequestFilter so that REST clients can send compressed request bodies.
+     * The size of a decompressed body is limited by rest.server.maxDecompressedRequestBytes in application properties.
+     * @return bean of an initialized FilterRegistrationBean
+     */
+    @Bean
+    public FilterRegistrationBean<HttpGzipRequestFilter> getGzipRequestFilter() {
+        FilterRegistrationBean<HttpGzipRequestFilter> registrationBean = new FilterRegistrationBean<>();
+
+        Long maxDecompressedSize = env.getProperty("rest.server.maxDecompressedRequestBytes",
+                                                   Long.class,
+                                                   HttpGzipRequestFilter.DEFAULT_MAX_DECOMPRESSED_SIZE);
+
+        registrationBean.setFilter(new HttpGzipRequestFilter(maxDecompressedSize));
+        registrationBean.addUrlPatterns("/open-metadata/*", "/servers/*");
+        registrationBean.setOrder(0);
+
+        return registrationBean;
+    }
+
 }
@@ -70,6 +70,19 @@ public class RexViewHandler
      */
     private static final int TRUNCATED_STRING_LENGTH = 24;
 
+    /*
+     * Traversals are retrieved from the repository as digests in a single request. The digests only carry the
+     * properties used to label the entities and relationships, and the number of entities is limited so that
+     * a deep traversal from a highly connected entity does not return an unbounded graph.
+     */
+    private static final int          MAX_TRAVERSAL_ENTITIES = 500;
+    private static final List<String> LABEL_PROPERTY_NAMES   = Arrays.asList("displayName",
+                                                                             "name",
+                                                                             "qualifiedName",
+                                                                             "tagName",
+                                                                             "dataFieldName",
+                                                                             "attachmentType");
+
 
     /*
      * viewServiceOptions should have been validated in the Admin layer.
@@ -113,6 +126,34 @@ public class RexViewHandler
     private Map<String, ResourceEndpoint>  configuredPlatforms = null;          // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint>  configuredServerInstances   = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * The repository services clients are reused across requests, and the TypeExplorer built from each server's
+     * types is kept along with the type system version the server reported when it was built.  Most of the
+     * methods of this handler need the TypeExplorer, so without this cache each request would retrieve all
+     * the server's types.  Both maps are keyed using serverName+platformRootURL+enterpriseOption and are bounded
+     * so that requests for many different servers cannot use an unlimited amount of memory.
+     */
+    private static final int MAX_CACHED_SERVERS = 100;
+
+    private final Map<String, MetadataCollectionServicesClient> repositoryServicesClients = newBoundedMap();
+    private final Map<String, CachedTypeExplorer>               cachedTypeExplorers       = newBoundedMap();
+
+
+    /**
+     * A TypeExplorer and the type system version of the server it was built from.
+     */
+    private static class CachedTypeExplorer
+    {
+        private final String       typeSystemVersion;
+        private final TypeExplorer typeExplorer;
+
+        CachedTypeExplorer(String typeSystemVersion, TypeExplorer typeExplorer)
+        {
+            this.typeSystemVersion = typeSystemVersion;
+            this.typeExplorer      = typeExplorer;
+        }
+    }
+
 
 
 
@@ -271,15 +312,25 @@ public class RexViewHandler
              *  Switch between local and enterprise services clients depending
              *  on enterprise option...
              */
-            MetadataCollectionServicesClient repositoryServicesClient;
+            MetadataCollectionServicesClient repositoryServicesClient = this.getRepositoryServicesClient(repositoryServerName,
+                                                                                                         platformRootURL,
+                                                                                                         enterpriseOption);
 
-            if (!enterpriseOption)
-            {
-                repositoryServicesClient = this.getLocalRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
-            else
+            /*
+             * Reuse the TypeExplorer built by an earlier request if the server's types have not changed since.
+             * The version is retrieved before the types so that a change made while the types are being
+             * retrieved causes the next request to rebuild the TypeExplorer.
+             */
+            String cacheKey          = repositoryServerName + "@" + platformRootURL + ":" + enterpriseOption;
+            String typeSystemVersion = this.getTypeSystemVersion(userId, repositoryServicesClient);
+
+            if (typeSystemVersion != null)
             {
-                repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
+                CachedTypeExplorer cachedTypeExplorer = cachedTypeExplorers.get(cacheKey);
+                if (cachedTypeExplorer != null && typeSystemVersion.equals(cachedTypeExplorer.typeSystemVersion))
+                {
+                    return cachedTypeExplorer.typeExplorer;
+                }
             }
 
             TypeExplorer tex = new TypeExplorer();
@@ -329,6 +380,11 @@ public class RexViewHandler
             // All typeDefs processed, resolve linkages and return the TEX object
             // The platformRootURL and repositoryName are passed in only for error logging
             tex.resolve(platformRootURL, repositoryServerName);
+
+            if (typeSystemVersion != null)
+            {
+                cachedTypeExplorers.put(cacheKey, new CachedTypeExplorer(typeSystemVersion, tex));
+            }
             return tex;
 
         }
@@ -386,16 +442,9 @@ public class RexViewHandler
              *  Switch between local and enterprise services clients depending
              *  on enterprise option...
              */
-            MetadataCollectionServicesClient repositoryServicesClient;
-
-            if (!enterpriseOption)
-            {
-                repositoryServicesClient = this.getLocalRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
-            else
-            {
-                repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
+            MetadataCollectionServicesClient repositoryServicesClient = this.getRepositoryServicesClient(repositoryServerName,
+                                                                                                         platformRootURL,
+                                                                                                         enterpriseOption);
 
             /*
              * Find the metadataCollectionId of the repository - this is used later to determine whether
@@ -504,16 +553,9 @@ public class RexViewHandler
              *  Switch between local and enterprise services clients depending
              *  on enterprise option...
              */
-            MetadataCollectionServicesClient repositoryServicesClient;
-
-            if (!enterpriseOption)
-            {
-                repositoryServicesClient = this.getLocalRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
-            else
-            {
-                repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
+            MetadataCollectionServicesClient repositoryServicesClient = this.getRepositoryServicesClient(repositoryServerName,
+                                                                                                         platformRootURL,
+                                                                                                         enterpriseOption);
 
             /*
              * Find the metadataCollectionId of the repository - this is used later to determine whether
@@ -644,16 +686,9 @@ public class RexViewHandler
              *  Switch between local and enterprise services clients depending
              *  on enterprise option...
              */
-            MetadataCollectionServicesClient repositoryServicesClient;
-
-            if (!enterpriseOption)
-            {
-                repositoryServicesClient = this.getLocalRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
-            else
-            {
-                repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
+            MetadataCollectionServicesClient repositoryServicesClient = this.getRepositoryServicesClient(repositoryServerName,
+                                                                                                         platformRootURL,
+                                                                                                         enterpriseOption);
 
             /*
              * Find the metadataCollectionId of the repository - this is used later to determine whether
@@ -800,16 +835,9 @@ public class RexViewHandler
              *  Switch between local and enterprise services clients depending
              *  on enterprise option...
              */
-            MetadataCollectionServicesClient repositoryServicesClient;
-
-            if (!enterpriseOption)
-            {
-                repositoryServicesClient = this.getLocalRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
-            else
-            {
-                repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
+            MetadataCollectionServicesClient repositoryServicesClient = this.getRepositoryServicesClient(repositoryServerName,
+                                                                                                         platformRootURL,
+                                                                                                         enterpriseOption);
 
             /*
              * Find the metadataCollectionId of the repository - this is used later to determine whether
@@ -995,16 +1023,9 @@ public class RexViewHandler
              *  Switch between local and enterprise services clients depending
              *  on enterprise option...
              */
-            MetadataCollectionServicesClient repositoryServicesClient;
-
-            if (!enterpriseOption)
-            {
-                repositoryServicesClient = this.getLocalRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
-            else
-            {
-                repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
+            MetadataCollectionServicesClient repositoryServicesClient = this.getRepositoryServicesClient(repositoryServerName,
+                                                                                                         platformRootURL,
+                                                                                                         enterpriseOption);
 
             /*
              * Because we will want to extract labels based on type we'll need to know the types supported by the repository...
@@ -1024,14 +1045,20 @@ public class RexViewHandler
                 if (asOfTime != 0) {
                     asOfTimeDate = new Date(asOfTime);
                 }
-                instGraph = repositoryServicesClient.getEntityNeighborhood(userId,
-                                                                           entityGUID,
-                                                                           null,
-                                                                           null,
-                                                                           null,
-                                                                           null,
-                                                                           asOfTimeDate,
-                                                                           depth);
+                /*
+                 * The pre-traversal only counts the types and classifications in the neighborhood, so no
+                 * properties are needed. It is not limited to MAX_TRAVERSAL_ENTITIES so that the counts are complete.
+                 */
+                instGraph = repositoryServicesClient.getEntityNeighborhoodDigest(userId,
+                                                                                 entityGUID,
+                                                                                 null,
+                                                                                 null,
+                                                                                 null,
+                                                                                 null,
+                                                                                 asOfTimeDate,
+                                                                                 depth,
+                                                                                 0,
+                                                                                 Collections.emptyList());
             }
 
 
@@ -1258,16 +1285,9 @@ public class RexViewHandler
              *  Switch between local and enterprise services clients depending
              *  on enterprise option...
              */
-            MetadataCollectionServicesClient repositoryServicesClient;
-
-            if (!enterpriseOption)
-            {
-                repositoryServicesClient = this.getLocalRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
-            else
-            {
-                repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
+            MetadataCollectionServicesClient repositoryServicesClient = this.getRepositoryServicesClient(repositoryServerName,
+                                                                                                         platformRootURL,
+                                                                                                         enterpriseOption);
 
 
             /*
@@ -1293,14 +1313,16 @@ public class RexViewHandler
             if (depth > 0)
             {
 
-                instGraph = repositoryServicesClient.getEntityNeighborhood(userId,
-                                                                           entityGUID,
-                                                                           entityTypeGUIDs,
-                                                                           relationshipTypeGUIDs,
-                                                                           null,
-                                                                           classificationNames,
-                                                                           asOfTimeDate,
-                                                                           depth);
+                instGraph = repositoryServicesClient.getEntityNeighborhoodDigest(userId,
+                                                                                 entityGUID,
+                                                                                 entityTypeGUIDs,
+                                                                                 relationshipTypeGUIDs,
+                                                                                 null,
+                                                                                 classificationNames,
+                                                                                 asOfTimeDate,
+                                                                                 depth,
+                                                                                 MAX_TRAVERSAL_ENTITIES,
+                                                                                 LABEL_PROPERTY_NAMES);
             }
 
 
@@ -1521,19 +1543,109 @@ public class RexViewHandler
     }
 
 
+    /**
+     * getTypeSystemVersion
+     *
+     * This method will retrieve the version of the types supported by the server. Servers that do not
+     * support this call, or that cannot return the version, result in null and the caller retrieves the types
+     * without caching them.
+     *
+     * @param userId  userId under which the request is performed
+     * @param repositoryServicesClient - client for the server
+     * @return opaque version token or null
+     * @throws InvalidParameterException - an invalid parameter was detected and reported
+     * @throws UserNotAuthorizedException - the user is not permitted to retrieve the types
+     */
+    private String getTypeSystemVersion(String                           userId,
+                                        MetadataCollectionServicesClient repositoryServicesClient)
+    throws
+    InvalidParameterException,
+    UserNotAuthorizedException
+
+    {
+        try
+        {
+            return repositoryServicesClient.getTypeSystemVersion(userId);
+        }
+        catch (RepositoryErrorException e)
+        {
+            log.debug("Unable to retrieve type system version; types will not be cached", e);
+            return null;
+        }
+    }
+
+
+    /**
+     * getRepositoryServicesClient
+     *
+     * This method will return the local or enterprise client for the server, creating it the first time it
+     * is requested. The clients are reused by later requests for the same server.
+     *
+     * @param serverName - name of the server to connect to
+     * @param serverRootURL - the root URL to connect to the server
+     * @param enterpriseOption - whether the enterprise client is required
+     * @return client
+     * @throws InvalidParameterException - an invalid parameter was detected and reported
+     */
+    private MetadataCollectionServicesClient getRepositoryServicesClient(String  serverName,
+                                                                         String  serverRootURL,
+                                                                         boolean enterpriseOption)
+    throws
+    InvalidParameterException
+
+    {
+        String                           clientKey = serverName + "@" + serverRootURL + ":" + enterpriseOption;
+        MetadataCollectionServicesClient client    = repositoryServicesClients.get(clientKey);
+
+        if (client == null)
+        {
+            if (!enterpriseOption)
+            {
+                client = this.getLocalRepositoryServicesClient(serverName, serverRootURL);
+            }
+            else
+            {
+                client = this.getEnterpriseRepositoryServicesClient(serverName, serverRootURL);
+            }
+            repositoryServicesClients.put(clientKey, client);
+        }
+
+        return client;
+    }
+
+
+    /**
+     * Create a synchronized map that holds the most recently used MAX_CACHED_SERVERS entries.
+     *
+     * @param <V> type of value
+     * @return new map
+     */
+    private static <V> Map<String, V> newBoundedMap()
+    {
+        return Collections.synchronizedMap(new LinkedHashMap<String, V>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest)
+            {
+                return size() > MAX_CACHED_SERVERS;
+            }
+        });
+    }
+
+
     /**
      * getLocalRepositoryServicesClient
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is not set, and will
-     * connect to the local repository.
+     * connect to the local repository. It is package-private so that tests can supply their own client.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
      * @throws InvalidParameterException - an invalid parameter was detected and reported
      */
-    private LocalRepositoryServicesClient getLocalRepositoryServicesClient(String serverName,
-                                                                           String serverRootURL)
+    LocalRepositoryServicesClient getLocalRepositoryServicesClient(String serverName,
+                                                                   String serverRootURL)
     throws
     InvalidParameterException
 
@@ -1559,14 +1671,14 @@ public class RexViewHandler
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is set, and will
-     * perform federation.
+     * perform federation. It is package-private so that tests can supply their own client.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
      * @throws InvalidParameterException - an invalid parameter was detected and reported
      */
-    private EnterpriseRepositoryServicesClient getEnterpriseRepositoryServicesClient(String serverName,
-                                                                                     String serverRootURL)
+    EnterpriseRepositoryServicesClient getEnterpriseRepositoryServicesClient(String serverName,
+                                                                             String serverRootURL)
     throws
     InvalidParameterException
     {
@@ -0,0 +1,162 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.viewservices.rex.handlers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.adminservices.configuration.properties.ResourceEndpointConfig;
+import org.odpi.openmetadata.repositoryservices.clients.EnterpriseRepositoryServicesClient;
+import org.odpi.openmetadata.repositoryservices.clients.LocalRepositoryServicesClient;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EnumDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefGallery;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+import org.odpi.openmetadata.viewservices.rex.api.ffdc.RexViewServiceException;
+import org.odpi.openmetadata.viewservices.rex.api.properties.TypeExplorer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RexViewHandlerTest {
+
+    private static final String USER_ID = "testUser";
+    private static final String SERVER_NAME = "testServer";
+    private static final String PLATFORM_NAME = "testPlatform";
+    private static final String PLATFORM_ROOT_URL = "https://localhost:9443";
+    private static final String METHOD_NAME = "getTypeExplorer";
+
+    private final LocalRepositoryServicesClient localClient = mock(LocalRepositoryServicesClient.class);
+    private final EnterpriseRepositoryServicesClient enterpriseClient = mock(EnterpriseRepositoryServicesClient.class);
+
+    private int localClientCount;
+    private int enterpriseClientCount;
+    private RexViewHandler rexViewHandler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ResourceEndpointConfig platform = new ResourceEndpointConfig();
+        platform.setResourceCategory("Platform");
+        platform.setPlatformName(PLATFORM_NAME);
+        platform.setPlatformRootURL(PLATFORM_ROOT_URL);
+
+        rexViewHandler = new RexViewHandler(Collections.singletonList(platform)) {
+            @Override
+            LocalRepositoryServicesClient getLocalRepositoryServicesClient(String serverName, String serverRootURL) {
+                localClientCount++;
+                return localClient;
+            }
+
+            @Override
+            EnterpriseRepositoryServicesClient getEnterpriseRepositoryServicesClient(String serverName, String serverRootURL) {
+                enterpriseClientCount++;
+                return enterpriseClient;
+            }
+        };
+
+        when(localClient.getAllTypes(USER_ID)).thenReturn(getTypeDefGallery());
+        when(enterpriseClient.getAllTypes(USER_ID)).thenReturn(getTypeDefGallery());
+    }
+
+    @Test
+    void getTypeExplorer_ReusedWhileVersionUnchanged() throws Exception {
+        when(localClient.getTypeSystemVersion(USER_ID)).thenReturn("v1");
+
+        TypeExplorer typeExplorer = getTypeExplorer(false);
+
+        assertSame(typeExplorer, getTypeExplorer(false));
+        assertSame(typeExplorer, getTypeExplorer(false));
+        verify(localClient, times(3)).getTypeSystemVersion(USER_ID);
+        verify(localClient, times(1)).getAllTypes(USER_ID);
+        assertEquals(1, localClientCount);
+    }
+
+    @Test
+    void getTypeExplorer_RebuiltWhenVersionChanges() throws Exception {
+        when(localClient.getTypeSystemVersion(USER_ID)).thenReturn("v1", "v2", "v2");
+
+        TypeExplorer firstTypeExplorer = getTypeExplorer(false);
+        TypeExplorer secondTypeExplorer = getTypeExplorer(false);
+
+        assertNotSame(firstTypeExplorer, secondTypeExplorer);
+        assertSame(secondTypeExplorer, getTypeExplorer(false));
+        verify(localClient, times(2)).getAllTypes(USER_ID);
+    }
+
+    @Test
+    void getTypeExplorer_NotCachedWithoutVersion() throws Exception {
+        when(localClient.getTypeSystemVersion(USER_ID)).thenThrow(
+                new RepositoryErrorException(OMRSErrorCode.REPOSITORY_NOT_AVAILABLE.getMessageDefinition(SERVER_NAME, METHOD_NAME),
+                                             this.getClass().getName(),
+                                             METHOD_NAME));
+
+        assertNotSame(getTypeExplorer(false), getTypeExplorer(false));
+        verify(localClient, times(2)).getAllTypes(USER_ID);
+    }
+
+    @Test
+    void getTypeExplorer_SeparateForEnterpriseOption() throws Exception {
+        when(localClient.getTypeSystemVersion(USER_ID)).thenReturn("v1");
+        when(enterpriseClient.getTypeSystemVersion(USER_ID)).thenReturn("v1");
+
+        TypeExplorer localTypeExplorer = getTypeExplorer(false);
+        TypeExplorer enterpriseTypeExplorer = getTypeExplorer(true);
+
+        assertNotSame(localTypeExplorer, enterpriseTypeExplorer);
+        assertSame(localTypeExplorer, getTypeExplorer(false));
+        assertSame(enterpriseTypeExplorer, getTypeExplorer(true));
+        verify(localClient, times(1)).getAllTypes(USER_ID);
+        verify(enterpriseClient, times(1)).getAllTypes(USER_ID);
+        assertEquals(1, localClientCount);
+        assertEquals(1, enterpriseClientCount);
+    }
+
+    @Test
+    void getTypeExplorer_AuthorizationCheckedForCachedTypes() throws Exception {
+        when(localClient.getTypeSystemVersion(USER_ID)).thenReturn("v1").thenThrow(
+                new UserNotAuthorizedException(OMRSErrorCode.REPOSITORY_NOT_AVAILABLE.getMessageDefinition(SERVER_NAME, METHOD_NAME),
+                                               this.getClass().getName(),
+                                               METHOD_NAME,
+                                               USER_ID));
+
+        getTypeExplorer(false);
+
+        assertThrows(RexViewServiceException.class, () -> getTypeExplorer(false));
+        verify(localClient, times(1)).getAllTypes(USER_ID);
+    }
+
+    private TypeExplorer getTypeExplorer(boolean enterpriseOption) throws RexViewServiceException {
+        return rexViewHandler.getTypeExplorer(USER_ID, SERVER_NAME, PLATFORM_NAME, enterpriseOption, METHOD_NAME);
+    }
+
+    private TypeDefGallery getTypeDefGallery() {
+        EntityDef entityDef = new EntityDef();
+        entityDef.setName("Referenceable");
+
+        EnumDef enumDef = new EnumDef();
+        enumDef.setName("TestEnum");
+
+        List<TypeDef> typeDefs = new ArrayList<>();
+        typeDefs.add(entityDef);
+        List<AttributeTypeDef> attributeTypeDefs = new ArrayList<>();
+        attributeTypeDefs.add(enumDef);
+
+        TypeDefGallery typeDefGallery = new TypeDefGallery();
+        typeDefGallery.setTypeDefs(typeDefs);
+        typeDefGallery.setAttributeTypeDefs(attributeTypeDefs);
+        return typeDefGallery;
+    }
+}
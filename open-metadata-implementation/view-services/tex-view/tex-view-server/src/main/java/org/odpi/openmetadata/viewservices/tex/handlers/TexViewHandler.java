@@ -32,7 +32,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -81,6 +83,33 @@ public class TexViewHandler
     private Map<String, ResourceEndpoint>  configuredPlatforms = null;          // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint>  configuredServerInstances   = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * The repository services clients are reused across requests, and the TypeExplorer built from each server's
+     * types is kept along with the type system version the server reported when it was built.  A request for
+     * the same server, platform and options only retrieves the server's types again if its type system version
+     * has changed.  Both maps are keyed using serverName+platformRootURL+options and are bounded so that requests
+     * for many different servers cannot use an unlimited amount of memory.
+     */
+    private static final int MAX_CACHED_SERVERS = 100;
+
+    private final Map<String, MetadataCollectionServicesClient> repositoryServicesClients = newBoundedMap();
+    private final Map<String, CachedTypeExplorer>               cachedTypeExplorers       = newBoundedMap();
+
+
+    /**
+     * A TypeExplorer and the type system version of the server it was built from.
+     */
+    private static class CachedTypeExplorer {
+
+        private final String       typeSystemVersion;
+        private final TypeExplorer typeExplorer;
+
+        CachedTypeExplorer(String typeSystemVersion, TypeExplorer typeExplorer) {
+            this.typeSystemVersion = typeSystemVersion;
+            this.typeExplorer      = typeExplorer;
+        }
+    }
+
 
 
     /**
@@ -239,12 +268,23 @@ public class TexViewHandler
              *  Switch between local and enterprise services clients depending
              *  on enterprise option...
              */
-            MetadataCollectionServicesClient repositoryServicesClient;
+            MetadataCollectionServicesClient repositoryServicesClient = this.getRepositoryServicesClient(repositoryServerName,
+                                                                                                         platformRootURL,
+                                                                                                         enterpriseOption);
 
-            if (!enterpriseOption) {
-                repositoryServicesClient = this.getLocalRepositoryServicesClient(repositoryServerName, platformRootURL);
-            } else {
-                repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
+            /*
+             * Reuse the TypeExplorer built by an earlier request if the server's types have not changed since.
+             * The version is retrieved before the types so that a change made while the types are being
+             * retrieved causes the next request to rebuild the TypeExplorer.
+             */
+            String cacheKey          = repositoryServerName + "@" + platformRootURL + ":" + enterpriseOption + ":" + deprecationOption;
+            String typeSystemVersion = this.getTypeSystemVersion(userId, repositoryServicesClient);
+
+            if (typeSystemVersion != null) {
+                CachedTypeExplorer cachedTypeExplorer = cachedTypeExplorers.get(cacheKey);
+                if (cachedTypeExplorer != null && typeSystemVersion.equals(cachedTypeExplorer.typeSystemVersion)) {
+                    return cachedTypeExplorer.typeExplorer;
+                }
             }
 
             TypeExplorer tex = new TypeExplorer();
@@ -290,6 +330,10 @@ public class TexViewHandler
             // All typeDefs processed, resolve linkages and return the TEX object
             // The platformRootURL and repositoryName are passed in only for error logging
             tex.resolve(deprecationOption, platformRootURL, repositoryServerName);
+
+            if (typeSystemVersion != null) {
+                cachedTypeExplorers.put(cacheKey, new CachedTypeExplorer(typeSystemVersion, tex));
+            }
             return tex;
 
         }
@@ -310,19 +354,100 @@ public class TexViewHandler
 
 
 
+    /**
+     * getTypeSystemVersion
+     *
+     * This method will retrieve the version of the types supported by the server. Servers that do not
+     * support this call, or that cannot return the version, result in null and the caller retrieves the types
+     * without caching them.
+     *
+     * @param userId  userId under which the request is performed
+     * @param repositoryServicesClient - client for the server
+     * @return opaque version token or null
+     * @throws InvalidParameterException - an invalid parameter was detected and reported
+     * @throws UserNotAuthorizedException - the user is not permitted to retrieve the types
+     */
+    private String getTypeSystemVersion(String                           userId,
+                                        MetadataCollectionServicesClient repositoryServicesClient)
+    throws
+        InvalidParameterException,
+        UserNotAuthorizedException
+
+    {
+        try {
+            return repositoryServicesClient.getTypeSystemVersion(userId);
+        }
+        catch (RepositoryErrorException e) {
+            log.debug("Unable to retrieve type system version; types will not be cached", e);
+            return null;
+        }
+    }
+
+
+    /**
+     * getRepositoryServicesClient
+     *
+     * This method will return the local or enterprise client for the server, creating it the first time it
+     * is requested. The clients are reused by later requests for the same server.
+     *
+     * @param serverName - name of the server to connect to
+     * @param serverRootURL - the root URL to connect to the server
+     * @param enterpriseOption - whether the enterprise client is required
+     * @return client
+     * @throws InvalidParameterException - an invalid parameter was detected and reported
+     */
+    private MetadataCollectionServicesClient getRepositoryServicesClient(String  serverName,
+                                                                         String  serverRootURL,
+                                                                         boolean enterpriseOption)
+    throws
+        InvalidParameterException
+
+    {
+        String                           clientKey = serverName + "@" + serverRootURL + ":" + enterpriseOption;
+        MetadataCollectionServicesClient client    = repositoryServicesClients.get(clientKey);
+
+        if (client == null) {
+            if (!enterpriseOption) {
+                client = this.getLocalRepositoryServicesClient(serverName, serverRootURL);
+            } else {
+                client = this.getEnterpriseRepositoryServicesClient(serverName, serverRootURL);
+            }
+            repositoryServicesClients.put(clientKey, client);
+        }
+
+        return client;
+    }
+
+
+    /**
+     * Create a synchronized map that holds the most recently used MAX_CACHED_SERVERS entries.
+     *
+     * @param <V> type of value
+     * @return new map
+     */
+    private static <V> Map<String, V> newBoundedMap() {
+        return Collections.synchronizedMap(new LinkedHashMap<String, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > MAX_CACHED_SERVERS;
+            }
+        });
+    }
+
+
     /**
      * getLocalRepositoryServicesClient
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is not set, and will
-     * connect to the local repository.
+     * connect to the local repository. It is package-private so that tests can supply their own client.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
      * @throws InvalidParameterException - an invalid parameter was detected and reported
      */
-    private LocalRepositoryServicesClient getLocalRepositoryServicesClient(String serverName,
-                                                                           String serverRootURL)
+    LocalRepositoryServicesClient getLocalRepositoryServicesClient(String serverName,
+                                                                   String serverRootURL)
     throws
         InvalidParameterException
 
@@ -348,14 +473,14 @@ public class TexViewHandler
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is set, and will
-     * perform federation.
+     * perform federation. It is package-private so that tests can supply their own client.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
      * @throws InvalidParameterException - an invalid parameter was detected and reported
      */
-    private EnterpriseRepositoryServicesClient getEnterpriseRepositoryServicesClient(String serverName,
-                                                                                     String serverRootURL)
+    EnterpriseRepositoryServicesClient getEnterpriseRepositoryServicesClient(String serverName,
+                                                                             String serverRootURL)
     throws
         InvalidParameterException
     {
@@ -0,0 +1,176 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.viewservices.tex.handlers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.adminservices.configuration.properties.ResourceEndpointConfig;
+import org.odpi.openmetadata.repositoryservices.clients.EnterpriseRepositoryServicesClient;
+import org.odpi.openmetadata.repositoryservices.clients.LocalRepositoryServicesClient;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EnumDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefGallery;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+import org.odpi.openmetadata.viewservices.tex.api.ffdc.TexViewServiceException;
+import org.odpi.openmetadata.viewservices.tex.api.properties.TypeExplorer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TexViewHandlerTest {
+
+    private static final String USER_ID = "testUser";
+    private static final String SERVER_NAME = "testServer";
+    private static final String PLATFORM_NAME = "testPlatform";
+    private static final String PLATFORM_ROOT_URL = "https://localhost:9443";
+    private static final String METHOD_NAME = "getTypeExplorer";
+
+    private final LocalRepositoryServicesClient localClient = mock(LocalRepositoryServicesClient.class);
+    private final EnterpriseRepositoryServicesClient enterpriseClient = mock(EnterpriseRepositoryServicesClient.class);
+
+    private int localClientCount;
+    private int enterpriseClientCount;
+    private TexViewHandler texViewHandler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ResourceEndpointConfig platform = new ResourceEndpointConfig();
+        platform.setResourceCategory("Platform");
+        platform.setPlatformName(PLATFORM_NAME);
+        platform.setPlatformRootURL(PLATFORM_ROOT_URL);
+
+        texViewHandler = new TexViewHandler(Collections.singletonList(platform)) {
+            @Override
+            LocalRepositoryServicesClient getLocalRepositoryServicesClient(String serverName, String serverRootURL) {
+                localClientCount++;
+                return localClient;
+            }
+
+            @Override
+            EnterpriseRepositoryServicesClient getEnterpriseRepositoryServicesClient(String serverName, String serverRootURL) {
+                enterpriseClientCount++;
+                return enterpriseClient;
+            }
+        };
+
+        when(localClient.getAllTypes(USER_ID)).thenReturn(getTypeDefGallery());
+        when(enterpriseClient.getAllTypes(USER_ID)).thenReturn(getTypeDefGallery());
+    }
+
+    @Test
+    void getTypeExplorer_ReusedWhileVersionUnchanged() throws Exception {
+        when(localClient.getTypeSystemVersion(USER_ID)).thenReturn("v1");
+
+        TypeExplorer typeExplorer = getTypeExplorer(false, false);
+
+        assertSame(typeExplorer, getTypeExplorer(false, false));
+        assertSame(typeExplorer, getTypeExplorer(false, false));
+        verify(localClient, times(3)).getTypeSystemVersion(USER_ID);
+        verify(localClient, times(1)).getAllTypes(USER_ID);
+        assertEquals(1, localClientCount);
+    }
+
+    @Test
+    void getTypeExplorer_RebuiltWhenVersionChanges() throws Exception {
+        when(localClient.getTypeSystemVersion(USER_ID)).thenReturn("v1", "v2", "v2");
+
+        TypeExplorer firstTypeExplorer = getTypeExplorer(false, false);
+        TypeExplorer secondTypeExplorer = getTypeExplorer(false, false);
+
+        assertNotSame(firstTypeExplorer, secondTypeExplorer);
+        assertSame(secondTypeExplorer, getTypeExplorer(false, false));
+        verify(localClient, times(2)).getAllTypes(USER_ID);
+    }
+
+    @Test
+    void getTypeExplorer_NotCachedWithoutVersion() throws Exception {
+        when(localClient.getTypeSystemVersion(USER_ID)).thenThrow(
+                new RepositoryErrorException(OMRSErrorCode.REPOSITORY_NOT_AVAILABLE.getMessageDefinition(SERVER_NAME, METHOD_NAME),
+                                             this.getClass().getName(),
+                                             METHOD_NAME));
+
+        assertNotSame(getTypeExplorer(false, false), getTypeExplorer(false, false));
+        verify(localClient, times(2)).getAllTypes(USER_ID);
+    }
+
+    @Test
+    void getTypeExplorer_SeparateForEnterpriseOption() throws Exception {
+        when(localClient.getTypeSystemVersion(USER_ID)).thenReturn("v1");
+        when(enterpriseClient.getTypeSystemVersion(USER_ID)).thenReturn("v1");
+
+        TypeExplorer localTypeExplorer = getTypeExplorer(false, false);
+        TypeExplorer enterpriseTypeExplorer = getTypeExplorer(true, false);
+
+        assertNotSame(localTypeExplorer, enterpriseTypeExplorer);
+        assertSame(localTypeExplorer, getTypeExplorer(false, false));
+        assertSame(enterpriseTypeExplorer, getTypeExplorer(true, false));
+        verify(localClient, times(1)).getAllTypes(USER_ID);
+        verify(enterpriseClient, times(1)).getAllTypes(USER_ID);
+        assertEquals(1, localClientCount);
+        assertEquals(1, enterpriseClientCount);
+    }
+
+    @Test
+    void getTypeExplorer_SeparateForDeprecationOption() throws Exception {
+        when(localClient.getTypeSystemVersion(USER_ID)).thenReturn("v1");
+
+        TypeExplorer currentTypeExplorer = getTypeExplorer(false, false);
+        TypeExplorer deprecatedTypeExplorer = getTypeExplorer(false, true);
+
+        assertNotSame(currentTypeExplorer, deprecatedTypeExplorer);
+        assertSame(currentTypeExplorer, getTypeExplorer(false, false));
+        assertSame(deprecatedTypeExplorer, getTypeExplorer(false, true));
+        verify(localClient, times(2)).getAllTypes(USER_ID);
+        assertEquals(1, localClientCount);
+    }
+
+    @Test
+    void getTypeExplorer_AuthorizationCheckedForCachedTypes() throws Exception {
+        when(localClient.getTypeSystemVersion(USER_ID)).thenReturn("v1").thenThrow(
+                new UserNotAuthorizedException(OMRSErrorCode.REPOSITORY_NOT_AVAILABLE.getMessageDefinition(SERVER_NAME, METHOD_NAME),
+                                               this.getClass().getName(),
+                                               METHOD_NAME,
+                                               USER_ID));
+
+        getTypeExplorer(false, false);
+
+        assertThrows(TexViewServiceException.class, () -> getTypeExplorer(false, false));
+        verify(localClient, times(1)).getAllTypes(USER_ID);
+    }
+
+    private TypeExplorer getTypeExplorer(boolean enterpriseOption, boolean deprecationOption) throws TexViewServiceException {
+        return texViewHandler.getTypeExplorer(USER_ID, SERVER_NAME, PLATFORM_NAME, enterpriseOption, deprecationOption, METHOD_NAME);
+    }
+
+    private TypeDefGallery getTypeDefGallery() {
+        EntityDef entityDef = new EntityDef();
+        entityDef.setName("Referenceable");
+
+        EnumDef enumDef = new EnumDef();
+        enumDef.setName("TestEnum");
+
+        List<TypeDef> typeDefs = new ArrayList<>();
+        typeDefs.add(entityDef);
+        List<AttributeTypeDef> attributeTypeDefs = new ArrayList<>();
+        attributeTypeDefs.add(enumDef);
+
+        TypeDefGallery typeDefGallery = new TypeDefGallery();
+        typeDefGallery.setTypeDefs(typeDefs);
+        typeDefGallery.setAttributeTypeDefs(attributeTypeDefs);
+        return typeDefGallery;
+    }
+}
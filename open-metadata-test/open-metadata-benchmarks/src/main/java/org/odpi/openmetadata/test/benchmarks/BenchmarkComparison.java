@@ -0,0 +1,211 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * BenchmarkComparison compares two sets of JMH results written in JSON format (for example, the baseline results
+ * checked into this module and the results of a new run) and reports the change in each benchmark's score.
+ * <p>
+ * A change is only reported as a regression or an improvement if it is larger than the threshold percentage and
+ * the two scores are further apart than their combined error margins, so normal run-to-run noise is not flagged.
+ * Benchmarks measured as time per operation get worse as their score goes up; throughput benchmarks get worse as
+ * it goes down.  The program ends with exit code 1 if any regression is found.  If there is no baseline file yet
+ * (no baseline has been recorded on the reference machine) the comparison is skipped and the program ends normally.
+ * <p>
+ * Arguments: baseline results file, new results file and (optionally) the threshold percentage (default 10).
+ */
+public class BenchmarkComparison
+{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+
+    /**
+     * Compare the two result files and print the report.
+     *
+     * @param args baseline file, new results file, optional threshold percentage
+     * @throws IOException a results file could not be read
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length < 2)
+        {
+            System.out.println("Usage: BenchmarkComparison <baseline.json> <results.json> [thresholdPercent]");
+            System.exit(2);
+        }
+
+        double threshold    = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        File   baselineFile = new File(args[0]);
+
+        if (! baselineFile.isFile())
+        {
+            System.out.println("No baseline found at " + baselineFile.getAbsolutePath() + " - comparison skipped.");
+            System.out.println("Record one with the jmhBaseline task after running the benchmarks on the reference machine.");
+            return;
+        }
+
+        Map<String, JsonNode> baseline = readResults(baselineFile);
+        Map<String, JsonNode> results  = readResults(new File(args[1]));
+
+        int regressions = 0;
+
+        System.out.printf("%-90s %22s %22s %9s  %s%n", "Benchmark", "Baseline", "Current", "Change", "");
+
+        for (Map.Entry<String, JsonNode> result : results.entrySet())
+        {
+            JsonNode current  = result.getValue();
+            JsonNode previous = baseline.remove(result.getKey());
+
+            if (previous == null)
+            {
+                System.out.printf("%-90s %22s %22s %9s  %s%n", result.getKey(), "-", formatScore(current), "-", "NEW");
+                continue;
+            }
+
+            double  baseScore    = getScore(previous);
+            double  currentScore = getScore(current);
+            double  change       = baseScore == 0 ? 0 : (currentScore - baseScore) / baseScore * 100.0;
+            boolean significant  = Math.abs(change) > threshold
+                                           && Math.abs(currentScore - baseScore) > getScoreError(previous) + getScoreError(current);
+            boolean worse        = isHigherBetter(current) ? change < 0 : change > 0;
+
+            String verdict = "";
+            if (significant)
+            {
+                if (worse)
+                {
+                    verdict = "REGRESSION";
+                    regressions++;
+                }
+                else
+                {
+                    verdict = "IMPROVEMENT";
+                }
+            }
+
+            System.out.printf("%-90s %22s %22s %+8.1f%%  %s%n", result.getKey(), formatScore(previous), formatScore(current), change, verdict);
+        }
+
+        for (Map.Entry<String, JsonNode> missing : baseline.entrySet())
+        {
+            System.out.printf("%-90s %22s %22s %9s  %s%n", missing.getKey(), formatScore(missing.getValue()), "-", "-", "NOT RUN");
+        }
+
+        System.out.printf("%n%d regression(s) beyond %.1f%% and the error margins%n", regressions, threshold);
+
+        if (regressions > 0)
+        {
+            System.exit(1);
+        }
+    }
+
+
+    /**
+     * Read a JMH JSON results file into a map keyed by benchmark name and parameters.
+     *
+     * @param resultsFile file to read
+     * @return map of key to result
+     * @throws IOException the file could not be read
+     */
+    private static Map<String, JsonNode> readResults(File resultsFile) throws IOException
+    {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+
+        for (JsonNode result : OBJECT_MAPPER.readTree(resultsFile))
+        {
+            results.put(getKey(result), result);
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Build the key of a result from the benchmark's short name and its parameters (in name order).
+     *
+     * @param result JMH result
+     * @return key
+     */
+    private static String getKey(JsonNode result)
+    {
+        String benchmark = result.path("benchmark").asText();
+        String shortName = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+
+        StringBuilder key = new StringBuilder(shortName);
+
+        Map<String, String> params = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+        while (fields.hasNext())
+        {
+            Map.Entry<String, JsonNode> field = fields.next();
+            params.put(field.getKey(), field.getValue().asText());
+        }
+
+        if (! params.isEmpty())
+        {
+            key.append(params);
+        }
+
+        return key.toString();
+    }
+
+
+    /**
+     * Return the score of a result.
+     *
+     * @param result JMH result
+     * @return score
+     */
+    private static double getScore(JsonNode result)
+    {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+
+    /**
+     * Return the error margin of a result's score (zero if JMH could not calculate one).
+     *
+     * @param result JMH result
+     * @return error margin
+     */
+    private static double getScoreError(JsonNode result)
+    {
+        double error = result.path("primaryMetric").path("scoreError").asDouble();
+
+        return Double.isNaN(error) ? 0.0 : error;
+    }
+
+
+    /**
+     * Return whether a higher score is better for this result (throughput) or worse (time per operation).
+     *
+     * @param result JMH result
+     * @return boolean
+     */
+    private static boolean isHigherBetter(JsonNode result)
+    {
+        return "thrpt".equals(result.path("mode").asText());
+    }
+
+
+    /**
+     * Format the score, error margin and unit of a result.
+     *
+     * @param result JMH result
+     * @return formatted score
+     */
+    private static String formatScore(JsonNode result)
+    {
+        return String.format("%.3f +/- %.3f %s", getScore(result), getScoreError(result), result.path("primaryMetric").path("scoreUnit").asText());
+    }
+}
@@ -0,0 +1,212 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks;
+
+import org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector.InMemoryOMRSRepositoryConnector;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+
+/**
+ * BenchmarkRepository sets up the repository services components that the benchmarks exercise.  The open metadata
+ * types are loaded into a repository content manager in the same way as they would be for a running server, so the
+ * repository helper and validator behave exactly as they do in production.  The benchmarks work with GlossaryTerm
+ * entities since they have a realistic set of string properties.
+ */
+public class BenchmarkRepository
+{
+    public static final String USER_ID          = "benchmarkUser";
+    public static final String SERVER_NAME      = "benchmarkServer";
+    public static final String SERVICE_NAME     = "Benchmark";
+    public static final String ENTITY_TYPE_NAME = "GlossaryTerm";
+
+    private final OMRSRepositoryHelper    repositoryHelper;
+    private final OMRSRepositoryValidator repositoryValidator;
+    private final String                  metadataCollectionId = UUID.randomUUID().toString();
+
+    private OMRSMetadataCollection        metadataCollection = null;
+
+
+    /**
+     * Load the open metadata types and create the repository helper and validator.
+     */
+    public BenchmarkRepository()
+    {
+        AuditLog                     auditLog       = new AuditLog(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, SERVICE_NAME, null, null);
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(USER_ID, auditLog);
+        OpenMetadataArchiveTypeStore typeStore      = new OpenMetadataTypesArchive().getOpenMetadataArchive().getArchiveTypeStore();
+
+        for (AttributeTypeDef attributeTypeDef : typeStore.getAttributeTypeDefs())
+        {
+            contentManager.addAttributeTypeDef(SERVICE_NAME, attributeTypeDef);
+        }
+
+        for (TypeDef typeDef : typeStore.getNewTypeDefs())
+        {
+            contentManager.addTypeDef(SERVICE_NAME, typeDef);
+        }
+
+        this.repositoryHelper = new OMRSRepositoryContentHelper(contentManager);
+        this.repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+    }
+
+
+    /**
+     * Return the repository helper that is backed by the open metadata types.
+     *
+     * @return repository helper
+     */
+    public OMRSRepositoryHelper getRepositoryHelper()
+    {
+        return repositoryHelper;
+    }
+
+
+    /**
+     * Return the repository validator that is backed by the open metadata types.
+     *
+     * @return repository validator
+     */
+    public OMRSRepositoryValidator getRepositoryValidator()
+    {
+        return repositoryValidator;
+    }
+
+
+    /**
+     * Return the metadata collection of an in-memory repository, creating it on first use.
+     *
+     * @return metadata collection
+     * @throws Exception the connector could not be started
+     */
+    public synchronized OMRSMetadataCollection getInMemoryMetadataCollection() throws Exception
+    {
+        if (metadataCollection == null)
+        {
+            InMemoryOMRSRepositoryConnector repositoryConnector = new InMemoryOMRSRepositoryConnector();
+
+            repositoryConnector.setServerName(SERVER_NAME);
+            repositoryConnector.setServerUserId(USER_ID);
+            repositoryConnector.setMaxPageSize(0);
+            repositoryConnector.setRepositoryHelper(repositoryHelper);
+            repositoryConnector.setRepositoryValidator(repositoryValidator);
+            repositoryConnector.setMetadataCollectionName(SERVER_NAME);
+            repositoryConnector.setMetadataCollectionId(metadataCollectionId);
+            repositoryConnector.start();
+
+            metadataCollection = repositoryConnector.getMetadataCollection();
+        }
+
+        return metadataCollection;
+    }
+
+
+    /**
+     * Return the unique identifier of the entity type used by the benchmarks.
+     *
+     * @return type GUID
+     */
+    public String getEntityTypeGUID()
+    {
+        return repositoryHelper.getTypeDefByName(SERVICE_NAME, ENTITY_TYPE_NAME).getGUID();
+    }
+
+
+    /**
+     * Return the properties for the requested glossary term.  The values embed the index so that they are distinct.
+     *
+     * @param index index of the term
+     * @return properties
+     */
+    public InstanceProperties getTermProperties(int index)
+    {
+        final String methodName = "getTermProperties";
+
+        InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(SERVICE_NAME, null, "qualifiedName", getQualifiedName(index), methodName);
+
+        properties = repositoryHelper.addStringPropertyToInstance(SERVICE_NAME, properties, "displayName", "Term " + index, methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(SERVICE_NAME, properties, "summary", "Summary of benchmark term " + index, methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(SERVICE_NAME, properties, "description", "Description of benchmark term number " + index + " used to measure property matching.", methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(SERVICE_NAME, properties, "abbreviation", "T" + index, methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(SERVICE_NAME, properties, "usage", "Benchmarks only", methodName);
+
+        return properties;
+    }
+
+
+    /**
+     * Return the qualified name of the requested glossary term.
+     *
+     * @param index index of the term
+     * @return qualified name
+     */
+    public String getQualifiedName(int index)
+    {
+        return "GlossaryTerm:benchmark-term-" + index;
+    }
+
+
+    /**
+     * Build glossary term entities without storing them in a repository.
+     *
+     * @param count number of entities
+     * @return list of entities
+     * @throws Exception the entities could not be built
+     */
+    public List<EntityDetail> getTermEntities(int count) throws Exception
+    {
+        List<EntityDetail> entities = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++)
+        {
+            entities.add(repositoryHelper.getNewEntity(SERVICE_NAME,
+                                                       metadataCollectionId,
+                                                       InstanceProvenanceType.LOCAL_COHORT,
+                                                       USER_ID,
+                                                       ENTITY_TYPE_NAME,
+                                                       getTermProperties(i),
+                                                       null));
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Add glossary term entities to the in-memory repository.
+     *
+     * @param count number of entities
+     * @return list of the GUIDs of the entities
+     * @throws Exception the entities could not be added
+     */
+    public List<String> addTermEntities(int count) throws Exception
+    {
+        OMRSMetadataCollection collection = getInMemoryMetadataCollection();
+        String                 typeGUID   = getEntityTypeGUID();
+        List<String>           guids      = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++)
+        {
+            guids.add(collection.addEntity(USER_ID, typeGUID, getTermProperties(i), null, null).getGUID());
+        }
+
+        return guids;
+    }
+}
@@ -0,0 +1,85 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Meaning;
+import org.odpi.openmetadata.frameworkservices.ocf.metadatamanagement.converters.MeaningConverter;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * GenericConverterBenchmark measures the conversion of entities into the beans returned by the open metadata
+ * services.  It uses the OCF metadata management meaning converter, which follows the pattern of the converters
+ * built on OpenMetadataAPIGenericConverter: build the element header, then copy out the known properties and
+ * return the rest as extended properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenericConverterBenchmark
+{
+    private static final int PAGE_SIZE = 100;
+
+    private MeaningConverter<Meaning> converter;
+    private List<EntityDetail>        entities;
+
+
+    /**
+     * Build the converter and the entities.
+     *
+     * @throws Exception the entities could not be built
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        BenchmarkRepository repository = new BenchmarkRepository();
+
+        converter = new MeaningConverter<>(repository.getRepositoryHelper(), BenchmarkRepository.SERVICE_NAME, BenchmarkRepository.SERVER_NAME);
+        entities = repository.getTermEntities(PAGE_SIZE);
+    }
+
+
+    /**
+     * Convert a single entity.
+     *
+     * @return bean
+     * @throws Exception the entity could not be converted
+     */
+    @Benchmark
+    public Meaning convertEntity() throws Exception
+    {
+        final String methodName = "convertEntity";
+
+        return converter.getNewBean(Meaning.class, entities.get(0), methodName);
+    }
+
+
+    /**
+     * Convert a page of entities, as returned by a search.
+     *
+     * @return beans
+     * @throws Exception the entities could not be converted
+     */
+    @Benchmark
+    public List<Meaning> convertPage() throws Exception
+    {
+        final String methodName = "convertPage";
+
+        List<Meaning> beans = new ArrayList<>(entities.size());
+
+        for (EntityDetail entity : entities)
+        {
+            beans.add(converter.getNewBean(Meaning.class, entity, methodName));
+        }
+
+        return beans;
+    }
+}
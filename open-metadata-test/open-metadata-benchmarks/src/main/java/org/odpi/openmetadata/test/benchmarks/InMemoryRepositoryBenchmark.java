@@ -0,0 +1,147 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * InMemoryRepositoryBenchmark measures retrievals and searches against the in-memory repository at several store
+ * sizes.  The in-memory repository is used by the conformance suite, the samples and many tests, and its find
+ * operations scan the whole store, so these benchmarks show how the cost of a search grows with the repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryRepositoryBenchmark
+{
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "10000", "50000"})
+    public int storeSize;
+
+    private OMRSMetadataCollection metadataCollection;
+    private String                 entityTypeGUID;
+    private List<String>           guids;
+    private InstanceProperties     qualifiedNameProperties;
+    private String                 containsSearchCriteria;
+
+
+    /**
+     * Fill the in-memory repository.
+     *
+     * @throws Exception the repository could not be set up
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        final String methodName = "setUp";
+
+        BenchmarkRepository  repository       = new BenchmarkRepository();
+        OMRSRepositoryHelper repositoryHelper = repository.getRepositoryHelper();
+
+        metadataCollection = repository.getInMemoryMetadataCollection();
+        entityTypeGUID = repository.getEntityTypeGUID();
+        guids = repository.addTermEntities(storeSize);
+
+        qualifiedNameProperties = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.SERVICE_NAME,
+                                                                               null,
+                                                                               "qualifiedName",
+                                                                               repositoryHelper.getExactMatchRegex(repository.getQualifiedName(storeSize / 2)),
+                                                                               methodName);
+        containsSearchCriteria = repositoryHelper.getContainsRegex("term number " + (storeSize - 1) + " ");
+    }
+
+
+    /**
+     * Retrieve an entity by GUID.
+     *
+     * @return entity
+     * @throws Exception the retrieval failed
+     */
+    @Benchmark
+    public EntityDetail getEntityDetail() throws Exception
+    {
+        return metadataCollection.getEntityDetail(BenchmarkRepository.USER_ID, guids.get(ThreadLocalRandom.current().nextInt(guids.size())));
+    }
+
+
+    /**
+     * Find an entity by its qualified name.
+     *
+     * @return matching entities
+     * @throws Exception the search failed
+     */
+    @Benchmark
+    public List<EntityDetail> findEntitiesByQualifiedName() throws Exception
+    {
+        return metadataCollection.findEntitiesByProperty(BenchmarkRepository.USER_ID,
+                                                         entityTypeGUID,
+                                                         qualifiedNameProperties,
+                                                         MatchCriteria.ALL,
+                                                         0,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         PAGE_SIZE);
+    }
+
+
+    /**
+     * Find an entity by a value in any of its string properties.
+     *
+     * @return matching entities
+     * @throws Exception the search failed
+     */
+    @Benchmark
+    public List<EntityDetail> findEntitiesByPropertyValue() throws Exception
+    {
+        return metadataCollection.findEntitiesByPropertyValue(BenchmarkRepository.USER_ID,
+                                                              entityTypeGUID,
+                                                              containsSearchCriteria,
+                                                              0,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              PAGE_SIZE);
+    }
+
+
+    /**
+     * Return the first page of all entities of the type.
+     *
+     * @return page of entities
+     * @throws Exception the search failed
+     */
+    @Benchmark
+    public List<EntityDetail> findEntitiesFirstPage() throws Exception
+    {
+        return metadataCollection.findEntities(BenchmarkRepository.USER_ID,
+                                               entityTypeGUID,
+                                               null,
+                                               null,
+                                               0,
+                                               null,
+                                               null,
+                                               null,
+                                               null,
+                                               null,
+                                               PAGE_SIZE);
+    }
+}
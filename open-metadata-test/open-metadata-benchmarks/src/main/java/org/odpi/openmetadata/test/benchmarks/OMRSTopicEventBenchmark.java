@@ -0,0 +1,93 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * OMRSTopicEventBenchmark measures the conversion of OMRS instance events to and from the JSON that is passed
+ * over the cohort topic.  The object mapper is configured in the same way as the one inside the OMRS topic
+ * connector.  The inbound benchmark also passes the event through the topic connector itself (with no listeners
+ * registered) to capture the cost of its parsing and dispatching.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OMRSTopicEventBenchmark
+{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader OBJECT_READER = OBJECT_MAPPER.reader();
+    private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
+
+    private OMRSEventV1        event;
+    private String             eventString;
+    private OMRSTopicConnector topicConnector;
+
+
+    /**
+     * Build the event and its JSON form.
+     *
+     * @throws Exception the event could not be built
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        BenchmarkRepository repository = new BenchmarkRepository();
+        OMRSInstanceEvent   instanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                  repository.getTermEntities(1).get(0));
+
+        event = instanceEvent.getOMRSEventV1();
+        eventString = OBJECT_WRITER.writeValueAsString(event);
+        topicConnector = new OMRSTopicConnector();
+    }
+
+
+    /**
+     * Convert an outbound event to JSON.
+     *
+     * @return JSON event
+     * @throws Exception the event could not be serialized
+     */
+    @Benchmark
+    public String serializeInstanceEvent() throws Exception
+    {
+        return OBJECT_WRITER.writeValueAsString(event);
+    }
+
+
+    /**
+     * Parse an inbound event.
+     *
+     * @return event bean
+     * @throws Exception the event could not be parsed
+     */
+    @Benchmark
+    public OMRSEventBean deserializeInstanceEvent() throws Exception
+    {
+        return OBJECT_READER.readValue(eventString, OMRSEventBean.class);
+    }
+
+
+    /**
+     * Parse an inbound event and dispatch it through the topic connector.
+     */
+    @Benchmark
+    public void processInstanceEvent()
+    {
+        topicConnector.processEvent(eventString);
+    }
+}
@@ -0,0 +1,109 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * RepositoryHelperBenchmark measures the sequencing and paging of search results by the repository content helper.
+ * Every find request to a repository that relies on the helper to format its results passes the full set of
+ * matching entities through this method.
+ * <p>
+ * Each invocation works on a fresh copy of the (shuffled) results so that a sort is never handed input that an
+ * earlier invocation has already sorted.  The copy is included in the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryHelperBenchmark
+{
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"100", "1000", "10000"})
+    public int resultCount;
+
+    private OMRSRepositoryHelper repositoryHelper;
+    private List<EntityDetail>   results;
+
+
+    /**
+     * Build the shuffled results.
+     *
+     * @throws Exception the entities could not be built
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        BenchmarkRepository repository = new BenchmarkRepository();
+
+        repositoryHelper = repository.getRepositoryHelper();
+        results = repository.getTermEntities(resultCount);
+
+        Collections.shuffle(results, new Random(resultCount));
+    }
+
+
+    /**
+     * Return the first page without sequencing.
+     *
+     * @return page of results
+     * @throws Exception invalid paging parameters
+     */
+    @Benchmark
+    public List<EntityDetail> firstPageUnsequenced() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(results), 0, null, SequencingOrder.ANY, PAGE_SIZE);
+    }
+
+
+    /**
+     * Return the first page in GUID order.
+     *
+     * @return page of results
+     * @throws Exception invalid paging parameters
+     */
+    @Benchmark
+    public List<EntityDetail> firstPageByGUID() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(results), 0, null, SequencingOrder.GUID, PAGE_SIZE);
+    }
+
+
+    /**
+     * Return the first page in order of a string property.
+     *
+     * @return page of results
+     * @throws Exception invalid paging parameters
+     */
+    @Benchmark
+    public List<EntityDetail> firstPageByProperty() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(results), 0, "qualifiedName", SequencingOrder.PROPERTY_ASCENDING, PAGE_SIZE);
+    }
+
+
+    /**
+     * Return the last page in order of a string property.
+     *
+     * @return page of results
+     * @throws Exception invalid paging parameters
+     */
+    @Benchmark
+    public List<EntityDetail> lastPageByProperty() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(results), Math.max(0, resultCount - PAGE_SIZE), "qualifiedName", SequencingOrder.PROPERTY_ASCENDING, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,134 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.test.benchmarks;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * RepositoryValidatorBenchmark measures the property matching of the repository content validator.  This is
+ * called for every stored instance that a repository such as the in-memory repository considers during a search,
+ * so its cost is multiplied by the size of the repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryValidatorBenchmark
+{
+    private OMRSRepositoryValidator repositoryValidator;
+
+    private EntityDetail            entity;
+    private InstanceProperties      exactMatchProperties;
+    private InstanceProperties      regexMatchProperties;
+    private InstanceProperties      anyMatchProperties;
+    private InstanceProperties      noMatchProperties;
+
+
+    /**
+     * Build the entity and the match properties.
+     *
+     * @throws Exception the entity could not be built
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        final String methodName = "setUp";
+
+        BenchmarkRepository  repository       = new BenchmarkRepository();
+        OMRSRepositoryHelper repositoryHelper = repository.getRepositoryHelper();
+
+        repositoryValidator = repository.getRepositoryValidator();
+        entity = repository.getTermEntities(1).get(0);
+
+        exactMatchProperties = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.SERVICE_NAME,
+                                                                            null,
+                                                                            "qualifiedName",
+                                                                            repositoryHelper.getExactMatchRegex(repository.getQualifiedName(0)),
+                                                                            methodName);
+
+        regexMatchProperties = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.SERVICE_NAME,
+                                                                            null,
+                                                                            "description",
+                                                                            repositoryHelper.getContainsRegex("measure property"),
+                                                                            methodName);
+
+        anyMatchProperties = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.SERVICE_NAME,
+                                                                          null,
+                                                                          "displayName",
+                                                                          repositoryHelper.getExactMatchRegex("Unknown"),
+                                                                          methodName);
+        anyMatchProperties = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.SERVICE_NAME,
+                                                                          anyMatchProperties,
+                                                                          "summary",
+                                                                          repositoryHelper.getStartsWithRegex("Summary of"),
+                                                                          methodName);
+
+        noMatchProperties = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.SERVICE_NAME,
+                                                                         null,
+                                                                         "qualifiedName",
+                                                                         repositoryHelper.getExactMatchRegex("GlossaryTerm:not-present"),
+                                                                         methodName);
+    }
+
+
+    /**
+     * Match a single property exactly, as used for lookups by qualified name.
+     *
+     * @return whether the entity matched
+     * @throws Exception invalid match properties
+     */
+    @Benchmark
+    public boolean exactMatchAll() throws Exception
+    {
+        return repositoryValidator.verifyMatchingInstancePropertyValues(exactMatchProperties, entity, entity.getProperties(), MatchCriteria.ALL);
+    }
+
+
+    /**
+     * Match a property with a contains regular expression, as used for free-text searches.
+     *
+     * @return whether the entity matched
+     * @throws Exception invalid match properties
+     */
+    @Benchmark
+    public boolean containsMatchAll() throws Exception
+    {
+        return repositoryValidator.verifyMatchingInstancePropertyValues(regexMatchProperties, entity, entity.getProperties(), MatchCriteria.ALL);
+    }
+
+
+    /**
+     * Match either of two properties.
+     *
+     * @return whether the entity matched
+     * @throws Exception invalid match properties
+     */
+    @Benchmark
+    public boolean startsWithMatchAny() throws Exception
+    {
+        return repositoryValidator.verifyMatchingInstancePropertyValues(anyMatchProperties, entity, entity.getProperties(), MatchCriteria.ANY);
+    }
+
+
+    /**
+     * Fail to match, which is the common case when scanning a repository.
+     *
+     * @return whether the entity matched
+     * @throws Exception invalid match properties
+     */
+    @Benchmark
+    public boolean exactMatchMiss() throws Exception
+    {
+        return repositoryValidator.verifyMatchingInstancePropertyValues(noMatchProperties, entity, entity.getProperties(), MatchCriteria.ALL);
+    }
+}